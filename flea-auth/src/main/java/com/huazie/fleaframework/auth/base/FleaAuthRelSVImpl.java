@@ -0,0 +1,152 @@
+package com.huazie.fleaframework.auth.base;
+
+import com.huazie.fleaframework.auth.cache.index.FleaAuthChanges;
+import com.huazie.fleaframework.auth.cache.index.FleaAuthInvalidator;
+import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.common.util.CollectionUtils;
+import com.huazie.fleaframework.common.util.ObjectUtils;
+import com.huazie.fleaframework.db.jpa.service.impl.AbstractFleaJPASVImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+
+import java.util.List;
+
+/**
+ * FleaAuth授权关联SV层父类，授权关联数据的新增、修改和删除
+ * 都提交到授权失效处理器，存在事务时在事务提交后生效。
+ *
+ * <p> 新增和删除按关联数据的所属编号失效依赖它的用户；
+ * 修改可能变更关联数据的所属编号，按关联编号执行的SQL
+ * 无法确定影响的关联数据，两者都失效全部用户。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public abstract class FleaAuthRelSVImpl<T> extends AbstractFleaJPASVImpl<T> {
+
+    private FleaAuthInvalidator fleaAuthInvalidator; // Flea 授权失效处理器
+
+    @Autowired
+    @Qualifier("fleaAuthInvalidator")
+    public void setFleaAuthInvalidator(FleaAuthInvalidator fleaAuthInvalidator) {
+        this.fleaAuthInvalidator = fleaAuthInvalidator;
+    }
+
+    @Override
+    public boolean remove(long entityId) throws CommonException {
+        T entity = query(entityId);
+        return removed(super.remove(entityId), entity);
+    }
+
+    @Override
+    public boolean remove(String entityId) throws CommonException {
+        T entity = query(entityId);
+        return removed(super.remove(entityId), entity);
+    }
+
+    @Override
+    public boolean remove(T entity) throws CommonException {
+        return removed(super.remove(entity), entity);
+    }
+
+    @Override
+    public boolean remove(long entityId, T entity) throws CommonException {
+        T removedEntity = query(entityId, entity);
+        return removed(super.remove(entityId, entity), removedEntity);
+    }
+
+    @Override
+    public boolean remove(String entityId, T entity) throws CommonException {
+        T removedEntity = query(entityId, entity);
+        return removed(super.remove(entityId, entity), removedEntity);
+    }
+
+    @Override
+    public T update(T entity) throws CommonException {
+        T updatedEntity = super.update(entity);
+        submit(new FleaAuthChanges().addAllUsers());
+        return updatedEntity;
+    }
+
+    @Override
+    public List<T> batchUpdate(List<T> entities) throws CommonException {
+        List<T> updatedEntities = super.batchUpdate(entities);
+        if (CollectionUtils.isNotEmpty(entities)) {
+            submit(new FleaAuthChanges().addAllUsers());
+        }
+        return updatedEntities;
+    }
+
+    @Override
+    public void save(T entity) throws CommonException {
+        super.save(entity);
+        entityChanged(entity);
+    }
+
+    @Override
+    public void batchSave(List<T> entities) throws CommonException {
+        super.batchSave(entities);
+        if (CollectionUtils.isEmpty(entities)) {
+            return;
+        }
+        FleaAuthChanges changes = new FleaAuthChanges();
+        for (T entity : entities) {
+            if (ObjectUtils.isNotEmpty(entity)) {
+                addChanges(changes, entity);
+            }
+        }
+        submit(changes);
+    }
+
+    @Override
+    public int insert(String relationId, T entity) throws CommonException {
+        return executed(super.insert(relationId, entity));
+    }
+
+    @Override
+    public int update(String relationId, T entity) throws CommonException {
+        return executed(super.update(relationId, entity));
+    }
+
+    @Override
+    public int delete(String relationId, T entity) throws CommonException {
+        return executed(super.delete(relationId, entity));
+    }
+
+    /**
+     * 将授权关联数据的变更记录到授权关联变更集
+     *
+     * @param changes 授权关联变更集
+     * @param entity  授权关联数据
+     * @since 2.0.0
+     */
+    protected abstract void addChanges(FleaAuthChanges changes, T entity);
+
+    private boolean removed(boolean removed, T entity) {
+        if (removed) {
+            entityChanged(entity);
+        }
+        return removed;
+    }
+
+    private int executed(int rows) {
+        if (rows > 0) {
+            submit(new FleaAuthChanges().addAllUsers());
+        }
+        return rows;
+    }
+
+    private void entityChanged(T entity) {
+        if (ObjectUtils.isEmpty(entity)) {
+            return;
+        }
+        FleaAuthChanges changes = new FleaAuthChanges();
+        addChanges(changes, entity);
+        submit(changes);
+    }
+
+    private void submit(FleaAuthChanges changes) {
+        fleaAuthInvalidator.submit(changes);
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 
 /**
@@ -39,8 +40,8 @@ public class FleaMenuSVImpl extends AbstractFleaJPASVImpl<FleaMenu> implements I
     @Override
     public List<FleaMenu> queryAllAccessibleMenus(List<Long> systemRelMenuIdList, List<Long> menuIdList) throws CommonException {
 
-        // 取交集
-        systemRelMenuIdList.retainAll(menuIdList);
+        // 取交集，菜单编号集转为哈希集合，避免逐个元素线性查找
+        systemRelMenuIdList.retainAll(new HashSet<>(menuIdList));
 
         // 获取菜单列表
         List<FleaMenu> allAccessibleMenus = null;
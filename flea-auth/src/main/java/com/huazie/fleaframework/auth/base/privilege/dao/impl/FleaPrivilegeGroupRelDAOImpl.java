@@ -6,8 +6,10 @@ import com.huazie.fleaframework.auth.base.privilege.entity.FleaPrivilegeGroupRel
 import com.huazie.fleaframework.auth.common.FleaAuthEntityConstants;
 import com.huazie.fleaframework.common.EntityStateEnum;
 import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.common.util.CollectionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -28,4 +30,16 @@ public class FleaPrivilegeGroupRelDAOImpl extends FleaAuthDAOImpl<FleaPrivilegeG
                 .equal(FleaAuthEntityConstants.FleaRelEntityConstants.E_REL_STATE, EntityStateEnum.IN_USE.getState())
                 .getResultList();
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<FleaPrivilegeGroupRel> getPrivilegeGroupRelList(List<Long> privilegeGroupIdList, String authRelType) throws CommonException {
+        if (CollectionUtils.isEmpty(privilegeGroupIdList)) {
+            return new ArrayList<>();
+        }
+        return this.getQuery(null)
+                .in(FleaAuthEntityConstants.PrivilegeEntityConstants.E_PRIVILEGE_GROUP_ID, privilegeGroupIdList)
+                .equal(FleaAuthEntityConstants.FleaRelEntityConstants.E_REL_TYPE, authRelType)
+                .equal(FleaAuthEntityConstants.FleaRelEntityConstants.E_REL_STATE, EntityStateEnum.IN_USE.getState())
+                .getResultList();
+    }
+}
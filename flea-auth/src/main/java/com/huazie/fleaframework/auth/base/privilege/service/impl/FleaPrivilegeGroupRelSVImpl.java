@@ -1,16 +1,17 @@
 package com.huazie.fleaframework.auth.base.privilege.service.impl;
 
+import com.huazie.fleaframework.auth.base.FleaAuthRelSVImpl;
 import com.huazie.fleaframework.auth.base.privilege.dao.interfaces.IFleaPrivilegeGroupRelDAO;
 import com.huazie.fleaframework.auth.base.privilege.entity.FleaPrivilege;
 import com.huazie.fleaframework.auth.base.privilege.entity.FleaPrivilegeGroup;
 import com.huazie.fleaframework.auth.base.privilege.entity.FleaPrivilegeGroupRel;
 import com.huazie.fleaframework.auth.base.privilege.service.interfaces.IFleaPrivilegeGroupRelSV;
+import com.huazie.fleaframework.auth.cache.index.FleaAuthChanges;
 import com.huazie.fleaframework.auth.common.pojo.privilege.FleaPrivilegeGroupRelPOJO;
 import com.huazie.fleaframework.auth.util.FleaAuthCheck;
 import com.huazie.fleaframework.auth.util.FleaAuthPOJOUtils;
 import com.huazie.fleaframework.common.exceptions.CommonException;
 import com.huazie.fleaframework.db.jpa.dao.interfaces.IAbstractFleaJPADAO;
-import com.huazie.fleaframework.db.jpa.service.impl.AbstractFleaJPASVImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -25,7 +26,7 @@ import java.util.List;
  * @since 1.0.0
  */
 @Service("fleaPrivilegeGroupRelSV")
-public class FleaPrivilegeGroupRelSVImpl extends AbstractFleaJPASVImpl<FleaPrivilegeGroupRel> implements IFleaPrivilegeGroupRelSV {
+public class FleaPrivilegeGroupRelSVImpl extends FleaAuthRelSVImpl<FleaPrivilegeGroupRel> implements IFleaPrivilegeGroupRelSV {
 
     private IFleaPrivilegeGroupRelDAO fleaPrivilegeGroupRelDao;
 
@@ -40,6 +41,11 @@ public class FleaPrivilegeGroupRelSVImpl extends AbstractFleaJPASVImpl<FleaPrivi
         return fleaPrivilegeGroupRelDao.getPrivilegeGroupRelList(privilegeGroupId, authRelType);
     }
 
+    @Override
+    public List<FleaPrivilegeGroupRel> getPrivilegeGroupRelList(List<Long> privilegeGroupIdList, String authRelType) throws CommonException {
+        return fleaPrivilegeGroupRelDao.getPrivilegeGroupRelList(privilegeGroupIdList, authRelType);
+    }
+
     @Override
     public void savePrivilegeGroup(FleaPrivilegeGroup fleaPrivilegeGroup, FleaPrivilege fleaPrivilege) throws CommonException {
         this.saveFleaPrivilegeGroupRel(FleaAuthPOJOUtils.newPrivilegeGroupRelPrivilegePOJO(fleaPrivilegeGroup, fleaPrivilege));
@@ -78,6 +84,11 @@ public class FleaPrivilegeGroupRelSVImpl extends AbstractFleaJPASVImpl<FleaPrivi
                 fleaPrivilegeGroupRelPOJO.getRelExtZ());
     }
 
+    @Override
+    protected void addChanges(FleaAuthChanges changes, FleaPrivilegeGroupRel fleaPrivilegeGroupRel) {
+        changes.addPrivilegeGroup(fleaPrivilegeGroupRel.getPrivilegeGroupId());
+    }
+
     @Override
     protected IAbstractFleaJPADAO<FleaPrivilegeGroupRel> getDAO() {
         return fleaPrivilegeGroupRelDao;
@@ -1,8 +1,10 @@
 package com.huazie.fleaframework.auth.base.privilege.service.impl;
 
+import com.huazie.fleaframework.auth.base.FleaAuthRelSVImpl;
 import com.huazie.fleaframework.auth.base.privilege.dao.interfaces.IFleaPrivilegeRelDAO;
 import com.huazie.fleaframework.auth.base.privilege.entity.FleaPrivilegeRel;
 import com.huazie.fleaframework.auth.base.privilege.service.interfaces.IFleaPrivilegeRelSV;
+import com.huazie.fleaframework.auth.cache.index.FleaAuthChanges;
 import com.huazie.fleaframework.auth.common.AuthRelTypeEnum;
 import com.huazie.fleaframework.auth.common.pojo.privilege.FleaPrivilegeRelPOJO;
 import com.huazie.fleaframework.auth.util.FleaAuthCheck;
@@ -10,7 +12,6 @@ import com.huazie.fleaframework.common.exceptions.CommonException;
 import com.huazie.fleaframework.common.util.CollectionUtils;
 import com.huazie.fleaframework.common.util.ObjectUtils;
 import com.huazie.fleaframework.db.jpa.dao.interfaces.IAbstractFleaJPADAO;
-import com.huazie.fleaframework.db.jpa.service.impl.AbstractFleaJPASVImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -26,7 +27,7 @@ import java.util.List;
  * @since 1.0.0
  */
 @Service("fleaPrivilegeRelSV")
-public class FleaPrivilegeRelSVImpl extends AbstractFleaJPASVImpl<FleaPrivilegeRel> implements IFleaPrivilegeRelSV {
+public class FleaPrivilegeRelSVImpl extends FleaAuthRelSVImpl<FleaPrivilegeRel> implements IFleaPrivilegeRelSV {
 
     private IFleaPrivilegeRelDAO fleaPrivilegeRelDao;
 
@@ -113,6 +114,11 @@ public class FleaPrivilegeRelSVImpl extends AbstractFleaJPASVImpl<FleaPrivilegeR
                 fleaPrivilegeRelPOJO.getRelExtZ());
     }
 
+    @Override
+    protected void addChanges(FleaAuthChanges changes, FleaPrivilegeRel fleaPrivilegeRel) {
+        changes.addPrivilege(fleaPrivilegeRel.getPrivilegeId());
+    }
+
     @Override
     protected IAbstractFleaJPADAO<FleaPrivilegeRel> getDAO() {
         return fleaPrivilegeRelDao;
@@ -48,4 +48,16 @@ public interface IFleaPrivilegeGroupRelSV extends IAbstractFleaJPASV<FleaPrivile
      * @since 1.0.0
      */
     FleaPrivilegeGroupRel saveFleaPrivilegeGroupRel(FleaPrivilegeGroupRelPOJO fleaPrivilegeGroupRelPOJO) throws CommonException;
-}
\ No newline at end of file
+
+    /**
+     * 根据权限组编号集和授权关联类型，批量查询在用的权限组关联数据，
+     * 用于一次查询多个权限组编号的关联数据。
+     *
+     * @param privilegeGroupIdList 权限组编号集，为空时返回空集
+     * @param authRelType 授权关联类型
+     * @return 权限组关联数据
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    List<FleaPrivilegeGroupRel> getPrivilegeGroupRelList(List<Long> privilegeGroupIdList, String authRelType) throws CommonException;
+}
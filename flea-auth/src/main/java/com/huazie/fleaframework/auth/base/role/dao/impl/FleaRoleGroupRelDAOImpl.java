@@ -6,8 +6,10 @@ import com.huazie.fleaframework.auth.base.role.entity.FleaRoleGroupRel;
 import com.huazie.fleaframework.auth.common.FleaAuthEntityConstants;
 import com.huazie.fleaframework.common.EntityStateEnum;
 import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.common.util.CollectionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -28,4 +30,16 @@ public class FleaRoleGroupRelDAOImpl extends FleaAuthDAOImpl<FleaRoleGroupRel> i
                 .equal(FleaAuthEntityConstants.FleaRelEntityConstants.E_REL_STATE, EntityStateEnum.IN_USE.getState())
                 .getResultList();
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<FleaRoleGroupRel> getRoleGroupRelList(List<Long> roleGroupIdList, String authRelType) throws CommonException {
+        if (CollectionUtils.isEmpty(roleGroupIdList)) {
+            return new ArrayList<>();
+        }
+        return this.getQuery(null)
+                .in(FleaAuthEntityConstants.RoleEntityConstants.E_ROLE_GROUP_ID, roleGroupIdList)
+                .equal(FleaAuthEntityConstants.FleaRelEntityConstants.E_REL_TYPE, authRelType)
+                .equal(FleaAuthEntityConstants.FleaRelEntityConstants.E_REL_STATE, EntityStateEnum.IN_USE.getState())
+                .getResultList();
+    }
+}
@@ -25,4 +25,16 @@ public interface IFleaRoleGroupRelDAO extends IAbstractFleaJPADAO<FleaRoleGroupR
      * @since 1.0.0
      */
     List<FleaRoleGroupRel> getRoleGroupRelList(Long roleGroupId, String authRelType) throws CommonException;
-}
\ No newline at end of file
+
+    /**
+     * 根据角色组编号集和授权关联类型，批量查询在用的角色组关联数据，
+     * 用于一次查询多个角色组编号的关联数据。
+     *
+     * @param roleGroupIdList 角色组编号集，为空时返回空集
+     * @param authRelType 授权关联类型
+     * @return 角色组关联数据
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    List<FleaRoleGroupRel> getRoleGroupRelList(List<Long> roleGroupIdList, String authRelType) throws CommonException;
+}
@@ -1,13 +1,14 @@
 package com.huazie.fleaframework.auth.base.role.service.impl;
 
+import com.huazie.fleaframework.auth.base.FleaAuthRelSVImpl;
 import com.huazie.fleaframework.auth.base.role.dao.interfaces.IFleaRoleGroupRelDAO;
 import com.huazie.fleaframework.auth.base.role.entity.FleaRoleGroupRel;
 import com.huazie.fleaframework.auth.base.role.service.interfaces.IFleaRoleGroupRelSV;
+import com.huazie.fleaframework.auth.cache.index.FleaAuthChanges;
 import com.huazie.fleaframework.auth.common.pojo.role.FleaRoleGroupRelPOJO;
 import com.huazie.fleaframework.auth.util.FleaAuthCheck;
 import com.huazie.fleaframework.common.exceptions.CommonException;
 import com.huazie.fleaframework.db.jpa.dao.interfaces.IAbstractFleaJPADAO;
-import com.huazie.fleaframework.db.jpa.service.impl.AbstractFleaJPASVImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -18,11 +19,11 @@ import java.util.List;
  * Flea角色组关联（角色）SV层实现类
  *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 @Service("fleaRoleGroupRelSV")
-public class FleaRoleGroupRelSVImpl extends AbstractFleaJPASVImpl<FleaRoleGroupRel> implements IFleaRoleGroupRelSV {
+public class FleaRoleGroupRelSVImpl extends FleaAuthRelSVImpl<FleaRoleGroupRel> implements IFleaRoleGroupRelSV {
 
     private IFleaRoleGroupRelDAO fleaRoleGroupRelDao;
 
@@ -37,6 +38,11 @@ public class FleaRoleGroupRelSVImpl extends AbstractFleaJPASVImpl<FleaRoleGroupR
         return fleaRoleGroupRelDao.getRoleGroupRelList(roleGroupId, authRelType);
     }
 
+    @Override
+    public List<FleaRoleGroupRel> getRoleGroupRelList(List<Long> roleGroupIdList, String authRelType) throws CommonException {
+        return fleaRoleGroupRelDao.getRoleGroupRelList(roleGroupIdList, authRelType);
+    }
+
     @Override
     public FleaRoleGroupRel saveRoleGroupRel(FleaRoleGroupRelPOJO fleaRoleGroupRelPOJO) throws CommonException {
         FleaRoleGroupRel fleaRoleGroupRel = newFleaRoleGroupRel(fleaRoleGroupRelPOJO);
@@ -69,6 +75,11 @@ public class FleaRoleGroupRelSVImpl extends AbstractFleaJPASVImpl<FleaRoleGroupR
                 fleaRoleGroupRelPOJO.getRelExtZ());
     }
 
+    @Override
+    protected void addChanges(FleaAuthChanges changes, FleaRoleGroupRel fleaRoleGroupRel) {
+        changes.addRoleGroup(fleaRoleGroupRel.getRoleGroupId());
+    }
+
     @Override
     protected IAbstractFleaJPADAO<FleaRoleGroupRel> getDAO() {
         return fleaRoleGroupRelDao;
@@ -1,13 +1,14 @@
 package com.huazie.fleaframework.auth.base.role.service.impl;
 
+import com.huazie.fleaframework.auth.base.FleaAuthRelSVImpl;
 import com.huazie.fleaframework.auth.base.role.dao.interfaces.IFleaRoleRelDAO;
 import com.huazie.fleaframework.auth.base.role.entity.FleaRoleRel;
 import com.huazie.fleaframework.auth.base.role.service.interfaces.IFleaRoleRelSV;
+import com.huazie.fleaframework.auth.cache.index.FleaAuthChanges;
 import com.huazie.fleaframework.auth.common.pojo.role.FleaRoleRelPOJO;
 import com.huazie.fleaframework.auth.util.FleaAuthCheck;
 import com.huazie.fleaframework.common.exceptions.CommonException;
 import com.huazie.fleaframework.db.jpa.dao.interfaces.IAbstractFleaJPADAO;
-import com.huazie.fleaframework.db.jpa.service.impl.AbstractFleaJPASVImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -22,7 +23,7 @@ import java.util.List;
  * @since 1.0.0
  */
 @Service("fleaRoleRelSV")
-public class FleaRoleRelSVImpl extends AbstractFleaJPASVImpl<FleaRoleRel> implements IFleaRoleRelSV {
+public class FleaRoleRelSVImpl extends FleaAuthRelSVImpl<FleaRoleRel> implements IFleaRoleRelSV {
 
     private IFleaRoleRelDAO fleaRoleRelDao;
 
@@ -37,6 +38,11 @@ public class FleaRoleRelSVImpl extends AbstractFleaJPASVImpl<FleaRoleRel> implem
         return fleaRoleRelDao.getRoleRelList(roleId, authRelType);
     }
 
+    @Override
+    public List<FleaRoleRel> getRoleRelList(List<Long> roleIdList, String authRelType) throws CommonException {
+        return fleaRoleRelDao.getRoleRelList(roleIdList, authRelType);
+    }
+
     @Override
     public FleaRoleRel saveRoleRel(FleaRoleRelPOJO fleaRoleRelPOJO) throws CommonException {
         FleaRoleRel fleaRoleRel = newFleaRoleRel(fleaRoleRelPOJO);
@@ -69,6 +75,11 @@ public class FleaRoleRelSVImpl extends AbstractFleaJPASVImpl<FleaRoleRel> implem
                 fleaRoleRelPOJO.getRelExtZ());
     }
 
+    @Override
+    protected void addChanges(FleaAuthChanges changes, FleaRoleRel fleaRoleRel) {
+        changes.addRole(fleaRoleRel.getRoleId());
+    }
+
     @Override
     protected IAbstractFleaJPADAO<FleaRoleRel> getDAO() {
         return fleaRoleRelDao;
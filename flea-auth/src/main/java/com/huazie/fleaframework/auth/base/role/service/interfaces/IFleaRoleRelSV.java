@@ -36,4 +36,16 @@ public interface IFleaRoleRelSV extends IAbstractFleaJPASV<FleaRoleRel> {
      * @since 2.0.0
      */
     FleaRoleRel saveRoleRel(FleaRoleRelPOJO fleaRoleRelPOJO) throws CommonException;
-}
\ No newline at end of file
+
+    /**
+     * 根据角色编号集和授权关联类型，批量查询在用的角色关联数据，
+     * 用于一次查询多个角色编号的关联数据。
+     *
+     * @param roleIdList 角色编号集，为空时返回空集
+     * @param authRelType 授权关联类型
+     * @return 角色关联数据
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    List<FleaRoleRel> getRoleRelList(List<Long> roleIdList, String authRelType) throws CommonException;
+}
@@ -26,9 +26,14 @@ public class FleaLoginLogDAOImpl extends FleaAuthDAOImpl<FleaLoginLog> implement
 
     @Override
     public FleaLoginLog queryLastUserLoginLog(Long accountId) throws CommonException {
+        return queryLastUserLoginLog(accountId, FleaSessionManager.getSystemAccountId());
+    }
+
+    @Override
+    public FleaLoginLog queryLastUserLoginLog(Long accountId, Long systemAccountId) throws CommonException {
         FleaLoginLog fleaLoginLogEntity = new FleaLoginLog();
         fleaLoginLogEntity.setAccountId(accountId); // 账户编号
-        fleaLoginLogEntity.setSystemAccountId(FleaSessionManager.getSystemAccountId()); // 系统账户编号
+        fleaLoginLogEntity.setSystemAccountId(systemAccountId); // 系统账户编号
         fleaLoginLogEntity.setLoginState(LoginStateEnum.LOGINING.getState()); // 登录中
         fleaLoginLogEntity.setCreateDate(DateUtils.getCurrentTime());
 
@@ -6,8 +6,10 @@ import com.huazie.fleaframework.auth.base.user.entity.FleaUserGroupRel;
 import com.huazie.fleaframework.auth.common.FleaAuthEntityConstants;
 import com.huazie.fleaframework.common.EntityStateEnum;
 import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.common.util.CollectionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -29,4 +31,16 @@ public class FleaUserGroupRelDAOImpl extends FleaAuthDAOImpl<FleaUserGroupRel> i
                 .equal(FleaAuthEntityConstants.FleaRelEntityConstants.E_REL_STATE, EntityStateEnum.IN_USE.getState())
                 .getResultList();
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<FleaUserGroupRel> getUserGroupRelList(List<Long> userGroupIdList, String authRelType) throws CommonException {
+        if (CollectionUtils.isEmpty(userGroupIdList)) {
+            return new ArrayList<>();
+        }
+        return this.getQuery(null)
+                .in(FleaAuthEntityConstants.UserEntityConstants.E_USER_GROUP_ID, userGroupIdList)
+                .equal(FleaAuthEntityConstants.FleaRelEntityConstants.E_REL_TYPE, authRelType)
+                .equal(FleaAuthEntityConstants.FleaRelEntityConstants.E_REL_STATE, EntityStateEnum.IN_USE.getState())
+                .getResultList();
+    }
+}
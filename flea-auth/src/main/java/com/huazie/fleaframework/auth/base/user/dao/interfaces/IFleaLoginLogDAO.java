@@ -8,7 +8,7 @@ import com.huazie.fleaframework.db.jpa.dao.interfaces.IAbstractFleaJPADAO;
  * Flea登录日志DAO层接口
  *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public interface IFleaLoginLogDAO extends IAbstractFleaJPADAO<FleaLoginLog> {
@@ -22,4 +22,15 @@ public interface IFleaLoginLogDAO extends IAbstractFleaJPADAO<FleaLoginLog> {
      * @since 1.0.0
      */
     FleaLoginLog queryLastUserLoginLog(Long accountId) throws CommonException;
+
+    /**
+     * 查询当月用户在指定系统账户下最近一次的登录日志
+     *
+     * @param accountId       账户编号
+     * @param systemAccountId 系统账户编号
+     * @return 当月用户最近一次的登录日志
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    FleaLoginLog queryLastUserLoginLog(Long accountId, Long systemAccountId) throws CommonException;
 }
\ No newline at end of file
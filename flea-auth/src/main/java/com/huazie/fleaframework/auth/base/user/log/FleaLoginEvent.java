@@ -0,0 +1,120 @@
+package com.huazie.fleaframework.auth.base.user.log;
+
+import com.huazie.fleaframework.auth.base.user.entity.FleaLoginLog;
+import com.huazie.fleaframework.auth.common.pojo.user.login.FleaLoginLogPOJO;
+import com.huazie.fleaframework.auth.util.FleaAuthCheck;
+import com.huazie.fleaframework.common.FleaSessionManager;
+import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.common.i18n.FleaI18nHelper;
+import com.huazie.fleaframework.common.util.DateUtils;
+import org.apache.commons.lang.builder.ToStringBuilder;
+
+import java.util.Date;
+
+/**
+ * Flea 登录事件，包括登录和登出两类，由登录线程创建后投递给
+ * {@link FleaLoginLogWriter} 异步写入。
+ *
+ * <p> 系统账户编号、事件时间和登出描述在创建时从当前线程中获取，
+ * 日志写入线程不依赖登录线程的会话信息。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public final class FleaLoginEvent {
+
+    private final boolean login; // 是否登录事件
+
+    private final FleaLoginLog loginLog; // 待保存的登录日志，仅登录事件存在
+
+    private final Long accountId; // 账户编号
+
+    private final Long systemAccountId; // 系统账户编号
+
+    private final String sessionId; // 会话编号，可能为空
+
+    private final Date eventTime; // 事件时间
+
+    private final String remarks; // 登出描述，仅登出事件存在
+
+    private FleaLoginEvent(boolean login, FleaLoginLog loginLog, Long accountId, Long systemAccountId,
+                           String sessionId, Date eventTime, String remarks) {
+        this.login = login;
+        this.loginLog = loginLog;
+        this.accountId = accountId;
+        this.systemAccountId = systemAccountId;
+        this.sessionId = sessionId;
+        this.eventTime = eventTime;
+        this.remarks = remarks;
+    }
+
+    /**
+     * 新建登录事件，同时校验并生成待保存的登录日志
+     *
+     * @param fleaLoginLogPOJO Flea登录日志POJO对象
+     * @param sessionId        会话编号
+     * @return 登录事件
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    public static FleaLoginEvent login(FleaLoginLogPOJO fleaLoginLogPOJO, String sessionId) throws CommonException {
+        // 校验Flea登录日志POJO对象
+        FleaAuthCheck.checkFleaLoginLogPOJO(fleaLoginLogPOJO);
+
+        FleaLoginLog fleaLoginLog = new FleaLoginLog(fleaLoginLogPOJO.getAccountId(),
+                fleaLoginLogPOJO.getLoginIp4(),
+                fleaLoginLogPOJO.getLoginIp6(),
+                fleaLoginLogPOJO.getLoginArea(),
+                fleaLoginLogPOJO.getRemarks());
+        return new FleaLoginEvent(true, fleaLoginLog, fleaLoginLog.getAccountId(), fleaLoginLog.getSystemAccountId(),
+                sessionId, fleaLoginLog.getLoginTime(), null);
+    }
+
+    /**
+     * 新建登出事件
+     *
+     * @param accountId 账户编号
+     * @param sessionId 会话编号，为空时登出该账户最近一次的登录
+     * @return 登出事件
+     * @since 2.0.0
+     */
+    public static FleaLoginEvent logout(Long accountId, String sessionId) {
+        // AUTH-COMMON0000000001 用户已登出
+        return new FleaLoginEvent(false, null, accountId, FleaSessionManager.getSystemAccountId(), sessionId,
+                DateUtils.getCurrentTime(), FleaI18nHelper.i18nForAuth("AUTH-COMMON0000000001"));
+    }
+
+    public boolean isLogin() {
+        return login;
+    }
+
+    public FleaLoginLog getLoginLog() {
+        return loginLog;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public Long getSystemAccountId() {
+        return systemAccountId;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public Date getEventTime() {
+        return eventTime;
+    }
+
+    public String getRemarks() {
+        return remarks;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
@@ -0,0 +1,452 @@
+package com.huazie.fleaframework.auth.base.user.log;
+
+import com.huazie.fleaframework.auth.base.user.entity.FleaLoginLog;
+import com.huazie.fleaframework.auth.common.LoginStateEnum;
+import com.huazie.fleaframework.common.DateFormatEnum;
+import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.DateUtils;
+import com.huazie.fleaframework.common.util.HttpUtils;
+import com.huazie.fleaframework.common.util.ObjectUtils;
+import com.huazie.fleaframework.common.util.StringUtils;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.Resource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Flea 登录日志写入器，负责异步批量写入登录和登出日志。
+ *
+ * <p> 登录线程只需将登录事件 {@link FleaLoginEvent} 投递到有界队列中，
+ * 由后台的登录日志写入线程批量取出，按目标分表分组后，每组通过
+ * {@link IFleaLoginLogStore} 批量写入一次；写入线程忙于上一批时，
+ * 新的登录事件在队列中累积，登录高峰期的批次自然变大。
+ *
+ * <p> 同一批次中先写入登录日志，再处理登出事件；已保存的登录日志缓存在
+ * {@link FleaLoginSessionIndex} 中，登出时直接据此更新，
+ * 仅当会话索引中不存在时，才查询该账户最近一次的登录日志。
+ *
+ * <p> 登录日志按创建日期分表，分表名按创建日期（天）缓存，
+ * 同一天的登录日志只解析一次分表名。
+ *
+ * <p> 登录地区在写入线程中按登录 IP 解析，同一批次中相同的 IP 只解析一次，
+ * 登录线程无需等待地区查询。
+ *
+ * <p> 写入线程在 {@link #start()} 中启动，启动前或关闭后投递的登录事件
+ * 由当前线程直接写入。队列满载且等待超时，登录事件由当前线程直接写入，不会丢弃；
+ * 登出事件则最多重试 {@link #LOGOUT_OFFER_RETRIES} 次，尽量避免先于仍在队列中的
+ * 登录事件写入，重试后仍满载则记录告警，由当前线程直接写入。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @see LoginLogConfig
+ * @since 2.0.0
+ */
+@Component("fleaLoginLogWriter")
+public class FleaLoginLogWriter {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaLoginLogWriter.class);
+
+    private static final long POLL_INTERVAL = 100L; // 写入线程检查关闭状态的时间间隔（毫秒）
+
+    private static final int MAX_CACHED_SPLIT_TABLES = 64; // 最多缓存的分表名数
+
+    private static final int LOGOUT_OFFER_RETRIES = 10; // 队列满载时登出事件的最大投递次数
+
+    private final LoginLogConfig config; // 登录日志异步写入配置
+
+    private final BlockingQueue<FleaLoginEvent> queue; // 登录事件队列
+
+    private final FleaLoginSessionIndex sessionIndex; // 登录会话索引
+
+    private final ConcurrentMap<String, String> splitTables = new ConcurrentHashMap<>(); // 创建日期（天） => 分表名
+
+    private Thread writerThread; // 登录日志写入线程，仅在持有对象锁时访问
+
+    private volatile IFleaLoginLogStore fleaLoginLogStore; // 登录日志存储
+
+    private volatile boolean running; // 是否运行中
+
+    private final AtomicLong publishedCount = new AtomicLong(); // 已投递的登录事件数
+
+    private final AtomicLong directCount = new AtomicLong(); // 由投递线程直接写入的登录事件数
+
+    private final AtomicLong writtenCount = new AtomicLong(); // 已写入的登录事件数
+
+    private final AtomicLong failedCount = new AtomicLong(); // 写入失败或找不到登录日志的登录事件数
+
+    private final AtomicLong queryCount = new AtomicLong(); // 登出时查询登录日志的次数
+
+    public FleaLoginLogWriter() {
+        this(LoginLogConfig.load(), null);
+    }
+
+    public FleaLoginLogWriter(LoginLogConfig config, IFleaLoginLogStore fleaLoginLogStore) {
+        this.config = config;
+        this.fleaLoginLogStore = fleaLoginLogStore;
+        this.queue = new ArrayBlockingQueue<>(config.getCapacity());
+        this.sessionIndex = new FleaLoginSessionIndex(config.getSessionIndexSize());
+    }
+
+    @Resource(name = "fleaLoginLogSV")
+    public void setFleaLoginLogStore(IFleaLoginLogStore fleaLoginLogStore) {
+        this.fleaLoginLogStore = fleaLoginLogStore;
+    }
+
+    /**
+     * 启动登录日志写入线程，重复调用或关闭后调用不生效
+     *
+     * @since 2.0.0
+     */
+    @PostConstruct
+    public synchronized void start() {
+        if (ObjectUtils.isNotEmpty(writerThread)) {
+            return;
+        }
+        writerThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                runWriter();
+            }
+        }, "flea-login-log-writer");
+        writerThread.setDaemon(true);
+        running = true;
+        writerThread.start();
+    }
+
+    /**
+     * 投递一个登录事件；队列满载时，登录事件最多等待配置的时间，
+     * 超时后由当前线程直接写入，登出事件最多重试
+     * {@link #LOGOUT_OFFER_RETRIES} 次，仍满载则由当前线程直接写入；
+     * 写入器未启动或已关闭时，由当前线程直接写入
+     *
+     * @param event 登录事件
+     * @return true：已投递，false：已由当前线程直接写入
+     * @since 2.0.0
+     */
+    public boolean publish(FleaLoginEvent event) {
+        boolean accepted = false;
+        int offers = 0;
+        try {
+            do {
+                accepted = running && queue.offer(event, config.getBlockTimeout(), TimeUnit.MILLISECONDS);
+            } while (!accepted && running && !event.isLogin() && ++offers < LOGOUT_OFFER_RETRIES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (accepted) {
+            publishedCount.incrementAndGet();
+        } else {
+            if (running && !event.isLogin()) {
+                LOGGER.warn1(new Object() {}, "登录事件队列持续满载，登出事件由当前线程直接写入，登出事件：{}", event);
+            }
+            directCount.incrementAndGet();
+            writeBatch(Collections.singletonList(event));
+        }
+        return accepted;
+    }
+
+    /**
+     * 使用配置的关闭等待时间，关闭登录日志写入器
+     *
+     * @return true：剩余的登录事件已全部处理，false：等待超时
+     * @since 2.0.0
+     */
+    @PreDestroy
+    public boolean shutdown() {
+        return shutdown(config.getShutdownTimeout(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 关闭登录日志写入器，不再接收新的登录事件，
+     * 并等待登录日志写入线程写完队列中剩余的登录事件。
+     *
+     * @param timeout 最长等待时间
+     * @param unit    时间单位
+     * @return true：剩余的登录事件已全部处理，false：等待超时
+     * @since 2.0.0
+     */
+    public boolean shutdown(long timeout, TimeUnit unit) {
+        Thread thread;
+        synchronized (this) {
+            running = false;
+            thread = writerThread;
+        }
+        if (ObjectUtils.isNotEmpty(thread)) {
+            try {
+                thread.join(unit.toMillis(timeout));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (ObjectUtils.isNotEmpty(thread) && thread.isAlive()) {
+            LOGGER.warn1(new Object() {}, "登录日志写入器关闭超时，剩余未写入的登录事件数：{}", queue.size());
+            return false;
+        }
+        // 写入线程退出前后，仍在投递中的登录事件，由当前线程写入
+        List<FleaLoginEvent> batch = new ArrayList<>(config.getBatchSize());
+        while (queue.drainTo(batch, config.getBatchSize()) > 0) {
+            writeBatch(batch);
+            batch.clear();
+        }
+        LOGGER.debug1(new Object() {}, "登录日志写入器已关闭，投递：{}，直接写入：{}，写入：{}，失败：{}，查询：{}",
+                publishedCount.get(), directCount.get(), writtenCount.get(), failedCount.get(), queryCount.get());
+        return true;
+    }
+
+    /**
+     * 登录日志写入线程主循环
+     */
+    private void runWriter() {
+        int batchSize = config.getBatchSize();
+        List<FleaLoginEvent> batch = new ArrayList<>(batchSize);
+        for (; ; ) {
+            FleaLoginEvent first;
+            try {
+                first = queue.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                first = null;
+                running = false;
+            }
+            if (ObjectUtils.isEmpty(first)) {
+                if (!running) {
+                    break;
+                }
+                continue;
+            }
+            batch.add(first);
+            queue.drainTo(batch, batchSize - 1);
+            try {
+                writeBatch(batch);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 写入一批登录事件，先按分表批量保存登录日志，再按分表批量更新退出日志
+     *
+     * @param batch 登录事件集合
+     * @since 2.0.0
+     */
+    private void writeBatch(List<FleaLoginEvent> batch) {
+        Map<String, List<FleaLoginEvent>> loginGroups = new LinkedHashMap<>();
+        List<FleaLoginEvent> logoutEvents = new ArrayList<>();
+        Map<String, String> loginAreas = new HashMap<>();
+        for (FleaLoginEvent event : batch) {
+            if (event.isLogin()) {
+                resolveLoginArea(event.getLoginLog(), loginAreas);
+                group(loginGroups, event.getLoginLog(), event);
+            } else {
+                logoutEvents.add(event);
+            }
+        }
+
+        for (Map.Entry<String, List<FleaLoginEvent>> entry : loginGroups.entrySet()) {
+            saveLoginLogs(entry.getKey(), entry.getValue());
+        }
+
+        if (logoutEvents.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<QuitEntry>> quitGroups = new LinkedHashMap<>();
+        for (FleaLoginEvent event : logoutEvents) {
+            FleaLoginLog fleaLoginLog = findLoginLog(event);
+            if (ObjectUtils.isEmpty(fleaLoginLog)) {
+                failedCount.incrementAndGet();
+                continue;
+            }
+            // 更新用户最近一次的登录日志的登录状态（2：已退出）
+            fleaLoginLog.setLoginState(LoginStateEnum.QUITTED.getState());
+            fleaLoginLog.setLogoutTime(event.getEventTime());
+            fleaLoginLog.setDoneDate(DateUtils.getCurrentTime());
+            fleaLoginLog.setRemarks(event.getRemarks());
+            group(quitGroups, fleaLoginLog, new QuitEntry(event.getSessionId(), fleaLoginLog));
+        }
+
+        for (Map.Entry<String, List<QuitEntry>> entry : quitGroups.entrySet()) {
+            saveQuitLogs(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * 未指定登录地区时，按登录 IP 解析登录地区
+     *
+     * @param fleaLoginLog 登录日志
+     * @param loginAreas   当前批次已解析的登录 IP => 登录地区
+     * @since 2.0.0
+     */
+    private static void resolveLoginArea(FleaLoginLog fleaLoginLog, Map<String, String> loginAreas) {
+        String ip4 = fleaLoginLog.getLoginIp4();
+        if (StringUtils.isNotBlank(fleaLoginLog.getLoginArea()) || StringUtils.isBlank(ip4)) {
+            return;
+        }
+        String loginArea = loginAreas.get(ip4);
+        if (null == loginArea) {
+            try {
+                loginArea = HttpUtils.getAddressByTaoBao(ip4);
+            } catch (Exception e) {
+                LOGGER.error1(new Object() {}, "解析登录地区出错，登录IP：{}\n", ip4, e);
+            }
+            loginArea = StringUtils.valueOf(loginArea);
+            loginAreas.put(ip4, loginArea);
+        }
+        fleaLoginLog.setLoginArea(loginArea);
+    }
+
+    /**
+     * 按登录日志的分表分组
+     */
+    private <E> void group(Map<String, List<E>> groups, FleaLoginLog fleaLoginLog, E element) {
+        String splitTable;
+        try {
+            splitTable = getSplitTable(fleaLoginLog);
+        } catch (Exception e) {
+            failedCount.incrementAndGet();
+            LOGGER.error1(new Object() {}, "获取登录日志分表出错，登录日志：{}\n", fleaLoginLog, e);
+            return;
+        }
+        List<E> elements = groups.get(splitTable);
+        if (ObjectUtils.isEmpty(elements)) {
+            elements = new ArrayList<>();
+            groups.put(splitTable, elements);
+        }
+        elements.add(element);
+    }
+
+    /**
+     * 获取登录日志所在的分表名，按创建日期（天）缓存
+     */
+    private String getSplitTable(FleaLoginLog fleaLoginLog) throws CommonException {
+        String day = DateUtils.date2String(fleaLoginLog.getCreateDate(), DateFormatEnum.YYYYMMDD);
+        String splitTable = splitTables.get(day);
+        if (ObjectUtils.isEmpty(splitTable)) {
+            splitTable = fleaLoginLogStore.getSplitTable(fleaLoginLog);
+            if (splitTables.size() >= MAX_CACHED_SPLIT_TABLES) {
+                splitTables.clear();
+            }
+            splitTables.put(day, splitTable);
+        }
+        return splitTable;
+    }
+
+    /**
+     * 批量保存同一分表下的登录日志，保存成功后添加到会话索引
+     */
+    private void saveLoginLogs(String splitTable, List<FleaLoginEvent> events) {
+        List<FleaLoginLog> fleaLoginLogs = new ArrayList<>(events.size());
+        for (FleaLoginEvent event : events) {
+            fleaLoginLogs.add(event.getLoginLog());
+        }
+        try {
+            fleaLoginLogStore.batchSaveLoginLog(splitTable, fleaLoginLogs);
+            writtenCount.addAndGet(events.size());
+            for (FleaLoginEvent event : events) {
+                sessionIndex.put(event.getSessionId(), event.getLoginLog());
+            }
+        } catch (Exception e) {
+            failedCount.addAndGet(events.size());
+            LOGGER.error1(new Object() {}, "批量保存登录日志出错，分表：{}，日志条数：{}\n", splitTable, events.size(), e);
+        }
+    }
+
+    /**
+     * 批量保存同一分表下的退出日志，保存成功后从会话索引中移除
+     */
+    private void saveQuitLogs(String splitTable, List<QuitEntry> entries) {
+        List<FleaLoginLog> fleaLoginLogs = new ArrayList<>(entries.size());
+        for (QuitEntry entry : entries) {
+            fleaLoginLogs.add(entry.fleaLoginLog);
+        }
+        try {
+            fleaLoginLogStore.batchSaveQuitLog(splitTable, fleaLoginLogs);
+            writtenCount.addAndGet(entries.size());
+            for (QuitEntry entry : entries) {
+                sessionIndex.remove(entry.sessionId, entry.fleaLoginLog);
+            }
+        } catch (Exception e) {
+            failedCount.addAndGet(entries.size());
+            LOGGER.error1(new Object() {}, "批量保存退出日志出错，分表：{}，日志条数：{}\n", splitTable, entries.size(), e);
+        }
+    }
+
+    /**
+     * 获取登出事件对应的登录日志，优先从会话索引中获取，
+     * 不存在时查询该账户当月最近一次的登录日志；已退出的登录日志不再处理
+     */
+    private FleaLoginLog findLoginLog(FleaLoginEvent event) {
+        FleaLoginLog fleaLoginLog = sessionIndex.get(event.getSessionId(), event.getAccountId(), event.getSystemAccountId());
+        if (ObjectUtils.isEmpty(fleaLoginLog)) {
+            queryCount.incrementAndGet();
+            try {
+                fleaLoginLog = fleaLoginLogStore.queryLastUserLoginLog(event.getAccountId(), event.getSystemAccountId());
+            } catch (Exception e) {
+                LOGGER.error1(new Object() {}, "查询用户最近一次的登录日志出错，登出事件：{}\n", event, e);
+            }
+        }
+        if (ObjectUtils.isNotEmpty(fleaLoginLog) && !Integer.valueOf(LoginStateEnum.LOGINING.getState()).equals(fleaLoginLog.getLoginState())) {
+            fleaLoginLog = null;
+        }
+        return fleaLoginLog;
+    }
+
+    public long getPublishedCount() {
+        return publishedCount.get();
+    }
+
+    public long getDirectCount() {
+        return directCount.get();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public long getQueryCount() {
+        return queryCount.get();
+    }
+
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    public int getSessionIndexSize() {
+        return sessionIndex.size();
+    }
+
+    /**
+     * 待保存的退出日志及其登出会话
+     */
+    private static final class QuitEntry {
+
+        private final String sessionId; // 会话编号
+
+        private final FleaLoginLog fleaLoginLog; // 已更新的登录日志
+
+        private QuitEntry(String sessionId, FleaLoginLog fleaLoginLog) {
+            this.sessionId = sessionId;
+            this.fleaLoginLog = fleaLoginLog;
+        }
+    }
+}
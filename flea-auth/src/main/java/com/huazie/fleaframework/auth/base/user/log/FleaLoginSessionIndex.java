@@ -0,0 +1,99 @@
+package com.huazie.fleaframework.auth.base.user.log;
+
+import com.huazie.fleaframework.auth.base.user.entity.FleaLoginLog;
+import com.huazie.fleaframework.common.CommonConstants;
+import com.huazie.fleaframework.common.util.StringUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Flea 登录会话索引，缓存最近保存的登录日志，登出时直接定位待更新的登录日志，
+ * 无需再按账户查询数据库。
+ *
+ * <p> 按会话编号和【系统账户编号_账户编号】分别索引，后者指向该账户最近一次的登录；
+ * 两类索引各自最多缓存 {@code maxSize} 条，超过后淘汰最久未使用的登录日志。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaLoginSessionIndex {
+
+    private final Map<String, FleaLoginLog> sessions; // 会话编号 => 登录日志
+
+    private final Map<String, FleaLoginLog> accounts; // 系统账户编号_账户编号 => 最近一次的登录日志
+
+    public FleaLoginSessionIndex(int maxSize) {
+        this.sessions = newLruMap(maxSize);
+        this.accounts = newLruMap(maxSize);
+    }
+
+    /**
+     * 添加已保存的登录日志
+     *
+     * @param sessionId    会话编号，可能为空
+     * @param fleaLoginLog 已保存的登录日志
+     * @since 2.0.0
+     */
+    public synchronized void put(String sessionId, FleaLoginLog fleaLoginLog) {
+        if (StringUtils.isNotBlank(sessionId)) {
+            sessions.put(sessionId, fleaLoginLog);
+        }
+        accounts.put(accountKey(fleaLoginLog.getAccountId(), fleaLoginLog.getSystemAccountId()), fleaLoginLog);
+    }
+
+    /**
+     * 获取登录日志；会话编号不为空时按会话定位，否则定位该账户最近一次的登录
+     *
+     * @param sessionId       会话编号
+     * @param accountId       账户编号
+     * @param systemAccountId 系统账户编号
+     * @return 登录日志，不存在时返回null
+     * @since 2.0.0
+     */
+    public synchronized FleaLoginLog get(String sessionId, Long accountId, Long systemAccountId) {
+        if (StringUtils.isNotBlank(sessionId)) {
+            return sessions.get(sessionId);
+        }
+        return accounts.get(accountKey(accountId, systemAccountId));
+    }
+
+    /**
+     * 移除已退出的登录日志
+     *
+     * @param sessionId    会话编号，可能为空
+     * @param fleaLoginLog 已退出的登录日志
+     * @since 2.0.0
+     */
+    public synchronized void remove(String sessionId, FleaLoginLog fleaLoginLog) {
+        if (StringUtils.isNotBlank(sessionId)) {
+            sessions.remove(sessionId);
+        }
+        String accountKey = accountKey(fleaLoginLog.getAccountId(), fleaLoginLog.getSystemAccountId());
+        // 账户最近一次的登录可能已是新的登录日志
+        if (accounts.get(accountKey) == fleaLoginLog) {
+            accounts.remove(accountKey);
+        }
+    }
+
+    public synchronized int size() {
+        return sessions.size();
+    }
+
+    private static String accountKey(Long accountId, Long systemAccountId) {
+        return systemAccountId + CommonConstants.SymbolConstants.UNDERLINE + accountId;
+    }
+
+    private static Map<String, FleaLoginLog> newLruMap(final int maxSize) {
+        return new LinkedHashMap<String, FleaLoginLog>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 5102416583215376908L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, FleaLoginLog> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+}
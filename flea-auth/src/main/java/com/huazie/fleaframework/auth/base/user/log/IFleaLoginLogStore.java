@@ -0,0 +1,60 @@
+package com.huazie.fleaframework.auth.base.user.log;
+
+import com.huazie.fleaframework.auth.base.user.entity.FleaLoginLog;
+import com.huazie.fleaframework.common.exceptions.CommonException;
+
+import java.util.List;
+
+/**
+ * Flea 登录日志存储接口，由登录日志写入线程调用。
+ *
+ * <p> 写入线程先按 {@link #getSplitTable} 将一批登录日志按目标分表分组，
+ * 每组调用一次批量保存或批量更新，同一组的登录日志属于同一张分表。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public interface IFleaLoginLogStore {
+
+    /**
+     * 获取登录日志所在的分表名，不存在分表时返回模板表名
+     *
+     * @param fleaLoginLog 登录日志
+     * @return 分表名
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    String getSplitTable(FleaLoginLog fleaLoginLog) throws CommonException;
+
+    /**
+     * 批量保存同一分表下的登录日志，保存后登录日志编号【主键】已设置
+     *
+     * @param splitTable    分表名
+     * @param fleaLoginLogs 登录日志集合
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    void batchSaveLoginLog(String splitTable, List<FleaLoginLog> fleaLoginLogs) throws CommonException;
+
+    /**
+     * 批量保存同一分表下的退出日志，登录日志的登录状态、退出时间等已更新
+     *
+     * @param splitTable    分表名
+     * @param fleaLoginLogs 登录日志集合
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    void batchSaveQuitLog(String splitTable, List<FleaLoginLog> fleaLoginLogs) throws CommonException;
+
+    /**
+     * 查询当月用户最近一次的登录日志，会话索引中不存在时使用
+     *
+     * @param accountId       账户编号
+     * @param systemAccountId 系统账户编号
+     * @return 当月用户最近一次的登录日志
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    FleaLoginLog queryLastUserLoginLog(Long accountId, Long systemAccountId) throws CommonException;
+}
@@ -0,0 +1,106 @@
+package com.huazie.fleaframework.auth.base.user.log;
+
+import com.huazie.fleaframework.auth.common.FleaAuthConstants.LoginLogConstants;
+import com.huazie.fleaframework.common.FleaConfigManager;
+import com.huazie.fleaframework.common.config.ConfigItems;
+import com.huazie.fleaframework.common.util.StringUtils;
+
+/**
+ * 登录日志异步写入配置，可在配置文件 <b>flea-config.xml</b> 中查看
+ * {@code <config-items key="flea-login-log"> } 节点；
+ * 未配置或配置非法的配置项，使用默认值。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class LoginLogConfig {
+
+    private int capacity = 10000; // 登录事件队列容量
+
+    private int batchSize = 200; // 批量写入的最大事件数
+
+    private long blockTimeout = 50L; // 队列满载时的最长等待时间（毫秒）
+
+    private int sessionIndexSize = 10000; // 会话索引的最大会话数
+
+    private long shutdownTimeout = 30000L; // 关闭时的最长等待时间（毫秒）
+
+    /**
+     * 从配置文件 <b>flea-config.xml</b> 中加载登录日志异步写入配置
+     *
+     * @return 登录日志异步写入配置
+     * @since 2.0.0
+     */
+    public static LoginLogConfig load() {
+        LoginLogConfig config = new LoginLogConfig();
+        ConfigItems configItems = FleaConfigManager.getConfigItems(LoginLogConstants.FLEA_LOGIN_LOG);
+
+        config.setCapacity((int) toPositive(FleaConfigManager.getConfigItemValue(LoginLogConstants.CONFIG_ITEM_CAPACITY, configItems), config.capacity));
+        config.setBatchSize((int) toPositive(FleaConfigManager.getConfigItemValue(LoginLogConstants.CONFIG_ITEM_BATCH_SIZE, configItems), config.batchSize));
+        config.setBlockTimeout(toPositive(FleaConfigManager.getConfigItemValue(LoginLogConstants.CONFIG_ITEM_BLOCK_TIMEOUT, configItems), config.blockTimeout));
+        config.setSessionIndexSize((int) toPositive(FleaConfigManager.getConfigItemValue(LoginLogConstants.CONFIG_ITEM_SESSION_INDEX_SIZE, configItems), config.sessionIndexSize));
+        config.setShutdownTimeout(toPositive(FleaConfigManager.getConfigItemValue(LoginLogConstants.CONFIG_ITEM_SHUTDOWN_TIMEOUT, configItems), config.shutdownTimeout));
+        return config;
+    }
+
+    /**
+     * 将配置值转换为正数，未配置或配置非法时返回默认值
+     *
+     * @param value        配置值
+     * @param defaultValue 默认值
+     * @return 正数
+     * @since 2.0.0
+     */
+    private static long toPositive(String value, long defaultValue) {
+        long result = defaultValue;
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                result = Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                result = defaultValue;
+            }
+        }
+        return result > 0 && result <= Integer.MAX_VALUE ? result : defaultValue;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getBlockTimeout() {
+        return blockTimeout;
+    }
+
+    public void setBlockTimeout(long blockTimeout) {
+        this.blockTimeout = blockTimeout;
+    }
+
+    public int getSessionIndexSize() {
+        return sessionIndexSize;
+    }
+
+    public void setSessionIndexSize(int sessionIndexSize) {
+        this.sessionIndexSize = sessionIndexSize;
+    }
+
+    public long getShutdownTimeout() {
+        return shutdownTimeout;
+    }
+
+    public void setShutdownTimeout(long shutdownTimeout) {
+        this.shutdownTimeout = shutdownTimeout;
+    }
+}
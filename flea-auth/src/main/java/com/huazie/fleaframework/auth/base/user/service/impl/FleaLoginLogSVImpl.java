@@ -2,6 +2,7 @@ package com.huazie.fleaframework.auth.base.user.service.impl;
 
 import com.huazie.fleaframework.auth.base.user.dao.interfaces.IFleaLoginLogDAO;
 import com.huazie.fleaframework.auth.base.user.entity.FleaLoginLog;
+import com.huazie.fleaframework.auth.base.user.log.IFleaLoginLogStore;
 import com.huazie.fleaframework.auth.base.user.service.interfaces.IFleaLoginLogSV;
 import com.huazie.fleaframework.auth.common.LoginStateEnum;
 import com.huazie.fleaframework.auth.common.pojo.user.login.FleaLoginLogPOJO;
@@ -9,21 +10,25 @@ import com.huazie.fleaframework.auth.util.FleaAuthCheck;
 import com.huazie.fleaframework.common.exceptions.CommonException;
 import com.huazie.fleaframework.common.i18n.FleaI18nHelper;
 import com.huazie.fleaframework.common.util.DateUtils;
+import com.huazie.fleaframework.db.common.table.pojo.SplitTable;
+import com.huazie.fleaframework.db.common.util.EntityUtils;
 import com.huazie.fleaframework.db.jpa.dao.interfaces.IAbstractFleaJPADAO;
 import com.huazie.fleaframework.db.jpa.service.impl.AbstractFleaJPASVImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
- * Flea登录日志SV层实现类
+ * Flea登录日志SV层实现类，同时作为登录日志异步写入的默认存储实现
  *
  * @author huazie
  * @version 2.0.0
  * @since 1.0.0
  */
 @Service("fleaLoginLogSV")
-public class FleaLoginLogSVImpl extends AbstractFleaJPASVImpl<FleaLoginLog> implements IFleaLoginLogSV {
+public class FleaLoginLogSVImpl extends AbstractFleaJPASVImpl<FleaLoginLog> implements IFleaLoginLogSV, IFleaLoginLogStore {
 
     private IFleaLoginLogDAO fleaLoginLogDao;
 
@@ -81,6 +86,33 @@ public class FleaLoginLogSVImpl extends AbstractFleaJPASVImpl<FleaLoginLog> impl
         }
     }
 
+    @Override
+    public FleaLoginLog queryLastUserLoginLog(Long accountId, Long systemAccountId) throws CommonException {
+        return fleaLoginLogDao.queryLastUserLoginLog(accountId, systemAccountId);
+    }
+
+    @Override
+    public String getSplitTable(FleaLoginLog fleaLoginLog) throws CommonException {
+        SplitTable splitTable = EntityUtils.getSplitTable(fleaLoginLog);
+        return splitTable.isExistSplitTable() ? splitTable.getSplitTableName() : splitTable.getTableName();
+    }
+
+    @Override
+    public void batchSaveLoginLog(String splitTable, List<FleaLoginLog> fleaLoginLogs) throws CommonException {
+        for (FleaLoginLog fleaLoginLog : fleaLoginLogs) {
+            // 分表场景，主动获取登录日志编号【主键】
+            fleaLoginLog.setLoginLogId((Long) this.getFleaNextValue(fleaLoginLog));
+        }
+        // 同一分表下的登录日志，在一个事务中保存
+        this.batchSave(fleaLoginLogs);
+    }
+
+    @Override
+    public void batchSaveQuitLog(String splitTable, List<FleaLoginLog> fleaLoginLogs) throws CommonException {
+        // 同一分表下的退出日志，在一个事务中更新
+        this.batchUpdate(fleaLoginLogs);
+    }
+
     @Override
     protected IAbstractFleaJPADAO<FleaLoginLog> getDAO() {
         return fleaLoginLogDao;
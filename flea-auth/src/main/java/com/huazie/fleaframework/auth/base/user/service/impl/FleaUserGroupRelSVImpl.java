@@ -1,13 +1,15 @@
 package com.huazie.fleaframework.auth.base.user.service.impl;
 
+import com.huazie.fleaframework.auth.base.FleaAuthRelSVImpl;
 import com.huazie.fleaframework.auth.base.user.dao.interfaces.IFleaUserGroupRelDAO;
 import com.huazie.fleaframework.auth.base.user.entity.FleaUserGroupRel;
 import com.huazie.fleaframework.auth.base.user.service.interfaces.IFleaUserGroupRelSV;
+import com.huazie.fleaframework.auth.cache.index.FleaAuthChanges;
+import com.huazie.fleaframework.auth.common.AuthRelTypeEnum;
 import com.huazie.fleaframework.auth.common.pojo.user.FleaUserGroupRelPOJO;
 import com.huazie.fleaframework.auth.util.FleaAuthCheck;
 import com.huazie.fleaframework.common.exceptions.CommonException;
 import com.huazie.fleaframework.db.jpa.dao.interfaces.IAbstractFleaJPADAO;
-import com.huazie.fleaframework.db.jpa.service.impl.AbstractFleaJPASVImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -18,11 +20,11 @@ import java.util.List;
  * Flea用户组关联（角色，角色组）SV层实现类
  *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 @Service("fleaUserGroupRelSV")
-public class FleaUserGroupRelSVImpl extends AbstractFleaJPASVImpl<FleaUserGroupRel> implements IFleaUserGroupRelSV {
+public class FleaUserGroupRelSVImpl extends FleaAuthRelSVImpl<FleaUserGroupRel> implements IFleaUserGroupRelSV {
 
     private IFleaUserGroupRelDAO fleaUserGroupRelDao;
 
@@ -37,6 +39,11 @@ public class FleaUserGroupRelSVImpl extends AbstractFleaJPASVImpl<FleaUserGroupR
         return fleaUserGroupRelDao.getUserGroupRelList(userGroupId, relId, authRelType);
     }
 
+    @Override
+    public List<FleaUserGroupRel> getUserGroupRelList(List<Long> userGroupIdList, String authRelType) throws CommonException {
+        return fleaUserGroupRelDao.getUserGroupRelList(userGroupIdList, authRelType);
+    }
+
     @Override
     public FleaUserGroupRel saveUserGroupRel(FleaUserGroupRelPOJO fleaUserGroupRelPOJO) throws CommonException {
         FleaUserGroupRel fleaUserGroupRel = newFleaUserGroupRel(fleaUserGroupRelPOJO);
@@ -69,6 +76,16 @@ public class FleaUserGroupRelSVImpl extends AbstractFleaJPASVImpl<FleaUserGroupR
                 fleaUserGroupRelPOJO.getRelExtZ());
     }
 
+    @Override
+    protected void addChanges(FleaAuthChanges changes, FleaUserGroupRel fleaUserGroupRel) {
+        if (AuthRelTypeEnum.USER_GROUP_REL_USER.getRelType().equals(fleaUserGroupRel.getRelType())) {
+            // 用户组关联用户，rel_id = 用户编号
+            changes.addUser(fleaUserGroupRel.getRelId());
+        } else {
+            changes.addUserGroup(fleaUserGroupRel.getUserGroupId());
+        }
+    }
+
     @Override
     protected IAbstractFleaJPADAO<FleaUserGroupRel> getDAO() {
         return fleaUserGroupRelDao;
@@ -1,13 +1,14 @@
 package com.huazie.fleaframework.auth.base.user.service.impl;
 
+import com.huazie.fleaframework.auth.base.FleaAuthRelSVImpl;
 import com.huazie.fleaframework.auth.base.user.dao.interfaces.IFleaUserRelDAO;
 import com.huazie.fleaframework.auth.base.user.entity.FleaUserRel;
 import com.huazie.fleaframework.auth.base.user.service.interfaces.IFleaUserRelSV;
+import com.huazie.fleaframework.auth.cache.index.FleaAuthChanges;
 import com.huazie.fleaframework.auth.common.pojo.user.FleaUserRelPOJO;
 import com.huazie.fleaframework.auth.util.FleaAuthCheck;
 import com.huazie.fleaframework.common.exceptions.CommonException;
 import com.huazie.fleaframework.db.jpa.dao.interfaces.IAbstractFleaJPADAO;
-import com.huazie.fleaframework.db.jpa.service.impl.AbstractFleaJPASVImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -18,11 +19,11 @@ import java.util.List;
  * Flea用户关联（用户，用户组）SV层实现类
  *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 @Service("fleaUserRelSV")
-public class FleaUserRelSVImpl extends AbstractFleaJPASVImpl<FleaUserRel> implements IFleaUserRelSV {
+public class FleaUserRelSVImpl extends FleaAuthRelSVImpl<FleaUserRel> implements IFleaUserRelSV {
 
     private IFleaUserRelDAO fleaUserRelDao;
 
@@ -69,6 +70,11 @@ public class FleaUserRelSVImpl extends AbstractFleaJPASVImpl<FleaUserRel> implem
                 fleaUserRelPOJO.getRelExtZ());
     }
 
+    @Override
+    protected void addChanges(FleaAuthChanges changes, FleaUserRel fleaUserRel) {
+        changes.addUser(fleaUserRel.getUserId());
+    }
+
     @Override
     protected IAbstractFleaJPADAO<FleaUserRel> getDAO() {
         return fleaUserRelDao;
@@ -37,4 +37,16 @@ public interface IFleaUserGroupRelSV extends IAbstractFleaJPASV<FleaUserGroupRel
      * @since 2.0.0
      */
     FleaUserGroupRel saveUserGroupRel(FleaUserGroupRelPOJO fleaUserGroupRelPOJO) throws CommonException;
-}
\ No newline at end of file
+
+    /**
+     * 根据用户组编号集和授权关联类型，批量查询在用的用户组关联数据，
+     * 用于一次查询多个用户组编号的关联数据。
+     *
+     * @param userGroupIdList 用户组编号集，为空时返回空集
+     * @param authRelType 授权关联类型
+     * @return 用户组关联数据
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    List<FleaUserGroupRel> getUserGroupRelList(List<Long> userGroupIdList, String authRelType) throws CommonException;
+}
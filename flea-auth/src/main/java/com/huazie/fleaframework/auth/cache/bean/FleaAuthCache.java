@@ -1,6 +1,7 @@
 package com.huazie.fleaframework.auth.cache.bean;
 
 import com.huazie.fleaframework.auth.base.function.entity.FleaMenu;
+import com.huazie.fleaframework.auth.cache.index.FleaAuthIndex;
 import com.huazie.fleaframework.auth.common.pojo.user.FleaUserModuleData;
 import com.huazie.fleaframework.auth.common.service.interfaces.IFleaAuthSV;
 import com.huazie.fleaframework.common.exceptions.CommonException;
@@ -13,6 +14,11 @@ import java.util.List;
 /**
  * Flea 授权缓存，对外提供可缓存的授权数据查询API。
  *
+ * <p> 菜单和资源授权缓存由用户授权数据派生，缓存键以授权版本
+ * （参见 {@link FleaAuthIndex#getVersion()}）结尾。任一节点的授权关联变更后
+ * 授权版本更新，旧版本的缓存数据不再命中，由缓存过期时间清理，
+ * 不依赖任何节点内存中登记的缓存键。
+ *
  * @author huazie
  * @version 2.0.0
  * @since 2.0.0
@@ -50,7 +56,7 @@ public class FleaAuthCache {
      * @throws CommonException 通用异常
      * @since 2.0.0
      */
-    @Cacheable(value = "fleaauthmenu", key = "#accountId + '_' + #systemAccountId")
+    @Cacheable(value = "fleaauthmenu", key = "#accountId + '_' + #systemAccountId + '_' + @fleaAuthIndex.getVersion()")
     public List<FleaMenu> queryAllAccessibleMenus(Long accountId, Long systemAccountId) throws CommonException {
         return fleaAuthSV.queryAllAccessibleMenus(accountId, systemAccountId);
     }
@@ -66,7 +72,7 @@ public class FleaAuthCache {
      * @throws CommonException 通用异常
      * @since 2.0.0
      */
-    @Cacheable(value = "fleaauthresource", key = "#accountId + '_' + #systemAccountId + '_' + #resourceCode")
+    @Cacheable(value = "fleaauthresource", key = "#accountId + '_' + #systemAccountId + '_' + #resourceCode + '_' + @fleaAuthIndex.getVersion()")
     public boolean checkResourceAuth(Long accountId, Long systemAccountId, String resourceCode) throws CommonException {
         return this.fleaAuthSV.checkResourceAuth(accountId, systemAccountId, resourceCode);
     }
@@ -0,0 +1,182 @@
+package com.huazie.fleaframework.auth.cache.index;
+
+import com.huazie.fleaframework.common.util.ObjectUtils;
+import org.apache.commons.lang.builder.ToStringBuilder;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Flea 授权关联变更集，记录发生变更的用户、用户组、角色组、
+ * 角色、权限组和权限编号，同一编号多次变更只记录一次。
+ * 无法确定受影响编号的变更（如按条件批量更新），通过 {@link #addAllUsers()}
+ * 标记为全部用户受影响。
+ *
+ * <p> 变更集可被多个线程同时写入，{@link #drain()} 将当前记录的
+ * 变更转移到新的变更集中，转移期间新写入的变更留待下次转移。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public final class FleaAuthChanges {
+
+    private final Set<Long> userIds = newSet(); // 用户编号集
+
+    private final Set<Long> userGroupIds = newSet(); // 用户组编号集
+
+    private final Set<Long> roleGroupIds = newSet(); // 角色组编号集
+
+    private final Set<Long> roleIds = newSet(); // 角色编号集
+
+    private final Set<Long> privilegeGroupIds = newSet(); // 权限组编号集
+
+    private final Set<Long> privilegeIds = newSet(); // 权限编号集
+
+    private final AtomicBoolean allUsers = new AtomicBoolean(); // 是否全部用户受影响
+
+    public FleaAuthChanges addUser(Long userId) {
+        return add(userIds, userId);
+    }
+
+    public FleaAuthChanges addUserGroup(Long userGroupId) {
+        return add(userGroupIds, userGroupId);
+    }
+
+    public FleaAuthChanges addRoleGroup(Long roleGroupId) {
+        return add(roleGroupIds, roleGroupId);
+    }
+
+    public FleaAuthChanges addRole(Long roleId) {
+        return add(roleIds, roleId);
+    }
+
+    public FleaAuthChanges addPrivilegeGroup(Long privilegeGroupId) {
+        return add(privilegeGroupIds, privilegeGroupId);
+    }
+
+    public FleaAuthChanges addPrivilege(Long privilegeId) {
+        return add(privilegeIds, privilegeId);
+    }
+
+    /**
+     * 标记全部用户受影响
+     *
+     * @return 当前变更集
+     * @since 2.0.0
+     */
+    public FleaAuthChanges addAllUsers() {
+        allUsers.set(true);
+        return this;
+    }
+
+    /**
+     * 合并另一变更集中的全部变更
+     *
+     * @param changes 待合并的变更集
+     * @return 当前变更集
+     * @since 2.0.0
+     */
+    public FleaAuthChanges addAll(FleaAuthChanges changes) {
+        if (ObjectUtils.isNotEmpty(changes)) {
+            if (changes.isAllUsers()) {
+                allUsers.set(true);
+            }
+            userIds.addAll(changes.userIds);
+            userGroupIds.addAll(changes.userGroupIds);
+            roleGroupIds.addAll(changes.roleGroupIds);
+            roleIds.addAll(changes.roleIds);
+            privilegeGroupIds.addAll(changes.privilegeGroupIds);
+            privilegeIds.addAll(changes.privilegeIds);
+        }
+        return this;
+    }
+
+    /**
+     * 将当前记录的变更转移到新的变更集中
+     *
+     * @return 转移出的变更集
+     * @since 2.0.0
+     */
+    public FleaAuthChanges drain() {
+        FleaAuthChanges drained = new FleaAuthChanges();
+        drained.allUsers.set(allUsers.getAndSet(false));
+        drainTo(userIds, drained.userIds);
+        drainTo(userGroupIds, drained.userGroupIds);
+        drainTo(roleGroupIds, drained.roleGroupIds);
+        drainTo(roleIds, drained.roleIds);
+        drainTo(privilegeGroupIds, drained.privilegeGroupIds);
+        drainTo(privilegeIds, drained.privilegeIds);
+        return drained;
+    }
+
+    public boolean isAllUsers() {
+        return allUsers.get();
+    }
+
+    public Set<Long> getUserIds() {
+        return Collections.unmodifiableSet(userIds);
+    }
+
+    public Set<Long> getUserGroupIds() {
+        return Collections.unmodifiableSet(userGroupIds);
+    }
+
+    public Set<Long> getRoleGroupIds() {
+        return Collections.unmodifiableSet(roleGroupIds);
+    }
+
+    public Set<Long> getRoleIds() {
+        return Collections.unmodifiableSet(roleIds);
+    }
+
+    public Set<Long> getPrivilegeGroupIds() {
+        return Collections.unmodifiableSet(privilegeGroupIds);
+    }
+
+    public Set<Long> getPrivilegeIds() {
+        return Collections.unmodifiableSet(privilegeIds);
+    }
+
+    /**
+     * 获取变更的编号总数
+     *
+     * @return 变更的编号总数
+     * @since 2.0.0
+     */
+    public int size() {
+        return userIds.size() + userGroupIds.size() + roleGroupIds.size()
+                + roleIds.size() + privilegeGroupIds.size() + privilegeIds.size();
+    }
+
+    public boolean isEmpty() {
+        return !allUsers.get() && 0 == size();
+    }
+
+    private FleaAuthChanges add(Set<Long> ids, Long id) {
+        if (null != id) {
+            ids.add(id);
+        }
+        return this;
+    }
+
+    private static void drainTo(Set<Long> from, Set<Long> to) {
+        Iterator<Long> iterator = from.iterator();
+        while (iterator.hasNext()) {
+            to.add(iterator.next());
+            iterator.remove();
+        }
+    }
+
+    private static Set<Long> newSet() {
+        return Collections.newSetFromMap(new ConcurrentHashMap<Long, Boolean>());
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
@@ -0,0 +1,772 @@
+package com.huazie.fleaframework.auth.cache.index;
+
+import com.huazie.fleaframework.auth.common.AuthRelTypeEnum;
+import com.huazie.fleaframework.auth.common.FleaAuthConstants;
+import com.huazie.fleaframework.common.CommonConstants;
+import com.huazie.fleaframework.common.FleaConfigManager;
+import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.CollectionUtils;
+import com.huazie.fleaframework.common.util.ObjectUtils;
+import com.huazie.fleaframework.common.util.StringUtils;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.Resource;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Flea 授权索引，缓存用户的授权闭包，对外提供角色、权限、
+ * 菜单和资源的授权查询。
+ *
+ * <p> 用户的授权闭包按关联层级构建：用户组 → 用户（组）关联 → 角色组关联
+ * → 角色关联 → 权限组关联 → 权限关联，每一层级对上一层级得到的
+ * 全部编号发起一次批量 IN 查询，查询次数与关联数据量无关。
+ * 权限、菜单和资源编号经 {@link FleaIdInterner} 驻留后，以位图存储，
+ * 授权判断只需一次位运算。
+ *
+ * <p> 关联数据变更时，调用对应的失效方法，只移除依赖该关联数据的用户，
+ * 下次查询时重新构建。为避免构建期间发生的变更被覆盖，
+ * 每次失效都会递增修改版本号，构建完成后版本号发生变化的授权数据不会保留。
+ * 批量变更通过 {@link #invalidate(FleaAuthChanges)} 一次处理，
+ * 多个权限的变更只需对已缓存用户的权限位图扫描一次。
+ *
+ * <p> 失效只在本节点生效，为使其他节点的授权索引同步失效，处理变更后通过
+ * {@link #increaseVersion()} 更新分布式缓存【fleaauthversion】中的授权版本；
+ * 每个节点每隔【flea-auth-index/version_check_interval】毫秒检查一次授权版本，
+ * 与本地版本不一致时移除全部用户的授权数据。此外，用户授权数据构建后最多缓存
+ * 【flea-auth-index/ttl】毫秒，即使版本通知丢失（如分布式缓存不可用），
+ * 过期的授权数据也会在该时间后重新构建。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@Component("fleaAuthIndex")
+public class FleaAuthIndex {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaAuthIndex.class);
+
+    private final ConcurrentMap<Long, FleaUserAuth> users = new ConcurrentHashMap<>(); // 用户编号 => 用户授权数据
+
+    private final ConcurrentMap<Long, Set<Long>> userGroupUsers = new ConcurrentHashMap<>(); // 用户组编号 => 用户编号集
+
+    private final ConcurrentMap<Long, Set<Long>> roleGroupUsers = new ConcurrentHashMap<>(); // 角色组编号 => 用户编号集
+
+    private final ConcurrentMap<Long, Set<Long>> roleUsers = new ConcurrentHashMap<>(); // 角色编号 => 用户编号集
+
+    private final ConcurrentMap<Long, Set<Long>> privilegeGroupUsers = new ConcurrentHashMap<>(); // 权限组编号 => 用户编号集
+
+    private final FleaIdInterner privilegeInterner = new FleaIdInterner(); // 权限编号驻留器
+
+    private final FleaIdInterner menuInterner = new FleaIdInterner(); // 菜单编号驻留器
+
+    private final FleaIdInterner resourceInterner = new FleaIdInterner(); // 资源编号驻留器
+
+    private final AtomicLong modification = new AtomicLong(); // 修改版本号，每次失效递增
+
+    private final int maxUsers; // 最大缓存用户数
+
+    private final long ttl; // 用户授权数据最长缓存时间（毫秒）
+
+    private final long versionCheckInterval; // 授权版本检查间隔（毫秒）
+
+    private final AtomicLong nextVersionCheck = new AtomicLong(); // 下次检查授权版本的时间
+
+    private final Object versionLock = new Object(); // 授权版本锁
+
+    private volatile String version; // 本地授权版本
+
+    private IFleaAuthRelLoader fleaAuthRelLoader; // Flea 授权关联加载器
+
+    private CacheManager cacheManager; // Spring 缓存管理，用于读写分布式授权版本
+
+    public FleaAuthIndex() {
+        this.maxUsers = getConfigMaxUsers();
+        this.ttl = Math.max(1L, getConfigMillis(FleaAuthConstants.AuthIndexConstants.CONFIG_ITEM_TTL,
+                FleaAuthConstants.AuthIndexConstants.DEFAULT_TTL));
+        this.versionCheckInterval = getConfigMillis(FleaAuthConstants.AuthIndexConstants.CONFIG_ITEM_VERSION_CHECK_INTERVAL,
+                FleaAuthConstants.AuthIndexConstants.DEFAULT_VERSION_CHECK_INTERVAL);
+    }
+
+    public FleaAuthIndex(IFleaAuthRelLoader fleaAuthRelLoader, int maxUsers) {
+        this(fleaAuthRelLoader, null, maxUsers, FleaAuthConstants.AuthIndexConstants.DEFAULT_TTL,
+                FleaAuthConstants.AuthIndexConstants.DEFAULT_VERSION_CHECK_INTERVAL);
+    }
+
+    public FleaAuthIndex(IFleaAuthRelLoader fleaAuthRelLoader, CacheManager cacheManager, int maxUsers, long ttl, long versionCheckInterval) {
+        this.fleaAuthRelLoader = fleaAuthRelLoader;
+        this.cacheManager = cacheManager;
+        this.maxUsers = maxUsers;
+        this.ttl = Math.max(1L, ttl);
+        this.versionCheckInterval = Math.max(0L, versionCheckInterval);
+    }
+
+    @Resource(name = "fleaAuthRelLoader")
+    public void setFleaAuthRelLoader(IFleaAuthRelLoader fleaAuthRelLoader) {
+        this.fleaAuthRelLoader = fleaAuthRelLoader;
+    }
+
+    @Resource(name = "coreSpringCacheManager")
+    public void setCacheManager(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * 获取用户授权数据，未缓存时构建并缓存
+     *
+     * @param userId 用户编号
+     * @return 用户授权数据
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    public FleaUserAuth getUserAuth(Long userId) throws CommonException {
+        long now = System.currentTimeMillis();
+        checkVersion(now);
+        FleaUserAuth userAuth = users.get(userId);
+        if (ObjectUtils.isNotEmpty(userAuth)) {
+            if (!userAuth.isExpired(now, ttl)) {
+                return userAuth;
+            }
+            // 超过最长缓存时间，移除后重新构建
+            if (users.remove(userId, userAuth)) {
+                unregister(userAuth);
+            }
+        }
+        long version = modification.get();
+        userAuth = build(userId);
+        FleaUserAuth previous = users.putIfAbsent(userId, userAuth);
+        if (ObjectUtils.isNotEmpty(previous)) {
+            return previous;
+        }
+        register(userAuth);
+        if (version != modification.get()) {
+            // 构建期间关联数据发生变更，本次结果可以使用，但不能缓存
+            evict(userId);
+        } else if (users.size() > maxUsers) {
+            shrink();
+        }
+        return userAuth;
+    }
+
+    /**
+     * 获取用户的角色编号集
+     *
+     * @param userId 用户编号
+     * @return 角色编号集
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    public List<Long> getUserRoles(Long userId) throws CommonException {
+        return new ArrayList<>(getUserAuth(userId).getRoleIds());
+    }
+
+    /**
+     * 获取用户的权限编号集
+     *
+     * @param userId 用户编号
+     * @return 权限编号集
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    public List<Long> getUserPrivileges(Long userId) throws CommonException {
+        return getUserAuth(userId).getPrivilegeIds(privilegeInterner);
+    }
+
+    /**
+     * 判断用户是否拥有指定权限
+     *
+     * @param userId      用户编号
+     * @param privilegeId 权限编号
+     * @return true：拥有，false：未拥有
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    public boolean hasPrivilege(Long userId, Long privilegeId) throws CommonException {
+        return getUserAuth(userId).hasPrivilege(privilegeInterner.indexOf(privilegeId));
+    }
+
+    /**
+     * 判断用户是否可以访问指定菜单
+     *
+     * @param userId 用户编号
+     * @param menuId 菜单编号
+     * @return true：可以访问，false：不可以访问
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    public boolean hasMenu(Long userId, Long menuId) throws CommonException {
+        return getUserAuth(userId).hasMenu(menuInterner.indexOf(menuId));
+    }
+
+    /**
+     * 判断用户是否可以调用指定资源
+     *
+     * @param userId     用户编号
+     * @param resourceId 资源编号
+     * @return true：可以调用，false：不可以调用
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    public boolean hasResource(Long userId, Long resourceId) throws CommonException {
+        return getUserAuth(userId).hasResource(resourceInterner.indexOf(resourceId));
+    }
+
+    /**
+     * 过滤出用户可以访问的菜单编号
+     *
+     * @param userId     用户编号
+     * @param menuIdList 待过滤的菜单编号集
+     * @return 用户可以访问的菜单编号集，保持原有顺序
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    public List<Long> filterMenus(Long userId, List<Long> menuIdList) throws CommonException {
+        List<Long> accessibleMenuIdList = new ArrayList<>();
+        if (CollectionUtils.isEmpty(menuIdList)) {
+            return accessibleMenuIdList;
+        }
+        FleaUserAuth userAuth = getUserAuth(userId);
+        for (Long menuId : menuIdList) {
+            if (userAuth.hasMenu(menuInterner.indexOf(menuId))) {
+                accessibleMenuIdList.add(menuId);
+            }
+        }
+        return accessibleMenuIdList;
+    }
+
+    /**
+     * 用户关联或用户所属用户组变更，移除该用户的授权数据
+     *
+     * @param userId 用户编号
+     * @since 2.0.0
+     */
+    public void invalidateUser(Long userId) {
+        invalidate(new FleaAuthChanges().addUser(userId));
+    }
+
+    /**
+     * 用户组关联变更，移除该用户组下用户的授权数据
+     *
+     * @param userGroupId 用户组编号
+     * @since 2.0.0
+     */
+    public void invalidateUserGroup(Long userGroupId) {
+        invalidate(new FleaAuthChanges().addUserGroup(userGroupId));
+    }
+
+    /**
+     * 角色组关联变更，移除依赖该角色组的用户授权数据
+     *
+     * @param roleGroupId 角色组编号
+     * @since 2.0.0
+     */
+    public void invalidateRoleGroup(Long roleGroupId) {
+        invalidate(new FleaAuthChanges().addRoleGroup(roleGroupId));
+    }
+
+    /**
+     * 角色关联变更，移除拥有该角色的用户授权数据
+     *
+     * @param roleId 角色编号
+     * @since 2.0.0
+     */
+    public void invalidateRole(Long roleId) {
+        invalidate(new FleaAuthChanges().addRole(roleId));
+    }
+
+    /**
+     * 权限组关联变更，移除依赖该权限组的用户授权数据
+     *
+     * @param privilegeGroupId 权限组编号
+     * @since 2.0.0
+     */
+    public void invalidatePrivilegeGroup(Long privilegeGroupId) {
+        invalidate(new FleaAuthChanges().addPrivilegeGroup(privilegeGroupId));
+    }
+
+    /**
+     * 权限关联变更，移除拥有该权限的用户授权数据。
+     *
+     * <p> 单个用户的权限数可能较多，权限不单独记录依赖关系，
+     * 而是对已缓存用户的权限位图逐一做位运算。
+     *
+     * @param privilegeId 权限编号
+     * @since 2.0.0
+     */
+    public void invalidatePrivilege(Long privilegeId) {
+        invalidate(new FleaAuthChanges().addPrivilege(privilegeId));
+    }
+
+    /**
+     * 批量处理授权关联变更，移除依赖任一变更编号的用户授权数据，
+     * 修改版本号只递增一次。
+     *
+     * @param changes 授权关联变更集
+     * @return 被移除授权数据的用户编号集
+     * @since 2.0.0
+     */
+    public Set<Long> invalidate(FleaAuthChanges changes) {
+        Set<Long> affectedUserIds = new HashSet<>();
+        if (ObjectUtils.isEmpty(changes) || changes.isEmpty()) {
+            return affectedUserIds;
+        }
+        if (changes.isAllUsers()) {
+            affectedUserIds.addAll(users.keySet());
+            invalidateAll();
+            return affectedUserIds;
+        }
+        modification.incrementAndGet();
+
+        affectedUserIds.addAll(changes.getUserIds());
+        collectDependents(userGroupUsers, changes.getUserGroupIds(), affectedUserIds);
+        collectDependents(roleGroupUsers, changes.getRoleGroupIds(), affectedUserIds);
+        collectDependents(roleUsers, changes.getRoleIds(), affectedUserIds);
+        collectDependents(privilegeGroupUsers, changes.getPrivilegeGroupIds(), affectedUserIds);
+
+        // 变更的权限合并为一个位图，已缓存用户的权限位图只需扫描一次
+        BitSet changedPrivileges = new BitSet();
+        for (Long privilegeId : changes.getPrivilegeIds()) {
+            int index = privilegeInterner.indexOf(privilegeId);
+            if (index >= 0) {
+                changedPrivileges.set(index);
+            }
+        }
+        if (!changedPrivileges.isEmpty()) {
+            for (FleaUserAuth userAuth : users.values()) {
+                if (userAuth.getPrivileges().intersects(changedPrivileges)) {
+                    affectedUserIds.add(userAuth.getUserId());
+                }
+            }
+        }
+
+        Iterator<Long> iterator = affectedUserIds.iterator();
+        while (iterator.hasNext()) {
+            if (!evict(iterator.next())) {
+                iterator.remove();
+            }
+        }
+        return affectedUserIds;
+    }
+
+    /**
+     * 重新构建并缓存指定用户的授权数据
+     *
+     * @param userIds 用户编号集
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    public void refresh(Collection<Long> userIds) throws CommonException {
+        if (CollectionUtils.isEmpty(userIds)) {
+            return;
+        }
+        for (Long userId : userIds) {
+            getUserAuth(userId);
+        }
+    }
+
+    /**
+     * 移除全部用户的授权数据
+     *
+     * @since 2.0.0
+     */
+    public void invalidateAll() {
+        modification.incrementAndGet();
+        for (Long userId : users.keySet()) {
+            evict(userId);
+        }
+        userGroupUsers.clear();
+        roleGroupUsers.clear();
+        roleUsers.clear();
+        privilegeGroupUsers.clear();
+    }
+
+    /**
+     * 获取本地授权版本，获取前按检查间隔与分布式授权版本比对。
+     *
+     * <p> 授权版本在任一节点的授权关联变更后更新，
+     * 可作为授权派生数据缓存键的一部分，版本更新后旧的缓存数据不再命中。
+     *
+     * @return 本地授权版本，未启用分布式授权版本时为 null
+     * @since 2.0.0
+     */
+    public String getVersion() {
+        checkVersion(System.currentTimeMillis());
+        return version;
+    }
+
+    /**
+     * 更新分布式授权版本，通知其他节点移除全部用户的授权数据。
+     *
+     * <p> 本节点已按依赖关系完成失效，本地授权版本同步更新，
+     * 不会再移除本节点全部用户的授权数据。
+     *
+     * @return 更新后的本地授权版本
+     * @since 2.0.0
+     */
+    public String increaseVersion() {
+        Cache cache = getVersionCache();
+        if (ObjectUtils.isEmpty(cache)) {
+            return version;
+        }
+        synchronized (versionLock) {
+            String latest = UUID.randomUUID().toString();
+            try {
+                cache.put(FleaAuthConstants.AuthIndexConstants.AUTH_VERSION_KEY, latest);
+                version = latest;
+            } catch (Exception e) {
+                LOGGER.error1(new Object() {}, "更新分布式授权版本出现异常，其他节点的授权数据在【flea-auth-index/ttl】后重新构建：", e);
+            }
+            return version;
+        }
+    }
+
+    /**
+     * 获取已缓存的用户数
+     *
+     * @return 已缓存的用户数
+     * @since 2.0.0
+     */
+    public int size() {
+        return users.size();
+    }
+
+    /**
+     * 判断用户授权数据是否已缓存
+     *
+     * @param userId 用户编号
+     * @return true：已缓存，false：未缓存
+     * @since 2.0.0
+     */
+    public boolean contains(Long userId) {
+        return null != userId && users.containsKey(userId);
+    }
+
+    /**
+     * 获取修改版本号，每次失效递增。
+     *
+     * <p> 基于授权数据计算派生结果前后各获取一次，
+     * 两次不一致说明计算期间授权关联发生了变更。
+     *
+     * @return 修改版本号
+     * @since 2.0.0
+     */
+    public long getModification() {
+        return modification.get();
+    }
+
+    /**
+     * 按关联层级批量查询，构建用户授权闭包
+     *
+     * @param userId 用户编号
+     * @return 用户授权数据
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    private FleaUserAuth build(Long userId) throws CommonException {
+        Set<Long> userGroupIds = new LinkedHashSet<>();
+        Set<Long> roleGroupIds = new LinkedHashSet<>();
+        Set<Long> roleIds = new LinkedHashSet<>();
+        Set<Long> privilegeGroupIds = new LinkedHashSet<>();
+        Set<Long> privilegeIds = new LinkedHashSet<>();
+
+        // 用户所属用户组
+        for (FleaAuthRelation relation : fleaAuthRelLoader.getUserGroupRelUsers(userId)) {
+            addId(userGroupIds, relation.getOwnerId());
+        }
+        List<Long> userGroupIdList = new ArrayList<>(userGroupIds);
+
+        // 用户组关联角色组和角色
+        addRoleGroupRels(fleaAuthRelLoader.getUserGroupRels(userGroupIdList, AuthRelTypeEnum.USER_GROUP_REL_ROLE_GROUP.getRelType()), roleGroupIds, roleIds);
+        addRelIds(fleaAuthRelLoader.getUserGroupRels(userGroupIdList, AuthRelTypeEnum.USER_GROUP_REL_ROLE.getRelType()), roleIds);
+
+        // 用户关联角色组和角色
+        addRoleGroupRels(fleaAuthRelLoader.getUserRels(userId, AuthRelTypeEnum.USER_REL_ROLE_GROUP.getRelType()), roleGroupIds, roleIds);
+        addRelIds(fleaAuthRelLoader.getUserRels(userId, AuthRelTypeEnum.USER_REL_ROLE.getRelType()), roleIds);
+
+        // 角色组关联角色
+        addRelIds(fleaAuthRelLoader.getRoleGroupRels(new ArrayList<>(roleGroupIds), AuthRelTypeEnum.ROLE_GROUP_REL_ROLE.getRelType()), roleIds);
+
+        // 角色关联权限组和权限
+        List<Long> roleIdList = new ArrayList<>(roleIds);
+        for (FleaAuthRelation relation : fleaAuthRelLoader.getRoleRels(roleIdList, AuthRelTypeEnum.ROLE_REL_PRIVILEGE_GROUP.getRelType())) {
+            // 角色关联中rel_ext_a用于指定角色关联的权限组中实际指定的权限编号【存在多个，以逗号分隔】
+            if (StringUtils.isNotBlank(relation.getRelExtA())) {
+                addIds(privilegeIds, relation.getRelExtA());
+            } else { // 角色关联中rel_ext_a为空，则表示关联其权限组【rel_id = 权限组编号】下所有权限
+                addId(privilegeGroupIds, relation.getRelId());
+            }
+        }
+        addRelIds(fleaAuthRelLoader.getRoleRels(roleIdList, AuthRelTypeEnum.ROLE_REL_PRIVILEGE.getRelType()), privilegeIds);
+
+        // 权限组关联权限
+        addRelIds(fleaAuthRelLoader.getPrivilegeGroupRels(new ArrayList<>(privilegeGroupIds), AuthRelTypeEnum.PRIVILEGE_GROUP_REL_PRIVILEGE.getRelType()), privilegeIds);
+
+        // 权限关联菜单和资源
+        List<Long> privilegeIdList = new ArrayList<>(privilegeIds);
+        BitSet privileges = new BitSet();
+        for (Long privilegeId : privilegeIdList) {
+            privileges.set(privilegeInterner.intern(privilegeId));
+        }
+        BitSet menus = toBitSet(fleaAuthRelLoader.getPrivilegeRels(privilegeIdList, AuthRelTypeEnum.PRIVILEGE_REL_MENU.getRelType()), menuInterner);
+        BitSet resources = toBitSet(fleaAuthRelLoader.getPrivilegeRels(privilegeIdList, AuthRelTypeEnum.PRIVILEGE_REL_RESOURCE.getRelType()), resourceInterner);
+
+        LOGGER.debug1(new Object() {}, "UserId = {}, Roles = {}, Privileges = {}, Menus = {}, Resources = {}",
+                userId, roleIds.size(), privilegeIds.size(), menus.cardinality(), resources.cardinality());
+
+        return new FleaUserAuth(userId, roleIdList, privileges, menus, resources,
+                toArray(userGroupIds), toArray(roleGroupIds), toArray(privilegeGroupIds));
+    }
+
+    /**
+     * 处理用户（组）关联角色组数据
+     *
+     * @param relations    用户（组）关联角色组数据
+     * @param roleGroupIds 需展开的角色组编号集
+     * @param roleIds      角色编号集
+     * @since 2.0.0
+     */
+    private static void addRoleGroupRels(List<FleaAuthRelation> relations, Set<Long> roleGroupIds, Set<Long> roleIds) {
+        for (FleaAuthRelation relation : relations) {
+            // 用户（组）关联中rel_ext_a用于指定用户（组）关联的角色组中实际指定的角色编号【存在多个，以逗号分隔】
+            if (StringUtils.isNotBlank(relation.getRelExtA())) {
+                addIds(roleIds, relation.getRelExtA());
+            } else { // 用户（组）关联中rel_ext_a为空，表示关联其角色组【rel_id = 角色组编号】下所有角色
+                addId(roleGroupIds, relation.getRelId());
+            }
+        }
+    }
+
+    private static void addRelIds(List<FleaAuthRelation> relations, Set<Long> ids) {
+        for (FleaAuthRelation relation : relations) {
+            addId(ids, relation.getRelId());
+        }
+    }
+
+    private static void addId(Set<Long> ids, Long id) {
+        if (null != id) {
+            ids.add(id);
+        }
+    }
+
+    private static void addIds(Set<Long> ids, String idStr) {
+        String[] idArr = StringUtils.split(idStr, CommonConstants.SymbolConstants.COMMA);
+        if (ObjectUtils.isEmpty(idArr)) {
+            return;
+        }
+        for (String id : idArr) {
+            try {
+                ids.add(Long.valueOf(id.trim()));
+            } catch (NumberFormatException e) {
+                LOGGER.warn1(new Object() {}, "关联扩展字段A中的编号【{}】非法，已忽略", id);
+            }
+        }
+    }
+
+    private static BitSet toBitSet(List<FleaAuthRelation> relations, FleaIdInterner interner) {
+        BitSet bitSet = new BitSet();
+        for (FleaAuthRelation relation : relations) {
+            if (null != relation.getRelId()) {
+                bitSet.set(interner.intern(relation.getRelId()));
+            }
+        }
+        return bitSet;
+    }
+
+    private static long[] toArray(Collection<Long> ids) {
+        long[] idArr = new long[ids.size()];
+        int i = 0;
+        for (Long id : ids) {
+            idArr[i++] = id;
+        }
+        return idArr;
+    }
+
+    /**
+     * 记录用户授权数据依赖的用户组、角色组、角色和权限组
+     *
+     * @param userAuth 用户授权数据
+     * @since 2.0.0
+     */
+    private void register(FleaUserAuth userAuth) {
+        Long userId = userAuth.getUserId();
+        for (long userGroupId : userAuth.getUserGroupIds()) {
+            dependents(userGroupUsers, userGroupId).add(userId);
+        }
+        for (long roleGroupId : userAuth.getRoleGroupIds()) {
+            dependents(roleGroupUsers, roleGroupId).add(userId);
+        }
+        for (Long roleId : userAuth.getRoleIds()) {
+            dependents(roleUsers, roleId).add(userId);
+        }
+        for (long privilegeGroupId : userAuth.getPrivilegeGroupIds()) {
+            dependents(privilegeGroupUsers, privilegeGroupId).add(userId);
+        }
+    }
+
+    /**
+     * 移除用户授权数据，并清除其依赖记录
+     *
+     * @param userId 用户编号
+     * @return true：已移除，false：未缓存
+     * @since 2.0.0
+     */
+    private boolean evict(Long userId) {
+        FleaUserAuth userAuth = users.remove(userId);
+        if (ObjectUtils.isEmpty(userAuth)) {
+            return false;
+        }
+        unregister(userAuth);
+        return true;
+    }
+
+    /**
+     * 清除已移除用户授权数据的依赖记录
+     *
+     * @param userAuth 已移除的用户授权数据
+     * @since 2.0.0
+     */
+    private void unregister(FleaUserAuth userAuth) {
+        Long userId = userAuth.getUserId();
+        for (long userGroupId : userAuth.getUserGroupIds()) {
+            removeDependent(userGroupUsers, userGroupId, userId);
+        }
+        for (long roleGroupId : userAuth.getRoleGroupIds()) {
+            removeDependent(roleGroupUsers, roleGroupId, userId);
+        }
+        for (Long roleId : userAuth.getRoleIds()) {
+            removeDependent(roleUsers, roleId, userId);
+        }
+        for (long privilegeGroupId : userAuth.getPrivilegeGroupIds()) {
+            removeDependent(privilegeGroupUsers, privilegeGroupId, userId);
+        }
+    }
+
+    /**
+     * 按检查间隔比对分布式授权版本，与本地版本不一致时，
+     * 说明其他节点的授权关联发生了变更，移除全部用户的授权数据。
+     *
+     * <p> 读取分布式授权版本失败时保留本地授权数据，
+     * 由最长缓存时间【flea-auth-index/ttl】兜底。
+     *
+     * @param now 当前时间
+     * @since 2.0.0
+     */
+    private void checkVersion(long now) {
+        long next = nextVersionCheck.get();
+        if (now < next || !nextVersionCheck.compareAndSet(next, now + versionCheckInterval)) {
+            return;
+        }
+        Cache cache = getVersionCache();
+        if (ObjectUtils.isEmpty(cache)) {
+            return;
+        }
+        synchronized (versionLock) {
+            String latest;
+            try {
+                Cache.ValueWrapper valueWrapper = cache.get(FleaAuthConstants.AuthIndexConstants.AUTH_VERSION_KEY);
+                latest = ObjectUtils.isEmpty(valueWrapper) ? null : (String) valueWrapper.get();
+            } catch (Exception e) {
+                LOGGER.error1(new Object() {}, "读取分布式授权版本出现异常：", e);
+                return;
+            }
+            if (!Objects.equals(latest, version)) {
+                LOGGER.debug1(new Object() {}, "授权版本由【{}】变更为【{}】，移除全部用户的授权数据", version, latest);
+                // 先移除再更新版本，其他线程不会以新版本读取旧的授权数据
+                invalidateAll();
+                version = latest;
+            }
+        }
+    }
+
+    private Cache getVersionCache() {
+        if (ObjectUtils.isEmpty(cacheManager)) {
+            return null;
+        }
+        return cacheManager.getCache(FleaAuthConstants.AuthIndexConstants.CACHE_AUTH_VERSION);
+    }
+
+    private static void collectDependents(Map<Long, Set<Long>> dependentsMap, Set<Long> ids, Set<Long> userIds) {
+        for (Long id : ids) {
+            Set<Long> dependents = dependentsMap.get(id);
+            if (null != dependents) {
+                userIds.addAll(dependents);
+            }
+        }
+    }
+
+    /**
+     * 缓存用户数超过上限时，淘汰部分用户，为新用户腾出空间
+     *
+     * @since 2.0.0
+     */
+    private void shrink() {
+        int excess = users.size() - maxUsers + Math.max(1, maxUsers >> 4);
+        Iterator<Long> iterator = users.keySet().iterator();
+        while (excess-- > 0 && iterator.hasNext()) {
+            evict(iterator.next());
+        }
+    }
+
+    private static Set<Long> dependents(ConcurrentMap<Long, Set<Long>> dependentsMap, Long id) {
+        Set<Long> userIds = dependentsMap.get(id);
+        if (null == userIds) {
+            Set<Long> newUserIds = Collections.newSetFromMap(new ConcurrentHashMap<Long, Boolean>());
+            userIds = dependentsMap.putIfAbsent(id, newUserIds);
+            if (null == userIds) {
+                userIds = newUserIds;
+            }
+        }
+        return userIds;
+    }
+
+    private static void removeDependent(Map<Long, Set<Long>> dependentsMap, Long id, Long userId) {
+        Set<Long> userIds = dependentsMap.get(id);
+        if (null != userIds) {
+            userIds.remove(userId);
+        }
+    }
+
+    private static long getConfigMillis(String itemKey, long defaultValue) {
+        long result = defaultValue;
+        String millis = FleaConfigManager.getConfigItemValue(FleaAuthConstants.AuthIndexConstants.FLEA_AUTH_INDEX, itemKey);
+        if (StringUtils.isNotBlank(millis)) {
+            try {
+                result = Math.max(0L, Long.parseLong(millis.trim()));
+            } catch (NumberFormatException e) {
+                LOGGER.warn1(new Object() {}, "配置【flea-auth-index/{} = {}】非法，使用默认值", itemKey, millis);
+            }
+        }
+        return result;
+    }
+
+    private static int getConfigMaxUsers() {
+        int result = FleaAuthConstants.AuthIndexConstants.DEFAULT_MAX_USERS;
+        String maxUsers = FleaConfigManager.getConfigItemValue(FleaAuthConstants.AuthIndexConstants.FLEA_AUTH_INDEX,
+                FleaAuthConstants.AuthIndexConstants.CONFIG_ITEM_MAX_USERS);
+        if (StringUtils.isNotBlank(maxUsers)) {
+            try {
+                result = Math.max(1, Integer.parseInt(maxUsers.trim()));
+            } catch (NumberFormatException e) {
+                LOGGER.warn1(new Object() {}, "配置【flea-auth-index/max_users = {}】非法，使用默认值", maxUsers);
+            }
+        }
+        return result;
+    }
+}
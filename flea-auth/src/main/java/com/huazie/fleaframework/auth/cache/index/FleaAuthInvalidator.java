@@ -0,0 +1,282 @@
+package com.huazie.fleaframework.auth.cache.index;
+
+import com.huazie.fleaframework.auth.common.FleaAuthConstants;
+import com.huazie.fleaframework.common.FleaConfigManager;
+import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.ObjectUtils;
+import com.huazie.fleaframework.common.util.StringUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import javax.annotation.Resource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flea 授权失效处理器，按依赖关系增量失效授权索引和授权缓存。
+ *
+ * <p> 授权关联变更通过 {@link #submit(FleaAuthChanges)} 提交，存在事务时
+ * 在事务提交后才生效。变更先合并到待处理变更集，在防抖延迟
+ * 【flea-auth-index/debounce_delay】内没有新的变更时统一处理；
+ * 持续变更时，最迟在首个变更后的最大防抖延迟
+ * 【flea-auth-index/max_debounce_delay】处理，批量管理操作只触发一次失效。
+ *
+ * <p> 本节点失效后更新分布式授权版本（参见 {@link FleaAuthIndex#increaseVersion()}），
+ * 其他节点检查到版本变化后移除全部用户的授权数据；菜单和资源授权缓存
+ * （{@code fleaauthmenu}、{@code fleaauthresource}）的缓存键包含授权版本，
+ * 版本更新后旧的缓存数据不再命中。
+ *
+ * <p> 失效后立即重新构建的用户数由【flea-auth-index/refresh_limit】指定，
+ * 默认只移除，下次查询时重新构建。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@Component("fleaAuthInvalidator")
+public class FleaAuthInvalidator {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaAuthInvalidator.class);
+
+    private final FleaAuthChanges pendingChanges = new FleaAuthChanges(); // 待处理的授权关联变更
+
+    private final Object scheduleLock = new Object(); // 调度锁
+
+    private final Object flushLock = new Object(); // 处理锁
+
+    private final long debounceDelay; // 防抖延迟（毫秒）
+
+    private final long maxDebounceDelay; // 最大防抖延迟（毫秒）
+
+    private final int refreshLimit; // 失效后立即重新构建的最大用户数
+
+    private ScheduledExecutorService scheduler; // 失效处理线程，仅在持有调度锁时访问
+
+    private ScheduledFuture<?> scheduledFlush; // 已调度的失效处理，仅在持有调度锁时访问
+
+    private long firstPendingTime; // 首个待处理变更的时间，仅在持有调度锁时访问
+
+    private boolean destroyed; // 是否已关闭，仅在持有调度锁时访问
+
+    private FleaAuthIndex fleaAuthIndex; // Flea 授权索引
+
+    public FleaAuthInvalidator() {
+        this.debounceDelay = getConfigDelay(FleaAuthConstants.AuthIndexConstants.CONFIG_ITEM_DEBOUNCE_DELAY,
+                FleaAuthConstants.AuthIndexConstants.DEFAULT_DEBOUNCE_DELAY);
+        this.maxDebounceDelay = Math.max(debounceDelay, getConfigDelay(FleaAuthConstants.AuthIndexConstants.CONFIG_ITEM_MAX_DEBOUNCE_DELAY,
+                FleaAuthConstants.AuthIndexConstants.DEFAULT_MAX_DEBOUNCE_DELAY));
+        this.refreshLimit = getConfigRefreshLimit();
+    }
+
+    public FleaAuthInvalidator(FleaAuthIndex fleaAuthIndex, long debounceDelay, long maxDebounceDelay, int refreshLimit) {
+        this.debounceDelay = Math.max(0L, debounceDelay);
+        this.maxDebounceDelay = Math.max(this.debounceDelay, maxDebounceDelay);
+        this.refreshLimit = Math.max(0, refreshLimit);
+        this.fleaAuthIndex = fleaAuthIndex;
+    }
+
+    @Resource(name = "fleaAuthIndex")
+    public void setFleaAuthIndex(FleaAuthIndex fleaAuthIndex) {
+        this.fleaAuthIndex = fleaAuthIndex;
+    }
+
+    public void userChanged(Long userId) {
+        submit(new FleaAuthChanges().addUser(userId));
+    }
+
+    public void userGroupChanged(Long userGroupId) {
+        submit(new FleaAuthChanges().addUserGroup(userGroupId));
+    }
+
+    public void roleGroupChanged(Long roleGroupId) {
+        submit(new FleaAuthChanges().addRoleGroup(roleGroupId));
+    }
+
+    public void roleChanged(Long roleId) {
+        submit(new FleaAuthChanges().addRole(roleId));
+    }
+
+    public void privilegeGroupChanged(Long privilegeGroupId) {
+        submit(new FleaAuthChanges().addPrivilegeGroup(privilegeGroupId));
+    }
+
+    public void privilegeChanged(Long privilegeId) {
+        submit(new FleaAuthChanges().addPrivilege(privilegeId));
+    }
+
+    /**
+     * 提交授权关联变更。
+     *
+     * <p> 当前线程存在事务时，事务提交后才加入待处理变更集，
+     * 事务回滚则丢弃；否则直接加入待处理变更集。
+     *
+     * @param changes 授权关联变更集
+     * @since 2.0.0
+     */
+    public void submit(final FleaAuthChanges changes) {
+        if (ObjectUtils.isEmpty(changes) || changes.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    enqueue(changes);
+                }
+            });
+        } else {
+            enqueue(changes);
+        }
+    }
+
+    /**
+     * 立即处理全部待处理的变更
+     *
+     * @return 被移除授权数据的用户数
+     * @since 2.0.0
+     */
+    public int flush() {
+        synchronized (flushLock) {
+            synchronized (scheduleLock) {
+                firstPendingTime = 0L;
+            }
+            FleaAuthChanges changes = pendingChanges.drain();
+            Set<Long> affectedUserIds = fleaAuthIndex.invalidate(changes);
+            if (!changes.isEmpty()) {
+                // 更新授权版本，通知其他节点失效，并使旧版本的菜单和资源授权缓存不再命中
+                String version = fleaAuthIndex.increaseVersion();
+                LOGGER.debug1(new Object() {}, "Changes = {}, AffectedUsers = {}, Version = {}",
+                        changes.size(), affectedUserIds.size(), version);
+            }
+            refresh(affectedUserIds);
+            return affectedUserIds.size();
+        }
+    }
+
+    /**
+     * 关闭失效处理线程，未处理的变更立即处理
+     *
+     * @since 2.0.0
+     */
+    @PreDestroy
+    public void destroy() {
+        synchronized (scheduleLock) {
+            destroyed = true;
+            if (ObjectUtils.isNotEmpty(scheduler)) {
+                scheduler.shutdownNow();
+                scheduler = null;
+            }
+        }
+        flush();
+    }
+
+    private void enqueue(FleaAuthChanges changes) {
+        pendingChanges.addAll(changes);
+        schedule();
+    }
+
+    /**
+     * 重新构建部分受影响用户的授权数据，数量不超过【flea-auth-index/refresh_limit】
+     *
+     * @param affectedUserIds 受影响的用户编号集
+     * @since 2.0.0
+     */
+    private void refresh(Set<Long> affectedUserIds) {
+        if (refreshLimit <= 0 || affectedUserIds.isEmpty()) {
+            return;
+        }
+        List<Long> userIds = new ArrayList<>(Math.min(refreshLimit, affectedUserIds.size()));
+        for (Long userId : affectedUserIds) {
+            if (userIds.size() >= refreshLimit) break;
+            userIds.add(userId);
+        }
+        try {
+            fleaAuthIndex.refresh(userIds);
+        } catch (CommonException e) {
+            LOGGER.error1(new Object() {}, "重新构建用户授权数据出现异常：", e);
+        }
+    }
+
+    /**
+     * 调度失效处理：在防抖延迟后处理，已调度的处理顺延，
+     * 但距首个待处理变更不超过最大防抖延迟。
+     *
+     * @since 2.0.0
+     */
+    private void schedule() {
+        synchronized (scheduleLock) {
+            if (destroyed) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            if (0L == firstPendingTime) {
+                firstPendingTime = now;
+            }
+            long delay = Math.min(debounceDelay, Math.max(0L, firstPendingTime + maxDebounceDelay - now));
+            if (ObjectUtils.isNotEmpty(scheduledFlush)) {
+                scheduledFlush.cancel(false);
+            }
+            scheduledFlush = getScheduler().schedule(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        flush();
+                    } catch (Exception e) {
+                        LOGGER.error1(new Object() {}, "授权失效处理出现异常：", e);
+                    }
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private ScheduledExecutorService getScheduler() {
+        if (ObjectUtils.isEmpty(scheduler)) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "flea-auth-invalidator");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return scheduler;
+    }
+
+    private static long getConfigDelay(String itemKey, long defaultValue) {
+        long result = defaultValue;
+        String delay = FleaConfigManager.getConfigItemValue(FleaAuthConstants.AuthIndexConstants.FLEA_AUTH_INDEX, itemKey);
+        if (StringUtils.isNotBlank(delay)) {
+            try {
+                result = Math.max(0L, Long.parseLong(delay.trim()));
+            } catch (NumberFormatException e) {
+                LOGGER.warn1(new Object() {}, "配置【flea-auth-index/{} = {}】非法，使用默认值", itemKey, delay);
+            }
+        }
+        return result;
+    }
+
+    private static int getConfigRefreshLimit() {
+        int result = FleaAuthConstants.AuthIndexConstants.DEFAULT_REFRESH_LIMIT;
+        String refreshLimit = FleaConfigManager.getConfigItemValue(FleaAuthConstants.AuthIndexConstants.FLEA_AUTH_INDEX,
+                FleaAuthConstants.AuthIndexConstants.CONFIG_ITEM_REFRESH_LIMIT);
+        if (StringUtils.isNotBlank(refreshLimit)) {
+            try {
+                result = Math.max(0, Integer.parseInt(refreshLimit.trim()));
+            } catch (NumberFormatException e) {
+                LOGGER.warn1(new Object() {}, "配置【flea-auth-index/refresh_limit = {}】非法，使用默认值", refreshLimit);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,220 @@
+package com.huazie.fleaframework.auth.cache.index;
+
+import com.huazie.fleaframework.auth.base.privilege.dao.interfaces.IFleaPrivilegeGroupRelDAO;
+import com.huazie.fleaframework.auth.base.privilege.dao.interfaces.IFleaPrivilegeRelDAO;
+import com.huazie.fleaframework.auth.base.privilege.entity.FleaPrivilegeGroupRel;
+import com.huazie.fleaframework.auth.base.privilege.entity.FleaPrivilegeRel;
+import com.huazie.fleaframework.auth.base.role.dao.interfaces.IFleaRoleGroupRelDAO;
+import com.huazie.fleaframework.auth.base.role.dao.interfaces.IFleaRoleRelDAO;
+import com.huazie.fleaframework.auth.base.role.entity.FleaRoleGroupRel;
+import com.huazie.fleaframework.auth.base.role.entity.FleaRoleRel;
+import com.huazie.fleaframework.auth.base.user.dao.interfaces.IFleaUserGroupRelDAO;
+import com.huazie.fleaframework.auth.base.user.dao.interfaces.IFleaUserRelDAO;
+import com.huazie.fleaframework.auth.base.user.entity.FleaUserGroupRel;
+import com.huazie.fleaframework.auth.base.user.entity.FleaUserRel;
+import com.huazie.fleaframework.auth.common.AuthRelTypeEnum;
+import com.huazie.fleaframework.auth.common.FleaAuthConstants;
+import com.huazie.fleaframework.common.FleaConfigManager;
+import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.CollectionUtils;
+import com.huazie.fleaframework.common.util.ObjectUtils;
+import com.huazie.fleaframework.common.util.StringUtils;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.Resource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Flea 授权关联加载器，基于各授权关联DAO的批量 IN 查询实现。
+ *
+ * <p> 授权关联服务在写入时依赖授权失效处理器，后者依赖授权索引和本加载器，
+ * 因此本加载器直接使用DAO，不依赖授权关联服务。
+ *
+ * <p> 编号集超过单批最大编号数【flea-auth-index/in_batch_size】时，
+ * 拆分为多次查询，避免超出数据库对 IN 参数个数的限制。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@Component("fleaAuthRelLoader")
+public class FleaAuthRelLoader implements IFleaAuthRelLoader {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaAuthRelLoader.class);
+
+    private final int batchSize = getConfigBatchSize(); // 单批最大编号数
+
+    private IFleaUserGroupRelDAO fleaUserGroupRelDao; // Flea用户组关联DAO
+
+    private IFleaUserRelDAO fleaUserRelDao; // Flea用户关联DAO
+
+    private IFleaRoleGroupRelDAO fleaRoleGroupRelDao; // Flea角色组关联DAO
+
+    private IFleaRoleRelDAO fleaRoleRelDao; // Flea角色关联DAO
+
+    private IFleaPrivilegeGroupRelDAO fleaPrivilegeGroupRelDao; // Flea权限组关联DAO
+
+    private IFleaPrivilegeRelDAO fleaPrivilegeRelDao; // Flea权限关联DAO
+
+    @Resource(name = "fleaUserGroupRelDAO")
+    public void setFleaUserGroupRelDao(IFleaUserGroupRelDAO fleaUserGroupRelDao) {
+        this.fleaUserGroupRelDao = fleaUserGroupRelDao;
+    }
+
+    @Resource(name = "fleaUserRelDAO")
+    public void setFleaUserRelDao(IFleaUserRelDAO fleaUserRelDao) {
+        this.fleaUserRelDao = fleaUserRelDao;
+    }
+
+    @Resource(name = "fleaRoleGroupRelDAO")
+    public void setFleaRoleGroupRelDao(IFleaRoleGroupRelDAO fleaRoleGroupRelDao) {
+        this.fleaRoleGroupRelDao = fleaRoleGroupRelDao;
+    }
+
+    @Resource(name = "fleaRoleRelDAO")
+    public void setFleaRoleRelDao(IFleaRoleRelDAO fleaRoleRelDao) {
+        this.fleaRoleRelDao = fleaRoleRelDao;
+    }
+
+    @Resource(name = "fleaPrivilegeGroupRelDAO")
+    public void setFleaPrivilegeGroupRelDao(IFleaPrivilegeGroupRelDAO fleaPrivilegeGroupRelDao) {
+        this.fleaPrivilegeGroupRelDao = fleaPrivilegeGroupRelDao;
+    }
+
+    @Resource(name = "fleaPrivilegeRelDAO")
+    public void setFleaPrivilegeRelDao(IFleaPrivilegeRelDAO fleaPrivilegeRelDao) {
+        this.fleaPrivilegeRelDao = fleaPrivilegeRelDao;
+    }
+
+    @Override
+    public List<FleaAuthRelation> getUserGroupRelUsers(Long userId) throws CommonException {
+        List<FleaAuthRelation> relations = new ArrayList<>();
+        List<FleaUserGroupRel> userGroupRels = fleaUserGroupRelDao.getUserGroupRelList(null, userId, AuthRelTypeEnum.USER_GROUP_REL_USER.getRelType());
+        if (CollectionUtils.isNotEmpty(userGroupRels)) {
+            for (FleaUserGroupRel userGroupRel : userGroupRels) {
+                if (ObjectUtils.isEmpty(userGroupRel)) continue;
+                relations.add(new FleaAuthRelation(userGroupRel.getUserGroupId(), userGroupRel.getRelId(), userGroupRel.getRelExtA()));
+            }
+        }
+        return relations;
+    }
+
+    @Override
+    public List<FleaAuthRelation> getUserRels(Long userId, String authRelType) throws CommonException {
+        List<FleaAuthRelation> relations = new ArrayList<>();
+        List<FleaUserRel> userRels = fleaUserRelDao.getUserRelList(userId, authRelType);
+        if (CollectionUtils.isNotEmpty(userRels)) {
+            for (FleaUserRel userRel : userRels) {
+                if (ObjectUtils.isEmpty(userRel)) continue;
+                relations.add(new FleaAuthRelation(userRel.getUserId(), userRel.getRelId(), userRel.getRelExtA()));
+            }
+        }
+        return relations;
+    }
+
+    @Override
+    public List<FleaAuthRelation> getUserGroupRels(List<Long> userGroupIdList, String authRelType) throws CommonException {
+        List<FleaAuthRelation> relations = new ArrayList<>();
+        for (List<Long> batch : split(userGroupIdList)) {
+            List<FleaUserGroupRel> userGroupRels = fleaUserGroupRelDao.getUserGroupRelList(batch, authRelType);
+            if (CollectionUtils.isEmpty(userGroupRels)) continue;
+            for (FleaUserGroupRel userGroupRel : userGroupRels) {
+                if (ObjectUtils.isEmpty(userGroupRel)) continue;
+                relations.add(new FleaAuthRelation(userGroupRel.getUserGroupId(), userGroupRel.getRelId(), userGroupRel.getRelExtA()));
+            }
+        }
+        return relations;
+    }
+
+    @Override
+    public List<FleaAuthRelation> getRoleGroupRels(List<Long> roleGroupIdList, String authRelType) throws CommonException {
+        List<FleaAuthRelation> relations = new ArrayList<>();
+        for (List<Long> batch : split(roleGroupIdList)) {
+            List<FleaRoleGroupRel> roleGroupRels = fleaRoleGroupRelDao.getRoleGroupRelList(batch, authRelType);
+            if (CollectionUtils.isEmpty(roleGroupRels)) continue;
+            for (FleaRoleGroupRel roleGroupRel : roleGroupRels) {
+                if (ObjectUtils.isEmpty(roleGroupRel)) continue;
+                relations.add(new FleaAuthRelation(roleGroupRel.getRoleGroupId(), roleGroupRel.getRelId(), roleGroupRel.getRelExtA()));
+            }
+        }
+        return relations;
+    }
+
+    @Override
+    public List<FleaAuthRelation> getRoleRels(List<Long> roleIdList, String authRelType) throws CommonException {
+        List<FleaAuthRelation> relations = new ArrayList<>();
+        for (List<Long> batch : split(roleIdList)) {
+            List<FleaRoleRel> roleRels = fleaRoleRelDao.getRoleRelList(batch, authRelType);
+            if (CollectionUtils.isEmpty(roleRels)) continue;
+            for (FleaRoleRel roleRel : roleRels) {
+                if (ObjectUtils.isEmpty(roleRel)) continue;
+                relations.add(new FleaAuthRelation(roleRel.getRoleId(), roleRel.getRelId(), roleRel.getRelExtA()));
+            }
+        }
+        return relations;
+    }
+
+    @Override
+    public List<FleaAuthRelation> getPrivilegeGroupRels(List<Long> privilegeGroupIdList, String authRelType) throws CommonException {
+        List<FleaAuthRelation> relations = new ArrayList<>();
+        for (List<Long> batch : split(privilegeGroupIdList)) {
+            List<FleaPrivilegeGroupRel> privilegeGroupRels = fleaPrivilegeGroupRelDao.getPrivilegeGroupRelList(batch, authRelType);
+            if (CollectionUtils.isEmpty(privilegeGroupRels)) continue;
+            for (FleaPrivilegeGroupRel privilegeGroupRel : privilegeGroupRels) {
+                if (ObjectUtils.isEmpty(privilegeGroupRel)) continue;
+                relations.add(new FleaAuthRelation(privilegeGroupRel.getPrivilegeGroupId(), privilegeGroupRel.getRelId(), privilegeGroupRel.getRelExtA()));
+            }
+        }
+        return relations;
+    }
+
+    @Override
+    public List<FleaAuthRelation> getPrivilegeRels(List<Long> privilegeIdList, String authRelType) throws CommonException {
+        List<FleaAuthRelation> relations = new ArrayList<>();
+        for (List<Long> batch : split(privilegeIdList)) {
+            // 权限关联的批量查询对空编号集不加过滤条件，须保证编号集非空
+            List<FleaPrivilegeRel> privilegeRels = fleaPrivilegeRelDao.getPrivilegeRelList(batch, authRelType);
+            if (CollectionUtils.isEmpty(privilegeRels)) continue;
+            for (FleaPrivilegeRel privilegeRel : privilegeRels) {
+                if (ObjectUtils.isEmpty(privilegeRel)) continue;
+                relations.add(new FleaAuthRelation(privilegeRel.getPrivilegeId(), privilegeRel.getRelId(), privilegeRel.getRelExtA()));
+            }
+        }
+        return relations;
+    }
+
+    /**
+     * 按单批最大编号数拆分编号集，编号集为空时返回空集
+     *
+     * @param idList 编号集
+     * @return 拆分后的编号集
+     * @since 2.0.0
+     */
+    private List<List<Long>> split(List<Long> idList) {
+        List<List<Long>> batches = new ArrayList<>();
+        if (CollectionUtils.isEmpty(idList)) {
+            return batches;
+        }
+        for (int from = 0; from < idList.size(); from += batchSize) {
+            batches.add(idList.subList(from, Math.min(from + batchSize, idList.size())));
+        }
+        return batches;
+    }
+
+    private static int getConfigBatchSize() {
+        int result = FleaAuthConstants.AuthIndexConstants.DEFAULT_IN_BATCH_SIZE;
+        String batchSize = FleaConfigManager.getConfigItemValue(FleaAuthConstants.AuthIndexConstants.FLEA_AUTH_INDEX,
+                FleaAuthConstants.AuthIndexConstants.CONFIG_ITEM_IN_BATCH_SIZE);
+        if (StringUtils.isNotBlank(batchSize)) {
+            try {
+                result = Math.max(1, Integer.parseInt(batchSize.trim()));
+            } catch (NumberFormatException e) {
+                LOGGER.warn1(new Object() {}, "配置【flea-auth-index/in_batch_size = {}】非法，使用默认值", batchSize);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,43 @@
+package com.huazie.fleaframework.auth.cache.index;
+
+import org.apache.commons.lang.builder.ToStringBuilder;
+
+/**
+ * Flea 授权关联，授权索引构建时使用的关联数据，
+ * 屏蔽用户、用户组、角色、角色组、权限和权限组关联实体的差异。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public final class FleaAuthRelation {
+
+    private final Long ownerId; // 关联所属编号【用户、用户组、角色、角色组、权限、权限组编号】
+
+    private final Long relId; // 关联编号
+
+    private final String relExtA; // 关联扩展字段A
+
+    public FleaAuthRelation(Long ownerId, Long relId, String relExtA) {
+        this.ownerId = ownerId;
+        this.relId = relId;
+        this.relExtA = relExtA;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public Long getRelId() {
+        return relId;
+    }
+
+    public String getRelExtA() {
+        return relExtA;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
@@ -0,0 +1,89 @@
+package com.huazie.fleaframework.auth.cache.index;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Flea 编号驻留器，将稀疏的 Long 编号映射为从 0 开始连续的 int 序号，
+ * 用作 {@link java.util.BitSet} 中的二进制位。
+ *
+ * <p> 编号只增不删，同一编号的序号在驻留器的生命周期内保持不变；
+ * 新增编号时加锁，查找序号和根据序号获取编号均无锁。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaIdInterner {
+
+    private final ConcurrentMap<Long, Integer> indexMap = new ConcurrentHashMap<>(); // 编号 => 序号
+
+    private volatile long[] ids = new long[64]; // 序号 => 编号
+
+    private int size; // 已驻留的编号数，仅在加锁时修改
+
+    /**
+     * 获取编号的序号，编号不存在时分配新的序号
+     *
+     * @param id 编号
+     * @return 序号
+     * @since 2.0.0
+     */
+    public int intern(Long id) {
+        Integer index = indexMap.get(id);
+        if (null != index) {
+            return index;
+        }
+        synchronized (this) {
+            index = indexMap.get(id);
+            if (null == index) {
+                long[] current = ids;
+                if (size == current.length) {
+                    current = Arrays.copyOf(current, size << 1);
+                }
+                current[size] = id;
+                ids = current; // 先发布编号，再发布序号
+                index = size++;
+                indexMap.put(id, index);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * 获取编号的序号，不分配新的序号
+     *
+     * @param id 编号
+     * @return 序号，编号不存在时返回 -1
+     * @since 2.0.0
+     */
+    public int indexOf(Long id) {
+        if (null == id) {
+            return -1;
+        }
+        Integer index = indexMap.get(id);
+        return null == index ? -1 : index;
+    }
+
+    /**
+     * 根据序号获取编号
+     *
+     * @param index 序号，须由 {@link #intern(Long)} 返回
+     * @return 编号
+     * @since 2.0.0
+     */
+    public long idAt(int index) {
+        return ids[index];
+    }
+
+    /**
+     * 获取已驻留的编号数
+     *
+     * @return 已驻留的编号数
+     * @since 2.0.0
+     */
+    public int size() {
+        return indexMap.size();
+    }
+}
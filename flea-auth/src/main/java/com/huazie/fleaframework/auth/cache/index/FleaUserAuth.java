@@ -0,0 +1,122 @@
+package com.huazie.fleaframework.auth.cache.index;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Flea 用户授权数据，用户经用户组、角色组、角色、权限组到权限的
+ * 授权闭包，构建后不可修改。
+ *
+ * <p> 权限、菜单和资源以驻留序号为二进制位，存储为位图，
+ * 判断用户是否拥有某一权限、菜单或资源只需一次位运算。
+ * 同时记录构建该闭包时依赖的用户组、角色组、角色、权限组和权限编号，
+ * 用于关联数据变更时定位受影响的用户。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public final class FleaUserAuth {
+
+    private final Long userId; // 用户编号
+
+    private final List<Long> roleIds; // 角色编号集
+
+    private final BitSet privileges; // 权限位图
+
+    private final BitSet menus; // 菜单位图
+
+    private final BitSet resources; // 资源位图
+
+    private final long[] userGroupIds; // 依赖的用户组编号
+
+    private final long[] roleGroupIds; // 依赖的角色组编号
+
+    private final long[] privilegeGroupIds; // 依赖的权限组编号
+
+    private final long buildTime; // 构建时间
+
+    FleaUserAuth(Long userId, List<Long> roleIds, BitSet privileges, BitSet menus, BitSet resources,
+                 long[] userGroupIds, long[] roleGroupIds, long[] privilegeGroupIds) {
+        this.userId = userId;
+        this.roleIds = Collections.unmodifiableList(new ArrayList<>(roleIds));
+        this.privileges = privileges;
+        this.menus = menus;
+        this.resources = resources;
+        this.userGroupIds = userGroupIds;
+        this.roleGroupIds = roleGroupIds;
+        this.privilegeGroupIds = privilegeGroupIds;
+        this.buildTime = System.currentTimeMillis();
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    /**
+     * 获取角色编号集，不可修改
+     *
+     * @return 角色编号集
+     * @since 2.0.0
+     */
+    public List<Long> getRoleIds() {
+        return roleIds;
+    }
+
+    /**
+     * 获取权限编号集
+     *
+     * @param privilegeInterner 权限编号驻留器
+     * @return 权限编号集
+     * @since 2.0.0
+     */
+    List<Long> getPrivilegeIds(FleaIdInterner privilegeInterner) {
+        List<Long> privilegeIds = new ArrayList<>(privileges.cardinality());
+        for (int i = privileges.nextSetBit(0); i >= 0; i = privileges.nextSetBit(i + 1)) {
+            privilegeIds.add(privilegeInterner.idAt(i));
+        }
+        return privilegeIds;
+    }
+
+    boolean hasPrivilege(int index) {
+        return index >= 0 && privileges.get(index);
+    }
+
+    boolean hasMenu(int index) {
+        return index >= 0 && menus.get(index);
+    }
+
+    boolean hasResource(int index) {
+        return index >= 0 && resources.get(index);
+    }
+
+    BitSet getPrivileges() {
+        return privileges;
+    }
+
+    long[] getUserGroupIds() {
+        return userGroupIds;
+    }
+
+    long[] getRoleGroupIds() {
+        return roleGroupIds;
+    }
+
+    long[] getPrivilegeGroupIds() {
+        return privilegeGroupIds;
+    }
+
+    /**
+     * 判断构建后是否已超过最长缓存时间
+     *
+     * @param now 当前时间
+     * @param ttl 最长缓存时间（毫秒）
+     * @return true：已超过，false：未超过
+     * @since 2.0.0
+     */
+    boolean isExpired(long now, long ttl) {
+        return now - buildTime >= ttl;
+    }
+}
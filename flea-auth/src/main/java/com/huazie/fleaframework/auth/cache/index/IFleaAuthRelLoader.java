@@ -0,0 +1,93 @@
+package com.huazie.fleaframework.auth.cache.index;
+
+import com.huazie.fleaframework.common.exceptions.CommonException;
+
+import java.util.List;
+
+/**
+ * Flea 授权关联加载器，按关联层级批量加载授权关联数据，
+ * 每个方法对应一次（或按批次拆分的多次）IN 查询，
+ * 仅返回在用的关联数据，编号集为空时返回空集。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public interface IFleaAuthRelLoader {
+
+    /**
+     * 获取用户所属的用户组关联【用户组关联用户】
+     *
+     * @param userId 用户编号
+     * @return 用户组关联，关联所属编号为用户组编号，关联编号为用户编号
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    List<FleaAuthRelation> getUserGroupRelUsers(Long userId) throws CommonException;
+
+    /**
+     * 获取用户关联数据
+     *
+     * @param userId      用户编号
+     * @param authRelType 授权关联类型
+     * @return 用户关联，关联所属编号为用户编号
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    List<FleaAuthRelation> getUserRels(Long userId, String authRelType) throws CommonException;
+
+    /**
+     * 批量获取用户组关联数据
+     *
+     * @param userGroupIdList 用户组编号集
+     * @param authRelType     授权关联类型
+     * @return 用户组关联，关联所属编号为用户组编号
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    List<FleaAuthRelation> getUserGroupRels(List<Long> userGroupIdList, String authRelType) throws CommonException;
+
+    /**
+     * 批量获取角色组关联数据
+     *
+     * @param roleGroupIdList 角色组编号集
+     * @param authRelType     授权关联类型
+     * @return 角色组关联，关联所属编号为角色组编号
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    List<FleaAuthRelation> getRoleGroupRels(List<Long> roleGroupIdList, String authRelType) throws CommonException;
+
+    /**
+     * 批量获取角色关联数据
+     *
+     * @param roleIdList  角色编号集
+     * @param authRelType 授权关联类型
+     * @return 角色关联，关联所属编号为角色编号
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    List<FleaAuthRelation> getRoleRels(List<Long> roleIdList, String authRelType) throws CommonException;
+
+    /**
+     * 批量获取权限组关联数据
+     *
+     * @param privilegeGroupIdList 权限组编号集
+     * @param authRelType          授权关联类型
+     * @return 权限组关联，关联所属编号为权限组编号
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    List<FleaAuthRelation> getPrivilegeGroupRels(List<Long> privilegeGroupIdList, String authRelType) throws CommonException;
+
+    /**
+     * 批量获取权限关联数据
+     *
+     * @param privilegeIdList 权限编号集
+     * @param authRelType     授权关联类型
+     * @return 权限关联，关联所属编号为权限编号
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    List<FleaAuthRelation> getPrivilegeRels(List<Long> privilegeIdList, String authRelType) throws CommonException;
+}
@@ -103,4 +103,66 @@ public final class FleaAuthConstants {
 
     }
 
+    /**
+     * 授权索引常量
+     *
+     * @since 2.0.0
+     */
+    public static final class AuthIndexConstants {
+
+        public static final String FLEA_AUTH_INDEX = "flea-auth-index"; // 授权索引配置项集
+
+        public static final String CONFIG_ITEM_MAX_USERS = "max_users"; // 最大缓存用户数
+
+        public static final String CONFIG_ITEM_IN_BATCH_SIZE = "in_batch_size"; // 批量 IN 查询的单批最大编号数
+
+        public static final int DEFAULT_MAX_USERS = 200000;
+
+        public static final int DEFAULT_IN_BATCH_SIZE = 1000;
+
+        public static final String CONFIG_ITEM_DEBOUNCE_DELAY = "debounce_delay"; // 失效防抖延迟（毫秒）
+
+        public static final String CONFIG_ITEM_MAX_DEBOUNCE_DELAY = "max_debounce_delay"; // 失效最大防抖延迟（毫秒）
+
+        public static final String CONFIG_ITEM_REFRESH_LIMIT = "refresh_limit"; // 失效后立即重新构建的最大用户数
+
+        public static final long DEFAULT_DEBOUNCE_DELAY = 200L;
+
+        public static final long DEFAULT_MAX_DEBOUNCE_DELAY = 2000L;
+
+        public static final int DEFAULT_REFRESH_LIMIT = 0;
+
+        public static final String CONFIG_ITEM_TTL = "ttl"; // 用户授权数据最长缓存时间（毫秒）
+
+        public static final String CONFIG_ITEM_VERSION_CHECK_INTERVAL = "version_check_interval"; // 授权版本检查间隔（毫秒）
+
+        public static final long DEFAULT_TTL = 300000L;
+
+        public static final long DEFAULT_VERSION_CHECK_INTERVAL = 1000L;
+
+        public static final String CACHE_AUTH_VERSION = "fleaauthversion"; // 分布式授权版本缓存
+
+        public static final String AUTH_VERSION_KEY = "version"; // 分布式授权版本缓存键
+    }
+
+    /**
+     * 登录日志异步写入相关常量
+     *
+     * @since 2.0.0
+     */
+    public static final class LoginLogConstants {
+
+        public static final String FLEA_LOGIN_LOG = "flea-login-log"; // 登录日志配置项集
+
+        public static final String CONFIG_ITEM_CAPACITY = "capacity"; // 登录事件队列容量
+
+        public static final String CONFIG_ITEM_BATCH_SIZE = "batch_size"; // 批量写入的最大事件数
+
+        public static final String CONFIG_ITEM_BLOCK_TIMEOUT = "block_timeout"; // 队列满载时的最长等待时间（毫秒）
+
+        public static final String CONFIG_ITEM_SESSION_INDEX_SIZE = "session_index_size"; // 会话索引的最大会话数
+
+        public static final String CONFIG_ITEM_SHUTDOWN_TIMEOUT = "shutdown_timeout"; // 关闭时的最长等待时间（毫秒）
+    }
+
 }
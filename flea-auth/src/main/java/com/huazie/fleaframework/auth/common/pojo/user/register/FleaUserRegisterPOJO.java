@@ -9,20 +9,18 @@ import com.huazie.fleaframework.common.RegExpEnum;
 import com.huazie.fleaframework.common.util.CollectionUtils;
 import com.huazie.fleaframework.common.util.NumberUtils;
 import com.huazie.fleaframework.common.util.ObjectUtils;
-import com.huazie.fleaframework.common.util.PatternMatcherUtils;
 import com.huazie.fleaframework.common.util.StringUtils;
 import org.apache.commons.lang.builder.ToStringBuilder;
 
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
-import java.util.regex.Pattern;
 
 /**
  * Flea用户注册信息POJO类
  *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public class FleaUserRegisterPOJO extends FleaUserLoginPOJO {
@@ -72,11 +70,11 @@ public class FleaUserRegisterPOJO extends FleaUserLoginPOJO {
     public String getUserNameByAccountCode() {
         String accountCode = this.getAccountCode();
         // 如果账号是手机号码
-        if (PatternMatcherUtils.matches(RegExpEnum.PHONE.getExp(), accountCode, Pattern.CASE_INSENSITIVE)) {
+        if (RegExpEnum.PHONE.matches(accountCode)) {
             return "P" + StringUtils.subStrLast(accountCode, 4);
         }
         // 如果账号是邮箱
-        if (PatternMatcherUtils.matches(RegExpEnum.EMAIL.getExp(), accountCode, Pattern.CASE_INSENSITIVE)) {
+        if (RegExpEnum.EMAIL.matches(accountCode)) {
             return "E" + StringUtils.subStrBefore(accountCode, accountCode.indexOf('@'));
         }
         // 其他场景依然使用账号作为用户名
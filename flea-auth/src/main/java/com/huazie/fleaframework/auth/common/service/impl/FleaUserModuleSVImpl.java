@@ -8,9 +8,10 @@ import com.huazie.fleaframework.auth.base.role.service.interfaces.IFleaRoleSV;
 import com.huazie.fleaframework.auth.base.user.entity.FleaAccount;
 import com.huazie.fleaframework.auth.base.user.entity.FleaUser;
 import com.huazie.fleaframework.auth.base.user.entity.FleaUserGroup;
+import com.huazie.fleaframework.auth.base.user.log.FleaLoginEvent;
+import com.huazie.fleaframework.auth.base.user.log.FleaLoginLogWriter;
 import com.huazie.fleaframework.auth.base.user.service.interfaces.IFleaAccountAttrSV;
 import com.huazie.fleaframework.auth.base.user.service.interfaces.IFleaAccountSV;
-import com.huazie.fleaframework.auth.base.user.service.interfaces.IFleaLoginLogSV;
 import com.huazie.fleaframework.auth.base.user.service.interfaces.IFleaUserAttrSV;
 import com.huazie.fleaframework.auth.base.user.service.interfaces.IFleaUserGroupRelSV;
 import com.huazie.fleaframework.auth.base.user.service.interfaces.IFleaUserGroupSV;
@@ -38,6 +39,7 @@ import com.huazie.fleaframework.common.util.CollectionUtils;
 import com.huazie.fleaframework.common.util.DateUtils;
 import com.huazie.fleaframework.common.util.HttpUtils;
 import com.huazie.fleaframework.common.util.NumberUtils;
+import com.huazie.fleaframework.common.util.ObjectUtils;
 import com.huazie.fleaframework.common.util.POJOUtils;
 import com.huazie.fleaframework.common.util.StringUtils;
 import com.huazie.fleaframework.db.jpa.transaction.FleaTransactional;
@@ -45,6 +47,7 @@ import org.springframework.stereotype.Service;
 
 import javax.annotation.Resource;
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
 import java.util.List;
 import java.util.Map;
 
@@ -62,7 +65,7 @@ public class FleaUserModuleSVImpl implements IFleaUserModuleSV {
 
     private FleaAuthCache fleaAuthCache; // Flea 授权缓存
 
-    private IFleaLoginLogSV fleaLoginLogSV; // Flea登录日志服务
+    private FleaLoginLogWriter fleaLoginLogWriter; // Flea登录日志写入器
 
     private IFleaAccountSV fleaAccountSV; // Flea账户服务
 
@@ -87,9 +90,9 @@ public class FleaUserModuleSVImpl implements IFleaUserModuleSV {
         this.fleaAuthCache = fleaAuthCache;
     }
 
-    @Resource(name = "fleaLoginLogSV")
-    public void setFleaLoginLogSV(IFleaLoginLogSV fleaLoginLogSV) {
-        this.fleaLoginLogSV = fleaLoginLogSV;
+    @Resource(name = "fleaLoginLogWriter")
+    public void setFleaLoginLogWriter(FleaLoginLogWriter fleaLoginLogWriter) {
+        this.fleaLoginLogWriter = fleaLoginLogWriter;
     }
 
     @Resource(name = "fleaAccountSV")
@@ -440,12 +443,11 @@ public class FleaUserModuleSVImpl implements IFleaUserModuleSV {
             // TODO 获取用户登录的ip6地址
             String ip6 = "";
 
-            // 获取用户登录的地市地址
-            String address = HttpUtils.getAddressByTaoBao(ip4);
-
             try {
-                FleaLoginLogPOJO fleaLoginLogPOJO = new FleaLoginLogPOJO(accountId, ip4, ip6, address);
-                this.fleaLoginLogSV.saveLoginLog(fleaLoginLogPOJO);
+                // 登录地区由登录日志写入线程按登录IP解析
+                FleaLoginLogPOJO fleaLoginLogPOJO = new FleaLoginLogPOJO(accountId, ip4, ip6, null);
+                // 投递登录事件，由登录日志写入线程批量保存
+                this.fleaLoginLogWriter.publish(FleaLoginEvent.login(fleaLoginLogPOJO, getSessionId(request)));
             } catch (Exception e) {
                 LOGGER.error1(new Object() {}, "Exception occurs when saving login log : ", e);
             }
@@ -454,12 +456,32 @@ public class FleaUserModuleSVImpl implements IFleaUserModuleSV {
 
     @Override
     public void saveQuitLog(Long accountId) {
+        saveQuitLog(accountId, null);
+    }
+
+    @Override
+    public void saveQuitLog(Long accountId, HttpServletRequest request) {
         if (NumberUtils.isPositiveNumber(accountId)) {
-            try {
-                this.fleaLoginLogSV.saveQuitLog(accountId);
-            } catch (CommonException e) {
-                LOGGER.error1(new Object() {}, "Exception occurs when saving quit log : ", e);
+            // 投递登出事件，存在会话时按会话定位登录日志，否则定位该账户最近一次的登录日志
+            this.fleaLoginLogWriter.publish(FleaLoginEvent.logout(accountId, getSessionId(request)));
+        }
+    }
+
+    /**
+     * 获取HTTP请求对应的会话编号
+     *
+     * @param request HTTP请求对象
+     * @return 会话编号，不存在时返回null
+     * @since 2.0.0
+     */
+    private static String getSessionId(HttpServletRequest request) {
+        String sessionId = null;
+        if (ObjectUtils.isNotEmpty(request)) {
+            HttpSession session = request.getSession(false);
+            if (ObjectUtils.isNotEmpty(session)) {
+                sessionId = session.getId();
             }
         }
+        return sessionId;
     }
 }
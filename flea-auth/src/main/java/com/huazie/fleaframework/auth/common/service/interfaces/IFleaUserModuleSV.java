@@ -143,4 +143,13 @@ public interface IFleaUserModuleSV {
      * @since 1.0.0
      */
     void saveQuitLog(Long accountId);
+
+    /**
+     * 保存用户退出日志，按请求的会话定位对应的登录日志
+     *
+     * @param accountId 账户编号
+     * @param request   HTTP请求对象
+     * @since 2.0.0
+     */
+    void saveQuitLog(Long accountId, HttpServletRequest request);
 }
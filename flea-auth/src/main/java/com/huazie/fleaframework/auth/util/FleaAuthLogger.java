@@ -1,5 +1,6 @@
 package com.huazie.fleaframework.auth.util;
 
+import com.huazie.fleaframework.auth.common.service.interfaces.IFleaUserModuleSV;
 import com.huazie.fleaframework.common.FleaSessionManager;
 import com.huazie.fleaframework.common.util.concurrent.FleaAsyncTask;
 
@@ -10,8 +11,12 @@ import java.util.concurrent.Executors;
 /**
  * Flea 权限日志工具类
  *
+ * <p> 异步任务执行类为 {@link IFleaUserModuleSV} 时，登录和登出日志已由
+ * 登录日志写入器异步批量写入，直接在当前线程投递，请求相关的数据
+ * 也在当前线程读取；其他异步任务执行类仍提交到线程池中执行。
+ *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public class FleaAuthLogger {
@@ -33,6 +38,10 @@ public class FleaAuthLogger {
      * @since 1.0.0
      */
     public static void asyncSaveLoginLog(Object asyncTaskExecObj, Long accountId, HttpServletRequest request) {
+        if (asyncTaskExecObj instanceof IFleaUserModuleSV) {
+            ((IFleaUserModuleSV) asyncTaskExecObj).saveLoginLog(accountId, request);
+            return;
+        }
         Class<?>[] paramTypes = {accountId.getClass(), HttpServletRequest.class};
         Object[] params = {accountId, request};
         FleaAsyncTask fleaAsyncTask = new FleaAsyncTask(FleaSessionManager.getUserInfo(), asyncTaskExecObj, METHOD_SAVE_LOGIN_LOG, paramTypes, params);
@@ -47,6 +56,10 @@ public class FleaAuthLogger {
      * @since 1.0.0
      */
     public static void asyncSaveQuitLog(Object asyncTaskExecObj, Long accountId) {
+        if (asyncTaskExecObj instanceof IFleaUserModuleSV) {
+            ((IFleaUserModuleSV) asyncTaskExecObj).saveQuitLog(accountId);
+            return;
+        }
         Class<?>[] paramTypes = {accountId.getClass()};
         Object[] params = {accountId};
         FleaAsyncTask fleaAsyncTask = new FleaAsyncTask(FleaSessionManager.getUserInfo(), asyncTaskExecObj, METHOD_SAVE_QUIT_LOG, paramTypes, params);
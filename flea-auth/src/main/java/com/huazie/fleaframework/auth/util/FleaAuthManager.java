@@ -13,6 +13,7 @@ import com.huazie.fleaframework.common.util.DateUtils;
 import com.huazie.fleaframework.common.util.ObjectUtils;
 import com.huazie.fleaframework.common.util.StringUtils;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -149,6 +150,21 @@ public class FleaAuthManager {
         fleaUser.set(FleaMenuTree.MENU_TREE, fleaMenuTree);
     }
 
+    /**
+     * 初始化菜单树信息，用户菜单树为全局菜单树按可访问菜单过滤后的视图，
+     * 与全局菜单树共享菜单全部可访问的子树。
+     *
+     * @param fleaUser       用户信息接口
+     * @param globalMenuTree 全局菜单树
+     * @param menuIdList     可访问的菜单编号集合
+     * @since 2.0.0
+     */
+    public static void initFleaMenuTree(IFleaUser fleaUser, FleaMenuTree globalMenuTree, Collection<Long> menuIdList) {
+        FleaMenuTree fleaMenuTree = globalMenuTree.filter(menuIdList);
+        // 操作账号accountId在系统账户systemAccountId下可以访问的所有菜单
+        fleaUser.set(FleaMenuTree.MENU_TREE, fleaMenuTree);
+    }
+
     /**
      * 生成属性Map的键
      *
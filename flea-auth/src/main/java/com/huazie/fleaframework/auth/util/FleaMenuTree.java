@@ -10,10 +10,14 @@ import com.huazie.fleaframework.common.util.CollectionUtils;
 import com.huazie.fleaframework.common.util.ObjectUtils;
 import com.huazie.fleaframework.common.util.StringUtils;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Flea菜单树 {@code FleaMenuTree}, 根节点为菜单归属系统，子节点为
@@ -30,7 +34,7 @@ import java.util.Map;
  * <p> 三级菜单、四级菜单，依此类推。
  *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @see FleaTree
  * @see FleaMenu
  * @since 1.0.0
@@ -155,7 +159,10 @@ public class FleaMenuTree extends FleaTree<FleaMenu> {
     }
 
     /**
-     * 批量添加菜单到菜单树中
+     * 批量添加菜单到菜单树中，菜单集合无需有序。
+     *
+     * <p> 一级菜单挂载到根节点下，其余菜单挂载到同一集合或菜单树中
+     * 编号为其父菜单编号、菜单等级低一级的菜单下，父菜单不存在的菜单不会展示。
      *
      * @param fleaMenuList 菜单集合
      * @since 1.0.0
@@ -166,9 +173,43 @@ public class FleaMenuTree extends FleaTree<FleaMenu> {
             return;
         }
 
-        for (FleaMenu fleaMenu : fleaMenuList) {
-            add(fleaMenu, getParentMenu(fleaMenu, fleaMenuList));
-        }
+        addTreeNotes(fleaMenuList, MENU_RESOLVER);
+
+        LOGGER.debug1(new Object() {}, "Finish Adding {} Menus to MenuTree, Size = {}", fleaMenuList.size(), size());
+    }
+
+    /**
+     * 按菜单编号集合过滤菜单树，生成新的菜单树视图。
+     *
+     * <p> 当前菜单树被冻结，不能再添加菜单；父菜单不在菜单编号集合中时，
+     * 其下的子菜单也不保留。菜单全部保留的子树在视图间共享，
+     * 因此多个用户的菜单树可以由同一棵全局菜单树过滤得到。
+     *
+     * @param menuIdList 菜单编号集合
+     * @return 菜单树视图
+     * @since 2.0.0
+     */
+    public FleaMenuTree filter(Collection<Long> menuIdList) {
+        final Set<Long> menuIdSet = CollectionUtils.isEmpty(menuIdList) ? Collections.<Long>emptySet() : new HashSet<>(menuIdList);
+        FleaMenuTree menuTreeView = newMenuTree();
+        filterTo(menuTreeView, new TreeNodeFilter<FleaMenu>() {
+            @Override
+            public boolean accept(FleaMenu element, long id, int height) {
+                return menuIdSet.contains(id);
+            }
+        });
+        return menuTreeView;
+    }
+
+    /**
+     * 创建与当前菜单树配置相同的空菜单树，用于生成菜单树视图。
+     * <p> 子类存在其他配置时，需重写该方法。
+     *
+     * @return 空菜单树
+     * @since 2.0.0
+     */
+    protected FleaMenuTree newMenuTree() {
+        return new FleaMenuTree(systemName, getComparator());
     }
 
     @Override
@@ -196,32 +237,24 @@ public class FleaMenuTree extends FleaTree<FleaMenu> {
     }
 
     /**
-     * 从菜单集合中获取当前菜单对应的父菜单
-     *
-     * @param current      当前菜单
-     * @param fleaMenuList 菜单列表
-     * @return 当前菜单对应的父菜单
-     * @since 1.0.0
+     * 菜单节点解析器，节点编号为菜单编号，节点高度为菜单等级 + 1
      */
-    private FleaMenu getParentMenu(FleaMenu current, List<FleaMenu> fleaMenuList) {
+    private static final TreeNodeResolver<FleaMenu> MENU_RESOLVER = new TreeNodeResolver<FleaMenu>() {
+        @Override
+        public long getId(FleaMenu element) {
+            return element.getMenuId();
+        }
 
-        FleaMenu parentMenu = null;
+        @Override
+        public int getHeight(FleaMenu element) {
+            return element.getMenuLevel() + 1;
+        }
 
-        if (ObjectUtils.isNotEmpty(current) && CollectionUtils.isNotEmpty(fleaMenuList)) {
-            for (FleaMenu fleaMenu : fleaMenuList) {
-                // current的父菜单的菜单等级 = current的菜单等级 - 1 = fleaMenu的菜单等级
-                // current的父菜单编号 = fleaMenu的菜单编号
-                if (ObjectUtils.isNotEmpty(fleaMenu) && current.getMenuLevel() - 1 == fleaMenu.getMenuLevel()
-                        && current.getParentId().equals(fleaMenu.getMenuId())) {
-                    parentMenu = fleaMenu;
-                }
-            }
-            // 如果当前菜单对应的父菜单在菜单列表中不存在，即当前菜单是一级菜单，则取根节点为他的父菜单
-            if (ObjectUtils.isEmpty(parentMenu)) {
-                parentMenu = getRootElement();
-            }
+        @Override
+        public long getParentId(FleaMenu element) {
+            Long parentId = element.getParentId();
+            return ObjectUtils.isEmpty(parentId) ? CommonConstants.NumeralConstants.MINUS_TWO : parentId;
         }
-        return parentMenu;
-    }
+    };
 
 }
@@ -20,7 +20,7 @@ import java.util.Map;
  * 【key = item_icon_class, value = red or blue】
  *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @see FleaMenuTree
  * @since 1.0.0
  */
@@ -54,6 +54,11 @@ public class FueluxMenuTree extends FleaMenuTree {
         }
     }
 
+    @Override
+    protected FleaMenuTree newMenuTree() {
+        return new FueluxMenuTree(getSystemName(), params);
+    }
+
     @Override
     protected String getMapKeyForSubNotes() {
         return "additionalParameters";
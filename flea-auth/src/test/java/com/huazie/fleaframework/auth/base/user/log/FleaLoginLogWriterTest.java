@@ -0,0 +1,360 @@
+package com.huazie.fleaframework.auth.base.user.log;
+
+import com.huazie.fleaframework.auth.base.user.entity.FleaLoginLog;
+import com.huazie.fleaframework.auth.common.LoginStateEnum;
+import com.huazie.fleaframework.auth.common.pojo.user.login.FleaLoginLogPOJO;
+import com.huazie.fleaframework.common.DateFormatEnum;
+import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.DateUtils;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Flea 登录日志异步写入测试，在 H2 内存数据库中模拟 1 万个并发登录和登出，
+ * 对比原有逐条同步写入与按分表批量写入的数据库往返次数和登录线程耗时。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaLoginLogWriterTest {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaLoginLogWriterTest.class);
+
+    private static final int THREADS = 50;
+
+    private static final int LOGINS = 10000;
+
+    private static final int ACCOUNTS = 2000;
+
+    private static final long ROUND_TRIP_NANOS = TimeUnit.MICROSECONDS.toNanos(200); // 模拟每次数据库往返的耗时
+
+    private static Connection connection;
+
+    @BeforeClass
+    public static void init() throws Exception {
+        connection = DriverManager.getConnection("jdbc:h2:mem:flealoginlog;DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    @AfterClass
+    public static void destroy() throws Exception {
+        if (null != connection) {
+            connection.close();
+        }
+    }
+
+    @Test
+    public void testConcurrentLoginAndLogout() throws Exception {
+        JdbcLoginLogStore store = new JdbcLoginLogStore(connection, "async");
+        LoginLogConfig config = new LoginLogConfig();
+        config.setCapacity(LOGINS);
+        config.setSessionIndexSize(LOGINS);
+        final FleaLoginLogWriter writer = new FleaLoginLogWriter(config, store);
+        writer.start();
+
+        // 每 10 个登录中有 1 个跨月，写入上月的分表
+        final Date lastMonth = DateUtils.getTime(Calendar.MONTH, -1);
+        final AtomicLong maxPublishNanos = new AtomicLong();
+        long loginMillis = runConcurrently(new Task() {
+            @Override
+            public void run(int index) throws Exception {
+                FleaLoginEvent event = FleaLoginEvent.login(newLoginLogPOJO(index), "S" + index);
+                if (index % 10 == 0) {
+                    event.getLoginLog().setCreateDate(lastMonth);
+                }
+                long start = System.nanoTime();
+                writer.publish(event);
+                updateMax(maxPublishNanos, System.nanoTime() - start);
+            }
+        });
+        long logoutMillis = runConcurrently(new Task() {
+            @Override
+            public void run(int index) {
+                long start = System.nanoTime();
+                writer.publish(FleaLoginEvent.logout(accountId(index), "S" + index));
+                updateMax(maxPublishNanos, System.nanoTime() - start);
+            }
+        });
+        Assert.assertTrue(writer.shutdown(30, TimeUnit.SECONDS));
+
+        LOGGER.debug("Async : login {}ms, logout {}ms, max publish {}us, round trips {}, split table lookups {}",
+                loginMillis, logoutMillis, TimeUnit.NANOSECONDS.toMicros(maxPublishNanos.get()),
+                store.getRoundTrips(), store.getSplitTableLookups());
+
+        Assert.assertEquals(2 * LOGINS, writer.getWrittenCount());
+        Assert.assertEquals(0, writer.getFailedCount());
+        // 登出全部命中会话索引，无需查询登录日志
+        Assert.assertEquals(0, writer.getQueryCount());
+        Assert.assertEquals(LOGINS, store.count(null));
+        Assert.assertEquals(LOGINS, store.count(LoginStateEnum.QUITTED.getState()));
+        Assert.assertEquals(2, store.getTables().size());
+        // 分表名按天缓存，仅首次或直接写入的登录线程并发未命中时解析
+        Assert.assertTrue(store.getSplitTableLookups() < LOGINS / 10);
+        // 批量写入，数据库往返次数远少于登录和登出次数
+        Assert.assertTrue(store.getRoundTrips() < LOGINS / 10);
+    }
+
+    @Test
+    public void testSynchronousBaseline() throws Exception {
+        // 原有实现：登录线程逐条解析分表、写入登录日志；登出时先查询最近一次的登录日志再更新
+        final JdbcLoginLogStore store = new JdbcLoginLogStore(connection, "sync");
+        long loginMillis = runConcurrently(new Task() {
+            @Override
+            public void run(int index) throws Exception {
+                FleaLoginLog fleaLoginLog = FleaLoginEvent.login(newLoginLogPOJO(index), "S" + index).getLoginLog();
+                store.batchSaveLoginLog(store.getSplitTable(fleaLoginLog), java.util.Collections.singletonList(fleaLoginLog));
+            }
+        });
+        long logoutMillis = runConcurrently(new Task() {
+            @Override
+            public void run(int index) throws Exception {
+                FleaLoginLog fleaLoginLog = store.queryLastUserLoginLog(accountId(index), -1L);
+                if (null != fleaLoginLog) {
+                    fleaLoginLog.setLoginState(LoginStateEnum.QUITTED.getState());
+                    fleaLoginLog.setLogoutTime(DateUtils.getCurrentTime());
+                    store.batchSaveQuitLog(store.getSplitTable(fleaLoginLog), java.util.Collections.singletonList(fleaLoginLog));
+                }
+            }
+        });
+        LOGGER.debug("Sync : login {}ms, logout {}ms, round trips {}, split table lookups {}",
+                loginMillis, logoutMillis, store.getRoundTrips(), store.getSplitTableLookups());
+        Assert.assertEquals(LOGINS, store.count(null));
+        Assert.assertTrue(store.getRoundTrips() >= 2 * LOGINS);
+    }
+
+    @Test
+    public void testLogoutWithoutSession() throws Exception {
+        JdbcLoginLogStore store = new JdbcLoginLogStore(connection, "account");
+        FleaLoginLogWriter writer = new FleaLoginLogWriter(new LoginLogConfig(), store);
+        writer.start();
+
+        // 无会话的登出，定位该账户最近一次的登录
+        writer.publish(FleaLoginEvent.login(newLoginLogPOJO(0), null));
+        writer.publish(FleaLoginEvent.logout(accountId(0), null));
+        // 会话索引中不存在的登出，查询最近一次的登录日志，不存在则忽略
+        writer.publish(FleaLoginEvent.logout(accountId(1), "UNKNOWN"));
+        Assert.assertTrue(writer.shutdown(10, TimeUnit.SECONDS));
+
+        Assert.assertEquals(1, writer.getQueryCount());
+        Assert.assertEquals(1, writer.getFailedCount());
+        Assert.assertEquals(1, store.count(LoginStateEnum.QUITTED.getState()));
+        // 关闭后投递的登录事件，由当前线程直接写入
+        Assert.assertFalse(writer.publish(FleaLoginEvent.login(newLoginLogPOJO(2), "S2")));
+        Assert.assertEquals(1, writer.getDirectCount());
+        Assert.assertEquals(2, store.count(null));
+    }
+
+    private static long runConcurrently(final Task task) throws Exception {
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final CountDownLatch doneLatch = new CountDownLatch(THREADS);
+        final AtomicInteger next = new AtomicInteger();
+        final AtomicInteger errors = new AtomicInteger();
+        for (int i = 0; i < THREADS; i++) {
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        startLatch.await();
+                        int index;
+                        while ((index = next.getAndIncrement()) < LOGINS) {
+                            task.run(index);
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                        LOGGER.error("Task error : ", e);
+                    } finally {
+                        doneLatch.countDown();
+                    }
+                }
+            }).start();
+        }
+        long start = System.nanoTime();
+        startLatch.countDown();
+        Assert.assertTrue(doneLatch.await(60, TimeUnit.SECONDS));
+        Assert.assertEquals(0, errors.get());
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private static void updateMax(AtomicLong max, long value) {
+        long current;
+        while (value > (current = max.get()) && !max.compareAndSet(current, value)) {
+            // retry
+        }
+    }
+
+    private static long accountId(int index) {
+        return index % ACCOUNTS + 1;
+    }
+
+    private static FleaLoginLogPOJO newLoginLogPOJO(int index) {
+        return new FleaLoginLogPOJO(accountId(index), "127.0.0." + (index % 256), "", "Nanjing");
+    }
+
+    private interface Task {
+        void run(int index) throws Exception;
+    }
+
+    /**
+     * 基于 JDBC 的登录日志存储，按月分表【flea_login_log_yyyyMM】，
+     * 每次数据库往返模拟固定耗时
+     */
+    static class JdbcLoginLogStore implements IFleaLoginLogStore {
+
+        private final Connection connection;
+
+        private final String prefix;
+
+        private final Set<String> tables = new HashSet<>();
+
+        private final AtomicLong ids = new AtomicLong();
+
+        private final AtomicLong roundTrips = new AtomicLong();
+
+        private final AtomicLong splitTableLookups = new AtomicLong();
+
+        JdbcLoginLogStore(Connection connection, String prefix) {
+            this.connection = connection;
+            this.prefix = prefix;
+        }
+
+        @Override
+        public synchronized String getSplitTable(FleaLoginLog fleaLoginLog) throws CommonException {
+            splitTableLookups.incrementAndGet();
+            String table = prefix + "_flea_login_log_" + DateUtils.date2String(fleaLoginLog.getCreateDate(), DateFormatEnum.YYYYMM);
+            if (tables.add(table)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("CREATE TABLE " + table + " (login_log_id BIGINT PRIMARY KEY, account_id BIGINT NOT NULL, "
+                            + "system_account_id BIGINT NOT NULL, login_ip4 VARCHAR(32) NOT NULL, login_area VARCHAR(64), "
+                            + "login_state INT NOT NULL, login_time TIMESTAMP NOT NULL, logout_time TIMESTAMP, "
+                            + "create_date TIMESTAMP NOT NULL, done_date TIMESTAMP, remarks VARCHAR(256))");
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return table;
+        }
+
+        @Override
+        public synchronized void batchSaveLoginLog(String splitTable, List<FleaLoginLog> fleaLoginLogs) {
+            try (PreparedStatement statement = connection.prepareStatement("INSERT INTO " + splitTable
+                    + " (login_log_id, account_id, system_account_id, login_ip4, login_area, login_state, login_time, create_date, remarks)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+                for (FleaLoginLog fleaLoginLog : fleaLoginLogs) {
+                    fleaLoginLog.setLoginLogId(ids.incrementAndGet());
+                    statement.setLong(1, fleaLoginLog.getLoginLogId());
+                    statement.setLong(2, fleaLoginLog.getAccountId());
+                    statement.setLong(3, fleaLoginLog.getSystemAccountId());
+                    statement.setString(4, fleaLoginLog.getLoginIp4());
+                    statement.setString(5, fleaLoginLog.getLoginArea());
+                    statement.setInt(6, fleaLoginLog.getLoginState());
+                    statement.setTimestamp(7, new Timestamp(fleaLoginLog.getLoginTime().getTime()));
+                    statement.setTimestamp(8, new Timestamp(fleaLoginLog.getCreateDate().getTime()));
+                    statement.setString(9, fleaLoginLog.getRemarks());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                roundTrip();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public synchronized void batchSaveQuitLog(String splitTable, List<FleaLoginLog> fleaLoginLogs) {
+            try (PreparedStatement statement = connection.prepareStatement("UPDATE " + splitTable
+                    + " SET login_state = ?, logout_time = ?, done_date = ?, remarks = ? WHERE login_log_id = ?")) {
+                for (FleaLoginLog fleaLoginLog : fleaLoginLogs) {
+                    statement.setInt(1, fleaLoginLog.getLoginState());
+                    statement.setTimestamp(2, new Timestamp(fleaLoginLog.getLogoutTime().getTime()));
+                    statement.setTimestamp(3, new Timestamp(System.currentTimeMillis()));
+                    statement.setString(4, fleaLoginLog.getRemarks());
+                    statement.setLong(5, fleaLoginLog.getLoginLogId());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                roundTrip();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public synchronized FleaLoginLog queryLastUserLoginLog(Long accountId, Long systemAccountId) throws CommonException {
+            FleaLoginLog query = new FleaLoginLog();
+            query.setCreateDate(DateUtils.getCurrentTime());
+            String table = getSplitTable(query);
+            try (PreparedStatement statement = connection.prepareStatement("SELECT login_log_id, create_date FROM " + table
+                    + " WHERE account_id = ? AND system_account_id = ? AND login_state = ? ORDER BY login_time DESC LIMIT 1")) {
+                statement.setLong(1, accountId);
+                statement.setLong(2, systemAccountId);
+                statement.setInt(3, LoginStateEnum.LOGINING.getState());
+                roundTrip();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    if (!resultSet.next()) {
+                        return null;
+                    }
+                    FleaLoginLog fleaLoginLog = new FleaLoginLog();
+                    fleaLoginLog.setLoginLogId(resultSet.getLong(1));
+                    fleaLoginLog.setCreateDate(resultSet.getTimestamp(2));
+                    fleaLoginLog.setAccountId(accountId);
+                    fleaLoginLog.setSystemAccountId(systemAccountId);
+                    fleaLoginLog.setLoginState(LoginStateEnum.LOGINING.getState());
+                    return fleaLoginLog;
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        synchronized long count(Integer loginState) throws SQLException {
+            long count = 0;
+            for (String table : tables) {
+                String sql = "SELECT COUNT(1) FROM " + table + (null == loginState ? "" : " WHERE login_state = " + loginState);
+                try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+                    resultSet.next();
+                    count += resultSet.getLong(1);
+                }
+            }
+            return count;
+        }
+
+        private void roundTrip() {
+            roundTrips.incrementAndGet();
+            LockSupport.parkNanos(ROUND_TRIP_NANOS);
+        }
+
+        Set<String> getTables() {
+            return tables;
+        }
+
+        long getRoundTrips() {
+            return roundTrips.get();
+        }
+
+        long getSplitTableLookups() {
+            return splitTableLookups.get();
+        }
+    }
+}
@@ -0,0 +1,570 @@
+package com.huazie.fleaframework.auth.cache.index;
+
+import com.huazie.fleaframework.auth.common.AuthRelTypeEnum;
+import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Flea 授权索引测试，在 H2 内存数据库中生成 10 万用户、1 万权限的组织数据，
+ * 对比原有逐条关联查询的授权校验和授权索引的位图校验，
+ * 以及授权关联变更后按依赖关系增量失效的数据库负载。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaAuthIndexTest {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaAuthIndexTest.class);
+
+    private static final int USERS = 100000;
+
+    private static final int USER_GROUPS = 1000;
+
+    private static final int ROLE_GROUPS = 200;
+
+    private static final int ROLES = 500;
+
+    private static final int PRIVILEGE_GROUPS = 1000;
+
+    private static final int PRIVILEGES = 10000;
+
+    private static final int MENUS = 2000;
+
+    private static final String[][] TABLES = {
+            {"flea_user_group_rel", "user_group_id"},
+            {"flea_user_rel", "user_id"},
+            {"flea_role_group_rel", "role_group_id"},
+            {"flea_role_rel", "role_id"},
+            {"flea_privilege_group_rel", "privilege_group_id"},
+            {"flea_privilege_rel", "privilege_id"}
+    };
+
+    private static Connection connection;
+
+    private static JdbcAuthRelLoader loader;
+
+    @BeforeClass
+    public static void init() throws Exception {
+        connection = DriverManager.getConnection("jdbc:h2:mem:fleaauth;DB_CLOSE_DELAY=-1", "sa", "");
+        long start = System.currentTimeMillis();
+        createTables();
+        generateOrg();
+        loader = new JdbcAuthRelLoader(connection);
+        LOGGER.debug("Generate org : users = {}, privileges = {}, cost = {}ms", USERS, PRIVILEGES, System.currentTimeMillis() - start);
+    }
+
+    @AfterClass
+    public static void destroy() throws Exception {
+        if (null != connection) {
+            connection.close();
+        }
+    }
+
+    @Test
+    public void testClosureMatchesLegacy() throws Exception {
+        FleaAuthIndex index = new FleaAuthIndex(loader, USERS);
+        Random random = new Random(34);
+        for (int i = 0; i < 200; i++) {
+            long userId = random.nextInt(USERS) + 1;
+            List<Long> legacyPrivileges = legacyGetUserPrivileges(userId);
+            List<Long> privileges = index.getUserPrivileges(userId);
+            Assert.assertEquals(new HashSet<>(legacyPrivileges), new HashSet<>(privileges));
+            Assert.assertEquals(new HashSet<>(legacyGetUserRoles(userId)), new HashSet<>(index.getUserRoles(userId)));
+
+            long resourceId = random.nextInt(PRIVILEGES) + 1;
+            Assert.assertEquals(legacyCheckResource(userId, resourceId), index.hasResource(userId, resourceId));
+            Assert.assertTrue(index.hasResource(userId, legacyPrivileges.get(0)));
+        }
+        Assert.assertFalse(index.hasResource(1L, PRIVILEGES + 1L));
+        Assert.assertFalse(index.hasMenu(1L, MENUS + 1L));
+    }
+
+    @Test
+    public void testCheckLatency() throws Exception {
+        int users = 500;
+        int checks = 1000000;
+        Random random = new Random(2);
+        long[] userIds = new long[users];
+        for (int i = 0; i < users; i++) {
+            userIds[i] = random.nextInt(USERS) + 1;
+        }
+
+        // 原有实现：逐条关联查询，List 去重，List.contains 判断
+        long queries = loader.getQueryCount();
+        long start = System.nanoTime();
+        int granted = 0;
+        for (int i = 0; i < users; i++) {
+            if (legacyCheckResource(userIds[i], i + 1L)) granted++;
+        }
+        long legacyNanos = System.nanoTime() - start;
+        long legacyQueries = loader.getQueryCount() - queries;
+
+        // 授权索引：首次校验构建授权闭包
+        FleaAuthIndex index = new FleaAuthIndex(loader, USERS);
+        queries = loader.getQueryCount();
+        start = System.nanoTime();
+        int indexGranted = 0;
+        for (int i = 0; i < users; i++) {
+            if (index.hasResource(userIds[i], i + 1L)) indexGranted++;
+        }
+        long buildNanos = System.nanoTime() - start;
+        long buildQueries = loader.getQueryCount() - queries;
+        Assert.assertEquals(granted, indexGranted);
+
+        // 授权索引：已缓存的位图校验
+        start = System.nanoTime();
+        for (int i = 0; i < checks; i++) {
+            if (index.hasResource(userIds[i % users], (long) (i % PRIVILEGES) + 1)) indexGranted++;
+        }
+        long checkNanos = System.nanoTime() - start;
+
+        LOGGER.debug("Legacy check : {}us/op, {} queries/op", TimeUnit.NANOSECONDS.toMicros(legacyNanos / users), legacyQueries / users);
+        LOGGER.debug("Index build  : {}us/op, {} queries/op", TimeUnit.NANOSECONDS.toMicros(buildNanos / users), buildQueries / users);
+        LOGGER.debug("Index check  : {}ns/op, granted = {}", checkNanos / checks, indexGranted);
+    }
+
+    @Test
+    public void testInvalidateRole() throws Exception {
+        FleaAuthIndex index = new FleaAuthIndex(loader, USERS);
+        int users = 5000;
+        for (long userId = 1; userId <= users; userId++) {
+            index.getUserAuth(userId);
+        }
+        Assert.assertEquals(users, index.size());
+
+        // 移除角色下的一个权限，仅拥有该角色的用户失效
+        long roleId = 7L;
+        long privilegeId = firstRolePrivilege(roleId);
+        List<Long> affected = new ArrayList<>();
+        for (long userId = 1; userId <= users; userId++) {
+            if (index.getUserRoles(userId).contains(roleId)) {
+                affected.add(userId);
+            }
+        }
+        execute("UPDATE flea_role_rel SET rel_state = 0 WHERE role_id = " + roleId + " AND rel_id = " + privilegeId
+                + " AND rel_type = '" + AuthRelTypeEnum.ROLE_REL_PRIVILEGE.getRelType() + "'");
+        try {
+            long queries = loader.getQueryCount();
+            index.invalidateRole(roleId);
+            Assert.assertEquals(users - affected.size(), index.size());
+            Assert.assertEquals(queries, loader.getQueryCount());
+
+            for (Long userId : affected) {
+                index.getUserAuth(userId);
+            }
+            Assert.assertEquals(users, index.size());
+            LOGGER.debug("Invalidate role {} : affected users = {}, reload queries = {}", roleId, affected.size(),
+                    loader.getQueryCount() - queries);
+            for (Long userId : affected) {
+                Assert.assertEquals(new HashSet<>(legacyGetUserPrivileges(userId)), new HashSet<>(index.getUserPrivileges(userId)));
+            }
+        } finally {
+            execute("UPDATE flea_role_rel SET rel_state = 1 WHERE role_id = " + roleId + " AND rel_id = " + privilegeId);
+        }
+    }
+
+    @Test
+    public void testMaxUsers() throws Exception {
+        int maxUsers = 1000;
+        FleaAuthIndex index = new FleaAuthIndex(loader, maxUsers);
+        for (long userId = 1; userId <= maxUsers * 3; userId++) {
+            index.getUserAuth(userId);
+            Assert.assertTrue(index.size() <= maxUsers);
+        }
+    }
+
+    @Test
+    public void testRoleChangeWithAllUsersCached() throws Exception {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("fleaauthmenu", "fleaauthversion");
+        FleaAuthIndex index = new FleaAuthIndex(loader, cacheManager, USERS, 300000L, 0L);
+        FleaAuthInvalidator invalidator = new FleaAuthInvalidator(index, 50L, 500L, 0);
+        Cache menuCache = cacheManager.getCache("fleaauthmenu");
+
+        // 缓存全部用户的授权数据，并模拟 FleaAuthCache 缓存每个用户的菜单【账户编号 = 用户编号】
+        long start = System.currentTimeMillis();
+        for (long userId = 1; userId <= USERS; userId++) {
+            index.getUserAuth(userId);
+            menuCache.put(userId + "_1_" + index.getVersion(), Collections.emptyList());
+        }
+        Assert.assertEquals(USERS, index.size());
+        LOGGER.debug("Cache all users : users = {}, cost = {}ms", USERS, System.currentTimeMillis() - start);
+
+        long roleId = 7L;
+        long privilegeId = firstRolePrivilege(roleId);
+        execute("UPDATE flea_role_rel SET rel_state = 0 WHERE role_id = " + roleId + " AND rel_id = " + privilegeId
+                + " AND rel_type = '" + AuthRelTypeEnum.ROLE_REL_PRIVILEGE.getRelType() + "'");
+        try {
+            long queries = loader.getQueryCount();
+            String version = index.getVersion();
+            invalidator.roleChanged(roleId);
+            int affected = invalidator.flush();
+            Assert.assertEquals(queries, loader.getQueryCount());
+            Assert.assertEquals(USERS - affected, index.size());
+
+            // 授权版本更新，旧版本的菜单缓存不再命中，无需登记或逐个移除缓存键
+            Assert.assertNotEquals(version, index.getVersion());
+            for (long userId = 1; userId <= USERS; userId++) {
+                Assert.assertNull(menuCache.get(userId + "_1_" + index.getVersion()));
+            }
+
+            // 全部用户再次校验，只有受影响用户重新查询数据库
+            for (long userId = 1; userId <= USERS; userId++) {
+                index.getUserAuth(userId);
+            }
+            long reloadQueries = loader.getQueryCount() - queries;
+            LOGGER.debug("Role {} changed : cached users = {}, affected users = {}, reload queries = {}, full eviction queries = {}",
+                    roleId, USERS, affected, reloadQueries, reloadQueries / Math.max(1, affected) * USERS);
+            Assert.assertTrue(affected < USERS);
+            Assert.assertEquals(USERS, index.size());
+        } finally {
+            execute("UPDATE flea_role_rel SET rel_state = 1 WHERE role_id = " + roleId + " AND rel_id = " + privilegeId);
+            invalidator.destroy();
+        }
+    }
+
+    @Test
+    public void testBulkChangesDebounced() throws Exception {
+        FleaAuthIndex index = new FleaAuthIndex(loader, USERS);
+        FleaAuthInvalidator invalidator = new FleaAuthInvalidator(index, 100L, 1000L, 0);
+        int users = 5000;
+        for (long userId = 1; userId <= users; userId++) {
+            index.getUserAuth(userId);
+        }
+
+        // 批量管理操作：短时间内变更多个角色和权限，合并为一次失效
+        long modification = index.getModification();
+        for (long id = 1; id <= 50; id++) {
+            invalidator.roleChanged(id);
+            invalidator.privilegeChanged(id);
+        }
+        Assert.assertEquals(users, index.size());
+        Assert.assertEquals(modification, index.getModification());
+
+        TimeUnit.MILLISECONDS.sleep(500L);
+        Assert.assertEquals(modification + 1, index.getModification());
+        LOGGER.debug("Bulk changes : changes = {}, cached users = {}, remaining users = {}", 100, users, index.size());
+        Assert.assertTrue(index.size() < users);
+        invalidator.destroy();
+    }
+
+    @Test
+    public void testTtl() throws Exception {
+        FleaAuthIndex index = new FleaAuthIndex(loader, null, USERS, 100L, 0L);
+        index.getUserAuth(1L);
+        long queries = loader.getQueryCount();
+        index.getUserAuth(1L);
+        Assert.assertEquals(queries, loader.getQueryCount());
+
+        // 超过最长缓存时间，重新构建
+        TimeUnit.MILLISECONDS.sleep(150L);
+        index.getUserAuth(1L);
+        Assert.assertTrue(loader.getQueryCount() > queries);
+        Assert.assertEquals(1, index.size());
+    }
+
+    @Test
+    public void testVersionAcrossNodes() throws Exception {
+        // 两个授权索引共享同一缓存，模拟两个节点共享分布式授权版本
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("fleaauthversion");
+        FleaAuthIndex node1 = new FleaAuthIndex(loader, cacheManager, USERS, 300000L, 0L);
+        FleaAuthIndex node2 = new FleaAuthIndex(loader, cacheManager, USERS, 300000L, 0L);
+        FleaAuthInvalidator invalidator1 = new FleaAuthInvalidator(node1, 1000L, 1000L, 0);
+        int users = 100;
+        for (long userId = 1; userId <= users; userId++) {
+            node1.getUserAuth(userId);
+            node2.getUserAuth(userId);
+        }
+
+        // 节点一的授权关联变更，节点一按依赖关系失效，节点二在下次检查时全部失效
+        invalidator1.roleChanged(7L);
+        int affected = invalidator1.flush();
+        Assert.assertEquals(users - affected, node1.size());
+        Assert.assertEquals(node1.getVersion(), node2.getVersion());
+        Assert.assertEquals(0, node2.size());
+        Assert.assertEquals(users - affected, node1.size());
+
+        // 按条件批量更新等无法确定影响范围的变更，失效全部用户
+        invalidator1.submit(new FleaAuthChanges().addAllUsers());
+        invalidator1.flush();
+        Assert.assertEquals(0, node1.size());
+        invalidator1.destroy();
+    }
+
+    // ---------------------------------------- 原有实现 ----------------------------------------
+
+    /**
+     * 原有实现：每个用户组、角色组、角色、权限组各查询一次
+     */
+    private static List<Long> legacyGetUserRoles(long userId) throws CommonException {
+        List<Long> roleIdList = new ArrayList<>();
+        for (FleaAuthRelation userGroupRel : loader.getUserGroupRelUsers(userId)) {
+            List<Long> groupIdList = Collections.singletonList(userGroupRel.getOwnerId());
+            legacyAddRoleGroupRels(roleIdList, loader.getUserGroupRels(groupIdList, AuthRelTypeEnum.USER_GROUP_REL_ROLE_GROUP.getRelType()));
+            for (FleaAuthRelation relation : loader.getUserGroupRels(groupIdList, AuthRelTypeEnum.USER_GROUP_REL_ROLE.getRelType())) {
+                distinctAdd(roleIdList, relation.getRelId());
+            }
+        }
+        legacyAddRoleGroupRels(roleIdList, loader.getUserRels(userId, AuthRelTypeEnum.USER_REL_ROLE_GROUP.getRelType()));
+        for (FleaAuthRelation relation : loader.getUserRels(userId, AuthRelTypeEnum.USER_REL_ROLE.getRelType())) {
+            distinctAdd(roleIdList, relation.getRelId());
+        }
+        return roleIdList;
+    }
+
+    private static void legacyAddRoleGroupRels(List<Long> roleIdList, List<FleaAuthRelation> relations) throws CommonException {
+        for (FleaAuthRelation relation : relations) {
+            if (null != relation.getRelExtA()) {
+                distinctAddWithComma(roleIdList, relation.getRelExtA());
+            } else {
+                for (FleaAuthRelation roleGroupRel : loader.getRoleGroupRels(Collections.singletonList(relation.getRelId()), AuthRelTypeEnum.ROLE_GROUP_REL_ROLE.getRelType())) {
+                    distinctAdd(roleIdList, roleGroupRel.getRelId());
+                }
+            }
+        }
+    }
+
+    private static List<Long> legacyGetUserPrivileges(long userId) throws CommonException {
+        List<Long> privilegeIdList = new ArrayList<>();
+        for (Long roleId : legacyGetUserRoles(userId)) {
+            List<Long> roleIdList = Collections.singletonList(roleId);
+            for (FleaAuthRelation relation : loader.getRoleRels(roleIdList, AuthRelTypeEnum.ROLE_REL_PRIVILEGE_GROUP.getRelType())) {
+                if (null != relation.getRelExtA()) {
+                    distinctAddWithComma(privilegeIdList, relation.getRelExtA());
+                } else {
+                    for (FleaAuthRelation groupRel : loader.getPrivilegeGroupRels(Collections.singletonList(relation.getRelId()), AuthRelTypeEnum.PRIVILEGE_GROUP_REL_PRIVILEGE.getRelType())) {
+                        distinctAdd(privilegeIdList, groupRel.getRelId());
+                    }
+                }
+            }
+            for (FleaAuthRelation relation : loader.getRoleRels(roleIdList, AuthRelTypeEnum.ROLE_REL_PRIVILEGE.getRelType())) {
+                distinctAdd(privilegeIdList, relation.getRelId());
+            }
+        }
+        return privilegeIdList;
+    }
+
+    private static boolean legacyCheckResource(long userId, long resourceId) throws CommonException {
+        List<Long> privilegeIdList = legacyGetUserPrivileges(userId);
+        if (privilegeIdList.isEmpty()) return false;
+        List<Long> resourceIdList = new ArrayList<>();
+        for (FleaAuthRelation relation : loader.getPrivilegeRels(privilegeIdList, AuthRelTypeEnum.PRIVILEGE_REL_RESOURCE.getRelType())) {
+            distinctAdd(resourceIdList, relation.getRelId());
+        }
+        return resourceIdList.contains(resourceId);
+    }
+
+    private static void distinctAdd(List<Long> list, Long id) {
+        if (!list.contains(id)) {
+            list.add(id);
+        }
+    }
+
+    private static void distinctAddWithComma(List<Long> list, String ids) {
+        for (String id : ids.split(",")) {
+            distinctAdd(list, Long.valueOf(id.trim()));
+        }
+    }
+
+    // ---------------------------------------- 测试数据 ----------------------------------------
+
+    private static void createTables() throws SQLException {
+        for (String[] table : TABLES) {
+            execute("CREATE TABLE " + table[0] + " (" + table[1] + " BIGINT NOT NULL, rel_id BIGINT NOT NULL, "
+                    + "rel_type VARCHAR(50) NOT NULL, rel_state INT NOT NULL, rel_ext_a VARCHAR(1024))");
+            execute("CREATE INDEX idx_" + table[0] + " ON " + table[0] + " (" + table[1] + ", rel_type)");
+        }
+        execute("CREATE INDEX idx_flea_user_group_rel_user ON flea_user_group_rel (rel_id, rel_type)");
+    }
+
+    private static void generateOrg() throws SQLException {
+        connection.setAutoCommit(false);
+        // 用户组：每个用户属于一个用户组，每个用户组关联一个角色组和一个角色
+        try (PreparedStatement ps = insert("flea_user_group_rel")) {
+            for (long userId = 1; userId <= USERS; userId++) {
+                add(ps, userId % USER_GROUPS + 1, userId, AuthRelTypeEnum.USER_GROUP_REL_USER, null);
+            }
+            for (long groupId = 1; groupId <= USER_GROUPS; groupId++) {
+                // 部分用户组关联角色组时通过 rel_ext_a 指定角色
+                String relExtA = groupId % 100 == 0 ? (groupId % ROLES + 1) + "," + ((groupId + 1) % ROLES + 1) : null;
+                add(ps, groupId, groupId % ROLE_GROUPS + 1, AuthRelTypeEnum.USER_GROUP_REL_ROLE_GROUP, relExtA);
+                add(ps, groupId, groupId % ROLES + 1, AuthRelTypeEnum.USER_GROUP_REL_ROLE, null);
+            }
+            ps.executeBatch();
+        }
+        // 用户：每 10 个用户中有一个直接关联角色
+        try (PreparedStatement ps = insert("flea_user_rel")) {
+            for (long userId = 10; userId <= USERS; userId += 10) {
+                add(ps, userId, (userId * 3) % ROLES + 1, AuthRelTypeEnum.USER_REL_ROLE, null);
+            }
+            ps.executeBatch();
+        }
+        // 角色组：每个角色组 5 个角色
+        try (PreparedStatement ps = insert("flea_role_group_rel")) {
+            for (long roleGroupId = 1; roleGroupId <= ROLE_GROUPS; roleGroupId++) {
+                for (int k = 0; k < 5; k++) {
+                    add(ps, roleGroupId, (roleGroupId * 7 + k * 31) % ROLES + 1, AuthRelTypeEnum.ROLE_GROUP_REL_ROLE, null);
+                }
+            }
+            ps.executeBatch();
+        }
+        // 角色：每个角色 2 个权限组、10 个权限
+        try (PreparedStatement ps = insert("flea_role_rel")) {
+            for (long roleId = 1; roleId <= ROLES; roleId++) {
+                for (int k = 0; k < 2; k++) {
+                    long privilegeGroupId = (roleId * 3 + k * 17) % PRIVILEGE_GROUPS + 1;
+                    String relExtA = roleId % 50 == 0 && k == 0 ? (privilegeGroupId * 11 % PRIVILEGES + 1) + "," + (privilegeGroupId * 13 % PRIVILEGES + 1) : null;
+                    add(ps, roleId, privilegeGroupId, AuthRelTypeEnum.ROLE_REL_PRIVILEGE_GROUP, relExtA);
+                }
+                for (int k = 0; k < 10; k++) {
+                    add(ps, roleId, (roleId * 13 + k * 97) % PRIVILEGES + 1, AuthRelTypeEnum.ROLE_REL_PRIVILEGE, null);
+                }
+            }
+            ps.executeBatch();
+        }
+        // 权限组：每个权限组 10 个权限
+        try (PreparedStatement ps = insert("flea_privilege_group_rel")) {
+            for (long privilegeGroupId = 1; privilegeGroupId <= PRIVILEGE_GROUPS; privilegeGroupId++) {
+                for (int k = 0; k < 10; k++) {
+                    add(ps, privilegeGroupId, (privilegeGroupId * 11 + k * 101) % PRIVILEGES + 1, AuthRelTypeEnum.PRIVILEGE_GROUP_REL_PRIVILEGE, null);
+                }
+            }
+            ps.executeBatch();
+        }
+        // 权限：每个权限关联一个菜单和一个资源【资源编号 = 权限编号】
+        try (PreparedStatement ps = insert("flea_privilege_rel")) {
+            for (long privilegeId = 1; privilegeId <= PRIVILEGES; privilegeId++) {
+                add(ps, privilegeId, privilegeId % MENUS + 1, AuthRelTypeEnum.PRIVILEGE_REL_MENU, null);
+                add(ps, privilegeId, privilegeId, AuthRelTypeEnum.PRIVILEGE_REL_RESOURCE, null);
+            }
+            ps.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    private static PreparedStatement insert(String table) throws SQLException {
+        return connection.prepareStatement("INSERT INTO " + table + " VALUES (?, ?, ?, 1, ?)");
+    }
+
+    private static void add(PreparedStatement ps, long ownerId, long relId, AuthRelTypeEnum relType, String relExtA) throws SQLException {
+        ps.setLong(1, ownerId);
+        ps.setLong(2, relId);
+        ps.setString(3, relType.getRelType());
+        ps.setString(4, relExtA);
+        ps.addBatch();
+    }
+
+    private static void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static long firstRolePrivilege(long roleId) throws CommonException {
+        return loader.getRoleRels(Collections.singletonList(roleId), AuthRelTypeEnum.ROLE_REL_PRIVILEGE.getRelType()).get(0).getRelId();
+    }
+
+    /**
+     * 基于 JDBC 的授权关联加载器，统计查询次数
+     */
+    private static class JdbcAuthRelLoader implements IFleaAuthRelLoader {
+
+        private final Connection connection;
+
+        private final AtomicLong queryCount = new AtomicLong();
+
+        JdbcAuthRelLoader(Connection connection) {
+            this.connection = connection;
+        }
+
+        long getQueryCount() {
+            return queryCount.get();
+        }
+
+        @Override
+        public List<FleaAuthRelation> getUserGroupRelUsers(Long userId) throws CommonException {
+            return query("flea_user_group_rel", "rel_id", Collections.singletonList(userId), AuthRelTypeEnum.USER_GROUP_REL_USER.getRelType());
+        }
+
+        @Override
+        public List<FleaAuthRelation> getUserRels(Long userId, String authRelType) throws CommonException {
+            return query("flea_user_rel", "user_id", Collections.singletonList(userId), authRelType);
+        }
+
+        @Override
+        public List<FleaAuthRelation> getUserGroupRels(List<Long> userGroupIdList, String authRelType) throws CommonException {
+            return query("flea_user_group_rel", "user_group_id", userGroupIdList, authRelType);
+        }
+
+        @Override
+        public List<FleaAuthRelation> getRoleGroupRels(List<Long> roleGroupIdList, String authRelType) throws CommonException {
+            return query("flea_role_group_rel", "role_group_id", roleGroupIdList, authRelType);
+        }
+
+        @Override
+        public List<FleaAuthRelation> getRoleRels(List<Long> roleIdList, String authRelType) throws CommonException {
+            return query("flea_role_rel", "role_id", roleIdList, authRelType);
+        }
+
+        @Override
+        public List<FleaAuthRelation> getPrivilegeGroupRels(List<Long> privilegeGroupIdList, String authRelType) throws CommonException {
+            return query("flea_privilege_group_rel", "privilege_group_id", privilegeGroupIdList, authRelType);
+        }
+
+        @Override
+        public List<FleaAuthRelation> getPrivilegeRels(List<Long> privilegeIdList, String authRelType) throws CommonException {
+            return query("flea_privilege_rel", "privilege_id", privilegeIdList, authRelType);
+        }
+
+        private List<FleaAuthRelation> query(String table, String column, List<Long> idList, String authRelType) {
+            List<FleaAuthRelation> relations = new ArrayList<>();
+            if (idList.isEmpty()) {
+                return relations;
+            }
+            String ownerColumn = "flea_user_group_rel".equals(table) ? "user_group_id" : column;
+            StringBuilder sql = new StringBuilder("SELECT ").append(ownerColumn).append(", rel_id, rel_ext_a FROM ")
+                    .append(table).append(" WHERE rel_type = ? AND rel_state = 1 AND ").append(column).append(" IN (");
+            for (int i = 0; i < idList.size(); i++) {
+                sql.append(i == 0 ? "?" : ", ?");
+            }
+            sql.append(")");
+            queryCount.incrementAndGet();
+            try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+                ps.setString(1, authRelType);
+                for (int i = 0; i < idList.size(); i++) {
+                    ps.setLong(i + 2, idList.get(i));
+                }
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        relations.add(new FleaAuthRelation(rs.getLong(1), rs.getLong(2), rs.getString(3)));
+                    }
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            return relations;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.huazie.fleaframework.benchmark;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Flea基准测试运行器，运行 {@code com.huazie.fleaframework.benchmark} 包下的基准测试，
+ * 并与历史基准结果比较，超出阈值的性能退化视为失败，进程以状态码 1 退出。
+ *
+ * <p> 用法：
+ * <pre>
+ * java -jar benchmarks.jar [-include 正则] [-baseline 基准结果文件] [-save 结果文件] [-threshold 阈值]
+ * </pre>
+ * <ul>
+ *     <li> {@code -include}：需要运行的基准测试，默认全部 </li>
+ *     <li> {@code -baseline}：历史基准结果文件，未指定则不做比较 </li>
+ *     <li> {@code -save}：本次基准结果的保存文件，可作为后续比较的历史基准结果 </li>
+ *     <li> {@code -threshold}：允许的性能退化比例，默认 0.1，即 10% </li>
+ * </ul>
+ *
+ * <p> 基准结果以属性文件保存，键为基准测试方法、参数和模式，值为得分。
+ * 吞吐量模式下得分下降，其他模式（平均耗时、采样、单次耗时）下得分上升，
+ * 且变化比例超出阈值，即视为性能退化。
+ *
+ * <p> 基准测试进程使用 <b>log4j-benchmark.xml</b> 日志配置，
+ * 只输出 WARN 及以上级别日志，避免日志输出干扰测量结果。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaBenchmarkRunner {
+
+    private static final String DEFAULT_INCLUDE = "com\\.huazie\\.fleaframework\\.benchmark\\..*";
+
+    private static final double DEFAULT_THRESHOLD = 0.1D;
+
+    private static final String LOG4J_CONFIGURATION = "-Dlog4j.configuration=log4j-benchmark.xml";
+
+    private static final String THROUGHPUT = "thrpt";
+
+    private String include = DEFAULT_INCLUDE;
+
+    private String baseline;
+
+    private String save;
+
+    private double threshold = DEFAULT_THRESHOLD;
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        FleaBenchmarkRunner runner = new FleaBenchmarkRunner();
+        runner.parseArgs(args);
+        if (!runner.run()) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * 解析命令行参数
+     *
+     * @param args 命令行参数
+     * @since 2.0.0
+     */
+    private void parseArgs(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (i + 1 == args.length) {
+                throw new IllegalArgumentException("Missing value of argument [" + arg + "]");
+            }
+            String value = args[++i];
+            if ("-include".equals(arg)) {
+                include = value;
+            } else if ("-baseline".equals(arg)) {
+                baseline = value;
+            } else if ("-save".equals(arg)) {
+                save = value;
+            } else if ("-threshold".equals(arg)) {
+                threshold = Double.parseDouble(value);
+            } else {
+                throw new IllegalArgumentException("Unknown argument [" + arg + "], usage: "
+                        + "[-include regex] [-baseline file] [-save file] [-threshold ratio]");
+            }
+        }
+    }
+
+    /**
+     * 运行基准测试，并与历史基准结果比较
+     *
+     * @return true: 没有性能退化 false: 存在性能退化
+     * @throws RunnerException 基准测试运行异常
+     * @throws IOException     基准结果读写异常
+     * @since 2.0.0
+     */
+    private boolean run() throws RunnerException, IOException {
+        Collection<RunResult> runResults = new Runner(new OptionsBuilder()
+                .include(include)
+                .jvmArgsAppend(LOG4J_CONFIGURATION)
+                .build()).run();
+
+        Map<String, Double> current = new TreeMap<>();
+        for (RunResult runResult : runResults) {
+            current.put(toKey(runResult.getParams()), runResult.getPrimaryResult().getScore());
+        }
+
+        if (save != null) {
+            store(current, save);
+        }
+
+        if (baseline == null) {
+            return true;
+        }
+        return compare(load(baseline), current);
+    }
+
+    /**
+     * 比较本次基准结果与历史基准结果，并输出比较报告
+     *
+     * @param previous 历史基准结果
+     * @param current  本次基准结果
+     * @return true: 没有性能退化 false: 存在性能退化
+     * @since 2.0.0
+     */
+    private boolean compare(Map<String, Double> previous, Map<String, Double> current) {
+        List<String> regressions = new ArrayList<>();
+        System.out.println();
+        System.out.println(String.format("Baseline comparison (threshold %.1f%%)", threshold * 100));
+        for (Map.Entry<String, Double> entry : current.entrySet()) {
+            String key = entry.getKey();
+            Double before = previous.get(key);
+            double after = entry.getValue();
+            if (before == null || before == 0) {
+                System.out.println(String.format("  %-80s %15s -> %15.3f", key, "N/A", after));
+                continue;
+            }
+            double change = (after - before) / before;
+            // 吞吐量模式得分越高越好，其他模式得分越低越好
+            double regression = key.endsWith(THROUGHPUT) ? -change : change;
+            boolean regressed = regression > threshold;
+            System.out.println(String.format("  %-80s %15.3f -> %15.3f %+8.1f%%%s", key, before, after, change * 100,
+                    regressed ? "  REGRESSION" : ""));
+            if (regressed) {
+                regressions.add(key);
+            }
+        }
+
+        if (regressions.isEmpty()) {
+            System.out.println("No regression found.");
+            return true;
+        }
+        System.out.println(regressions.size() + " regression(s) found: " + regressions);
+        return false;
+    }
+
+    /**
+     * 基准结果键：基准测试方法、参数和模式，如
+     * {@code com.huazie.fleaframework.benchmark.cache.FleaCacheBenchmark.get[keyCount=10]:avgt}
+     *
+     * @param params 基准测试参数
+     * @return 基准结果键
+     * @since 2.0.0
+     */
+    private static String toKey(BenchmarkParams params) {
+        StringBuilder key = new StringBuilder(params.getBenchmark());
+        Collection<String> paramKeys = params.getParamsKeys();
+        if (!paramKeys.isEmpty()) {
+            key.append('[');
+            boolean first = true;
+            for (String paramKey : paramKeys) {
+                if (!first) {
+                    key.append(',');
+                }
+                key.append(paramKey).append('=').append(params.getParam(paramKey));
+                first = false;
+            }
+            key.append(']');
+        }
+        return key.append(':').append(params.getMode().shortLabel()).toString();
+    }
+
+    private static Map<String, Double> load(String file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = new FileInputStream(file)) {
+            properties.load(in);
+        }
+        Map<String, Double> results = new TreeMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            results.put(key, Double.valueOf(properties.getProperty(key)));
+        }
+        return results;
+    }
+
+    private static void store(Map<String, Double> results, String file) throws IOException {
+        Properties properties = new Properties();
+        for (Map.Entry<String, Double> entry : results.entrySet()) {
+            properties.setProperty(entry.getKey(), String.valueOf(entry.getValue()));
+        }
+        try (OutputStream out = new FileOutputStream(file)) {
+            properties.store(out, "Flea Benchmark Results");
+        }
+    }
+}
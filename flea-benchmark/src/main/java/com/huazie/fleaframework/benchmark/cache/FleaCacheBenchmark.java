@@ -0,0 +1,87 @@
+package com.huazie.fleaframework.benchmark.cache;
+
+import com.huazie.fleaframework.cache.AbstractFleaCache;
+import com.huazie.fleaframework.cache.common.CacheModeEnum;
+import com.huazie.fleaframework.cache.redis.impl.RedisFleaCache;
+import com.huazie.fleaframework.common.CommonConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flea缓存基准测试，基于 {@link AbstractFleaCache} 的Redis缓存实现，
+ * 使用进程内的Redis客户端替身 {@link InProcessRedisClient}，
+ * 测量缓存读写在缓存键拼接、日志、序列化和缓存键集合维护上的开销。
+ *
+ * <p> {@code keyCount} 为当前缓存中已有的数据键个数，写缓存时需读写记录全部数据键的集合。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FleaCacheBenchmark {
+
+    @Param({"10", "1000"})
+    private int keyCount;
+
+    private AbstractFleaCache fleaCache;
+
+    private String[] keys;
+
+    private Map<String, Object> value;
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        fleaCache = new RedisFleaCache("fleabenchmark", 86400, 300, CacheModeEnum.SHARDED,
+                new InProcessRedisClient(CommonConstants.FleaPoolConstants.DEFAULT_POOL_NAME));
+        value = new HashMap<>();
+        value.put("configType", "benchmark");
+        value.put("configCode", "code");
+        value.put("configState", 1);
+        keys = new String[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            keys[i] = "key" + i;
+            fleaCache.put(keys[i], value);
+        }
+    }
+
+    @Benchmark
+    public Object get() {
+        return fleaCache.get(nextKey());
+    }
+
+    @Benchmark
+    public Object getMiss() {
+        return fleaCache.get("miss");
+    }
+
+    @Benchmark
+    public void put() {
+        fleaCache.put(nextKey(), value);
+    }
+
+    private String nextKey() {
+        index = index + 1 == keyCount ? 0 : index + 1;
+        return keys[index];
+    }
+}
@@ -0,0 +1,91 @@
+package com.huazie.fleaframework.benchmark.cache;
+
+import com.huazie.fleaframework.cache.redis.FleaRedisClient;
+import com.huazie.fleaframework.common.util.ObjectUtils;
+import redis.clients.jedis.Client;
+import redis.clients.jedis.params.SetParams;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 进程内的Redis客户端替身，数据按字节数组存放在本地 Map 中，
+ * 与真实的Redis客户端一样在读写时序列化和反序列化数据值，
+ * 但不经过网络和连接池，也不处理有效期，用于测量 Flea 缓存自身的开销。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class InProcessRedisClient extends FleaRedisClient {
+
+    private final ConcurrentMap<String, byte[]> store = new ConcurrentHashMap<>();
+
+    public InProcessRedisClient(String poolName) {
+        super(poolName);
+    }
+
+    @Override
+    public String set(final String key, final Object value) {
+        return set(SafeEncoder.encode(key), encodeValue(value));
+    }
+
+    @Override
+    public String set(final byte[] key, final byte[] value) {
+        store.put(SafeEncoder.encode(key), value);
+        return "OK";
+    }
+
+    @Override
+    public String set(final String key, final Object value, final int expiry) {
+        return set(key, value);
+    }
+
+    @Override
+    public String set(final byte[] key, final byte[] value, final int expiry) {
+        return set(key, value);
+    }
+
+    @Override
+    public String set(final String key, final Object value, final long expiry) {
+        return set(key, value);
+    }
+
+    @Override
+    public String set(final byte[] key, final byte[] value, final long expiry) {
+        return set(key, value);
+    }
+
+    @Override
+    public String set(final String key, final Object value, final SetParams params) {
+        return set(key, value);
+    }
+
+    @Override
+    public String set(final byte[] key, final byte[] value, final SetParams params) {
+        return set(key, value);
+    }
+
+    @Override
+    public byte[] get(final byte[] key) {
+        return store.get(SafeEncoder.encode(key));
+    }
+
+    @Override
+    public Long del(final String key) {
+        return null == store.remove(key) ? 0L : 1L;
+    }
+
+    @Override
+    protected Client getClientByKey(final Object key) {
+        return null;
+    }
+
+    private static byte[] encodeValue(Object value) {
+        if (value instanceof String) {
+            return SafeEncoder.encode((String) value);
+        }
+        return ObjectUtils.serialize(value);
+    }
+}
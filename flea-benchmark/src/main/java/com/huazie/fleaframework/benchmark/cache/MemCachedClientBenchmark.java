@@ -0,0 +1,132 @@
+package com.huazie.fleaframework.benchmark.cache;
+
+import com.huazie.fleaframework.cache.memcached.FleaMemCachedClient;
+import com.huazie.fleaframework.cache.memcached.impl.SockIOMemCachedClient;
+import com.huazie.fleaframework.cache.memcached.nio.MemCachedProtocol;
+import com.huazie.fleaframework.cache.memcached.nio.NioMemCachedClient;
+import com.whalin.MemCached.MemCachedClient;
+import com.whalin.MemCached.SockIOPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MemCached 客户端基准测试，对比 SockIOPool 客户端与 NIO 流水线客户端，
+ * 需要一个真实的 MemCached 服务，地址取系统属性【memcached.server】，
+ * 默认为【127.0.0.1:11211】，4 个线程并发执行：
+ * <ul>
+ *     <li> {@code sockIOGet}：SockIOPool 客户端单键读取，每个线程独占一个套接字连接 </li>
+ *     <li> {@code nioTextGet}：NIO 客户端文本协议单键读取，所有线程共享一个连接，请求流水线发送 </li>
+ *     <li> {@code nioBinaryGet}：NIO 客户端二进制协议单键读取 </li>
+ *     <li> {@code sockIOGetMulti}：SockIOPool 客户端批量读取 50 个缓存键 </li>
+ *     <li> {@code nioTextGetMulti}：NIO 客户端文本协议批量读取 50 个缓存键 </li>
+ *     <li> {@code nioBinaryGetMulti}：NIO 客户端二进制协议批量读取 50 个缓存键 </li>
+ * </ul>
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class MemCachedClientBenchmark {
+
+    private static final String POOL_NAME = "memCachedBenchmark";
+
+    private static final int KEY_COUNT = 50;
+
+    private FleaMemCachedClient sockIOClient;
+
+    private NioMemCachedClient nioTextClient;
+
+    private NioMemCachedClient nioBinaryClient;
+
+    private List<String> keys;
+
+    private List<String> nioKeys;
+
+    @Setup
+    public void setup() {
+        String[] servers = {System.getProperty("memcached.server", "127.0.0.1:11211")};
+        Integer[] weights = {1};
+
+        SockIOPool pool = SockIOPool.getInstance(POOL_NAME);
+        pool.setServers(servers);
+        pool.setWeights(weights);
+        pool.setInitConn(4);
+        pool.setMaxConn(16);
+        pool.setNagle(false);
+        pool.initialize();
+        sockIOClient = new SockIOMemCachedClient(POOL_NAME, new MemCachedClient(POOL_NAME));
+
+        nioTextClient = new NioMemCachedClient(POOL_NAME + "Text", servers, weights, MemCachedProtocol.getProtocol("text"), 1000, 1000);
+        nioBinaryClient = new NioMemCachedClient(POOL_NAME + "Binary", servers, weights, MemCachedProtocol.getProtocol("binary"), 1000, 1000);
+
+        // NIO 客户端与 SockIOPool 客户端的数据值标记不同，各自写入一份数据
+        keys = new ArrayList<>();
+        nioKeys = new ArrayList<>();
+        for (int i = 0; i < KEY_COUNT; i++) {
+            String key = "benchmark_" + i;
+            keys.add(key);
+            nioKeys.add("nio_" + key);
+            sockIOClient.set(key, "value_" + i, 0);
+            nioTextClient.set("nio_" + key, "value_" + i, 0);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        nioTextClient.shutdown();
+        nioBinaryClient.shutdown();
+        SockIOPool.getInstance(POOL_NAME).shutDown();
+    }
+
+    @Benchmark
+    public Object sockIOGet() {
+        return sockIOClient.get("benchmark_0");
+    }
+
+    @Benchmark
+    public Object nioTextGet() {
+        return nioTextClient.get("nio_benchmark_0");
+    }
+
+    @Benchmark
+    public Object nioBinaryGet() {
+        return nioBinaryClient.get("nio_benchmark_0");
+    }
+
+    @Benchmark
+    public Map<String, Object> sockIOGetMulti() {
+        return sockIOClient.getMulti(keys);
+    }
+
+    @Benchmark
+    public Map<String, Object> nioTextGetMulti() {
+        return nioTextClient.getMulti(nioKeys);
+    }
+
+    @Benchmark
+    public Map<String, Object> nioBinaryGetMulti() {
+        return nioBinaryClient.getMulti(nioKeys);
+    }
+}
@@ -0,0 +1,90 @@
+package com.huazie.fleaframework.benchmark.cache;
+
+import com.huazie.fleaframework.cache.common.CacheModeEnum;
+import com.huazie.fleaframework.cache.redis.RedisClientSideCache;
+import com.huazie.fleaframework.cache.redis.impl.RedisFleaCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis客户端缓存基准测试，缓存数据为一个 {@code size} 个元素的 Map，
+ * Redis客户端使用进程内替身，客户端缓存仅按有效期失效：
+ * <ul>
+ *     <li> {@code redisGet}：未开启客户端缓存，每次读取都经过Redis客户端并反序列化 </li>
+ *     <li> {@code clientSideCacheGet}：开启客户端缓存，读取命中本地缓存，反序列化本地保存的字节数组 </li>
+ *     <li> {@code clientSideCachePutGet}：开启客户端缓存，每次读取前写入，读取总是未命中本地缓存 </li>
+ * </ul>
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisClientSideCacheBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    private Map<String, String> value;
+
+    private RedisFleaCache redisCache;
+
+    private RedisFleaCache clientSideCache;
+
+    private RedisClientSideCache redisClientSideCache;
+
+    @Setup
+    public void setup() {
+        value = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            value.put("key" + i, "value" + i);
+        }
+        redisCache = new RedisFleaCache("fleaparadetail", 60, 10, CacheModeEnum.SHARDED, new InProcessRedisClient("redisBenchmark"));
+        redisCache.put("key", value);
+
+        redisClientSideCache = new RedisClientSideCache("clientSideCacheBenchmark", null, null, 10000, 60);
+        clientSideCache = new RedisFleaCache("fleaparadetail", 60, 10, CacheModeEnum.SHARDED,
+                new InProcessRedisClient("clientSideCacheBenchmark"), redisClientSideCache);
+        clientSideCache.put("key", value);
+    }
+
+    @TearDown
+    public void tearDown() {
+        redisClientSideCache.close();
+    }
+
+    @Benchmark
+    public Object redisGet() {
+        return redisCache.get("key");
+    }
+
+    @Benchmark
+    public Object clientSideCacheGet() {
+        return clientSideCache.get("key");
+    }
+
+    @Benchmark
+    public Object clientSideCachePutGet() {
+        clientSideCache.put("key", value);
+        return clientSideCache.get("key");
+    }
+}
@@ -0,0 +1,119 @@
+package com.huazie.fleaframework.benchmark.cache;
+
+import com.huazie.fleaframework.cache.common.CacheModeEnum;
+import com.huazie.fleaframework.cache.exceptions.FleaCacheCircuitOpenException;
+import com.huazie.fleaframework.cache.exceptions.FleaCacheMaxAttemptsException;
+import com.huazie.fleaframework.cache.redis.RedisCircuitBreaker;
+import com.huazie.fleaframework.cache.redis.RedisClientCommand;
+import com.huazie.fleaframework.cache.redis.config.RedisResilienceConfig;
+import com.huazie.fleaframework.cache.redis.impl.RedisFleaCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis服务不可用时的 Redis 操作基准测试，连接池指向本地一个未监听的端口：
+ * <ul>
+ *     <li> {@code downWithoutBreaker}：不使用熔断器，每次操作都按退避策略重试至最大尝试次数 </li>
+ *     <li> {@code downWithOpenBreaker}：熔断器已熔断，操作直接被拒绝，不再获取Jedis连接 </li>
+ *     <li> {@code bypassedCacheGet}：熔断期间快速失败，Flea缓存读操作直接视为未命中 </li>
+ * </ul>
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisResilienceBenchmark {
+
+    private static final String POOL_NAME = "resilienceBenchmark";
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private JedisPool jedisPool;
+
+    private RedisCircuitBreaker openBreaker;
+
+    private RedisFleaCache bypassedCache;
+
+    @Setup
+    public void setup() throws IOException {
+        int port;
+        try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            port = serverSocket.getLocalPort();
+        }
+        jedisPool = new JedisPool(new JedisPoolConfig(), "127.0.0.1", port, 100);
+
+        RedisResilienceConfig config = new RedisResilienceConfig();
+        config.setFailureThreshold(1);
+        config.setOpenDuration(TimeUnit.HOURS.toMillis(1));
+        openBreaker = new RedisCircuitBreaker("openBenchmark", config);
+        openBreaker.onFailure();
+
+        bypassedCache = new RedisFleaCache("fleaparadetail", 60, 10, CacheModeEnum.SHARDED, new InProcessRedisClient(POOL_NAME));
+        RedisCircuitBreaker cacheBreaker = RedisCircuitBreaker.getInstance(POOL_NAME, CacheModeEnum.SHARDED);
+        while (!cacheBreaker.isOpen()) {
+            cacheBreaker.onFailure();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        jedisPool.close();
+    }
+
+    @Benchmark
+    public Exception downWithoutBreaker() {
+        try {
+            get(null);
+        } catch (FleaCacheMaxAttemptsException e) {
+            return e;
+        }
+        return null;
+    }
+
+    @Benchmark
+    public Exception downWithOpenBreaker() {
+        try {
+            get(openBreaker);
+        } catch (FleaCacheCircuitOpenException e) {
+            return e;
+        }
+        return null;
+    }
+
+    @Benchmark
+    public Object bypassedCacheGet() {
+        return bypassedCache.get("key");
+    }
+
+    private String get(RedisCircuitBreaker circuitBreaker) {
+        return new RedisClientCommand<String, JedisPool, Jedis>(jedisPool, MAX_ATTEMPTS, circuitBreaker) {
+            @Override
+            public String execute(Jedis connection) {
+                return connection.get("key");
+            }
+        }.run();
+    }
+}
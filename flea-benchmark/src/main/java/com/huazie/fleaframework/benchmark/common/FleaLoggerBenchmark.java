@@ -0,0 +1,77 @@
+package com.huazie.fleaframework.benchmark.common;
+
+import com.huazie.fleaframework.common.interceptor.impl.FleaLoggerProxyInterceptor;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flea日志基准测试，基准测试进程的日志级别为 WARN，
+ * 测量的是 DEBUG 日志未输出时，日志代理和
+ * {@link FleaLoggerProxyInterceptor} 带来的固定开销，
+ * 并以直接调用 slf4j 作为对照。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FleaLoggerBenchmark {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaLoggerBenchmark.class);
+
+    private static final Logger SLF4J_LOGGER = LoggerFactory.getLogger(FleaLoggerBenchmark.class);
+
+    private FleaLoggerProxyInterceptor interceptor;
+
+    private Method debugMethod;
+
+    private Object[] debugArgs;
+
+    @Setup
+    public void setup() throws Exception {
+        interceptor = new FleaLoggerProxyInterceptor();
+        debugMethod = FleaLogger.class.getMethod("debug1", Object.class, String.class, Object.class);
+        debugArgs = new Object[]{new Object() {}, "KEY = {}", "benchmark"};
+    }
+
+    @Benchmark
+    public void proxyDebug1() {
+        LOGGER.debug1(new Object() {}, "KEY = {}", "benchmark");
+    }
+
+    @Benchmark
+    public void proxyDebug() {
+        LOGGER.debug("KEY = {}", "benchmark");
+    }
+
+    @Benchmark
+    public void interceptor() {
+        interceptor.beforeHandle(LOGGER, debugMethod, debugArgs);
+        interceptor.afterHandle(LOGGER, debugMethod, debugArgs, null, false);
+    }
+
+    @Benchmark
+    public void slf4jDebug() {
+        SLF4J_LOGGER.debug("KEY = {}", "benchmark");
+    }
+}
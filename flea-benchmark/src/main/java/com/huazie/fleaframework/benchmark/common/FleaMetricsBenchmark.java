@@ -0,0 +1,64 @@
+package com.huazie.fleaframework.benchmark.common;
+
+import com.huazie.fleaframework.common.metrics.FleaHistogram;
+import com.huazie.fleaframework.common.metrics.FleaMetric;
+import com.huazie.fleaframework.common.metrics.FleaMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flea指标基准测试，测量单线程和多线程并发记录耗时的开销，
+ * 其中 {@code timedRecord} 包含两次 {@link System#nanoTime()}，与过滤器中的计时方式一致。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FleaMetricsBenchmark {
+
+    private FleaHistogram histogram;
+
+    private FleaMetric metric;
+
+    private long value;
+
+    @Setup
+    public void setup() {
+        histogram = new FleaHistogram();
+        metric = new FleaMetrics(true).getMetric("benchmark");
+    }
+
+    @Benchmark
+    public void histogramRecord() {
+        histogram.record(value++ & 0xFFFFF);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void histogramRecordContended() {
+        histogram.record(System.nanoTime() & 0xFFFFF);
+    }
+
+    @Benchmark
+    public void timedRecord() {
+        long start = System.nanoTime();
+        metric.record(System.nanoTime() - start);
+    }
+}
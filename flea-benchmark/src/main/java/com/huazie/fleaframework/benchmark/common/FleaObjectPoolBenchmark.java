@@ -0,0 +1,93 @@
+package com.huazie.fleaframework.benchmark.common;
+
+import com.huazie.fleaframework.common.CommonConstants;
+import com.huazie.fleaframework.common.pool.FleaGenericPoolBackend;
+import com.huazie.fleaframework.common.pool.FleaLocalPoolBackend;
+import com.huazie.fleaframework.common.pool.FleaObjectPoolConfig;
+import com.huazie.fleaframework.common.pool.IFleaObjectPoolBackend;
+import org.apache.commons.pool2.BasePooledObjectFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flea对象池基准测试，8 个线程并发借出和归还对象，
+ * 对比 commons-pool2 通用对象池（generic）和线程本地缓存对象池（local）。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class FleaObjectPoolBenchmark {
+
+    @Param({CommonConstants.FleaPoolConstants.POOL_TYPE_GENERIC, CommonConstants.FleaPoolConstants.POOL_TYPE_LOCAL})
+    private String poolType;
+
+    private IFleaObjectPoolBackend<StringBuilder> pool;
+
+    @Setup
+    public void setup() {
+        FleaObjectPoolConfig poolConfig = new FleaObjectPoolConfig();
+        poolConfig.setMaxTotal(100);
+        poolConfig.setMaxIdle(10);
+        poolConfig.setMaxWaitMillis(2000);
+        if (CommonConstants.FleaPoolConstants.POOL_TYPE_LOCAL.equals(poolType)) {
+            pool = new FleaLocalPoolBackend<>(new BuilderFactory(), poolConfig);
+        } else {
+            pool = new FleaGenericPoolBackend<>(new BuilderFactory(), poolConfig);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.close();
+    }
+
+    @Benchmark
+    public int borrowAndReturn() throws Exception {
+        StringBuilder builder = pool.borrowObject();
+        try {
+            return builder.append('x').length();
+        } finally {
+            builder.setLength(0);
+            pool.returnObject(builder);
+        }
+    }
+
+    /**
+     * 池化对象工厂，模拟创建代价低、借出时间短的框架对象
+     */
+    private static final class BuilderFactory extends BasePooledObjectFactory<StringBuilder> {
+
+        @Override
+        public StringBuilder create() {
+            return new StringBuilder(64);
+        }
+
+        @Override
+        public PooledObject<StringBuilder> wrap(StringBuilder obj) {
+            return new DefaultPooledObject<>(obj);
+        }
+    }
+}
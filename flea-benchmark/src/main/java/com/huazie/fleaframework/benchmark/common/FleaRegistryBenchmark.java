@@ -0,0 +1,110 @@
+package com.huazie.fleaframework.benchmark.common;
+
+import com.huazie.fleaframework.common.util.concurrent.FleaRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Flea注册表基准测试，8 个线程并发获取资源，对比原有的
+ * 【ConcurrentMap + 全局锁】双重检查（locked）和Flea注册表（registry）：
+ * <ul>
+ *     <li> {@code lockedHit} / {@code registryHit}：获取已创建的资源 </li>
+ *     <li> {@code lockedColdStart} / {@code registryColdStart}：每次获取一个新键，
+ *     创建资源时消耗一定 CPU，模拟连接池或客户端的创建 </li>
+ * </ul>
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class FleaRegistryBenchmark {
+
+    private static final String HIT_KEY = "default_0";
+
+    private static final long CREATE_TOKENS = 2000L; // 创建资源消耗的 CPU
+
+    private static final FleaRegistry.Loader<String, Object> LOADER = new FleaRegistry.Loader<String, Object>() {
+        @Override
+        public Object load(String key) {
+            return create();
+        }
+    };
+
+    private final AtomicLong keySequence = new AtomicLong();
+
+    private ConcurrentMap<String, Object> lockedMap;
+
+    private final Object lock = new Object();
+
+    private FleaRegistry<String, Object> registry;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        lockedMap = new ConcurrentHashMap<>();
+        registry = new FleaRegistry<>("benchmark");
+        lockedGet(HIT_KEY);
+        registry.get(HIT_KEY, LOADER);
+    }
+
+    @Benchmark
+    public Object lockedHit() {
+        return lockedGet(HIT_KEY);
+    }
+
+    @Benchmark
+    public Object registryHit() {
+        return registry.get(HIT_KEY, LOADER);
+    }
+
+    @Benchmark
+    public Object lockedColdStart() {
+        return lockedGet(String.valueOf(keySequence.incrementAndGet()));
+    }
+
+    @Benchmark
+    public Object registryColdStart() {
+        return registry.get(String.valueOf(keySequence.incrementAndGet()), LOADER);
+    }
+
+    /**
+     * 原有的获取方式，与重构前的 RedisClientFactory.getInstance 一致
+     */
+    private Object lockedGet(String key) {
+        if (!lockedMap.containsKey(key)) {
+            synchronized (lock) {
+                if (!lockedMap.containsKey(key)) {
+                    lockedMap.put(key, create());
+                }
+            }
+        }
+        return lockedMap.get(key);
+    }
+
+    private static Object create() {
+        Blackhole.consumeCPU(CREATE_TOKENS);
+        return new Object();
+    }
+}
@@ -0,0 +1,170 @@
+package com.huazie.fleaframework.benchmark.common;
+
+import com.huazie.fleaframework.common.FleaTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flea树基准测试，测量逐个添加和批量添加 {@code nodeCount} 个乱序节点的建树耗时，
+ * 以及按节点过滤生成树视图的耗时。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class FleaTreeBenchmark {
+
+    private static final int FAN_OUT = 10;
+
+    private static final Comparator<Node> NODE_COMPARATOR = new Comparator<Node>() {
+        @Override
+        public int compare(Node o1, Node o2) {
+            return o1.sort - o2.sort;
+        }
+    };
+
+    private static final FleaTree.TreeNodeResolver<Node> NODE_RESOLVER = new FleaTree.TreeNodeResolver<Node>() {
+        @Override
+        public long getId(Node element) {
+            return element.id;
+        }
+
+        @Override
+        public int getHeight(Node element) {
+            return element.height;
+        }
+
+        @Override
+        public long getParentId(Node element) {
+            return element.parentId;
+        }
+    };
+
+    // 保留编号为偶数的一级节点及其全部子树
+    private static final FleaTree.TreeNodeFilter<Node> NODE_FILTER = new FleaTree.TreeNodeFilter<Node>() {
+        @Override
+        public boolean accept(Node element, long id, int height) {
+            return height > 2 || id % 2 == 0;
+        }
+    };
+
+    @Param({"100000"})
+    private int nodeCount;
+
+    private List<Node> nodes;
+
+    private NodeTree tree;
+
+    @Setup
+    public void setup() {
+        nodes = randomNodes(nodeCount, new Random(20L));
+        tree = newTree();
+        tree.addTreeNotes(nodes, NODE_RESOLVER);
+        tree.freeze();
+    }
+
+    @Benchmark
+    public FleaTree<Node> addTreeNote() {
+        NodeTree newTree = newTree();
+        for (Node node : nodes) {
+            newTree.addTreeNote(node, node.id, node.height, null, node.parentId, node.height - 1);
+        }
+        return newTree;
+    }
+
+    @Benchmark
+    public FleaTree<Node> addTreeNotes() {
+        NodeTree newTree = newTree();
+        newTree.addTreeNotes(nodes, NODE_RESOLVER);
+        return newTree;
+    }
+
+    @Benchmark
+    public FleaTree<Node> filterView() {
+        NodeTree view = newTree();
+        tree.viewTo(view, NODE_FILTER);
+        return view;
+    }
+
+    private static NodeTree newTree() {
+        NodeTree newTree = new NodeTree();
+        newTree.addRootTreeNote(new Node(-1L, 1, -2L, 0));
+        return newTree;
+    }
+
+    /**
+     * 按层级生成每个节点最多 {@code FAN_OUT} 个子节点的树，并打乱顺序
+     */
+    private static List<Node> randomNodes(int count, Random random) {
+        List<Node> nodes = new ArrayList<>(count);
+        List<Node> parents = new ArrayList<>();
+        parents.add(new Node(-1L, 1, -2L, 0));
+        long id = 1;
+        while (nodes.size() < count) {
+            List<Node> children = new ArrayList<>();
+            for (Node parent : parents) {
+                for (int i = 0; i < FAN_OUT && nodes.size() < count; i++) {
+                    Node node = new Node(id++, parent.height + 1, parent.id, random.nextInt(FAN_OUT));
+                    nodes.add(node);
+                    children.add(node);
+                }
+            }
+            parents = children;
+        }
+        Collections.shuffle(nodes, random);
+        return nodes;
+    }
+
+    private static final class NodeTree extends FleaTree<Node> {
+
+        private static final long serialVersionUID = -1722394633591519816L;
+
+        private NodeTree() {
+            super(NODE_COMPARATOR);
+        }
+
+        private void viewTo(NodeTree target, TreeNodeFilter<Node> filter) {
+            filterTo(target, filter);
+        }
+    }
+
+    public static final class Node {
+
+        private final long id;
+
+        private final int height;
+
+        private final long parentId;
+
+        private final int sort;
+
+        private Node(long id, int height, long parentId, int sort) {
+            this.id = id;
+            this.height = height;
+            this.parentId = parentId;
+            this.sort = sort;
+        }
+    }
+}
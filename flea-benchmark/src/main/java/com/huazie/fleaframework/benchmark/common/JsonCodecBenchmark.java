@@ -0,0 +1,196 @@
+package com.huazie.fleaframework.benchmark.common;
+
+import com.google.gson.Gson;
+import com.huazie.fleaframework.common.util.json.FastJsonCodec;
+import com.huazie.fleaframework.common.util.json.GsonCodec;
+import com.huazie.fleaframework.common.util.json.IFleaJsonCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON 编解码器基准测试，以 Jersey 请求业务报文为负载，
+ * {@code size} 为业务入参 JSON 的近似字节数（1KB ~ 1MB）；
+ * 对比 Gson、FastJson 编解码器，以及每次创建 {@code Gson} 实例的原有实现。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonCodecBenchmark {
+
+    public static final String CODEC_GSON = "gson";
+
+    public static final String CODEC_FASTJSON = "fastjson";
+
+    @Param({"1024", "65536", "1048576"})
+    private int size;
+
+    @Param({CODEC_GSON, CODEC_FASTJSON})
+    private String codecName;
+
+    private IFleaJsonCodec codec;
+
+    private BusinessInput input;
+
+    private String json;
+
+    private byte[] jsonBytes;
+
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setup() {
+        codec = CODEC_GSON.equals(codecName) ? GsonCodec.getInstance() : FastJsonCodec.getInstance();
+
+        input = new BusinessInput();
+        input.setSystemAccountId("1000");
+        input.setAccountId("10000");
+        List<BusinessItem> items = new ArrayList<>();
+        input.setItems(items);
+        // 按单条业务明细的 JSON 长度估算明细条数
+        int itemCount = Math.max(1, size / codec.toJsonString(newItem(0)).length());
+        for (int i = 0; i < itemCount; i++) {
+            items.add(newItem(i));
+        }
+        json = codec.toJsonString(input);
+        out = new ByteArrayOutputStream(json.length() * 2);
+        codec.toJson(input, out);
+        jsonBytes = out.toByteArray();
+    }
+
+    @Benchmark
+    public String toJsonString() {
+        return codec.toJsonString(input);
+    }
+
+    @Benchmark
+    public BusinessInput toEntity() {
+        return codec.toEntity(json, BusinessInput.class);
+    }
+
+    @Benchmark
+    public int toJsonStream() {
+        out.reset();
+        codec.toJson(input, out);
+        return out.size();
+    }
+
+    @Benchmark
+    public BusinessInput toEntityStream() {
+        return codec.toEntity(new ByteArrayInputStream(jsonBytes), BusinessInput.class);
+    }
+
+    /**
+     * 原有实现，每次都创建 {@code Gson} 实例
+     */
+    @Benchmark
+    public BusinessInput toEntityNewGson() {
+        return new Gson().fromJson(json, BusinessInput.class);
+    }
+
+    private static BusinessItem newItem(int i) {
+        BusinessItem item = new BusinessItem();
+        item.setItemId(10000L + i);
+        item.setItemCode("FLEA_ITEM_" + i);
+        item.setItemName("Flea 基准测试业务明细 " + i);
+        item.setItemState(i % 2);
+        return item;
+    }
+
+    public static class BusinessInput {
+
+        private String systemAccountId;
+
+        private String accountId;
+
+        private List<BusinessItem> items;
+
+        public String getSystemAccountId() {
+            return systemAccountId;
+        }
+
+        public void setSystemAccountId(String systemAccountId) {
+            this.systemAccountId = systemAccountId;
+        }
+
+        public String getAccountId() {
+            return accountId;
+        }
+
+        public void setAccountId(String accountId) {
+            this.accountId = accountId;
+        }
+
+        public List<BusinessItem> getItems() {
+            return items;
+        }
+
+        public void setItems(List<BusinessItem> items) {
+            this.items = items;
+        }
+    }
+
+    public static class BusinessItem {
+
+        private Long itemId;
+
+        private String itemCode;
+
+        private String itemName;
+
+        private Integer itemState;
+
+        public Long getItemId() {
+            return itemId;
+        }
+
+        public void setItemId(Long itemId) {
+            this.itemId = itemId;
+        }
+
+        public String getItemCode() {
+            return itemCode;
+        }
+
+        public void setItemCode(String itemCode) {
+            this.itemCode = itemCode;
+        }
+
+        public String getItemName() {
+            return itemName;
+        }
+
+        public void setItemName(String itemName) {
+            this.itemName = itemName;
+        }
+
+        public Integer getItemState() {
+            return itemState;
+        }
+
+        public void setItemState(Integer itemState) {
+            this.itemState = itemState;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.huazie.fleaframework.benchmark.common;
+
+import com.huazie.fleaframework.common.util.ObjectUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对象序列化基准测试，覆盖缓存读写时的 {@link ObjectUtils#serialize(Object)}
+ * 和 {@link ObjectUtils#deserialize(byte[])}，{@code entries} 为缓存值中的元素数。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectUtilsBenchmark {
+
+    @Param({"1", "100"})
+    private int entries;
+
+    private Map<String, Object> value;
+
+    private byte[] serialized;
+
+    @Setup
+    public void setup() {
+        value = new HashMap<>();
+        for (int i = 0; i < entries; i++) {
+            value.put("key" + i, new CacheValue(i, "value" + i));
+        }
+        serialized = ObjectUtils.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return ObjectUtils.serialize(value);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return ObjectUtils.deserialize(serialized);
+    }
+
+    /**
+     * 模拟缓存的业务数据
+     */
+    public static class CacheValue implements Serializable {
+
+        private static final long serialVersionUID = 2546519402362836871L;
+
+        private final long id;
+
+        private final String name;
+
+        private final List<String> tags = new ArrayList<>();
+
+        public CacheValue(long id, String name) {
+            this.id = id;
+            this.name = name;
+            tags.add(name);
+            tags.add(String.valueOf(id));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.huazie.fleaframework.benchmark.common;
+
+import com.huazie.fleaframework.common.RegExpEnum;
+import com.huazie.fleaframework.common.util.PatternMatcherUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 正则校验吞吐量基准测试，对比 {@link PatternMatcherUtils} 缓存编译后的正则表达式
+ * 与每次调用都编译正则表达式的原有实现，校验规则取自 SQL 模板的查询校验规则和
+ * {@link RegExpEnum#EMAIL}。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class PatternMatcherBenchmark {
+
+    private static final String SELECT_RULE = "[ ]*(SELECT)[ ]+##columns##[ ]+(FROM)[ ]+##table##[ ]+(WHERE)[ ]+##conditions##[ ]*";
+
+    private static final String SELECT_TEMPLATE = "SELECT ##columns## FROM ##table## WHERE ##conditions## ";
+
+    private static final String EMAIL = "huazie@flea-framework.com";
+
+    @Benchmark
+    public boolean sqlRuleCached() {
+        return PatternMatcherUtils.matches(SELECT_RULE, SELECT_TEMPLATE, Pattern.CASE_INSENSITIVE);
+    }
+
+    @Benchmark
+    public boolean emailCached() {
+        return RegExpEnum.EMAIL.matches(EMAIL);
+    }
+
+    /**
+     * 原有实现，每次调用都编译正则表达式
+     */
+    @Benchmark
+    public boolean sqlRuleCompile() {
+        return Pattern.compile(SELECT_RULE, Pattern.CASE_INSENSITIVE).matcher(SELECT_TEMPLATE).matches();
+    }
+
+    /**
+     * 原有实现，每次调用都编译正则表达式
+     */
+    @Benchmark
+    public boolean emailCompile() {
+        return Pattern.compile(RegExpEnum.EMAIL.getExp(), Pattern.CASE_INSENSITIVE).matcher(EMAIL).matches();
+    }
+}
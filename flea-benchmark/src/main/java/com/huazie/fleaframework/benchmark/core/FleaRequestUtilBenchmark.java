@@ -0,0 +1,124 @@
+package com.huazie.fleaframework.benchmark.core;
+
+import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.core.request.FleaRequestUtil;
+import com.huazie.fleaframework.core.request.matcher.FleaUrlMatcher;
+import com.huazie.fleaframework.core.request.matcher.UrlTypeEnum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Flea请求工具类基准测试，按 <b>flea-request.xml</b> 中的 URL 配置，
+ * 测量请求过滤时 URL 类型判断和非法字符校验的开销；
+ * 另外以 {@code RULES} 条随机 URL 规则构建 {@link FleaUrlMatcher}，
+ * 与逐条 {@code url.contains(rule)} 的判断进行对照。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FleaRequestUtilBenchmark {
+
+    private static final int RULES = 1000;
+
+    private static final long SEED = 20201010L;
+
+    private static final UrlTypeEnum[] TYPES = UrlTypeEnum.values();
+
+    private static final String[] URLS = {
+            "/fleamgmt/index.html",
+            "/fleamgmt/business/fleamgmtLogin!login.flea",
+            "/fleamgmt/business/auth/user!query.flea",
+            "/fleamgmt/page/mgmt/config.flea",
+            "/fleamgmt/resources/js/jquery.min.js"
+    };
+
+    private Pattern urlIllegalCharPattern;
+
+    private FleaUrlMatcher urlMatcher;
+
+    private String[] rules;
+
+    private int index;
+
+    @Setup
+    public void setup() throws CommonException {
+        urlIllegalCharPattern = FleaRequestUtil.getUrlIllegalCharPattern();
+        // 预先加载 Flea 请求配置
+        FleaRequestUtil.matchUrl(URLS[0]);
+
+        Random random = new Random(SEED);
+        rules = new String[RULES];
+        FleaUrlMatcher.Builder builder = FleaUrlMatcher.builder();
+        for (int i = 0; i < RULES; i++) {
+            rules[i] = randomRule(random);
+            builder.addRule(rules[i], TYPES[i % TYPES.length]);
+        }
+        urlMatcher = builder.build();
+    }
+
+    @Benchmark
+    public int matchUrl() throws CommonException {
+        return FleaRequestUtil.matchUrl(nextUrl());
+    }
+
+    @Benchmark
+    public boolean isCheckUrl() throws CommonException {
+        String url = nextUrl();
+        return !FleaRequestUtil.isUnCheckUrl(url) && FleaRequestUtil.isCheckUrl(url);
+    }
+
+    @Benchmark
+    public boolean urlIllegalChar() {
+        return urlIllegalCharPattern.matcher(nextUrl()).find();
+    }
+
+    @Benchmark
+    public int urlMatcher() {
+        return urlMatcher.match(nextUrl());
+    }
+
+    @Benchmark
+    public int urlContains() {
+        String url = nextUrl();
+        int types = 0;
+        for (int i = 0; i < RULES; i++) {
+            if (url.contains(rules[i])) {
+                types |= TYPES[i % TYPES.length].getMask();
+            }
+        }
+        return types;
+    }
+
+    private String nextUrl() {
+        index = index + 1 == URLS.length ? 0 : index + 1;
+        return URLS[index];
+    }
+
+    private static String randomRule(Random random) {
+        int length = 4 + random.nextInt(12);
+        StringBuilder rule = new StringBuilder(length + 1).append('/');
+        for (int i = 0; i < length; i++) {
+            rule.append((char) ('a' + random.nextInt(26)));
+        }
+        return rule.toString();
+    }
+}
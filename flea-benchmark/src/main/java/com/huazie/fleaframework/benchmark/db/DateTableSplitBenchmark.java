@@ -0,0 +1,88 @@
+package com.huazie.fleaframework.benchmark.db;
+
+import com.huazie.fleaframework.common.DateFormatEnum;
+import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.common.util.DateUtils;
+import com.huazie.fleaframework.db.common.table.split.ITableSplit;
+import com.huazie.fleaframework.db.common.table.split.impl.YYYYMMDDTableSplitImpl;
+import com.huazie.fleaframework.db.common.table.split.impl.YYYYMMTableSplitImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 按日期分表的分表后缀计算基准测试：
+ * <ul>
+ *     <li> {@code yyyyMMDateColumn}、{@code yyyyMMddDateColumn}：按分表字段的日期计算后缀 </li>
+ *     <li> {@code yyyyMMCurrent}：分表字段为空，按当前时间计算后缀 </li>
+ *     <li> {@code dateTimeFormat}：非快速格式化的日期格式，复用线程内的日期格式化对象 </li>
+ *     <li> {@code newSimpleDateFormat}：原有实现，每次都创建 {@link SimpleDateFormat} </li>
+ * </ul>
+ * 采用 4 个线程并发执行，以体现线程内复用的效果。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class DateTableSplitBenchmark {
+
+    private ITableSplit yyyyMMTableSplit;
+
+    private ITableSplit yyyyMMddTableSplit;
+
+    private Date date;
+
+    @Setup
+    public void setup() {
+        yyyyMMTableSplit = new YYYYMMTableSplitImpl();
+        yyyyMMddTableSplit = new YYYYMMDDTableSplitImpl();
+        date = new Date();
+    }
+
+    @Benchmark
+    public String yyyyMMDateColumn() throws CommonException {
+        return yyyyMMTableSplit.convert(date);
+    }
+
+    @Benchmark
+    public String yyyyMMddDateColumn() throws CommonException {
+        return yyyyMMddTableSplit.convert(date);
+    }
+
+    @Benchmark
+    public String yyyyMMCurrent() throws CommonException {
+        return yyyyMMTableSplit.convert(null);
+    }
+
+    @Benchmark
+    public String dateTimeFormat() {
+        return DateUtils.date2String(date, DateFormatEnum.YYYY_MM_DDHH_MM_SS);
+    }
+
+    /**
+     * 原有实现，每次都创建 {@code SimpleDateFormat}
+     */
+    @Benchmark
+    public String newSimpleDateFormat() {
+        return new SimpleDateFormat(DateFormatEnum.YYYYMM.getFormat()).format(date);
+    }
+}
@@ -0,0 +1,109 @@
+package com.huazie.fleaframework.benchmark.db;
+
+import com.huazie.fleaframework.core.base.cfgdata.entity.FleaConfigData;
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.internal.jpa.FleaEntityManagerImpl;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.CommitManager;
+import org.eclipse.persistence.internal.sessions.FleaCommitManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flea 实体管理器短事务基准测试，基于 H2 内存数据库：
+ * <ul>
+ *     <li> {@code shortTransaction}：开启事务、新增一条配置数据并提交，每次提交后清空持久化上下文，
+ *     下一个事务重新获取工作单元和提交管理器 </li>
+ *     <li> {@code sharedCommitOrder}：新建提交管理器并复用共享的提交顺序 </li>
+ *     <li> {@code initializeCommitOrder}：原有实现，新建提交管理器并重新计算提交顺序 </li>
+ * </ul>
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FleaCommitOrderBenchmark {
+
+    private static final String PERSISTENCE_UNIT_NAME = "fleabenchmark";
+
+    private static final String PERSISTENCE_XML = "META-INF/fleabenchmark-persistence.xml";
+
+    private EntityManagerFactory entityManagerFactory;
+
+    private EntityManager entityManager;
+
+    private FleaEntityManagerImpl fleaEntityManager;
+
+    private AbstractSession session;
+
+    private long count;
+
+    @Setup
+    public void setup() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(PersistenceUnitProperties.ECLIPSELINK_PERSISTENCE_XML, PERSISTENCE_XML);
+        entityManagerFactory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME, properties);
+        entityManager = entityManagerFactory.createEntityManager();
+        fleaEntityManager = FleaEntityManagerImpl.getFleaEntityManagerImpl(entityManager);
+        session = fleaEntityManager.getDatabaseSession();
+    }
+
+    @TearDown
+    public void tearDown() {
+        fleaEntityManager.close();
+        entityManager.close();
+        entityManagerFactory.close();
+    }
+
+    @Benchmark
+    public FleaConfigData shortTransaction() {
+        FleaConfigData configData = new FleaConfigData();
+        configData.setConfigType("type");
+        configData.setConfigCode("code" + count++);
+        configData.setConfigName("name");
+        configData.setConfigState(1);
+        fleaEntityManager.getTransaction().begin();
+        fleaEntityManager.persist(configData);
+        fleaEntityManager.getTransaction().commit();
+        fleaEntityManager.clear();
+        return configData;
+    }
+
+    @Benchmark
+    public List sharedCommitOrder() {
+        return FleaCommitManager.newInstance(session).getCommitOrder();
+    }
+
+    /**
+     * 原有实现，每个工作单元都重新计算提交顺序
+     */
+    @Benchmark
+    public List initializeCommitOrder() {
+        CommitManager commitManager = new FleaCommitManager(session);
+        commitManager.initializeCommitOrder();
+        return commitManager.getCommitOrder();
+    }
+}
@@ -0,0 +1,120 @@
+package com.huazie.fleaframework.benchmark.db;
+
+import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.common.pool.FleaObjectPoolFactory;
+import com.huazie.fleaframework.core.base.cfgdata.entity.FleaConfigData;
+import com.huazie.fleaframework.db.jpa.common.FleaJPAQuery;
+import com.huazie.fleaframework.db.jpa.common.FleaJPAQueryPool;
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flea JPA查询基准测试，基于 H2 内存数据库中的 {@code ROWS} 条配置数据，
+ * 测量从Flea JPA查询对象池获取查询对象、组装条件、执行查询并归还的完整开销，
+ * 并以直接使用 JPA 标准查询作为对照。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FleaJPAQueryBenchmark {
+
+    private static final String PERSISTENCE_UNIT_NAME = "fleabenchmark";
+
+    private static final String PERSISTENCE_XML = "META-INF/fleabenchmark-persistence.xml";
+
+    private static final int ROWS = 1000;
+
+    private EntityManagerFactory entityManagerFactory;
+
+    private EntityManager entityManager;
+
+    private Map<String, Object> paramMap;
+
+    @Setup
+    public void setup() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(PersistenceUnitProperties.ECLIPSELINK_PERSISTENCE_XML, PERSISTENCE_XML);
+        entityManagerFactory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME, properties);
+        entityManager = entityManagerFactory.createEntityManager();
+
+        entityManager.getTransaction().begin();
+        for (int i = 0; i < ROWS; i++) {
+            FleaConfigData configData = new FleaConfigData();
+            configData.setConfigType("type" + i % 10);
+            configData.setConfigCode("code" + i);
+            configData.setConfigName("name" + i);
+            configData.setConfigState(1);
+            entityManager.persist(configData);
+        }
+        entityManager.getTransaction().commit();
+        entityManager.clear();
+
+        paramMap = new HashMap<>();
+        paramMap.put("configType", "type1");
+        paramMap.put("configCode", "code11");
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        entityManagerFactory.close();
+    }
+
+    @Benchmark
+    public List<FleaConfigData> fleaQuery() throws CommonException {
+        return getQuery(null).equal(paramMap).getResultList();
+    }
+
+    @Benchmark
+    public Object fleaCount() throws CommonException {
+        return getQuery(Long.class).equal("configType", "type1").count().getSingleResult();
+    }
+
+    @Benchmark
+    public List<FleaConfigData> criteriaQuery() {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<FleaConfigData> criteriaQuery = criteriaBuilder.createQuery(FleaConfigData.class);
+        Root<FleaConfigData> root = criteriaQuery.from(FleaConfigData.class);
+        criteriaQuery.where(criteriaBuilder.equal(root.get("configType"), "type1"),
+                criteriaBuilder.equal(root.get("configCode"), "code11"));
+        return entityManager.createQuery(criteriaQuery).getResultList();
+    }
+
+    /**
+     * 与 Flea JPA数据处理基类一致，从默认的Flea JPA查询对象池中获取并初始化查询对象
+     */
+    private FleaJPAQuery getQuery(Class<?> result) {
+        FleaJPAQueryPool pool = FleaObjectPoolFactory.getFleaObjectPool(FleaJPAQuery.class, FleaJPAQueryPool.class);
+        FleaJPAQuery query = pool.getFleaObject();
+        query.init(entityManager, FleaConfigData.class, result);
+        return query;
+    }
+}
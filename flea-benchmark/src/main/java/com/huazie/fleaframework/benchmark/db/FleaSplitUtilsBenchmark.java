@@ -0,0 +1,87 @@
+package com.huazie.fleaframework.benchmark.db;
+
+import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.db.common.table.pojo.Column;
+import com.huazie.fleaframework.db.common.table.pojo.SplitTable;
+import com.huazie.fleaframework.db.common.util.FleaSplitUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 分库分表基准测试，按 <b>flea-table-split.xml</b> 和 <b>flea-lib-split.xml</b>
+ * 中的配置测量 {@link FleaSplitUtils#getSplitTable(String, Column[])} 的开销：
+ * <ul>
+ *     <li> {@code noSplit}：没有分表配置的表 </li>
+ *     <li> {@code tableAndLibSplit}：flea_file_info，按文件编号后两位分表，并按十六进制分库 </li>
+ *     <li> {@code dateSplit}：flea_login_log，按创建日期的年月分表 </li>
+ * </ul>
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FleaSplitUtilsBenchmark {
+
+    private Column[] fileInfoCols;
+
+    private Column[] loginLogCols;
+
+    @Setup
+    public void setup() throws CommonException {
+        fileInfoCols = new Column[]{
+                newColumn("fileId", "file_id", "1a2b3c4d", true, "pk_flea_file_info_(FILE_ID)"),
+                newColumn("fileName", "file_name", "benchmark.txt", false, null)
+        };
+        loginLogCols = new Column[]{
+                newColumn("loginLogId", "login_log_id", 10000L, true, "pk_flea_login_log_(CREATE_DATE)"),
+                newColumn("accountId", "account_id", 10000L, false, null),
+                newColumn("createDate", "create_date", new Date(), false, null)
+        };
+        // 预先加载分库分表配置
+        FleaSplitUtils.getSplitTable("flea_file_info", fileInfoCols);
+    }
+
+    @Benchmark
+    public SplitTable noSplit() throws CommonException {
+        return FleaSplitUtils.getSplitTable("flea_config_data", fileInfoCols);
+    }
+
+    @Benchmark
+    public SplitTable tableAndLibSplit() throws CommonException {
+        return FleaSplitUtils.getSplitTable("flea_file_info", fileInfoCols);
+    }
+
+    @Benchmark
+    public SplitTable dateSplit() throws CommonException {
+        return FleaSplitUtils.getSplitTable("flea_login_log", loginLogCols);
+    }
+
+    private static Column newColumn(String attrName, String tabColumnName, Object attrValue, boolean primaryKey, String pkColumnValue) {
+        Column column = new Column();
+        column.setAttrName(attrName);
+        column.setAttrType(attrValue.getClass());
+        column.setTabColumnName(tabColumnName);
+        column.setAttrValue(attrValue);
+        column.setPrimaryKey(primaryKey);
+        column.setPkColumnValue(pkColumnValue);
+        column.setGeneratorFlag(true);
+        return column;
+    }
+}
@@ -0,0 +1,167 @@
+package com.huazie.fleaframework.benchmark.db;
+
+import com.huazie.fleaframework.common.FleaApplicationContext;
+import com.huazie.fleaframework.db.common.util.FleaLibUtil;
+import com.huazie.fleaframework.db.jpa.aspect.FleaTransactionalAspect;
+import com.huazie.fleaframework.db.jpa.transaction.FleaTransactional;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.CallbackPreferringPlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+
+import javax.persistence.EntityManagerFactory;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flea事务切面基准测试，测量自定义Flea事务注解标记的方法每次调用时，
+ * 切面解析事务属性、获取实体管理器、事务管理器和事务模板的开销：
+ * <ul>
+ *     <li> {@code direct}：不经过切面，直接调用目标方法 </li>
+ *     <li> {@code noSplit}：指定事务名和持久化单元名，不分库 </li>
+ *     <li> {@code seqNoSplit}：通过分库序列集表达式设置分库序列，持久化单元没有分库配置 </li>
+ *     <li> {@code splitLib}：通过分库序列集表达式设置分库序列，按 fleafs 的分库配置分库 </li>
+ * </ul>
+ * 事务管理器按回调方式执行事务，不开启数据库事务，只保留切面本身的开销。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FleaTransactionalAspectBenchmark {
+
+    private static final String TRANSACTION_NAME = "fleaBenchmarkTransactionManager";
+
+    private static final String FS_TRANSACTION_NAME = "fleaFSTransactionManager";
+
+    private static final int FS_LIB_COUNT = 4;
+
+    private StaticApplicationContext applicationContext;
+
+    private BenchmarkService target;
+
+    private BenchmarkService proxy;
+
+    @Setup
+    public void setup() {
+        applicationContext = new StaticApplicationContext();
+        applicationContext.getBeanFactory().registerSingleton(TRANSACTION_NAME, new BenchmarkTransactionManager());
+        for (int i = 1; i <= FS_LIB_COUNT; i++) {
+            applicationContext.getBeanFactory().registerSingleton(FS_TRANSACTION_NAME + i, new BenchmarkTransactionManager());
+        }
+        applicationContext.refresh();
+        new FleaApplicationContext().setApplicationContext(applicationContext);
+
+        target = new BenchmarkService();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.addAspect(new FleaTransactionalAspect());
+        proxy = proxyFactory.getProxy();
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public String direct() {
+        return target.noSplit("1a");
+    }
+
+    @Benchmark
+    public String noSplit() {
+        return proxy.noSplit("1a");
+    }
+
+    @Benchmark
+    public String seqNoSplit() {
+        try {
+            return proxy.seqNoSplit("1a");
+        } finally {
+            FleaLibUtil.clearSplitLibSeqValues();
+        }
+    }
+
+    @Benchmark
+    public String splitLib() {
+        try {
+            return proxy.splitLib("1a");
+        } finally {
+            FleaLibUtil.clearSplitLibSeqValues();
+        }
+    }
+
+    public static class BenchmarkService {
+
+        @FleaTransactional(value = TRANSACTION_NAME, unitName = "fleabenchmark")
+        public String noSplit(String seq) {
+            return seq;
+        }
+
+        @FleaTransactional(value = TRANSACTION_NAME, unitName = "fleabenchmark", seq = "'SEQ=' + #p0")
+        public String seqNoSplit(String seq) {
+            return seq;
+        }
+
+        @FleaTransactional(value = FS_TRANSACTION_NAME, unitName = "fleafs", seq = "'SEQ=' + #p0")
+        public String splitLib(String seq) {
+            return seq;
+        }
+    }
+
+    /**
+     * 按回调方式执行事务的JPA事务管理器，直接执行事务回调，不开启数据库事务
+     */
+    public static class BenchmarkTransactionManager extends JpaTransactionManager implements CallbackPreferringPlatformTransactionManager {
+
+        public BenchmarkTransactionManager() {
+            super(newEntityManagerFactory());
+        }
+
+        @Override
+        public <T> T execute(TransactionDefinition definition, TransactionCallback<T> callback) throws TransactionException {
+            return callback.doInTransaction(null);
+        }
+
+        private static EntityManagerFactory newEntityManagerFactory() {
+            return (EntityManagerFactory) Proxy.newProxyInstance(EntityManagerFactory.class.getClassLoader(),
+                    new Class<?>[]{EntityManagerFactory.class}, new InvocationHandler() {
+                        @Override
+                        public Object invoke(Object proxy, Method method, Object[] args) {
+                            if ("hashCode".equals(method.getName())) {
+                                return System.identityHashCode(proxy);
+                            }
+                            if ("equals".equals(method.getName())) {
+                                return proxy == args[0];
+                            }
+                            if ("toString".equals(method.getName())) {
+                                return "BenchmarkEntityManagerFactory";
+                            }
+                            return null;
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.huazie.fleaframework.benchmark.db;
+
+import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.core.base.cfgdata.entity.FleaConfigData;
+import com.huazie.fleaframework.db.common.sql.template.SqlTemplate;
+import com.huazie.fleaframework.db.common.sql.template.impl.DeleteSqlTemplate;
+import com.huazie.fleaframework.db.common.sql.template.impl.InsertSqlTemplate;
+import com.huazie.fleaframework.db.common.sql.template.impl.SelectSqlTemplate;
+import com.huazie.fleaframework.db.common.sql.template.impl.UpdateSqlTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL模板基准测试，按 <b>flea-sql-template.xml</b> 中的 SQL 关系配置，
+ * 测量各类 SQL 模板 {@link SqlTemplate#initialize()} 生成原生 SQL 和参数的开销。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqlTemplateBenchmark {
+
+    private FleaConfigData configData;
+
+    @Setup
+    public void setup() throws CommonException {
+        configData = new FleaConfigData();
+        configData.setConfigId(1000L);
+        configData.setConfigType("benchmark");
+        configData.setConfigCode("sql_template");
+        configData.setConfigName("SQL模板基准测试");
+        configData.setConfigState(1);
+        configData.setData1("data1");
+        // 预先加载SQL模板配置
+        insert();
+    }
+
+    @Benchmark
+    public String insert() throws CommonException {
+        return initialize(new InsertSqlTemplate<>("insert", configData));
+    }
+
+    @Benchmark
+    public String select() throws CommonException {
+        return initialize(new SelectSqlTemplate<>("select", configData));
+    }
+
+    @Benchmark
+    public String update() throws CommonException {
+        return initialize(new UpdateSqlTemplate<>("update", configData));
+    }
+
+    @Benchmark
+    public String delete() throws CommonException {
+        return initialize(new DeleteSqlTemplate<>("delete", configData));
+    }
+
+    private static String initialize(SqlTemplate<FleaConfigData> sqlTemplate) throws CommonException {
+        sqlTemplate.initialize();
+        return sqlTemplate.toNativeSql();
+    }
+}
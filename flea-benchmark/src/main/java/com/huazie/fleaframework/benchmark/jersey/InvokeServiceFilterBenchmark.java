@@ -0,0 +1,157 @@
+package com.huazie.fleaframework.benchmark.jersey;
+
+import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.common.exceptions.FleaException;
+import com.huazie.fleaframework.core.base.cfgdata.bean.FleaConfigDataSpringBean;
+import com.huazie.fleaframework.core.base.cfgdata.entity.FleaJerseyResService;
+import com.huazie.fleaframework.jersey.common.data.FleaJerseyRequest;
+import com.huazie.fleaframework.jersey.common.data.FleaJerseyRequestData;
+import com.huazie.fleaframework.jersey.common.data.FleaJerseyResponse;
+import com.huazie.fleaframework.jersey.common.data.FleaJerseyResponseData;
+import com.huazie.fleaframework.jersey.common.data.RequestBusinessData;
+import com.huazie.fleaframework.jersey.common.data.RequestPublicData;
+import com.huazie.fleaframework.jersey.common.data.ResponseBusinessData;
+import com.huazie.fleaframework.jersey.server.filter.impl.InvokeServiceFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.context.ContextLoader;
+import org.springframework.web.context.support.StaticWebApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 资源服务调用过滤器基准测试，测量 {@link InvokeServiceFilter} 从请求报文中
+ * 获取资源服务配置、分发至资源服务并组装响应业务报文的开销。
+ *
+ * <p> 基准测试不依赖数据库和Web容器，Web应用上下文由 {@link MockServletContext}
+ * 初始化，资源服务配置数据由 {@link BenchmarkConfigDataSpringBean} 直接返回。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InvokeServiceFilterBenchmark {
+
+    private static final String RESOURCE_CODE = "hello";
+
+    private static final String SERVICE_CODE = "FLEA_SERVICE_HELLO";
+
+    private static final String INPUT_JSON = "{\"name\":\"huazie\",\"age\":18}";
+
+    private ContextLoader contextLoader;
+
+    private MockServletContext servletContext;
+
+    private InvokeServiceFilter filter;
+
+    private FleaJerseyRequest request;
+
+    private FleaJerseyResponse response;
+
+    @Setup
+    public void setup() {
+        StaticWebApplicationContext webApplicationContext = new StaticWebApplicationContext();
+        webApplicationContext.registerSingleton("fleaConfigDataSpringBean", BenchmarkConfigDataSpringBean.class);
+        webApplicationContext.registerSingleton("helloService", HelloServiceImpl.class);
+        servletContext = new MockServletContext();
+        contextLoader = new ContextLoader(webApplicationContext);
+        contextLoader.initWebApplicationContext(servletContext);
+
+        filter = new InvokeServiceFilter();
+
+        RequestPublicData publicData = new RequestPublicData();
+        publicData.setResourceCode(RESOURCE_CODE);
+        publicData.setServiceCode(SERVICE_CODE);
+        RequestBusinessData businessData = new RequestBusinessData();
+        businessData.setInput(INPUT_JSON);
+        FleaJerseyRequestData requestData = new FleaJerseyRequestData();
+        requestData.setPublicData(publicData);
+        requestData.setBusinessData(businessData);
+        request = new FleaJerseyRequest();
+        request.setRequestData(requestData);
+
+        FleaJerseyResponseData responseData = new FleaJerseyResponseData();
+        responseData.setBusinessData(new ResponseBusinessData());
+        response = new FleaJerseyResponse();
+        response.setResponseData(responseData);
+    }
+
+    @TearDown
+    public void tearDown() {
+        contextLoader.closeWebApplicationContext(servletContext);
+    }
+
+    @Benchmark
+    public String invokeService() throws CommonException, FleaException {
+        filter.doFilter(request, response);
+        return response.getResponseData().getBusinessData().getOutput();
+    }
+
+    /**
+     * 直接返回资源服务配置数据的 Flea Config 配置数据Bean
+     */
+    public static class BenchmarkConfigDataSpringBean extends FleaConfigDataSpringBean {
+
+        private final FleaJerseyResService resService;
+
+        public BenchmarkConfigDataSpringBean() {
+            resService = new FleaJerseyResService();
+            resService.setResourceCode(RESOURCE_CODE);
+            resService.setServiceCode(SERVICE_CODE);
+            resService.setServiceInterfaces(IHelloService.class.getName());
+            resService.setServiceMethod("hello");
+            resService.setServiceInput(HelloInput.class.getName());
+            resService.setServiceOutput(HelloOutput.class.getName());
+        }
+
+        @Override
+        public FleaJerseyResService getResService(String resourceCode, String serviceCode) {
+            return resService;
+        }
+    }
+
+    public interface IHelloService {
+
+        HelloOutput hello(HelloInput input);
+    }
+
+    public static class HelloServiceImpl implements IHelloService {
+
+        @Override
+        public HelloOutput hello(HelloInput input) {
+            return new HelloOutput("hello " + input.name + ", " + input.age);
+        }
+    }
+
+    public static class HelloInput {
+
+        private String name;
+
+        private int age;
+    }
+
+    public static class HelloOutput {
+
+        private String message;
+
+        public HelloOutput(String message) {
+            this.message = message;
+        }
+    }
+}
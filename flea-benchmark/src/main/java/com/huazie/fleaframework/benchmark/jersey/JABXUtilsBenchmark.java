@@ -0,0 +1,119 @@
+package com.huazie.fleaframework.benchmark.jersey;
+
+import com.huazie.fleaframework.common.util.xml.JABXUtils;
+import com.huazie.fleaframework.jersey.common.data.FleaJerseyRequest;
+import com.huazie.fleaframework.jersey.common.data.FleaJerseyRequestData;
+import com.huazie.fleaframework.jersey.common.data.FleaJerseyResponse;
+import com.huazie.fleaframework.jersey.common.data.FleaJerseyResponseData;
+import com.huazie.fleaframework.jersey.common.data.RequestBusinessData;
+import com.huazie.fleaframework.jersey.common.data.RequestPublicData;
+import com.huazie.fleaframework.jersey.common.data.ResponseBusinessData;
+import com.huazie.fleaframework.jersey.common.data.ResponsePublicData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JAXB 工具类基准测试，测量 Flea Jersey 请求和响应对象与 XML 之间的往返转换开销，
+ * 并以每次创建 JAXB 上下文的原有实现作为对照。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JABXUtilsBenchmark {
+
+    private FleaJerseyRequest request;
+
+    private FleaJerseyResponse response;
+
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setup() {
+        RequestPublicData requestPublicData = new RequestPublicData();
+        requestPublicData.setSystemAccountId("1000");
+        requestPublicData.setAccountId("10000");
+        requestPublicData.setResourceCode("hello");
+        requestPublicData.setServiceCode("FLEA_SERVICE_HELLO");
+        RequestBusinessData requestBusinessData = new RequestBusinessData();
+        requestBusinessData.setInput("{\"name\":\"huazie\",\"age\":18}");
+        FleaJerseyRequestData requestData = new FleaJerseyRequestData();
+        requestData.setPublicData(requestPublicData);
+        requestData.setBusinessData(requestBusinessData);
+        request = new FleaJerseyRequest();
+        request.setRequestData(requestData);
+
+        ResponsePublicData responsePublicData = new ResponsePublicData();
+        responsePublicData.setResultCode("0");
+        responsePublicData.setResultMess("success");
+        ResponseBusinessData responseBusinessData = new ResponseBusinessData();
+        responseBusinessData.setOutput("{\"message\":\"hello huazie, 18\"}");
+        FleaJerseyResponseData responseData = new FleaJerseyResponseData();
+        responseData.setPublicData(responsePublicData);
+        responseData.setBusinessData(responseBusinessData);
+        response = new FleaJerseyResponse();
+        response.setResponseData(responseData);
+
+        out = new ByteArrayOutputStream(1024);
+    }
+
+    @Benchmark
+    public void roundTrip(Blackhole blackhole) {
+        blackhole.consume(JABXUtils.fromXml(JABXUtils.toXml(request, false), FleaJerseyRequest.class));
+        blackhole.consume(JABXUtils.fromXml(JABXUtils.toXml(response, false), FleaJerseyResponse.class));
+    }
+
+    @Benchmark
+    public int toXmlStream() {
+        out.reset();
+        JABXUtils.toXml(response, false, out);
+        return out.size();
+    }
+
+    @Benchmark
+    public void roundTripNewContext(Blackhole blackhole) throws JAXBException {
+        blackhole.consume(fromXmlByNewContext(toXmlByNewContext(request), FleaJerseyRequest.class));
+        blackhole.consume(fromXmlByNewContext(toXmlByNewContext(response), FleaJerseyResponse.class));
+    }
+
+    /**
+     * 原有实现，每次都创建 JAXB 上下文和编组器
+     */
+    private static String toXmlByNewContext(Object obj) throws JAXBException {
+        StringWriter writer = new StringWriter();
+        Marshaller marshaller = JAXBContext.newInstance(obj.getClass()).createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, false);
+        marshaller.marshal(obj, writer);
+        return writer.toString();
+    }
+
+    /**
+     * 原有实现，每次都创建 JAXB 上下文和解组器
+     */
+    private static <T> T fromXmlByNewContext(String xml, Class<T> clazz) throws JAXBException {
+        return clazz.cast(JAXBContext.newInstance(clazz).createUnmarshaller().unmarshal(new StringReader(xml)));
+    }
+}
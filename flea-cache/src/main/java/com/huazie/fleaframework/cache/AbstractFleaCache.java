@@ -27,8 +27,11 @@ import java.util.Set;
  * 一条是数据键关键字的缓存，缓存键为“系统名_name”，可查看方法
  * 【{@code getNativeCacheKey}】，默认永久有效。
  *
+ * <p> 缓存服务不可用时，子类可通过 {@link #isBypassed()} 快速失败，
+ * 此时读缓存视为未命中，写缓存不做处理，不再访问缓存服务。
+ *
  * @author huazie
- * @version 1.1.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public abstract class AbstractFleaCache implements IFleaCache {
@@ -53,6 +56,10 @@ public abstract class AbstractFleaCache implements IFleaCache {
     public Object get(String key) {
         Object value = null;
         Object obj = new Object() {};
+        if (isBypassed()) {
+            LOGGER.debug1(obj, "The [{}] cache is bypassed, KEY = {}", cache.getName(), key);
+            return value;
+        }
         try {
             LOGGER.debug1(obj, "KEY = {}", key);
             value = getNativeValue(getNativeKey(key));
@@ -65,6 +72,10 @@ public abstract class AbstractFleaCache implements IFleaCache {
 
     @Override
     public void put(String key, Object value) {
+        if (isBypassed()) {
+            LOGGER.debug1(new Object() {}, "The [{}] cache is bypassed, KEY = {}", cache.getName(), key);
+            return;
+        }
         try {
             Object result = putNativeValue(getNativeKey(key), value, expiry);
             LOGGER.debug1(new Object() {}, "Result = {}", result);
@@ -183,6 +194,17 @@ public abstract class AbstractFleaCache implements IFleaCache {
         return keySet;
     }
 
+    /**
+     * 判断缓存操作是否直接跳过，默认不跳过；子类可在缓存服务不可用时返回 true，
+     * 此时读缓存视为未命中，写缓存不做处理
+     *
+     * @return true：跳过；false：正常执行
+     * @since 2.0.0
+     */
+    protected boolean isBypassed() {
+        return false;
+    }
+
     /**
      * 获取缓存值
      *
@@ -217,7 +239,7 @@ public abstract class AbstractFleaCache implements IFleaCache {
      * @return 实际存储的缓存键
      * @since 1.0.0
      */
-    private String getNativeKey(String key) {
+    protected String getNativeKey(String key) {
         return StringUtils.strCat(getNativeCacheKey(name), CommonConstants.SymbolConstants.UNDERLINE, key);
     }
 
@@ -2,34 +2,34 @@ package com.huazie.fleaframework.cache;
 
 import com.huazie.fleaframework.common.CommonConstants;
 import com.huazie.fleaframework.common.util.ObjectUtils;
+import com.huazie.fleaframework.common.util.concurrent.FleaRegistry;
 
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 /**
  * 抽象Flea缓存管理类，用于接入Flea框架管理缓存。
  *
- * <p> 同步集合类【{@code cacheMap}】, 存储的键为缓存数据主关键字，
+ * <p> 注册表【{@code cacheMap}】, 存储的键为缓存数据主关键字，
  * 存储的值为具体的缓存实现类。<br/>
  * 如果是整合各类缓存接入，它的键对应缓存定义配置文件【flea-cache.xml】
  * 中的【{@code <cache key="缓存数据主关键字"></cache>}】；<br/>
  * 如果是单个缓存接入，它的键对应【applicationContext.xml】中
  * 【{@code <entry key="缓存数据主关键字"value="有效期（单位：s）"/>}】；
  *
+ * <p> 已创建的缓存对象无锁获取；首次获取时创建缓存对象，
+ * 不同缓存名的缓存对象并发创建，互不阻塞。
+ *
  * <p> 抽象方法【{@code newCache}】，由子类实现具体的Flea缓存类创建。
  *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public abstract class AbstractFleaCacheManager {
 
-    private static final ConcurrentMap<String, AbstractFleaCache> cacheMap = new ConcurrentHashMap<>();
-
-    private static final Object cacheMapLock = new Object();
+    private static final FleaRegistry<String, AbstractFleaCache> cacheMap = new FleaRegistry<>("AbstractFleaCacheManager");
 
     private Map<String, Integer> configMap = new HashMap<>();   // 各缓存的时间Map
 
@@ -51,19 +51,26 @@ public abstract class AbstractFleaCacheManager {
      * @since 1.0.0
      */
     public AbstractFleaCache getCache(String name) {
-        if (!cacheMap.containsKey(name)) {
-            synchronized (cacheMapLock) {
-                if (!cacheMap.containsKey(name)) {
-                    Integer expiry = configMap.get(name);
-                    if (ObjectUtils.isEmpty(expiry)) {
-                        expiry = CommonConstants.NumeralConstants.INT_ZERO; // 表示永久
-                        configMap.put(name, expiry);
-                    }
-                    cacheMap.put(name, newCache(name, expiry));
+        return cacheMap.get(name, new FleaRegistry.Loader<String, AbstractFleaCache>() {
+            @Override
+            public AbstractFleaCache load(String name) {
+                Integer expiry = configMap.get(name);
+                if (ObjectUtils.isEmpty(expiry)) {
+                    expiry = CommonConstants.NumeralConstants.INT_ZERO; // 表示永久
                 }
+                return newCache(name, expiry);
             }
-        }
-        return cacheMap.get(name);
+        });
+    }
+
+    /**
+     * 移除所有已创建的Flea缓存，注册表由所有Flea缓存管理类共享，
+     * 关闭后再次获取时重新创建
+     *
+     * @since 2.0.0
+     */
+    public static void closeFleaCaches() {
+        cacheMap.close();
     }
 
     /**
@@ -1,8 +1,13 @@
 package com.huazie.fleaframework.cache;
 
+import com.huazie.fleaframework.cache.common.FleaCacheManagerFactory;
+import com.huazie.fleaframework.cache.memcached.MemCachedClientFactory;
+import com.huazie.fleaframework.cache.redis.RedisClientFactory;
+import com.huazie.fleaframework.cache.redis.RedisClientSideCache;
 import com.huazie.fleaframework.common.CommonConstants;
 import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
 
+import javax.annotation.PreDestroy;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
@@ -21,8 +26,11 @@ import java.util.concurrent.ConcurrentMap;
  *
  * <p> 抽象方法【{@code newCache}】，由子类实现具体的Spring缓存类创建。
  *
+ * <p> 应用关闭时，关闭Flea缓存管理者、Redis客户端缓存、Redis客户端
+ * 和 MemCached 客户端的注册表，各注册表关闭后再次获取时重新创建。
+ *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public abstract class AbstractSpringCacheManager extends AbstractTransactionSupportingCacheManager {
@@ -65,6 +73,19 @@ public abstract class AbstractSpringCacheManager extends AbstractTransactionSupp
      */
     protected abstract AbstractSpringCache newCache(String name, int expiry);
 
+    /**
+     * 应用关闭时，关闭缓存相关的注册表
+     *
+     * @since 2.0.0
+     */
+    @PreDestroy
+    public void destroy() {
+        FleaCacheManagerFactory.closeFleaCacheManagers();
+        RedisClientSideCache.closeClientSideCaches();
+        RedisClientFactory.closeRedisClients();
+        MemCachedClientFactory.shutdown();
+    }
+
     /**
      * 设置各缓存有效期配置Map
      *
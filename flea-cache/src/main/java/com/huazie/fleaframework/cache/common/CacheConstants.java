@@ -122,6 +122,34 @@ public final class CacheConstants {
          * MemCached 空缓存数据有效期（单位：s）
          */
         public static final String MEMCACHED_CONFIG_NULLCACHEEXPIRY = "memcached.nullCacheExpiry";
+        /**
+         * MemCached 客户端实现（sockio 或 nio），不配置默认 sockio
+         */
+        public static final String MEMCACHED_CONFIG_CLIENT = "memcached.client";
+        /**
+         * MemCached 通信协议（text 或 binary），仅 nio 客户端有效，不配置默认 text
+         */
+        public static final String MEMCACHED_CONFIG_PROTOCOL = "memcached.protocol";
+        /**
+         * MemCached 客户端实现：SockIOPool 套接字连接池
+         */
+        public static final String MEMCACHED_CLIENT_SOCKIO = "sockio";
+        /**
+         * MemCached 客户端实现：NIO 流水线客户端
+         */
+        public static final String MEMCACHED_CLIENT_NIO = "nio";
+        /**
+         * MemCached 文本协议
+         */
+        public static final String MEMCACHED_PROTOCOL_TEXT = "text";
+        /**
+         * MemCached 二进制协议
+         */
+        public static final String MEMCACHED_PROTOCOL_BINARY = "binary";
+        /**
+         * MemCached 默认操作超时时间（单位：ms）
+         */
+        public static final int MEMCACHED_DEFAULT_TIMEOUT = 3000;
     }
 
     /**
@@ -272,6 +300,69 @@ public final class CacheConstants {
          * Redis 哨兵模式，主节点（master）所使用的数据库索引（0-15）
          */
         public static final String REDIS_SENTINEL_CONFIG_DATABASE = "redis.sentinel.database";
+        /**
+         * Redis 客户端缓存最大缓存数据数
+         */
+        public static final String REDIS_CONFIG_CLIENT_CACHE_MAXSIZE = "redis.clientCache.maxSize";
+        /**
+         * Redis 客户端缓存默认最大缓存数据数
+         */
+        public static final int REDIS_CLIENT_CACHE_MAXSIZE_DEFAULT = 10000;
+        /**
+         * Redis 客户端缓存数据有效期（单位：s）
+         */
+        public static final String REDIS_CONFIG_CLIENT_CACHE_TTL = "redis.clientCache.ttl";
+        /**
+         * Redis 客户端缓存数据默认有效期（单位：s）
+         */
+        public static final int REDIS_CLIENT_CACHE_TTL_DEFAULT = 60;
+        /**
+         * Redis 客户端缓存模式：服务端辅助失效【广播模式的 CLIENT TRACKING】
+         */
+        public static final String REDIS_CLIENT_CACHE_TRACKING = "tracking";
+        /**
+         * Redis 客户端缓存模式：仅按有效期失效
+         */
+        public static final String REDIS_CLIENT_CACHE_TTL = "ttl";
     }
 
+    /**
+     * Redis客户端容错配置常量，对应 flea-config.xml 中的【flea-redis-resilience】配置项集
+     *
+     * @since 2.0.0
+     */
+    public static final class RedisResilienceConstants {
+        /**
+         * Redis客户端容错配置项集
+         */
+        public static final String FLEA_REDIS_RESILIENCE = "flea-redis-resilience";
+        /**
+         * 重试退避的基础等待时间（单位：ms）
+         */
+        public static final String CONFIG_ITEM_BACKOFF_BASE = "backoff_base";
+        /**
+         * 重试退避的最大等待时间（单位：ms）
+         */
+        public static final String CONFIG_ITEM_BACKOFF_MAX = "backoff_max";
+        /**
+         * 单次操作（包含所有重试）的最长执行时间（单位：ms）
+         */
+        public static final String CONFIG_ITEM_DEADLINE = "deadline";
+        /**
+         * 连续失败多少次后熔断
+         */
+        public static final String CONFIG_ITEM_FAILURE_THRESHOLD = "failure_threshold";
+        /**
+         * 熔断持续时间，之后进入半开状态（单位：ms）
+         */
+        public static final String CONFIG_ITEM_OPEN_DURATION = "open_duration";
+        /**
+         * 半开状态下允许的探测操作数
+         */
+        public static final String CONFIG_ITEM_HALF_OPEN_PROBES = "half_open_probes";
+        /**
+         * 熔断期间是否快速失败【true：读缓存视为未命中，写缓存不做处理】
+         */
+        public static final String CONFIG_ITEM_FAIL_FAST = "fail_fast";
+    }
 }
@@ -8,20 +8,19 @@ import com.huazie.fleaframework.cache.redis.manager.RedisShardedFleaCacheManager
 import com.huazie.fleaframework.common.FleaCommonConfig;
 import com.huazie.fleaframework.common.strategy.FleaStrategyFacade;
 import com.huazie.fleaframework.common.strategy.IFleaStrategyContext;
-
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import com.huazie.fleaframework.common.util.concurrent.FleaRegistry;
 
 /**
  * Flea缓存管理者工厂类，不同缓存实现对应不同的Flea缓存管理者。
  *
- * <p> 同步集合类【{@code cacheMap}】，存储的键为缓存实现名，
+ * <p> 注册表【{@code managerMap}】，存储的键为缓存实现名，
  * 目前仅包含 MemCached、RedisSharded、RedisCluster 和 FleaCore；
  * 存储的值为Flea缓存管理者，目前包含MemCached缓存管理者、
  * Redis分片缓存管理者、Redis集群缓存管理者和Flea核心缓存管理者。
+ * 已创建的Flea缓存管理者无锁获取，不同缓存实现的缓存管理者并发创建，互不阻塞。
  *
  * @author huazie
- * @version 1.1.0
+ * @version 2.0.0
  * @see MemCachedFleaCacheManager
  * @see RedisShardedFleaCacheManager
  * @see RedisClusterFleaCacheManager
@@ -30,11 +29,7 @@ import java.util.concurrent.ConcurrentMap;
  */
 public class FleaCacheManagerFactory {
 
-    private static final ConcurrentMap<String, AbstractFleaCacheManager> managerMap = new ConcurrentHashMap<>();
-
-    private static final Object managerMapLock = new Object();
-
-    private static final Object managerMapLockNew = new Object();
+    private static final FleaRegistry<String, AbstractFleaCacheManager> managerMap = new FleaRegistry<>("FleaCacheManagerFactory");
 
     private static final IFleaStrategyContext<AbstractFleaCacheManager, FleaCommonConfig> fleaStrategy = new FCMStrategyContext();
 
@@ -49,14 +44,12 @@ public class FleaCacheManagerFactory {
      * @since 1.0.0
      */
     public static AbstractFleaCacheManager getFleaCacheManager(String name) {
-        if (!managerMap.containsKey(name)) {
-            synchronized (managerMapLock) {
-                if (!managerMap.containsKey(name)) {
-                    managerMap.put(name, FleaStrategyFacade.invoke(name, fleaStrategy));
-                }
+        return managerMap.get(name, new FleaRegistry.Loader<String, AbstractFleaCacheManager>() {
+            @Override
+            public AbstractFleaCacheManager load(String name) {
+                return FleaStrategyFacade.invoke(name, fleaStrategy);
             }
-        }
-        return managerMap.get(name);
+        });
     }
 
     /**
@@ -66,21 +59,30 @@ public class FleaCacheManagerFactory {
      * @return Flea Cache管理类对象实例
      * @since 2.0.0
      */
-    public static AbstractFleaCacheManager getFleaCacheManager(int database) {
+    public static AbstractFleaCacheManager getFleaCacheManager(final int database) {
         String name = CacheEnum.RedisSentinel.getName();
         if (database == 0)
             return getFleaCacheManager(name);
         name += database;
-        if (!managerMap.containsKey(name)) {
-            synchronized (managerMapLockNew) {
-                if (!managerMap.containsKey(name)) {
-                    FleaCommonConfig config = new FleaCommonConfig();
-                    config.put(CacheConstants.RedisConfigConstants.REDIS_SENTINEL_CONFIG_DATABASE, database);
-                    managerMap.put(name, FleaStrategyFacade.invoke(CacheEnum.RedisSentinel.getName(), new FCMStrategyContext(config)));
-                }
+        return managerMap.get(name, new FleaRegistry.Loader<String, AbstractFleaCacheManager>() {
+            @Override
+            public AbstractFleaCacheManager load(String name) {
+                FleaCommonConfig config = new FleaCommonConfig();
+                config.put(CacheConstants.RedisConfigConstants.REDIS_SENTINEL_CONFIG_DATABASE, database);
+                return FleaStrategyFacade.invoke(CacheEnum.RedisSentinel.getName(), new FCMStrategyContext(config));
             }
-        }
-        return managerMap.get(name);
+        });
+    }
+
+    /**
+     * 移除所有已创建的Flea缓存管理者及其创建的Flea缓存，
+     * 关闭后再次获取时重新创建
+     *
+     * @since 2.0.0
+     */
+    public static void closeFleaCacheManagers() {
+        managerMap.close();
+        AbstractFleaCacheManager.closeFleaCaches();
     }
 
 }
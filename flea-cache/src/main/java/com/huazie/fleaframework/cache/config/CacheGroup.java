@@ -6,8 +6,12 @@ import org.apache.commons.lang.builder.ToStringBuilder;
  * 缓存组，对应【flea-cache-config.xml】中
  * 【{@code <cache-group group="" desc="">缓存实现</cache-group>}】
  *
+ * <p> Redis 缓存组可配置属性【clientCache】开启客户端缓存，
+ * 可选 tracking【服务端辅助失效】或 ttl【仅按有效期失效】，
+ * 不配置则不开启，可查看 {@code RedisClientSideCache}。
+ *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public class CacheGroup {
@@ -18,6 +22,8 @@ public class CacheGroup {
 
     private String cache; // 缓存实现
 
+    private String clientCache; // 客户端缓存模式
+
     public String getGroup() {
         return group;
     }
@@ -42,6 +48,14 @@ public class CacheGroup {
         this.cache = cache;
     }
 
+    public String getClientCache() {
+        return clientCache;
+    }
+
+    public void setClientCache(String clientCache) {
+        this.clientCache = clientCache;
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this);
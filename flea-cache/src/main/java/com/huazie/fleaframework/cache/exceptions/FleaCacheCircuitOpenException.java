@@ -0,0 +1,25 @@
+package com.huazie.fleaframework.cache.exceptions;
+
+/**
+ * FleaCache熔断异常，Redis熔断器熔断期间操作被直接拒绝时抛出
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaCacheCircuitOpenException extends FleaCacheException {
+
+    private static final long serialVersionUID = -3218843606046581754L;
+
+    public FleaCacheCircuitOpenException(String message) {
+        super(message);
+    }
+
+    public FleaCacheCircuitOpenException(Throwable e) {
+        super(e);
+    }
+
+    public FleaCacheCircuitOpenException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,90 @@
+package com.huazie.fleaframework.cache.memcached;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Flea MemCached客户端接口，定义了 MemCached Flea缓存用到的读、写、
+ * 删除、批量读取以及 CAS 操作。
+ *
+ * <p> 它有两种实现：
+ * <ul>
+ *     <li> {@code SockIOMemCachedClient}：基于 SockIOPool 套接字连接池，默认实现；</li>
+ *     <li> {@code NioMemCachedClient}：每个服务器一个 NIO 连接，请求流水线发送，
+ *     按 ketama 一致性哈希分布数据，支持文本协议和二进制协议。</li>
+ * </ul>
+ * 具体使用哪种实现，由配置项【memcached.client】决定，可查看 {@link MemCachedClientFactory}。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public interface FleaMemCachedClient {
+
+    /**
+     * 读取指定缓存键的数据值
+     *
+     * @param key 缓存键
+     * @return 数据值，不存在则返回 null
+     * @since 2.0.0
+     */
+    Object get(String key);
+
+    /**
+     * 批量读取缓存数据，同一服务器上的缓存键合并为一个请求
+     *
+     * @param keys 缓存键集合
+     * @return 缓存键与数据值的映射，不包含未命中的缓存键
+     * @since 2.0.0
+     */
+    Map<String, Object> getMulti(Collection<String> keys);
+
+    /**
+     * 写入缓存数据
+     *
+     * @param key    缓存键
+     * @param value  数据值
+     * @param expiry 有效期（单位：s），0 表示永久有效
+     * @return true：写入成功；false：写入失败
+     * @since 2.0.0
+     */
+    boolean set(String key, Object value, int expiry);
+
+    /**
+     * 删除缓存数据
+     *
+     * @param key 缓存键
+     * @return true：删除成功；false：缓存数据不存在
+     * @since 2.0.0
+     */
+    boolean delete(String key);
+
+    /**
+     * 读取指定缓存键的数据值及其 CAS 唯一标识
+     *
+     * @param key 缓存键
+     * @return 数据值及其 CAS 唯一标识，不存在则返回 null
+     * @since 2.0.0
+     */
+    MemCachedCasValue gets(String key);
+
+    /**
+     * 比较并写入缓存数据，仅当服务器上的 CAS 唯一标识与传入的一致时写入
+     *
+     * @param key       缓存键
+     * @param value     数据值
+     * @param expiry    有效期（单位：s），0 表示永久有效
+     * @param casUnique CAS 唯一标识，由 {@link #gets(String)} 获取
+     * @return true：写入成功；false：数据已被修改或已不存在
+     * @since 2.0.0
+     */
+    boolean cas(String key, Object value, int expiry, long casUnique);
+
+    /**
+     * 获取连接池名
+     *
+     * @return 连接池名
+     * @since 2.0.0
+     */
+    String getPoolName();
+}
@@ -0,0 +1,36 @@
+package com.huazie.fleaframework.cache.memcached;
+
+import org.apache.commons.lang.builder.ToStringBuilder;
+
+/**
+ * MemCached 缓存数据值及其 CAS 唯一标识，由 {@code gets} 操作返回，
+ * 供后续 {@code cas} 操作使用。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class MemCachedCasValue {
+
+    private final Object value; // 数据值
+
+    private final long casUnique; // CAS 唯一标识
+
+    public MemCachedCasValue(Object value, long casUnique) {
+        this.value = value;
+        this.casUnique = casUnique;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    public long getCasUnique() {
+        return casUnique;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
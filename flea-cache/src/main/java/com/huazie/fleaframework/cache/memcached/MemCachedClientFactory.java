@@ -0,0 +1,177 @@
+package com.huazie.fleaframework.cache.memcached;
+
+import com.huazie.fleaframework.cache.common.CacheConfigUtils;
+import com.huazie.fleaframework.cache.common.CacheConstants;
+import com.huazie.fleaframework.cache.config.CacheParam;
+import com.huazie.fleaframework.cache.config.CacheServer;
+import com.huazie.fleaframework.cache.exceptions.FleaCacheException;
+import com.huazie.fleaframework.cache.memcached.config.MemCachedConfig;
+import com.huazie.fleaframework.cache.memcached.impl.SockIOMemCachedClient;
+import com.huazie.fleaframework.cache.memcached.nio.MemCachedProtocol;
+import com.huazie.fleaframework.cache.memcached.nio.NioMemCachedClient;
+import com.huazie.fleaframework.common.CommonConstants;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.ExceptionUtils;
+import com.huazie.fleaframework.common.util.ObjectUtils;
+import com.huazie.fleaframework.common.util.StringUtils;
+import com.whalin.MemCached.MemCachedClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Flea MemCached客户端工厂，用于获取 Flea MemCached客户端。
+ *
+ * <p> 客户端实现由配置项【memcached.client】决定：
+ * <ul>
+ *     <li> sockio：基于 SockIOPool 套接字连接池的客户端，默认实现；</li>
+ *     <li> nio：NIO 流水线客户端，通信协议由配置项【memcached.protocol】决定，
+ *     可选 text 或 binary，连接超时和操作超时分别取【memcached.socketConnectTO】
+ *     和【memcached.socketTO】。</li>
+ * </ul>
+ *
+ * <p> 针对单个缓存接入场景，配置项取自【memcached.properties】，
+ * 客户端的键为默认连接池名【default】；针对整合缓存接入场景，
+ * 配置项取自【flea-cache-config.xml】中的缓存参数，客户端的键为缓存组名。
+ * 同一个键只创建一个客户端，应用关闭时由 {@link #shutdown()} 关闭所有客户端。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class MemCachedClientFactory {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(MemCachedClientFactory.class);
+
+    private static final ConcurrentMap<String, FleaMemCachedClient> memCachedClients = new ConcurrentHashMap<>();
+
+    private static final Object memCachedClientLock = new Object();
+
+    private MemCachedClientFactory() {
+    }
+
+    /**
+     * 获取默认连接池的 Flea MemCached客户端，应用在单个缓存接入场景
+     *
+     * @return Flea MemCached客户端
+     * @since 2.0.0
+     */
+    public static FleaMemCachedClient getInstance() {
+        String poolName = CommonConstants.FleaPoolConstants.DEFAULT_POOL_NAME;
+        FleaMemCachedClient memCachedClient = memCachedClients.get(poolName);
+        if (ObjectUtils.isEmpty(memCachedClient)) {
+            synchronized (memCachedClientLock) {
+                memCachedClient = memCachedClients.get(poolName);
+                if (ObjectUtils.isEmpty(memCachedClient)) {
+                    MemCachedConfig config = MemCachedConfig.getConfig();
+                    if (isNio(config.getClient())) {
+                        memCachedClient = new NioMemCachedClient(poolName, config.getServers(), config.getWeights(),
+                                MemCachedProtocol.getProtocol(config.getProtocol()), config.getSocketConnectTO(), config.getSocketTO());
+                    } else {
+                        MemCachedPool.getInstance().initialize();
+                        memCachedClient = new SockIOMemCachedClient(new MemCachedClient());
+                    }
+                    LOGGER.debug1(new Object() {}, "MemCached Client = {}", memCachedClient);
+                    memCachedClients.put(poolName, memCachedClient);
+                }
+            }
+        }
+        return memCachedClient;
+    }
+
+    /**
+     * 获取指定缓存组的 Flea MemCached客户端，应用在整合缓存接入场景
+     *
+     * @param group           缓存组名
+     * @param cacheServerList 缓存服务器集
+     * @return Flea MemCached客户端
+     * @since 2.0.0
+     */
+    public static FleaMemCachedClient getInstance(String group, List<CacheServer> cacheServerList) {
+        FleaMemCachedClient memCachedClient = memCachedClients.get(group);
+        if (ObjectUtils.isEmpty(memCachedClient)) {
+            synchronized (memCachedClientLock) {
+                memCachedClient = memCachedClients.get(group);
+                if (ObjectUtils.isEmpty(memCachedClient)) {
+                    if (isNio(getCacheParamValue(CacheConstants.MemCachedConfigConstants.MEMCACHED_CONFIG_CLIENT))) {
+                        memCachedClient = newNioMemCachedClient(group, cacheServerList);
+                    } else {
+                        MemCachedPool.getInstance(group).initialize(cacheServerList);
+                        memCachedClient = new SockIOMemCachedClient(group, new MemCachedClient(group));
+                    }
+                    LOGGER.debug1(new Object() {}, "MemCached Client = {}", memCachedClient);
+                    memCachedClients.put(group, memCachedClient);
+                }
+            }
+        }
+        return memCachedClient;
+    }
+
+    /**
+     * 关闭所有已创建的 Flea MemCached客户端，NIO 客户端停止 I/O 线程，
+     * SockIO 客户端关闭对应的连接池；关闭后再次获取时重新创建客户端
+     *
+     * @since 2.0.0
+     */
+    public static void shutdown() {
+        synchronized (memCachedClientLock) {
+            for (FleaMemCachedClient memCachedClient : memCachedClients.values()) {
+                try {
+                    if (memCachedClient instanceof NioMemCachedClient) {
+                        ((NioMemCachedClient) memCachedClient).shutdown();
+                    } else {
+                        MemCachedPool.getInstance(memCachedClient.getPoolName()).shutDown();
+                    }
+                    LOGGER.debug1(new Object() {}, "MemCached Client = {} is shutdown", memCachedClient);
+                } catch (Exception e) {
+                    LOGGER.error1(new Object() {}, "MemCached Client = {} shutdown failed, Exception :\n", memCachedClient, e);
+                }
+            }
+            memCachedClients.clear();
+        }
+    }
+
+    private static NioMemCachedClient newNioMemCachedClient(String group, List<CacheServer> cacheServerList) {
+        List<String> servers = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        for (CacheServer cacheServer : cacheServerList) {
+            if (ObjectUtils.isNotEmpty(cacheServer)) {
+                if (StringUtils.isBlank(cacheServer.getServer())) {
+                    ExceptionUtils.throwFleaException(FleaCacheException.class, "请检查flea-cache-config.xml配置,【<cache-server group=" + group + " ></cache-server>】未配置缓存服务器");
+                }
+                servers.add(cacheServer.getServer());
+                String weight = cacheServer.getWeight();
+                weights.add(StringUtils.isBlank(weight) ? CommonConstants.NumeralConstants.INT_ONE : Integer.valueOf(weight.trim()));
+            }
+        }
+        MemCachedProtocol protocol = MemCachedProtocol.getProtocol(getCacheParamValue(CacheConstants.MemCachedConfigConstants.MEMCACHED_CONFIG_PROTOCOL));
+        int connectTimeout = getTimeout(CacheConstants.MemCachedConfigConstants.MEMCACHED_CONFIG_SOCKETCONNECTTO);
+        int operationTimeout = getTimeout(CacheConstants.MemCachedConfigConstants.MEMCACHED_CONFIG_SOCKETTO);
+        return new NioMemCachedClient(group, servers.toArray(new String[0]), weights.toArray(new Integer[0]), protocol, connectTimeout, operationTimeout);
+    }
+
+    private static boolean isNio(String client) {
+        return CacheConstants.MemCachedConfigConstants.MEMCACHED_CLIENT_NIO.equalsIgnoreCase(StringUtils.trim(client));
+    }
+
+    private static String getCacheParamValue(String key) {
+        CacheParam cacheParam = CacheConfigUtils.getCacheParam(key);
+        return ObjectUtils.isEmpty(cacheParam) ? null : cacheParam.getValue();
+    }
+
+    private static int getTimeout(String key) {
+        int timeout = CacheConstants.MemCachedConfigConstants.MEMCACHED_DEFAULT_TIMEOUT;
+        String value = getCacheParamValue(key);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                timeout = Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                LOGGER.warn1(new Object() {}, "配置【{} = {}】非法，使用默认值", key, value);
+            }
+        }
+        return timeout;
+    }
+}
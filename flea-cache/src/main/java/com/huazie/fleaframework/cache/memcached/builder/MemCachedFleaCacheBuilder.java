@@ -7,13 +7,13 @@ import com.huazie.fleaframework.cache.common.CacheConstants;
 import com.huazie.fleaframework.cache.common.EmptyFleaCache;
 import com.huazie.fleaframework.cache.config.CacheServer;
 import com.huazie.fleaframework.cache.exceptions.FleaCacheConfigException;
-import com.huazie.fleaframework.cache.memcached.MemCachedPool;
+import com.huazie.fleaframework.cache.memcached.FleaMemCachedClient;
+import com.huazie.fleaframework.cache.memcached.MemCachedClientFactory;
 import com.huazie.fleaframework.cache.memcached.impl.MemCachedFleaCache;
 import com.huazie.fleaframework.common.slf4j.FleaLogger;
 import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
 import com.huazie.fleaframework.common.util.CollectionUtils;
 import com.huazie.fleaframework.common.util.ExceptionUtils;
-import com.whalin.MemCached.MemCachedClient;
 
 import java.util.List;
 
@@ -28,8 +28,11 @@ import java.util.List;
  * <p> 可查看Flea缓存配置文件【flea-cache-config.xml】，获取
  * MemCached Flea缓存建造者配置项【{@code <cache-item key="MemCached">}】
  *
+ * <p> MemCached客户端实现由缓存参数【memcached.client】决定，
+ * 默认使用 SockIOPool 套接字连接池，可查看 {@link MemCachedClientFactory}。
+ *
  * @author huazie
- * @version 1.1.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public class MemCachedFleaCacheBuilder implements IFleaCacheBuilder {
@@ -52,16 +55,14 @@ public class MemCachedFleaCacheBuilder implements IFleaCacheBuilder {
         if (isSwitchOpen) { // 开关启用，按实际缓存处理
             // 获取MemCached服务器所在组名
             String group = cacheServerList.get(0).getGroup();
-            // 通过组名来获取 MemCached客户端类
-            MemCachedClient memCachedClient = new MemCachedClient(group);
-            // 获取MemCachedPool，并初始化连接池
-            MemCachedPool.getInstance(group).initialize(cacheServerList);
+            // 通过组名来获取 Flea MemCached客户端，首次获取时初始化连接
+            FleaMemCachedClient memCachedClient = MemCachedClientFactory.getInstance(group, cacheServerList);
             // 创建一个MemCached Flea缓存类
             fleaCache = new MemCachedFleaCache(name, expiry, nullCacheExpiry, memCachedClient);
 
             Object obj = new Object() {};
-            LOGGER.debug1(obj, "Pool Name = {}", MemCachedPool.getInstance(group).getPoolName());
-            LOGGER.debug1(obj, "Pool = {}", MemCachedPool.getInstance(group).getSockIOPool());
+            LOGGER.debug1(obj, "Pool Name = {}", memCachedClient.getPoolName());
+            LOGGER.debug1(obj, "MemCached Client = {}", memCachedClient);
         } else { // 开关关闭，默认返回空缓存实现
             fleaCache = new EmptyFleaCache(name, expiry, nullCacheExpiry);
         }
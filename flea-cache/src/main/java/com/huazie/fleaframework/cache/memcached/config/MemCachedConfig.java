@@ -22,7 +22,7 @@ import java.util.Properties;
  * MemCached 缓存配置文件【memcached.properties】
  *
  * @author huazie
- * @version 1.1.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public class MemCachedConfig {
@@ -59,6 +59,10 @@ public class MemCachedConfig {
 
     private int hashingAlg; // 一致性hash算法
 
+    private String client; // MemCached 客户端实现（sockio 或 nio）
+
+    private String protocol; // MemCached 通信协议（text 或 binary），仅 nio 客户端有效
+
     static {
         String fileName = CacheConstants.MemCachedConfigConstants.MEMCACHED_FILE_NAME;
         if (StringUtils.isNotBlank(System.getProperty(CacheConstants.MemCachedConfigConstants.MEMCACHED_CONFIG_FILE_SYSTEM_KEY))) {
@@ -98,6 +102,10 @@ public class MemCachedConfig {
             setNullCacheExpiry();
             // 一致性hash算法
             setHashingAlg();
+            // MemCached 客户端实现
+            setClient();
+            // MemCached 通信协议
+            setProtocol();
         } catch (FleaCacheException e) {
             LOGGER.error("Please check the MemCached config :", e);
         }
@@ -264,6 +272,30 @@ public class MemCachedConfig {
         this.hashingAlg = PropertiesUtil.getIntegerValue(prop, CacheConstants.MemCachedConfigConstants.MEMCACHED_CONFIG_HASHINGALG);
     }
 
+    public String getClient() {
+        return client;
+    }
+
+    private void setClient() {
+        String client = PropertiesUtil.getStringValue(prop, CacheConstants.MemCachedConfigConstants.MEMCACHED_CONFIG_CLIENT);
+        if (StringUtils.isBlank(client)) {
+            client = CacheConstants.MemCachedConfigConstants.MEMCACHED_CLIENT_SOCKIO; // 默认 SockIOPool
+        }
+        this.client = StringUtils.trim(client);
+    }
+
+    public String getProtocol() {
+        return protocol;
+    }
+
+    private void setProtocol() {
+        String protocol = PropertiesUtil.getStringValue(prop, CacheConstants.MemCachedConfigConstants.MEMCACHED_CONFIG_PROTOCOL);
+        if (StringUtils.isBlank(protocol)) {
+            protocol = CacheConstants.MemCachedConfigConstants.MEMCACHED_PROTOCOL_TEXT; // 默认文本协议
+        }
+        this.protocol = StringUtils.trim(protocol);
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this);
@@ -3,19 +3,24 @@ package com.huazie.fleaframework.cache.memcached.impl;
 import com.huazie.fleaframework.cache.AbstractFleaCache;
 import com.huazie.fleaframework.cache.NullCache;
 import com.huazie.fleaframework.cache.common.CacheEnum;
+import com.huazie.fleaframework.cache.memcached.FleaMemCachedClient;
 import com.huazie.fleaframework.cache.memcached.config.MemCachedConfig;
 import com.huazie.fleaframework.common.slf4j.FleaLogger;
 import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.CollectionUtils;
 import com.huazie.fleaframework.common.util.ObjectUtils;
 import com.whalin.MemCached.MemCachedClient;
 
-import java.util.Date;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * MemCached Flea缓存类，实现了以Flea框架操作MemCached缓存的基本操作方法。
  *
- * <p> 在上述基本操作方法中，实际使用MemCached客户端【{@code} memCachedClient】
- * 读、写和删除MemCached缓存。其中写缓存方法【{@code putNativeValue}】在
+ * <p> 在上述基本操作方法中，实际使用Flea MemCached客户端【{@code memCachedClient}】
+ * 读、写和删除MemCached缓存，客户端可以是基于 SockIOPool 的默认实现，
+ * 也可以是 NIO 流水线客户端，可查看 {@link FleaMemCachedClient}。其中写缓存方法【{@code putNativeValue}】在
  * 添加的数据值为【{@code null}】时，默认添加空缓存数据【{@code NullCache}】
  * 到MemCached中，有效期取初始化参数【{@code nullCacheExpiry}】。
  *
@@ -26,15 +31,18 @@ import java.util.Date;
  * 中的缓存参数【{@code <cache-param key="fleacore.nullCacheExpiry"
  * desc="空缓存数据有效期（单位：s）">300</cache-param>}】
  *
+ * <p> 方法【{@code getMulti}】批量读取缓存数据，NIO 客户端会把同一服务器上的
+ * 缓存键合并为一个请求。
+ *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public class MemCachedFleaCache extends AbstractFleaCache {
 
     private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(MemCachedFleaCache.class);
 
-    private final MemCachedClient memCachedClient;  // MemCached客户端
+    private final FleaMemCachedClient memCachedClient;  // Flea MemCached客户端
 
     /**
      * 初始化MemCached Flea缓存类
@@ -46,6 +54,19 @@ public class MemCachedFleaCache extends AbstractFleaCache {
      * @since 1.0.0
      */
     public MemCachedFleaCache(String name, int expiry, int nullCacheExpiry, MemCachedClient memCachedClient) {
+        this(name, expiry, nullCacheExpiry, new SockIOMemCachedClient(memCachedClient));
+    }
+
+    /**
+     * 初始化MemCached Flea缓存类
+     *
+     * @param name            缓存数据主关键字
+     * @param expiry          缓存数据有效期（单位：s）
+     * @param nullCacheExpiry 空缓存数据有效期（单位：s）
+     * @param memCachedClient Flea MemCached客户端
+     * @since 2.0.0
+     */
+    public MemCachedFleaCache(String name, int expiry, int nullCacheExpiry, FleaMemCachedClient memCachedClient) {
         super(name, expiry, nullCacheExpiry);
         this.memCachedClient = memCachedClient;
         cache = CacheEnum.MemCached;
@@ -65,9 +86,9 @@ public class MemCachedFleaCache extends AbstractFleaCache {
         LOGGER.debug1(obj, "MEMCACHED FLEA CACHE, EXPIRY = {}s", expiry);
         LOGGER.debug1(obj, "MEMCACHED FLEA CACHE, NULL CACHE EXPIRY = {}s", getNullCacheExpiry());
         if (ObjectUtils.isEmpty(value))
-            return memCachedClient.set(key, new NullCache(key), new Date(getNullCacheExpiry() * 1000));
+            return memCachedClient.set(key, new NullCache(key), getNullCacheExpiry());
         else
-            return memCachedClient.set(key, value, new Date(expiry * 1000));
+            return memCachedClient.set(key, value, expiry);
     }
 
     @Override
@@ -76,6 +97,35 @@ public class MemCachedFleaCache extends AbstractFleaCache {
         return memCachedClient.delete(key);
     }
 
+    /**
+     * 批量读取缓存数据，出现异常时返回空集合
+     *
+     * @param keys 缓存数据键关键字集合
+     * @return 缓存数据键关键字与数据值的映射，不包含未命中的键
+     * @since 2.0.0
+     */
+    public Map<String, Object> getMulti(Collection<String> keys) {
+        Map<String, Object> values = new HashMap<>();
+        if (CollectionUtils.isEmpty(keys)) {
+            return values;
+        }
+        Object obj = new Object() {};
+        Map<String, String> nativeKeys = new HashMap<>();
+        for (String key : keys) {
+            nativeKeys.put(getNativeKey(key), key);
+        }
+        try {
+            LOGGER.debug1(obj, "KEYS = {}", keys);
+            Map<String, Object> nativeValues = memCachedClient.getMulti(nativeKeys.keySet());
+            for (Map.Entry<String, Object> entry : nativeValues.entrySet()) {
+                values.put(nativeKeys.get(entry.getKey()), entry.getValue());
+            }
+        } catch (Exception e) {
+            LOGGER.error1(obj, "The action of getting [" + cache.getName() + "] cache occurs exception : ", e);
+        }
+        return values;
+    }
+
     @Override
     public String getSystemName() {
         return MemCachedConfig.getConfig().getSystemName();
@@ -2,6 +2,7 @@ package com.huazie.fleaframework.cache.memcached.impl;
 
 import com.huazie.fleaframework.cache.AbstractSpringCache;
 import com.huazie.fleaframework.cache.IFleaCache;
+import com.huazie.fleaframework.cache.memcached.FleaMemCachedClient;
 import com.whalin.MemCached.MemCachedClient;
 
 /**
@@ -12,7 +13,7 @@ import com.whalin.MemCached.MemCachedClient;
  * MemCached Flea缓存【{@code MemCachedFleaCache}】。
  *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @see MemCachedFleaCache
  * @since 1.0.0
  */
@@ -42,4 +43,17 @@ public class MemCachedSpringCache extends AbstractSpringCache {
         this(name, new MemCachedFleaCache(name, expiry, nullCacheExpiry, memCachedClient));
     }
 
+    /**
+     * 带参数的构造方法，初始化MemCached Spring缓存类
+     *
+     * @param name            缓存数据主关键字
+     * @param expiry          缓存数据有效期（单位：s）
+     * @param nullCacheExpiry 空缓存数据有效期（单位：s）
+     * @param memCachedClient Flea MemCached客户端
+     * @since 2.0.0
+     */
+    public MemCachedSpringCache(String name, int expiry, int nullCacheExpiry, FleaMemCachedClient memCachedClient) {
+        this(name, new MemCachedFleaCache(name, expiry, nullCacheExpiry, memCachedClient));
+    }
+
 }
@@ -0,0 +1,115 @@
+package com.huazie.fleaframework.cache.memcached.impl;
+
+import com.huazie.fleaframework.cache.memcached.FleaMemCachedClient;
+import com.huazie.fleaframework.cache.memcached.MemCachedCasValue;
+import com.huazie.fleaframework.common.CommonConstants;
+import com.huazie.fleaframework.common.util.CollectionUtils;
+import com.huazie.fleaframework.common.util.ObjectUtils;
+import com.whalin.MemCached.MemCachedClient;
+import com.whalin.MemCached.MemcachedItem;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 基于 SockIOPool 套接字连接池的 Flea MemCached客户端，
+ * 所有操作委托给 MemCached客户端【{@code MemCachedClient}】，
+ * 连接池由 {@code MemCachedPool} 初始化，为默认的客户端实现。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class SockIOMemCachedClient implements FleaMemCachedClient {
+
+    private final String poolName; // 连接池名
+
+    private final MemCachedClient memCachedClient; // MemCached客户端
+
+    /**
+     * 使用默认连接池的MemCached客户端
+     *
+     * @param memCachedClient MemCached客户端
+     * @since 2.0.0
+     */
+    public SockIOMemCachedClient(MemCachedClient memCachedClient) {
+        this(CommonConstants.FleaPoolConstants.DEFAULT_POOL_NAME, memCachedClient);
+    }
+
+    /**
+     * 使用指定连接池的MemCached客户端
+     *
+     * @param poolName        连接池名
+     * @param memCachedClient MemCached客户端
+     * @since 2.0.0
+     */
+    public SockIOMemCachedClient(String poolName, MemCachedClient memCachedClient) {
+        this.poolName = poolName;
+        this.memCachedClient = memCachedClient;
+    }
+
+    @Override
+    public Object get(String key) {
+        return memCachedClient.get(key);
+    }
+
+    @Override
+    public Map<String, Object> getMulti(Collection<String> keys) {
+        if (CollectionUtils.isEmpty(keys)) {
+            return Collections.emptyMap();
+        }
+        Map<String, Object> values = memCachedClient.getMulti(keys.toArray(new String[0]));
+        Map<String, Object> result = new HashMap<>();
+        if (ObjectUtils.isNotEmpty(values)) {
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                if (ObjectUtils.isNotEmpty(entry.getValue())) {
+                    result.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean set(String key, Object value, int expiry) {
+        return memCachedClient.set(key, value, new Date(expiry * 1000L));
+    }
+
+    @Override
+    public boolean delete(String key) {
+        return memCachedClient.delete(key);
+    }
+
+    @Override
+    public MemCachedCasValue gets(String key) {
+        MemcachedItem item = memCachedClient.gets(key);
+        if (ObjectUtils.isEmpty(item) || ObjectUtils.isEmpty(item.getValue())) {
+            return null;
+        }
+        return new MemCachedCasValue(item.getValue(), item.getCasUnique());
+    }
+
+    @Override
+    public boolean cas(String key, Object value, int expiry, long casUnique) {
+        return memCachedClient.cas(key, value, new Date(expiry * 1000L), casUnique);
+    }
+
+    @Override
+    public String getPoolName() {
+        return poolName;
+    }
+
+    public MemCachedClient getMemCachedClient() {
+        return memCachedClient;
+    }
+
+    @Override
+    public String toString() {
+        return "SockIOMemCachedClient{" +
+                "poolName='" + poolName + '\'' +
+                '}';
+    }
+}
@@ -3,9 +3,12 @@ package com.huazie.fleaframework.cache.memcached.manager;
 import com.huazie.fleaframework.cache.AbstractFleaCache;
 import com.huazie.fleaframework.cache.AbstractFleaCacheManager;
 import com.huazie.fleaframework.cache.common.EmptyFleaCache;
+import com.huazie.fleaframework.cache.memcached.FleaMemCachedClient;
+import com.huazie.fleaframework.cache.memcached.MemCachedClientFactory;
 import com.huazie.fleaframework.cache.memcached.MemCachedPool;
 import com.huazie.fleaframework.cache.memcached.config.MemCachedConfig;
 import com.huazie.fleaframework.cache.memcached.impl.MemCachedFleaCache;
+import com.huazie.fleaframework.cache.memcached.impl.SockIOMemCachedClient;
 import com.whalin.MemCached.MemCachedClient;
 
 /**
@@ -18,21 +21,23 @@ import com.whalin.MemCached.MemCachedClient;
  * 它里面包含了 读、写、删除 和 清空 缓存的基本操作。
  *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @see MemCachedFleaCache
  * @since 1.0.0
  */
 public class MemCachedFleaCacheManager extends AbstractFleaCacheManager {
 
-    private MemCachedClient memCachedClient;   // MemCached客户端类
+    private FleaMemCachedClient memCachedClient;   // Flea MemCached客户端
 
     /**
-     * 用于新建MemCached客户端，并初始化MemCached连接池。
+     * 用于单个缓存接入场景，从Flea MemCached客户端工厂获取默认连接池的客户端，
+     * 客户端实现由【memcached.properties】中的配置项【memcached.client】决定。
      *
      * @since 1.0.0
      */
     public MemCachedFleaCacheManager() {
-        this(new MemCachedClient());
+        if (!MemCachedConfig.getConfig().isSwitchOpen()) return;
+        this.memCachedClient = MemCachedClientFactory.getInstance();
     }
 
     /**
@@ -43,7 +48,7 @@ public class MemCachedFleaCacheManager extends AbstractFleaCacheManager {
      */
     public MemCachedFleaCacheManager(MemCachedClient memCachedClient) {
         if (!MemCachedConfig.getConfig().isSwitchOpen()) return;
-        this.memCachedClient = memCachedClient;
+        this.memCachedClient = new SockIOMemCachedClient(memCachedClient);
         initPool();
     }
 
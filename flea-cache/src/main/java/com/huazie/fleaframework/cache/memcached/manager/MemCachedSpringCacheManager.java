@@ -3,11 +3,16 @@ package com.huazie.fleaframework.cache.memcached.manager;
 import com.huazie.fleaframework.cache.AbstractSpringCache;
 import com.huazie.fleaframework.cache.AbstractSpringCacheManager;
 import com.huazie.fleaframework.cache.common.EmptyFleaCache;
+import com.huazie.fleaframework.cache.memcached.FleaMemCachedClient;
+import com.huazie.fleaframework.cache.memcached.MemCachedClientFactory;
 import com.huazie.fleaframework.cache.memcached.MemCachedPool;
 import com.huazie.fleaframework.cache.memcached.config.MemCachedConfig;
 import com.huazie.fleaframework.cache.memcached.impl.MemCachedSpringCache;
+import com.huazie.fleaframework.cache.memcached.impl.SockIOMemCachedClient;
 import com.whalin.MemCached.MemCachedClient;
 
+import javax.annotation.PreDestroy;
+
 /**
  * MemCached Spring缓存管理类，用于接入Spring框架管理 MemCached 缓存。
  *
@@ -18,22 +23,28 @@ import com.whalin.MemCached.MemCachedClient;
  * 而它内部是由MemCached Flea缓存实现具体的 读、写、删除 和 清空
  * 缓存的基本操作。
  *
+ * <p> 应用关闭时，关闭 MemCached 客户端和连接池。
+ *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @see MemCachedSpringCache
  * @since 1.0.0
  */
 public class MemCachedSpringCacheManager extends AbstractSpringCacheManager {
 
-    private MemCachedClient memCachedClient;   // MemCached客户端类
+    private FleaMemCachedClient memCachedClient;   // Flea MemCached客户端
+
+    private MemCachedPool memCachedPool;   // 由当前缓存管理类初始化的MemCached连接池
 
     /**
-     * 用于新建MemCached客户端，并初始化MemCached连接池。
+     * 用于单个缓存接入场景，从Flea MemCached客户端工厂获取默认连接池的客户端，
+     * 客户端实现由【memcached.properties】中的配置项【memcached.client】决定。
      *
      * @since 1.0.0
      */
     public MemCachedSpringCacheManager() {
-        this(new MemCachedClient());
+        if (!MemCachedConfig.getConfig().isSwitchOpen()) return;
+        this.memCachedClient = MemCachedClientFactory.getInstance();
     }
 
     /**
@@ -43,7 +54,7 @@ public class MemCachedSpringCacheManager extends AbstractSpringCacheManager {
      */
     public MemCachedSpringCacheManager(MemCachedClient memCachedClient) {
         if (!MemCachedConfig.getConfig().isSwitchOpen()) return;
-        this.memCachedClient = memCachedClient;
+        this.memCachedClient = new SockIOMemCachedClient(memCachedClient);
         initPool();
     }
 
@@ -53,7 +64,24 @@ public class MemCachedSpringCacheManager extends AbstractSpringCacheManager {
      * @since 1.0.0
      */
     private void initPool() {
-        MemCachedPool.getInstance().initialize();
+        memCachedPool = MemCachedPool.getInstance();
+        memCachedPool.initialize();
+    }
+
+    /**
+     * 应用关闭时，关闭缓存相关的注册表，
+     * 以及由当前缓存管理类初始化的MemCached连接池
+     *
+     * @since 2.0.0
+     */
+    @Override
+    @PreDestroy
+    public void destroy() {
+        super.destroy();
+        if (null != memCachedPool) {
+            memCachedPool.shutDown();
+            memCachedPool = null;
+        }
     }
 
     @Override
@@ -0,0 +1,240 @@
+package com.huazie.fleaframework.cache.memcached.nio;
+
+import com.huazie.fleaframework.cache.common.CacheConstants;
+import com.huazie.fleaframework.cache.exceptions.FleaCacheException;
+import com.huazie.fleaframework.common.util.ExceptionUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MemCached 二进制协议。
+ *
+ * <p> 每个请求和响应都以 24 字节的包头开始，包头中记录了扩展字段、
+ * 缓存键和数据值的长度，解析时无需逐字节查找行尾。
+ *
+ * <p> 批量读取时，每个缓存键发送一个静默的【GETKQ】请求，未命中的缓存键
+ * 服务器不返回响应，最后以一个【NOOP】请求结束，收到【NOOP】的响应即表示
+ * 批量读取完成。写入使用【SET】请求，包头中的 CAS 唯一标识不为 0 时即为 CAS 操作。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+final class BinaryMemCachedProtocol extends MemCachedProtocol {
+
+    static final BinaryMemCachedProtocol INSTANCE = new BinaryMemCachedProtocol();
+
+    static final int HEADER_LENGTH = 24;
+
+    static final byte MAGIC_REQUEST = (byte) 0x80;
+
+    static final byte MAGIC_RESPONSE = (byte) 0x81;
+
+    static final byte OPCODE_SET = 0x01;
+
+    static final byte OPCODE_DELETE = 0x04;
+
+    static final byte OPCODE_NOOP = 0x0A;
+
+    static final byte OPCODE_GETKQ = 0x0D;
+
+    static final short STATUS_SUCCESS = 0x0000;
+
+    static final short STATUS_KEY_NOT_FOUND = 0x0001;
+
+    static final short STATUS_KEY_EXISTS = 0x0002;
+
+    static final short STATUS_ITEM_NOT_STORED = 0x0005;
+
+    private BinaryMemCachedProtocol() {
+    }
+
+    @Override
+    MemCachedOperation get(Collection<String> keys) {
+        List<ByteBuffer> requests = new ArrayList<>(keys.size() + 1);
+        int length = 0;
+        for (String key : keys) {
+            ByteBuffer request = request(OPCODE_GETKQ, encodeKey(key), null, null, 0L);
+            length += request.remaining();
+            requests.add(request);
+        }
+        ByteBuffer noop = request(OPCODE_NOOP, null, null, null, 0L);
+        ByteBuffer request = ByteBuffer.allocate(length + noop.remaining());
+        for (ByteBuffer buffer : requests) {
+            request.put(buffer);
+        }
+        request.put(noop);
+        request.flip();
+        return new MemCachedOperation(request) {
+
+            private final Map<String, MemCachedValue> values = new HashMap<>();
+
+            @Override
+            boolean readResponse(ByteBuffer in) {
+                while (isComplete(in)) {
+                    int start = in.position();
+                    byte opcode = in.get(start + 1);
+                    short keyLength = in.getShort(start + 2);
+                    int extrasLength = in.get(start + 4) & 0xFF;
+                    short status = in.getShort(start + 6);
+                    int bodyLength = in.getInt(start + 8);
+                    long casUnique = in.getLong(start + 16);
+                    in.position(start + HEADER_LENGTH);
+                    if (OPCODE_NOOP == opcode) {
+                        in.position(start + HEADER_LENGTH + bodyLength);
+                        complete(values);
+                        return true;
+                    }
+                    if (STATUS_SUCCESS == status) {
+                        int flags = extrasLength >= 4 ? in.getInt(in.position()) : 0;
+                        in.position(in.position() + extrasLength);
+                        byte[] key = new byte[keyLength];
+                        in.get(key);
+                        byte[] data = new byte[bodyLength - extrasLength - keyLength];
+                        in.get(data);
+                        values.put(new String(key, StandardCharsets.UTF_8), new MemCachedValue(flags, data, casUnique));
+                    } else {
+                        // 静默请求只返回错误响应，跳过
+                        in.position(start + HEADER_LENGTH + bodyLength);
+                    }
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    MemCachedOperation store(String key, int flags, byte[] data, int expiry, long casUnique) {
+        byte[] extras = ByteBuffer.allocate(8).putInt(flags).putInt(expiry).array();
+        return new SimpleOperation(request(OPCODE_SET, encodeKey(key), extras, data, casUnique), "MemCached写入失败：") {
+            @Override
+            void onResponse(short status, String message) {
+                if (STATUS_SUCCESS == status) {
+                    complete(Boolean.TRUE);
+                } else if (STATUS_KEY_EXISTS == status || STATUS_KEY_NOT_FOUND == status || STATUS_ITEM_NOT_STORED == status) {
+                    complete(Boolean.FALSE);
+                } else {
+                    fail(new FleaCacheException(getErrorPrefix() + message));
+                }
+            }
+        };
+    }
+
+    @Override
+    MemCachedOperation delete(String key) {
+        return new SimpleOperation(request(OPCODE_DELETE, encodeKey(key), null, null, 0L), "MemCached删除失败：") {
+            @Override
+            void onResponse(short status, String message) {
+                if (STATUS_SUCCESS == status) {
+                    complete(Boolean.TRUE);
+                } else if (STATUS_KEY_NOT_FOUND == status) {
+                    complete(Boolean.FALSE);
+                } else {
+                    fail(new FleaCacheException(getErrorPrefix() + message));
+                }
+            }
+        };
+    }
+
+    @Override
+    public String getName() {
+        return CacheConstants.MemCachedConfigConstants.MEMCACHED_PROTOCOL_BINARY;
+    }
+
+    /**
+     * 编码二进制协议请求
+     *
+     * @param opcode    操作码
+     * @param key       缓存键
+     * @param extras    扩展字段
+     * @param value     数据值
+     * @param casUnique CAS 唯一标识
+     * @return 请求
+     * @since 2.0.0
+     */
+    static ByteBuffer request(byte opcode, byte[] key, byte[] extras, byte[] value, long casUnique) {
+        int keyLength = null == key ? 0 : key.length;
+        int extrasLength = null == extras ? 0 : extras.length;
+        int valueLength = null == value ? 0 : value.length;
+        int bodyLength = extrasLength + keyLength + valueLength;
+        ByteBuffer request = ByteBuffer.allocate(HEADER_LENGTH + bodyLength);
+        request.put(MAGIC_REQUEST)
+                .put(opcode)
+                .putShort((short) keyLength)
+                .put((byte) extrasLength)
+                .put((byte) 0) // 数据类型
+                .putShort((short) 0) // vbucket id
+                .putInt(bodyLength)
+                .putInt(0) // opaque
+                .putLong(casUnique);
+        if (extrasLength > 0) {
+            request.put(extras);
+        }
+        if (keyLength > 0) {
+            request.put(key);
+        }
+        if (valueLength > 0) {
+            request.put(value);
+        }
+        request.flip();
+        return request;
+    }
+
+    /**
+     * 判断读缓冲区中是否有一个完整的响应包
+     */
+    private static boolean isComplete(ByteBuffer in) {
+        if (in.remaining() < HEADER_LENGTH) {
+            return false;
+        }
+        if (MAGIC_RESPONSE != in.get(in.position())) {
+            ExceptionUtils.throwFleaException(FleaCacheException.class, "MemCached二进制协议响应非法，magic = " + in.get(in.position()));
+        }
+        return in.remaining() >= HEADER_LENGTH + in.getInt(in.position() + 8);
+    }
+
+    /**
+     * 单个响应包的操作，响应体中只关心状态码和错误信息
+     */
+    private abstract static class SimpleOperation extends MemCachedOperation {
+
+        private final String errorPrefix;
+
+        SimpleOperation(ByteBuffer request, String errorPrefix) {
+            super(request);
+            this.errorPrefix = errorPrefix;
+        }
+
+        @Override
+        boolean readResponse(ByteBuffer in) {
+            if (!isComplete(in)) {
+                return false;
+            }
+            int start = in.position();
+            short status = in.getShort(start + 6);
+            int bodyLength = in.getInt(start + 8);
+            String message = "status = " + status;
+            if (STATUS_SUCCESS != status && bodyLength > 0) {
+                byte[] body = new byte[bodyLength];
+                in.position(start + HEADER_LENGTH);
+                in.get(body);
+                message = new String(body, StandardCharsets.UTF_8);
+            }
+            in.position(start + HEADER_LENGTH + bodyLength);
+            onResponse(status, message);
+            return true;
+        }
+
+        String getErrorPrefix() {
+            return errorPrefix;
+        }
+
+        abstract void onResponse(short status, String message);
+    }
+}
@@ -0,0 +1,150 @@
+package com.huazie.fleaframework.cache.memcached.nio;
+
+import com.huazie.fleaframework.cache.exceptions.FleaCacheException;
+import com.huazie.fleaframework.common.util.ExceptionUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Ketama 一致性哈希节点定位器，与 libketama 的算法保持一致。
+ *
+ * <p> 每个服务器在哈希环上的虚拟节点数与其权重成正比，平均每个服务器
+ * 160 个虚拟节点；服务器【ip:port】的第 i 组虚拟节点取
+ * 【ip:port-i】的 MD5 摘要，每个摘要生成 4 个点。缓存键取 MD5 摘要的前 4 个字节
+ * 作为哈希值，顺时针找到的第一个虚拟节点即为其所在的服务器。
+ * 增减服务器时，只有相邻区间的缓存键需要迁移。
+ *
+ * <p> 哈希环用有序的长整型数组存储，定位时二分查找。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+final class KetamaNodeLocator {
+
+    private static final int POINTS_PER_SERVER = 160; // 平均每个服务器的虚拟节点数
+
+    private static final ThreadLocal<MessageDigest> MD5 = new ThreadLocal<MessageDigest>() {
+        @Override
+        protected MessageDigest initialValue() {
+            try {
+                return MessageDigest.getInstance("MD5");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    };
+
+    private final long[] points; // 哈希环上的虚拟节点，升序
+
+    private final MemCachedNode[] nodes; // 虚拟节点对应的服务器节点
+
+    KetamaNodeLocator(List<MemCachedNode> nodeList) {
+        if (nodeList.isEmpty()) {
+            ExceptionUtils.throwFleaException(FleaCacheException.class, "MemCached服务器节点列表为空");
+        }
+        long totalWeight = 0;
+        for (MemCachedNode node : nodeList) {
+            totalWeight += node.getWeight();
+        }
+        int serverCount = nodeList.size();
+        int[] groups = new int[serverCount];
+        int size = 0;
+        for (int n = 0; n < serverCount; n++) {
+            double percent = (double) nodeList.get(n).getWeight() / (double) totalWeight;
+            // 与 libketama 一致，按权重分配虚拟节点，每组 4 个
+            groups[n] = (int) Math.floor(percent * POINTS_PER_SERVER / 4 * serverCount + 0.0000000001);
+            size += groups[n] * 4;
+        }
+        long[] ring = new long[size];
+        MemCachedNode[] ringNodes = new MemCachedNode[size];
+        int index = 0;
+        for (int n = 0; n < serverCount; n++) {
+            MemCachedNode node = nodeList.get(n);
+            for (int i = 0; i < groups[n]; i++) {
+                byte[] digest = md5(node.getServer() + "-" + i);
+                for (int h = 0; h < 4; h++) {
+                    ring[index] = point(digest, h);
+                    ringNodes[index] = node;
+                    index++;
+                }
+            }
+        }
+        sort(ring, ringNodes);
+        this.points = ring;
+        this.nodes = ringNodes;
+    }
+
+    /**
+     * 获取缓存键所在的服务器节点
+     *
+     * @param key 缓存键
+     * @return 服务器节点
+     * @since 2.0.0
+     */
+    MemCachedNode getNode(String key) {
+        long hash = point(md5(key), 0);
+        int index = Arrays.binarySearch(points, hash);
+        if (index < 0) {
+            index = -index - 1;
+            if (index == points.length) {
+                index = 0;
+            }
+        }
+        return nodes[index];
+    }
+
+    /**
+     * 获取哈希环上的虚拟节点数
+     *
+     * @return 虚拟节点数
+     * @since 2.0.0
+     */
+    int getPointCount() {
+        return points.length;
+    }
+
+    private static byte[] md5(String value) {
+        MessageDigest md5 = MD5.get();
+        md5.reset();
+        return md5.digest(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long point(byte[] digest, int h) {
+        return ((long) (digest[3 + h * 4] & 0xFF) << 24)
+                | ((long) (digest[2 + h * 4] & 0xFF) << 16)
+                | ((long) (digest[1 + h * 4] & 0xFF) << 8)
+                | (digest[h * 4] & 0xFF);
+    }
+
+    /**
+     * 按虚拟节点升序排列，同时调整对应的服务器节点
+     */
+    private static void sort(long[] ring, MemCachedNode[] ringNodes) {
+        int size = ring.length;
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        final long[] keys = Arrays.copyOf(ring, size);
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer o1, Integer o2) {
+                long k1 = keys[o1];
+                long k2 = keys[o2];
+                return k1 < k2 ? -1 : (k1 == k2 ? 0 : 1);
+            }
+        });
+        MemCachedNode[] sortedNodes = new MemCachedNode[size];
+        for (int i = 0; i < size; i++) {
+            ring[i] = keys[order[i]];
+            sortedNodes[i] = ringNodes[order[i]];
+        }
+        System.arraycopy(sortedNodes, 0, ringNodes, 0, size);
+    }
+}
@@ -0,0 +1,79 @@
+package com.huazie.fleaframework.cache.memcached.nio;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * MemCached 服务器节点，每个节点对应一个 NIO 连接。
+ *
+ * <p> 调用方线程把操作放入待发送队列【{@code writeQueue}】，I/O 线程按顺序
+ * 将请求连续写入连接，不等待前一个请求的响应；写出的操作按发送顺序进入
+ * 待响应队列【{@code readQueue}】，服务器按请求顺序返回响应，
+ * I/O 线程依次交给队首的操作解析。除待发送队列外，其余状态只由 I/O 线程访问。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+final class MemCachedNode {
+
+    private static final int READ_BUFFER_SIZE = 16 * 1024;
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final String server; // 服务器地址（ip + 端口）
+
+    private final InetSocketAddress address; // 服务器套接字地址
+
+    private final int weight; // 服务器权重
+
+    final Queue<MemCachedOperation> writeQueue = new ConcurrentLinkedQueue<>(); // 待发送的操作
+
+    final Queue<MemCachedOperation> readQueue = new ArrayDeque<>(); // 已发送、待响应的操作
+
+    SocketChannel channel; // NIO 连接
+
+    SelectionKey selectionKey; // 连接在选择器上的注册键
+
+    boolean connected; // 连接是否已建立
+
+    long connectDeadline; // 连接建立的截止时间（纳秒）
+
+    long reconnectTime; // 下次允许重连的时间（纳秒）
+
+    volatile boolean down; // 服务器是否不可用，重连前直接拒绝新操作
+
+    ByteBuffer writing; // 正在写入的请求
+
+    ByteBuffer writeBuffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE); // 写缓冲区，合并多个请求一次写出
+
+    ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE); // 读缓冲区
+
+    MemCachedNode(String server, InetSocketAddress address, int weight) {
+        this.server = server;
+        this.address = address;
+        this.weight = weight;
+    }
+
+    String getServer() {
+        return server;
+    }
+
+    InetSocketAddress getAddress() {
+        return address;
+    }
+
+    int getWeight() {
+        return weight;
+    }
+
+    @Override
+    public String toString() {
+        return server;
+    }
+}
@@ -0,0 +1,113 @@
+package com.huazie.fleaframework.cache.memcached.nio;
+
+import com.huazie.fleaframework.cache.exceptions.FleaCacheException;
+import com.huazie.fleaframework.common.util.ExceptionUtils;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * MemCached 操作，包含编码好的请求和响应的解析逻辑。
+ *
+ * <p> 调用方线程创建操作并等待结果，I/O 线程写出请求、解析响应并完成操作；
+ * 等待超时的操作被取消，尚未发送的直接丢弃，已发送的照常读取响应后丢弃，
+ * 保证同一连接上的请求与响应一一对应。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+abstract class MemCachedOperation {
+
+    private final ByteBuffer request; // 编码好的请求
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    private final AtomicBoolean done = new AtomicBoolean();
+
+    private volatile boolean cancelled; // 是否已取消
+
+    private Object result; // 操作结果
+
+    private FleaCacheException exception; // 操作异常
+
+    private long deadline; // 等待响应的截止时间（纳秒）
+
+    MemCachedOperation(ByteBuffer request) {
+        this.request = request;
+    }
+
+    ByteBuffer getRequest() {
+        return request.duplicate();
+    }
+
+    /**
+     * 从读缓冲区解析响应，数据不完整时不消费缓冲区并返回 false，
+     * 等待读取更多数据后重新解析；解析完成后调用
+     * {@link #complete(Object)} 或 {@link #fail(FleaCacheException)}。
+     * 出现无法识别的响应时抛出异常，连接随之关闭。
+     *
+     * @param in 读缓冲区
+     * @return true：响应已解析完成；false：数据不完整
+     * @since 2.0.0
+     */
+    abstract boolean readResponse(ByteBuffer in);
+
+    void complete(Object result) {
+        if (done.compareAndSet(false, true)) {
+            this.result = result;
+            latch.countDown();
+        }
+    }
+
+    void fail(FleaCacheException exception) {
+        if (done.compareAndSet(false, true)) {
+            this.exception = exception;
+            latch.countDown();
+        }
+    }
+
+    void cancel() {
+        cancelled = true;
+    }
+
+    boolean isCancelled() {
+        return cancelled;
+    }
+
+    long getDeadline() {
+        return deadline;
+    }
+
+    void setDeadline(long deadline) {
+        this.deadline = deadline;
+    }
+
+    /**
+     * 等待操作完成
+     *
+     * @param timeout 超时时间（单位：ms）
+     * @return 操作结果
+     * @since 2.0.0
+     */
+    Object await(long timeout) {
+        boolean completed = false;
+        try {
+            completed = latch.await(timeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel();
+            ExceptionUtils.throwFleaException(FleaCacheException.class, "MemCached操作被中断", e);
+        }
+        if (!completed) {
+            cancel();
+            ExceptionUtils.throwFleaException(FleaCacheException.class, "MemCached操作超时（" + timeout + " ms）");
+        }
+        if (null != exception) {
+            ExceptionUtils.throwFleaException(FleaCacheException.class, exception.getMessage(), exception);
+        }
+        return result;
+    }
+}
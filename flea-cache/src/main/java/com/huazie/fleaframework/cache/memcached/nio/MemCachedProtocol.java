@@ -0,0 +1,105 @@
+package com.huazie.fleaframework.cache.memcached.nio;
+
+import com.huazie.fleaframework.cache.common.CacheConstants;
+import com.huazie.fleaframework.cache.exceptions.FleaCacheException;
+import com.huazie.fleaframework.common.util.ExceptionUtils;
+import com.huazie.fleaframework.common.util.ObjectUtils;
+import com.huazie.fleaframework.common.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+/**
+ * MemCached 通信协议，负责把各类操作编码为请求，并创建对应的响应解析逻辑。
+ *
+ * <p> 目前支持文本协议【text】和二进制协议【binary】，
+ * 可通过 {@link #getProtocol(String)} 按协议名获取。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public abstract class MemCachedProtocol {
+
+    private static final int MAX_KEY_LENGTH = 250; // 缓存键的最大字节数
+
+    /**
+     * 根据协议名获取 MemCached 通信协议，未配置时默认使用文本协议
+     *
+     * @param name 协议名（text 或 binary）
+     * @return MemCached 通信协议
+     * @since 2.0.0
+     */
+    public static MemCachedProtocol getProtocol(String name) {
+        if (StringUtils.isBlank(name) || CacheConstants.MemCachedConfigConstants.MEMCACHED_PROTOCOL_TEXT.equalsIgnoreCase(name.trim())) {
+            return TextMemCachedProtocol.INSTANCE;
+        }
+        if (CacheConstants.MemCachedConfigConstants.MEMCACHED_PROTOCOL_BINARY.equalsIgnoreCase(name.trim())) {
+            return BinaryMemCachedProtocol.INSTANCE;
+        }
+        ExceptionUtils.throwFleaException(FleaCacheException.class, "不支持的MemCached通信协议【" + name + "】");
+        return null;
+    }
+
+    /**
+     * 批量读取，结果为缓存键与原始数据的映射，不包含未命中的缓存键
+     *
+     * @param keys 缓存键集合，均位于同一服务器
+     * @return MemCached 操作
+     * @since 2.0.0
+     */
+    abstract MemCachedOperation get(Collection<String> keys);
+
+    /**
+     * 写入，casUnique 大于 0 时为 CAS 操作，结果为是否写入成功
+     *
+     * @param key       缓存键
+     * @param flags     标志位
+     * @param data      数据字节
+     * @param expiry    有效期（单位：s）
+     * @param casUnique CAS 唯一标识，0 表示普通写入
+     * @return MemCached 操作
+     * @since 2.0.0
+     */
+    abstract MemCachedOperation store(String key, int flags, byte[] data, int expiry, long casUnique);
+
+    /**
+     * 删除，结果为是否删除成功
+     *
+     * @param key 缓存键
+     * @return MemCached 操作
+     * @since 2.0.0
+     */
+    abstract MemCachedOperation delete(String key);
+
+    /**
+     * 获取协议名
+     *
+     * @return 协议名
+     * @since 2.0.0
+     */
+    public abstract String getName();
+
+    /**
+     * 校验并编码缓存键
+     *
+     * @param key 缓存键
+     * @return 缓存键字节
+     * @since 2.0.0
+     */
+    byte[] encodeKey(String key) {
+        if (ObjectUtils.isEmpty(key)) {
+            ExceptionUtils.throwFleaException(FleaCacheException.class, "MemCached缓存键不能为空");
+        }
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        if (keyBytes.length > MAX_KEY_LENGTH) {
+            ExceptionUtils.throwFleaException(FleaCacheException.class, "MemCached缓存键【" + key + "】超过 " + MAX_KEY_LENGTH + " 字节");
+        }
+        return keyBytes;
+    }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+}
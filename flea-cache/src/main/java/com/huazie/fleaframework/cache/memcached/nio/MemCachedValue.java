@@ -0,0 +1,35 @@
+package com.huazie.fleaframework.cache.memcached.nio;
+
+/**
+ * MemCached 服务器返回的原始数据，包含标志位、数据字节和 CAS 唯一标识
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+final class MemCachedValue {
+
+    private final int flags; // 标志位，标识数据的编码方式
+
+    private final byte[] data; // 数据字节
+
+    private final long casUnique; // CAS 唯一标识
+
+    MemCachedValue(int flags, byte[] data, long casUnique) {
+        this.flags = flags;
+        this.data = data;
+        this.casUnique = casUnique;
+    }
+
+    int getFlags() {
+        return flags;
+    }
+
+    byte[] getData() {
+        return data;
+    }
+
+    long getCasUnique() {
+        return casUnique;
+    }
+}
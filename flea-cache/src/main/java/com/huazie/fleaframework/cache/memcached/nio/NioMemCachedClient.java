@@ -0,0 +1,501 @@
+package com.huazie.fleaframework.cache.memcached.nio;
+
+import com.huazie.fleaframework.cache.exceptions.FleaCacheException;
+import com.huazie.fleaframework.cache.memcached.FleaMemCachedClient;
+import com.huazie.fleaframework.cache.memcached.MemCachedCasValue;
+import com.huazie.fleaframework.common.CommonConstants;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.ArrayUtils;
+import com.huazie.fleaframework.common.util.CollectionUtils;
+import com.huazie.fleaframework.common.util.ExceptionUtils;
+import com.huazie.fleaframework.common.util.ObjectUtils;
+import com.huazie.fleaframework.common.util.StringUtils;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 基于 NIO 的 Flea MemCached客户端。
+ *
+ * <p> 每个 MemCached 服务器只建立一个非阻塞连接，由一个 I/O 线程统一读写。
+ * 调用方线程把操作放入对应服务器的待发送队列后等待结果，I/O 线程把队列中的
+ * 请求合并写入连接，不等待前一个请求的响应（请求流水线），
+ * 响应按请求顺序依次解析，并唤醒等待的调用方线程。
+ *
+ * <p> 缓存键按 ketama 一致性哈希分布到各服务器，虚拟节点数与服务器权重成正比；
+ * 批量读取时，同一服务器上的缓存键合并为一个请求，各服务器的请求并行发送。
+ * 通信协议可选文本协议或二进制协议，可查看 {@link MemCachedProtocol}。
+ *
+ * <p> 连接异常时，该服务器上尚未完成的操作全部失败，服务器标记为不可用，
+ * 期间新的操作直接失败，每隔 1 秒尝试重连；等待响应超过操作超时时间，
+ * 同样视为连接异常。
+ *
+ * <p> 数据值为字符串时按 UTF-8 编码存储，标志位为 0；
+ * 其他对象序列化后存储，标志位为 1。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class NioMemCachedClient implements FleaMemCachedClient {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(NioMemCachedClient.class);
+
+    private static final int FLAG_STRING = 0; // 字符串
+
+    private static final int FLAG_SERIALIZED = 1; // 序列化对象
+
+    private static final long SELECT_TIMEOUT = 100L; // 选择器单次等待时间（单位：ms）
+
+    private static final long RECONNECT_INTERVAL = TimeUnit.SECONDS.toNanos(1); // 重连间隔（单位：ns）
+
+    private final String poolName; // 连接池名
+
+    private final MemCachedProtocol protocol; // 通信协议
+
+    private final int connectTimeout; // 连接超时时间（单位：ms）
+
+    private final int operationTimeout; // 操作超时时间（单位：ms）
+
+    private final List<MemCachedNode> nodes; // 服务器节点
+
+    private final KetamaNodeLocator locator; // 一致性哈希节点定位器
+
+    private final Selector selector; // 选择器
+
+    private final AtomicBoolean wakeupPending = new AtomicBoolean(); // 是否已唤醒选择器
+
+    private volatile boolean running = true; // 客户端是否运行中
+
+    /**
+     * 创建 NIO MemCached客户端，并启动 I/O 线程连接各服务器
+     *
+     * @param poolName         连接池名
+     * @param servers          服务器地址（ip:port）
+     * @param weights          服务器权重，未配置的服务器权重为 1
+     * @param protocol         通信协议
+     * @param connectTimeout   连接超时时间（单位：ms）
+     * @param operationTimeout 操作超时时间（单位：ms）
+     * @since 2.0.0
+     */
+    public NioMemCachedClient(String poolName, String[] servers, Integer[] weights, MemCachedProtocol protocol, int connectTimeout, int operationTimeout) {
+        if (ArrayUtils.isEmpty(servers)) {
+            ExceptionUtils.throwFleaException(FleaCacheException.class, "无法初始化NIO MemCached客户端，服务器地址为空");
+        }
+        this.poolName = poolName;
+        this.protocol = protocol;
+        this.connectTimeout = connectTimeout;
+        this.operationTimeout = operationTimeout;
+        List<MemCachedNode> nodeList = new ArrayList<>(servers.length);
+        for (int i = 0; i < servers.length; i++) {
+            int weight = CommonConstants.NumeralConstants.INT_ONE;
+            if (ArrayUtils.isNotEmpty(weights) && i < weights.length && ObjectUtils.isNotEmpty(weights[i]) && weights[i] > 0) {
+                weight = weights[i];
+            }
+            String server = StringUtils.trim(servers[i]);
+            MemCachedNode node = new MemCachedNode(server, toAddress(server), weight);
+            node.reconnectTime = System.nanoTime(); // 由 I/O 线程立即连接
+            nodeList.add(node);
+        }
+        this.nodes = Collections.unmodifiableList(nodeList);
+        this.locator = new KetamaNodeLocator(nodeList);
+        Selector ioSelector = null;
+        try {
+            ioSelector = Selector.open();
+        } catch (IOException e) {
+            ExceptionUtils.throwFleaException(FleaCacheException.class, "无法初始化NIO MemCached客户端，选择器打开失败", e);
+        }
+        this.selector = ioSelector;
+        Thread ioThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                ioLoop();
+            }
+        }, "FleaMemCachedIO-" + poolName);
+        ioThread.setDaemon(true);
+        ioThread.start();
+    }
+
+    @Override
+    public Object get(String key) {
+        Map<String, MemCachedValue> values = execute(locator.getNode(key), protocol.get(Collections.singletonList(key)));
+        MemCachedValue value = values.get(key);
+        return ObjectUtils.isEmpty(value) ? null : decode(value);
+    }
+
+    @Override
+    public Map<String, Object> getMulti(Collection<String> keys) {
+        if (CollectionUtils.isEmpty(keys)) {
+            return Collections.emptyMap();
+        }
+        // 按服务器分组，每个服务器一个批量读取请求
+        Map<MemCachedNode, List<String>> nodeKeys = new LinkedHashMap<>();
+        for (String key : keys) {
+            MemCachedNode node = locator.getNode(key);
+            List<String> keyList = nodeKeys.get(node);
+            if (null == keyList) {
+                keyList = new ArrayList<>();
+                nodeKeys.put(node, keyList);
+            }
+            keyList.add(key);
+        }
+        Map<MemCachedNode, MemCachedOperation> operations = new LinkedHashMap<>();
+        for (Map.Entry<MemCachedNode, List<String>> entry : nodeKeys.entrySet()) {
+            MemCachedOperation operation = protocol.get(entry.getValue());
+            enqueue(entry.getKey(), operation);
+            operations.put(entry.getKey(), operation);
+        }
+        Map<String, Object> result = new HashMap<>();
+        for (Map.Entry<MemCachedNode, MemCachedOperation> entry : operations.entrySet()) {
+            try {
+                @SuppressWarnings("unchecked")
+                Map<String, MemCachedValue> values = (Map<String, MemCachedValue>) entry.getValue().await(operationTimeout);
+                for (Map.Entry<String, MemCachedValue> value : values.entrySet()) {
+                    result.put(value.getKey(), decode(value.getValue()));
+                }
+            } catch (FleaCacheException e) {
+                // 单个服务器不可用时，其上的缓存键视为未命中
+                LOGGER.warn1(new Object() {}, "MemCached服务器【{}】批量读取失败：{}", entry.getKey(), e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean set(String key, Object value, int expiry) {
+        int flags = getFlags(value);
+        return this.<Boolean>execute(locator.getNode(key), protocol.store(key, flags, encode(value, flags), expiry, 0L));
+    }
+
+    @Override
+    public boolean delete(String key) {
+        return this.<Boolean>execute(locator.getNode(key), protocol.delete(key));
+    }
+
+    @Override
+    public MemCachedCasValue gets(String key) {
+        Map<String, MemCachedValue> values = execute(locator.getNode(key), protocol.get(Collections.singletonList(key)));
+        MemCachedValue value = values.get(key);
+        return ObjectUtils.isEmpty(value) ? null : new MemCachedCasValue(decode(value), value.getCasUnique());
+    }
+
+    @Override
+    public boolean cas(String key, Object value, int expiry, long casUnique) {
+        int flags = getFlags(value);
+        return this.<Boolean>execute(locator.getNode(key), protocol.store(key, flags, encode(value, flags), expiry, casUnique));
+    }
+
+    @Override
+    public String getPoolName() {
+        return poolName;
+    }
+
+    public MemCachedProtocol getProtocol() {
+        return protocol;
+    }
+
+    /**
+     * 关闭客户端，未完成的操作全部失败
+     *
+     * @since 2.0.0
+     */
+    public void shutdown() {
+        running = false;
+        selector.wakeup();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T execute(MemCachedNode node, MemCachedOperation operation) {
+        enqueue(node, operation);
+        return (T) operation.await(operationTimeout);
+    }
+
+    private void enqueue(MemCachedNode node, MemCachedOperation operation) {
+        if (!running) {
+            operation.fail(new FleaCacheException("NIO MemCached客户端【" + poolName + "】已关闭"));
+            return;
+        }
+        if (node.down) {
+            operation.fail(new FleaCacheException("MemCached服务器【" + node + "】不可用"));
+            return;
+        }
+        operation.setDeadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(operationTimeout));
+        node.writeQueue.add(operation);
+        if (wakeupPending.compareAndSet(false, true)) {
+            selector.wakeup();
+        }
+    }
+
+    /**
+     * I/O 线程，处理连接、读写、重连和超时
+     */
+    private void ioLoop() {
+        while (running) {
+            try {
+                selector.select(SELECT_TIMEOUT);
+                wakeupPending.set(false);
+                Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+                while (iterator.hasNext()) {
+                    SelectionKey selectionKey = iterator.next();
+                    iterator.remove();
+                    MemCachedNode node = (MemCachedNode) selectionKey.attachment();
+                    try {
+                        if (selectionKey.isValid() && selectionKey.isConnectable()) {
+                            finishConnect(node);
+                        }
+                        if (selectionKey.isValid() && selectionKey.isReadable()) {
+                            read(node);
+                        }
+                        if (selectionKey.isValid() && selectionKey.isWritable()) {
+                            write(node);
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        disconnect(node, e);
+                    }
+                }
+                long now = System.nanoTime();
+                for (MemCachedNode node : nodes) {
+                    try {
+                        maintain(node, now);
+                    } catch (IOException | RuntimeException e) {
+                        disconnect(node, e);
+                    }
+                }
+            } catch (IOException e) {
+                LOGGER.error1(new Object() {}, "NIO MemCached客户端【{}】I/O 异常：", poolName, e);
+            }
+        }
+        for (MemCachedNode node : nodes) {
+            disconnect(node, new FleaCacheException("NIO MemCached客户端【" + poolName + "】已关闭"));
+        }
+        try {
+            selector.close();
+        } catch (IOException e) {
+            LOGGER.error1(new Object() {}, "NIO MemCached客户端【{}】选择器关闭异常：", poolName, e);
+        }
+    }
+
+    private void maintain(MemCachedNode node, long now) throws IOException {
+        if (null == node.channel) {
+            if (now - node.reconnectTime >= 0) {
+                connect(node, now);
+            } else {
+                failQueued(node, new FleaCacheException("MemCached服务器【" + node + "】不可用"));
+            }
+            return;
+        }
+        if (!node.connected) {
+            if (now - node.connectDeadline >= 0) {
+                disconnect(node, new FleaCacheException("MemCached服务器【" + node + "】连接超时"));
+            }
+            return;
+        }
+        MemCachedOperation head = node.readQueue.peek();
+        if (null != head && now - head.getDeadline() >= 0) {
+            disconnect(node, new FleaCacheException("MemCached服务器【" + node + "】响应超时"));
+            return;
+        }
+        write(node);
+    }
+
+    private void connect(MemCachedNode node, long now) throws IOException {
+        SocketChannel channel = SocketChannel.open();
+        node.channel = channel;
+        node.connected = false;
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+        channel.socket().setKeepAlive(true);
+        if (channel.connect(node.getAddress())) {
+            node.selectionKey = channel.register(selector, SelectionKey.OP_READ, node);
+            onConnected(node);
+        } else {
+            node.selectionKey = channel.register(selector, SelectionKey.OP_CONNECT, node);
+            node.connectDeadline = now + TimeUnit.MILLISECONDS.toNanos(connectTimeout);
+        }
+    }
+
+    private void finishConnect(MemCachedNode node) throws IOException {
+        if (node.channel.finishConnect()) {
+            node.selectionKey.interestOps(SelectionKey.OP_READ);
+            onConnected(node);
+        }
+    }
+
+    private void onConnected(MemCachedNode node) throws IOException {
+        node.connected = true;
+        if (node.down) {
+            LOGGER.warn1(new Object() {}, "MemCached服务器【{}】连接恢复", node);
+        }
+        node.down = false;
+        write(node);
+    }
+
+    /**
+     * 把待发送的请求合并写入写缓冲区后一次写出，直到队列为空或连接暂时不可写
+     */
+    private void write(MemCachedNode node) throws IOException {
+        ByteBuffer buffer = node.writeBuffer;
+        while (true) {
+            while (buffer.hasRemaining()) {
+                if (null == node.writing) {
+                    MemCachedOperation operation = node.writeQueue.poll();
+                    if (null == operation) {
+                        break;
+                    }
+                    if (operation.isCancelled()) {
+                        continue; // 已超时的操作不再发送
+                    }
+                    node.writing = operation.getRequest();
+                    node.readQueue.add(operation);
+                }
+                if (node.writing.remaining() <= buffer.remaining()) {
+                    buffer.put(node.writing);
+                    node.writing = null;
+                } else {
+                    int limit = node.writing.limit();
+                    node.writing.limit(node.writing.position() + buffer.remaining());
+                    buffer.put(node.writing);
+                    node.writing.limit(limit);
+                }
+            }
+            if (buffer.position() == 0) {
+                break;
+            }
+            buffer.flip();
+            node.channel.write(buffer);
+            boolean flushed = !buffer.hasRemaining();
+            buffer.compact();
+            if (!flushed) {
+                break; // 套接字发送缓冲区已满，等待可写
+            }
+        }
+        boolean pending = buffer.position() > 0 || null != node.writing || !node.writeQueue.isEmpty();
+        node.selectionKey.interestOps(pending ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+    }
+
+    /**
+     * 读取响应，按请求顺序交给待响应队列的队首操作解析
+     */
+    private void read(MemCachedNode node) throws IOException {
+        ByteBuffer buffer = node.readBuffer;
+        if (node.channel.read(buffer) < 0) {
+            ExceptionUtils.throwFleaException(FleaCacheException.class, "MemCached服务器【" + node + "】关闭了连接");
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            MemCachedOperation operation = node.readQueue.peek();
+            if (null == operation) {
+                ExceptionUtils.throwFleaException(FleaCacheException.class, "MemCached服务器【" + node + "】返回了多余的响应");
+            }
+            if (!operation.readResponse(buffer)) {
+                break;
+            }
+            node.readQueue.poll();
+        }
+        buffer.compact();
+        if (!buffer.hasRemaining()) {
+            // 单个响应超过读缓冲区，扩容
+            ByteBuffer newBuffer = ByteBuffer.allocate(buffer.capacity() * 2);
+            buffer.flip();
+            newBuffer.put(buffer);
+            node.readBuffer = newBuffer;
+        }
+    }
+
+    /**
+     * 关闭连接，该服务器上未完成的操作全部失败，稍后重连
+     */
+    private void disconnect(MemCachedNode node, Exception cause) {
+        boolean wasDown = node.down;
+        node.down = true;
+        node.reconnectTime = System.nanoTime() + RECONNECT_INTERVAL;
+        if (null != node.channel) {
+            try {
+                node.channel.close();
+            } catch (IOException e) {
+                LOGGER.debug1(new Object() {}, "MemCached服务器【{}】连接关闭异常：{}", node, e.getMessage());
+            }
+        }
+        node.channel = null;
+        node.selectionKey = null;
+        node.connected = false;
+        node.writing = null;
+        node.writeBuffer.clear();
+        node.readBuffer.clear();
+        FleaCacheException exception = new FleaCacheException("MemCached服务器【" + node + "】连接异常：" + cause.getMessage(), cause);
+        MemCachedOperation operation;
+        while (null != (operation = node.readQueue.poll())) {
+            operation.fail(exception);
+        }
+        failQueued(node, exception);
+        if (!wasDown && running) {
+            LOGGER.warn1(new Object() {}, "MemCached服务器【{}】连接异常，{} ms 后重连：{}", node,
+                    TimeUnit.NANOSECONDS.toMillis(RECONNECT_INTERVAL), cause.getMessage());
+        }
+    }
+
+    private static void failQueued(MemCachedNode node, FleaCacheException exception) {
+        MemCachedOperation operation;
+        while (null != (operation = node.writeQueue.poll())) {
+            operation.fail(exception);
+        }
+    }
+
+    private static int getFlags(Object value) {
+        return value instanceof String ? FLAG_STRING : FLAG_SERIALIZED;
+    }
+
+    private static byte[] encode(Object value, int flags) {
+        if (FLAG_STRING == flags) {
+            return ((String) value).getBytes(StandardCharsets.UTF_8);
+        }
+        byte[] data = ObjectUtils.serialize(value);
+        if (null == data) {
+            ExceptionUtils.throwFleaException(FleaCacheException.class, "MemCached数据值序列化失败：" + value);
+        }
+        return data;
+    }
+
+    private static Object decode(MemCachedValue value) {
+        if (FLAG_SERIALIZED == value.getFlags()) {
+            return ObjectUtils.deserialize(value.getData());
+        }
+        if (FLAG_STRING == value.getFlags()) {
+            return new String(value.getData(), StandardCharsets.UTF_8);
+        }
+        return value.getData();
+    }
+
+    private static InetSocketAddress toAddress(String server) {
+        int index = null == server ? -1 : server.lastIndexOf(CommonConstants.SymbolConstants.COLON);
+        if (index <= 0) {
+            ExceptionUtils.throwFleaException(FleaCacheException.class, "MemCached服务器地址【" + server + "】非法，应为 ip:port");
+        }
+        return new InetSocketAddress(server.substring(0, index), Integer.parseInt(server.substring(index + 1)));
+    }
+
+    @Override
+    public String toString() {
+        return "NioMemCachedClient{" +
+                "poolName='" + poolName + '\'' +
+                ", protocol=" + protocol +
+                ", nodes=" + nodes +
+                '}';
+    }
+}
@@ -0,0 +1,170 @@
+package com.huazie.fleaframework.cache.memcached.nio;
+
+import com.huazie.fleaframework.cache.common.CacheConstants;
+import com.huazie.fleaframework.cache.exceptions.FleaCacheException;
+import com.huazie.fleaframework.common.util.ExceptionUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * MemCached 文本协议。
+ *
+ * <p> 批量读取时，同一服务器上的缓存键合并为一条
+ * 【gets key1 key2 ...】命令，服务器依次返回命中的数据，以【END】结束；
+ * 写入使用【set】命令，CAS 操作使用【cas】命令；删除使用【delete】命令。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+final class TextMemCachedProtocol extends MemCachedProtocol {
+
+    static final TextMemCachedProtocol INSTANCE = new TextMemCachedProtocol();
+
+    private static final byte[] CRLF = {'\r', '\n'};
+
+    private TextMemCachedProtocol() {
+    }
+
+    @Override
+    MemCachedOperation get(Collection<String> keys) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        write(out, "gets".getBytes(StandardCharsets.US_ASCII));
+        for (String key : keys) {
+            out.write(' ');
+            write(out, encodeKey(key));
+        }
+        write(out, CRLF);
+        return new MemCachedOperation(ByteBuffer.wrap(out.toByteArray())) {
+
+            private final Map<String, MemCachedValue> values = new HashMap<>();
+
+            @Override
+            boolean readResponse(ByteBuffer in) {
+                while (true) {
+                    int start = in.position();
+                    String line = readLine(in);
+                    if (null == line) {
+                        return false;
+                    }
+                    if ("END".equals(line)) {
+                        complete(values);
+                        return true;
+                    }
+                    if (!line.startsWith("VALUE ")) {
+                        fail(new FleaCacheException("MemCached读取失败：" + line));
+                        return true;
+                    }
+                    // VALUE <key> <flags> <bytes> <cas unique>
+                    String[] parts = line.split(" ");
+                    int length = Integer.parseInt(parts[3]);
+                    if (in.remaining() < length + CRLF.length) {
+                        in.position(start);
+                        return false;
+                    }
+                    byte[] data = new byte[length];
+                    in.get(data);
+                    in.position(in.position() + CRLF.length);
+                    long casUnique = parts.length > 4 ? Long.parseLong(parts[4]) : 0L;
+                    values.put(parts[1], new MemCachedValue(Integer.parseInt(parts[2]), data, casUnique));
+                }
+            }
+        };
+    }
+
+    @Override
+    MemCachedOperation store(String key, int flags, byte[] data, int expiry, long casUnique) {
+        byte[] keyBytes = encodeKey(key);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(keyBytes.length + data.length + 64);
+        write(out, (casUnique > 0 ? "cas " : "set ").getBytes(StandardCharsets.US_ASCII));
+        write(out, keyBytes);
+        String command = " " + flags + " " + expiry + " " + data.length + (casUnique > 0 ? " " + casUnique : "");
+        write(out, command.getBytes(StandardCharsets.US_ASCII));
+        write(out, CRLF);
+        write(out, data);
+        write(out, CRLF);
+        return new MemCachedOperation(ByteBuffer.wrap(out.toByteArray())) {
+            @Override
+            boolean readResponse(ByteBuffer in) {
+                String line = readLine(in);
+                if (null == line) {
+                    return false;
+                }
+                if ("STORED".equals(line)) {
+                    complete(Boolean.TRUE);
+                } else if ("NOT_STORED".equals(line) || "EXISTS".equals(line) || "NOT_FOUND".equals(line)) {
+                    complete(Boolean.FALSE);
+                } else {
+                    fail(new FleaCacheException("MemCached写入失败：" + line));
+                }
+                return true;
+            }
+        };
+    }
+
+    @Override
+    MemCachedOperation delete(String key) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        write(out, "delete ".getBytes(StandardCharsets.US_ASCII));
+        write(out, encodeKey(key));
+        write(out, CRLF);
+        return new MemCachedOperation(ByteBuffer.wrap(out.toByteArray())) {
+            @Override
+            boolean readResponse(ByteBuffer in) {
+                String line = readLine(in);
+                if (null == line) {
+                    return false;
+                }
+                if ("DELETED".equals(line)) {
+                    complete(Boolean.TRUE);
+                } else if ("NOT_FOUND".equals(line)) {
+                    complete(Boolean.FALSE);
+                } else {
+                    fail(new FleaCacheException("MemCached删除失败：" + line));
+                }
+                return true;
+            }
+        };
+    }
+
+    @Override
+    byte[] encodeKey(String key) {
+        byte[] keyBytes = super.encodeKey(key);
+        for (byte b : keyBytes) {
+            // 文本协议的缓存键不能包含空白字符和控制字符
+            if ((b >= 0 && b <= ' ') || b == 0x7F) {
+                ExceptionUtils.throwFleaException(FleaCacheException.class, "MemCached缓存键【" + key + "】包含空白字符或控制字符");
+            }
+        }
+        return keyBytes;
+    }
+
+    @Override
+    public String getName() {
+        return CacheConstants.MemCachedConfigConstants.MEMCACHED_PROTOCOL_TEXT;
+    }
+
+    private static void write(ByteArrayOutputStream out, byte[] bytes) {
+        out.write(bytes, 0, bytes.length);
+    }
+
+    /**
+     * 读取一行响应（不含行尾的 \r\n），数据不完整时不消费缓冲区并返回 null
+     */
+    private static String readLine(ByteBuffer in) {
+        for (int i = in.position(); i < in.limit() - 1; i++) {
+            if (in.get(i) == '\r' && in.get(i + 1) == '\n') {
+                byte[] line = new byte[i - in.position()];
+                in.get(line);
+                in.position(i + CRLF.length);
+                return new String(line, StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+}
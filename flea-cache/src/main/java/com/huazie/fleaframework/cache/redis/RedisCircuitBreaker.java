@@ -0,0 +1,324 @@
+package com.huazie.fleaframework.cache.redis;
+
+import com.huazie.fleaframework.cache.common.CacheModeEnum;
+import com.huazie.fleaframework.cache.redis.config.RedisResilienceConfig;
+import com.huazie.fleaframework.common.CommonConstants;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.ObjectUtils;
+import com.huazie.fleaframework.common.util.StringUtils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Redis熔断器，每个连接池对应一个，键与Redis客户端工厂一致，为【连接池名_缓存模式】。
+ *
+ * <p> 熔断器有三种状态：
+ * <ul>
+ *     <li> 关闭：正常执行Redis操作，连接异常连续达到【failure_threshold】次后熔断；</li>
+ *     <li> 熔断：直接拒绝Redis操作，持续【open_duration】毫秒后进入半开状态；</li>
+ *     <li> 半开：最多放行【half_open_probes】个探测操作，探测成功则关闭，失败则重新熔断。</li>
+ * </ul>
+ *
+ * <p> 熔断期间若开启了快速失败【fail_fast】，Flea缓存的读操作视为未命中，
+ * 写操作不做处理，不再占用Jedis连接池，由调用方直接访问数据库。
+ * 各状态下的操作数以及状态切换次数均有计数，可通过对应的获取方法查看。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @see RedisClientCommand
+ * @since 2.0.0
+ */
+public class RedisCircuitBreaker {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(RedisCircuitBreaker.class);
+
+    private static final ConcurrentMap<String, RedisCircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    private static final StateHolder CLOSED = new StateHolder(State.CLOSED, 0L);
+
+    private final String name; // 熔断器名【连接池名_缓存模式】
+
+    private final RedisResilienceConfig config; // Redis客户端容错配置
+
+    private final AtomicReference<StateHolder> stateHolder = new AtomicReference<>(CLOSED);
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger(); // 关闭状态下的连续失败次数
+
+    private final AtomicLong closedCount = new AtomicLong(); // 关闭状态下放行的操作数
+
+    private final AtomicLong halfOpenCount = new AtomicLong(); // 半开状态下放行的探测操作数
+
+    private final AtomicLong rejectedCount = new AtomicLong(); // 熔断或半开状态下被拒绝的操作数
+
+    private final AtomicLong bypassedCount = new AtomicLong(); // 快速失败跳过的缓存操作数
+
+    private final AtomicLong successCount = new AtomicLong(); // 成功的操作数
+
+    private final AtomicLong failureCount = new AtomicLong(); // 连接异常的操作数
+
+    private final AtomicLong retryCount = new AtomicLong(); // 重试次数
+
+    private final AtomicLong openedCount = new AtomicLong(); // 熔断次数
+
+    private final AtomicLong halfOpenedCount = new AtomicLong(); // 进入半开状态的次数
+
+    private final AtomicLong recoveredCount = new AtomicLong(); // 从半开状态恢复关闭的次数
+
+    /**
+     * 创建Redis熔断器
+     *
+     * @param name   熔断器名
+     * @param config Redis客户端容错配置
+     * @since 2.0.0
+     */
+    public RedisCircuitBreaker(String name, RedisResilienceConfig config) {
+        this.name = name;
+        this.config = config;
+    }
+
+    /**
+     * 获取指定连接池和缓存模式对应的Redis熔断器，不存在则新建
+     *
+     * @param poolName 连接池名
+     * @param mode     缓存模式
+     * @return Redis熔断器
+     * @since 2.0.0
+     */
+    public static RedisCircuitBreaker getInstance(String poolName, CacheModeEnum mode) {
+        String name = StringUtils.strCat(poolName, CommonConstants.SymbolConstants.UNDERLINE, StringUtils.valueOf(mode.getMode()));
+        RedisCircuitBreaker circuitBreaker = circuitBreakers.get(name);
+        if (ObjectUtils.isEmpty(circuitBreaker)) {
+            circuitBreaker = new RedisCircuitBreaker(name, RedisResilienceConfig.getConfig());
+            RedisCircuitBreaker oldCircuitBreaker = circuitBreakers.putIfAbsent(name, circuitBreaker);
+            if (ObjectUtils.isNotEmpty(oldCircuitBreaker)) {
+                circuitBreaker = oldCircuitBreaker;
+            }
+        }
+        return circuitBreaker;
+    }
+
+    /**
+     * 尝试获取执行Redis操作的许可。关闭状态下直接放行；熔断状态下，
+     * 熔断持续时间未到则拒绝，否则切换为半开状态；半开状态下，
+     * 最多放行【half_open_probes】个探测操作。
+     *
+     * <p> 获取许可后，必须调用 {@link #onSuccess()} 或 {@link #onFailure()} 记录操作结果。
+     *
+     * @return true：放行；false：拒绝
+     * @since 2.0.0
+     */
+    public boolean tryAcquire() {
+        StateHolder holder = stateHolder.get();
+        if (State.CLOSED == holder.state) {
+            closedCount.incrementAndGet();
+            return true;
+        }
+        if (State.OPEN == holder.state) {
+            if (!isOpenDurationElapsed(holder)) {
+                rejectedCount.incrementAndGet();
+                return false;
+            }
+            StateHolder halfOpenHolder = new StateHolder(State.HALF_OPEN, holder.openedNanos);
+            if (stateHolder.compareAndSet(holder, halfOpenHolder)) {
+                halfOpenedCount.incrementAndGet();
+                LOGGER.warn1(new Object() {}, "Redis熔断器【{}】进入半开状态，开始探测", name);
+            }
+            holder = stateHolder.get();
+            if (State.HALF_OPEN != holder.state) {
+                // 探测已结束，按最新状态重新判断
+                return tryAcquire();
+            }
+        }
+        if (holder.probes.incrementAndGet() <= config.getHalfOpenProbes()) {
+            halfOpenCount.incrementAndGet();
+            return true;
+        }
+        rejectedCount.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * 记录一次Redis操作成功，半开状态下恢复为关闭状态
+     *
+     * @since 2.0.0
+     */
+    public void onSuccess() {
+        successCount.incrementAndGet();
+        StateHolder holder = stateHolder.get();
+        if (State.CLOSED == holder.state) {
+            if (consecutiveFailures.get() != 0) {
+                consecutiveFailures.set(0);
+            }
+        } else if (State.HALF_OPEN == holder.state) {
+            consecutiveFailures.set(0);
+            if (stateHolder.compareAndSet(holder, CLOSED)) {
+                recoveredCount.incrementAndGet();
+                LOGGER.warn1(new Object() {}, "Redis熔断器【{}】探测成功，恢复正常", name);
+            }
+        }
+    }
+
+    /**
+     * 记录一次Redis连接异常，关闭状态下连续失败达到阈值，或半开状态下探测失败，则熔断
+     *
+     * @since 2.0.0
+     */
+    public void onFailure() {
+        failureCount.incrementAndGet();
+        StateHolder holder = stateHolder.get();
+        if (State.CLOSED == holder.state) {
+            if (consecutiveFailures.incrementAndGet() >= config.getFailureThreshold()) {
+                open(holder);
+            }
+        } else if (State.HALF_OPEN == holder.state) {
+            open(holder);
+        }
+    }
+
+    /**
+     * 记录一次重试
+     *
+     * @since 2.0.0
+     */
+    public void onRetry() {
+        retryCount.incrementAndGet();
+    }
+
+    /**
+     * 判断Flea缓存操作是否直接跳过。开启快速失败且处于熔断状态时跳过，并计数
+     *
+     * @return true：跳过；false：正常执行
+     * @since 2.0.0
+     */
+    public boolean shouldBypass() {
+        if (config.isFailFast() && isOpen()) {
+            bypassedCount.incrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 是否处于熔断状态，且熔断持续时间未到
+     *
+     * @return true：熔断中；false：未熔断
+     * @since 2.0.0
+     */
+    public boolean isOpen() {
+        StateHolder holder = stateHolder.get();
+        return State.OPEN == holder.state && !isOpenDurationElapsed(holder);
+    }
+
+    private void open(StateHolder holder) {
+        if (stateHolder.compareAndSet(holder, new StateHolder(State.OPEN, System.nanoTime()))) {
+            consecutiveFailures.set(0);
+            openedCount.incrementAndGet();
+            LOGGER.warn1(new Object() {}, "Redis熔断器【{}】熔断，{} ms 内直接拒绝Redis操作", name, config.getOpenDuration());
+        }
+    }
+
+    private boolean isOpenDurationElapsed(StateHolder holder) {
+        return System.nanoTime() - holder.openedNanos >= TimeUnit.MILLISECONDS.toNanos(config.getOpenDuration());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public RedisResilienceConfig getConfig() {
+        return config;
+    }
+
+    public State getState() {
+        return stateHolder.get().state;
+    }
+
+    public long getClosedCount() {
+        return closedCount.get();
+    }
+
+    public long getHalfOpenCount() {
+        return halfOpenCount.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public long getBypassedCount() {
+        return bypassedCount.get();
+    }
+
+    public long getSuccessCount() {
+        return successCount.get();
+    }
+
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    public long getRetryCount() {
+        return retryCount.get();
+    }
+
+    public long getOpenedCount() {
+        return openedCount.get();
+    }
+
+    public long getHalfOpenedCount() {
+        return halfOpenedCount.get();
+    }
+
+    public long getRecoveredCount() {
+        return recoveredCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "RedisCircuitBreaker{" +
+                "name='" + name + '\'' +
+                ", state=" + getState() +
+                ", closedCount=" + closedCount +
+                ", halfOpenCount=" + halfOpenCount +
+                ", rejectedCount=" + rejectedCount +
+                ", bypassedCount=" + bypassedCount +
+                ", successCount=" + successCount +
+                ", failureCount=" + failureCount +
+                ", retryCount=" + retryCount +
+                ", openedCount=" + openedCount +
+                ", halfOpenedCount=" + halfOpenedCount +
+                ", recoveredCount=" + recoveredCount +
+                '}';
+    }
+
+    /**
+     * 熔断器状态
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * 熔断器状态及其熔断时间，每次状态切换都新建，
+     * 半开状态下的探测数随之重置，避免并发切换时重复放行
+     */
+    private static final class StateHolder {
+
+        private final State state;
+
+        private final long openedNanos; // 熔断时间（纳秒）
+
+        private final AtomicInteger probes = new AtomicInteger(); // 半开状态下已放行的探测数
+
+        private StateHolder(State state, long openedNanos) {
+            this.state = state;
+            this.openedNanos = openedNanos;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.huazie.fleaframework.cache.redis;
 
+import com.huazie.fleaframework.cache.exceptions.FleaCacheCircuitOpenException;
 import com.huazie.fleaframework.cache.exceptions.FleaCacheMaxAttemptsException;
+import com.huazie.fleaframework.cache.redis.config.RedisResilienceConfig;
 import com.huazie.fleaframework.common.slf4j.FleaLogger;
 import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
 import com.huazie.fleaframework.common.util.ExceptionUtils;
@@ -10,6 +12,8 @@ import redis.clients.jedis.util.Pool;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Redis客户端命令行，封装了使用Jedis操作Redis缓存的公共逻辑，
@@ -19,8 +23,15 @@ import java.io.IOException;
  * 需要从Jedis连接池中获取Jedis对象；调用结束后，
  * 关闭Jedis对象，归还给Jedis连接池。
  *
+ * <p> 出现连接异常时，按指数退避并随机抖动后再重试，所有重试需在
+ * 【deadline】毫秒内完成，剩余时间不足以等待下次重试时直接失败。
+ * 指定了Redis熔断器时，每次尝试前先获取熔断器的许可，
+ * 熔断期间直接抛出 {@link FleaCacheCircuitOpenException}，不再占用Jedis连接池。
+ *
  * @author huazie
  * @version 2.0.0
+ * @see RedisCircuitBreaker
+ * @see RedisResilienceConfig
  * @since 1.1.0
  */
 public abstract class RedisClientCommand<T, P extends Pool<M>, M> {
@@ -31,53 +42,104 @@ public abstract class RedisClientCommand<T, P extends Pool<M>, M> {
 
     private final int maxAttempts; // Redis客户端操作最大尝试次数【包含第一次操作】
 
+    private final RedisCircuitBreaker circuitBreaker; // Redis熔断器
+
     public RedisClientCommand(P pool, int maxAttempts) {
+        this(pool, maxAttempts, null);
+    }
+
+    public RedisClientCommand(P pool, int maxAttempts, RedisCircuitBreaker circuitBreaker) {
         this.pool = pool;
         this.maxAttempts = maxAttempts;
+        this.circuitBreaker = circuitBreaker;
     }
 
     public abstract T execute(M connection);
 
     /**
-     * 执行分布式Jedis操作
+     * 执行分布式Jedis操作，如果出现连接异常，包含第一次操作，可最多尝试maxAttempts次，
+     * 每次重试前按指数退避并随机抖动等待。
      *
      * @return 分布式Jedis对象操作的结果
      * @since 1.0.0
      */
     public T run() {
-        return runWithRetries(this.maxAttempts);
+        RedisResilienceConfig config = ObjectUtils.isEmpty(circuitBreaker) ? RedisResilienceConfig.getConfig() : circuitBreaker.getConfig();
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getDeadline());
+        JedisConnectionException lastException = null;
+        Object obj = new Object() {};
+        for (int attempt = 1; attempt <= this.maxAttempts; attempt++) {
+            if (ObjectUtils.isNotEmpty(circuitBreaker) && !circuitBreaker.tryAcquire()) {
+                ExceptionUtils.throwFleaException(FleaCacheCircuitOpenException.class, "Redis熔断器【" + circuitBreaker.getName() + "】熔断中，操作被拒绝");
+            }
+            M connection = null;
+            boolean failed = false;
+            try {
+                connection = pool.getResource();
+                LOGGER.debug1(obj, "Get Jedis = {}", connection);
+                T result = execute(connection);
+                LOGGER.debug1(obj, "Result = {}", result);
+                return result;
+            } catch (JedisConnectionException e) {
+                failed = true;
+                lastException = e;
+                // 在开始下一次尝试前，释放当前分布式Jedis的连接，将分布式Jedis对象归还给分布式Jedis连接池
+                releaseConnection(connection);
+                connection = null; // 这里置空是为了最后finally不重复操作
+                LOGGER.error1(obj, "Redis连接异常：", e);
+            } finally {
+                releaseConnection(connection);
+                // 非连接异常（如数据异常）说明Redis服务可以正常响应，按成功处理
+                if (ObjectUtils.isNotEmpty(circuitBreaker)) {
+                    if (failed) {
+                        circuitBreaker.onFailure();
+                    } else {
+                        circuitBreaker.onSuccess();
+                    }
+                }
+            }
+            if (attempt < this.maxAttempts && !backoff(attempt, deadlineNanos, config, obj)) {
+                break;
+            }
+        }
+        ExceptionUtils.throwFleaException(FleaCacheMaxAttemptsException.class, "No more attempts left.", lastException);
+        return null;
     }
 
     /**
-     * 执行分布式Jedis操作，如果出现异常，包含第一次操作，可最多尝试maxAttempts次。
+     * 第 {@code attempt} 次尝试失败后，按指数退避并随机抖动等待，
+     * 等待时间在 [退避时间 / 2, 退避时间] 之间，退避时间为
+     * 【backoff_base * 2^(attempt - 1)】，且不超过【backoff_max】。
      *
-     * @param attempts 重试次数
-     * @return 分布式Jedis对象操作的结果
-     * @since 1.0.0
+     * @param attempt       已尝试的次数
+     * @param deadlineNanos 操作截止时间（纳秒）
+     * @param config        Redis客户端容错配置
+     * @param obj           日志输出的调用方
+     * @return true：可继续重试；false：剩余时间不足或等待被中断，不再重试
+     * @since 2.0.0
      */
-    private T runWithRetries(int attempts) {
-        if (attempts <= 0) {
-            ExceptionUtils.throwFleaException(FleaCacheMaxAttemptsException.class, "No more attempts left.");
+    private boolean backoff(int attempt, long deadlineNanos, RedisResilienceConfig config, Object obj) {
+        if (ObjectUtils.isNotEmpty(circuitBreaker) && circuitBreaker.isOpen()) {
+            return true; // 已熔断，无需等待，下次尝试直接被拒绝
+        }
+        long backoff = Math.min(config.getBackoffMax(), config.getBackoffBase() << Math.min(attempt - 1, 30));
+        long sleepMillis = backoff / 2 + ThreadLocalRandom.current().nextLong(backoff - backoff / 2 + 1);
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        if (TimeUnit.MILLISECONDS.toNanos(sleepMillis) >= remainingNanos) {
+            LOGGER.error1(obj, "第 {} 次尝试失败，剩余时间不足以等待 {} ms 后重试", attempt, sleepMillis);
+            return false;
+        }
+        LOGGER.error1(obj, "第 {} 次尝试失败，{} ms 后开始第 {} 次尝试...", attempt, sleepMillis, attempt + 1);
+        if (ObjectUtils.isNotEmpty(circuitBreaker)) {
+            circuitBreaker.onRetry();
         }
-        M connection = null;
-        Object obj = new Object() {};
         try {
-            connection = pool.getResource();
-            LOGGER.debug1(obj, "Get Jedis = {}", connection);
-            T result = execute(connection);
-            LOGGER.debug1(obj, "Result = {}", result);
-            return result;
-        } catch (JedisConnectionException e) {
-            // 在开始下一次尝试前，释放当前分布式Jedis的连接，将分布式Jedis对象归还给分布式Jedis连接池
-            releaseConnection(connection);
-            connection = null; // 这里置空是为了最后finally不重复操作
-            LOGGER.error1(obj, "Redis连接异常：", e);
-            int currAttempts = this.maxAttempts - attempts + 1;
-            LOGGER.error1(obj, "第 {} 次尝试失败，开始第 {} 次尝试...", currAttempts, currAttempts + 1);
-            return runWithRetries(attempts - 1);
-        } finally {
-            releaseConnection(connection);
+            TimeUnit.MILLISECONDS.sleep(sleepMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
         }
+        return true;
     }
 
     /**
@@ -5,9 +5,7 @@ import com.huazie.fleaframework.cache.common.RedisClientStrategyContext;
 import com.huazie.fleaframework.common.CommonConstants;
 import com.huazie.fleaframework.common.strategy.FleaStrategyFacade;
 import com.huazie.fleaframework.common.util.StringUtils;
-
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import com.huazie.fleaframework.common.util.concurrent.FleaRegistry;
 
 /**
  * Redis客户端工厂，用于获取Redis客户端。
@@ -18,7 +16,8 @@ import java.util.concurrent.ConcurrentMap;
  * 三是获取分片模式下指定连接池的Redis客户端，应用在整合缓存接入场景；<br/>
  * 四是获取指定模式下指定连接池的Redis客户端，应用在整合缓存接入场景。
  *
- * <p> 同步集合类【{@code redisClients}】，存储的键为连接池名，值为Redis客户端。
+ * <p> 注册表【{@code redisClients}】，存储的键为连接池名，值为Redis客户端；
+ * 已创建的Redis客户端无锁获取，不同连接池的Redis客户端并发创建，互不阻塞。
  *
  * <p> 针对单个缓存接入场景，存储的键为【default_缓存模式】；<br/>
  * 例如：
@@ -35,14 +34,12 @@ import java.util.concurrent.ConcurrentMap;
  * </pre>
  *
  * @author huazie
- * @version 1.1.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public class RedisClientFactory {
 
-    private static final ConcurrentMap<String, RedisClient> redisClients = new ConcurrentHashMap<>();
-
-    private static final Object redisClientLock = new Object();
+    private static final FleaRegistry<String, RedisClient> redisClients = new FleaRegistry<>("RedisClientFactory");
 
     private RedisClientFactory() {
     }
@@ -87,17 +84,24 @@ public class RedisClientFactory {
      * @return 指定模式的Redis客户端
      * @since 1.1.0
      */
-    public static RedisClient getInstance(String poolName, CacheModeEnum mode) {
+    public static RedisClient getInstance(final String poolName, final CacheModeEnum mode) {
         String key = StringUtils.strCat(poolName, CommonConstants.SymbolConstants.UNDERLINE, StringUtils.valueOf(mode.getMode()));
-        if (!redisClients.containsKey(key)) {
-            synchronized (redisClientLock) {
-                if (!redisClients.containsKey(key)) {
-                    RedisClientStrategyContext context = new RedisClientStrategyContext(poolName);
-                    redisClients.put(key, FleaStrategyFacade.invoke(mode.name(), context));
-                }
+        return redisClients.get(key, new FleaRegistry.Loader<String, RedisClient>() {
+            @Override
+            public RedisClient load(String key) {
+                RedisClientStrategyContext context = new RedisClientStrategyContext(poolName);
+                return FleaStrategyFacade.invoke(mode.name(), context);
             }
-        }
-        return redisClients.get(key);
+        });
+    }
+
+    /**
+     * 移除所有已创建的Redis客户端，关闭后再次获取时重新创建
+     *
+     * @since 2.0.0
+     */
+    public static void closeRedisClients() {
+        redisClients.close();
     }
 
 }
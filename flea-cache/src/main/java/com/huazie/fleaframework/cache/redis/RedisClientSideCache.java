@@ -0,0 +1,478 @@
+package com.huazie.fleaframework.cache.redis;
+
+import com.huazie.fleaframework.cache.common.CacheConfigUtils;
+import com.huazie.fleaframework.cache.common.CacheConstants;
+import com.huazie.fleaframework.cache.common.CacheModeEnum;
+import com.huazie.fleaframework.cache.common.CacheUtils;
+import com.huazie.fleaframework.cache.config.CacheGroup;
+import com.huazie.fleaframework.cache.config.CacheParam;
+import com.huazie.fleaframework.cache.config.CacheServer;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.ArrayUtils;
+import com.huazie.fleaframework.common.util.CollectionUtils;
+import com.huazie.fleaframework.common.util.ObjectUtils;
+import com.huazie.fleaframework.common.util.StringUtils;
+import com.huazie.fleaframework.common.util.concurrent.FleaRegistry;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis客户端缓存，每个缓存组对应一个，在本地内存中保存读取过的缓存数据，
+ * 读多写少的缓存组开启后，重复读取同一缓存数据时不再访问Redis服务。
+ *
+ * <p> 在【flea-cache-config.xml】的缓存组上配置属性【clientCache】开启：
+ * <ul>
+ *     <li> tracking：服务端辅助失效。对缓存组的每个Redis服务建立一个 RESP3 连接，
+ *     以广播模式【{@code CLIENT TRACKING ON BCAST PREFIX}】订阅缓存组内
+ *     各个缓存的缓存主键前缀，缓存数据在任意客户端被修改时，Redis服务推送失效消息，
+ *     本地缓存随即删除对应缓存数据。Redis服务不支持 RESP3 或客户端追踪
+ *     【Redis 6.0 以下】时，自动退化为按有效期失效；哨兵模式下直接按有效期失效。</li>
+ *     <li> ttl：仅按有效期失效，本地缓存数据最长保留【redis.clientCache.ttl】秒。</li>
+ * </ul>
+ *
+ * <p> 无论哪种模式，本地缓存数据的有效期都不超过【redis.clientCache.ttl】
+ * 和缓存数据自身的有效期，缓存数据数不超过【redis.clientCache.maxSize】，
+ * 超过时近似淘汰部分缓存数据。
+ *
+ * <p> 服务端辅助失效模式下，任意一个失效连接断开期间，失效消息可能丢失，
+ * 因此连接断开时清空本地缓存，并在重新连接成功前不再使用本地缓存；
+ * 重新连接成功后再清空一次，之后才恢复使用。
+ *
+ * <p> 读取Redis前先获取失效序号，写入本地缓存时若失效序号已变化，
+ * 说明期间有缓存数据失效，放弃写入，避免失效消息先于读取结果到达时
+ * 把旧数据写入本地缓存。
+ *
+ * <p> 本地缓存保存的是缓存数据序列化后的字节数组，每次命中都反序列化出
+ * 一个新的数据对象，与从Redis读取时一致，调用方修改返回的数据对象，
+ * 不影响本地缓存和其他调用方。这样可缓存任意可序列化的数据，代价是
+ * 未命中时多一次序列化、命中时多一次反序列化，但省去了访问Redis服务的网络往返。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @see RedisTrackingListener
+ * @since 2.0.0
+ */
+public class RedisClientSideCache implements Closeable {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(RedisClientSideCache.class);
+
+    private static final FleaRegistry<String, RedisClientSideCache> clientSideCaches = new FleaRegistry<>("RedisClientSideCache");
+
+    private final String group; // 缓存组名
+
+    private final int maxSize; // 最大缓存数据数
+
+    private final long ttl; // 缓存数据最长有效期（单位：ms）
+
+    private final ConcurrentMap<String, CacheEntry> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong sequence = new AtomicLong(); // 失效序号，每次失效都递增
+
+    private final AtomicLong hitCount = new AtomicLong(); // 命中次数
+
+    private final AtomicLong missCount = new AtomicLong(); // 未命中次数
+
+    private final AtomicLong invalidationCount = new AtomicLong(); // 收到的失效消息数
+
+    private final Set<String> prefixes = new TreeSet<>(); // 缓存主键前缀
+
+    private final List<RedisTrackingListener> listeners = new ArrayList<>(); // 失效连接
+
+    private volatile boolean tracking; // 是否服务端辅助失效
+
+    private volatile boolean available; // 本地缓存是否可用
+
+    private boolean started; // 失效连接是否已启动
+
+    /**
+     * 创建Redis客户端缓存，缓存服务器集为空时仅按有效期失效
+     *
+     * @param group           缓存组名
+     * @param cacheServerList 缓存服务器集
+     * @param defaultPassword 缓存服务器未配置密码时使用的默认密码
+     * @param maxSize         最大缓存数据数
+     * @param ttl             缓存数据最长有效期（单位：s）
+     * @since 2.0.0
+     */
+    public RedisClientSideCache(String group, List<CacheServer> cacheServerList, String defaultPassword, int maxSize, int ttl) {
+        this.group = group;
+        this.maxSize = maxSize;
+        this.ttl = TimeUnit.SECONDS.toMillis(ttl);
+        if (CollectionUtils.isNotEmpty(cacheServerList)) {
+            for (CacheServer cacheServer : cacheServerList) {
+                String password = StringUtils.isBlank(cacheServer.getPassword()) ? defaultPassword : cacheServer.getPassword();
+                listeners.add(new RedisTrackingListener(this, cacheServer.getServer(), password));
+            }
+            tracking = true;
+        } else {
+            available = true;
+        }
+    }
+
+    /**
+     * 获取指定缓存组的Redis客户端缓存，缓存组未开启客户端缓存时返回 null
+     *
+     * @param group           缓存组名
+     * @param cacheServerList 缓存服务器集
+     * @param mode            缓存模式
+     * @return Redis客户端缓存
+     * @since 2.0.0
+     */
+    public static RedisClientSideCache getInstance(String group, final List<CacheServer> cacheServerList, final CacheModeEnum mode) {
+        CacheGroup cacheGroup = CacheConfigUtils.getCacheGroup(group);
+        String clientCache = ObjectUtils.isEmpty(cacheGroup) ? null : StringUtils.trim(cacheGroup.getClientCache());
+        if (StringUtils.isBlank(clientCache)) {
+            return null;
+        }
+        final boolean isTracking = CacheConstants.RedisConfigConstants.REDIS_CLIENT_CACHE_TRACKING.equalsIgnoreCase(clientCache);
+        if (!isTracking && !CacheConstants.RedisConfigConstants.REDIS_CLIENT_CACHE_TTL.equalsIgnoreCase(clientCache)) {
+            LOGGER.warn1(new Object() {}, "缓存组【{}】的客户端缓存配置【clientCache = {}】非法，不开启客户端缓存", group, clientCache);
+            return null;
+        }
+        return clientSideCaches.get(group, new FleaRegistry.Loader<String, RedisClientSideCache>() {
+            @Override
+            public RedisClientSideCache load(String group) {
+                // 哨兵模式下缓存服务器为哨兵节点，无法订阅主节点的失效消息，仅按有效期失效
+                List<CacheServer> trackingServers = isTracking && !CacheUtils.isSentinelMode(mode) ? cacheServerList : null;
+                int maxSize = getCacheParamValue(CacheConstants.RedisConfigConstants.REDIS_CONFIG_CLIENT_CACHE_MAXSIZE,
+                        CacheConstants.RedisConfigConstants.REDIS_CLIENT_CACHE_MAXSIZE_DEFAULT);
+                int ttl = getCacheParamValue(CacheConstants.RedisConfigConstants.REDIS_CONFIG_CLIENT_CACHE_TTL,
+                        CacheConstants.RedisConfigConstants.REDIS_CLIENT_CACHE_TTL_DEFAULT);
+                // 集群模式下缓存服务器未配置密码时，使用缓存参数中的默认密码
+                String defaultPassword = CacheUtils.isClusterMode(mode) ? getCacheParamValue(CacheConstants.RedisConfigConstants.REDIS_CLUSTER_CONFIG_PASSWORD) : null;
+                RedisClientSideCache clientSideCache = new RedisClientSideCache(group, trackingServers, defaultPassword, maxSize, ttl);
+                LOGGER.debug1(new Object() {}, "Redis Client Side Cache = {}", clientSideCache);
+                return clientSideCache;
+            }
+        });
+    }
+
+    /**
+     * 关闭所有已创建的Redis客户端缓存，按创建的逆序关闭失效连接并清空本地缓存，
+     * 关闭后再次获取时重新创建
+     *
+     * @since 2.0.0
+     */
+    public static void closeClientSideCaches() {
+        clientSideCaches.close();
+    }
+
+    /**
+     * 添加需要服务端辅助失效的缓存主键前缀，每个缓存创建时添加一次。
+     * 首次添加时启动失效连接，之后添加时失效连接重新连接，以订阅新的前缀。
+     *
+     * @param prefix 缓存主键前缀
+     * @since 2.0.0
+     */
+    public void addPrefix(String prefix) {
+        if (!tracking) {
+            return;
+        }
+        synchronized (this) {
+            if (!prefixes.add(prefix)) {
+                return;
+            }
+            for (RedisTrackingListener listener : listeners) {
+                if (started) {
+                    listener.reconnect();
+                } else {
+                    listener.start();
+                }
+            }
+            started = true;
+        }
+    }
+
+    /**
+     * 获取本地缓存数据
+     *
+     * @param key 实际存储的缓存键
+     * @return 反序列化出的缓存数据，未命中或本地缓存不可用时返回 null
+     * @since 2.0.0
+     */
+    public Object get(String key) {
+        if (!available) {
+            return null;
+        }
+        CacheEntry entry = entries.get(key);
+        if (ObjectUtils.isNotEmpty(entry)) {
+            if (entry.expireTime - System.nanoTime() > 0) {
+                Object value = ObjectUtils.deserialize(entry.value);
+                if (ObjectUtils.isNotEmpty(value)) {
+                    hitCount.incrementAndGet();
+                    return value;
+                }
+            }
+            entries.remove(key, entry);
+        }
+        missCount.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * 获取当前失效序号，从Redis读取缓存数据前调用
+     *
+     * @return 失效序号
+     * @since 2.0.0
+     */
+    public long getSequence() {
+        return sequence.get();
+    }
+
+    /**
+     * 添加本地缓存数据，失效序号已变化时放弃添加
+     *
+     * @param key      实际存储的缓存键
+     * @param value    从Redis读取的缓存数据
+     * @param sequence 读取Redis前获取的失效序号
+     * @param expiry   缓存数据有效期（单位：s），0 表示永久有效
+     * @since 2.0.0
+     */
+    public void put(String key, Object value, long sequence, int expiry) {
+        if (!available || ObjectUtils.isEmpty(value) || sequence != this.sequence.get()) {
+            return;
+        }
+        byte[] bytes = ObjectUtils.serialize(value);
+        if (ArrayUtils.isEmpty(bytes)) {
+            return;
+        }
+        long duration = expiry > 0 ? Math.min(ttl, TimeUnit.SECONDS.toMillis(expiry)) : ttl;
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+        CacheEntry entry = new CacheEntry(bytes, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(duration));
+        entries.put(key, entry);
+        // 添加期间有缓存数据失效，无法确认该数据是否已失效，删除
+        if (sequence != this.sequence.get()) {
+            entries.remove(key, entry);
+        }
+    }
+
+    /**
+     * 本地写入或删除缓存数据后，删除对应的本地缓存数据
+     *
+     * @param key 实际存储的缓存键
+     * @since 2.0.0
+     */
+    public void invalidate(String key) {
+        sequence.incrementAndGet();
+        entries.remove(key);
+    }
+
+    /**
+     * 清空本地缓存
+     *
+     * @since 2.0.0
+     */
+    public void invalidateAll() {
+        sequence.incrementAndGet();
+        entries.clear();
+    }
+
+    /**
+     * 收到Redis服务推送的失效消息
+     *
+     * @param keys 失效的缓存键，为 null 表示Redis服务已清空数据
+     * @since 2.0.0
+     */
+    void onInvalidate(List<String> keys) {
+        invalidationCount.incrementAndGet();
+        if (ObjectUtils.isEmpty(keys)) {
+            invalidateAll();
+        } else {
+            sequence.incrementAndGet();
+            for (String key : keys) {
+                entries.remove(key);
+            }
+        }
+    }
+
+    /**
+     * 失效连接已开启客户端追踪，所有失效连接都开启后，本地缓存可用
+     *
+     * @since 2.0.0
+     */
+    synchronized void onConnected() {
+        invalidateAll();
+        boolean allConnected = true;
+        for (RedisTrackingListener listener : listeners) {
+            allConnected &= listener.isConnected();
+        }
+        available = allConnected;
+    }
+
+    /**
+     * 失效连接已断开，期间的失效消息可能丢失，清空本地缓存并停止使用
+     *
+     * @param server 缓存服务器地址
+     * @since 2.0.0
+     */
+    synchronized void onDisconnected(String server) {
+        if (tracking) {
+            available = false;
+            LOGGER.warn1(new Object() {}, "缓存组【{}】的Redis服务【{}】失效连接断开，清空客户端缓存", group, server);
+        }
+        invalidateAll();
+    }
+
+    /**
+     * Redis服务不支持 RESP3 或客户端追踪，退化为按有效期失效
+     *
+     * @param server  缓存服务器地址
+     * @param message Redis服务返回的错误信息
+     * @since 2.0.0
+     */
+    synchronized void onTrackingUnsupported(String server, String message) {
+        if (!tracking) {
+            return;
+        }
+        LOGGER.warn1(new Object() {}, "缓存组【{}】的Redis服务【{}】不支持客户端追踪【{}】，客户端缓存按有效期失效", group, server, message);
+        tracking = false;
+        for (RedisTrackingListener listener : listeners) {
+            listener.stop();
+        }
+        invalidateAll();
+        available = true;
+    }
+
+    /**
+     * 获取订阅的缓存主键前缀，已去掉被其他前缀包含的前缀，
+     * Redis服务不允许同一连接订阅相互包含的前缀
+     *
+     * @return 缓存主键前缀集
+     * @since 2.0.0
+     */
+    synchronized List<String> getPrefixes() {
+        List<String> result = new ArrayList<>();
+        String last = null;
+        for (String prefix : prefixes) {
+            // 有序集合中，包含当前前缀的前缀一定排在它前面
+            if (ObjectUtils.isEmpty(last) || !prefix.startsWith(last)) {
+                result.add(prefix);
+                last = prefix;
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * 关闭所有失效连接，清空本地缓存并停止使用
+     *
+     * @since 2.0.0
+     */
+    @Override
+    public synchronized void close() {
+        for (RedisTrackingListener listener : listeners) {
+            listener.stop();
+        }
+        available = false;
+        invalidateAll();
+    }
+
+    /**
+     * 缓存数据数超过上限时，近似淘汰约十分之一的缓存数据，优先淘汰已过期的
+     */
+    private void evict() {
+        long now = System.nanoTime();
+        int target = maxSize - maxSize / 10 - 1;
+        Iterator<Map.Entry<String, CacheEntry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getValue().expireTime - now <= 0) {
+                iterator.remove();
+            }
+        }
+        iterator = entries.entrySet().iterator();
+        while (entries.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static String getCacheParamValue(String key) {
+        CacheParam cacheParam = CacheConfigUtils.getCacheParam(key);
+        return ObjectUtils.isEmpty(cacheParam) ? null : cacheParam.getValue();
+    }
+
+    private static int getCacheParamValue(String key, int defaultValue) {
+        int result = defaultValue;
+        String value = getCacheParamValue(key);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                result = Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                LOGGER.warn1(new Object() {}, "配置【{} = {}】非法，使用默认值", key, value);
+            }
+        }
+        return result > 0 ? result : defaultValue;
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    public boolean isTracking() {
+        return tracking;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getInvalidationCount() {
+        return invalidationCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "RedisClientSideCache{" +
+                "group='" + group + '\'' +
+                ", tracking=" + tracking +
+                ", available=" + available +
+                ", maxSize=" + maxSize +
+                ", ttl=" + ttl +
+                ", size=" + entries.size() +
+                ", hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", invalidationCount=" + invalidationCount +
+                '}';
+    }
+
+    /**
+     * 本地缓存数据
+     */
+    private static final class CacheEntry {
+
+        private final byte[] value; // 缓存数据序列化后的字节数组
+
+        private final long expireTime; // 过期时间（System.nanoTime）
+
+        private CacheEntry(byte[] value, long expireTime) {
+            this.value = value;
+            this.expireTime = expireTime;
+        }
+    }
+}
@@ -0,0 +1,398 @@
+package com.huazie.fleaframework.cache.redis;
+
+import com.huazie.fleaframework.common.CommonConstants;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.ObjectUtils;
+import com.huazie.fleaframework.common.util.StringUtils;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis客户端缓存的失效连接，每个Redis服务一个，由独立的守护线程维护。
+ *
+ * <p> 连接建立后，先发送【{@code HELLO 3}】切换到 RESP3 协议（配置了密码时同时认证），
+ * 再发送【{@code CLIENT TRACKING ON BCAST PREFIX ...}】以广播模式订阅缓存主键前缀，
+ * 之后只读取Redis服务推送的【invalidate】消息。Jedis 3.x 不支持 RESP3 和推送消息，
+ * 因此这里直接使用套接字收发 RESP 协议。
+ *
+ * <p> 连接空闲超过心跳间隔时发送【PING】，再超过一个心跳间隔仍无响应则认为连接已断开。
+ * 连接断开后，每隔一段时间重新连接；Redis服务对【HELLO】或【CLIENT TRACKING】
+ * 返回错误时，认为其不支持客户端追踪，不再重新连接。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @see RedisClientSideCache
+ * @since 2.0.0
+ */
+final class RedisTrackingListener implements Runnable {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(RedisTrackingListener.class);
+
+    static final int CONNECT_TIMEOUT = 2000; // 连接超时时间（单位：ms）
+
+    static final int HEARTBEAT_INTERVAL = 5000; // 心跳间隔（单位：ms）
+
+    static final long RECONNECT_INTERVAL = 1000L; // 重新连接间隔（单位：ms）
+
+    private static final String INVALIDATE = "invalidate";
+
+    private static final String DEFAULT_USER = "default";
+
+    private final RedisClientSideCache clientSideCache; // Redis客户端缓存
+
+    private final String server; // 缓存服务器地址（ip + 端口）
+
+    private final String password; // 缓存服务器密码
+
+    private volatile Socket socket; // 当前连接
+
+    private volatile boolean running; // 是否运行中
+
+    private volatile boolean connected; // 是否已开启客户端追踪
+
+    private volatile boolean reconnectNow; // 是否立即重新连接
+
+    RedisTrackingListener(RedisClientSideCache clientSideCache, String server, String password) {
+        this.clientSideCache = clientSideCache;
+        this.server = server;
+        this.password = password;
+    }
+
+    /**
+     * 启动失效连接的守护线程
+     */
+    void start() {
+        running = true;
+        Thread thread = new Thread(this, "FleaRedisTracking-" + clientSideCache.getGroup() + "-" + server);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 关闭当前连接并立即重新连接
+     */
+    void reconnect() {
+        reconnectNow = true;
+        closeSocket();
+    }
+
+    /**
+     * 停止失效连接
+     */
+    void stop() {
+        running = false;
+        closeSocket();
+    }
+
+    boolean isConnected() {
+        return connected;
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                Socket s = new Socket();
+                socket = s;
+                if (!running) {
+                    break;
+                }
+                s.connect(toAddress(server), CONNECT_TIMEOUT);
+                s.setTcpNoDelay(true);
+                s.setSoTimeout(HEARTBEAT_INTERVAL);
+                InputStream in = new BufferedInputStream(s.getInputStream());
+                OutputStream out = s.getOutputStream();
+                if (!handshake(in, out)) {
+                    return;
+                }
+                connected = true;
+                clientSideCache.onConnected();
+                listen(in, out);
+            } catch (IOException e) {
+                if (running && !reconnectNow) {
+                    LOGGER.warn1(new Object() {}, "Redis服务【{}】失效连接异常：{}", server, e.getMessage());
+                }
+            } finally {
+                closeSocket();
+                if (connected) {
+                    connected = false;
+                    // 主动停止时由Redis客户端缓存自行清空
+                    if (running) {
+                        clientSideCache.onDisconnected(server);
+                    }
+                }
+            }
+            if (reconnectNow) {
+                reconnectNow = false;
+            } else {
+                sleep();
+            }
+        }
+    }
+
+    /**
+     * 切换到 RESP3 协议并开启广播模式的客户端追踪
+     *
+     * @return true：已开启；false：Redis服务不支持客户端追踪
+     */
+    private boolean handshake(InputStream in, OutputStream out) throws IOException {
+        List<String> hello = new ArrayList<>();
+        hello.add("HELLO");
+        hello.add("3");
+        if (StringUtils.isNotBlank(password)) {
+            hello.add("AUTH");
+            hello.add(DEFAULT_USER);
+            hello.add(password);
+        }
+        writeCommand(out, hello);
+        Object reply = readReply(in);
+        if (reply instanceof RedisError) {
+            String message = ((RedisError) reply).message;
+            // 认证失败等错误重新连接，其余错误说明Redis服务不支持 RESP3
+            if (isAuthError(message)) {
+                throw new IOException(message);
+            }
+            clientSideCache.onTrackingUnsupported(server, message);
+            return false;
+        }
+
+        List<String> tracking = new ArrayList<>();
+        tracking.add("CLIENT");
+        tracking.add("TRACKING");
+        tracking.add("ON");
+        tracking.add("BCAST");
+        for (String prefix : clientSideCache.getPrefixes()) {
+            tracking.add("PREFIX");
+            tracking.add(prefix);
+        }
+        writeCommand(out, tracking);
+        reply = readReply(in);
+        if (reply instanceof RedisError) {
+            clientSideCache.onTrackingUnsupported(server, ((RedisError) reply).message);
+            return false;
+        }
+        LOGGER.debug1(new Object() {}, "Redis服务【{}】已开启客户端追踪，PREFIX = {}", server, clientSideCache.getPrefixes());
+        return true;
+    }
+
+    /**
+     * 读取Redis服务推送的失效消息，空闲时发送心跳
+     */
+    private void listen(InputStream in, OutputStream out) throws IOException {
+        boolean pinging = false;
+        while (running) {
+            // 只在等待下一个响应的第一个字节时处理空闲超时，响应读取到一半超时则重新连接
+            try {
+                in.mark(1);
+                if (in.read() < 0) {
+                    throw new EOFException("连接已关闭");
+                }
+                in.reset();
+            } catch (SocketTimeoutException e) {
+                if (pinging) {
+                    throw new IOException("心跳超时");
+                }
+                List<String> ping = new ArrayList<>();
+                ping.add("PING");
+                writeCommand(out, ping);
+                pinging = true;
+                continue;
+            }
+            Object reply = readReply(in);
+            pinging = false;
+            if (reply instanceof Push) {
+                List<Object> push = ((Push) reply).values;
+                if (push.size() >= 2 && INVALIDATE.equals(push.get(0))) {
+                    clientSideCache.onInvalidate(toKeys(push.get(1)));
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> toKeys(Object value) {
+        if (!(value instanceof List)) {
+            return null;
+        }
+        List<String> keys = new ArrayList<>();
+        for (Object key : (List<Object>) value) {
+            if (key instanceof String) {
+                keys.add((String) key);
+            }
+        }
+        return keys;
+    }
+
+    private static boolean isAuthError(String message) {
+        return StringUtils.isNotBlank(message) && (message.startsWith("WRONGPASS") || message.startsWith("NOAUTH")
+                || message.contains("invalid password") || message.contains("invalid username-password"));
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(RECONNECT_INTERVAL);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private void closeSocket() {
+        Socket s = socket;
+        if (ObjectUtils.isNotEmpty(s)) {
+            try {
+                s.close();
+            } catch (IOException e) {
+                // 关闭失败不影响重新连接
+            }
+        }
+    }
+
+    private static InetSocketAddress toAddress(String server) {
+        int index = server.lastIndexOf(CommonConstants.SymbolConstants.COLON);
+        return new InetSocketAddress(server.substring(0, index).trim(), Integer.parseInt(server.substring(index + 1).trim()));
+    }
+
+    /**
+     * 以 RESP 数组的形式发送命令
+     */
+    static void writeCommand(OutputStream out, List<String> args) throws IOException {
+        ByteArrayOutputStream command = new ByteArrayOutputStream();
+        writeLine(command, "*" + args.size());
+        for (String arg : args) {
+            byte[] bytes = arg.getBytes(StandardCharsets.UTF_8);
+            writeLine(command, "$" + bytes.length);
+            command.write(bytes, 0, bytes.length);
+            writeLine(command, "");
+        }
+        out.write(command.toByteArray());
+        out.flush();
+    }
+
+    private static void writeLine(ByteArrayOutputStream out, String line) {
+        byte[] bytes = (line + "\r\n").getBytes(StandardCharsets.UTF_8);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    /**
+     * 读取一个 RESP2 或 RESP3 响应。字符串类型返回 {@code String}，整数返回 {@code Long}，
+     * 数组、集合和映射返回 {@code List}，推送消息返回 {@link Push}，错误返回 {@link RedisError}
+     */
+    static Object readReply(InputStream in) throws IOException {
+        int type = in.read();
+        if (type < 0) {
+            throw new EOFException("连接已关闭");
+        }
+        switch (type) {
+            case '+':
+            case ',':
+            case '(':
+                return readLine(in);
+            case '-':
+                return new RedisError(readLine(in));
+            case ':':
+                return Long.parseLong(readLine(in));
+            case '#':
+                return "t".equals(readLine(in));
+            case '_':
+                readLine(in);
+                return null;
+            case '$':
+            case '=':
+            case '!':
+                int length = Integer.parseInt(readLine(in));
+                if (length < 0) {
+                    return null;
+                }
+                String value = new String(readBytes(in, length), StandardCharsets.UTF_8);
+                readLine(in);
+                return '!' == type ? new RedisError(value) : value;
+            case '*':
+            case '~':
+            case '>':
+            case '%':
+            case '|':
+                int count = Integer.parseInt(readLine(in));
+                if (count < 0) {
+                    return null;
+                }
+                if ('%' == type || '|' == type) {
+                    count *= 2;
+                }
+                List<Object> values = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    values.add(readReply(in));
+                }
+                if ('|' == type) {
+                    // 属性类型是后一个响应的附加信息，忽略
+                    return readReply(in);
+                }
+                return '>' == type ? new Push(values) : values;
+            default:
+                throw new IOException("Redis响应类型非法：" + (char) type);
+        }
+    }
+
+    private static byte[] readBytes(InputStream in, int length) throws IOException {
+        byte[] bytes = new byte[length];
+        int offset = 0;
+        while (offset < length) {
+            int read = in.read(bytes, offset, length - offset);
+            if (read < 0) {
+                throw new EOFException("连接已关闭");
+            }
+            offset += read;
+        }
+        return bytes;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != '\n') {
+            if (b < 0) {
+                throw new EOFException("连接已关闭");
+            }
+            if (b != '\r') {
+                line.write(b);
+            }
+        }
+        return new String(line.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * RESP3 推送消息
+     */
+    static final class Push {
+
+        private final List<Object> values;
+
+        Push(List<Object> values) {
+            this.values = values;
+        }
+    }
+
+    /**
+     * Redis错误响应
+     */
+    static final class RedisError {
+
+        private final String message;
+
+        RedisError(String message) {
+            this.message = message;
+        }
+    }
+}
@@ -11,6 +11,7 @@ import com.huazie.fleaframework.cache.config.CacheServer;
 import com.huazie.fleaframework.cache.exceptions.FleaCacheConfigException;
 import com.huazie.fleaframework.cache.redis.RedisClient;
 import com.huazie.fleaframework.cache.redis.RedisClientFactory;
+import com.huazie.fleaframework.cache.redis.RedisClientSideCache;
 import com.huazie.fleaframework.cache.redis.RedisClusterPool;
 import com.huazie.fleaframework.cache.redis.impl.RedisFleaCache;
 import com.huazie.fleaframework.common.slf4j.FleaLogger;
@@ -32,7 +33,7 @@ import java.util.List;
  * 获取Redis Flea缓存建造者配置项【{@code <cache-item key="RedisCluster">}】
  *
  * @author huazie
- * @version 1.1.0
+ * @version 2.0.0
  * @see FleaCacheFactory
  * @since 1.1.0
  */
@@ -60,8 +61,10 @@ public class RedisClusterFleaCacheBuilder implements IFleaCacheBuilder {
             RedisClusterPool.getInstance(group).initialize(cacheServerList);
             // 获取集群模式下的指定连接池名【group】的Redis客户端类
             RedisClient redisClient = RedisClientFactory.getInstance(group, CacheModeEnum.CLUSTER);
+            // 获取缓存组的Redis客户端缓存，缓存组未开启客户端缓存时为 null
+            RedisClientSideCache clientSideCache = RedisClientSideCache.getInstance(group, cacheServerList, CacheModeEnum.CLUSTER);
             // 创建一个Redis Flea缓存
-            fleaCache = new RedisFleaCache(name, expiry, nullCacheExpiry, CacheModeEnum.CLUSTER, redisClient);
+            fleaCache = new RedisFleaCache(name, expiry, nullCacheExpiry, CacheModeEnum.CLUSTER, redisClient, clientSideCache);
 
             Object obj = new Object() {};
             LOGGER.debug1(obj, "Pool Name = {}", RedisClusterPool.getInstance(group).getPoolName());
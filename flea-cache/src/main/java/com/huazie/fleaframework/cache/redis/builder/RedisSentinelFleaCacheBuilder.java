@@ -11,6 +11,7 @@ import com.huazie.fleaframework.cache.config.CacheServer;
 import com.huazie.fleaframework.cache.exceptions.FleaCacheConfigException;
 import com.huazie.fleaframework.cache.redis.RedisClient;
 import com.huazie.fleaframework.cache.redis.RedisClientFactory;
+import com.huazie.fleaframework.cache.redis.RedisClientSideCache;
 import com.huazie.fleaframework.cache.redis.RedisSentinelPool;
 import com.huazie.fleaframework.cache.redis.impl.RedisFleaCache;
 import com.huazie.fleaframework.common.slf4j.FleaLogger;
@@ -60,8 +61,10 @@ public class RedisSentinelFleaCacheBuilder implements IFleaCacheBuilder {
             RedisSentinelPool.getInstance(group).initialize(cacheServerList);
             // 获取哨兵模式下的指定连接池名【group】的Redis客户端
             RedisClient redisClient = RedisClientFactory.getInstance(group, CacheModeEnum.SENTINEL);
+            // 获取缓存组的Redis客户端缓存，缓存组未开启客户端缓存时为 null
+            RedisClientSideCache clientSideCache = RedisClientSideCache.getInstance(group, cacheServerList, CacheModeEnum.SENTINEL);
             // 创建一个Redis Flea缓存
-            fleaCache = new RedisFleaCache(name, expiry, nullCacheExpiry, CacheModeEnum.SENTINEL, redisClient);
+            fleaCache = new RedisFleaCache(name, expiry, nullCacheExpiry, CacheModeEnum.SENTINEL, redisClient, clientSideCache);
 
             Object obj = new Object() {};
             LOGGER.debug1(obj, "Pool Name = {}", RedisSentinelPool.getInstance(group).getPoolName());
@@ -0,0 +1,158 @@
+package com.huazie.fleaframework.cache.redis.config;
+
+import com.huazie.fleaframework.cache.common.CacheConstants.RedisResilienceConstants;
+import com.huazie.fleaframework.common.FleaConfigManager;
+import com.huazie.fleaframework.common.config.ConfigItems;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.ObjectUtils;
+import com.huazie.fleaframework.common.util.StringUtils;
+
+/**
+ * Redis客户端容错配置，包含重试退避、操作截止时间和熔断相关配置，
+ * 可在配置文件 <b>flea-config.xml</b> 中查看
+ * {@code <config-items key="flea-redis-resilience"> } 节点；
+ * 未配置或配置非法的配置项，使用默认值。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class RedisResilienceConfig {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(RedisResilienceConfig.class);
+
+    private static volatile RedisResilienceConfig config;
+
+    private long backoffBase = 10L; // 重试退避的基础等待时间（毫秒）
+
+    private long backoffMax = 200L; // 重试退避的最大等待时间（毫秒）
+
+    private long deadline = 1000L; // 单次操作包含所有重试的最长执行时间（毫秒）
+
+    private int failureThreshold = 5; // 连续失败多少次后熔断
+
+    private long openDuration = 5000L; // 熔断持续时间（毫秒）
+
+    private int halfOpenProbes = 1; // 半开状态下允许同时执行的探测操作数
+
+    private boolean failFast = true; // 熔断期间是否快速失败
+
+    /**
+     * 获取 Redis客户端容错配置，首次获取时从配置文件 <b>flea-config.xml</b> 中加载
+     *
+     * @return Redis客户端容错配置
+     * @since 2.0.0
+     */
+    public static RedisResilienceConfig getConfig() {
+        if (ObjectUtils.isEmpty(config)) {
+            synchronized (RedisResilienceConfig.class) {
+                if (ObjectUtils.isEmpty(config)) {
+                    config = load();
+                }
+            }
+        }
+        return config;
+    }
+
+    /**
+     * 从配置文件 <b>flea-config.xml</b> 中加载 Redis客户端容错配置
+     *
+     * @return Redis客户端容错配置
+     * @since 2.0.0
+     */
+    private static RedisResilienceConfig load() {
+        RedisResilienceConfig resilienceConfig = new RedisResilienceConfig();
+        ConfigItems configItems = FleaConfigManager.getConfigItems(RedisResilienceConstants.FLEA_REDIS_RESILIENCE);
+
+        resilienceConfig.setBackoffBase(toPositive(configItems, RedisResilienceConstants.CONFIG_ITEM_BACKOFF_BASE, resilienceConfig.backoffBase));
+        resilienceConfig.setBackoffMax(toPositive(configItems, RedisResilienceConstants.CONFIG_ITEM_BACKOFF_MAX, resilienceConfig.backoffMax));
+        resilienceConfig.setDeadline(toPositive(configItems, RedisResilienceConstants.CONFIG_ITEM_DEADLINE, resilienceConfig.deadline));
+        resilienceConfig.setFailureThreshold((int) toPositive(configItems, RedisResilienceConstants.CONFIG_ITEM_FAILURE_THRESHOLD, resilienceConfig.failureThreshold));
+        resilienceConfig.setOpenDuration(toPositive(configItems, RedisResilienceConstants.CONFIG_ITEM_OPEN_DURATION, resilienceConfig.openDuration));
+        resilienceConfig.setHalfOpenProbes((int) toPositive(configItems, RedisResilienceConstants.CONFIG_ITEM_HALF_OPEN_PROBES, resilienceConfig.halfOpenProbes));
+        String failFast = FleaConfigManager.getConfigItemValue(RedisResilienceConstants.CONFIG_ITEM_FAIL_FAST, configItems);
+        if (StringUtils.isNotBlank(failFast)) {
+            resilienceConfig.setFailFast(Boolean.parseBoolean(failFast.trim()));
+        }
+        return resilienceConfig;
+    }
+
+    /**
+     * 将配置值转换为正数，未配置或配置非法时返回默认值
+     *
+     * @param configItems  配置项集
+     * @param key          配置项键
+     * @param defaultValue 默认值
+     * @return 正数
+     * @since 2.0.0
+     */
+    private static long toPositive(ConfigItems configItems, String key, long defaultValue) {
+        long result = defaultValue;
+        String value = FleaConfigManager.getConfigItemValue(key, configItems);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                result = Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                LOGGER.warn1(new Object() {}, "配置【flea-redis-resilience/{} = {}】非法，使用默认值", key, value);
+            }
+        }
+        return result > 0 && result <= Integer.MAX_VALUE ? result : defaultValue;
+    }
+
+    public long getBackoffBase() {
+        return backoffBase;
+    }
+
+    public void setBackoffBase(long backoffBase) {
+        this.backoffBase = backoffBase;
+    }
+
+    public long getBackoffMax() {
+        return backoffMax;
+    }
+
+    public void setBackoffMax(long backoffMax) {
+        this.backoffMax = backoffMax;
+    }
+
+    public long getDeadline() {
+        return deadline;
+    }
+
+    public void setDeadline(long deadline) {
+        this.deadline = deadline;
+    }
+
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    public void setFailureThreshold(int failureThreshold) {
+        this.failureThreshold = failureThreshold;
+    }
+
+    public long getOpenDuration() {
+        return openDuration;
+    }
+
+    public void setOpenDuration(long openDuration) {
+        this.openDuration = openDuration;
+    }
+
+    public int getHalfOpenProbes() {
+        return halfOpenProbes;
+    }
+
+    public void setHalfOpenProbes(int halfOpenProbes) {
+        this.halfOpenProbes = halfOpenProbes;
+    }
+
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    public void setFailFast(boolean failFast) {
+        this.failFast = failFast;
+    }
+}
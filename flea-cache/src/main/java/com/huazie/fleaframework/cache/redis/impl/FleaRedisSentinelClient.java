@@ -1,7 +1,9 @@
 package com.huazie.fleaframework.cache.redis.impl;
 
 import com.huazie.fleaframework.cache.common.CacheConfigUtils;
+import com.huazie.fleaframework.cache.common.CacheModeEnum;
 import com.huazie.fleaframework.cache.redis.FleaRedisClient;
+import com.huazie.fleaframework.cache.redis.RedisCircuitBreaker;
 import com.huazie.fleaframework.cache.redis.RedisClient;
 import com.huazie.fleaframework.cache.redis.RedisClientCommand;
 import com.huazie.fleaframework.cache.redis.RedisSentinelPool;
@@ -51,6 +53,8 @@ public class FleaRedisSentinelClient extends FleaRedisClient {
 
     private int maxAttempts;
 
+    private RedisCircuitBreaker circuitBreaker; // Redis熔断器
+
     /**
      * Redis哨兵客户端构造方法 (默认)
      *
@@ -84,11 +88,12 @@ public class FleaRedisSentinelClient extends FleaRedisClient {
             jedisSentinelPool = RedisSentinelPool.getInstance(getPoolName()).getJedisSentinelPool();
             maxAttempts = CacheConfigUtils.getMaxAttempts();
         }
+        circuitBreaker = RedisCircuitBreaker.getInstance(getPoolName(), CacheModeEnum.SENTINEL);
     }
 
     @Override
     public String set(final String key, final Object value) {
-        return new RedisClientCommand<String, JedisSentinelPool, Jedis>(this.jedisSentinelPool, this.maxAttempts) {
+        return new RedisClientCommand<String, JedisSentinelPool, Jedis>(this.jedisSentinelPool, this.maxAttempts, this.circuitBreaker) {
             @Override
             public String execute(Jedis connection) {
                 if (value instanceof String)
@@ -101,7 +106,7 @@ public class FleaRedisSentinelClient extends FleaRedisClient {
 
     @Override
     public String set(final byte[] key, final byte[] value) {
-        return new RedisClientCommand<String, JedisSentinelPool, Jedis>(this.jedisSentinelPool, this.maxAttempts) {
+        return new RedisClientCommand<String, JedisSentinelPool, Jedis>(this.jedisSentinelPool, this.maxAttempts, this.circuitBreaker) {
             @Override
             public String execute(Jedis connection) {
                 return connection.set(key, value);
@@ -111,7 +116,7 @@ public class FleaRedisSentinelClient extends FleaRedisClient {
 
     @Override
     public String set(final String key, final Object value, final int expiry) {
-        return new RedisClientCommand<String, JedisSentinelPool, Jedis>(this.jedisSentinelPool, this.maxAttempts) {
+        return new RedisClientCommand<String, JedisSentinelPool, Jedis>(this.jedisSentinelPool, this.maxAttempts, this.circuitBreaker) {
             @Override
             public String execute(Jedis connection) {
                 if (value instanceof String)
@@ -124,7 +129,7 @@ public class FleaRedisSentinelClient extends FleaRedisClient {
 
     @Override
     public String set(final byte[] key, final byte[] value, final int expiry) {
-        return new RedisClientCommand<String, JedisSentinelPool, Jedis>(this.jedisSentinelPool, this.maxAttempts) {
+        return new RedisClientCommand<String, JedisSentinelPool, Jedis>(this.jedisSentinelPool, this.maxAttempts, this.circuitBreaker) {
             @Override
             public String execute(Jedis connection) {
                 return connection.setex(key, expiry, value);
@@ -134,7 +139,7 @@ public class FleaRedisSentinelClient extends FleaRedisClient {
 
     @Override
     public String set(final String key, final Object value, final long expiry) {
-        return new RedisClientCommand<String, JedisSentinelPool, Jedis>(this.jedisSentinelPool, this.maxAttempts) {
+        return new RedisClientCommand<String, JedisSentinelPool, Jedis>(this.jedisSentinelPool, this.maxAttempts, this.circuitBreaker) {
             @Override
             public String execute(Jedis connection) {
                 if (value instanceof String)
@@ -147,7 +152,7 @@ public class FleaRedisSentinelClient extends FleaRedisClient {
 
     @Override
     public String set(final byte[] key, final byte[] value, final long expiry) {
-        return new RedisClientCommand<String, JedisSentinelPool, Jedis>(this.jedisSentinelPool, this.maxAttempts) {
+        return new RedisClientCommand<String, JedisSentinelPool, Jedis>(this.jedisSentinelPool, this.maxAttempts, this.circuitBreaker) {
             @Override
             public String execute(Jedis connection) {
                 return connection.psetex(key, expiry, value);
@@ -157,7 +162,7 @@ public class FleaRedisSentinelClient extends FleaRedisClient {
 
     @Override
     public String set(final String key, final Object value, final SetParams params) {
-        return new RedisClientCommand<String, JedisSentinelPool, Jedis>(this.jedisSentinelPool, this.maxAttempts) {
+        return new RedisClientCommand<String, JedisSentinelPool, Jedis>(this.jedisSentinelPool, this.maxAttempts, this.circuitBreaker) {
             @Override
             public String execute(Jedis connection) {
                 if (value instanceof String)
@@ -170,7 +175,7 @@ public class FleaRedisSentinelClient extends FleaRedisClient {
 
     @Override
     public String set(final byte[] key, final byte[] value, final SetParams params) {
-        return new RedisClientCommand<String, JedisSentinelPool, Jedis>(this.jedisSentinelPool, this.maxAttempts) {
+        return new RedisClientCommand<String, JedisSentinelPool, Jedis>(this.jedisSentinelPool, this.maxAttempts, this.circuitBreaker) {
             @Override
             public String execute(Jedis connection) {
                 return connection.set(key, value, params);
@@ -180,7 +185,7 @@ public class FleaRedisSentinelClient extends FleaRedisClient {
 
     @Override
     public byte[] get(final byte[] key) {
-        return new RedisClientCommand<byte[], JedisSentinelPool, Jedis>(this.jedisSentinelPool, this.maxAttempts) {
+        return new RedisClientCommand<byte[], JedisSentinelPool, Jedis>(this.jedisSentinelPool, this.maxAttempts, this.circuitBreaker) {
             @Override
             public byte[] execute(Jedis connection) {
                 return connection.get(key);
@@ -190,7 +195,7 @@ public class FleaRedisSentinelClient extends FleaRedisClient {
 
     @Override
     public Long del(final String key) {
-        return new RedisClientCommand<Long, JedisSentinelPool, Jedis>(this.jedisSentinelPool, this.maxAttempts) {
+        return new RedisClientCommand<Long, JedisSentinelPool, Jedis>(this.jedisSentinelPool, this.maxAttempts, this.circuitBreaker) {
             @Override
             public Long execute(Jedis connection) {
                 return connection.del(key);
@@ -207,7 +212,7 @@ public class FleaRedisSentinelClient extends FleaRedisClient {
      */
     @Override
     protected Client getClientByKey(Object key) {
-        return new RedisClientCommand<Client, JedisSentinelPool, Jedis>(this.jedisSentinelPool, this.maxAttempts) {
+        return new RedisClientCommand<Client, JedisSentinelPool, Jedis>(this.jedisSentinelPool, this.maxAttempts, this.circuitBreaker) {
             @Override
             public Client execute(Jedis connection) {
                 return connection.getClient();
@@ -1,7 +1,9 @@
 package com.huazie.fleaframework.cache.redis.impl;
 
 import com.huazie.fleaframework.cache.common.CacheConfigUtils;
+import com.huazie.fleaframework.cache.common.CacheModeEnum;
 import com.huazie.fleaframework.cache.redis.FleaRedisClient;
+import com.huazie.fleaframework.cache.redis.RedisCircuitBreaker;
 import com.huazie.fleaframework.cache.redis.RedisClient;
 import com.huazie.fleaframework.cache.redis.RedisClientCommand;
 import com.huazie.fleaframework.cache.redis.RedisShardedPool;
@@ -48,7 +50,7 @@ import redis.clients.jedis.util.SafeEncoder;
  *  RedisClient redisClient = RedisClientFactory.getInstance(poolName, CacheModeEnum.SHARDED); </pre>
  *
  * @author huazie
- * @version 1.1.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public class FleaRedisShardedClient extends FleaRedisClient {
@@ -57,6 +59,8 @@ public class FleaRedisShardedClient extends FleaRedisClient {
 
     private int maxAttempts; // Redis客户端操作最大尝试次数【包含第一次操作】
 
+    private RedisCircuitBreaker circuitBreaker; // Redis熔断器
+
     /**
      * Redis客户端构造方法 (默认连接池名)
      *
@@ -90,11 +94,12 @@ public class FleaRedisShardedClient extends FleaRedisClient {
             shardedJedisPool = RedisShardedPool.getInstance(getPoolName()).getJedisPool();
             maxAttempts = CacheConfigUtils.getMaxAttempts();
         }
+        circuitBreaker = RedisCircuitBreaker.getInstance(getPoolName(), CacheModeEnum.SHARDED);
     }
 
     @Override
     public String set(final String key, final Object value) {
-        return new RedisClientCommand<String, ShardedJedisPool, ShardedJedis>(this.shardedJedisPool, this.maxAttempts) {
+        return new RedisClientCommand<String, ShardedJedisPool, ShardedJedis>(this.shardedJedisPool, this.maxAttempts, this.circuitBreaker) {
             @Override
             public String execute(ShardedJedis connection) {
                 if (value instanceof String)
@@ -107,7 +112,7 @@ public class FleaRedisShardedClient extends FleaRedisClient {
 
     @Override
     public String set(final byte[] key, final byte[] value) {
-        return new RedisClientCommand<String, ShardedJedisPool, ShardedJedis>(this.shardedJedisPool, this.maxAttempts) {
+        return new RedisClientCommand<String, ShardedJedisPool, ShardedJedis>(this.shardedJedisPool, this.maxAttempts, this.circuitBreaker) {
             @Override
             public String execute(ShardedJedis connection) {
                 return connection.set(key, value);
@@ -117,7 +122,7 @@ public class FleaRedisShardedClient extends FleaRedisClient {
 
     @Override
     public String set(final String key, final Object value, final int expiry) {
-        return new RedisClientCommand<String, ShardedJedisPool, ShardedJedis>(this.shardedJedisPool, this.maxAttempts) {
+        return new RedisClientCommand<String, ShardedJedisPool, ShardedJedis>(this.shardedJedisPool, this.maxAttempts, this.circuitBreaker) {
             @Override
             public String execute(ShardedJedis connection) {
                 if (value instanceof String)
@@ -130,7 +135,7 @@ public class FleaRedisShardedClient extends FleaRedisClient {
 
     @Override
     public String set(final byte[] key, final byte[] value, final int expiry) {
-        return new RedisClientCommand<String, ShardedJedisPool, ShardedJedis>(this.shardedJedisPool, this.maxAttempts) {
+        return new RedisClientCommand<String, ShardedJedisPool, ShardedJedis>(this.shardedJedisPool, this.maxAttempts, this.circuitBreaker) {
             @Override
             public String execute(ShardedJedis connection) {
                 return connection.setex(key, expiry, value);
@@ -140,7 +145,7 @@ public class FleaRedisShardedClient extends FleaRedisClient {
 
     @Override
     public String set(final String key, final Object value, final long expiry) {
-        return new RedisClientCommand<String, ShardedJedisPool, ShardedJedis>(this.shardedJedisPool, this.maxAttempts) {
+        return new RedisClientCommand<String, ShardedJedisPool, ShardedJedis>(this.shardedJedisPool, this.maxAttempts, this.circuitBreaker) {
             @Override
             public String execute(ShardedJedis connection) {
                 if (value instanceof String)
@@ -153,7 +158,7 @@ public class FleaRedisShardedClient extends FleaRedisClient {
 
     @Override
     public String set(final byte[] key, final byte[] value, final long expiry) {
-        return new RedisClientCommand<String, ShardedJedisPool, ShardedJedis>(this.shardedJedisPool, this.maxAttempts) {
+        return new RedisClientCommand<String, ShardedJedisPool, ShardedJedis>(this.shardedJedisPool, this.maxAttempts, this.circuitBreaker) {
             @Override
             public String execute(ShardedJedis connection) {
                 return connection.psetex(key, expiry, value);
@@ -163,7 +168,7 @@ public class FleaRedisShardedClient extends FleaRedisClient {
 
     @Override
     public String set(final String key, final Object value, final SetParams params) {
-        return new RedisClientCommand<String, ShardedJedisPool, ShardedJedis>(this.shardedJedisPool, this.maxAttempts) {
+        return new RedisClientCommand<String, ShardedJedisPool, ShardedJedis>(this.shardedJedisPool, this.maxAttempts, this.circuitBreaker) {
             @Override
             public String execute(ShardedJedis connection) {
                 if (value instanceof String)
@@ -176,7 +181,7 @@ public class FleaRedisShardedClient extends FleaRedisClient {
 
     @Override
     public String set(final byte[] key, final byte[] value, final SetParams params) {
-        return new RedisClientCommand<String, ShardedJedisPool, ShardedJedis>(this.shardedJedisPool, this.maxAttempts) {
+        return new RedisClientCommand<String, ShardedJedisPool, ShardedJedis>(this.shardedJedisPool, this.maxAttempts, this.circuitBreaker) {
             @Override
             public String execute(ShardedJedis connection) {
                 return connection.set(key, value, params);
@@ -186,7 +191,7 @@ public class FleaRedisShardedClient extends FleaRedisClient {
 
     @Override
     public byte[] get(final byte[] key) {
-        return new RedisClientCommand<byte[], ShardedJedisPool, ShardedJedis>(this.shardedJedisPool, this.maxAttempts) {
+        return new RedisClientCommand<byte[], ShardedJedisPool, ShardedJedis>(this.shardedJedisPool, this.maxAttempts, this.circuitBreaker) {
             @Override
             public byte[] execute(ShardedJedis connection) {
                 return connection.get(key);
@@ -196,7 +201,7 @@ public class FleaRedisShardedClient extends FleaRedisClient {
 
     @Override
     public Long del(final String key) {
-        return new RedisClientCommand<Long, ShardedJedisPool, ShardedJedis>(this.shardedJedisPool, this.maxAttempts) {
+        return new RedisClientCommand<Long, ShardedJedisPool, ShardedJedis>(this.shardedJedisPool, this.maxAttempts, this.circuitBreaker) {
             @Override
             public Long execute(ShardedJedis connection) {
                 return connection.del(key);
@@ -213,7 +218,7 @@ public class FleaRedisShardedClient extends FleaRedisClient {
      */
     @Override
     protected Client getClientByKey(final Object key) {
-        return new RedisClientCommand<Client, ShardedJedisPool, ShardedJedis>(this.shardedJedisPool, this.maxAttempts) {
+        return new RedisClientCommand<Client, ShardedJedisPool, ShardedJedis>(this.shardedJedisPool, this.maxAttempts, this.circuitBreaker) {
             @Override
             public Client execute(ShardedJedis connection) {
                 Client client = null;
@@ -233,7 +238,7 @@ public class FleaRedisShardedClient extends FleaRedisClient {
      * 内部建造者类
      *
      * @author huazie
-     * @version 1.1.0
+     * @version 2.0.0
      * @since 1.0.0
      */
     public static class Builder {
@@ -5,7 +5,9 @@ import com.huazie.fleaframework.cache.NullCache;
 import com.huazie.fleaframework.cache.common.CacheEnum;
 import com.huazie.fleaframework.cache.common.CacheModeEnum;
 import com.huazie.fleaframework.cache.common.CacheUtils;
+import com.huazie.fleaframework.cache.redis.RedisCircuitBreaker;
 import com.huazie.fleaframework.cache.redis.RedisClient;
+import com.huazie.fleaframework.cache.redis.RedisClientSideCache;
 import com.huazie.fleaframework.cache.redis.config.RedisClusterConfig;
 import com.huazie.fleaframework.cache.redis.config.RedisSentinelConfig;
 import com.huazie.fleaframework.cache.redis.config.RedisShardedConfig;
@@ -29,8 +31,15 @@ import com.huazie.fleaframework.common.util.ObjectUtils;
  * 【{@code <cache-param key="fleacore.nullCacheExpiry"
  * desc="空缓存数据有效期（单位：s）">300</cache-param>}】
  *
+ * <p> 连接池对应的Redis熔断器熔断期间，若开启了快速失败，
+ * 读缓存视为未命中，写缓存不做处理，详见 {@link RedisCircuitBreaker}。
+ *
+ * <p> 缓存组开启了客户端缓存时，读缓存先查本地的Redis客户端缓存，
+ * 未命中再读取Redis并写入本地；写缓存和删除缓存后删除本地对应的缓存数据，
+ * 详见 {@link RedisClientSideCache}。
+ *
  * @author huazie
- * @version 1.1.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public class RedisFleaCache extends AbstractFleaCache {
@@ -41,6 +50,12 @@ public class RedisFleaCache extends AbstractFleaCache {
 
     private CacheModeEnum cacheMode; // 缓存模式【分片模式和集群模式\哨兵模式】
 
+    private RedisCircuitBreaker circuitBreaker; // Redis熔断器
+
+    private RedisClientSideCache clientSideCache; // Redis客户端缓存，未开启时为 null
+
+    private String nativeCacheKey; // 缓存主键
+
     /**
      * 带参数的构造方法，初始化Redis Flea缓存类
      *
@@ -52,21 +67,61 @@ public class RedisFleaCache extends AbstractFleaCache {
      * @since 1.0.0
      */
     public RedisFleaCache(String name, int expiry, int nullCacheExpiry, CacheModeEnum cacheMode, RedisClient redisClient) {
+        this(name, expiry, nullCacheExpiry, cacheMode, redisClient, null);
+    }
+
+    /**
+     * 带参数的构造方法，初始化开启客户端缓存的Redis Flea缓存类
+     *
+     * @param name            缓存数据主关键字
+     * @param expiry          缓存数据有效期（单位：s）
+     * @param nullCacheExpiry 空缓存数据有效期（单位：s）
+     * @param cacheMode       缓存模式【分分片模式和集群模式】
+     * @param redisClient     Redis客户端
+     * @param clientSideCache Redis客户端缓存，为 null 时不开启
+     * @since 2.0.0
+     */
+    public RedisFleaCache(String name, int expiry, int nullCacheExpiry, CacheModeEnum cacheMode, RedisClient redisClient, RedisClientSideCache clientSideCache) {
         super(name, expiry, nullCacheExpiry);
         this.cacheMode = cacheMode;
         this.redisClient = redisClient;
+        this.circuitBreaker = RedisCircuitBreaker.getInstance(redisClient.getPoolName(), cacheMode);
         if (CacheUtils.isClusterMode(cacheMode))
             cache = CacheEnum.RedisCluster; // 缓存实现之Redis集群模式
         else if (CacheUtils.isSentinelMode(cacheMode))
             cache = CacheEnum.RedisSentinel;  // 缓存实现之Redis哨兵模式
         else
             cache = CacheEnum.RedisSharded; // 缓存实现之Redis分片模式
+        this.clientSideCache = clientSideCache;
+        if (ObjectUtils.isNotEmpty(clientSideCache)) {
+            nativeCacheKey = getNativeCacheKey(name);
+            // 缓存主键前缀同时覆盖缓存主键和各个缓存数据键
+            clientSideCache.addPrefix(nativeCacheKey);
+        }
+    }
+
+    @Override
+    protected boolean isBypassed() {
+        return circuitBreaker.shouldBypass();
     }
 
     @Override
     public Object getNativeValue(String key) {
-        LOGGER.debug1(new Object() {}, "KEY = {}", key);
-        return redisClient.get(key);
+        Object obj = new Object() {};
+        LOGGER.debug1(obj, "KEY = {}", key);
+        // 缓存主键下的数据键集合读取后会被修改再写回，不放入本地缓存
+        if (ObjectUtils.isEmpty(clientSideCache) || key.equals(nativeCacheKey)) {
+            return redisClient.get(key);
+        }
+        Object value = clientSideCache.get(key);
+        if (ObjectUtils.isNotEmpty(value)) {
+            LOGGER.debug1(obj, "CLIENT SIDE CACHE HIT, KEY = {}", key);
+            return value;
+        }
+        long sequence = clientSideCache.getSequence();
+        value = redisClient.get(key);
+        clientSideCache.put(key, value, sequence, value instanceof NullCache ? getNullCacheExpiry() : getExpiry());
+        return value;
     }
 
     @Override
@@ -76,21 +131,41 @@ public class RedisFleaCache extends AbstractFleaCache {
         LOGGER.debug1(obj, "REDIS FLEA CACHE, VALUE = {}", value);
         LOGGER.debug1(obj, "REDIS FLEA CACHE, EXPIRY = {}s", expiry);
         LOGGER.debug1(obj, "REDIS FLEA CACHE, NULL CACHE EXPIRY = {}s", getNullCacheExpiry());
-        if (ObjectUtils.isEmpty(value)) {
-            return redisClient.set(key, new NullCache(key), getNullCacheExpiry());
-        } else {
-            if (expiry == CommonConstants.NumeralConstants.INT_ZERO) {
-                return redisClient.set(key, value);
+        try {
+            if (ObjectUtils.isEmpty(value)) {
+                return redisClient.set(key, new NullCache(key), getNullCacheExpiry());
             } else {
-                return redisClient.set(key, value, expiry);
+                if (expiry == CommonConstants.NumeralConstants.INT_ZERO) {
+                    return redisClient.set(key, value);
+                } else {
+                    return redisClient.set(key, value, expiry);
+                }
             }
+        } finally {
+            invalidateClientSideCache(key);
         }
     }
 
     @Override
     public Object deleteNativeValue(String key) {
         LOGGER.debug1(new Object() {}, "KEY = {}", key);
-        return redisClient.del(key);
+        try {
+            return redisClient.del(key);
+        } finally {
+            invalidateClientSideCache(key);
+        }
+    }
+
+    /**
+     * 写缓存或删除缓存后，删除本地Redis客户端缓存中对应的缓存数据
+     *
+     * @param key 实际存储的缓存键
+     * @since 2.0.0
+     */
+    private void invalidateClientSideCache(String key) {
+        if (ObjectUtils.isNotEmpty(clientSideCache)) {
+            clientSideCache.invalidate(key);
+        }
     }
 
     @Override
@@ -0,0 +1,308 @@
+package com.huazie.fleaframework.cache.memcached.nio;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 进程内的 MemCached 服务替身，支持文本协议和二进制协议中单元测试用到的命令，
+ * 按连接的第一个字节区分协议，数据保存在内存中，不处理有效期。
+ *
+ * <p> 文本协议支持【get】【gets】【set】【cas】【delete】；
+ * 二进制协议支持【GET】【GETQ】【GETK】【GETKQ】【SET】【DELETE】【NOOP】。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class InProcessMemCachedServer implements Closeable {
+
+    private final ServerSocket serverSocket;
+
+    private final Map<String, Item> data = new HashMap<>();
+
+    private final Set<Socket> sockets = Collections.newSetFromMap(new ConcurrentHashMap<Socket, Boolean>());
+
+    private final AtomicInteger connectionCount = new AtomicInteger(); // 累计建立的连接数
+
+    private final AtomicInteger commandCount = new AtomicInteger(); // 收到的命令数
+
+    private long casUnique; // 最近分配的 CAS 唯一标识
+
+    public InProcessMemCachedServer() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread acceptThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                accept();
+            }
+        }, "InProcessMemCachedServer-" + getPort());
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+    }
+
+    public String getServer() {
+        return "127.0.0.1:" + getPort();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    public int getCommandCount() {
+        return commandCount.get();
+    }
+
+    public synchronized int size() {
+        return data.size();
+    }
+
+    /**
+     * 关闭所有客户端连接，模拟网络故障
+     */
+    public void closeConnections() throws IOException {
+        for (Socket socket : sockets) {
+            socket.close();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        closeConnections();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                final Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                sockets.add(socket);
+                connectionCount.incrementAndGet();
+                Thread thread = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        serve(socket);
+                    }
+                });
+                thread.setDaemon(true);
+                thread.start();
+            } catch (IOException e) {
+                // 服务已关闭
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (Socket s = socket) {
+            InputStream in = new BufferedInputStream(s.getInputStream());
+            OutputStream out = s.getOutputStream();
+            in.mark(1);
+            int first = in.read();
+            if (first < 0) {
+                return;
+            }
+            in.reset();
+            if ((first & 0xFF) == 0x80) {
+                serveBinary(new DataInputStream(in), out);
+            } else {
+                serveText(in, out);
+            }
+        } catch (IOException e) {
+            // 客户端已断开
+        } finally {
+            sockets.remove(socket);
+        }
+    }
+
+    private void serveText(InputStream in, OutputStream out) throws IOException {
+        while (true) {
+            String[] command = readLine(in).split(" ");
+            commandCount.incrementAndGet();
+            ByteArrayOutputStream response = new ByteArrayOutputStream();
+            switch (command[0]) {
+                case "get":
+                case "gets":
+                    for (int i = 1; i < command.length; i++) {
+                        Item item = get(command[i]);
+                        if (null != item) {
+                            String header = "VALUE " + command[i] + " " + item.flags + " " + item.data.length
+                                    + ("gets".equals(command[0]) ? " " + item.casUnique : "") + "\r\n";
+                            write(response, header.getBytes(StandardCharsets.UTF_8));
+                            write(response, item.data);
+                            write(response, "\r\n".getBytes(StandardCharsets.UTF_8));
+                        }
+                    }
+                    write(response, "END\r\n".getBytes(StandardCharsets.UTF_8));
+                    break;
+                case "set":
+                case "cas":
+                    byte[] value = readBytes(in, Integer.parseInt(command[4]));
+                    readLine(in);
+                    long cas = "cas".equals(command[0]) ? Long.parseLong(command[5]) : 0L;
+                    String status = store(command[1], Integer.parseInt(command[2]), value, cas);
+                    write(response, (status + "\r\n").getBytes(StandardCharsets.UTF_8));
+                    break;
+                case "delete":
+                    write(response, (delete(command[1]) ? "DELETED\r\n" : "NOT_FOUND\r\n").getBytes(StandardCharsets.UTF_8));
+                    break;
+                default:
+                    write(response, "ERROR\r\n".getBytes(StandardCharsets.UTF_8));
+            }
+            out.write(response.toByteArray());
+            out.flush();
+        }
+    }
+
+    private void serveBinary(DataInputStream in, OutputStream out) throws IOException {
+        while (true) {
+            byte[] header = new byte[24];
+            in.readFully(header);
+            ByteBuffer request = ByteBuffer.wrap(header);
+            byte opcode = request.get(1);
+            int keyLength = request.getShort(2) & 0xFFFF;
+            int extrasLength = request.get(4) & 0xFF;
+            int bodyLength = request.getInt(8);
+            long cas = request.getLong(16);
+            byte[] extras = new byte[extrasLength];
+            in.readFully(extras);
+            byte[] keyBytes = new byte[keyLength];
+            in.readFully(keyBytes);
+            byte[] value = new byte[bodyLength - extrasLength - keyLength];
+            in.readFully(value);
+            String key = new String(keyBytes, StandardCharsets.UTF_8);
+            commandCount.incrementAndGet();
+            byte[] response = null;
+            switch (opcode) {
+                case 0x00: // GET
+                case 0x09: // GETQ
+                case 0x0C: // GETK
+                case 0x0D: // GETKQ
+                    boolean quiet = opcode == 0x09 || opcode == 0x0D;
+                    boolean withKey = opcode == 0x0C || opcode == 0x0D;
+                    Item item = get(key);
+                    if (null != item) {
+                        byte[] flags = ByteBuffer.allocate(4).putInt(item.flags).array();
+                        response = response(opcode, (short) 0, flags, withKey ? keyBytes : new byte[0], item.data, item.casUnique);
+                    } else if (!quiet) {
+                        response = response(opcode, (short) 1, new byte[0], new byte[0], "Not found".getBytes(StandardCharsets.UTF_8), 0L);
+                    }
+                    break;
+                case 0x01: // SET
+                    String status = store(key, ByteBuffer.wrap(extras).getInt(0), value, cas);
+                    short code = "STORED".equals(status) ? (short) 0 : ("EXISTS".equals(status) ? (short) 2 : (short) 1);
+                    response = response(opcode, code, new byte[0], new byte[0], new byte[0], 0L);
+                    break;
+                case 0x04: // DELETE
+                    response = response(opcode, delete(key) ? (short) 0 : (short) 1, new byte[0], new byte[0], new byte[0], 0L);
+                    break;
+                case 0x0A: // NOOP
+                    response = response(opcode, (short) 0, new byte[0], new byte[0], new byte[0], 0L);
+                    break;
+                default:
+                    response = response(opcode, (short) 0x81, new byte[0], new byte[0], "Unknown command".getBytes(StandardCharsets.UTF_8), 0L);
+            }
+            if (null != response) {
+                out.write(response);
+                out.flush();
+            }
+        }
+    }
+
+    private synchronized Item get(String key) {
+        return data.get(key);
+    }
+
+    private synchronized String store(String key, int flags, byte[] value, long cas) {
+        Item item = data.get(key);
+        if (cas > 0) {
+            if (null == item) {
+                return "NOT_FOUND";
+            }
+            if (item.casUnique != cas) {
+                return "EXISTS";
+            }
+        }
+        data.put(key, new Item(flags, value, ++casUnique));
+        return "STORED";
+    }
+
+    private synchronized boolean delete(String key) {
+        return null != data.remove(key);
+    }
+
+    private static byte[] response(byte opcode, short status, byte[] extras, byte[] key, byte[] value, long cas) {
+        int bodyLength = extras.length + key.length + value.length;
+        ByteBuffer response = ByteBuffer.allocate(24 + bodyLength);
+        response.put((byte) 0x81).put(opcode).putShort((short) key.length).put((byte) extras.length).put((byte) 0)
+                .putShort(status).putInt(bodyLength).putInt(0).putLong(cas);
+        response.put(extras).put(key).put(value);
+        return response.array();
+    }
+
+    private static void write(ByteArrayOutputStream out, byte[] bytes) {
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static byte[] readBytes(InputStream in, int length) throws IOException {
+        byte[] bytes = new byte[length];
+        int offset = 0;
+        while (offset < length) {
+            int read = in.read(bytes, offset, length - offset);
+            if (read < 0) {
+                throw new EOFException();
+            }
+            offset += read;
+        }
+        return bytes;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != '\n') {
+            if (b < 0) {
+                throw new EOFException();
+            }
+            if (b != '\r') {
+                line.write(b);
+            }
+        }
+        return new String(line.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static final class Item {
+
+        private final int flags;
+
+        private final byte[] data;
+
+        private final long casUnique;
+
+        private Item(int flags, byte[] data, long casUnique) {
+            this.flags = flags;
+            this.data = data;
+            this.casUnique = casUnique;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.huazie.fleaframework.cache.memcached.nio;
+
+import com.huazie.fleaframework.cache.memcached.MemCachedCasValue;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class NioMemCachedClientTest {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(NioMemCachedClientTest.class);
+
+    private InProcessMemCachedServer server1;
+
+    private InProcessMemCachedServer server2;
+
+    @Before
+    public void init() throws IOException {
+        server1 = new InProcessMemCachedServer();
+        server2 = new InProcessMemCachedServer();
+    }
+
+    @After
+    public void destroy() throws IOException {
+        server1.close();
+        server2.close();
+    }
+
+    @Test
+    public void testKetamaNodeLocator() {
+        List<MemCachedNode> nodeList = new ArrayList<>();
+        nodeList.add(newNode("127.0.0.1:11211", 3));
+        nodeList.add(newNode("127.0.0.1:11212", 1));
+        KetamaNodeLocator locator = new KetamaNodeLocator(nodeList);
+        Assert.assertEquals(320, locator.getPointCount());
+
+        int hits = 0;
+        Map<String, MemCachedNode> before = new HashMap<>();
+        for (int i = 0; i < 10000; i++) {
+            String key = "key_" + i;
+            MemCachedNode node = locator.getNode(key);
+            before.put(key, node);
+            if (node == nodeList.get(0)) {
+                hits++;
+            }
+        }
+        LOGGER.debug("Weight 3 : 1, hits = {}", hits);
+        Assert.assertTrue(hits > 7000 && hits < 8000);
+
+        // 新增一个服务器，只有部分缓存键会迁移，其余保持在原服务器上
+        nodeList.add(newNode("127.0.0.1:11213", 2));
+        locator = new KetamaNodeLocator(nodeList);
+        int moved = 0;
+        for (Map.Entry<String, MemCachedNode> entry : before.entrySet()) {
+            MemCachedNode node = locator.getNode(entry.getKey());
+            if (node != entry.getValue()) {
+                Assert.assertSame(nodeList.get(2), node);
+                moved++;
+            }
+        }
+        LOGGER.debug("Moved = {}", moved);
+        Assert.assertTrue(moved > 2500 && moved < 4000);
+    }
+
+    @Test
+    public void testTextProtocol() throws Exception {
+        checkOperations(MemCachedProtocol.getProtocol("text"));
+    }
+
+    @Test
+    public void testBinaryProtocol() throws Exception {
+        checkOperations(MemCachedProtocol.getProtocol("binary"));
+    }
+
+    @Test
+    public void testReconnect() throws Exception {
+        NioMemCachedClient client = newClient(MemCachedProtocol.getProtocol("text"), server1);
+        try {
+            Assert.assertTrue(client.set("key", "value", 0));
+            server1.closeConnections();
+
+            // 连接断开后，在重连前操作快速失败
+            long deadline = System.currentTimeMillis() + 5000L;
+            Object value = null;
+            while (System.currentTimeMillis() < deadline) {
+                try {
+                    value = client.get("key");
+                    if (null != value) {
+                        break;
+                    }
+                } catch (Exception e) {
+                    LOGGER.debug("Waiting for reconnect : {}", e.getMessage());
+                }
+                Thread.sleep(100L);
+            }
+            Assert.assertEquals("value", value);
+            Assert.assertEquals(2, server1.getConnectionCount());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    private void checkOperations(MemCachedProtocol protocol) throws Exception {
+        final NioMemCachedClient client = newClient(protocol, server1, server2);
+        try {
+            Assert.assertTrue(client.set("string", "中文 value", 0));
+            Assert.assertEquals("中文 value", client.get("string"));
+            HashMap<String, Integer> object = new HashMap<>();
+            object.put("one", 1);
+            Assert.assertTrue(client.set("object", object, 0));
+            Assert.assertEquals(object, client.get("object"));
+            Assert.assertNull(client.get("missing"));
+            Assert.assertTrue(client.delete("string"));
+            Assert.assertFalse(client.delete("string"));
+            Assert.assertNull(client.get("string"));
+
+            // CAS
+            MemCachedCasValue casValue = client.gets("object");
+            Assert.assertNotNull(casValue);
+            Assert.assertEquals(object, casValue.getValue());
+            Assert.assertTrue(client.cas("object", "first", 0, casValue.getCasUnique()));
+            Assert.assertFalse(client.cas("object", "second", 0, casValue.getCasUnique()));
+            Assert.assertEquals("first", client.get("object"));
+            Assert.assertFalse(client.cas("missing", "value", 0, casValue.getCasUnique()));
+
+            // 批量读取，缓存键按一致性哈希分布在两个服务器上
+            List<String> keys = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String key = "multi_" + i;
+                keys.add(key);
+                if (i % 2 == 0) {
+                    Assert.assertTrue(client.set(key, i, 0));
+                }
+            }
+            Map<String, Object> values = client.getMulti(keys);
+            Assert.assertEquals(100, values.size());
+            for (int i = 0; i < 200; i += 2) {
+                Assert.assertEquals(i, values.get("multi_" + i));
+            }
+            Assert.assertTrue(server1.size() > 20);
+            Assert.assertTrue(server2.size() > 20);
+
+            // 多线程并发操作，每个服务器只使用一个连接
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                final int thread = t;
+                futures.add(executor.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() {
+                        int count = 0;
+                        for (int i = 0; i < 200; i++) {
+                            String key = "concurrent_" + thread + "_" + i;
+                            client.set(key, key, 0);
+                            if (key.equals(client.get(key))) {
+                                count++;
+                            }
+                        }
+                        return count;
+                    }
+                }));
+            }
+            for (Future<Integer> future : futures) {
+                Assert.assertEquals(Integer.valueOf(200), future.get());
+            }
+            executor.shutdown();
+            Assert.assertEquals(1, server1.getConnectionCount());
+            Assert.assertEquals(1, server2.getConnectionCount());
+            LOGGER.debug("Protocol = {}, commands = {}, {}", protocol.getName(), server1.getCommandCount(), server2.getCommandCount());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    private static NioMemCachedClient newClient(MemCachedProtocol protocol, InProcessMemCachedServer... servers) {
+        String[] serverArr = new String[servers.length];
+        Integer[] weights = new Integer[servers.length];
+        for (int i = 0; i < servers.length; i++) {
+            serverArr[i] = servers[i].getServer();
+            weights[i] = 1;
+        }
+        return new NioMemCachedClient("test", serverArr, weights, protocol, 1000, 1000);
+    }
+
+    private static MemCachedNode newNode(String server, int weight) {
+        String[] hostPort = server.split(":");
+        return new MemCachedNode(server, InetSocketAddress.createUnresolved(hostPort[0], Integer.parseInt(hostPort[1])), weight);
+    }
+}
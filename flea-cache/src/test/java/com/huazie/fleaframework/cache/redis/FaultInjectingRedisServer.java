@@ -0,0 +1,200 @@
+package com.huazie.fleaframework.cache.redis;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 可注入故障的本地Redis服务，仅支持单元测试用到的少量命令，
+ * 数据保存在内存中。
+ *
+ * <p> 注入故障后，收到命令时直接关闭连接，客户端读取响应时出现连接异常：
+ * <ul>
+ *     <li> {@link #setDown(boolean)}：服务不可用，所有命令均失败；</li>
+ *     <li> {@link #failNext(int)}：接下来的若干条命令失败。</li>
+ * </ul>
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FaultInjectingRedisServer implements Closeable {
+
+    private final ServerSocket serverSocket;
+
+    private final ConcurrentMap<String, byte[]> data = new ConcurrentHashMap<>();
+
+    private final AtomicInteger commandCount = new AtomicInteger(); // 收到的命令数
+
+    private final AtomicInteger failNext = new AtomicInteger(); // 接下来失败的命令数
+
+    private volatile boolean down; // 服务是否不可用
+
+    public FaultInjectingRedisServer() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread acceptThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                accept();
+            }
+        }, "FaultInjectingRedisServer-" + getPort());
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int getCommandCount() {
+        return commandCount.get();
+    }
+
+    public void setDown(boolean down) {
+        this.down = down;
+    }
+
+    public void failNext(int count) {
+        failNext.set(count);
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                final Socket socket = serverSocket.accept();
+                Thread thread = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        serve(socket);
+                    }
+                });
+                thread.setDaemon(true);
+                thread.start();
+            } catch (IOException e) {
+                // 服务已关闭
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (Socket s = socket) {
+            InputStream in = new BufferedInputStream(s.getInputStream());
+            OutputStream out = s.getOutputStream();
+            while (true) {
+                List<byte[]> command = readCommand(in);
+                commandCount.incrementAndGet();
+                if (down || failNext.getAndDecrement() > 0) {
+                    return; // 关闭连接，模拟Redis服务故障
+                }
+                out.write(handle(command));
+                out.flush();
+            }
+        } catch (IOException e) {
+            // 客户端已断开
+        }
+    }
+
+    private byte[] handle(List<byte[]> command) {
+        String name = new String(command.get(0), StandardCharsets.UTF_8).toUpperCase();
+        switch (name) {
+            case "PING":
+                return simple("PONG");
+            case "SET":
+                data.put(key(command, 1), command.get(2));
+                return simple("OK");
+            case "SETEX":
+            case "PSETEX":
+                data.put(key(command, 1), command.get(3));
+                return simple("OK");
+            case "GET":
+                return bulk(data.get(key(command, 1)));
+            case "DEL":
+                int deleted = 0;
+                for (int i = 1; i < command.size(); i++) {
+                    if (null != data.remove(key(command, i))) {
+                        deleted++;
+                    }
+                }
+                return (":" + deleted + "\r\n").getBytes(StandardCharsets.UTF_8);
+            default:
+                return simple("OK");
+        }
+    }
+
+    private static String key(List<byte[]> command, int index) {
+        return new String(command.get(index), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] simple(String reply) {
+        return ("+" + reply + "\r\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bulk(byte[] value) {
+        if (null == value) {
+            return "$-1\r\n".getBytes(StandardCharsets.UTF_8);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(value.length + 16);
+        byte[] header = ("$" + value.length + "\r\n").getBytes(StandardCharsets.UTF_8);
+        out.write(header, 0, header.length);
+        out.write(value, 0, value.length);
+        out.write('\r');
+        out.write('\n');
+        return out.toByteArray();
+    }
+
+    private static List<byte[]> readCommand(InputStream in) throws IOException {
+        String line = readLine(in);
+        if (!line.startsWith("*")) {
+            throw new IOException("Unsupported request: " + line);
+        }
+        int count = Integer.parseInt(line.substring(1));
+        List<byte[]> command = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = Integer.parseInt(readLine(in).substring(1));
+            byte[] arg = new byte[length];
+            int offset = 0;
+            while (offset < length) {
+                int read = in.read(arg, offset, length - offset);
+                if (read < 0) {
+                    throw new EOFException();
+                }
+                offset += read;
+            }
+            readLine(in); // 跳过参数后的 \r\n
+            command.add(arg);
+        }
+        return command;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int b;
+        while ((b = in.read()) != '\n') {
+            if (b < 0) {
+                throw new EOFException();
+            }
+            if (b != '\r') {
+                line.append((char) b);
+            }
+        }
+        return line.toString();
+    }
+}
@@ -0,0 +1,222 @@
+package com.huazie.fleaframework.cache.redis;
+
+import com.huazie.fleaframework.cache.common.CacheModeEnum;
+import com.huazie.fleaframework.cache.exceptions.FleaCacheCircuitOpenException;
+import com.huazie.fleaframework.cache.exceptions.FleaCacheMaxAttemptsException;
+import com.huazie.fleaframework.cache.redis.config.RedisResilienceConfig;
+import com.huazie.fleaframework.cache.redis.impl.RedisFleaCache;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class RedisClientCommandTest {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(RedisClientCommandTest.class);
+
+    private FaultInjectingRedisServer server;
+
+    private JedisPool jedisPool;
+
+    @Before
+    public void init() throws IOException {
+        server = new FaultInjectingRedisServer();
+        jedisPool = new JedisPool(new JedisPoolConfig(), "127.0.0.1", server.getPort(), 500);
+    }
+
+    @After
+    public void destroy() throws IOException {
+        jedisPool.close();
+        server.close();
+    }
+
+    @Test
+    public void testRetryWithBackoff() {
+        RedisCircuitBreaker circuitBreaker = new RedisCircuitBreaker("retry", newConfig(20L, 100L, 2000L, 10, 1000L));
+        server.failNext(2);
+
+        long start = System.nanoTime();
+        Assert.assertEquals("OK", set(circuitBreaker, 5, "key", "value"));
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        LOGGER.debug("Elapsed = {}ms, {}", elapsed, circuitBreaker);
+
+        // 两次退避的最短等待时间为 10ms + 20ms
+        Assert.assertTrue(elapsed >= 30);
+        Assert.assertEquals(2, circuitBreaker.getRetryCount());
+        Assert.assertEquals(2, circuitBreaker.getFailureCount());
+        Assert.assertEquals(1, circuitBreaker.getSuccessCount());
+        Assert.assertEquals(RedisCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        Assert.assertEquals("value", get(circuitBreaker, "key"));
+    }
+
+    @Test
+    public void testDeadline() {
+        RedisCircuitBreaker circuitBreaker = new RedisCircuitBreaker("deadline", newConfig(50L, 50L, 300L, 1000, 1000L));
+        server.setDown(true);
+
+        long start = System.nanoTime();
+        try {
+            set(circuitBreaker, 100, "key", "value");
+            Assert.fail();
+        } catch (FleaCacheMaxAttemptsException e) {
+            LOGGER.debug("Exception = {}", e.getMessage());
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        LOGGER.debug("Elapsed = {}ms, {}", elapsed, circuitBreaker);
+
+        // 截止时间内最多重试 300 / 25 次，远小于最大尝试次数
+        Assert.assertTrue(elapsed < 1000);
+        Assert.assertTrue(server.getCommandCount() <= 13);
+        Assert.assertEquals(server.getCommandCount(), circuitBreaker.getFailureCount());
+    }
+
+    @Test
+    public void testCircuitBreaker() throws InterruptedException {
+        RedisCircuitBreaker circuitBreaker = new RedisCircuitBreaker("breaker", newConfig(10L, 10L, 1000L, 3, 300L));
+        server.setDown(true);
+        for (int i = 0; i < 3; i++) {
+            try {
+                set(circuitBreaker, 1, "key", "value");
+                Assert.fail();
+            } catch (FleaCacheMaxAttemptsException e) {
+                LOGGER.debug("Exception = {}", e.getMessage());
+            }
+        }
+        Assert.assertEquals(RedisCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        Assert.assertEquals(1, circuitBreaker.getOpenedCount());
+
+        // 熔断期间直接拒绝，不再访问Redis服务
+        int commandCount = server.getCommandCount();
+        for (int i = 0; i < 10; i++) {
+            try {
+                get(circuitBreaker, "key");
+                Assert.fail();
+            } catch (FleaCacheCircuitOpenException e) {
+                LOGGER.debug("Exception = {}", e.getMessage());
+            }
+        }
+        Assert.assertEquals(commandCount, server.getCommandCount());
+        Assert.assertEquals(10, circuitBreaker.getRejectedCount());
+
+        // 半开状态下探测失败，重新熔断
+        TimeUnit.MILLISECONDS.sleep(350);
+        try {
+            get(circuitBreaker, "key");
+            Assert.fail();
+        } catch (FleaCacheMaxAttemptsException e) {
+            LOGGER.debug("Exception = {}", e.getMessage());
+        }
+        Assert.assertEquals(RedisCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        Assert.assertEquals(2, circuitBreaker.getOpenedCount());
+
+        // 半开状态下探测成功，恢复正常
+        server.setDown(false);
+        TimeUnit.MILLISECONDS.sleep(350);
+        Assert.assertEquals("OK", set(circuitBreaker, 1, "key", "value"));
+        Assert.assertEquals(RedisCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        Assert.assertEquals(2, circuitBreaker.getHalfOpenedCount());
+        Assert.assertEquals(2, circuitBreaker.getHalfOpenCount());
+        Assert.assertEquals(1, circuitBreaker.getRecoveredCount());
+        Assert.assertEquals("value", get(circuitBreaker, "key"));
+        LOGGER.debug("{}", circuitBreaker);
+    }
+
+    @Test
+    public void testHalfOpenProbes() {
+        RedisCircuitBreaker circuitBreaker = new RedisCircuitBreaker("probes", newConfig(10L, 10L, 1000L, 1, 1L));
+        Assert.assertTrue(circuitBreaker.tryAcquire());
+        circuitBreaker.onFailure();
+        Assert.assertEquals(RedisCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        sleepQuietly(5);
+
+        // 半开状态下只放行一个探测操作
+        Assert.assertTrue(circuitBreaker.tryAcquire());
+        Assert.assertEquals(RedisCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        Assert.assertFalse(circuitBreaker.tryAcquire());
+        circuitBreaker.onSuccess();
+        Assert.assertEquals(RedisCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        Assert.assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    public void testFailFastCache() {
+        final AtomicInteger invokeCount = new AtomicInteger();
+        RedisClient redisClient = (RedisClient) Proxy.newProxyInstance(RedisClient.class.getClassLoader(),
+                new Class<?>[]{RedisClient.class}, new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        if ("getPoolName".equals(method.getName())) {
+                            return "failFastTest";
+                        }
+                        invokeCount.incrementAndGet();
+                        return null;
+                    }
+                });
+        RedisFleaCache fleaCache = new RedisFleaCache("fleaparadetail", 60, 10, CacheModeEnum.SHARDED, redisClient);
+        RedisCircuitBreaker circuitBreaker = RedisCircuitBreaker.getInstance("failFastTest", CacheModeEnum.SHARDED);
+        for (int i = 0; i < circuitBreaker.getConfig().getFailureThreshold(); i++) {
+            circuitBreaker.onFailure();
+        }
+        Assert.assertTrue(circuitBreaker.isOpen());
+
+        // 熔断期间读缓存视为未命中，写缓存不做处理
+        Assert.assertNull(fleaCache.get("key"));
+        fleaCache.put("key", "value");
+        Assert.assertEquals(0, invokeCount.get());
+        Assert.assertEquals(2, circuitBreaker.getBypassedCount());
+        LOGGER.debug("{}", circuitBreaker);
+    }
+
+    private String set(RedisCircuitBreaker circuitBreaker, int maxAttempts, final String key, final String value) {
+        return new RedisClientCommand<String, JedisPool, Jedis>(jedisPool, maxAttempts, circuitBreaker) {
+            @Override
+            public String execute(Jedis connection) {
+                return connection.set(key, value);
+            }
+        }.run();
+    }
+
+    private String get(RedisCircuitBreaker circuitBreaker, final String key) {
+        return new RedisClientCommand<String, JedisPool, Jedis>(jedisPool, 1, circuitBreaker) {
+            @Override
+            public String execute(Jedis connection) {
+                return connection.get(key);
+            }
+        }.run();
+    }
+
+    private static RedisResilienceConfig newConfig(long backoffBase, long backoffMax, long deadline, int failureThreshold, long openDuration) {
+        RedisResilienceConfig config = new RedisResilienceConfig();
+        config.setBackoffBase(backoffBase);
+        config.setBackoffMax(backoffMax);
+        config.setDeadline(deadline);
+        config.setFailureThreshold(failureThreshold);
+        config.setOpenDuration(openDuration);
+        return config;
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.huazie.fleaframework.cache.redis;
+
+import com.huazie.fleaframework.cache.common.CacheModeEnum;
+import com.huazie.fleaframework.cache.config.CacheServer;
+import com.huazie.fleaframework.cache.redis.impl.RedisFleaCache;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.ObjectUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class RedisClientSideCacheTest {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(RedisClientSideCacheTest.class);
+
+    private static final String CACHE_NAME = "fleaparadetail";
+
+    private TrackingRedisServer server;
+
+    private JedisPool jedisPool;
+
+    private RedisClient redisClient;
+
+    private RedisClientSideCache clientSideCache;
+
+    @Before
+    public void init() throws IOException {
+        server = new TrackingRedisServer();
+        jedisPool = new JedisPool(new JedisPoolConfig(), "127.0.0.1", server.getPort(), 500);
+        redisClient = newRedisClient(jedisPool);
+    }
+
+    @After
+    public void destroy() throws IOException {
+        if (null != clientSideCache) {
+            clientSideCache.close();
+        }
+        jedisPool.close();
+        server.close();
+    }
+
+    @Test
+    public void testTrackingInvalidation() throws Exception {
+        clientSideCache = newClientSideCache(60);
+        RedisFleaCache fleaCache = new RedisFleaCache(CACHE_NAME, 0, 10, CacheModeEnum.SHARDED, redisClient, clientSideCache);
+        // 另一个未开启客户端缓存的应用实例
+        RedisFleaCache otherCache = new RedisFleaCache(CACHE_NAME, 0, 10, CacheModeEnum.SHARDED, redisClient);
+        Assert.assertTrue(clientSideCache.isTracking());
+        waitFor(new Condition() {
+            @Override
+            public boolean test() {
+                return clientSideCache.isAvailable();
+            }
+        });
+
+        // 第二次读取命中本地缓存，不再访问Redis服务
+        putAndAwaitInvalidation(fleaCache, "v1");
+        int getCount = server.getGetCount();
+        Assert.assertEquals("v1", fleaCache.get("key"));
+        Assert.assertEquals("v1", fleaCache.get("key"));
+        Assert.assertEquals(getCount + 1, server.getGetCount());
+
+        // 其他实例修改后，Redis服务推送失效消息
+        otherCache.put("key", "v2");
+        final RedisFleaCache cache = fleaCache;
+        waitFor(new Condition() {
+            @Override
+            public boolean test() {
+                return "v2".equals(cache.get("key"));
+            }
+        });
+        Assert.assertTrue(clientSideCache.getInvalidationCount() > 0);
+        LOGGER.debug("{}", clientSideCache);
+
+        // 其他实例删除后同样失效
+        otherCache.delete("key");
+        waitFor(new Condition() {
+            @Override
+            public boolean test() {
+                return null == cache.get("key");
+            }
+        });
+    }
+
+    @Test
+    public void testLocalHitReturnsNewObject() throws Exception {
+        clientSideCache = newClientSideCache(60);
+        RedisFleaCache fleaCache = new RedisFleaCache(CACHE_NAME, 0, 10, CacheModeEnum.SHARDED, redisClient, clientSideCache);
+        waitFor(new Condition() {
+            @Override
+            public boolean test() {
+                return clientSideCache.isAvailable();
+            }
+        });
+        putAndAwaitInvalidation(fleaCache, new ArrayList<>(Arrays.asList("v1", "v2")));
+        int getCount = server.getGetCount();
+        @SuppressWarnings("unchecked")
+        List<String> first = (List<String>) fleaCache.get("key");
+        @SuppressWarnings("unchecked")
+        List<String> second = (List<String>) fleaCache.get("key");
+        Assert.assertEquals(getCount + 1, server.getGetCount());
+
+        // 每次命中本地缓存都返回新的数据对象，修改后不影响其他调用方
+        Assert.assertNotSame(first, second);
+        first.add("v3");
+        Assert.assertEquals(Arrays.asList("v1", "v2"), second);
+        Assert.assertEquals(Arrays.asList("v1", "v2"), fleaCache.get("key"));
+        Assert.assertEquals(getCount + 1, server.getGetCount());
+    }
+
+    @Test
+    public void testFlushOnDisconnect() throws Exception {
+        clientSideCache = newClientSideCache(60);
+        RedisFleaCache fleaCache = new RedisFleaCache(CACHE_NAME, 0, 10, CacheModeEnum.SHARDED, redisClient, clientSideCache);
+        RedisFleaCache otherCache = new RedisFleaCache(CACHE_NAME, 0, 10, CacheModeEnum.SHARDED, redisClient);
+        waitFor(new Condition() {
+            @Override
+            public boolean test() {
+                return clientSideCache.isAvailable();
+            }
+        });
+        putAndAwaitInvalidation(fleaCache, "v1");
+        Assert.assertEquals("v1", fleaCache.get("key"));
+        Assert.assertTrue(clientSideCache.size() > 0);
+
+        // 失效连接断开，本地缓存清空并停止使用
+        final int trackingCount = server.getTrackingCount();
+        server.closeTrackingConnections();
+        waitFor(new Condition() {
+            @Override
+            public boolean test() {
+                return !clientSideCache.isAvailable() || server.getTrackingCount() > trackingCount;
+            }
+        });
+
+        // 断开期间的修改没有失效消息，重新连接后也不能读到旧数据
+        otherCache.put("key", "v2");
+        waitFor(new Condition() {
+            @Override
+            public boolean test() {
+                return server.getTrackingCount() > trackingCount && clientSideCache.isAvailable();
+            }
+        });
+        Assert.assertEquals("v2", fleaCache.get("key"));
+    }
+
+    @Test
+    public void testFallbackToTtl() throws Exception {
+        server.setTrackingSupported(false);
+        clientSideCache = newClientSideCache(1);
+        RedisFleaCache fleaCache = new RedisFleaCache(CACHE_NAME, 0, 10, CacheModeEnum.SHARDED, redisClient, clientSideCache);
+        RedisFleaCache otherCache = new RedisFleaCache(CACHE_NAME, 0, 10, CacheModeEnum.SHARDED, redisClient);
+        waitFor(new Condition() {
+            @Override
+            public boolean test() {
+                return !clientSideCache.isTracking();
+            }
+        });
+        Assert.assertTrue(clientSideCache.isAvailable());
+
+        fleaCache.put("key", "v1");
+        int getCount = server.getGetCount();
+        Assert.assertEquals("v1", fleaCache.get("key"));
+        Assert.assertEquals("v1", fleaCache.get("key"));
+        Assert.assertEquals(getCount + 1, server.getGetCount());
+
+        // 没有失效消息，其他实例的修改在有效期过后才可见
+        otherCache.put("key", "v2");
+        Assert.assertEquals("v1", fleaCache.get("key"));
+        TimeUnit.MILLISECONDS.sleep(1100);
+        Assert.assertEquals("v2", fleaCache.get("key"));
+    }
+
+    @Test
+    public void testPrefixes() throws Exception {
+        clientSideCache = newClientSideCache(60);
+        clientSideCache.addPrefix("FleaFrame_fleaauth");
+        clientSideCache.addPrefix("FleaFrame_fleaconfigdata");
+        clientSideCache.addPrefix("FleaFrame_fleaauthmenu");
+        Assert.assertEquals(Arrays.asList("FleaFrame_fleaauth", "FleaFrame_fleaconfigdata"), clientSideCache.getPrefixes());
+        // 每次新增前缀都重新连接，最终订阅全部前缀
+        waitFor(new Condition() {
+            @Override
+            public boolean test() {
+                return clientSideCache.isAvailable();
+            }
+        });
+        Assert.assertTrue(server.getTrackingCount() >= 1);
+    }
+
+    /**
+     * 写入缓存数据，并等待自身写入引起的失效消息【缓存数据键和缓存主键各一条】到达，
+     * 避免失效消息晚于之后的读取到达，删除刚放入本地缓存的数据
+     */
+    private void putAndAwaitInvalidation(RedisFleaCache fleaCache, Object value) throws InterruptedException {
+        final long invalidationCount = clientSideCache.getInvalidationCount();
+        fleaCache.put("key", value);
+        waitFor(new Condition() {
+            @Override
+            public boolean test() {
+                return clientSideCache.getInvalidationCount() >= invalidationCount + 2;
+            }
+        });
+    }
+
+    private RedisClientSideCache newClientSideCache(int ttl) {
+        CacheServer cacheServer = new CacheServer();
+        cacheServer.setGroup("clientSideCacheGroup");
+        cacheServer.setServer(server.getServer());
+        List<CacheServer> cacheServerList = new ArrayList<>();
+        cacheServerList.add(cacheServer);
+        return new RedisClientSideCache("clientSideCacheGroup", cacheServerList, null, 100, ttl);
+    }
+
+    private static void waitFor(Condition condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (!condition.test()) {
+            if (System.currentTimeMillis() > deadline) {
+                Assert.fail("Timed out");
+            }
+            TimeUnit.MILLISECONDS.sleep(20);
+        }
+    }
+
+    /**
+     * 基于Jedis连接池的Redis客户端，只实现Redis Flea缓存用到的读、写和删除
+     */
+    private static RedisClient newRedisClient(final JedisPool jedisPool) {
+        return (RedisClient) Proxy.newProxyInstance(RedisClient.class.getClassLoader(),
+                new Class<?>[]{RedisClient.class}, new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        try (Jedis jedis = jedisPool.getResource()) {
+                            switch (method.getName()) {
+                                case "get":
+                                    byte[] value = jedis.get(SafeEncoder.encode((String) args[0]));
+                                    return ObjectUtils.isEmpty(value) ? null : ObjectUtils.deserialize(value);
+                                case "set":
+                                    if (args.length == 3) {
+                                        return jedis.setex(SafeEncoder.encode((String) args[0]), (Integer) args[2], ObjectUtils.serialize(args[1]));
+                                    }
+                                    return jedis.set(SafeEncoder.encode((String) args[0]), ObjectUtils.serialize(args[1]));
+                                case "del":
+                                    return jedis.del((String) args[0]);
+                                case "getPoolName":
+                                    return "clientSideCache";
+                                default:
+                                    return null;
+                            }
+                        }
+                    }
+                });
+    }
+
+    private interface Condition {
+        boolean test();
+    }
+}
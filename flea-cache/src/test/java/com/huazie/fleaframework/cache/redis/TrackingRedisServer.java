@@ -0,0 +1,317 @@
+package com.huazie.fleaframework.cache.redis;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 支持客户端追踪的本地Redis服务，仅支持单元测试用到的少量命令，数据保存在内存中。
+ *
+ * <p> 连接发送【{@code HELLO 3}】后切换为 RESP3 协议，再发送
+ * 【{@code CLIENT TRACKING ON BCAST PREFIX ...}】即开启广播模式的客户端追踪，
+ * 之后任意连接修改了匹配前缀的缓存键，都会向其推送【invalidate】消息，
+ * 【FLUSHALL】推送缓存键为 null 的【invalidate】消息。
+ *
+ * <p> {@link #setTrackingSupported(boolean)} 设置为 false 时，
+ * 【HELLO】返回未知命令错误，模拟 Redis 6.0 以下的服务。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class TrackingRedisServer implements Closeable {
+
+    private final ServerSocket serverSocket;
+
+    private final ConcurrentMap<String, byte[]> data = new ConcurrentHashMap<>();
+
+    private final Set<Connection> connections = Collections.newSetFromMap(new ConcurrentHashMap<Connection, Boolean>());
+
+    private final AtomicInteger getCount = new AtomicInteger(); // 收到的 GET 命令数
+
+    private final AtomicInteger trackingCount = new AtomicInteger(); // 开启客户端追踪的次数
+
+    private volatile boolean trackingSupported = true; // 是否支持客户端追踪
+
+    public TrackingRedisServer() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread acceptThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                accept();
+            }
+        }, "TrackingRedisServer-" + getPort());
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public String getServer() {
+        return "127.0.0.1:" + getPort();
+    }
+
+    public int getGetCount() {
+        return getCount.get();
+    }
+
+    public int getTrackingCount() {
+        return trackingCount.get();
+    }
+
+    public void setTrackingSupported(boolean trackingSupported) {
+        this.trackingSupported = trackingSupported;
+    }
+
+    /**
+     * 关闭所有客户端连接，模拟网络故障
+     */
+    public void closeConnections() throws IOException {
+        for (Connection connection : connections) {
+            connection.socket.close();
+        }
+    }
+
+    /**
+     * 只关闭开启了客户端追踪的连接，模拟失效连接断开
+     */
+    public void closeTrackingConnections() throws IOException {
+        for (Connection connection : connections) {
+            if (connection.tracking) {
+                connection.socket.close();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        closeConnections();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                final Connection connection = new Connection(serverSocket.accept());
+                connections.add(connection);
+                Thread thread = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        serve(connection);
+                    }
+                });
+                thread.setDaemon(true);
+                thread.start();
+            } catch (IOException e) {
+                // 服务已关闭
+            }
+        }
+    }
+
+    private void serve(Connection connection) {
+        try (Socket s = connection.socket) {
+            InputStream in = new BufferedInputStream(s.getInputStream());
+            while (true) {
+                List<byte[]> command = readCommand(in);
+                connection.write(handle(connection, command));
+            }
+        } catch (IOException e) {
+            // 客户端已断开
+        } finally {
+            connections.remove(connection);
+        }
+    }
+
+    private byte[] handle(Connection connection, List<byte[]> command) {
+        String name = new String(command.get(0), StandardCharsets.UTF_8).toUpperCase();
+        switch (name) {
+            case "HELLO":
+                if (!trackingSupported) {
+                    return error("ERR unknown command `HELLO`, with args beginning with: `3`, ");
+                }
+                connection.resp3 = "3".equals(key(command, 1));
+                return connection.resp3 ? "%1\r\n+proto\r\n:3\r\n".getBytes(StandardCharsets.UTF_8) : simple("OK");
+            case "CLIENT":
+                if (!connection.resp3 || !"TRACKING".equalsIgnoreCase(key(command, 1))) {
+                    return error("ERR unsupported CLIENT subcommand");
+                }
+                for (int i = 4; i + 1 < command.size(); i += 2) {
+                    connection.prefixes.add(key(command, i + 1));
+                }
+                connection.tracking = true;
+                trackingCount.incrementAndGet();
+                return simple("OK");
+            case "PING":
+                return simple("PONG");
+            case "SET":
+                data.put(key(command, 1), command.get(2));
+                invalidate(key(command, 1));
+                return simple("OK");
+            case "SETEX":
+            case "PSETEX":
+                data.put(key(command, 1), command.get(3));
+                invalidate(key(command, 1));
+                return simple("OK");
+            case "GET":
+                getCount.incrementAndGet();
+                return bulk(data.get(key(command, 1)));
+            case "DEL":
+                int deleted = 0;
+                for (int i = 1; i < command.size(); i++) {
+                    if (null != data.remove(key(command, i))) {
+                        deleted++;
+                        invalidate(key(command, i));
+                    }
+                }
+                return (":" + deleted + "\r\n").getBytes(StandardCharsets.UTF_8);
+            case "FLUSHALL":
+                data.clear();
+                invalidate(null);
+                return simple("OK");
+            default:
+                return simple("OK");
+        }
+    }
+
+    /**
+     * 向匹配前缀的追踪连接推送失效消息，缓存键为 null 表示清空了所有数据
+     */
+    private void invalidate(String key) {
+        ByteArrayOutputStream push = new ByteArrayOutputStream();
+        write(push, ">2\r\n$10\r\ninvalidate\r\n".getBytes(StandardCharsets.UTF_8));
+        if (null == key) {
+            write(push, "_\r\n".getBytes(StandardCharsets.UTF_8));
+        } else {
+            write(push, "*1\r\n".getBytes(StandardCharsets.UTF_8));
+            write(push, bulk(key.getBytes(StandardCharsets.UTF_8)));
+        }
+        for (Connection connection : connections) {
+            if (connection.tracking && (null == key || connection.matches(key))) {
+                try {
+                    connection.write(push.toByteArray());
+                } catch (IOException e) {
+                    // 追踪连接已断开
+                }
+            }
+        }
+    }
+
+    private static String key(List<byte[]> command, int index) {
+        return new String(command.get(index), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] simple(String reply) {
+        return ("+" + reply + "\r\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] error(String reply) {
+        return ("-" + reply + "\r\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bulk(byte[] value) {
+        if (null == value) {
+            return "$-1\r\n".getBytes(StandardCharsets.UTF_8);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(value.length + 16);
+        write(out, ("$" + value.length + "\r\n").getBytes(StandardCharsets.UTF_8));
+        write(out, value);
+        write(out, "\r\n".getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+
+    private static void write(ByteArrayOutputStream out, byte[] bytes) {
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static List<byte[]> readCommand(InputStream in) throws IOException {
+        String line = readLine(in);
+        if (!line.startsWith("*")) {
+            throw new IOException("Unsupported request: " + line);
+        }
+        int count = Integer.parseInt(line.substring(1));
+        List<byte[]> command = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = Integer.parseInt(readLine(in).substring(1));
+            byte[] arg = new byte[length];
+            int offset = 0;
+            while (offset < length) {
+                int read = in.read(arg, offset, length - offset);
+                if (read < 0) {
+                    throw new EOFException();
+                }
+                offset += read;
+            }
+            readLine(in); // 跳过参数后的 \r\n
+            command.add(arg);
+        }
+        return command;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int b;
+        while ((b = in.read()) != '\n') {
+            if (b < 0) {
+                throw new EOFException();
+            }
+            if (b != '\r') {
+                line.append((char) b);
+            }
+        }
+        return line.toString();
+    }
+
+    /**
+     * 客户端连接，响应和推送消息可能由不同线程写入，写入时加锁
+     */
+    private static final class Connection {
+
+        private final Socket socket;
+
+        private final List<String> prefixes = new CopyOnWriteArrayList<>();
+
+        private volatile boolean resp3;
+
+        private volatile boolean tracking;
+
+        private Connection(Socket socket) {
+            this.socket = socket;
+        }
+
+        private boolean matches(String key) {
+            if (prefixes.isEmpty()) {
+                return true;
+            }
+            for (String prefix : prefixes) {
+                if (key.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private synchronized void write(byte[] bytes) throws IOException {
+            OutputStream out = socket.getOutputStream();
+            out.write(bytes);
+            out.flush();
+        }
+    }
+}
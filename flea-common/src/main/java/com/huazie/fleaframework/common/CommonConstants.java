@@ -191,6 +191,142 @@ public final class CommonConstants {
          * Flea对象池配置
          */
         public static final String FLEA_OBJECT_POOL = "flea-object-pool";
+        /**
+         * 对象池类型：commons-pool2 通用对象池
+         */
+        public static final String POOL_TYPE_GENERIC = "generic";
+        /**
+         * 对象池类型：线程本地缓存对象池
+         */
+        public static final String POOL_TYPE_LOCAL = "local";
+        /**
+         * 线程本地缓存对象池中，每个线程默认缓存的对象数
+         */
+        public static final int DEFAULT_LOCAL_CACHE_SIZE = 8;
+    }
+
+    /**
+     * Flea 指标统计常量
+     *
+     * @since 2.0.0
+     */
+    public static final class FleaMetricsConstants {
+        /**
+         * Flea 指标统计配置
+         */
+        public static final String FLEA_METRICS = "flea-metrics";
+        /**
+         * 是否开启指标统计
+         */
+        public static final String CONFIG_ITEM_ENABLED = "enabled";
+        /**
+         * 指标输出实现类
+         */
+        public static final String CONFIG_ITEM_EXPORTERS = "exporters";
+        /**
+         * 日志输出指标的时间间隔
+         */
+        public static final String CONFIG_ITEM_LOG_INTERVAL = "log_interval";
+        /**
+         * 日志输出指标的默认时间间隔（单位：毫秒）
+         */
+        public static final long DEFAULT_LOG_INTERVAL = 60000L;
+        /**
+         * 资源服务指标的最大个数
+         */
+        public static final String CONFIG_ITEM_MAX_SERVICE_METRICS = "max_service_metrics";
+        /**
+         * 资源服务指标的默认最大个数
+         */
+        public static final int DEFAULT_MAX_SERVICE_METRICS = 1000;
+        /**
+         * JMX 域名
+         */
+        public static final String JMX_DOMAIN = "com.huazie.fleaframework.metrics";
+    }
+
+    /**
+     * Flea 上下文常量
+     *
+     * @since 2.0.0
+     */
+    public static final class FleaContextConstants {
+        /**
+         * Flea 上下文配置
+         */
+        public static final String FLEA_CONTEXT = "flea-context";
+        /**
+         * 上下文传递扩展实现类
+         */
+        public static final String CONFIG_ITEM_PROPAGATORS = "propagators";
+    }
+
+    /**
+     * Flea JSON 常量
+     *
+     * @since 2.0.0
+     */
+    public static final class FleaJsonConstants {
+        /**
+         * Flea JSON 配置
+         */
+        public static final String FLEA_JSON = "flea-json";
+        /**
+         * 使用处的 JSON 引擎配置项前缀，配置项为【codec.使用处】
+         */
+        public static final String CONFIG_ITEM_CODEC_PREFIX = "codec.";
+        /**
+         * Gson 类型适配器工厂实现类
+         */
+        public static final String CONFIG_ITEM_GSON_TYPE_ADAPTER_FACTORIES = "gson_type_adapter_factories";
+        /**
+         * 默认使用处，未单独配置 JSON 引擎的使用处，均使用默认使用处的配置
+         */
+        public static final String USE_SITE_DEFAULT = "default";
+        /**
+         * JSON 引擎 Gson
+         */
+        public static final String CODEC_GSON = "gson";
+        /**
+         * JSON 引擎 FastJson
+         */
+        public static final String CODEC_FASTJSON = "fastjson";
+    }
+
+    /**
+     * Flea 日期格式化常量
+     *
+     * @since 2.0.0
+     */
+    public static final class FleaDateConstants {
+        /**
+         * Flea 日期配置
+         */
+        public static final String FLEA_DATE = "flea-date";
+        /**
+         * 是否按线程缓存当前年、年月、年月日的格式化结果
+         */
+        public static final String CONFIG_ITEM_CURRENT_CACHE = "current_cache";
+    }
+
+    /**
+     * Flea 正则表达式常量
+     *
+     * @since 2.0.0
+     */
+    public static final class FleaPatternConstants {
+        /**
+         * Flea 正则表达式配置
+         */
+        public static final String FLEA_PATTERN = "flea-pattern";
+        /**
+         * 编译后正则表达式的最大缓存数
+         */
+        public static final String CONFIG_ITEM_CACHE_MAX_SIZE = "cache_max_size";
+        /**
+         * 默认的编译后正则表达式最大缓存数
+         */
+        public static final int DEFAULT_CACHE_MAX_SIZE = 512;
     }
 
     /**
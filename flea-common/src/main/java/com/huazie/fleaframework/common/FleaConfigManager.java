@@ -3,20 +3,50 @@ package com.huazie.fleaframework.common;
 import com.huazie.fleaframework.common.config.ConfigItem;
 import com.huazie.fleaframework.common.config.ConfigItems;
 import com.huazie.fleaframework.common.config.FleaConfig;
+import com.huazie.fleaframework.common.config.FleaConfigSnapshot;
 import com.huazie.fleaframework.common.util.ObjectUtils;
 
 /**
  * Flea Config Manager
  *
+ * <p> 首次使用时，根据【flea-config.xml】构建不可修改的配置快照
+ * {@link FleaConfigSnapshot}，之后的配置项查找只读取当前快照，
+ * 时间复杂度为 O(1) 且不创建任何对象。
+ *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public class FleaConfigManager {
 
+    private static final Object snapshotLock = new Object();
+
+    private static volatile FleaConfigSnapshot snapshot; // 当前的配置快照
+
     private FleaConfigManager() {
     }
 
+    /**
+     * 获取当前的配置快照，首次获取时根据【flea-config.xml】构建
+     *
+     * @return 配置快照
+     * @since 2.0.0
+     */
+    public static FleaConfigSnapshot getSnapshot() {
+        FleaConfigSnapshot current = snapshot;
+        if (ObjectUtils.isEmpty(current)) {
+            synchronized (snapshotLock) {
+                current = snapshot;
+                if (ObjectUtils.isEmpty(current)) {
+                    FleaConfig config = FleaConfigXmlDigesterHelper.getInstance().getFleaConfig();
+                    current = new FleaConfigSnapshot(config);
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
     /**
      * 获取配置项列表
      *
@@ -25,8 +55,7 @@ public class FleaConfigManager {
      * @since 1.0.0
      */
     public static ConfigItems getConfigItems(String itemsKey) {
-        FleaConfig config = FleaConfigXmlDigesterHelper.getInstance().getFleaConfig();
-        return config.getConfigItems(itemsKey);
+        return getSnapshot().getConfigItems(itemsKey);
     }
 
     /**
@@ -54,7 +83,7 @@ public class FleaConfigManager {
      * @since 1.0.0
      */
     public static ConfigItem getConfigItem(String itemsKey, String itemKey) {
-        return getConfigItem(itemKey, getConfigItems(itemsKey));
+        return getSnapshot().getConfigItem(itemsKey, itemKey);
     }
 
     /**
@@ -78,7 +107,7 @@ public class FleaConfigManager {
      * @since 1.0.0
      */
     public static String getConfigItemValue(String itemsKey, String itemKey) {
-        return getConfigItemValue(getConfigItem(itemsKey, itemKey));
+        return getSnapshot().getConfigItemValue(itemsKey, itemKey);
     }
 
     /**
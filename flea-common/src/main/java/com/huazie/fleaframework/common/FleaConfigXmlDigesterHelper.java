@@ -25,7 +25,7 @@ public class FleaConfigXmlDigesterHelper {
 
     private static final Object fleaConfigInitLock = new Object();
 
-    private static FleaConfig fleaConfig;
+    private static volatile FleaConfig fleaConfig;
 
     /**
      * 只允许通过getInstance()获取 XML解析类
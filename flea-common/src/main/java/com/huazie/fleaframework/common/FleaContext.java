@@ -0,0 +1,308 @@
+package com.huazie.fleaframework.common;
+
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.ReflectUtils;
+import com.huazie.fleaframework.common.util.StringUtils;
+import org.apache.commons.lang.builder.ToStringBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+
+/**
+ * Flea 上下文，当前线程的用户信息、国际化区域标识、数据库配置键，
+ * 以及 {@link IFleaContextPropagator} 扩展的线程变量（如分库序列）的快照。
+ *
+ * <p> 提交异步任务时，在提交线程中调用 {@link #capture()} 获取快照，
+ * 执行线程中调用 {@link #replay()} 恢复快照，任务结束后调用返回的
+ * 原有上下文的 {@link #restore()}，使线程池中复用的线程不会残留上一个任务的上下文：
+ * <pre>
+ *   FleaContext backup = fleaContext.replay();
+ *   try {
+ *       // 执行任务
+ *   } finally {
+ *       backup.restore();
+ *   }
+ * </pre>
+ *
+ * <p> 上下文传递扩展读取 <b>flea-config.xml</b> 中的【flea-context/propagators】配置，
+ * 也可通过 {@link #addPropagator(IFleaContextPropagator)} 添加。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @see com.huazie.fleaframework.common.util.concurrent.FleaContextExecutorService
+ * @see com.huazie.fleaframework.common.util.concurrent.FleaContextForkJoinPool
+ * @since 2.0.0
+ */
+public final class FleaContext {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaContext.class);
+
+    private static final Object[] EMPTY_VALUES = new Object[0];
+
+    private static volatile IFleaContextPropagator[] propagators; // 上下文传递扩展，添加时整体替换
+
+    private final Locale locale; // 国际化区域标识
+
+    private final String dbConfigKey; // 数据库配置键
+
+    private final IFleaUser fleaUser; // 用户信息
+
+    private final IFleaContextPropagator[] contextPropagators; // 快照时的上下文传递扩展
+
+    private final Object[] values; // 上下文传递扩展的线程变量值
+
+    private FleaContext(Locale locale, String dbConfigKey, IFleaUser fleaUser,
+                        IFleaContextPropagator[] contextPropagators, Object[] values) {
+        this.locale = locale;
+        this.dbConfigKey = dbConfigKey;
+        this.fleaUser = fleaUser;
+        this.contextPropagators = contextPropagators;
+        this.values = values;
+    }
+
+    /**
+     * 获取当前线程的上下文快照
+     *
+     * @return 当前线程的上下文快照
+     * @since 2.0.0
+     */
+    public static FleaContext capture() {
+        return capture(FleaFrameManager.getManager().getUserInfo());
+    }
+
+    /**
+     * 获取当前线程的上下文快照，并以指定的用户信息替换当前线程的用户信息
+     *
+     * @param fleaUser 用户信息
+     * @return 当前线程的上下文快照
+     * @since 2.0.0
+     */
+    public static FleaContext capture(IFleaUser fleaUser) {
+        FleaFrameManager manager = FleaFrameManager.getManager();
+        IFleaContextPropagator[] currentPropagators = getPropagators();
+        return new FleaContext(manager.getThreadLocale(), manager.getDBConfigKey(), fleaUser,
+                currentPropagators, captureValues(currentPropagators));
+    }
+
+    /**
+     * 在当前线程中恢复该上下文快照
+     *
+     * @return 恢复前当前线程的上下文，任务结束后调用其 {@link #restore()}
+     * @since 2.0.0
+     */
+    public FleaContext replay() {
+        FleaFrameManager manager = FleaFrameManager.getManager();
+        FleaContext backup = new FleaContext(manager.getThreadLocale(), manager.getDBConfigKey(), manager.getUserInfo(),
+                contextPropagators, captureValues(contextPropagators));
+        restore();
+        return backup;
+    }
+
+    /**
+     * 在当前线程中恢复该上下文快照，不保留当前线程原有的上下文
+     *
+     * @since 2.0.0
+     */
+    public void restore() {
+        FleaFrameManager.getManager().restoreThreadContext(locale, dbConfigKey, fleaUser);
+        for (int i = 0; i < contextPropagators.length; i++) {
+            contextPropagators[i].restore(values[i]);
+        }
+    }
+
+    /**
+     * 包装任务，在执行线程中恢复当前线程的上下文快照
+     *
+     * @param task 任务
+     * @return 包装后的任务
+     * @since 2.0.0
+     */
+    public static Runnable wrap(Runnable task) {
+        return capture().bind(task);
+    }
+
+    /**
+     * 包装任务，在执行线程中恢复当前线程的上下文快照
+     *
+     * @param task 任务
+     * @param <V>  任务结果类型
+     * @return 包装后的任务
+     * @since 2.0.0
+     */
+    public static <V> Callable<V> wrap(Callable<V> task) {
+        return capture().bind(task);
+    }
+
+    /**
+     * 包装任务，在执行线程中恢复该上下文快照；已包装的任务保留其原有的上下文快照
+     *
+     * @param task 任务
+     * @return 包装后的任务
+     * @since 2.0.0
+     */
+    public Runnable bind(Runnable task) {
+        if (task instanceof ContextRunnable) {
+            return task;
+        }
+        return new ContextRunnable(this, task);
+    }
+
+    /**
+     * 包装任务，在执行线程中恢复该上下文快照；已包装的任务保留其原有的上下文快照
+     *
+     * @param task 任务
+     * @param <V>  任务结果类型
+     * @return 包装后的任务
+     * @since 2.0.0
+     */
+    public <V> Callable<V> bind(Callable<V> task) {
+        if (task instanceof ContextCallable) {
+            return task;
+        }
+        return new ContextCallable<>(this, task);
+    }
+
+    /**
+     * 添加上下文传递扩展，仅对添加后获取的上下文快照生效
+     *
+     * @param propagator 上下文传递扩展
+     * @since 2.0.0
+     */
+    public static synchronized void addPropagator(IFleaContextPropagator propagator) {
+        IFleaContextPropagator[] currentPropagators = getPropagators();
+        if (null == propagator || Arrays.asList(currentPropagators).contains(propagator)) {
+            return;
+        }
+        IFleaContextPropagator[] newPropagators = Arrays.copyOf(currentPropagators, currentPropagators.length + 1);
+        newPropagators[currentPropagators.length] = propagator;
+        propagators = newPropagators;
+    }
+
+    /**
+     * 移除上下文传递扩展，仅对移除后获取的上下文快照生效
+     *
+     * @param propagator 上下文传递扩展
+     * @since 2.0.0
+     */
+    public static synchronized void removePropagator(IFleaContextPropagator propagator) {
+        List<IFleaContextPropagator> newPropagators = new ArrayList<>(Arrays.asList(getPropagators()));
+        if (newPropagators.remove(propagator)) {
+            propagators = newPropagators.toArray(new IFleaContextPropagator[0]);
+        }
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+
+    public String getDBConfigKey() {
+        return dbConfigKey;
+    }
+
+    public IFleaUser getFleaUser() {
+        return fleaUser;
+    }
+
+    /**
+     * 获取上下文传递扩展，首次获取时读取 <b>flea-config.xml</b> 中的配置
+     */
+    private static IFleaContextPropagator[] getPropagators() {
+        IFleaContextPropagator[] currentPropagators = propagators;
+        if (null == currentPropagators) {
+            synchronized (FleaContext.class) {
+                if (null == propagators) {
+                    propagators = loadPropagators();
+                }
+                currentPropagators = propagators;
+            }
+        }
+        return currentPropagators;
+    }
+
+    private static IFleaContextPropagator[] loadPropagators() {
+        List<IFleaContextPropagator> propagatorList = new ArrayList<>();
+        String propagatorClasses = FleaConfigManager.getConfigItemValue(CommonConstants.FleaContextConstants.FLEA_CONTEXT,
+                CommonConstants.FleaContextConstants.CONFIG_ITEM_PROPAGATORS);
+        if (StringUtils.isNotBlank(propagatorClasses)) {
+            for (String propagatorClass : propagatorClasses.split(CommonConstants.SymbolConstants.COMMA)) {
+                Object propagator = ReflectUtils.newInstance(propagatorClass.trim());
+                if (propagator instanceof IFleaContextPropagator) {
+                    propagatorList.add((IFleaContextPropagator) propagator);
+                } else {
+                    LOGGER.warn1(new Object() {}, "上下文传递扩展【{}】不存在或未实现 IFleaContextPropagator，已忽略", propagatorClass);
+                }
+            }
+        }
+        return propagatorList.toArray(new IFleaContextPropagator[0]);
+    }
+
+    private static Object[] captureValues(IFleaContextPropagator[] contextPropagators) {
+        if (0 == contextPropagators.length) {
+            return EMPTY_VALUES;
+        }
+        Object[] values = new Object[contextPropagators.length];
+        for (int i = 0; i < contextPropagators.length; i++) {
+            values[i] = contextPropagators[i].capture();
+        }
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+
+    /**
+     * 恢复上下文快照后执行的任务
+     */
+    private static final class ContextRunnable implements Runnable {
+
+        private final FleaContext fleaContext;
+
+        private final Runnable task;
+
+        private ContextRunnable(FleaContext fleaContext, Runnable task) {
+            this.fleaContext = fleaContext;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            FleaContext backup = fleaContext.replay();
+            try {
+                task.run();
+            } finally {
+                backup.restore();
+            }
+        }
+    }
+
+    /**
+     * 恢复上下文快照后执行的任务
+     */
+    private static final class ContextCallable<V> implements Callable<V> {
+
+        private final FleaContext fleaContext;
+
+        private final Callable<V> task;
+
+        private ContextCallable(FleaContext fleaContext, Callable<V> task) {
+            this.fleaContext = fleaContext;
+            this.task = task;
+        }
+
+        @Override
+        public V call() throws Exception {
+            FleaContext backup = fleaContext.replay();
+            try {
+                return task.call();
+            } finally {
+                backup.restore();
+            }
+        }
+    }
+}
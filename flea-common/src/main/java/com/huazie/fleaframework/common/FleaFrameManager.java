@@ -9,7 +9,7 @@ import java.util.Locale;
  * Flea Frame Manager
  *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public class FleaFrameManager {
@@ -113,4 +113,46 @@ public class FleaFrameManager {
         }
     }
 
+    /**
+     * 移除当前线程的用户信息
+     *
+     * @since 2.0.0
+     */
+    public void removeUserInfo() {
+        sFleaUser.remove();
+    }
+
+    /**
+     * 获取当前线程设置的国际化区域标识，未设置时返回null
+     *
+     * @return 当前线程设置的国际化区域标识
+     * @since 2.0.0
+     */
+    Locale getThreadLocale() {
+        return sLocale.get();
+    }
+
+    /**
+     * 恢复当前线程的国际化区域标识、数据库配置键和用户信息，为null的将被移除，
+     * 供 {@link FleaContext} 跨线程传递时使用
+     *
+     * @param locale      国际化区域标识
+     * @param dbConfigKey 数据库配置键
+     * @param fleaUser    用户信息
+     * @since 2.0.0
+     */
+    void restoreThreadContext(Locale locale, String dbConfigKey, IFleaUser fleaUser) {
+        restore(sLocale, locale);
+        restore(sDBLocal, dbConfigKey);
+        restore(sFleaUser, fleaUser);
+    }
+
+    private static <T> void restore(ThreadLocal<T> threadLocal, T value) {
+        if (null == value) {
+            threadLocal.remove();
+        } else {
+            threadLocal.set(value);
+        }
+    }
+
 }
@@ -34,6 +34,15 @@ public class FleaSessionManager {
         FleaFrameManager.getManager().setUserInfo(fleaUser);
     }
 
+    /**
+     * 移除当前线程的用户信息
+     *
+     * @since 2.0.0
+     */
+    public static void removeUserInfo() {
+        FleaFrameManager.getManager().removeUserInfo();
+    }
+
     /**
      * 获取当前操作账户编号
      *
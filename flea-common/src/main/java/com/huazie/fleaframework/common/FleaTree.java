@@ -4,9 +4,14 @@ import com.huazie.fleaframework.common.util.CollectionUtils;
 import com.huazie.fleaframework.common.util.ObjectUtils;
 
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
@@ -22,15 +27,24 @@ import java.util.Map;
  *
  * <p> 父节点 {@code parentNote}, 当前节点的上层节点，有且仅有一个；
  *
- * <p> 子节点集合 {@code subNotes}, 用 {@code LinkedList} 进行存储，
- * 子节点的存储先后顺序取决于提供的比较器{@code comparator} 或者
- * 节点元素自身实现的 {@code Comparable}接口；
+ * <p> 子节点集合 {@code subNotes}, 子节点的存储先后顺序取决于提供的比较器
+ * {@code comparator} 或者节点元素自身实现的 {@code Comparable}接口，
+ * 顺序相同的子节点按添加的先后顺序存储；
  *
  * <p> 树叶子节点，不包含任何子节点的树节点；
  *
+ * <p> 树节点以【节点编号，节点高度】为键建立哈希索引，添加节点时直接定位父节点；
+ * 父节点尚未添加的节点按父节点的键暂存，父节点添加后整体挂载，
+ * 同一节点【节点编号，节点高度】只添加一次。
+ * 批量添加 {@link #addTreeNotes} 不要求元素有序，构建 n 个节点的树为 O(n log n)。
+ *
+ * <p> 冻结 {@link #freeze()} 后的Flea树不能再添加节点，其子树可以在多棵树之间共享；
+ * {@link #filterTo} 在冻结的树上按节点过滤器生成视图，
+ * 完全保留的子树直接共享，不再复制节点。
+ *
  * @param <T> Flea树中包含的元素的类型
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public class FleaTree<T> implements Serializable {
@@ -65,9 +79,15 @@ public class FleaTree<T> implements Serializable {
 
     private transient int size = 0; // 树的节点总数
 
-    private transient LinkedList<TreeNode<T>> tempTreeNodes = new LinkedList<>(); // 临时存放暂时无法放置的树节点
+    private transient Map<NodeKey, TreeNode<T>> treeNodes = new HashMap<>(); // 树节点索引，包含暂时无法挂载的树节点
+
+    private transient Map<NodeKey, List<TreeNode<T>>> tempTreeNodes = new HashMap<>(); // 父节点的键 => 暂时无法挂载的树节点
+
+    private transient Map<NodeKey, TreeNode<T>> treeLeafNodes = new LinkedHashMap<>(); // 存放树的叶子节点，视图中首次使用时构建
+
+    private transient int maxHeight = DEFAULT_ROOT_NODE_HEIGHT; // 已挂载节点的最大高度
 
-    private transient LinkedList<TreeNode<T>> treeLeafNodes = new LinkedList<>(); // 存放树的叶子节点
+    private transient boolean frozen = false; // 是否已冻结
 
     public FleaTree() {
         this.comparator = null;
@@ -91,12 +111,15 @@ public class FleaTree<T> implements Serializable {
      */
     public void addRootTreeNote(T element) {
 
+        checkNotFrozen();
+
         if (ObjectUtils.isEmpty(element)) {
             throw new NullPointerException("待添加的根节点元素不能为空");
         }
 
         if (ObjectUtils.isEmpty(rootNode)) {
             rootNode = new TreeNode<>(element, DEFAULT_ROOT_NODE_ID, DEFAULT_ROOT_NODE_HEIGHT, null);
+            rootNode.attached = true;
             size++;
         }
     }
@@ -114,6 +137,8 @@ public class FleaTree<T> implements Serializable {
      */
     public void addTreeNote(T current, long id, int height, T parent, long pId, int pHeight) {
 
+        checkNotFrozen();
+
         if (ObjectUtils.isEmpty(rootNode)) {
             throw new NullPointerException("请先添加树的根节点");
         }
@@ -130,182 +155,326 @@ public class FleaTree<T> implements Serializable {
             throw new NullPointerException("待添加的现节点元素不能为空");
         }
 
-        // 现节点的父节点即为根节点
-        if (rootNode.height == pHeight) {
-            addSubTreeNode(current, id, height, rootNode);
-        } else {
-            // 递归添加树节点
-            addTreeNode1(rootNode.subNotes, current, id, height, parent, pId, pHeight, true);
+        NodeKey key = new NodeKey(id, height);
+        if (treeNodes.containsKey(key)) {
+            return;
+        }
+
+        TreeNode<T> currentNode = new TreeNode<>(current, id, height, null);
+        treeNodes.put(key, currentNode);
+
+        // 挂载等待现节点的暂存节点
+        List<TreeNode<T>> waitingNodes = tempTreeNodes.remove(key);
+        if (CollectionUtils.isNotEmpty(waitingNodes)) {
+            for (TreeNode<T> waitingNode : waitingNodes) {
+                currentNode.insertSubNode(waitingNode, comparator);
+            }
         }
 
+        // 现节点的父节点即为根节点，否则从索引中查找父节点
+        TreeNode<T> parentNode = rootNode.height == pHeight ? rootNode : treeNodes.get(new NodeKey(pId, pHeight));
+        if (ObjectUtils.isEmpty(parentNode)) {
+            // 父节点尚未添加，暂存现节点
+            currentNode.parentNote = new TreeNode<>(parent, pId, pHeight, null);
+            addTempTreeNode(new NodeKey(pId, pHeight), currentNode);
+            return;
+        }
+
+        parentNode.insertSubNode(currentNode, comparator);
+        if (parentNode.attached) {
+            attach(currentNode, parentNode);
+        }
     }
 
     /**
-     * 递归添加树节点
+     * 批量添加树节点，元素无需按层级或父子顺序排列。
      *
-     * @param subNotes 子节点链表
-     * @param current  现节点元素
-     * @param id       现节点编号
-     * @param height   现节点高度
-     * @param parent   父节点元素
-     * @param pId      父节点编号
-     * @param pHeight  父节点高度
-     * @since 1.0.0
+     * <p> 先为全部元素建立索引，再逐个关联父节点，最后对子节点排序一次；
+     * 父节点不在树中且不在本批元素中的节点暂存，待父节点添加后挂载。
+     *
+     * @param elements 树节点元素集合
+     * @param resolver 树节点解析器，获取元素的节点编号、节点高度和父节点编号
+     * @since 2.0.0
      */
-    private void addTreeNode1(LinkedList<TreeNode<T>> subNotes, T current, long id, int height, T parent, long pId, int pHeight, boolean isFirst) {
+    public void addTreeNotes(Collection<? extends T> elements, TreeNodeResolver<? super T> resolver) {
+
+        checkNotFrozen();
 
-        // 添加临时树节点
-        if (isFirst) {
-            addTempTreeNode(current, id, height, parent, pId, pHeight);
+        if (ObjectUtils.isEmpty(rootNode)) {
+            throw new NullPointerException("请先添加树的根节点");
         }
 
-        if (CollectionUtils.isNotEmpty(subNotes)) {
+        if (CollectionUtils.isEmpty(elements)) {
+            return;
+        }
 
-            ListIterator<TreeNode<T>> subNotesIt = subNotes.listIterator();
+        // 建立索引
+        List<TreeNode<T>> currentNodes = new ArrayList<>(elements.size());
+        for (T element : elements) {
+            if (ObjectUtils.isEmpty(element)) {
+                continue;
+            }
+            int height = resolver.getHeight(element);
+            if (height <= DEFAULT_ROOT_NODE_HEIGHT) {
+                throw new RuntimeException("待添加的现节点，其高度必须高于根节点高度【height = 1】");
+            }
+            NodeKey key = new NodeKey(resolver.getId(element), height);
+            if (!treeNodes.containsKey(key)) {
+                TreeNode<T> currentNode = new TreeNode<>(element, key.id, key.height, null);
+                treeNodes.put(key, currentNode);
+                currentNodes.add(currentNode);
+            }
+        }
 
-            for (; subNotesIt.hasNext(); ) {
-                TreeNode<T> mTreeNode = subNotesIt.next();
-                // mTreeNode 为 现节点的父节点
-                if (mTreeNode.id == pId && mTreeNode.height == pHeight) {
-                    // 添加现节点到 mTreeNode子节点中
-                    addSubTreeNode(current, id, height, mTreeNode);
-                    // 删除临时节点
-                    removeTempTreeNode(id, height);
-                    break;
+        // 关联父节点，子节点暂不排序
+        List<TreeNode<T>> parentNodes = new ArrayList<>();
+        for (TreeNode<T> currentNode : currentNodes) {
+            List<TreeNode<T>> waitingNodes = tempTreeNodes.remove(new NodeKey(currentNode.id, currentNode.height));
+            if (CollectionUtils.isNotEmpty(waitingNodes)) {
+                currentNode.appendSubNodes(waitingNodes);
+                currentNode.sortPending = true;
+                parentNodes.add(currentNode);
+            }
+            int pHeight = currentNode.height - 1;
+            NodeKey parentKey = new NodeKey(resolver.getParentId(currentNode.element), pHeight);
+            TreeNode<T> parentNode = rootNode.height == pHeight ? rootNode : treeNodes.get(parentKey);
+            if (ObjectUtils.isEmpty(parentNode)) {
+                currentNode.parentNote = new TreeNode<>(null, parentKey.id, pHeight, null);
+                addTempTreeNode(parentKey, currentNode);
+            } else {
+                if (!parentNode.sortPending) {
+                    parentNode.sortPending = true;
+                    parentNodes.add(parentNode);
                 }
+                parentNode.appendSubNode(currentNode);
+            }
+        }
 
-                // 如果mTreeNode不是，则尝试添加到mTreeNode的子节点中【采用递归方式】
-                addTreeNode1(mTreeNode.subNotes, current, id, height, parent, pId, pHeight, false);
+        // 每个父节点的子节点只排序一次
+        for (TreeNode<T> parentNode : parentNodes) {
+            parentNode.sortSubNodes(comparator);
+            parentNode.sortPending = false;
+        }
 
+        // 挂载到树上的节点，连同其子树统计节点数和叶子节点
+        for (TreeNode<T> currentNode : currentNodes) {
+            TreeNode<T> parentNode = currentNode.parentNote;
+            if (!currentNode.attached && ObjectUtils.isNotEmpty(parentNode) && parentNode.attached) {
+                attach(currentNode, parentNode);
             }
         }
     }
 
     /**
-     * 添加临时树节点
+     * 冻结Flea树，冻结后不能再添加节点，子树可以在多棵树之间共享
      *
-     * @param current 现节点元素
-     * @param id      现节点编号
-     * @param height  现节点高度
-     * @param parent  父节点元素
-     * @param pId     父节点编号
-     * @param pHeight 父节点高度
-     * @since 1.0.0
+     * @return 当前Flea树
+     * @since 2.0.0
      */
-    private void addTempTreeNode(T current, long id, int height, T parent, long pId, int pHeight) {
-        TreeNode<T> parentNode = new TreeNode<>(parent, pId, pHeight, null);
-        TreeNode<T> currentNode = new TreeNode<>(current, id, height, parentNode);
-        tempTreeNodes.add(currentNode);
+    public FleaTree<T> freeze() {
+        if (!frozen && ObjectUtils.isNotEmpty(rootNode)) {
+            computeSubtreeSize(rootNode);
+            // 暂存节点不会再被挂载，索引不再需要
+            treeNodes = Collections.emptyMap();
+            tempTreeNodes = Collections.emptyMap();
+        }
+        frozen = true;
+        return this;
     }
 
     /**
-     * 去除临时树节点
+     * 判断Flea树是否已冻结
      *
-     * @param id     现节点编号
-     * @param height 现节点高度
-     * @since 1.0.0
+     * @return true：已冻结，false：未冻结
+     * @since 2.0.0
      */
-    private void removeTempTreeNode(long id, int height) {
-        if (ObjectUtils.isNotEmpty(tempTreeNodes)) {
-            ListIterator<TreeNode<T>> tempTreeNodesIt = tempTreeNodes.listIterator();
-            while (tempTreeNodesIt.hasNext()) {
-                TreeNode<T> mTreeNode = tempTreeNodesIt.next();
-                if (mTreeNode.id == id && mTreeNode.height == height) {
-                    tempTreeNodesIt.remove();
-                    break;
-                }
-            }
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * 按节点过滤器，将当前树的视图生成到目标树中。
+     *
+     * <p> 当前树先被冻结；节点未被接受时，其整棵子树都不保留；
+     * 子树全部被接受时直接共享，不复制节点。
+     * 目标树原有的节点被替换，生成后同样处于冻结状态。
+     *
+     * @param target 目标树
+     * @param filter 节点过滤器
+     * @since 2.0.0
+     */
+    protected void filterTo(FleaTree<T> target, TreeNodeFilter<? super T> filter) {
+        freeze();
+        if (ObjectUtils.isEmpty(rootNode)) {
+            throw new NullPointerException("请先添加树的根节点");
         }
+        TreeNode<T> filteredRoot = filter(rootNode, filter);
+        target.rootNode = filteredRoot;
+        target.size = filteredRoot.subtreeSize;
+        target.treeNodes = Collections.emptyMap();
+        target.tempTreeNodes = Collections.emptyMap();
+        target.treeLeafNodes = null;
+        target.maxHeight = maxHeight;
+        target.frozen = true;
     }
 
     /**
-     * 处理临时树节点
+     * 过滤树节点，返回原节点（子树全部保留）、复制的节点或null（不保留）
      *
-     * @param mTreeNode 树节点
-     * @since 1.0.0
+     * @param treeNode 树节点，已被接受
+     * @param filter   节点过滤器
+     * @return 过滤后的树节点
+     * @since 2.0.0
      */
-    private void handleTempTreeNode(TreeNode<T> mTreeNode) {
-        // 遍历临时树节点，如果 mTreeNode为临时树节点的父节点，则添加进去
-        if (CollectionUtils.isNotEmpty(tempTreeNodes)) {
-            ListIterator<TreeNode<T>> tempTreeNodesIt = tempTreeNodes.listIterator();
-            while (tempTreeNodesIt.hasNext()) {
-                TreeNode<T> tempTreeNode = tempTreeNodesIt.next();
-                TreeNode<T> tempParentTreeNode = tempTreeNode.parentNote;
-                if (mTreeNode.id == tempParentTreeNode.id && mTreeNode.height == tempParentTreeNode.height) {
-                    // 添加现节点到 mTreeNode子节点中
-                    addSubTreeNode1(tempTreeNode.element, tempTreeNode.id, tempTreeNode.height, mTreeNode);
-                    // 删除临时节点
-                    tempTreeNodesIt.remove();
-                }
+    private TreeNode<T> filter(TreeNode<T> treeNode, TreeNodeFilter<? super T> filter) {
+        List<TreeNode<T>> subNotes = treeNode.subNotes;
+        if (CollectionUtils.isEmpty(subNotes)) {
+            return treeNode;
+        }
+        List<TreeNode<T>> filteredSubNotes = new ArrayList<>(subNotes.size());
+        boolean isShared = true;
+        int subtreeSize = 1;
+        for (TreeNode<T> subNote : subNotes) {
+            TreeNode<T> filteredSubNote = filter.accept(subNote.element, subNote.id, subNote.height) ? filter(subNote, filter) : null;
+            if (filteredSubNote != subNote) {
+                isShared = false;
+            }
+            if (ObjectUtils.isNotEmpty(filteredSubNote)) {
+                filteredSubNotes.add(filteredSubNote);
+                subtreeSize += filteredSubNote.subtreeSize;
             }
         }
+        if (isShared) {
+            return treeNode;
+        }
+        TreeNode<T> filteredNode = new TreeNode<>(treeNode.element, treeNode.id, treeNode.height, treeNode.parentNote);
+        filteredNode.subNotes = filteredSubNotes.isEmpty() ? null : filteredSubNotes;
+        filteredNode.subtreeSize = subtreeSize;
+        filteredNode.attached = true;
+        return filteredNode;
+    }
 
-        // 取mTreeNode的子节点
-        LinkedList<TreeNode<T>> mSubTreeNotes = mTreeNode.subNotes;
-        if (CollectionUtils.isNotEmpty(mSubTreeNotes)) {
-            for (TreeNode<T> subTreeNode : mSubTreeNotes) {
-                handleTempTreeNode(subTreeNode);
-            }
+    /**
+     * 添加临时树节点
+     *
+     * @param parentKey   父节点的键
+     * @param currentNode 现节点
+     * @since 1.0.0
+     */
+    private void addTempTreeNode(NodeKey parentKey, TreeNode<T> currentNode) {
+        List<TreeNode<T>> waitingNodes = tempTreeNodes.get(parentKey);
+        if (ObjectUtils.isEmpty(waitingNodes)) {
+            waitingNodes = new ArrayList<>();
+            tempTreeNodes.put(parentKey, waitingNodes);
         }
+        waitingNodes.add(currentNode);
     }
 
     /**
-     * 添加子节点
+     * 将已关联到父节点的现节点连同其子树挂载到树上，
+     * 统计树节点个数，并处理叶子节点集合
      *
-     * @param current 现节点元素
-     * @param id      现节点编号
-     * @param height  现节点高度
-     * @param parent  父节点
+     * @param currentNode 现节点
+     * @param parent      已挂载的父节点
+     * @since 2.0.0
      */
-    private void addSubTreeNode(T current, long id, int height, TreeNode<T> parent) {
-        TreeNode<T> currentNode = addSubTreeNode1(current, id, height, parent);
-        // 遍历临时树节点，如果 mTreeNode为临时树节点的父节点，则添加进去
-        handleTempTreeNode(currentNode);
+    private void attach(TreeNode<T> currentNode, TreeNode<T> parent) {
+        currentNode.parentNote = parent;
+        // 父节点有了子节点，从叶子节点集合中剔除
+        treeLeafNodes.remove(new NodeKey(parent.id, parent.height));
+
+        Deque<TreeNode<T>> stack = new ArrayDeque<>();
+        stack.push(currentNode);
+        while (!stack.isEmpty()) {
+            TreeNode<T> treeNode = stack.pop();
+            treeNode.attached = true;
+            // 树节点个数+1
+            size++;
+            if (treeNode.height > maxHeight) {
+                maxHeight = treeNode.height;
+            }
+            if (CollectionUtils.isEmpty(treeNode.subNotes)) {
+                treeLeafNodes.put(new NodeKey(treeNode.id, treeNode.height), treeNode);
+            } else {
+                // 逆序入栈，保证按子节点顺序处理
+                ListIterator<TreeNode<T>> subNotesIt = treeNode.subNotes.listIterator(treeNode.subNotes.size());
+                while (subNotesIt.hasPrevious()) {
+                    TreeNode<T> subNote = subNotesIt.previous();
+                    subNote.parentNote = treeNode;
+                    stack.push(subNote);
+                }
+            }
+        }
     }
 
     /**
-     * 添加子节点
+     * 计算各节点的子树节点数，冻结时调用
      *
-     * @param current 现节点元素
-     * @param id      现节点编号
-     * @param height  现节点高度
-     * @param parent  父节点
+     * @param treeNode 树节点
+     * @since 2.0.0
      */
-    private TreeNode<T> addSubTreeNode1(T current, long id, int height, TreeNode<T> parent) {
-        TreeNode<T> currentNode = new TreeNode<>(current, id, height, parent);
-        // 将当前节点currentNode添加到其父节点parent中
-        parent.insertSubNode(currentNode, comparator);
-        // 树节点个数+1
-        size++;
-        // 处理叶子节点集合，剔除非叶子节点（即包含了子节点的节点）
-        handleTreeLeafNode(currentNode, parent);
-        return currentNode;
+    private static <T> void computeSubtreeSize(TreeNode<T> treeNode) {
+        // 后序遍历，避免深度过大时递归栈溢出
+        Deque<TreeNode<T>> stack = new ArrayDeque<>();
+        Deque<TreeNode<T>> postOrder = new ArrayDeque<>();
+        stack.push(treeNode);
+        while (!stack.isEmpty()) {
+            TreeNode<T> current = stack.pop();
+            postOrder.push(current);
+            if (CollectionUtils.isNotEmpty(current.subNotes)) {
+                for (TreeNode<T> subNote : current.subNotes) {
+                    stack.push(subNote);
+                }
+            }
+        }
+        while (!postOrder.isEmpty()) {
+            TreeNode<T> current = postOrder.pop();
+            int subtreeSize = 1;
+            if (CollectionUtils.isNotEmpty(current.subNotes)) {
+                for (TreeNode<T> subNote : current.subNotes) {
+                    subtreeSize += subNote.subtreeSize;
+                }
+            }
+            current.subtreeSize = subtreeSize;
+        }
     }
 
     /**
-     * 处理叶子节点集合，如果叶子节点集合中存在节点是当前待添加节点的父节点，
-     * 说明该节点有子节点，则需要从叶子节点集合中剔除
+     * 获取叶子节点集合，视图在首次使用时遍历构建
      *
-     * @param parent 当前待添加节点的父节点
-     * @since 1.0.0
+     * @return 叶子节点集合
+     * @since 2.0.0
      */
-    private void handleTreeLeafNode(TreeNode<T> currentNode, TreeNode<T> parent) {
-
-        // 遍历叶子节点集合
-        if (CollectionUtils.isNotEmpty(treeLeafNodes)) {
-            ListIterator<TreeNode<T>> treeLeafNodesIt = treeLeafNodes.listIterator();
-            while (treeLeafNodesIt.hasNext()) {
-                TreeNode<T> treeLeafNode = treeLeafNodesIt.next();
-                // 叶子节点集合中存在节点是 当前待添加节点的父节点
-                if (treeLeafNode.id == parent.id && treeLeafNode.height == parent.height) {
-                    // 将当前处理的节点从叶子节点集合中剔除
-                    treeLeafNodesIt.remove();
+    private Map<NodeKey, TreeNode<T>> getTreeLeafNodes() {
+        Map<NodeKey, TreeNode<T>> leafNodes = treeLeafNodes;
+        if (null == leafNodes) {
+            leafNodes = new LinkedHashMap<>();
+            if (ObjectUtils.isNotEmpty(rootNode)) {
+                Deque<TreeNode<T>> stack = new ArrayDeque<>();
+                stack.push(rootNode);
+                while (!stack.isEmpty()) {
+                    TreeNode<T> treeNode = stack.pop();
+                    if (CollectionUtils.isEmpty(treeNode.subNotes)) {
+                        if (treeNode != rootNode) {
+                            leafNodes.put(new NodeKey(treeNode.id, treeNode.height), treeNode);
+                        }
+                    } else {
+                        ListIterator<TreeNode<T>> subNotesIt = treeNode.subNotes.listIterator(treeNode.subNotes.size());
+                        while (subNotesIt.hasPrevious()) {
+                            stack.push(subNotesIt.previous());
+                        }
+                    }
                 }
             }
+            treeLeafNodes = leafNodes;
         }
+        return leafNodes;
+    }
 
-        // 添加当前节点到叶子节点集合treeLeafNodes中
-        treeLeafNodes.add(currentNode);
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new UnsupportedOperationException("Flea树已冻结，不能再添加节点");
+        }
     }
 
     /**
@@ -329,9 +498,12 @@ public class FleaTree<T> implements Serializable {
 
         T element = null;
 
-        if (CollectionUtils.isNotEmpty(treeLeafNodes)) {
-            for (TreeNode<T> treeNode : treeLeafNodes) {
-                if (treeNode.id == id) {
+        Map<NodeKey, TreeNode<T>> leafNodes = getTreeLeafNodes();
+        if (!leafNodes.isEmpty()) {
+            // 按高度逐一定位，高度通常远小于叶子节点数
+            for (int height = DEFAULT_ROOT_NODE_HEIGHT + 1; height <= maxHeight; height++) {
+                TreeNode<T> treeNode = leafNodes.get(new NodeKey(id, height));
+                if (ObjectUtils.isNotEmpty(treeNode)) {
                     element = treeNode.element;
                     break;
                 }
@@ -350,9 +522,10 @@ public class FleaTree<T> implements Serializable {
 
         List<T> treeLeafElements = null;
 
-        if (CollectionUtils.isNotEmpty(treeLeafNodes)) {
-            treeLeafElements = new ArrayList<>();
-            for (TreeNode<T> treeNode : treeLeafNodes) {
+        Map<NodeKey, TreeNode<T>> leafNodes = getTreeLeafNodes();
+        if (!leafNodes.isEmpty()) {
+            treeLeafElements = new ArrayList<>(leafNodes.size());
+            for (TreeNode<T> treeNode : leafNodes.values()) {
                 treeLeafElements.add(treeNode.element);
             }
         }
@@ -369,19 +542,29 @@ public class FleaTree<T> implements Serializable {
         return size == 0;
     }
 
+    /**
+     * 获取树节点元素的比较器
+     *
+     * @return 树节点元素的比较器，为空时使用元素自身的顺序
+     * @since 2.0.0
+     */
+    protected Comparator<? super T> getComparator() {
+        return comparator;
+    }
+
     @Override
     public String toString() {
 
         StringBuilder fleaTreeString = new StringBuilder();
         fleaTreeString.append(toString(rootNode.element)).append(ENTER);
 
-        LinkedList<TreeNode<T>> subNodes = rootNode.subNotes;
+        List<TreeNode<T>> subNodes = rootNode.subNotes;
         toString(fleaTreeString, subNodes, rootNode.height, new HashMap<Integer, Boolean>());
         return fleaTreeString.toString();
     }
 
     // 递归获取Flea树结构
-    private void toString(StringBuilder fleaTreeString, LinkedList<TreeNode<T>> subNodes, int height, Map<Integer, Boolean> cHeightNodeLast) {
+    private void toString(StringBuilder fleaTreeString, List<TreeNode<T>> subNodes, int height, Map<Integer, Boolean> cHeightNodeLast) {
 
         if (CollectionUtils.isNotEmpty(subNodes)) {
             ListIterator<TreeNode<T>> subNodesIt = subNodes.listIterator();
@@ -425,7 +608,7 @@ public class FleaTree<T> implements Serializable {
      * @since 1.0.0
      */
     public List<Map<String, Object>> toMapList(boolean isContains) {
-        LinkedList<TreeNode<T>> treeNodes;
+        List<TreeNode<T>> treeNodes;
         if (isContains) {
             treeNodes = new LinkedList<>();
             treeNodes.add(rootNode);
@@ -442,7 +625,7 @@ public class FleaTree<T> implements Serializable {
      * @return 树的节点信息
      * @since 1.0.0
      */
-    private List<Map<String, Object>> toMapList(LinkedList<TreeNode<T>> subNotes) {
+    private List<Map<String, Object>> toMapList(List<TreeNode<T>> subNotes) {
         List<Map<String, Object>> treeNodeMapList = null;
 
         if (CollectionUtils.isNotEmpty(subNotes)) {
@@ -511,6 +694,66 @@ public class FleaTree<T> implements Serializable {
     protected void reHandleTreeNodeMap(Map<String, Object> treeNodeMap) {
     }
 
+    /**
+     * 树节点解析器，批量添加树节点时，从元素中获取节点编号、节点高度和父节点编号
+     *
+     * @param <T> Flea树中包含的元素的类型
+     * @since 2.0.0
+     */
+    public interface TreeNodeResolver<T> {
+
+        long getId(T element);
+
+        int getHeight(T element);
+
+        long getParentId(T element);
+    }
+
+    /**
+     * 树节点过滤器，生成Flea树视图时，判断是否保留树节点
+     *
+     * @param <T> Flea树中包含的元素的类型
+     * @since 2.0.0
+     */
+    public interface TreeNodeFilter<T> {
+
+        boolean accept(T element, long id, int height);
+    }
+
+    /**
+     * 树节点的键【节点编号，节点高度】
+     *
+     * @since 2.0.0
+     */
+    static final class NodeKey {
+
+        final long id; // 节点编号
+
+        final int height; // 节点高度
+
+        NodeKey(long id, int height) {
+            this.id = id;
+            this.height = height;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof NodeKey)) {
+                return false;
+            }
+            NodeKey other = (NodeKey) obj;
+            return id == other.id && height == other.height;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (int) (id ^ (id >>> 32)) + height;
+        }
+    }
+
     static final class TreeNode<T> {
 
         T element; // 节点元素
@@ -521,7 +764,13 @@ public class FleaTree<T> implements Serializable {
 
         TreeNode<T> parentNote; // 父节点
 
-        LinkedList<TreeNode<T>> subNotes = null; // 子节点链表
+        List<TreeNode<T>> subNotes = null; // 子节点列表
+
+        boolean attached; // 是否已挂载到树上
+
+        boolean sortPending; // 批量添加时，子节点是否待排序
+
+        int subtreeSize; // 子树节点数，冻结后有效
 
         TreeNode(T element, long id, int height, TreeNode<T> parentNote) {
             this.element = element;
@@ -531,7 +780,7 @@ public class FleaTree<T> implements Serializable {
         }
 
         /**
-         * 添加子节点
+         * 按顺序添加子节点，顺序相同时添加到已有子节点之后
          *
          * @param subNote 子节点
          * @since 1.0.0
@@ -543,33 +792,60 @@ public class FleaTree<T> implements Serializable {
             }
 
             if (ObjectUtils.isEmpty(subNotes)) {
-                subNotes = new LinkedList<>();
+                subNotes = new ArrayList<>();
             }
 
-            // 无子节点
-            if (subNotes.isEmpty()) {
-                // 将待添加节点插入到子节点链表的头部
-                subNotes.addFirst(subNote);
-            } else {
-                ListIterator<TreeNode<T>> subNoteListIt = subNotes.listIterator();
-
-                while (subNoteListIt.hasNext()) {
-                    TreeNode<T> currentNode = subNoteListIt.next();
-                    int currentIndex = subNoteListIt.nextIndex();
-                    int comp = compare(currentNode.element, subNote.element, comparator);
-                    // 当前节点元素的顺序大于待添加节点的元素的顺序
-                    if (comp > CommonConstants.NumeralConstants.INT_ZERO) {
-                        // 将待添加节点插入到当前节点处，当前节点链接到待添加节点的后面
-                        subNotes.add(currentIndex - 1, subNote);
-                        break;
-                    } else if (comp < CommonConstants.NumeralConstants.INT_ZERO && !subNoteListIt.hasNext()) {
-                        // 当前节点元素的顺序小于待添加节点的元素的顺序，并且没有后续子节点了
-                        // 将待添加节点插入到子节点链表的尾部
-                        subNotes.addLast(subNote);
-                        break;
-                    }
+            // 二分查找第一个顺序大于待添加节点的位置
+            int low = 0;
+            int high = subNotes.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compare(subNotes.get(mid).element, subNote.element, comparator) > CommonConstants.NumeralConstants.INT_ZERO) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
                 }
             }
+            subNotes.add(low, subNote);
+            subNote.parentNote = this;
+        }
+
+        /**
+         * 追加子节点，暂不排序
+         *
+         * @param subNote 子节点
+         * @since 2.0.0
+         */
+        void appendSubNode(TreeNode<T> subNote) {
+            if (ObjectUtils.isEmpty(subNotes)) {
+                subNotes = new ArrayList<>();
+            }
+            subNotes.add(subNote);
+            subNote.parentNote = this;
+        }
+
+        void appendSubNodes(List<TreeNode<T>> subNodes) {
+            for (TreeNode<T> subNote : subNodes) {
+                appendSubNode(subNote);
+            }
+        }
+
+        /**
+         * 对子节点排序，排序是稳定的
+         *
+         * @param comparator 树节点元素的比较器
+         * @since 2.0.0
+         */
+        void sortSubNodes(final Comparator<? super T> comparator) {
+            if (CollectionUtils.isEmpty(subNotes) || subNotes.size() == 1) {
+                return;
+            }
+            Collections.sort(subNotes, new Comparator<TreeNode<T>>() {
+                @Override
+                public int compare(TreeNode<T> o1, TreeNode<T> o2) {
+                    return TreeNode.this.compare(o1.element, o2.element, comparator);
+                }
+            });
         }
 
         /**
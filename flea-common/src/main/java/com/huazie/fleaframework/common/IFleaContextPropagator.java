@@ -0,0 +1,30 @@
+package com.huazie.fleaframework.common;
+
+/**
+ * Flea 上下文传递扩展接口，用于在 {@link FleaContext} 中传递其他模块的线程变量，
+ * 如 flea-db 的分库序列；可在 <b>flea-config.xml</b> 的
+ * 【flea-context/propagators】中配置多个实现类。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public interface IFleaContextPropagator {
+
+    /**
+     * 获取当前线程的上下文值；返回值将在其他线程中恢复，
+     * 可变对象需返回副本，以免受当前线程后续修改的影响
+     *
+     * @return 当前线程的上下文值，不存在时返回null
+     * @since 2.0.0
+     */
+    Object capture();
+
+    /**
+     * 恢复当前线程的上下文值
+     *
+     * @param value {@link #capture()} 获取的上下文值，为null时清除当前线程的上下文值
+     * @since 2.0.0
+     */
+    void restore(Object value);
+}
@@ -1,5 +1,9 @@
 package com.huazie.fleaframework.common;
 
+import com.huazie.fleaframework.common.util.PatternMatcherUtils;
+
+import java.util.regex.Pattern;
+
 /**
  * 正则匹配表达式枚举
  *
@@ -29,4 +33,25 @@ public enum RegExpEnum {
     public String getDesc() {
         return desc;
     }
+
+    /**
+     * 获取编译后的正则表达式（忽略大小写）
+     *
+     * @return 编译后的正则表达式
+     * @since 2.0.0
+     */
+    public Pattern getPattern() {
+        return PatternMatcherUtils.getPattern(exp, Pattern.CASE_INSENSITIVE);
+    }
+
+    /**
+     * 校验输入是否匹配当前正则表达式（忽略大小写）
+     *
+     * @param input 匹配对象
+     * @return true：匹配; false：不匹配
+     * @since 2.0.0
+     */
+    public boolean matches(CharSequence input) {
+        return getPattern().matcher(input).matches();
+    }
 }
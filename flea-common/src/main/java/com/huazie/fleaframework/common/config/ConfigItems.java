@@ -3,6 +3,7 @@ package com.huazie.fleaframework.common.config;
 import org.apache.commons.lang.builder.ToStringBuilder;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -32,6 +33,17 @@ public class ConfigItems extends ConfigKeyMap<ConfigItem> {
         addConfig(configItem);
     }
 
+    /**
+     * 将配置项列表和配置项Map包装为不可修改，构建配置快照时调用，
+     * 之后不能再添加配置项
+     *
+     * @since 2.0.0
+     */
+    void unmodifiable() {
+        configItemList = Collections.unmodifiableList(configItemList);
+        unmodifiableConfigMap();
+    }
+
     @Override
     protected String getConfigKey(ConfigItem configItem) {
         return configItem.getKey();
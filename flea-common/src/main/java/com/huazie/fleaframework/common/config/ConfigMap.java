@@ -3,6 +3,7 @@ package com.huazie.fleaframework.common.config;
 import com.huazie.fleaframework.common.util.CollectionUtils;
 import com.huazie.fleaframework.common.util.ObjectUtils;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -52,6 +53,16 @@ public abstract class ConfigMap<T> {
         }
     }
 
+    /**
+     * 将配置数据Map包装为不可修改，之后再添加配置数据将抛出
+     * {@code UnsupportedOperationException}
+     *
+     * @since 2.0.0
+     */
+    protected void unmodifiableConfigMap() {
+        configMap = Collections.unmodifiableMap(configMap);
+    }
+
     /**
      * 根据指定配置数据键获取指定的配置数据
      *
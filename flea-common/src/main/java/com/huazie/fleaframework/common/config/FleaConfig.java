@@ -1,6 +1,6 @@
 package com.huazie.fleaframework.common.config;
 
-import com.huazie.fleaframework.common.util.MapUtils;
+import com.huazie.fleaframework.common.util.ObjectUtils;
 import org.apache.commons.lang.builder.ToStringBuilder;
 
 import java.util.ArrayList;
@@ -20,6 +20,8 @@ public class FleaConfig {
 
     private List<ConfigItems> configItemsList = new ArrayList<>();
 
+    private volatile Map<String, ConfigItems> configItemsIndex; // 配置项列表索引，添加配置项列表后重建
+
     /**
      * 获取Flea配置数据
      *
@@ -48,6 +50,7 @@ public class FleaConfig {
      */
     public void addConfigItems(ConfigItems configItems) {
         configItemsList.add(configItems);
+        configItemsIndex = null;
     }
 
     /**
@@ -72,12 +75,13 @@ public class FleaConfig {
      * @since 1.0.0
      */
     public ConfigItems getConfigItems(String key) {
-        ConfigItems configItems = null;
-        Map<String, ConfigItems> configItemsMap = toConfigItemsMap();
-        if (MapUtils.isNotEmpty(configItemsMap)) {
-            configItems = configItemsMap.get(key);
+        Map<String, ConfigItems> configItemsMap = configItemsIndex;
+        if (ObjectUtils.isEmpty(configItemsMap)) {
+            // 首次查找时建立索引，之后直接复用
+            configItemsMap = toConfigItemsMap();
+            configItemsIndex = configItemsMap;
         }
-        return configItems;
+        return configItemsMap.get(key);
     }
 
     @Override
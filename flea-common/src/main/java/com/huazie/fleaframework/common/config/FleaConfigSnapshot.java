@@ -0,0 +1,117 @@
+package com.huazie.fleaframework.common.config;
+
+import com.huazie.fleaframework.common.util.CollectionUtils;
+import com.huazie.fleaframework.common.util.ObjectUtils;
+import org.apache.commons.lang.builder.ToStringBuilder;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flea配置数据快照，在加载【flea-config.xml】时构建，构建后不可修改。
+ *
+ * <p> 快照中预先建立配置项集和配置项的索引，根据配置项集键和
+ * 配置项键查找时，只需两次哈希查找，不会创建任何对象；
+ * 构建时同时将各配置项集内的配置项列表和配置项Map包装为不可修改，
+ * 快照发布后不能再添加配置项。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public final class FleaConfigSnapshot {
+
+    private final Map<String, ConfigItems> configItemsMap; // 配置项集索引
+
+    private final Map<String, Map<String, ConfigItem>> configItemMap; // 配置项索引，按配置项集键分组
+
+    /**
+     * 根据Flea配置数据构建快照
+     *
+     * @param fleaConfig Flea配置数据
+     * @since 2.0.0
+     */
+    public FleaConfigSnapshot(FleaConfig fleaConfig) {
+        Map<String, ConfigItems> itemsMap = new HashMap<>();
+        Map<String, Map<String, ConfigItem>> itemMap = new HashMap<>();
+        if (ObjectUtils.isNotEmpty(fleaConfig)) {
+            for (ConfigItems configItems : fleaConfig.getConfigItemsList()) {
+                if (ObjectUtils.isEmpty(configItems)) {
+                    continue;
+                }
+                configItems.unmodifiable();
+                itemsMap.put(configItems.getKey(), configItems);
+                itemMap.put(configItems.getKey(), index(configItems.getConfigItemList()));
+            }
+        }
+        this.configItemsMap = Collections.unmodifiableMap(itemsMap);
+        this.configItemMap = Collections.unmodifiableMap(itemMap);
+    }
+
+    private static Map<String, ConfigItem> index(List<ConfigItem> configItemList) {
+        if (CollectionUtils.isEmpty(configItemList)) {
+            return Collections.emptyMap();
+        }
+        Map<String, ConfigItem> itemMap = new HashMap<>();
+        for (ConfigItem configItem : configItemList) {
+            if (ObjectUtils.isNotEmpty(configItem)) {
+                itemMap.put(configItem.getKey(), configItem);
+            }
+        }
+        return Collections.unmodifiableMap(itemMap);
+    }
+
+    /**
+     * 获取配置项集
+     *
+     * @param itemsKey 配置项集键
+     * @return 配置项集，不存在时返回 null
+     * @since 2.0.0
+     */
+    public ConfigItems getConfigItems(String itemsKey) {
+        return configItemsMap.get(itemsKey);
+    }
+
+    /**
+     * 获取配置项
+     *
+     * @param itemsKey 配置项集键
+     * @param itemKey  配置项键
+     * @return 配置项，不存在时返回 null
+     * @since 2.0.0
+     */
+    public ConfigItem getConfigItem(String itemsKey, String itemKey) {
+        Map<String, ConfigItem> itemMap = configItemMap.get(itemsKey);
+        return ObjectUtils.isEmpty(itemMap) ? null : itemMap.get(itemKey);
+    }
+
+    /**
+     * 获取配置项值
+     *
+     * @param itemsKey 配置项集键
+     * @param itemKey  配置项键
+     * @return 配置项值，不存在时返回 null
+     * @since 2.0.0
+     */
+    public String getConfigItemValue(String itemsKey, String itemKey) {
+        ConfigItem configItem = getConfigItem(itemsKey, itemKey);
+        return ObjectUtils.isEmpty(configItem) ? null : configItem.getValue();
+    }
+
+    /**
+     * 获取全部配置项集，不可修改
+     *
+     * @return 全部配置项集，键为配置项集键
+     * @since 2.0.0
+     */
+    public Map<String, ConfigItems> getConfigItemsMap() {
+        return configItemsMap;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
@@ -0,0 +1,99 @@
+package com.huazie.fleaframework.common.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Flea 耗时直方图，采用类似 HdrHistogram 的对数线性分桶，
+ * 记录纳秒级耗时，相对误差不超过 1/32（约 3%）。
+ *
+ * <p> 小于 32 的值每个值一个桶；之后每个 2 的幂区间等分为 32 个桶，
+ * 最大可记录约 18 分钟（2^40 纳秒），超出的值计入最后一个桶。
+ *
+ * <p> 记录时只做一次下标计算和若干次原子累加，不加锁、不分配对象，
+ * 可在请求线程中直接调用；快照时复制各桶计数，快照与并发记录之间
+ * 不保证严格一致，但每次记录最终都会体现在后续的快照中。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS; // 每个 2 的幂区间的桶数
+
+    private static final int MAX_VALUE_BITS = 40;
+
+    static final long MAX_VALUE = (1L << MAX_VALUE_BITS) - 1; // 最大可记录值
+
+    static final int BUCKET_COUNT = bucketIndex(MAX_VALUE) + 1; // 总桶数
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT); // 各桶计数
+
+    private final AtomicLong sum = new AtomicLong(); // 记录值总和
+
+    private final AtomicLong max = new AtomicLong(); // 记录值最大值
+
+    /**
+     * 记录一个值，负值按 0 处理
+     *
+     * @param value 待记录的值（如耗时纳秒数）
+     * @since 2.0.0
+     */
+    public void record(long value) {
+        long v = value < 0 ? 0 : value;
+        buckets.incrementAndGet(bucketIndex(Math.min(v, MAX_VALUE)));
+        sum.addAndGet(v);
+        long currentMax = max.get();
+        while (v > currentMax && !max.compareAndSet(currentMax, v)) {
+            currentMax = max.get();
+        }
+    }
+
+    /**
+     * 获取直方图快照
+     *
+     * @return 直方图快照
+     * @since 2.0.0
+     */
+    public FleaHistogramSnapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            count += counts[i];
+        }
+        return new FleaHistogramSnapshot(counts, count, sum.get(), max.get());
+    }
+
+    /**
+     * 计算值所在的桶下标
+     *
+     * @param value 非负值
+     * @return 桶下标
+     */
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return SUB_BUCKET_COUNT + (shift << SUB_BUCKET_BITS) + (int) (value >>> shift) - SUB_BUCKET_COUNT;
+    }
+
+    /**
+     * 获取桶内可记录的最大值
+     *
+     * @param index 桶下标
+     * @return 桶内可记录的最大值
+     */
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) >>> SUB_BUCKET_BITS;
+        long subBucket = ((index - SUB_BUCKET_COUNT) & (SUB_BUCKET_COUNT - 1)) + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
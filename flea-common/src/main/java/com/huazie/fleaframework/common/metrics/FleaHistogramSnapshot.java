@@ -0,0 +1,73 @@
+package com.huazie.fleaframework.common.metrics;
+
+/**
+ * Flea 耗时直方图快照，不可变，用于计算平均值和百分位数。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaHistogramSnapshot {
+
+    private final long[] counts; // 各桶计数
+
+    private final long count; // 记录总数
+
+    private final long sum; // 记录值总和
+
+    private final long max; // 记录值最大值
+
+    FleaHistogramSnapshot(long[] counts, long count, long sum, long max) {
+        this.counts = counts;
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    /**
+     * 获取百分位数，返回所在桶内可记录的最大值，且不超过最大记录值
+     *
+     * @param percentile 百分位，取值范围 (0, 100]
+     * @return 百分位数，无记录时返回 0
+     * @since 2.0.0
+     */
+    public long getPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(count * Math.min(Math.max(percentile, 0D), 100D) / 100D);
+        if (target < 1) {
+            target = 1;
+        }
+        long accumulated = 0;
+        for (int i = 0; i < counts.length; i++) {
+            accumulated += counts[i];
+            if (accumulated >= target) {
+                return Math.min(FleaHistogram.bucketUpperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * 获取平均值
+     *
+     * @return 平均值，无记录时返回 0
+     * @since 2.0.0
+     */
+    public double getMean() {
+        return count == 0 ? 0D : (double) sum / count;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public long getMax() {
+        return max;
+    }
+}
@@ -0,0 +1,79 @@
+package com.huazie.fleaframework.common.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Flea 指标，包含一个耗时直方图和异常、拒绝计数器，
+ * 用于统计单个过滤器或单个资源服务的耗时和吞吐量。
+ *
+ * <ul>
+ *     <li> 正常执行：{@link #record(long)} 记录耗时；</li>
+ *     <li> 执行异常：{@link #recordError(long)} 记录耗时，异常数加一；</li>
+ *     <li> 请求被拒绝（如鉴权或校验不通过）：{@link #recordReject(long)}
+ *     记录耗时，拒绝数加一。</li>
+ * </ul>
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaMetric {
+
+    private final String name; // 指标名
+
+    private final FleaHistogram histogram = new FleaHistogram(); // 耗时直方图（纳秒）
+
+    private final AtomicLong errorCount = new AtomicLong(); // 异常数
+
+    private final AtomicLong rejectCount = new AtomicLong(); // 拒绝数
+
+    FleaMetric(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 记录一次正常执行的耗时
+     *
+     * @param nanos 耗时（纳秒）
+     * @since 2.0.0
+     */
+    public void record(long nanos) {
+        histogram.record(nanos);
+    }
+
+    /**
+     * 记录一次执行异常的耗时
+     *
+     * @param nanos 耗时（纳秒）
+     * @since 2.0.0
+     */
+    public void recordError(long nanos) {
+        histogram.record(nanos);
+        errorCount.incrementAndGet();
+    }
+
+    /**
+     * 记录一次请求被拒绝的耗时
+     *
+     * @param nanos 耗时（纳秒）
+     * @since 2.0.0
+     */
+    public void recordReject(long nanos) {
+        histogram.record(nanos);
+        rejectCount.incrementAndGet();
+    }
+
+    /**
+     * 获取指标快照
+     *
+     * @return 指标快照
+     * @since 2.0.0
+     */
+    public FleaMetricSnapshot snapshot() {
+        return new FleaMetricSnapshot(name, histogram.snapshot(), errorCount.get(), rejectCount.get());
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,100 @@
+package com.huazie.fleaframework.common.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flea 指标快照，耗时单位为纳秒。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaMetricSnapshot {
+
+    private final String name; // 指标名
+
+    private final FleaHistogramSnapshot histogram; // 耗时直方图快照
+
+    private final long errorCount; // 异常数
+
+    private final long rejectCount; // 拒绝数
+
+    FleaMetricSnapshot(String name, FleaHistogramSnapshot histogram, long errorCount, long rejectCount) {
+        this.name = name;
+        this.histogram = histogram;
+        this.errorCount = errorCount;
+        this.rejectCount = rejectCount;
+    }
+
+    /**
+     * 获取耗时百分位数
+     *
+     * @param percentile 百分位，取值范围 (0, 100]
+     * @param unit       时间单位
+     * @return 耗时百分位数
+     * @since 2.0.0
+     */
+    public double getPercentile(double percentile, TimeUnit unit) {
+        return toUnit(histogram.getPercentile(percentile), unit);
+    }
+
+    /**
+     * 获取平均耗时
+     *
+     * @param unit 时间单位
+     * @return 平均耗时
+     * @since 2.0.0
+     */
+    public double getMean(TimeUnit unit) {
+        return histogram.getMean() / unit.toNanos(1);
+    }
+
+    /**
+     * 获取最大耗时
+     *
+     * @param unit 时间单位
+     * @return 最大耗时
+     * @since 2.0.0
+     */
+    public double getMax(TimeUnit unit) {
+        return toUnit(histogram.getMax(), unit);
+    }
+
+    private static double toUnit(long nanos, TimeUnit unit) {
+        return (double) nanos / unit.toNanos(1);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public FleaHistogramSnapshot getHistogram() {
+        return histogram;
+    }
+
+    /**
+     * 获取执行次数（包括异常和拒绝）
+     *
+     * @return 执行次数
+     * @since 2.0.0
+     */
+    public long getCount() {
+        return histogram.getCount();
+    }
+
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    public long getRejectCount() {
+        return rejectCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s count=%d error=%d reject=%d mean=%.3fms p50=%.3fms p99=%.3fms max=%.3fms",
+                name, getCount(), errorCount, rejectCount, getMean(TimeUnit.MILLISECONDS),
+                getPercentile(50, TimeUnit.MILLISECONDS), getPercentile(99, TimeUnit.MILLISECONDS),
+                getMax(TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,200 @@
+package com.huazie.fleaframework.common.metrics;
+
+import com.huazie.fleaframework.common.CommonConstants;
+import com.huazie.fleaframework.common.FleaConfigManager;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.ObjectUtils;
+import com.huazie.fleaframework.common.util.ReflectUtils;
+import com.huazie.fleaframework.common.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Flea 指标注册中心，按指标名管理 {@link FleaMetric}，
+ * 并在新建指标时通知已注册的指标输出实现。
+ *
+ * <p> 指标名约定如下：
+ * <ul>
+ *     <li> {@code jersey.filter.过滤器全类名}：Flea Jersey 接口过滤器</li>
+ *     <li> {@code jersey.service.资源编码.服务编码}：Flea Jersey 资源服务，只统计已配置的资源服务，
+ *     其余请求计入 {@code jersey.service.unknown}</li>
+ *     <li> {@code core.filtertask.过滤器任务全类名}：Flea 过滤器任务</li>
+ * </ul>
+ *
+ * <p> 是否开启指标统计以及指标输出实现，读取 <b>flea-config.xml</b>
+ * 中的【flea-metrics】配置，未配置时默认关闭；未开启时，调用方应跳过耗时统计，
+ * 以避免额外的计时开销。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaMetrics {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaMetrics.class);
+
+    private static volatile FleaMetrics metrics;
+
+    private final boolean enabled; // 是否开启指标统计
+
+    private final ConcurrentMap<String, FleaMetric> metricMap = new ConcurrentHashMap<>(); // 指标集合
+
+    private final List<IFleaMetricsExporter> exporters = new CopyOnWriteArrayList<>(); // 指标输出实现
+
+    /**
+     * 创建指标注册中心
+     *
+     * @param enabled 是否开启指标统计
+     * @since 2.0.0
+     */
+    public FleaMetrics(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * 获取 Flea 指标注册中心，首次获取时根据 <b>flea-config.xml</b>
+     * 中的配置初始化，并启动配置的指标输出实现。
+     *
+     * @return Flea 指标注册中心
+     * @since 2.0.0
+     */
+    public static FleaMetrics getMetrics() {
+        if (ObjectUtils.isEmpty(metrics)) {
+            synchronized (FleaMetrics.class) {
+                if (ObjectUtils.isEmpty(metrics)) {
+                    String enabled = FleaConfigManager.getConfigItemValue(CommonConstants.FleaMetricsConstants.FLEA_METRICS,
+                            CommonConstants.FleaMetricsConstants.CONFIG_ITEM_ENABLED);
+                    FleaMetrics fleaMetrics = new FleaMetrics(StringUtils.isNotBlank(enabled) && Boolean.parseBoolean(enabled.trim()));
+                    if (fleaMetrics.isEnabled()) {
+                        String exporters = FleaConfigManager.getConfigItemValue(CommonConstants.FleaMetricsConstants.FLEA_METRICS,
+                                CommonConstants.FleaMetricsConstants.CONFIG_ITEM_EXPORTERS);
+                        if (StringUtils.isNotBlank(exporters)) {
+                            for (String exporterClass : exporters.split(",")) {
+                                Object exporter = ReflectUtils.newInstance(exporterClass.trim());
+                                if (exporter instanceof IFleaMetricsExporter) {
+                                    fleaMetrics.addExporter((IFleaMetricsExporter) exporter);
+                                } else {
+                                    LOGGER.warn1(new Object() {}, "指标输出实现【{}】不存在或未实现 IFleaMetricsExporter，已忽略", exporterClass);
+                                }
+                            }
+                        }
+                    }
+                    metrics = fleaMetrics;
+                }
+            }
+        }
+        return metrics;
+    }
+
+    /**
+     * 是否开启指标统计
+     *
+     * @return true：开启，false：关闭
+     * @since 2.0.0
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 获取指标，不存在则新建，并通知指标输出实现；
+     * 调用方应在初始化时获取并持有指标，避免在请求线程中重复查找。
+     *
+     * @param name 指标名
+     * @return 指标
+     * @since 2.0.0
+     */
+    public FleaMetric getMetric(String name) {
+        FleaMetric metric = metricMap.get(name);
+        if (ObjectUtils.isEmpty(metric)) {
+            FleaMetric newMetric = new FleaMetric(name);
+            metric = metricMap.putIfAbsent(name, newMetric);
+            if (ObjectUtils.isEmpty(metric)) {
+                metric = newMetric;
+                for (IFleaMetricsExporter exporter : exporters) {
+                    exporter.onMetricCreated(metric);
+                }
+            }
+        }
+        return metric;
+    }
+
+    /**
+     * 获取所有指标的快照，按指标名排序
+     *
+     * @return 指标快照集合
+     * @since 2.0.0
+     */
+    public Map<String, FleaMetricSnapshot> snapshot() {
+        Map<String, FleaMetricSnapshot> snapshots = new TreeMap<>();
+        for (FleaMetric metric : metricMap.values()) {
+            snapshots.put(metric.getName(), metric.snapshot());
+        }
+        return snapshots;
+    }
+
+    /**
+     * 获取所有指标
+     *
+     * @return 指标集合
+     * @since 2.0.0
+     */
+    public List<FleaMetric> getMetricList() {
+        return Collections.unmodifiableList(new ArrayList<>(metricMap.values()));
+    }
+
+    /**
+     * 添加并启动指标输出实现，已存在的指标同样会回调给该实现
+     *
+     * @param exporter 指标输出实现
+     * @since 2.0.0
+     */
+    public void addExporter(IFleaMetricsExporter exporter) {
+        exporter.start(this);
+        exporters.add(exporter);
+        for (FleaMetric metric : metricMap.values()) {
+            exporter.onMetricCreated(metric);
+        }
+    }
+
+    /**
+     * 获取指定类型的指标输出实现
+     *
+     * @param exporterClazz 指标输出实现类
+     * @param <T>           指标输出实现类型
+     * @return 指标输出实现，未配置时返回 null
+     * @since 2.0.0
+     */
+    public <T extends IFleaMetricsExporter> T getExporter(Class<T> exporterClazz) {
+        for (IFleaMetricsExporter exporter : exporters) {
+            if (exporterClazz.isInstance(exporter)) {
+                return exporterClazz.cast(exporter);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 停止所有指标输出实现
+     *
+     * @since 2.0.0
+     */
+    public void stop() {
+        for (IFleaMetricsExporter exporter : exporters) {
+            try {
+                exporter.stop();
+            } catch (Exception e) {
+                LOGGER.error1(new Object() {}, "停止指标输出实现【{}】出错：", exporter.getClass().getName(), e);
+            }
+        }
+        exporters.clear();
+    }
+}
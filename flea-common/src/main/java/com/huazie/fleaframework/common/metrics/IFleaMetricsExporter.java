@@ -0,0 +1,36 @@
+package com.huazie.fleaframework.common.metrics;
+
+/**
+ * Flea 指标输出接口，可在 <b>flea-config.xml</b> 的
+ * 【flea-metrics/exporters】中配置多个实现类。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public interface IFleaMetricsExporter {
+
+    /**
+     * 启动指标输出
+     *
+     * @param metrics Flea 指标注册中心
+     * @since 2.0.0
+     */
+    void start(FleaMetrics metrics);
+
+    /**
+     * 新建指标时回调，用于为新指标完成输出准备（如注册 MBean）；
+     * 与添加指标输出实现并发时，同一指标可能回调多次，实现需保证幂等。
+     *
+     * @param metric 新建的指标
+     * @since 2.0.0
+     */
+    void onMetricCreated(FleaMetric metric);
+
+    /**
+     * 停止指标输出，释放占用的资源
+     *
+     * @since 2.0.0
+     */
+    void stop();
+}
@@ -0,0 +1,31 @@
+package com.huazie.fleaframework.common.metrics.exporter;
+
+/**
+ * Flea 指标 MXBean，耗时单位为毫秒。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public interface FleaMetricMXBean {
+
+    String getName();
+
+    long getCount();
+
+    long getErrorCount();
+
+    long getRejectCount();
+
+    double getMean();
+
+    double getMax();
+
+    double getP50();
+
+    double getP90();
+
+    double getP99();
+
+    double getP999();
+}
@@ -0,0 +1,129 @@
+package com.huazie.fleaframework.common.metrics.exporter;
+
+import com.huazie.fleaframework.common.CommonConstants;
+import com.huazie.fleaframework.common.metrics.FleaMetric;
+import com.huazie.fleaframework.common.metrics.FleaMetrics;
+import com.huazie.fleaframework.common.metrics.IFleaMetricsExporter;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMX 指标输出，每个指标注册为一个 MXBean，
+ * ObjectName 为 {@code com.huazie.fleaframework.metrics:type=FleaMetric,name="指标名"}，
+ * 属性值在读取时根据指标快照实时计算。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class JmxMetricsExporter implements IFleaMetricsExporter {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(JmxMetricsExporter.class);
+
+    private final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+    private final List<ObjectName> objectNames = new CopyOnWriteArrayList<>(); // 已注册的 MXBean
+
+    @Override
+    public void start(FleaMetrics metrics) {
+        // 指标在新建时逐个注册
+    }
+
+    @Override
+    public void onMetricCreated(FleaMetric metric) {
+        try {
+            ObjectName objectName = new ObjectName(CommonConstants.FleaMetricsConstants.JMX_DOMAIN
+                    + ":type=FleaMetric,name=" + ObjectName.quote(metric.getName()));
+            if (!mBeanServer.isRegistered(objectName)) {
+                mBeanServer.registerMBean(new FleaMetricMXBeanImpl(metric), objectName);
+                objectNames.add(objectName);
+            }
+        } catch (InstanceAlreadyExistsException e) {
+            // 并发注册同一指标，忽略
+        } catch (Exception e) {
+            LOGGER.error1(new Object() {}, "注册指标【{}】的 MXBean 出错：", metric.getName(), e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        for (ObjectName objectName : objectNames) {
+            try {
+                mBeanServer.unregisterMBean(objectName);
+            } catch (Exception e) {
+                LOGGER.error1(new Object() {}, "注销 MXBean【{}】出错：", objectName, e);
+            }
+        }
+        objectNames.clear();
+    }
+
+    /**
+     * Flea 指标 MXBean 实现
+     */
+    private static class FleaMetricMXBeanImpl implements FleaMetricMXBean {
+
+        private final FleaMetric metric;
+
+        FleaMetricMXBeanImpl(FleaMetric metric) {
+            this.metric = metric;
+        }
+
+        @Override
+        public String getName() {
+            return metric.getName();
+        }
+
+        @Override
+        public long getCount() {
+            return metric.snapshot().getCount();
+        }
+
+        @Override
+        public long getErrorCount() {
+            return metric.snapshot().getErrorCount();
+        }
+
+        @Override
+        public long getRejectCount() {
+            return metric.snapshot().getRejectCount();
+        }
+
+        @Override
+        public double getMean() {
+            return metric.snapshot().getMean(TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public double getMax() {
+            return metric.snapshot().getMax(TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public double getP50() {
+            return metric.snapshot().getPercentile(50, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public double getP90() {
+            return metric.snapshot().getPercentile(90, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public double getP99() {
+            return metric.snapshot().getPercentile(99, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public double getP999() {
+            return metric.snapshot().getPercentile(99.9, TimeUnit.MILLISECONDS);
+        }
+    }
+}
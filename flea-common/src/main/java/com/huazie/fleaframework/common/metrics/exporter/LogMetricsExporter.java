@@ -0,0 +1,125 @@
+package com.huazie.fleaframework.common.metrics.exporter;
+
+import com.huazie.fleaframework.common.CommonConstants;
+import com.huazie.fleaframework.common.FleaConfigManager;
+import com.huazie.fleaframework.common.metrics.FleaMetric;
+import com.huazie.fleaframework.common.metrics.FleaMetricSnapshot;
+import com.huazie.fleaframework.common.metrics.FleaMetrics;
+import com.huazie.fleaframework.common.metrics.IFleaMetricsExporter;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.ObjectUtils;
+import com.huazie.fleaframework.common.util.StringUtils;
+
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 日志指标输出，按配置的时间间隔【flea-metrics/log_interval】，
+ * 在后台线程中将有记录的指标快照输出到日志。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class LogMetricsExporter implements IFleaMetricsExporter {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(LogMetricsExporter.class);
+
+    private final long interval; // 输出时间间隔（毫秒）
+
+    private ScheduledExecutorService scheduler; // 定时输出线程
+
+    /**
+     * 使用配置的时间间隔创建日志指标输出
+     *
+     * @since 2.0.0
+     */
+    public LogMetricsExporter() {
+        this(getConfigInterval());
+    }
+
+    /**
+     * 使用指定的时间间隔创建日志指标输出
+     *
+     * @param interval 输出时间间隔（毫秒）
+     * @since 2.0.0
+     */
+    public LogMetricsExporter(long interval) {
+        this.interval = interval > 0 ? interval : CommonConstants.FleaMetricsConstants.DEFAULT_LOG_INTERVAL;
+    }
+
+    @Override
+    public synchronized void start(final FleaMetrics metrics) {
+        if (ObjectUtils.isNotEmpty(scheduler)) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "flea-metrics-log-exporter");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        scheduler.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                dump(metrics);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void onMetricCreated(FleaMetric metric) {
+        // 定时输出所有指标，无需处理
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (ObjectUtils.isNotEmpty(scheduler)) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * 将有记录的指标快照输出到日志
+     *
+     * @param metrics Flea 指标注册中心
+     * @since 2.0.0
+     */
+    public void dump(FleaMetrics metrics) {
+        try {
+            Map<String, FleaMetricSnapshot> snapshots = metrics.snapshot();
+            StringBuilder builder = new StringBuilder();
+            for (FleaMetricSnapshot snapshot : snapshots.values()) {
+                if (snapshot.getCount() > 0) {
+                    builder.append("\n").append(snapshot);
+                }
+            }
+            if (builder.length() > 0) {
+                LOGGER.info1(new Object() {}, "Flea Metrics :{}", builder);
+            }
+        } catch (Exception e) {
+            LOGGER.error1(new Object() {}, "输出指标快照出错：", e);
+        }
+    }
+
+    private static long getConfigInterval() {
+        long result = CommonConstants.FleaMetricsConstants.DEFAULT_LOG_INTERVAL;
+        String interval = FleaConfigManager.getConfigItemValue(CommonConstants.FleaMetricsConstants.FLEA_METRICS,
+                CommonConstants.FleaMetricsConstants.CONFIG_ITEM_LOG_INTERVAL);
+        if (StringUtils.isNotBlank(interval)) {
+            try {
+                result = Long.parseLong(interval.trim());
+            } catch (NumberFormatException e) {
+                LOGGER.warn1(new Object() {}, "配置【flea-metrics/log_interval = {}】非法，使用默认值", interval);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,63 @@
+package com.huazie.fleaframework.common.metrics.exporter;
+
+import com.huazie.fleaframework.common.metrics.FleaMetric;
+import com.huazie.fleaframework.common.metrics.FleaMetricSnapshot;
+import com.huazie.fleaframework.common.metrics.FleaMetrics;
+import com.huazie.fleaframework.common.metrics.IFleaMetricsExporter;
+import com.huazie.fleaframework.common.util.ObjectUtils;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 内存快照指标输出，供应用内部（如管理接口、测试用例）按需获取指标快照，
+ * 快照在获取时实时生成，不占用后台线程。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class MemoryMetricsExporter implements IFleaMetricsExporter {
+
+    private volatile FleaMetrics metrics; // Flea 指标注册中心
+
+    @Override
+    public void start(FleaMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void onMetricCreated(FleaMetric metric) {
+        // 快照实时生成，无需处理
+    }
+
+    @Override
+    public void stop() {
+        metrics = null;
+    }
+
+    /**
+     * 获取所有指标的快照，按指标名排序
+     *
+     * @return 指标快照集合，未启动时返回空集合
+     * @since 2.0.0
+     */
+    public Map<String, FleaMetricSnapshot> getSnapshot() {
+        FleaMetrics fleaMetrics = metrics;
+        if (ObjectUtils.isEmpty(fleaMetrics)) {
+            return Collections.emptyMap();
+        }
+        return fleaMetrics.snapshot();
+    }
+
+    /**
+     * 获取指定指标的快照
+     *
+     * @param name 指标名
+     * @return 指标快照，不存在时返回 null
+     * @since 2.0.0
+     */
+    public FleaMetricSnapshot getSnapshot(String name) {
+        return getSnapshot().get(name);
+    }
+}
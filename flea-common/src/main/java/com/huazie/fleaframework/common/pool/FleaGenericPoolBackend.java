@@ -0,0 +1,83 @@
+package com.huazie.fleaframework.common.pool;
+
+import org.apache.commons.pool2.PooledObjectFactory;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+
+/**
+ * 基于 commons-pool2 通用对象池的Flea对象池实现，支持最大连接数限制、
+ * 借出等待、空闲对象回收和校验，适用于连接等需要严格管理的资源。
+ *
+ * @param <T> 池化对象类型
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaGenericPoolBackend<T> implements IFleaObjectPoolBackend<T> {
+
+    private final GenericObjectPool<T> genericObjectPool; // commons-pool2 通用对象池
+
+    public FleaGenericPoolBackend(PooledObjectFactory<T> factory, GenericObjectPoolConfig poolConfig) {
+        this.genericObjectPool = new GenericObjectPool<>(factory, poolConfig);
+    }
+
+    @Override
+    public T borrowObject() throws Exception {
+        return genericObjectPool.borrowObject();
+    }
+
+    @Override
+    public void returnObject(T object) {
+        genericObjectPool.returnObject(object);
+    }
+
+    @Override
+    public void addObject() throws Exception {
+        genericObjectPool.addObject();
+    }
+
+    @Override
+    public void close() {
+        genericObjectPool.close();
+    }
+
+    @Override
+    public boolean isClosed() {
+        return genericObjectPool.isClosed();
+    }
+
+    @Override
+    public int getNumActive() {
+        return genericObjectPool.getNumActive();
+    }
+
+    @Override
+    public int getNumIdle() {
+        return genericObjectPool.getNumIdle();
+    }
+
+    @Override
+    public int getNumWaiters() {
+        return genericObjectPool.getNumWaiters();
+    }
+
+    @Override
+    public long getMeanBorrowWaitTimeMillis() {
+        return genericObjectPool.getMeanBorrowWaitTimeMillis();
+    }
+
+    @Override
+    public long getMaxBorrowWaitTimeMillis() {
+        return genericObjectPool.getMaxBorrowWaitTimeMillis();
+    }
+
+    /**
+     * 获取 commons-pool2 通用对象池
+     *
+     * @return commons-pool2 通用对象池
+     * @since 2.0.0
+     */
+    public GenericObjectPool<T> getGenericObjectPool() {
+        return genericObjectPool;
+    }
+}
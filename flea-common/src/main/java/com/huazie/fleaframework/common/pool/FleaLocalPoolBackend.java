@@ -0,0 +1,519 @@
+package com.huazie.fleaframework.common.pool;
+
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import org.apache.commons.pool2.PooledObjectFactory;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 基于线程本地缓存的Flea对象池实现，适用于创建代价低、借出时间短、
+ * 无需激活、钝化和校验的框架对象（如 Flea JPA查询对象）。
+ *
+ * <p> 每个线程优先从自身的本地缓存中借出和归还对象，本地缓存仅有无竞争的同步开销；
+ * 本地缓存已空或已满时，再通过无锁共享栈与其他线程交换对象，
+ * 共享栈也为空时新建对象。
+ *
+ * <p> 本地缓存最多缓存 {@code localCacheSize} 个对象，共享栈最多缓存
+ * {@code maxIdle} 个对象，超出的对象直接销毁；对象总数（包括本地缓存中的对象）
+ * 不超过 {@code maxTotal}，达到上限时先从其他线程的本地缓存中获取空闲对象，
+ * 仍没有时按 {@code blockWhenExhausted} 和 {@code maxWaitMillis} 等待归还，
+ * 等待超时或不等待时抛出 {@link NoSuchElementException}。
+ *
+ * <p> 对象池跟踪所有线程的本地缓存，关闭时销毁共享栈和全部本地缓存中的对象。
+ *
+ * <p> 开启泄漏跟踪后，记录每个已借出对象的借出线程、时间和位置，
+ * 可通过 {@link #reportLeaks(long)} 输出借出超时未归还的对象，
+ * 并能发现重复归还；泄漏跟踪存在同步开销，仅用于排查问题。
+ *
+ * @param <T> 池化对象类型
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaLocalPoolBackend<T> implements IFleaObjectPoolBackend<T> {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaLocalPoolBackend.class);
+
+    private final PooledObjectFactory<T> factory; // 池化对象工厂
+
+    private final int localCacheSize; // 每个线程本地缓存的对象数
+
+    private final int maxShared; // 共享栈最多缓存的对象数
+
+    private final int maxTotal; // 对象总数上限
+
+    private final boolean blockWhenExhausted; // 对象总数达到上限时是否等待
+
+    private final long maxWaitMillis; // 最大等待时间，负数表示一直等待
+
+    private final ThreadLocal<LocalCache<T>> localCaches; // 线程本地缓存
+
+    private final Set<LocalCache<T>> allLocalCaches = Collections.newSetFromMap(new ConcurrentHashMap<LocalCache<T>, Boolean>()); // 所有线程的本地缓存
+
+    private final AtomicReference<Node<T>> sharedHead = new AtomicReference<>(); // 无锁共享栈栈顶
+
+    private final AtomicInteger sharedSize = new AtomicInteger(); // 共享栈中的对象数
+
+    private final AtomicLong createdCount = new AtomicLong(); // 已创建的对象数
+
+    private final AtomicLong destroyedCount = new AtomicLong(); // 已销毁的对象数
+
+    private final AtomicInteger liveCount = new AtomicInteger(); // 当前存活的对象数
+
+    private final AtomicInteger waiters = new AtomicInteger(); // 等待归还的线程数
+
+    private final Object waitLock = new Object(); // 等待归还的锁
+
+    private final Map<T, LeakRecord> borrowedObjects; // 已借出的对象，仅开启泄漏跟踪时存在
+
+    private volatile boolean closed; // 是否已关闭
+
+    /**
+     * 带参数的构造方法
+     *
+     * @param factory    池化对象工厂
+     * @param poolConfig 对象池配置
+     * @since 2.0.0
+     */
+    public FleaLocalPoolBackend(PooledObjectFactory<T> factory, FleaObjectPoolConfig poolConfig) {
+        this(factory, poolConfig.getLocalCacheSize(), poolConfig.getMaxTotal(), poolConfig.getMaxIdle(),
+                poolConfig.getBlockWhenExhausted(), poolConfig.getMaxWaitMillis(), poolConfig.isLeakTracking());
+    }
+
+    /**
+     * 带参数的构造方法，对象总数不受限制
+     *
+     * @param factory        池化对象工厂
+     * @param localCacheSize 每个线程本地缓存的对象数
+     * @param maxIdle        共享栈最多缓存的对象数，负数表示不限制
+     * @param leakTracking   是否开启泄漏跟踪
+     * @since 2.0.0
+     */
+    public FleaLocalPoolBackend(PooledObjectFactory<T> factory, int localCacheSize, int maxIdle, boolean leakTracking) {
+        this(factory, localCacheSize, -1, maxIdle, true, -1L, leakTracking);
+    }
+
+    /**
+     * 带参数的构造方法
+     *
+     * @param factory            池化对象工厂
+     * @param localCacheSize     每个线程本地缓存的对象数
+     * @param maxTotal           对象总数上限，负数表示不限制
+     * @param maxIdle            共享栈最多缓存的对象数，负数表示不限制
+     * @param blockWhenExhausted 对象总数达到上限时是否等待
+     * @param maxWaitMillis      最大等待时间（单位：ms），负数表示一直等待
+     * @param leakTracking       是否开启泄漏跟踪
+     * @since 2.0.0
+     */
+    public FleaLocalPoolBackend(PooledObjectFactory<T> factory, final int localCacheSize, int maxTotal, int maxIdle,
+                                boolean blockWhenExhausted, long maxWaitMillis, boolean leakTracking) {
+        this.factory = factory;
+        this.localCacheSize = Math.max(localCacheSize, 0);
+        this.maxTotal = maxTotal < 0 ? Integer.MAX_VALUE : maxTotal;
+        this.maxShared = maxIdle < 0 ? Integer.MAX_VALUE : maxIdle;
+        this.blockWhenExhausted = blockWhenExhausted;
+        this.maxWaitMillis = maxWaitMillis;
+        this.localCaches = new ThreadLocal<LocalCache<T>>() {
+            @Override
+            protected LocalCache<T> initialValue() {
+                LocalCache<T> localCache = new LocalCache<>(FleaLocalPoolBackend.this.localCacheSize);
+                allLocalCaches.add(localCache);
+                return localCache;
+            }
+        };
+        this.borrowedObjects = leakTracking ? Collections.synchronizedMap(new IdentityHashMap<T, LeakRecord>()) : null;
+    }
+
+    @Override
+    public T borrowObject() throws Exception {
+        if (closed) {
+            throw new IllegalStateException("Pool not open");
+        }
+        T object = localCaches.get().pop();
+        if (null == object) {
+            object = popShared();
+        }
+        if (null == object) {
+            object = create();
+        }
+        if (null == object) {
+            object = awaitObject();
+        }
+        if (null != borrowedObjects) {
+            borrowedObjects.put(object, new LeakRecord());
+        }
+        return object;
+    }
+
+    @Override
+    public void returnObject(T object) {
+        if (null != borrowedObjects && null == borrowedObjects.remove(object)) {
+            LOGGER.warn1(new Object() {}, "The object is not borrowed from this pool or has been returned, object = {}\n",
+                    object, new IllegalStateException("Returned at"));
+            return;
+        }
+        if (closed) {
+            destroy(object);
+            return;
+        }
+        // 有线程等待时放入共享栈，便于等待的线程获取
+        if (0 == waiters.get() && localCaches.get().push(object)) {
+            if (closed) {
+                clear();
+            }
+            return;
+        }
+        if (pushShared(object)) {
+            if (closed) {
+                clear();
+            }
+            signalWaiter();
+        } else {
+            destroy(object);
+        }
+    }
+
+    @Override
+    public void addObject() throws Exception {
+        if (closed) {
+            throw new IllegalStateException("Pool not open");
+        }
+        T object = create();
+        if (null == object) {
+            return;
+        }
+        if (pushShared(object)) {
+            signalWaiter();
+        } else {
+            destroy(object);
+        }
+    }
+
+    /**
+     * 关闭对象池，销毁共享栈和所有线程本地缓存中的对象，并唤醒等待的线程；
+     * 关闭后归还的对象直接销毁
+     */
+    @Override
+    public void close() {
+        closed = true;
+        clear();
+        localCaches.remove();
+        synchronized (waitLock) {
+            waitLock.notifyAll();
+        }
+        if (null != borrowedObjects && !borrowedObjects.isEmpty()) {
+            reportLeaks(0L);
+        }
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * 获取已借出未归还的实例数目；未开启泄漏跟踪时，线程本地缓存中的对象也计入其中
+     */
+    @Override
+    public int getNumActive() {
+        if (null != borrowedObjects) {
+            return borrowedObjects.size();
+        }
+        return Math.max(liveCount.get() - sharedSize.get(), 0);
+    }
+
+    /**
+     * 获取共享栈中空闲的实例数目，不包括线程本地缓存中的对象
+     */
+    @Override
+    public int getNumIdle() {
+        return sharedSize.get();
+    }
+
+    @Override
+    public int getNumWaiters() {
+        return waiters.get();
+    }
+
+    @Override
+    public long getMeanBorrowWaitTimeMillis() {
+        return 0L;
+    }
+
+    @Override
+    public long getMaxBorrowWaitTimeMillis() {
+        return 0L;
+    }
+
+    /**
+     * 获取已创建的对象数
+     *
+     * @return 已创建的对象数
+     * @since 2.0.0
+     */
+    public long getCreatedCount() {
+        return createdCount.get();
+    }
+
+    /**
+     * 获取已销毁的对象数
+     *
+     * @return 已销毁的对象数
+     * @since 2.0.0
+     */
+    public long getDestroyedCount() {
+        return destroyedCount.get();
+    }
+
+    /**
+     * 输出借出时间超过指定毫秒数仍未归还的对象，包括借出线程和借出位置；
+     * 未开启泄漏跟踪时返回 -1
+     *
+     * @param leakThresholdMillis 借出时间阈值（单位：毫秒）
+     * @return 借出超时未归还的对象数
+     * @since 2.0.0
+     */
+    public int reportLeaks(long leakThresholdMillis) {
+        if (null == borrowedObjects) {
+            return -1;
+        }
+        List<Map.Entry<T, LeakRecord>> entries;
+        synchronized (borrowedObjects) {
+            entries = new ArrayList<>(borrowedObjects.entrySet());
+        }
+        long now = System.currentTimeMillis();
+        int leaks = 0;
+        for (Map.Entry<T, LeakRecord> entry : entries) {
+            LeakRecord leakRecord = entry.getValue();
+            long borrowedMillis = now - leakRecord.borrowTime;
+            if (borrowedMillis >= leakThresholdMillis) {
+                leaks++;
+                LOGGER.warn1(new Object() {}, "Possible object leak, borrowed {}ms ago by thread [{}], object = {}\n",
+                        borrowedMillis, leakRecord.threadName, entry.getKey(), leakRecord.borrowedAt);
+            }
+        }
+        return leaks;
+    }
+
+    /**
+     * 对象总数达到上限时，先从其他线程的本地缓存中获取空闲对象，
+     * 仍没有时等待其他线程归还或销毁对象
+     */
+    private T awaitObject() throws Exception {
+        T object = stealLocal();
+        if (null != object) {
+            return object;
+        }
+        if (!blockWhenExhausted) {
+            throw new NoSuchElementException("Pool exhausted");
+        }
+        long deadline = System.currentTimeMillis() + maxWaitMillis;
+        waiters.incrementAndGet();
+        try {
+            synchronized (waitLock) {
+                while (true) {
+                    if (closed) {
+                        throw new IllegalStateException("Pool not open");
+                    }
+                    object = popShared();
+                    if (null == object) {
+                        object = create();
+                    }
+                    if (null == object) {
+                        object = stealLocal();
+                    }
+                    if (null != object) {
+                        return object;
+                    }
+                    if (maxWaitMillis < 0) {
+                        waitLock.wait();
+                    } else {
+                        long remaining = deadline - System.currentTimeMillis();
+                        if (remaining <= 0) {
+                            throw new NoSuchElementException("Timeout waiting for idle object");
+                        }
+                        waitLock.wait(remaining);
+                    }
+                }
+            }
+        } finally {
+            waiters.decrementAndGet();
+        }
+    }
+
+    /**
+     * 从所有线程的本地缓存中获取一个空闲对象，顺带移除所属线程已结束的空缓存
+     */
+    private T stealLocal() {
+        for (LocalCache<T> localCache : allLocalCaches) {
+            T object = localCache.pop();
+            if (null != object) {
+                return object;
+            }
+            if (!localCache.isOwnerAlive()) {
+                allLocalCaches.remove(localCache);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 销毁共享栈和所有线程本地缓存中的对象
+     */
+    private void clear() {
+        T object;
+        while (null != (object = popShared())) {
+            destroy(object);
+        }
+        for (LocalCache<T> localCache : allLocalCaches) {
+            while (null != (object = localCache.pop())) {
+                destroy(object);
+            }
+        }
+    }
+
+    /**
+     * 对象总数未达到上限时新建对象，否则返回 null
+     */
+    private T create() throws Exception {
+        int live;
+        do {
+            live = liveCount.get();
+            if (live >= maxTotal) {
+                return null;
+            }
+        } while (!liveCount.compareAndSet(live, live + 1));
+        T object;
+        try {
+            object = factory.makeObject().getObject();
+        } catch (Exception e) {
+            liveCount.decrementAndGet();
+            signalWaiter();
+            throw e;
+        }
+        createdCount.incrementAndGet();
+        return object;
+    }
+
+    private void destroy(T object) {
+        destroyedCount.incrementAndGet();
+        try {
+            factory.destroyObject(new DefaultPooledObject<>(object));
+        } catch (Exception e) {
+            LOGGER.error1(new Object() {}, "Could not destroy the object instance, Exception :\n", e);
+        } finally {
+            liveCount.decrementAndGet();
+            signalWaiter();
+        }
+    }
+
+    private void signalWaiter() {
+        if (waiters.get() > 0) {
+            synchronized (waitLock) {
+                waitLock.notify();
+            }
+        }
+    }
+
+    private boolean pushShared(T object) {
+        if (sharedSize.incrementAndGet() > maxShared) {
+            sharedSize.decrementAndGet();
+            return false;
+        }
+        Node<T> node = new Node<>(object);
+        do {
+            node.next = sharedHead.get();
+        } while (!sharedHead.compareAndSet(node.next, node));
+        return true;
+    }
+
+    private T popShared() {
+        Node<T> head;
+        do {
+            head = sharedHead.get();
+            if (null == head) {
+                return null;
+            }
+        } while (!sharedHead.compareAndSet(head, head.next));
+        sharedSize.decrementAndGet();
+        return head.item;
+    }
+
+    /**
+     * 共享栈节点
+     */
+    private static final class Node<T> {
+
+        private final T item;
+
+        private Node<T> next;
+
+        private Node(T item) {
+            this.item = item;
+        }
+    }
+
+    /**
+     * 线程本地缓存，通常仅由所属线程访问，对象总数达到上限或关闭对象池时由其他线程访问
+     */
+    private static final class LocalCache<T> {
+
+        private final WeakReference<Thread> owner = new WeakReference<>(Thread.currentThread()); // 所属线程
+
+        private final Object[] elements;
+
+        private int size;
+
+        private LocalCache(int capacity) {
+            this.elements = new Object[capacity];
+        }
+
+        private boolean isOwnerAlive() {
+            Thread thread = owner.get();
+            return null != thread && thread.isAlive();
+        }
+
+        @SuppressWarnings("unchecked")
+        private synchronized T pop() {
+            if (0 == size) {
+                return null;
+            }
+            T element = (T) elements[--size];
+            elements[size] = null;
+            return element;
+        }
+
+        private synchronized boolean push(T element) {
+            if (size == elements.length) {
+                return false;
+            }
+            elements[size++] = element;
+            return true;
+        }
+    }
+
+    /**
+     * 泄漏跟踪记录
+     */
+    private static final class LeakRecord {
+
+        private final String threadName = Thread.currentThread().getName(); // 借出线程
+
+        private final long borrowTime = System.currentTimeMillis(); // 借出时间
+
+        private final Throwable borrowedAt = new Throwable("Borrowed at"); // 借出位置
+    }
+}
@@ -3,6 +3,7 @@ package com.huazie.fleaframework.common.pool;
 import com.huazie.fleaframework.common.slf4j.FleaLogger;
 import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
 import com.huazie.fleaframework.common.util.ObjectUtils;
+import com.huazie.fleaframework.common.CommonConstants;
 import org.apache.commons.pool2.PooledObjectFactory;
 import org.apache.commons.pool2.impl.GenericObjectPool;
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
@@ -12,15 +13,19 @@ import java.io.Closeable;
 /**
  * Flea Object Pool
  *
+ * <p> 对象池实现由对象池配置中的对象池类型决定，参见 {@link FleaObjectPoolConfig}。
+ *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public abstract class FleaObjectPool<T> implements Closeable {
 
     private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaObjectPool.class);
 
-    protected GenericObjectPool<T> fleaObjectPool; // 内部Flea对象池对象
+    protected GenericObjectPool<T> fleaObjectPool; // 内部Flea对象池对象，对象池实现不是通用对象池时为 null
+
+    private IFleaObjectPoolBackend<T> objectPoolBackend; // 内部Flea对象池实现
 
     /**
      * 外部可调用initFleaObjectPool方法初始化
@@ -43,7 +48,7 @@ public abstract class FleaObjectPool<T> implements Closeable {
      * @return <code>true</code> : 对象池实例已关闭
      */
     public boolean isClosed() {
-        return fleaObjectPool.isClosed();
+        return objectPoolBackend.isClosed();
     }
 
     /**
@@ -54,10 +59,43 @@ public abstract class FleaObjectPool<T> implements Closeable {
      * @since 1.0.0
      */
     public void initFleaObjectPool(final GenericObjectPoolConfig poolConfig, PooledObjectFactory<T> factory) {
-        if (ObjectUtils.isNotEmpty(fleaObjectPool)) {
+        if (ObjectUtils.isNotEmpty(objectPoolBackend)) {
             closeFleaObjectPool();
         }
-        fleaObjectPool = new GenericObjectPool<>(factory, poolConfig);
+        objectPoolBackend = newObjectPoolBackend(poolConfig, factory);
+        if (objectPoolBackend instanceof FleaGenericPoolBackend) {
+            fleaObjectPool = ((FleaGenericPoolBackend<T>) objectPoolBackend).getGenericObjectPool();
+        } else {
+            fleaObjectPool = null;
+        }
+    }
+
+    /**
+     * 根据对象池配置中的对象池类型，新建对象池实现
+     *
+     * @param poolConfig 对象池配置
+     * @param factory    池化对象工厂类
+     * @return 对象池实现
+     * @since 2.0.0
+     */
+    protected IFleaObjectPoolBackend<T> newObjectPoolBackend(GenericObjectPoolConfig poolConfig, PooledObjectFactory<T> factory) {
+        if (poolConfig instanceof FleaObjectPoolConfig) {
+            FleaObjectPoolConfig fleaObjectPoolConfig = (FleaObjectPoolConfig) poolConfig;
+            if (CommonConstants.FleaPoolConstants.POOL_TYPE_LOCAL.equalsIgnoreCase(fleaObjectPoolConfig.getPoolType())) {
+                return new FleaLocalPoolBackend<>(factory, fleaObjectPoolConfig);
+            }
+        }
+        return new FleaGenericPoolBackend<>(factory, poolConfig);
+    }
+
+    /**
+     * 获取内部Flea对象池实现
+     *
+     * @return 内部Flea对象池实现
+     * @since 2.0.0
+     */
+    public IFleaObjectPoolBackend<T> getObjectPoolBackend() {
+        return objectPoolBackend;
     }
 
     /**
@@ -69,7 +107,7 @@ public abstract class FleaObjectPool<T> implements Closeable {
     public T getFleaObject() {
         T object = null;
         try {
-            object = fleaObjectPool.borrowObject();
+            object = objectPoolBackend.borrowObject();
         } catch (Exception e) {
             LOGGER.error("Could not get a object instance from the pool, Exception :\n", e);
         }
@@ -87,7 +125,7 @@ public abstract class FleaObjectPool<T> implements Closeable {
             return;
         }
         try {
-            fleaObjectPool.returnObject(object);
+            objectPoolBackend.returnObject(object);
         } catch (Exception e) {
             LOGGER.error1(new Object() {}, "Could not return the object instance to the pool, Exception :\n", e);
         }
@@ -112,8 +150,8 @@ public abstract class FleaObjectPool<T> implements Closeable {
      */
     protected void closeFleaObjectPool() {
         try {
-            if (ObjectUtils.isNotEmpty(fleaObjectPool)) {
-                fleaObjectPool.close();
+            if (ObjectUtils.isNotEmpty(objectPoolBackend)) {
+                objectPoolBackend.close();
             }
         } catch (Exception e) {
             LOGGER.error("Could not close the pool, Exception :\n", e);
@@ -127,7 +165,7 @@ public abstract class FleaObjectPool<T> implements Closeable {
      * @since 1.0.0
      */
     public int getNumActive() {
-        return isPoolInActive() ? -1 : fleaObjectPool.getNumActive();
+        return isPoolInActive() ? -1 : objectPoolBackend.getNumActive();
     }
 
     /**
@@ -137,7 +175,7 @@ public abstract class FleaObjectPool<T> implements Closeable {
      * @since 1.0.0
      */
     public int getNumIdle() {
-        return isPoolInActive() ? -1 : fleaObjectPool.getNumIdle();
+        return isPoolInActive() ? -1 : objectPoolBackend.getNumIdle();
     }
 
     /**
@@ -147,7 +185,7 @@ public abstract class FleaObjectPool<T> implements Closeable {
      * @since 1.0.0
      */
     public int getNumWaiters() {
-        return isPoolInActive() ? -1 : fleaObjectPool.getNumWaiters();
+        return isPoolInActive() ? -1 : objectPoolBackend.getNumWaiters();
     }
 
     /**
@@ -157,7 +195,7 @@ public abstract class FleaObjectPool<T> implements Closeable {
      * @since 1.0.0
      */
     public long getMeanBorrowWaitTimeMillis() {
-        return isPoolInActive() ? -1 : fleaObjectPool.getMeanBorrowWaitTimeMillis();
+        return isPoolInActive() ? -1 : objectPoolBackend.getMeanBorrowWaitTimeMillis();
     }
 
     /**
@@ -167,7 +205,7 @@ public abstract class FleaObjectPool<T> implements Closeable {
      * @since 1.0.0
      */
     public long getMaxBorrowWaitTimeMillis() {
-        return isPoolInActive() ? -1 : fleaObjectPool.getMaxBorrowWaitTimeMillis();
+        return isPoolInActive() ? -1 : objectPoolBackend.getMaxBorrowWaitTimeMillis();
     }
 
     /**
@@ -176,7 +214,7 @@ public abstract class FleaObjectPool<T> implements Closeable {
      * @return <code>true</code>, 对象池没有创建或已关闭
      */
     private boolean isPoolInActive() {
-        return ObjectUtils.isEmpty(fleaObjectPool) || isClosed();
+        return ObjectUtils.isEmpty(objectPoolBackend) || isClosed();
     }
 
     /**
@@ -188,7 +226,7 @@ public abstract class FleaObjectPool<T> implements Closeable {
     public void addFleaObjects(int count) {
         try {
             for (int i = 0; i < count; i++) {
-                fleaObjectPool.addObject();
+                objectPoolBackend.addObject();
             }
         } catch (Exception e) {
             LOGGER.error1(new Object() {}, "Error trying to add idle objects, Exception :\n", e);
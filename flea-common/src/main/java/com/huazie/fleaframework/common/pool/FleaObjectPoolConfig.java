@@ -1,16 +1,28 @@
 package com.huazie.fleaframework.common.pool;
 
+import com.huazie.fleaframework.common.CommonConstants;
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 
 /**
  * Flea对象池配置
  *
+ * <p> 对象池类型 {@code poolType} 用于选择对象池实现，默认为 {@code generic}，
+ * 即 commons-pool2 通用对象池；{@code local} 为线程本地缓存对象池，
+ * 此时 {@code maxIdle} 为共享栈最多缓存的对象数，并使用
+ * {@code localCacheSize} 和 {@code leakTracking} 配置。
+ *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public class FleaObjectPoolConfig extends GenericObjectPoolConfig {
 
+    private String poolType = CommonConstants.FleaPoolConstants.POOL_TYPE_GENERIC; // 对象池类型
+
+    private int localCacheSize = CommonConstants.FleaPoolConstants.DEFAULT_LOCAL_CACHE_SIZE; // 每个线程本地缓存的对象数
+
+    private boolean leakTracking; // 是否开启泄漏跟踪
+
     /**
      * 无参构造方法，初始化部分默认配置
      *
@@ -29,4 +41,64 @@ public class FleaObjectPoolConfig extends GenericObjectPoolConfig {
         setNumTestsPerEvictionRun(-1);
     }
 
+    /**
+     * 获取对象池类型
+     *
+     * @return 对象池类型【generic：通用对象池，local：线程本地缓存对象池】
+     * @since 2.0.0
+     */
+    public String getPoolType() {
+        return poolType;
+    }
+
+    /**
+     * 设置对象池类型
+     *
+     * @param poolType 对象池类型【generic：通用对象池，local：线程本地缓存对象池】
+     * @since 2.0.0
+     */
+    public void setPoolType(String poolType) {
+        this.poolType = poolType;
+    }
+
+    /**
+     * 获取每个线程本地缓存的对象数
+     *
+     * @return 每个线程本地缓存的对象数
+     * @since 2.0.0
+     */
+    public int getLocalCacheSize() {
+        return localCacheSize;
+    }
+
+    /**
+     * 设置每个线程本地缓存的对象数
+     *
+     * @param localCacheSize 每个线程本地缓存的对象数
+     * @since 2.0.0
+     */
+    public void setLocalCacheSize(int localCacheSize) {
+        this.localCacheSize = localCacheSize;
+    }
+
+    /**
+     * 是否开启泄漏跟踪
+     *
+     * @return true：开启
+     * @since 2.0.0
+     */
+    public boolean isLeakTracking() {
+        return leakTracking;
+    }
+
+    /**
+     * 设置是否开启泄漏跟踪
+     *
+     * @param leakTracking true：开启
+     * @since 2.0.0
+     */
+    public void setLeakTracking(boolean leakTracking) {
+        this.leakTracking = leakTracking;
+    }
+
 }
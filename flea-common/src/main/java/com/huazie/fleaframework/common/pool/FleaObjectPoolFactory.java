@@ -8,6 +8,7 @@ import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
 import com.huazie.fleaframework.common.util.ObjectUtils;
 import com.huazie.fleaframework.common.util.ReflectUtils;
 import com.huazie.fleaframework.common.util.StringUtils;
+import com.huazie.fleaframework.common.util.concurrent.FleaRegistry;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -15,17 +16,22 @@ import java.util.concurrent.ConcurrentMap;
 /**
  * Flea对象池工厂
  *
+ * <p> 对象池按【对象Class => 对象池名】两级缓存，获取已创建的对象池时无锁，
+ * 也无需拼接缓存键；首次获取时创建对象池，同一对象池只创建一次，
+ * 不同对象池并发创建，互不阻塞。
+ *
+ * <p> 应用停止时，由 {@code FleaObjectPoolSpringBean} 调用 {@link #closeFleaObjectPools()}
+ * 按创建的逆序关闭所有对象池。
+ *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public class FleaObjectPoolFactory {
 
     private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaObjectPoolFactory.class);
 
-    private static final ConcurrentMap<String, FleaObjectPool> fleaObjectPools = new ConcurrentHashMap<>();
-
-    private static final Object objectPoolLock = new Object();
+    private static final ConcurrentMap<Class<?>, FleaRegistry<String, FleaObjectPool>> fleaObjectPools = new ConcurrentHashMap<>();
 
     private FleaObjectPoolFactory() {
     }
@@ -51,21 +57,27 @@ public class FleaObjectPoolFactory {
      * @return 指定对象池名的Flea对象池
      * @since 1.0.0
      */
-    public static <T extends FleaObjectPool> T getFleaObjectPool(String poolName, Class<?> objClazz, Class<T> objPoolClazz) {
+    public static <T extends FleaObjectPool> T getFleaObjectPool(String poolName, final Class<?> objClazz, Class<T> objPoolClazz) {
         if (StringUtils.isBlank(poolName) || ObjectUtils.isEmpty(objClazz)) {
             return null;
         }
-        String poolNameKey = poolName + CommonConstants.SymbolConstants.UNDERLINE + objClazz.getName();
-        LOGGER.debug1(new Object() {}, "Pool Name Key = {}", poolNameKey);
-        if (!fleaObjectPools.containsKey(poolNameKey)) {
-            synchronized (objectPoolLock) {
-                if (!fleaObjectPools.containsKey(poolNameKey)) {
-                    fleaObjectPools.put(poolNameKey, build(poolName, objClazz));
-                }
+        FleaRegistry<String, FleaObjectPool> namedPools = fleaObjectPools.get(objClazz);
+        if (ObjectUtils.isEmpty(namedPools)) {
+            FleaRegistry<String, FleaObjectPool> newNamedPools = new FleaRegistry<>(objClazz.getName());
+            namedPools = fleaObjectPools.putIfAbsent(objClazz, newNamedPools);
+            if (ObjectUtils.isEmpty(namedPools)) {
+                namedPools = newNamedPools;
             }
         }
 
-        Object objPool = fleaObjectPools.get(poolNameKey);
+        FleaObjectPool objPool = namedPools.get(poolName, new FleaRegistry.Loader<String, FleaObjectPool>() {
+            @Override
+            public FleaObjectPool load(String poolName) {
+                LOGGER.debug1(new Object() {}, "Pool Name Key = {}", poolName + CommonConstants.SymbolConstants.UNDERLINE + objClazz.getName());
+                return build(poolName, objClazz);
+            }
+        });
+
         if (objPoolClazz.isInstance(objPool)) {
             return objPoolClazz.cast(objPool);
         } else {
@@ -73,6 +85,18 @@ public class FleaObjectPoolFactory {
         }
     }
 
+    /**
+     * 关闭所有已创建的Flea对象池，每个对象Class的对象池按创建的逆序关闭，
+     * 关闭后再次获取时重新创建
+     *
+     * @since 2.0.0
+     */
+    public static void closeFleaObjectPools() {
+        for (FleaRegistry<String, FleaObjectPool> namedPools : fleaObjectPools.values()) {
+            namedPools.close();
+        }
+    }
+
     /**
      * 初始化Flea对象池创建
      *
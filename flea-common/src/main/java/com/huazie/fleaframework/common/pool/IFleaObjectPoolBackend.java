@@ -0,0 +1,98 @@
+package com.huazie.fleaframework.common.pool;
+
+/**
+ * Flea对象池实现接口，{@link FleaObjectPool} 根据对象池配置
+ * {@link FleaObjectPoolConfig#getPoolType()} 选择具体实现：
+ * <ul>
+ *     <li> {@code generic}：{@link FleaGenericPoolBackend}，基于 commons-pool2 通用对象池 </li>
+ *     <li> {@code local}：{@link FleaLocalPoolBackend}，基于线程本地缓存和无锁共享栈 </li>
+ * </ul>
+ *
+ * @param <T> 池化对象类型
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public interface IFleaObjectPoolBackend<T> {
+
+    /**
+     * 从对象池中获取一个对象实例
+     *
+     * @return 池化的对象实例
+     * @throws Exception 获取失败
+     * @since 2.0.0
+     */
+    T borrowObject() throws Exception;
+
+    /**
+     * 将对象实例归还给对象池
+     *
+     * @param object 对象实例
+     * @throws Exception 归还失败
+     * @since 2.0.0
+     */
+    void returnObject(T object) throws Exception;
+
+    /**
+     * 添加一个空闲对象
+     *
+     * @throws Exception 添加失败
+     * @since 2.0.0
+     */
+    void addObject() throws Exception;
+
+    /**
+     * 关闭对象池
+     *
+     * @since 2.0.0
+     */
+    void close();
+
+    /**
+     * 对象池是否已关闭
+     *
+     * @return true：已关闭
+     * @since 2.0.0
+     */
+    boolean isClosed();
+
+    /**
+     * 获取已借出未归还的实例数目
+     *
+     * @return 已借出未归还的实例数目
+     * @since 2.0.0
+     */
+    int getNumActive();
+
+    /**
+     * 获取对象池中空闲的实例数目
+     *
+     * @return 空闲的实例数目
+     * @since 2.0.0
+     */
+    int getNumIdle();
+
+    /**
+     * 获取阻塞等待的线程数的估计值
+     *
+     * @return 等待的线程数
+     * @since 2.0.0
+     */
+    int getNumWaiters();
+
+    /**
+     * 获取从对象池中获取对象的平均等待时间
+     *
+     * @return 平均等待时间（单位：ms）
+     * @since 2.0.0
+     */
+    long getMeanBorrowWaitTimeMillis();
+
+    /**
+     * 获取从对象池中获取对象的最大等待时间
+     *
+     * @return 最大等待时间（单位：ms）
+     * @since 2.0.0
+     */
+    long getMaxBorrowWaitTimeMillis();
+}
@@ -0,0 +1,28 @@
+package com.huazie.fleaframework.common.pool.bean;
+
+import com.huazie.fleaframework.common.pool.FleaObjectPoolFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+
+/**
+ * Flea对象池 Spring Bean，应用关闭时关闭Flea对象池工厂创建的所有对象池，
+ * 如 Flea JPA查询对象池。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+@Component
+public class FleaObjectPoolSpringBean {
+
+    /**
+     * 应用关闭时，关闭所有已创建的Flea对象池
+     *
+     * @since 2.0.0
+     */
+    @PreDestroy
+    public void destroy() {
+        FleaObjectPoolFactory.closeFleaObjectPools();
+    }
+}
@@ -6,15 +6,17 @@ import com.huazie.fleaframework.common.FleaConfigManager;
 import com.huazie.fleaframework.common.slf4j.FleaLogger;
 import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
 
-import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
 
 /**
  * 日期工具类
  *
+ * <p> 日期的格式化与解析统一由 {@link FleaDateFormatter} 完成，
+ * 同一线程内复用相同格式的日期格式化对象，不再每次调用都创建。
+ *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public class DateUtils {
@@ -74,15 +76,15 @@ public class DateUtils {
      */
     public static String date2String(Date date, String dateFormatStr) {
         String dateStr = null;
-        if (date == null) {
-            date = getCurrentTime();// 默认取当前系统时间
-        }
         if (StringUtils.isBlank(dateFormatStr)) {
             dateFormatStr = DateFormatEnum.DATE_FORMAT_DEFAULT; // 默认的日期格式化类型
         }
-        SimpleDateFormat dateFormat = new SimpleDateFormat(dateFormatStr);
         try {
-            dateStr = dateFormat.format(date);
+            if (date == null) {
+                dateStr = FleaDateFormatter.formatCurrent(dateFormatStr);// 默认取当前系统时间
+            } else {
+                dateStr = FleaDateFormatter.format(date, dateFormatStr);
+            }
         } catch (Exception e) {
             LOGGER.error1(new Object() {}, "DateUtils##date2String 日期转换异常：", e);
         }
@@ -134,8 +136,7 @@ public class DateUtils {
             if (StringUtils.isBlank(dateFormatStr)) {
                 dateFormatStr = DateFormatEnum.DATE_FORMAT_DEFAULT; //默认的日期格式化类型
             }
-            SimpleDateFormat dateFormat = new SimpleDateFormat(dateFormatStr);
-            return dateFormat.parse(dateStr);
+            return FleaDateFormatter.parse(dateStr, dateFormatStr);
         } catch (Exception e) {
             LOGGER.error1(new Object() {}, "DateUtils##string2Date 日期字符串转换异常：", e);
         }
@@ -0,0 +1,324 @@
+package com.huazie.fleaframework.common.util;
+
+import com.huazie.fleaframework.common.CommonConstants;
+import com.huazie.fleaframework.common.DateFormatEnum;
+import com.huazie.fleaframework.common.FleaConfigManager;
+
+import java.text.DecimalFormatSymbols;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+
+/**
+ * Flea 日期格式化器，提供线程安全、可复用的日期格式化与解析。
+ *
+ * <p> {@link SimpleDateFormat} 非线程安全，且创建成本较高；这里按线程、按日期格式
+ * 缓存 {@code SimpleDateFormat}，同一线程内相同格式的格式化和解析复用同一实例，
+ * 每次使用前设置为调用方指定的时区（未指定则为当前的默认时区）。
+ *
+ * <p> 按日期分表常用的 {@code yyyy}、{@code yyyyMM} 和 {@code yyyyMMdd} 三种格式，
+ * 直接从线程内复用的 {@link GregorianCalendar} 中读取年、月、日，按位写入字符数组，
+ * 不再经过 {@code SimpleDateFormat}，结果与 {@code SimpleDateFormat} 一致。
+ *
+ * <p> 格式化当前时间时，若开启了 <b>flea-config.xml</b> 中的【flea-date/current_cache】，
+ * 上述三种格式的结果按线程缓存，同时记录所在年、月、日的起止时间，
+ * 当前时间越过该区间（跨年、跨月、跨日）或默认时区变更后重新计算。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public final class FleaDateFormatter {
+
+    private static final int FIELD_NONE = 0; // 非快速格式化的日期格式
+
+    private static final int FIELD_YEAR = 1; // yyyy
+
+    private static final int FIELD_MONTH = 2; // yyyyMM
+
+    private static final int FIELD_DAY = 3; // yyyyMMdd
+
+    private static final int MAX_FORMATS_PER_THREAD = 64; // 每个线程最多缓存的日期格式数，超出后清空重建
+
+    private static final ThreadLocal<FormatterHolder> HOLDER = new ThreadLocal<FormatterHolder>() {
+        @Override
+        protected FormatterHolder initialValue() {
+            return new FormatterHolder();
+        }
+    };
+
+    private static volatile Boolean currentCacheEnabled;
+
+    private FleaDateFormatter() {
+    }
+
+    /**
+     * 使用默认时区，将日期转换成指定格式的字符串
+     *
+     * @param date    日期对象
+     * @param pattern 日期格式
+     * @return 格式化后的日期字符串
+     * @since 2.0.0
+     */
+    public static String format(Date date, String pattern) {
+        return format(date, pattern, TimeZone.getDefault());
+    }
+
+    /**
+     * 使用指定时区，将日期转换成指定格式的字符串
+     *
+     * @param date     日期对象
+     * @param pattern  日期格式
+     * @param timeZone 时区
+     * @return 格式化后的日期字符串
+     * @since 2.0.0
+     */
+    public static String format(Date date, String pattern, TimeZone timeZone) {
+        FormatterHolder holder = HOLDER.get();
+        int field = getField(pattern);
+        if (FIELD_NONE != field) {
+            String dateStr = holder.formatFast(date.getTime(), field, timeZone);
+            if (null != dateStr) {
+                return dateStr;
+            }
+        }
+        return holder.getDateFormat(pattern, timeZone).format(date);
+    }
+
+    /**
+     * 使用默认时区，将当前系统时间转换成指定格式的字符串
+     *
+     * @param pattern 日期格式
+     * @return 格式化后的当前时间字符串
+     * @since 2.0.0
+     */
+    public static String formatCurrent(String pattern) {
+        return formatCurrent(pattern, System.currentTimeMillis());
+    }
+
+    /**
+     * 使用默认时区，将指定的当前时间转换成指定格式的字符串
+     *
+     * @param pattern           日期格式
+     * @param currentTimeMillis 当前时间毫秒数
+     * @return 格式化后的当前时间字符串
+     * @since 2.0.0
+     */
+    static String formatCurrent(String pattern, long currentTimeMillis) {
+        int field = getField(pattern);
+        if (FIELD_NONE != field && isCurrentCacheEnabled()) {
+            String dateStr = HOLDER.get().formatCurrent(currentTimeMillis, field, TimeZone.getDefault());
+            if (null != dateStr) {
+                return dateStr;
+            }
+        }
+        return format(new Date(currentTimeMillis), pattern);
+    }
+
+    /**
+     * 使用默认时区，将日期字符串转换为日期对象
+     *
+     * @param source  日期字符串
+     * @param pattern 日期格式
+     * @return 转换后的日期对象
+     * @throws ParseException 日期字符串与日期格式不匹配
+     * @since 2.0.0
+     */
+    public static Date parse(String source, String pattern) throws ParseException {
+        return parse(source, pattern, TimeZone.getDefault());
+    }
+
+    /**
+     * 使用指定时区，将日期字符串转换为日期对象
+     *
+     * @param source   日期字符串
+     * @param pattern  日期格式
+     * @param timeZone 时区
+     * @return 转换后的日期对象
+     * @throws ParseException 日期字符串与日期格式不匹配
+     * @since 2.0.0
+     */
+    public static Date parse(String source, String pattern, TimeZone timeZone) throws ParseException {
+        return HOLDER.get().getDateFormat(pattern, timeZone).parse(source);
+    }
+
+    /**
+     * 是否按线程缓存当前年、年月、年月日的格式化结果，
+     * 读取【flea-date/current_cache】配置，未配置默认开启。
+     *
+     * @return true：开启，false：关闭
+     * @since 2.0.0
+     */
+    public static boolean isCurrentCacheEnabled() {
+        if (ObjectUtils.isEmpty(currentCacheEnabled)) {
+            synchronized (FleaDateFormatter.class) {
+                if (ObjectUtils.isEmpty(currentCacheEnabled)) {
+                    String currentCache = FleaConfigManager.getConfigItemValue(CommonConstants.FleaDateConstants.FLEA_DATE,
+                            CommonConstants.FleaDateConstants.CONFIG_ITEM_CURRENT_CACHE);
+                    currentCacheEnabled = !Boolean.FALSE.toString().equalsIgnoreCase(StringUtils.trim(currentCache));
+                }
+            }
+        }
+        return currentCacheEnabled;
+    }
+
+    private static int getField(String pattern) {
+        if (DateFormatEnum.YYYYMMDD.getFormat().equals(pattern)) {
+            return FIELD_DAY;
+        } else if (DateFormatEnum.YYYYMM.getFormat().equals(pattern)) {
+            return FIELD_MONTH;
+        } else if (DateFormatEnum.YYYY.getFormat().equals(pattern)) {
+            return FIELD_YEAR;
+        }
+        return FIELD_NONE;
+    }
+
+    /**
+     * 线程内的日期格式化资源，只被所属线程访问
+     */
+    private static final class FormatterHolder {
+
+        private final Map<String, SimpleDateFormat> dateFormatMap = new HashMap<>();
+
+        private final char[] buffer = new char[8];
+
+        private final CurrentValue[] currentValues = new CurrentValue[FIELD_DAY + 1];
+
+        private Locale locale;
+
+        private Calendar calendar; // 快速格式化使用的日历，仅当默认格式化区域使用公历且数字为阿拉伯数字时可用
+
+        /**
+         * 获取线程内缓存的日期格式化对象，并设置为指定时区；
+         * 默认格式化区域变更后，清空已缓存的日期格式化对象。
+         */
+        SimpleDateFormat getDateFormat(String pattern, TimeZone timeZone) {
+            checkLocale();
+            SimpleDateFormat dateFormat = dateFormatMap.get(pattern);
+            if (null == dateFormat) {
+                dateFormat = new SimpleDateFormat(pattern, locale);
+                if (dateFormatMap.size() >= MAX_FORMATS_PER_THREAD) {
+                    dateFormatMap.clear();
+                }
+                dateFormatMap.put(pattern, dateFormat);
+            }
+            dateFormat.setTimeZone(timeZone);
+            return dateFormat;
+        }
+
+        /**
+         * 按年、年月、年月日快速格式化，不支持时返回 null
+         */
+        String formatFast(long timeMillis, int field, TimeZone timeZone) {
+            checkLocale();
+            if (null == calendar) {
+                return null;
+            }
+            calendar.setTimeZone(timeZone);
+            calendar.setTimeInMillis(timeMillis);
+            int year = calendar.get(Calendar.YEAR);
+            if (year > 9999) {
+                return null;
+            }
+            int len = appendDigits(year, 4, 0);
+            if (field >= FIELD_MONTH) {
+                len = appendDigits(calendar.get(Calendar.MONTH) + 1, 2, len);
+            }
+            if (field >= FIELD_DAY) {
+                len = appendDigits(calendar.get(Calendar.DAY_OF_MONTH), 2, len);
+            }
+            return new String(buffer, 0, len);
+        }
+
+        /**
+         * 格式化当前时间，当前时间仍在缓存的年、月、日区间内时直接返回缓存结果
+         */
+        String formatCurrent(long currentTimeMillis, int field, TimeZone timeZone) {
+            checkLocale();
+            CurrentValue current = currentValues[field];
+            if (null != current && currentTimeMillis >= current.start && currentTimeMillis < current.end
+                    && timeZone.equals(current.timeZone)) {
+                return current.value;
+            }
+
+            String value = formatFast(currentTimeMillis, field, timeZone);
+            if (null == value) {
+                return null;
+            }
+
+            // 计算当前时间所在年、月、日的起止时间
+            calendar.set(Calendar.HOUR_OF_DAY, 0);
+            calendar.set(Calendar.MINUTE, 0);
+            calendar.set(Calendar.SECOND, 0);
+            calendar.set(Calendar.MILLISECOND, 0);
+            if (field <= FIELD_MONTH) {
+                calendar.set(Calendar.DAY_OF_MONTH, 1);
+            }
+            if (field == FIELD_YEAR) {
+                calendar.set(Calendar.MONTH, Calendar.JANUARY);
+            }
+            long start = calendar.getTimeInMillis();
+            calendar.add(field == FIELD_YEAR ? Calendar.YEAR : (field == FIELD_MONTH ? Calendar.MONTH : Calendar.DAY_OF_MONTH), 1);
+            long end = calendar.getTimeInMillis();
+
+            if (currentTimeMillis >= start && currentTimeMillis < end) {
+                if (null == current) {
+                    current = new CurrentValue();
+                    currentValues[field] = current;
+                }
+                current.value = value;
+                current.start = start;
+                current.end = end;
+                current.timeZone = timeZone;
+            }
+            return value;
+        }
+
+        private int appendDigits(int value, int width, int offset) {
+            for (int i = offset + width - 1; i >= offset; i--) {
+                buffer[i] = (char) ('0' + value % 10);
+                value /= 10;
+            }
+            return offset + width;
+        }
+
+        private void checkLocale() {
+            Locale currentLocale = Locale.getDefault(Locale.Category.FORMAT);
+            if (currentLocale.equals(locale)) {
+                return;
+            }
+            locale = currentLocale;
+            dateFormatMap.clear();
+            for (int i = 0; i < currentValues.length; i++) {
+                currentValues[i] = null;
+            }
+            Calendar localeCalendar = Calendar.getInstance(locale);
+            if (GregorianCalendar.class == localeCalendar.getClass()
+                    && '0' == DecimalFormatSymbols.getInstance(locale).getZeroDigit()) {
+                calendar = localeCalendar;
+            } else {
+                calendar = null;
+            }
+        }
+    }
+
+    /**
+     * 当前时间的格式化结果及其有效区间 [start, end)
+     */
+    private static final class CurrentValue {
+
+        private String value;
+
+        private long start;
+
+        private long end;
+
+        private TimeZone timeZone;
+    }
+}
@@ -1,16 +1,31 @@
 package com.huazie.fleaframework.common.util;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.huazie.fleaframework.common.CommonConstants;
+import com.huazie.fleaframework.common.FleaConfigManager;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+
 import java.util.regex.Pattern;
 
 /**
  * 模式匹配工具类
  *
+ * <p> 编译后的正则表达式按【正则表达式 + 匹配标识】缓存，{@link Pattern} 本身不可变且线程安全，
+ * 可被所有线程共享，相同的正则表达式只需编译一次。缓存的最大数量读取 <b>flea-config.xml</b>
+ * 中的【flea-pattern/cache_max_size】配置，超出后淘汰最近最少使用的正则表达式。
+ *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public class PatternMatcherUtils {
 
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(PatternMatcherUtils.class);
+
+    private static volatile Cache<PatternKey, Pattern> patternCache;
+
     private PatternMatcherUtils() {
     }
 
@@ -23,7 +38,104 @@ public class PatternMatcherUtils {
      * @return true：匹配; false：不匹配
      */
     public static boolean matches(String regex, CharSequence input, int flags) {
-        return Pattern.compile(regex, flags).matcher(input).matches();
+        return getPattern(regex, flags).matcher(input).matches();
+    }
+
+    /**
+     * 获取编译后的正则表达式
+     *
+     * @param regex 正则表达式
+     * @return 编译后的正则表达式
+     * @since 2.0.0
+     */
+    public static Pattern getPattern(String regex) {
+        return getPattern(regex, 0);
+    }
+
+    /**
+     * 获取编译后的正则表达式，缓存中不存在则编译并缓存
+     *
+     * @param regex 正则表达式
+     * @param flags 匹配标识
+     * @return 编译后的正则表达式
+     * @since 2.0.0
+     */
+    public static Pattern getPattern(String regex, int flags) {
+        Cache<PatternKey, Pattern> cache = getPatternCache();
+        PatternKey key = new PatternKey(regex, flags);
+        Pattern pattern = cache.getIfPresent(key);
+        if (ObjectUtils.isEmpty(pattern)) {
+            // 正则表达式有误时直接抛出异常，不会缓存
+            pattern = Pattern.compile(regex, flags);
+            cache.put(key, pattern);
+        }
+        return pattern;
     }
 
+    /**
+     * 获取缓存的编译后正则表达式数量
+     *
+     * @return 缓存的正则表达式数量
+     * @since 2.0.0
+     */
+    static long getCacheSize() {
+        return getPatternCache().size();
+    }
+
+    private static Cache<PatternKey, Pattern> getPatternCache() {
+        if (ObjectUtils.isEmpty(patternCache)) {
+            synchronized (PatternMatcherUtils.class) {
+                if (ObjectUtils.isEmpty(patternCache)) {
+                    patternCache = CacheBuilder.newBuilder().maximumSize(getConfigMaxSize()).build();
+                }
+            }
+        }
+        return patternCache;
+    }
+
+    private static long getConfigMaxSize() {
+        long result = CommonConstants.FleaPatternConstants.DEFAULT_CACHE_MAX_SIZE;
+        String maxSize = FleaConfigManager.getConfigItemValue(CommonConstants.FleaPatternConstants.FLEA_PATTERN,
+                CommonConstants.FleaPatternConstants.CONFIG_ITEM_CACHE_MAX_SIZE);
+        if (StringUtils.isNotBlank(maxSize)) {
+            try {
+                result = Math.max(0L, Long.parseLong(maxSize.trim()));
+            } catch (NumberFormatException e) {
+                LOGGER.warn1(new Object() {}, "配置【flea-pattern/cache_max_size = {}】非法，使用默认值", maxSize);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 正则表达式缓存的键，由正则表达式和匹配标识组成
+     */
+    private static final class PatternKey {
+
+        private final String regex;
+
+        private final int flags;
+
+        private PatternKey(String regex, int flags) {
+            this.regex = regex;
+            this.flags = flags;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PatternKey)) {
+                return false;
+            }
+            PatternKey that = (PatternKey) o;
+            return flags == that.flags && regex.equals(that.regex);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * regex.hashCode() + flags;
+        }
+    }
 }
@@ -7,19 +7,34 @@ import com.huazie.fleaframework.common.util.ArrayUtils;
 import com.huazie.fleaframework.common.util.ObjectUtils;
 import com.huazie.fleaframework.common.util.StringUtils;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Flea异步任务
  *
+ * <p> 异步任务执行方法按【执行对象类型、方法名、参数类型】缓存为方法句柄，
+ * 同一方法只在首次执行时查找，后续直接调用方法句柄。
+ *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public class FleaAsyncTask extends FleaRunnable {
 
     private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaAsyncTask.class);
 
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class, Object.class, Object[].class);
+
+    private static final Object[] EMPTY_PARAMS = new Object[0];
+
+    private static final ConcurrentMap<MethodKey, MethodHandle> METHOD_HANDLES = new ConcurrentHashMap<>(); // 方法句柄缓存
+
     private Object asyncTaskExecObj; // 异步任务执行对象
 
     private String methodName; // 方法名
@@ -52,16 +67,43 @@ public class FleaAsyncTask extends FleaRunnable {
 
         try {
             if (isParamCheck()) {
-                Method method = asyncTaskExecObj.getClass().getDeclaredMethod(methodName, paramTypes);
-                method.invoke(asyncTaskExecObj, params);
+                MethodHandle methodHandle = getMethodHandle(asyncTaskExecObj.getClass(), methodName, paramTypes);
+                methodHandle.invokeExact(asyncTaskExecObj, ArrayUtils.isEmpty(params) ? EMPTY_PARAMS : params);
             }
-        } catch (Exception e) {
+        } catch (Error e) {
+            // 虚拟机错误不能吞掉，交由线程的未捕获异常处理
+            throw e;
+        } catch (Throwable e) {
             LOGGER.error("AsyncTask Execute Exception : ", e);
         }
 
         LOGGER.debug("End");
     }
 
+    /**
+     * 获取异步任务执行方法的方法句柄，参数统一为 (Object, Object[])void
+     *
+     * @param clazz      异步任务执行对象类型
+     * @param methodName 方法名
+     * @param paramTypes 方法参数类型数组
+     * @return 方法句柄
+     * @throws NoSuchMethodException  方法不存在
+     * @throws IllegalAccessException 方法不可访问
+     */
+    private static MethodHandle getMethodHandle(Class<?> clazz, String methodName, Class<?>[] paramTypes)
+            throws NoSuchMethodException, IllegalAccessException {
+        MethodKey methodKey = new MethodKey(clazz, methodName, paramTypes);
+        MethodHandle methodHandle = METHOD_HANDLES.get(methodKey);
+        if (ObjectUtils.isEmpty(methodHandle)) {
+            Method method = clazz.getDeclaredMethod(methodName, paramTypes);
+            methodHandle = MethodHandles.lookup().unreflect(method)
+                    .asSpreader(Object[].class, method.getParameterTypes().length)
+                    .asType(INVOKER_TYPE);
+            METHOD_HANDLES.putIfAbsent(methodKey, methodHandle);
+        }
+        return methodHandle;
+    }
+
     /**
      * 参数校验
      *
@@ -92,4 +134,41 @@ public class FleaAsyncTask extends FleaRunnable {
         return isCheck;
     }
 
+    /**
+     * 方法句柄缓存键
+     */
+    private static final class MethodKey {
+
+        private final Class<?> clazz;
+
+        private final String methodName;
+
+        private final Class<?>[] paramTypes;
+
+        private final int hashCode;
+
+        private MethodKey(Class<?> clazz, String methodName, Class<?>[] paramTypes) {
+            this.clazz = clazz;
+            this.methodName = methodName;
+            this.paramTypes = ArrayUtils.isEmpty(paramTypes) ? new Class<?>[0] : paramTypes.clone();
+            this.hashCode = 31 * (31 * clazz.hashCode() + methodName.hashCode()) + Arrays.hashCode(this.paramTypes);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof MethodKey)) {
+                return false;
+            }
+            MethodKey other = (MethodKey) obj;
+            return clazz == other.clazz && methodName.equals(other.methodName) && Arrays.equals(paramTypes, other.paramTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
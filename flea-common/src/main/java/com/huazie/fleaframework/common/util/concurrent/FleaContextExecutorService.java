@@ -0,0 +1,128 @@
+package com.huazie.fleaframework.common.util.concurrent;
+
+import com.huazie.fleaframework.common.FleaContext;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Flea 上下文传递线程池，包装已有的线程池，提交任务时获取提交线程的
+ * {@link FleaContext} 快照，执行时在工作线程中恢复，执行结束后还原工作线程原有的上下文。
+ *
+ * <pre>
+ *   ExecutorService executorService = new FleaContextExecutorService(Executors.newFixedThreadPool(4));
+ * </pre>
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaContextExecutorService implements ExecutorService {
+
+    private final ExecutorService executorService; // 被包装的线程池
+
+    /**
+     * 带参数的构造方法
+     *
+     * @param executorService 被包装的线程池
+     * @since 2.0.0
+     */
+    public FleaContextExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        executorService.execute(FleaContext.wrap(command));
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        return executorService.submit(FleaContext.wrap(task));
+    }
+
+    @Override
+    public <T> Future<T> submit(Runnable task, T result) {
+        return executorService.submit(FleaContext.wrap(task), result);
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        return executorService.submit(FleaContext.wrap(task));
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) throws InterruptedException {
+        return executorService.invokeAll(wrap(tasks));
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit) throws InterruptedException {
+        return executorService.invokeAll(wrap(tasks), timeout, unit);
+    }
+
+    @Override
+    public <T> T invokeAny(Collection<? extends Callable<T>> tasks) throws InterruptedException, ExecutionException {
+        return executorService.invokeAny(wrap(tasks));
+    }
+
+    @Override
+    public <T> T invokeAny(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return executorService.invokeAny(wrap(tasks), timeout, unit);
+    }
+
+    @Override
+    public void shutdown() {
+        executorService.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return executorService.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return executorService.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return executorService.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executorService.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * 获取被包装的线程池
+     *
+     * @return 被包装的线程池
+     * @since 2.0.0
+     */
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * 包装一组任务，同一组任务共用提交线程的一个上下文快照
+     */
+    static <T> List<Callable<T>> wrap(Collection<? extends Callable<T>> tasks) {
+        FleaContext fleaContext = FleaContext.capture();
+        List<Callable<T>> wrappedTasks = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            wrappedTasks.add(fleaContext.bind(task));
+        }
+        return wrappedTasks;
+    }
+}
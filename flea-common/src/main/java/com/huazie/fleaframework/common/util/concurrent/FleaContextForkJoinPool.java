@@ -0,0 +1,128 @@
+package com.huazie.fleaframework.common.util.concurrent;
+
+import com.huazie.fleaframework.common.FleaContext;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+
+/**
+ * Flea 上下文传递 ForkJoinPool，从外部提交任务时获取提交线程的
+ * {@link FleaContext} 快照，在工作线程中恢复后执行，执行结束后还原工作线程原有的上下文。
+ *
+ * <p> 任务内部 fork 的子任务不经过线程池提交，子任务可继承
+ * {@link FleaRecursiveTask} 或 {@link FleaRecursiveAction}，
+ * 在创建时获取父任务所在线程的上下文快照。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaContextForkJoinPool extends ForkJoinPool {
+
+    /**
+     * 并行度为可用处理器数的构造方法
+     *
+     * @since 2.0.0
+     */
+    public FleaContextForkJoinPool() {
+        super();
+    }
+
+    /**
+     * 带参数的构造方法
+     *
+     * @param parallelism 并行度
+     * @since 2.0.0
+     */
+    public FleaContextForkJoinPool(int parallelism) {
+        super(parallelism);
+    }
+
+    @Override
+    public <T> T invoke(ForkJoinTask<T> task) {
+        return super.invoke(wrap(task));
+    }
+
+    @Override
+    public void execute(ForkJoinTask<?> task) {
+        super.execute(wrap(task));
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        super.execute(FleaContext.wrap(task));
+    }
+
+    @Override
+    public <T> ForkJoinTask<T> submit(ForkJoinTask<T> task) {
+        return super.submit(wrap(task));
+    }
+
+    @Override
+    public <T> ForkJoinTask<T> submit(Callable<T> task) {
+        return super.submit(FleaContext.wrap(task));
+    }
+
+    @Override
+    public <T> ForkJoinTask<T> submit(Runnable task, T result) {
+        return super.submit(FleaContext.wrap(task), result);
+    }
+
+    @Override
+    public ForkJoinTask<?> submit(Runnable task) {
+        return super.submit(FleaContext.wrap(task));
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) {
+        return super.invokeAll(FleaContextExecutorService.wrap(tasks));
+    }
+
+    private static <T> ForkJoinTask<T> wrap(ForkJoinTask<T> task) {
+        return new ContextForkJoinTask<>(FleaContext.capture(), task);
+    }
+
+    /**
+     * 恢复上下文快照后执行的 ForkJoinTask，执行结果与被包装的任务一致
+     */
+    private static final class ContextForkJoinTask<T> extends ForkJoinTask<T> {
+
+        private static final long serialVersionUID = -3196745071925658411L;
+
+        private final transient FleaContext fleaContext;
+
+        private final ForkJoinTask<T> task;
+
+        private T result;
+
+        private ContextForkJoinTask(FleaContext fleaContext, ForkJoinTask<T> task) {
+            this.fleaContext = fleaContext;
+            this.task = task;
+        }
+
+        @Override
+        public T getRawResult() {
+            return result;
+        }
+
+        @Override
+        protected void setRawResult(T value) {
+            this.result = value;
+        }
+
+        @Override
+        protected boolean exec() {
+            FleaContext backup = fleaContext.replay();
+            try {
+                result = task.invoke();
+            } finally {
+                backup.restore();
+            }
+            return true;
+        }
+    }
+}
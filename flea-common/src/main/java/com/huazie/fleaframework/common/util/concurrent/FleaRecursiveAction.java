@@ -1,22 +1,33 @@
 package com.huazie.fleaframework.common.util.concurrent;
 
-import com.huazie.fleaframework.common.FleaSessionManager;
+import com.huazie.fleaframework.common.FleaContext;
 import com.huazie.fleaframework.common.IFleaUser;
 
 import java.util.concurrent.RecursiveAction;
 
 /**
- * Flea RecursiveAction
+ * Flea RecursiveAction，创建时获取当前线程的 {@link FleaContext} 快照，
+ * 计算时在工作线程中恢复，计算结束后还原工作线程原有的上下文；
+ * 在父任务中创建的子任务，同样获取到父任务恢复的上下文。
  *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public abstract class FleaRecursiveAction extends RecursiveAction {
 
     private static final long serialVersionUID = -7536024386915815575L;
 
-    private IFleaUser fleaUser; // Flea用户信息
+    private final transient FleaContext fleaContext; // Flea上下文快照
+
+    /**
+     * 无参构造方法，获取当前线程的上下文快照
+     *
+     * @since 2.0.0
+     */
+    public FleaRecursiveAction() {
+        this.fleaContext = FleaContext.capture();
+    }
 
     /**
      * 带参数的构造方法
@@ -25,14 +36,17 @@ public abstract class FleaRecursiveAction extends RecursiveAction {
      * @since 1.0.0
      */
     public FleaRecursiveAction(IFleaUser fleaUser) {
-        this.fleaUser = fleaUser;
+        this.fleaContext = FleaContext.capture(fleaUser);
     }
 
     @Override
     protected void compute() {
-        FleaSessionManager.setUserInfo(fleaUser);
-        subCompute();
-        FleaSessionManager.setUserInfo(null);
+        FleaContext backup = fleaContext.replay();
+        try {
+            subCompute();
+        } finally {
+            backup.restore();
+        }
     }
 
     /**
@@ -0,0 +1,252 @@
+package com.huazie.fleaframework.common.util.concurrent;
+
+import com.huazie.fleaframework.common.exceptions.FleaException;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.ObjectUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Flea注册表，按键缓存首次获取时创建的资源，如连接池、客户端和缓存等。
+ *
+ * <p> 每个键对应一个 {@code FutureTask}，首个放入的线程执行创建，
+ * 同一键的其他线程等待其结果，不同键的创建互不阻塞；
+ * 创建完成后，获取只需读取 {@code ConcurrentMap}，无需加锁。
+ *
+ * <p> 创建失败（抛出异常）或创建结果为空时不缓存，异常原样抛给
+ * 本次等待的所有线程，之后的获取重新创建。
+ *
+ * <p> 资源加载器在创建过程中，不能在同一线程中再次获取正在创建的键
+ * （包括经由其他键间接获取），否则抛出 {@code IllegalStateException}，
+ * 避免该线程永远等待自己的创建结果。
+ *
+ * <p> 关闭注册表时，按创建的逆序释放已创建的资源，
+ * 默认关闭实现了 {@code AutoCloseable} 的资源，子类可重写
+ * {@link #release(Object, Object)} 自定义释放方式。
+ *
+ * @param <K> 键的类型
+ * @param <V> 资源的类型
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaRegistry<K, V> {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaRegistry.class);
+
+    private final String name; // 注册表名
+
+    private final ConcurrentMap<K, LoadTask<V>> entries = new ConcurrentHashMap<>();
+
+    private final Deque<K> createdKeys = new ConcurrentLinkedDeque<>(); // 按创建顺序记录已创建资源的键
+
+    /**
+     * 带参数的构造方法
+     *
+     * @param name 注册表名，用于日志输出
+     * @since 2.0.0
+     */
+    public FleaRegistry(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 获取指定键的资源，不存在时使用资源加载器创建。
+     * 同一键并发获取时，资源加载器只执行一次。
+     *
+     * @param key    键
+     * @param loader 资源加载器
+     * @return 资源，资源加载器返回空时为 null
+     * @since 2.0.0
+     */
+    public V get(final K key, final Loader<K, V> loader) {
+        LoadTask<V> task = entries.get(key);
+        if (ObjectUtils.isEmpty(task)) {
+            LoadTask<V> newTask = new LoadTask<>(new Callable<V>() {
+                @Override
+                public V call() {
+                    V value = loader.load(key);
+                    if (ObjectUtils.isNotEmpty(value)) {
+                        createdKeys.addLast(key);
+                    }
+                    return value;
+                }
+            });
+            task = entries.putIfAbsent(key, newTask);
+            if (ObjectUtils.isEmpty(task)) {
+                task = newTask;
+                // 放入成功的线程负责创建，其他线程等待结果
+                LOGGER.debug1(new Object() {}, "Registry = {}, Create KEY = {}", name, key);
+                newTask.run();
+            }
+        }
+        // 当前线程正在创建该键的资源，等待将永远阻塞
+        if (task.isLoadingBy(Thread.currentThread())) {
+            throw new IllegalStateException("Registry = " + name + ", KEY = " + key + " is being created by the current thread, recursive get is not allowed");
+        }
+        return await(key, task);
+    }
+
+    /**
+     * 获取所有已创建的资源
+     *
+     * @return 已创建的资源集合
+     * @since 2.0.0
+     */
+    public Collection<V> values() {
+        List<V> values = new ArrayList<>(entries.size());
+        for (LoadTask<V> task : entries.values()) {
+            V value = getIfCreated(task);
+            if (ObjectUtils.isNotEmpty(value)) {
+                values.add(value);
+            }
+        }
+        return Collections.unmodifiableList(values);
+    }
+
+    /**
+     * 获取已创建的资源数
+     *
+     * @return 已创建的资源数
+     * @since 2.0.0
+     */
+    public int size() {
+        return values().size();
+    }
+
+    /**
+     * 关闭注册表，按创建的逆序移除并释放所有已创建的资源；
+     * 关闭后注册表仍可使用，再次获取时重新创建。
+     *
+     * @since 2.0.0
+     */
+    public void close() {
+        K key;
+        while (ObjectUtils.isNotEmpty(key = createdKeys.pollLast())) {
+            LoadTask<V> task = entries.remove(key);
+            V value = getIfCreated(task);
+            if (ObjectUtils.isNotEmpty(value)) {
+                try {
+                    release(key, value);
+                } catch (Exception e) {
+                    LOGGER.warn1(new Object() {}, "Registry = {}, Release KEY = {} occurs exception : {}", name, key, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 释放资源，默认关闭实现了 {@code AutoCloseable} 的资源
+     *
+     * @param key   键
+     * @param value 资源
+     * @throws Exception 释放异常
+     * @since 2.0.0
+     */
+    protected void release(K key, V value) throws Exception {
+        if (value instanceof AutoCloseable) {
+            ((AutoCloseable) value).close();
+        }
+    }
+
+    /**
+     * 等待资源创建完成，等待期间不响应中断，返回前恢复中断状态
+     */
+    private V await(K key, LoadTask<V> task) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    V value = task.get();
+                    if (ObjectUtils.isEmpty(value)) {
+                        entries.remove(key, task); // 空结果不缓存
+                    }
+                    return value;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    entries.remove(key, task); // 异常不缓存
+                    Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+                    if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                    throw new FleaException(cause);
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 获取已成功创建的资源，尚未创建完成或创建失败时返回 null
+     */
+    private V getIfCreated(FutureTask<V> task) {
+        if (ObjectUtils.isEmpty(task) || !task.isDone()) {
+            return null;
+        }
+        try {
+            return task.get();
+        } catch (InterruptedException | ExecutionException e) {
+            return null;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 资源创建任务，记录正在执行创建的线程
+     */
+    private static final class LoadTask<V> extends FutureTask<V> {
+
+        private volatile Thread loadingThread; // 正在执行创建的线程
+
+        private LoadTask(Callable<V> callable) {
+            super(callable);
+        }
+
+        @Override
+        public void run() {
+            loadingThread = Thread.currentThread();
+            try {
+                super.run();
+            } finally {
+                loadingThread = null;
+            }
+        }
+
+        private boolean isLoadingBy(Thread thread) {
+            return loadingThread == thread;
+        }
+    }
+
+    /**
+     * 资源加载器，注册表中不存在指定键的资源时，创建该资源
+     *
+     * @param <K> 键的类型
+     * @param <V> 资源的类型
+     * @since 2.0.0
+     */
+    public interface Loader<K, V> {
+
+        V load(K key);
+    }
+}
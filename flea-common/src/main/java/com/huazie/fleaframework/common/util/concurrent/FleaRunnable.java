@@ -1,18 +1,28 @@
 package com.huazie.fleaframework.common.util.concurrent;
 
-import com.huazie.fleaframework.common.FleaSessionManager;
+import com.huazie.fleaframework.common.FleaContext;
 import com.huazie.fleaframework.common.IFleaUser;
 
 /**
- * Flea Runnable
+ * Flea Runnable，创建时获取当前线程的 {@link FleaContext} 快照，
+ * 执行时在执行线程中恢复，执行结束后还原执行线程原有的上下文。
  *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public abstract class FleaRunnable implements Runnable {
 
-    private IFleaUser fleaUser; // Flea用户信息
+    private final FleaContext fleaContext; // Flea上下文快照
+
+    /**
+     * 无参构造方法，获取当前线程的上下文快照
+     *
+     * @since 2.0.0
+     */
+    public FleaRunnable() {
+        this.fleaContext = FleaContext.capture();
+    }
 
     /**
      * 带参数的构造方法
@@ -21,14 +31,17 @@ public abstract class FleaRunnable implements Runnable {
      * @since 1.0.0
      */
     public FleaRunnable(IFleaUser fleaUser) {
-        this.fleaUser = fleaUser;
+        this.fleaContext = FleaContext.capture(fleaUser);
     }
 
     @Override
     public void run() {
-        FleaSessionManager.setUserInfo(fleaUser);
-        subRun();
-        FleaSessionManager.setUserInfo(null);
+        FleaContext backup = fleaContext.replay();
+        try {
+            subRun();
+        } finally {
+            backup.restore();
+        }
     }
 
     /**
@@ -0,0 +1,108 @@
+package com.huazie.fleaframework.common.util.json;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONException;
+import com.alibaba.fastjson.JSONReader;
+import com.alibaba.fastjson.TypeReference;
+import com.huazie.fleaframework.common.util.ObjectUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FastJson 编解码器，采用单例模式。
+ *
+ * <p> FastJson 使用全局的解析配置和序列化配置，各类型的反序列化器和
+ * 序列化器首次使用时创建并缓存，本身即是线程安全的，可被所有线程共享。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FastJsonCodec implements IFleaJsonCodec {
+
+    private static final Type MAP_TYPE = new TypeReference<Map<String, Object>>() {}.getType();
+
+    private static final Type MAP_LIST_TYPE = new TypeReference<List<Map<String, Object>>>() {}.getType();
+
+    private static volatile FastJsonCodec codec;
+
+    private FastJsonCodec() {
+    }
+
+    /**
+     * 获取 FastJson 编解码器
+     *
+     * @return FastJson 编解码器
+     * @since 2.0.0
+     */
+    public static FastJsonCodec getInstance() {
+        if (ObjectUtils.isEmpty(codec)) {
+            synchronized (FastJsonCodec.class) {
+                if (ObjectUtils.isEmpty(codec)) {
+                    codec = new FastJsonCodec();
+                }
+            }
+        }
+        return codec;
+    }
+
+    @Override
+    public <T> T toEntity(String json, Type type) {
+        return JSON.parseObject(json, type);
+    }
+
+    @Override
+    public <T> T toEntity(Reader reader, Type type) {
+        return new JSONReader(reader).readObject(type);
+    }
+
+    @Override
+    public <T> T toEntity(InputStream in, Type type) {
+        try {
+            return JSON.parseObject(in, type);
+        } catch (IOException e) {
+            throw new JSONException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public <T> List<T> toEntityList(String json, Class<T> clazz) {
+        return JSON.parseArray(json, clazz);
+    }
+
+    @Override
+    public Map<String, Object> toMap(String json) {
+        return JSON.parseObject(json, MAP_TYPE);
+    }
+
+    @Override
+    public List<Map<String, Object>> toMapList(String json) {
+        return JSON.parseObject(json, MAP_LIST_TYPE);
+    }
+
+    @Override
+    public String toJsonString(Object object) {
+        return JSON.toJSONString(object);
+    }
+
+    @Override
+    public void toJson(Object object, Writer writer) {
+        JSON.writeJSONString(writer, object);
+    }
+
+    @Override
+    public void toJson(Object object, OutputStream out) {
+        try {
+            JSON.writeJSONString(out, object);
+        } catch (IOException e) {
+            throw new JSONException(e.getMessage(), e);
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package com.huazie.fleaframework.common.util.json;
 
-import com.alibaba.fastjson.JSON;
-import com.alibaba.fastjson.TypeReference;
 import com.huazie.fleaframework.common.exceptions.FleaException;
 import com.huazie.fleaframework.common.slf4j.FleaLogger;
 import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
@@ -13,8 +11,11 @@ import java.util.Map;
 /**
  * FastJson 工具类
  *
+ * <p> 转换委托给 {@link FastJsonCodec}，包含完整 JSON 内容的调试日志，
+ * 仅在开启 DEBUG 级别时才输出。
+ *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public class FastJsonUtils {
@@ -34,16 +35,21 @@ public class FastJsonUtils {
      */
     public static <T> T toEntity(String json, Class<T> clazz) {
         Object obj = new Object() {};
-        LOGGER.debug1(obj, "#F# Json converted to Entity, Json = {}", json);
-        LOGGER.debug1(obj, "#F# Json converted to Entity, Class = {}", clazz);
+        boolean isDebug = LOGGER.isDebugEnabled();
+        if (isDebug) {
+            LOGGER.debug1(obj, "#F# Json converted to Entity, Json = {}", json);
+            LOGGER.debug1(obj, "#F# Json converted to Entity, Class = {}", clazz);
+        }
         T t = null;
         try {
-            t = JSON.parseObject(json, clazz);
+            t = FastJsonCodec.getInstance().toEntity(json, clazz);
         } catch (Exception e) {
             LOGGER.error1(obj, "#F# Json converted to Entity, Exception = ", e);
             ExceptionUtils.throwFleaException(FleaException.class, e);
         }
-        LOGGER.debug1(obj, "#F# Json converted to Entity, Entity = {}", t);
+        if (isDebug) {
+            LOGGER.debug1(obj, "#F# Json converted to Entity, Entity = {}", t);
+        }
         return t;
     }
 
@@ -57,16 +63,21 @@ public class FastJsonUtils {
      */
     public static <T> List<T> toEntityList(String json, Class<T> clazz) {
         Object obj = new Object() {};
-        LOGGER.debug1(obj, "#F# Json converted to EntityList, Json = {}", json);
-        LOGGER.debug1(obj, "#F# Json converted to EntityList, Class = {}", clazz);
+        boolean isDebug = LOGGER.isDebugEnabled();
+        if (isDebug) {
+            LOGGER.debug1(obj, "#F# Json converted to EntityList, Json = {}", json);
+            LOGGER.debug1(obj, "#F# Json converted to EntityList, Class = {}", clazz);
+        }
         List<T> entityList = null;
         try {
-            entityList = JSON.parseArray(json, clazz);
+            entityList = FastJsonCodec.getInstance().toEntityList(json, clazz);
         } catch (Exception e) {
-            LOGGER.error1(obj, "#F# Json converted to EntityList, Exception = ", e);
+            LOGGER.error1(obj, "#F# Json converted to EntityList, Exception = \n", e);
             ExceptionUtils.throwFleaException(FleaException.class, e);
         }
-        LOGGER.debug1(obj, "#F# Json converted to EntityList, EntityList={}", entityList);
+        if (isDebug) {
+            LOGGER.debug1(obj, "#F# Json converted to EntityList, EntityList={}", entityList);
+        }
         return entityList;
     }
 
@@ -79,16 +90,20 @@ public class FastJsonUtils {
      */
     public static Map<String, Object> toMap(String json) {
         Object obj = new Object() {};
-        LOGGER.debug1(obj, "#F# Json converted to Map, Json = {}", json);
+        boolean isDebug = LOGGER.isDebugEnabled();
+        if (isDebug) {
+            LOGGER.debug1(obj, "#F# Json converted to Map, Json = {}", json);
+        }
         Map<String, Object> map = null;
         try {
-            map = JSON.parseObject(json, new TypeReference<Map<String, Object>>() {
-            });
+            map = FastJsonCodec.getInstance().toMap(json);
         } catch (Exception e) {
             LOGGER.error1(obj, "#F# Json converted to Map, Exception = \n", e);
             ExceptionUtils.throwFleaException(FleaException.class, e);
         }
-        LOGGER.debug1(obj, "#F# Json converted to Map, Map = {}", map);
+        if (isDebug) {
+            LOGGER.debug1(obj, "#F# Json converted to Map, Map = {}", map);
+        }
         return map;
     }
 
@@ -101,15 +116,20 @@ public class FastJsonUtils {
      */
     public static List<Map<String, Object>> toMapList(String json) {
         Object obj = new Object() {};
-        LOGGER.debug1(obj, "#F# Json converted to MapList, Json = {}", json);
+        boolean isDebug = LOGGER.isDebugEnabled();
+        if (isDebug) {
+            LOGGER.debug1(obj, "#F# Json converted to MapList, Json = {}", json);
+        }
         List<Map<String, Object>> mapList = null;
         try {
-            mapList = JSON.parseObject(json, new TypeReference<List<Map<String, Object>>>() {});
+            mapList = FastJsonCodec.getInstance().toMapList(json);
         } catch (Exception e) {
-            LOGGER.error1(new Object() {}, "#F# Json converted to MapList, Exception = ", e);
+            LOGGER.error1(obj, "#F# Json converted to MapList, Exception = ", e);
             ExceptionUtils.throwFleaException(FleaException.class, e);
         }
-        LOGGER.debug1(obj, "#F# Json converted to MapList, MapList={}", mapList);
+        if (isDebug) {
+            LOGGER.debug1(obj, "#F# Json converted to MapList, MapList={}", mapList);
+        }
         return mapList;
     }
 
@@ -122,9 +142,14 @@ public class FastJsonUtils {
      */
     public static String toJsonString(Object object) {
         Object obj = new Object() {};
-        LOGGER.debug1(obj, "#F# Object converted to Json String, Object = {}", object);
-        String json = JSON.toJSONString(object);
-        LOGGER.debug1(obj, "#F# Object converted to Json String, Json = {}", json);
+        boolean isDebug = LOGGER.isDebugEnabled();
+        if (isDebug) {
+            LOGGER.debug1(obj, "#F# Object converted to Json String, Object = {}", object);
+        }
+        String json = FastJsonCodec.getInstance().toJsonString(object);
+        if (isDebug) {
+            LOGGER.debug1(obj, "#F# Object converted to Json String, Json = {}", json);
+        }
         return json;
     }
 
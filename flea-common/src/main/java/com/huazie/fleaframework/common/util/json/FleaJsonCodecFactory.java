@@ -0,0 +1,95 @@
+package com.huazie.fleaframework.common.util.json;
+
+import com.huazie.fleaframework.common.CommonConstants;
+import com.huazie.fleaframework.common.FleaConfigManager;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.ObjectUtils;
+import com.huazie.fleaframework.common.util.ReflectUtils;
+import com.huazie.fleaframework.common.util.StringUtils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Flea JSON 编解码器工厂类，按使用处获取 JSON 编解码器。
+ *
+ * <p> 使用处的 JSON 引擎读取 <b>flea-config.xml</b> 中的【flea-json/codec.使用处】配置，
+ * 未配置则读取【flea-json/codec.default】，仍未配置则使用 Gson；
+ * 配置值可以是 {@code gson}、{@code fastjson}，也可以是 {@link IFleaJsonCodec} 的实现类。
+ * 更换某处使用的 JSON 引擎，只需修改配置，无需修改代码。
+ *
+ * <p> 编解码器按使用处缓存，同一使用处的后续获取直接返回缓存的编解码器。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @see IFleaJsonCodec
+ * @since 2.0.0
+ */
+public class FleaJsonCodecFactory {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaJsonCodecFactory.class);
+
+    private static final ConcurrentMap<String, IFleaJsonCodec> codecMap = new ConcurrentHashMap<>();
+
+    private FleaJsonCodecFactory() {
+    }
+
+    /**
+     * 获取默认使用处的 JSON 编解码器
+     *
+     * @return JSON 编解码器
+     * @since 2.0.0
+     */
+    public static IFleaJsonCodec getCodec() {
+        return getCodec(CommonConstants.FleaJsonConstants.USE_SITE_DEFAULT);
+    }
+
+    /**
+     * 获取指定使用处的 JSON 编解码器
+     *
+     * @param useSite 使用处
+     * @return JSON 编解码器
+     * @since 2.0.0
+     */
+    public static IFleaJsonCodec getCodec(String useSite) {
+        IFleaJsonCodec codec = codecMap.get(useSite);
+        if (ObjectUtils.isEmpty(codec)) {
+            codec = newCodec(useSite);
+            IFleaJsonCodec oldCodec = codecMap.putIfAbsent(useSite, codec);
+            if (ObjectUtils.isNotEmpty(oldCodec)) {
+                codec = oldCodec;
+            }
+        }
+        return codec;
+    }
+
+    private static IFleaJsonCodec newCodec(String useSite) {
+        String codecName = getCodecName(useSite);
+        if (StringUtils.isBlank(codecName)) {
+            codecName = getCodecName(CommonConstants.FleaJsonConstants.USE_SITE_DEFAULT);
+        }
+
+        IFleaJsonCodec codec = null;
+        if (StringUtils.isBlank(codecName) || CommonConstants.FleaJsonConstants.CODEC_GSON.equalsIgnoreCase(codecName.trim())) {
+            codec = GsonCodec.getInstance();
+        } else if (CommonConstants.FleaJsonConstants.CODEC_FASTJSON.equalsIgnoreCase(codecName.trim())) {
+            codec = FastJsonCodec.getInstance();
+        } else {
+            Object obj = ReflectUtils.newInstance(codecName.trim());
+            if (obj instanceof IFleaJsonCodec) {
+                codec = (IFleaJsonCodec) obj;
+            } else {
+                LOGGER.warn1(new Object() {}, "JSON编解码器【{}】不存在或未实现 IFleaJsonCodec，使用 Gson 代替", codecName);
+                codec = GsonCodec.getInstance();
+            }
+        }
+        LOGGER.debug1(new Object() {}, "Use Site = {}, JSON Codec = {}", useSite, codec.getClass().getSimpleName());
+        return codec;
+    }
+
+    private static String getCodecName(String useSite) {
+        return FleaConfigManager.getConfigItemValue(CommonConstants.FleaJsonConstants.FLEA_JSON,
+                CommonConstants.FleaJsonConstants.CONFIG_ITEM_CODEC_PREFIX + useSite);
+    }
+}
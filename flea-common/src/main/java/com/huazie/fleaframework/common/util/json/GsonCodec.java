@@ -0,0 +1,218 @@
+package com.huazie.fleaframework.common.util.json;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.huazie.fleaframework.common.CommonConstants;
+import com.huazie.fleaframework.common.FleaConfigManager;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.ObjectUtils;
+import com.huazie.fleaframework.common.util.ReflectUtils;
+import com.huazie.fleaframework.common.util.StringUtils;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Gson 编解码器，采用单例模式，所有线程共享同一个 {@link Gson} 实例。
+ *
+ * <p> {@code Gson} 实例创建时，注册 <b>flea-config.xml</b> 中
+ * 【flea-json/gson_type_adapter_factories】配置的类型适配器工厂；
+ * 各类型的 {@link TypeAdapter} 首次使用时从 {@code Gson} 中获取并缓存，
+ * 后续读写直接使用缓存的类型适配器，框架中的 POJO 只需绑定一次。
+ *
+ * <p> 读取 JSON 时与 {@link Gson#fromJson(String, Type)} 一致，采用宽松模式，
+ * 空文档返回 null，文档读取后存在多余内容时抛出 {@link JsonSyntaxException}；写入 JSON 时与 {@link Gson#toJson(Object)} 一致，按对象的实际类型序列化。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class GsonCodec implements IFleaJsonCodec {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(GsonCodec.class);
+
+    private static final Type MAP_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
+
+    private static final Type MAP_LIST_TYPE = new TypeToken<List<Map<String, Object>>>() {}.getType();
+
+    private static volatile GsonCodec codec;
+
+    private final Gson gson;
+
+    private final ConcurrentMap<Type, TypeAdapter<?>> adapterMap = new ConcurrentHashMap<>();
+
+    private GsonCodec() {
+        gson = newGson();
+    }
+
+    /**
+     * 获取 Gson 编解码器
+     *
+     * @return Gson 编解码器
+     * @since 2.0.0
+     */
+    public static GsonCodec getInstance() {
+        if (ObjectUtils.isEmpty(codec)) {
+            synchronized (GsonCodec.class) {
+                if (ObjectUtils.isEmpty(codec)) {
+                    codec = new GsonCodec();
+                }
+            }
+        }
+        return codec;
+    }
+
+    /**
+     * 获取指定类型的类型适配器，缓存中不存在则从 {@code Gson} 中获取并缓存
+     *
+     * @param type 对象类型
+     * @param <T>  对象的类型
+     * @return 类型适配器
+     * @since 2.0.0
+     */
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> getAdapter(Type type) {
+        TypeAdapter<?> adapter = adapterMap.get(type);
+        if (ObjectUtils.isEmpty(adapter)) {
+            adapter = gson.getAdapter(TypeToken.get(type));
+            TypeAdapter<?> oldAdapter = adapterMap.putIfAbsent(type, adapter);
+            if (ObjectUtils.isNotEmpty(oldAdapter)) {
+                adapter = oldAdapter;
+            }
+        }
+        return (TypeAdapter<T>) adapter;
+    }
+
+    /**
+     * 获取共享的 {@code Gson} 实例
+     *
+     * @return {@code Gson} 实例
+     * @since 2.0.0
+     */
+    public Gson getGson() {
+        return gson;
+    }
+
+    @Override
+    public <T> T toEntity(String json, Type type) {
+        if (ObjectUtils.isEmpty(json)) {
+            return null;
+        }
+        return toEntity(new StringReader(json), type);
+    }
+
+    @Override
+    public <T> T toEntity(Reader reader, Type type) {
+        JsonReader jsonReader = gson.newJsonReader(reader);
+        jsonReader.setLenient(true);
+        boolean isEmpty = true;
+        try {
+            jsonReader.peek();
+            isEmpty = false;
+            TypeAdapter<T> adapter = getAdapter(type);
+            T entity = adapter.read(jsonReader);
+            // 文档需全部读取，不允许存在多余内容
+            if (JsonToken.END_DOCUMENT != jsonReader.peek()) {
+                throw new JsonSyntaxException("JSON document was not fully consumed.");
+            }
+            return entity;
+        } catch (EOFException e) {
+            // 空文档返回 null
+            if (isEmpty) {
+                return null;
+            }
+            throw new JsonSyntaxException(e);
+        } catch (IllegalStateException | IOException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    @Override
+    public <T> T toEntity(InputStream in, Type type) {
+        return toEntity(new InputStreamReader(in, StandardCharsets.UTF_8), type);
+    }
+
+    @Override
+    public <T> List<T> toEntityList(String json, Class<T> clazz) {
+        return toEntity(json, TypeToken.getParameterized(List.class, clazz).getType());
+    }
+
+    @Override
+    public Map<String, Object> toMap(String json) {
+        return toEntity(json, MAP_TYPE);
+    }
+
+    @Override
+    public List<Map<String, Object>> toMapList(String json) {
+        return toEntity(json, MAP_LIST_TYPE);
+    }
+
+    @Override
+    public String toJsonString(Object object) {
+        StringWriter writer = new StringWriter();
+        toJson(object, writer);
+        return writer.toString();
+    }
+
+    @Override
+    public void toJson(Object object, Writer writer) {
+        try {
+            JsonWriter jsonWriter = gson.newJsonWriter(writer);
+            jsonWriter.setLenient(true);
+            if (null == object) {
+                jsonWriter.nullValue();
+            } else {
+                TypeAdapter<Object> adapter = getAdapter(object.getClass());
+                adapter.write(jsonWriter, object);
+            }
+            jsonWriter.flush();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    @Override
+    public void toJson(Object object, OutputStream out) {
+        toJson(object, new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    private static Gson newGson() {
+        GsonBuilder builder = new GsonBuilder();
+        String factoryClasses = FleaConfigManager.getConfigItemValue(CommonConstants.FleaJsonConstants.FLEA_JSON,
+                CommonConstants.FleaJsonConstants.CONFIG_ITEM_GSON_TYPE_ADAPTER_FACTORIES);
+        if (StringUtils.isNotBlank(factoryClasses)) {
+            for (String factoryClass : factoryClasses.split(CommonConstants.SymbolConstants.COMMA)) {
+                Object factory = ReflectUtils.newInstance(factoryClass.trim());
+                if (factory instanceof TypeAdapterFactory) {
+                    builder.registerTypeAdapterFactory((TypeAdapterFactory) factory);
+                } else {
+                    LOGGER.warn1(new Object() {}, "Gson类型适配器工厂【{}】不存在或未实现 TypeAdapterFactory，已忽略", factoryClass);
+                }
+            }
+        }
+        return builder.create();
+    }
+}
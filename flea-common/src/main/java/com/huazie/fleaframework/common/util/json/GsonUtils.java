@@ -1,7 +1,5 @@
 package com.huazie.fleaframework.common.util.json;
 
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
 import com.huazie.fleaframework.common.exceptions.FleaException;
 import com.huazie.fleaframework.common.slf4j.FleaLogger;
 import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
@@ -13,8 +11,11 @@ import java.util.Map;
 /**
  * Gson 工具包
  *
+ * <p> 统一使用共享的 {@link GsonCodec}，不再每次调用都创建 JSON 引擎实例；
+ * 调试日志仅在开启 DEBUG 级别时输出。
+ *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public class GsonUtils {
@@ -34,17 +35,21 @@ public class GsonUtils {
      */
     public static <T> T toEntity(String json, Class<T> clazz) {
         Object obj = new Object() {};
-        LOGGER.debug1(obj, "#G# Json converted to Entity, Json = {}", json);
-        LOGGER.debug1(obj, "#G# Json converted to Entity, Class = {}", clazz);
+        boolean isDebug = LOGGER.isDebugEnabled();
+        if (isDebug) {
+            LOGGER.debug1(obj, "#G# Json converted to Entity, Json = {}", json);
+            LOGGER.debug1(obj, "#G# Json converted to Entity, Class = {}", clazz);
+        }
         T t = null;
         try {
-            Gson gson = new Gson();
-            t = gson.fromJson(json, clazz);
+            t = GsonCodec.getInstance().toEntity(json, clazz);
         } catch (Exception e) {
-            LOGGER.error1(obj, "Json converted to Entity, Exception = ", e);
+            LOGGER.error1(obj, "#G# Json converted to Entity, Exception = ", e);
             ExceptionUtils.throwFleaException(FleaException.class, e);
         }
-        LOGGER.debug1(obj, "#G# Json converted to Entity, Entity = {}", t);
+        if (isDebug) {
+            LOGGER.debug1(obj, "#G# Json converted to Entity, Entity = {}", t);
+        }
         return t;
     }
 
@@ -58,16 +63,21 @@ public class GsonUtils {
      */
     public static <T> List<T> toEntityList(String json, Class<T> clazz) {
         Object obj = new Object() {};
-        LOGGER.debug1(obj, "#G# Json converted to EntityList, Json = {}", json);
-        LOGGER.debug1(obj, "#G# Json converted to EntityList, Class = {}", clazz);
+        boolean isDebug = LOGGER.isDebugEnabled();
+        if (isDebug) {
+            LOGGER.debug1(obj, "#G# Json converted to EntityList, Json = {}", json);
+            LOGGER.debug1(obj, "#G# Json converted to EntityList, Class = {}", clazz);
+        }
         List<T> entityList = null;
         try {
-            entityList = new Gson().fromJson(json, new TypeToken<List<T>>() {}.getType());
+            entityList = GsonCodec.getInstance().toEntityList(json, clazz);
         } catch (Exception e) {
             LOGGER.error1(obj, "#G# Json converted to EntityList, Exception = \n", e);
             ExceptionUtils.throwFleaException(FleaException.class, e);
         }
-        LOGGER.debug1(obj, "#G# Json converted to EntityList, EntityList={}", entityList);
+        if (isDebug) {
+            LOGGER.debug1(obj, "#G# Json converted to EntityList, EntityList={}", entityList);
+        }
         return entityList;
     }
 
@@ -80,15 +90,20 @@ public class GsonUtils {
      */
     public static Map<String, Object> toMap(String json) {
         Object obj = new Object() {};
-        LOGGER.debug1(obj, "#G# Json converted to Map, Json = {}", json);
+        boolean isDebug = LOGGER.isDebugEnabled();
+        if (isDebug) {
+            LOGGER.debug1(obj, "#G# Json converted to Map, Json = {}", json);
+        }
         Map<String, Object> map = null;
         try {
-            map = new Gson().fromJson(json, new TypeToken<Map<String, Object>>() {}.getType());
+            map = GsonCodec.getInstance().toMap(json);
         } catch (Exception e) {
             LOGGER.error1(obj, "#G# Json converted to Map, Exception = \n", e);
             ExceptionUtils.throwFleaException(FleaException.class, e);
         }
-        LOGGER.debug1(obj, "#G# Json converted to Map, Map = {}", map);
+        if (isDebug) {
+            LOGGER.debug1(obj, "#G# Json converted to Map, Map = {}", map);
+        }
         return map;
     }
 
@@ -101,16 +116,20 @@ public class GsonUtils {
      */
     public static List<Map<String, Object>> toMapList(String json) {
         Object obj = new Object() {};
-        LOGGER.debug1(obj, "#G# Json converted to MapList, Json = {}", json);
+        boolean isDebug = LOGGER.isDebugEnabled();
+        if (isDebug) {
+            LOGGER.debug1(obj, "#G# Json converted to MapList, Json = {}", json);
+        }
         List<Map<String, Object>> mapList = null;
         try {
-            Gson gson = new Gson();
-            mapList = gson.fromJson(json, new TypeToken<List<Map<String, Object>>>() {}.getType());
+            mapList = GsonCodec.getInstance().toMapList(json);
         } catch (Exception e) {
             LOGGER.error1(obj, "#G# Json converted to MapList, Exception = ", e);
             ExceptionUtils.throwFleaException(FleaException.class, e);
         }
-        LOGGER.debug1(obj, "#G# Json converted to MapList, MapList={}", mapList);
+        if (isDebug) {
+            LOGGER.debug1(obj, "#G# Json converted to MapList, MapList={}", mapList);
+        }
         return mapList;
     }
 
@@ -123,10 +142,14 @@ public class GsonUtils {
      */
     public static String toJsonString(Object object) {
         Object obj = new Object() {};
-        LOGGER.debug1(obj, "#G# Object converted to Json String, Object = {}", object);
-        Gson gson = new Gson();
-        String json = gson.toJson(object);
-        LOGGER.debug1(obj, "#G# Object converted to Json String, Json = {}", json);
+        boolean isDebug = LOGGER.isDebugEnabled();
+        if (isDebug) {
+            LOGGER.debug1(obj, "#G# Object converted to Json String, Object = {}", object);
+        }
+        String json = GsonCodec.getInstance().toJsonString(object);
+        if (isDebug) {
+            LOGGER.debug1(obj, "#G# Object converted to Json String, Json = {}", json);
+        }
         return json;
     }
 }
@@ -0,0 +1,114 @@
+package com.huazie.fleaframework.common.util.json;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flea JSON 编解码器接口，屏蔽具体的 JSON 引擎（Gson、FastJson 等）。
+ *
+ * <p> 实现类必须是线程安全的，同一个实例可被所有线程共享；
+ * 字节流均按 UTF-8 编码读写，读写流时不关闭传入的流。
+ *
+ * <p> 转换出错时抛出所用 JSON 引擎的运行时异常。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @see FleaJsonCodecFactory
+ * @since 2.0.0
+ */
+public interface IFleaJsonCodec {
+
+    /**
+     * 将 JSON 字符串转换为指定类型的对象
+     *
+     * @param json JSON 字符串
+     * @param type 对象类型
+     * @param <T>  对象的类型
+     * @return 对象
+     * @since 2.0.0
+     */
+    <T> T toEntity(String json, Type type);
+
+    /**
+     * 从字符输入流中读取 JSON，并转换为指定类型的对象
+     *
+     * @param reader 字符输入流
+     * @param type   对象类型
+     * @param <T>    对象的类型
+     * @return 对象
+     * @since 2.0.0
+     */
+    <T> T toEntity(Reader reader, Type type);
+
+    /**
+     * 从字节输入流中读取 JSON，并转换为指定类型的对象
+     *
+     * @param in   字节输入流
+     * @param type 对象类型
+     * @param <T>  对象的类型
+     * @return 对象
+     * @since 2.0.0
+     */
+    <T> T toEntity(InputStream in, Type type);
+
+    /**
+     * 将 JSON 数组字符串转换为指定类的对象集合
+     *
+     * @param json  JSON 数组字符串
+     * @param clazz 集合元素的Class对象
+     * @param <T>   集合元素的类型
+     * @return 对象集合
+     * @since 2.0.0
+     */
+    <T> List<T> toEntityList(String json, Class<T> clazz);
+
+    /**
+     * 将 JSON 字符串转换为Map对象
+     *
+     * @param json JSON 字符串
+     * @return Map对象
+     * @since 2.0.0
+     */
+    Map<String, Object> toMap(String json);
+
+    /**
+     * 将 JSON 数组字符串转换为Map对象的集合
+     *
+     * @param json JSON 数组字符串
+     * @return Map对象的集合
+     * @since 2.0.0
+     */
+    List<Map<String, Object>> toMapList(String json);
+
+    /**
+     * 将对象转换为 JSON 字符串
+     *
+     * @param object 待转换对象
+     * @return JSON 字符串
+     * @since 2.0.0
+     */
+    String toJsonString(Object object);
+
+    /**
+     * 将对象转换为 JSON，并写入字符输出流
+     *
+     * @param object 待转换对象
+     * @param writer 字符输出流
+     * @since 2.0.0
+     */
+    void toJson(Object object, Writer writer);
+
+    /**
+     * 将对象转换为 JSON，并写入字节输出流
+     *
+     * @param object 待转换对象
+     * @param out    字节输出流
+     * @since 2.0.0
+     */
+    void toJson(Object object, OutputStream out);
+}
@@ -3,19 +3,24 @@ package com.huazie.fleaframework.common.util.xml;
 import com.huazie.fleaframework.common.slf4j.FleaLogger;
 import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
-import java.nio.charset.StandardCharsets;
+import java.io.Writer;
 
 /**
  * Java Architecture for XML Binding（JAXB） 工具类
  *
+ * <p> JAXB 上下文按 pojo 类缓存，编组器和解组器按线程复用，
+ * 详见 {@link JAXBContextRegistry}；同时提供直接读写流的方法，
+ * 避免构建中间的 XML 字符串。
+ *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public class JABXUtils {
@@ -35,16 +40,42 @@ public class JABXUtils {
      */
     public static <T> String toXml(T t, boolean isFormat) {
         StringWriter writer = new StringWriter();
+        toXml(t, isFormat, writer);
+        return writer.toString();
+    }
+
+    /**
+     * 将带有JAXB注解的pojo类转换为XML，并写入字符输出流
+     *
+     * @param t        pojo类对象
+     * @param isFormat 是否格式化输出
+     * @param writer   字符输出流
+     * @param <T>      pojo类的类型
+     * @since 2.0.0
+     */
+    public static <T> void toXml(T t, boolean isFormat, Writer writer) {
         try {
-            JAXBContext context = JAXBContext.newInstance(t.getClass());
-            Marshaller marshaller = context.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_ENCODING, StandardCharsets.UTF_8.displayName());
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, isFormat);
-            marshaller.marshal(t, writer);
+            JAXBContextRegistry.getRegistry().getMarshaller(t.getClass(), isFormat).marshal(t, writer);
+        } catch (JAXBException e) {
+            LOGGER.error1(new Object() {}, "实体转XML，出现异常：\n", e);
+        }
+    }
+
+    /**
+     * 将带有JAXB注解的pojo类转换为XML，并以 UTF-8 编码写入字节输出流
+     *
+     * @param t        pojo类对象
+     * @param isFormat 是否格式化输出
+     * @param out      字节输出流
+     * @param <T>      pojo类的类型
+     * @since 2.0.0
+     */
+    public static <T> void toXml(T t, boolean isFormat, OutputStream out) {
+        try {
+            JAXBContextRegistry.getRegistry().getMarshaller(t.getClass(), isFormat).marshal(t, out);
         } catch (JAXBException e) {
             LOGGER.error1(new Object() {}, "实体转XML，出现异常：\n", e);
         }
-        return writer.toString();
     }
 
     /**
@@ -57,19 +88,55 @@ public class JABXUtils {
      * @since 1.0.0
      */
     public static <T> T fromXml(String xml, Class<T> clazz) {
+        return fromXml(new StringReader(xml), clazz);
+    }
+
+    /**
+     * 从字符输入流中读取XML，并转换成对应的pojo类
+     *
+     * @param reader 字符输入流
+     * @param clazz  pojo类的Clazz类型
+     * @param <T>    pojo类的类型
+     * @return pojo类
+     * @since 2.0.0
+     */
+    public static <T> T fromXml(Reader reader, Class<T> clazz) {
         T t = null;
         try {
-            JAXBContext context = JAXBContext.newInstance(clazz);
-            Unmarshaller unmarshaller = context.createUnmarshaller();
-            Object obj = unmarshaller.unmarshal(new StringReader(xml));
+            Unmarshaller unmarshaller = JAXBContextRegistry.getRegistry().getUnmarshaller(clazz);
+            t = cast(unmarshaller.unmarshal(reader), clazz);
+        } catch (JAXBException e) {
+            LOGGER.error1(new Object() {}, "XML转实体，出现异常：\n", e);
+        }
+        return t;
+    }
 
-            if (clazz.isInstance(obj)) {
-                t = clazz.cast(obj);
-            }
+    /**
+     * 从字节输入流中读取XML，并转换成对应的pojo类，字符编码以XML声明为准
+     *
+     * @param in    字节输入流
+     * @param clazz pojo类的Clazz类型
+     * @param <T>   pojo类的类型
+     * @return pojo类
+     * @since 2.0.0
+     */
+    public static <T> T fromXml(InputStream in, Class<T> clazz) {
+        T t = null;
+        try {
+            Unmarshaller unmarshaller = JAXBContextRegistry.getRegistry().getUnmarshaller(clazz);
+            t = cast(unmarshaller.unmarshal(in), clazz);
         } catch (JAXBException e) {
             LOGGER.error1(new Object() {}, "XML转实体，出现异常：\n", e);
         }
         return t;
     }
 
+    private static <T> T cast(Object obj, Class<T> clazz) {
+        T t = null;
+        if (clazz.isInstance(obj)) {
+            t = clazz.cast(obj);
+        }
+        return t;
+    }
+
 }
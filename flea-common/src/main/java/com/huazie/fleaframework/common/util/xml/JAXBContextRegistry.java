@@ -0,0 +1,152 @@
+package com.huazie.fleaframework.common.util.xml;
+
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.ObjectUtils;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * JAXB 上下文注册中心，采用单例模式，按 pojo 类缓存 {@link JAXBContext}。
+ *
+ * <p> {@code JAXBContext} 的创建需要反射解析整个类的绑定模型，开销很大，
+ * 但其本身是线程安全的，每个 pojo 类只需创建一次；
+ * 而 {@link Marshaller} 和 {@link Unmarshaller} 不是线程安全的，
+ * 这里按线程封闭，每个线程对每个 pojo 类各持有一份，首次使用时创建，后续复用。
+ *
+ * <p> 获取的 {@code Marshaller} 和 {@code Unmarshaller} 只能在当前线程内使用，
+ * 不可跨线程传递，也不可在一次编组或解组过程中重入使用。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @see JABXUtils
+ * @since 2.0.0
+ */
+public class JAXBContextRegistry {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(JAXBContextRegistry.class);
+
+    private static volatile JAXBContextRegistry registry;
+
+    private final ConcurrentMap<Class<?>, JAXBBinding> bindingMap = new ConcurrentHashMap<>();
+
+    private JAXBContextRegistry() {
+    }
+
+    /**
+     * 获取 JAXB 上下文注册中心
+     *
+     * @return JAXB 上下文注册中心
+     * @since 2.0.0
+     */
+    public static JAXBContextRegistry getRegistry() {
+        if (ObjectUtils.isEmpty(registry)) {
+            synchronized (JAXBContextRegistry.class) {
+                if (ObjectUtils.isEmpty(registry)) {
+                    registry = new JAXBContextRegistry();
+                }
+            }
+        }
+        return registry;
+    }
+
+    /**
+     * 获取指定 pojo 类的 JAXB 上下文，缓存中不存在则创建并缓存
+     *
+     * @param clazz pojo类的Clazz类型
+     * @return JAXB 上下文
+     * @throws JAXBException JAXB 上下文创建异常
+     * @since 2.0.0
+     */
+    public JAXBContext getContext(Class<?> clazz) throws JAXBException {
+        return getBinding(clazz).context;
+    }
+
+    /**
+     * 获取当前线程下指定 pojo 类的编组器，编码为 UTF-8
+     *
+     * @param clazz    pojo类的Clazz类型
+     * @param isFormat 是否格式化输出
+     * @return 编组器
+     * @throws JAXBException JAXB 异常
+     * @since 2.0.0
+     */
+    public Marshaller getMarshaller(Class<?> clazz, boolean isFormat) throws JAXBException {
+        JAXBBinding binding = getBinding(clazz);
+        ThreadLocal<Marshaller> local = isFormat ? binding.formattedMarshaller : binding.marshaller;
+        Marshaller marshaller = local.get();
+        if (ObjectUtils.isEmpty(marshaller)) {
+            marshaller = binding.context.createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_ENCODING, StandardCharsets.UTF_8.displayName());
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, isFormat);
+            local.set(marshaller);
+        }
+        return marshaller;
+    }
+
+    /**
+     * 获取当前线程下指定 pojo 类的解组器
+     *
+     * @param clazz pojo类的Clazz类型
+     * @return 解组器
+     * @throws JAXBException JAXB 异常
+     * @since 2.0.0
+     */
+    public Unmarshaller getUnmarshaller(Class<?> clazz) throws JAXBException {
+        JAXBBinding binding = getBinding(clazz);
+        Unmarshaller unmarshaller = binding.unmarshaller.get();
+        if (ObjectUtils.isEmpty(unmarshaller)) {
+            unmarshaller = binding.context.createUnmarshaller();
+            binding.unmarshaller.set(unmarshaller);
+        }
+        return unmarshaller;
+    }
+
+    /**
+     * 获取当前缓存的 JAXB 上下文数量
+     *
+     * @return JAXB 上下文数量
+     * @since 2.0.0
+     */
+    public int size() {
+        return bindingMap.size();
+    }
+
+    private JAXBBinding getBinding(Class<?> clazz) throws JAXBException {
+        JAXBBinding binding = bindingMap.get(clazz);
+        if (ObjectUtils.isEmpty(binding)) {
+            // 并发创建时，以先放入缓存的为准
+            JAXBBinding newBinding = new JAXBBinding(JAXBContext.newInstance(clazz));
+            binding = bindingMap.putIfAbsent(clazz, newBinding);
+            if (ObjectUtils.isEmpty(binding)) {
+                binding = newBinding;
+                LOGGER.debug1(new Object() {}, "Create JAXBContext, Class = {}", clazz);
+            }
+        }
+        return binding;
+    }
+
+    /**
+     * pojo 类的 JAXB 绑定，包含 JAXB 上下文和按线程封闭的编组器、解组器
+     */
+    private static final class JAXBBinding {
+
+        private final JAXBContext context;
+
+        private final ThreadLocal<Marshaller> marshaller = new ThreadLocal<>();
+
+        private final ThreadLocal<Marshaller> formattedMarshaller = new ThreadLocal<>();
+
+        private final ThreadLocal<Unmarshaller> unmarshaller = new ThreadLocal<>();
+
+        private JAXBBinding(JAXBContext context) {
+            this.context = context;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.huazie.fleaframework.common;
+
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Flea树测试，包括无序添加、批量构建、过滤视图和10万节点的构建耗时
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaTreeTest {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaTreeTest.class);
+
+    private static final int NODE_COUNT = 100000;
+
+    private static final int FAN_OUT = 10;
+
+    private static final Comparator<Node> NODE_COMPARATOR = new Comparator<Node>() {
+        @Override
+        public int compare(Node o1, Node o2) {
+            return o1.sort - o2.sort;
+        }
+    };
+
+    private static final FleaTree.TreeNodeResolver<Node> NODE_RESOLVER = new FleaTree.TreeNodeResolver<Node>() {
+        @Override
+        public long getId(Node element) {
+            return element.id;
+        }
+
+        @Override
+        public int getHeight(Node element) {
+            return element.height;
+        }
+
+        @Override
+        public long getParentId(Node element) {
+            return element.parentId;
+        }
+    };
+
+    @Test
+    public void testAddTreeNoteOutOfOrder() {
+        List<Node> nodes = sampleNodes();
+
+        FleaTree<Node> tree = newTree();
+        // 子节点先于父节点添加
+        for (int i = nodes.size() - 1; i >= 0; i--) {
+            Node node = nodes.get(i);
+            tree.addTreeNote(node, node.id, node.height, null, node.parentId, node.height - 1);
+        }
+        LOGGER.debug("TREE = \n{}", tree);
+
+        FleaTree<Node> bulkTree = newTree();
+        bulkTree.addTreeNotes(nodes, NODE_RESOLVER);
+
+        Assert.assertEquals(nodes.size() + 1, tree.size());
+        Assert.assertEquals(tree.toString(), bulkTree.toString());
+        Assert.assertEquals(tree.toMapList(true).toString(), bulkTree.toMapList(true).toString());
+        Assert.assertEquals(4, tree.getAllTreeLeafElement().size());
+        Assert.assertEquals("1-1-1", tree.getTreeLeafElement(111L).name);
+        Assert.assertNull(tree.getTreeLeafElement(11L));
+    }
+
+    @Test
+    public void testSameOrderSubNotes() {
+        FleaTree<Node> tree = newTree();
+        // 顺序相同的子节点按添加的先后顺序存储
+        for (long id = 1; id <= 3; id++) {
+            Node node = new Node(id, 2, -1L, 1, "1-" + id);
+            tree.addTreeNote(node, node.id, node.height, null, node.parentId, 1);
+        }
+        LOGGER.debug("TREE = \n{}", tree);
+        Assert.assertEquals(4, tree.size());
+        Assert.assertEquals("ROOT\n├──1-1\n├──1-2\n└──1-3\n", tree.toString());
+    }
+
+    @Test
+    public void testFilterView() {
+        List<Node> nodes = sampleNodes();
+        FleaTree<Node> tree = newTree();
+        tree.addTreeNotes(nodes, NODE_RESOLVER);
+
+        final Set<Long> accepted = new HashSet<>();
+        Collections.addAll(accepted, 1L, 11L, 111L, 112L, 2L);
+        FleaTree<Node> view = newTree();
+        tree.filterTo(view, new FleaTree.TreeNodeFilter<Node>() {
+            @Override
+            public boolean accept(Node element, long id, int height) {
+                return accepted.contains(id);
+            }
+        });
+        LOGGER.debug("VIEW = \n{}", view);
+
+        Assert.assertTrue(tree.isFrozen());
+        Assert.assertTrue(view.isFrozen());
+        Assert.assertEquals(6, view.size());
+        Assert.assertEquals(3, view.getAllTreeLeafElement().size());
+        Assert.assertEquals("2", view.getTreeLeafElement(2L).name);
+        Assert.assertNull(view.getTreeLeafElement(12L));
+
+        try {
+            tree.addTreeNotes(nodes, NODE_RESOLVER);
+            Assert.fail();
+        } catch (UnsupportedOperationException e) {
+            LOGGER.debug("Frozen : {}", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testBuildCost() {
+        List<Node> nodes = randomNodes(NODE_COUNT, new Random(20L));
+
+        long start = System.nanoTime();
+        FleaTree<Node> tree = newTree();
+        for (Node node : nodes) {
+            tree.addTreeNote(node, node.id, node.height, null, node.parentId, node.height - 1);
+        }
+        long addCost = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        FleaTree<Node> bulkTree = newTree();
+        bulkTree.addTreeNotes(nodes, NODE_RESOLVER);
+        long bulkCost = System.nanoTime() - start;
+
+        Assert.assertEquals(NODE_COUNT + 1, tree.size());
+        Assert.assertEquals(NODE_COUNT + 1, bulkTree.size());
+        Assert.assertEquals(tree.getAllTreeLeafElement().size(), bulkTree.getAllTreeLeafElement().size());
+        Assert.assertEquals(tree.toString(), bulkTree.toString());
+
+        // 保留一半的一级节点及其子树，子树整体共享
+        final Set<Long> accepted = new HashSet<>();
+        for (Node node : nodes) {
+            if (node.id % 2 == 0 || node.height > 2) {
+                accepted.add(node.id);
+            }
+        }
+        start = System.nanoTime();
+        FleaTree<Node> view = newTree();
+        bulkTree.filterTo(view, new FleaTree.TreeNodeFilter<Node>() {
+            @Override
+            public boolean accept(Node element, long id, int height) {
+                return accepted.contains(id);
+            }
+        });
+        long filterCost = System.nanoTime() - start;
+
+        LOGGER.debug("NODE_COUNT = {}, ADD = {}ms, BULK = {}ms, FILTER = {}ms, VIEW_SIZE = {}", NODE_COUNT,
+                addCost / 1000000, bulkCost / 1000000, filterCost / 1000000, view.size());
+        Assert.assertTrue(view.size() > 1 && view.size() < bulkTree.size());
+    }
+
+    private static FleaTree<Node> newTree() {
+        FleaTree<Node> tree = new FleaTree<>(NODE_COMPARATOR);
+        tree.addRootTreeNote(new Node(-1L, 1, -2L, 0, "ROOT"));
+        return tree;
+    }
+
+    /**
+     * 两级一级节点，编号即路径，如 111 为 1-1-1
+     */
+    private static List<Node> sampleNodes() {
+        List<Node> nodes = new ArrayList<>();
+        nodes.add(new Node(1L, 2, -1L, 1, "1"));
+        nodes.add(new Node(2L, 2, -1L, 2, "2"));
+        nodes.add(new Node(11L, 3, 1L, 1, "1-1"));
+        nodes.add(new Node(12L, 3, 1L, 2, "1-2"));
+        nodes.add(new Node(112L, 4, 11L, 2, "1-1-2"));
+        nodes.add(new Node(111L, 4, 11L, 1, "1-1-1"));
+        nodes.add(new Node(121L, 4, 12L, 1, "1-2-1"));
+        return nodes;
+    }
+
+    /**
+     * 按层级生成每个节点最多 {@code FAN_OUT} 个子节点的树，并打乱顺序
+     */
+    private static List<Node> randomNodes(int count, Random random) {
+        List<Node> nodes = new ArrayList<>(count);
+        List<Node> parents = new ArrayList<>();
+        parents.add(new Node(-1L, 1, -2L, 0, "ROOT"));
+        long id = 1;
+        while (nodes.size() < count) {
+            List<Node> children = new ArrayList<>();
+            for (Node parent : parents) {
+                for (int i = 0; i < FAN_OUT && nodes.size() < count; i++) {
+                    Node node = new Node(id, parent.height + 1, parent.id, random.nextInt(FAN_OUT), "N" + id);
+                    id++;
+                    nodes.add(node);
+                    children.add(node);
+                }
+            }
+            parents = children;
+        }
+        Collections.shuffle(nodes, random);
+        return nodes;
+    }
+
+    private static class Node {
+
+        private final long id;
+
+        private final int height;
+
+        private final long parentId;
+
+        private final int sort;
+
+        private final String name;
+
+        private Node(long id, int height, long parentId, int sort, String name) {
+            this.id = id;
+            this.height = height;
+            this.parentId = parentId;
+            this.sort = sort;
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
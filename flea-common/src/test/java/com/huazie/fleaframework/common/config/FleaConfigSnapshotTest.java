@@ -0,0 +1,93 @@
+package com.huazie.fleaframework.common.config;
+
+import com.huazie.fleaframework.common.CommonConstants;
+import com.huazie.fleaframework.common.FleaConfigManager;
+import com.huazie.fleaframework.common.FleaConfigXmlDigesterHelper;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Flea配置数据快照测试
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaConfigSnapshotTest {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaConfigSnapshotTest.class);
+
+    private static final String ITEMS_KEY = CommonConstants.FleaFrameInitConstants.FLEA_FRAMEWORK_INIT;
+
+    private static final String ITEM_KEY = CommonConstants.FleaFrameInitConstants.CONFIG_ITEM_SYSTEM_ACCOUNT_ID;
+
+    @Test
+    public void testSnapshot() {
+        FleaConfigSnapshot snapshot = FleaConfigManager.getSnapshot();
+        LOGGER.debug("Snapshot = {}", snapshot);
+        FleaConfig config = FleaConfigXmlDigesterHelper.getInstance().getFleaConfig();
+        for (ConfigItems configItems : config.getConfigItemsList()) {
+            Assert.assertSame(configItems, snapshot.getConfigItems(configItems.getKey()));
+            for (ConfigItem configItem : configItems.getConfigItemList()) {
+                Assert.assertEquals(configItems.getConfigItem(configItem.getKey()).getValue(),
+                        snapshot.getConfigItemValue(configItems.getKey(), configItem.getKey()));
+            }
+        }
+        Assert.assertNull(snapshot.getConfigItems("not-exists"));
+        Assert.assertNull(snapshot.getConfigItemValue(ITEMS_KEY, "not-exists"));
+    }
+
+    @Test
+    public void testUnmodifiable() {
+        ConfigItems configItems = FleaConfigManager.getSnapshot().getConfigItems(ITEMS_KEY);
+        Assert.assertNotNull(configItems);
+        try {
+            configItems.addConfigItem(new ConfigItem());
+            Assert.fail("配置项集应不可修改");
+        } catch (UnsupportedOperationException e) {
+            LOGGER.debug("ConfigItems is unmodifiable");
+        }
+        try {
+            configItems.getConfigItemList().clear();
+            Assert.fail("配置项列表应不可修改");
+        } catch (UnsupportedOperationException e) {
+            LOGGER.debug("ConfigItemList is unmodifiable");
+        }
+        Assert.assertNotNull(FleaConfigManager.getConfigItemValue(ITEMS_KEY, ITEM_KEY));
+    }
+
+    @Test
+    public void testLookupPerformance() {
+        FleaConfig config = FleaConfigXmlDigesterHelper.getInstance().getFleaConfig();
+        int iterations = 1000000;
+        int blackhole = 0;
+        // 预热
+        for (int i = 0; i < iterations; i++) {
+            blackhole += oldLookup(config).length() + FleaConfigManager.getConfigItemValue(ITEMS_KEY, ITEM_KEY).length();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            blackhole += oldLookup(config).length();
+        }
+        long oldNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            blackhole += FleaConfigManager.getConfigItemValue(ITEMS_KEY, ITEM_KEY).length();
+        }
+        long newNanos = System.nanoTime() - start;
+
+        LOGGER.debug("Rebuild map lookup = {}ns/op, Snapshot lookup = {}ns/op, blackhole = {}",
+                oldNanos / iterations, newNanos / iterations, blackhole);
+    }
+
+    /**
+     * 原有的查找方式：每次查找都重新构建配置项集Map
+     */
+    private static String oldLookup(FleaConfig config) {
+        return config.toConfigItemsMap().get(ITEMS_KEY).getConfigItem(ITEM_KEY).getValue();
+    }
+}
@@ -0,0 +1,136 @@
+package com.huazie.fleaframework.common.metrics;
+
+import com.huazie.fleaframework.common.metrics.exporter.LogMetricsExporter;
+import com.huazie.fleaframework.common.metrics.exporter.MemoryMetricsExporter;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flea 指标统计测试，包括直方图精度、并发记录和记录开销
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaMetricsTest {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaMetricsTest.class);
+
+    @Test
+    public void testHistogramPercentile() {
+        FleaHistogram histogram = new FleaHistogram();
+        // 1us ~ 10000us 均匀分布
+        for (long i = 1; i <= 10000; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+        FleaHistogramSnapshot snapshot = histogram.snapshot();
+        Assert.assertEquals(10000, snapshot.getCount());
+        Assert.assertEquals(TimeUnit.MICROSECONDS.toNanos(10000), snapshot.getMax());
+
+        double[] percentiles = {50, 90, 99, 99.9};
+        for (double percentile : percentiles) {
+            double expected = TimeUnit.MICROSECONDS.toNanos((long) (percentile * 100));
+            double actual = snapshot.getPercentile(percentile);
+            LOGGER.debug("P{} expected = {}ns, actual = {}ns", percentile, expected, actual);
+            // 相对误差不超过 1/32
+            Assert.assertTrue(Math.abs(actual - expected) / expected <= 1D / 32);
+        }
+    }
+
+    @Test
+    public void testBucketIndex() {
+        long previousUpper = -1;
+        for (int i = 0; i < FleaHistogram.BUCKET_COUNT; i++) {
+            long upper = FleaHistogram.bucketUpperBound(i);
+            // 桶的下界和上界都落在该桶内，且桶之间连续
+            Assert.assertEquals(i, FleaHistogram.bucketIndex(previousUpper + 1));
+            Assert.assertEquals(i, FleaHistogram.bucketIndex(upper));
+            previousUpper = upper;
+        }
+        Assert.assertEquals(FleaHistogram.MAX_VALUE, previousUpper);
+    }
+
+    @Test
+    public void testConcurrentRecord() throws Exception {
+        final FleaMetrics metrics = new FleaMetrics(true);
+        MemoryMetricsExporter exporter = new MemoryMetricsExporter();
+        metrics.addExporter(exporter);
+
+        final int threads = 8;
+        final int perThread = 100000;
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final CountDownLatch doneLatch = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        startLatch.await();
+                        FleaMetric metric = metrics.getMetric("test.concurrent");
+                        for (int i = 0; i < perThread; i++) {
+                            if (i % 100 == 0) {
+                                metric.recordError(i);
+                            } else if (i % 100 == 1) {
+                                metric.recordReject(i);
+                            } else {
+                                metric.record(i);
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        doneLatch.countDown();
+                    }
+                }
+            }).start();
+        }
+        startLatch.countDown();
+        Assert.assertTrue(doneLatch.await(30, TimeUnit.SECONDS));
+
+        FleaMetricSnapshot snapshot = exporter.getSnapshot("test.concurrent");
+        LOGGER.debug("Snapshot : {}", snapshot);
+        Assert.assertEquals(threads * perThread, snapshot.getCount());
+        Assert.assertEquals(threads * perThread / 100, snapshot.getErrorCount());
+        Assert.assertEquals(threads * perThread / 100, snapshot.getRejectCount());
+        Assert.assertEquals(perThread - 1, snapshot.getHistogram().getMax());
+
+        new LogMetricsExporter(1000L).dump(metrics);
+        metrics.stop();
+    }
+
+    @Test
+    public void testRecordOverhead() {
+        FleaMetric metric = new FleaMetrics(true).getMetric("test.overhead");
+        int warmup = 200000;
+        int iterations = 2000000;
+        for (int i = 0; i < warmup; i++) {
+            metric.record(System.nanoTime() & 0xFFFFF);
+        }
+
+        // 计时本身的开销
+        long start = System.nanoTime();
+        long blackhole = 0;
+        for (int i = 0; i < iterations; i++) {
+            blackhole += System.nanoTime() & 0xFFFFF;
+        }
+        long baseline = System.nanoTime() - start;
+
+        // 计时加记录的开销
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            metric.record(System.nanoTime() & 0xFFFFF);
+        }
+        long recorded = System.nanoTime() - start;
+
+        double overhead = (double) (recorded - baseline) / iterations;
+        LOGGER.debug("Baseline = {}ns/op, Record = {}ns/op, Overhead = {}ns/op, Blackhole = {}",
+                (double) baseline / iterations, (double) recorded / iterations, overhead, blackhole);
+        // 单线程下单次记录的额外开销在微秒以下
+        Assert.assertTrue(overhead < 1000);
+    }
+}
@@ -0,0 +1,186 @@
+package com.huazie.fleaframework.common.pool;
+
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.PooledObjectFactory;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Flea对象池测试，包括线程本地缓存对象池的并发正确性、对象总数上限、关闭、泄漏跟踪，
+ * 以及与通用对象池的并发借还开销对比
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaObjectPoolTest {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaObjectPoolTest.class);
+
+    private static final int THREADS = 8;
+
+    private static final int ITERATIONS = 100000;
+
+    @Test
+    public void testLocalPoolContended() throws Exception {
+        FleaLocalPoolBackend<PooledItem> pool = new FleaLocalPoolBackend<>(new PooledItemFactory(), 4, 16, false);
+        final AtomicInteger conflicts = new AtomicInteger();
+        long costTime = runContended(pool, conflicts);
+        LOGGER.debug("Local pool: created = {}, destroyed = {}, idle = {}, cost = {}ms",
+                pool.getCreatedCount(), pool.getDestroyedCount(), pool.getNumIdle(), costTime);
+
+        Assert.assertEquals(0, conflicts.get());
+        // 每个线程本地缓存最多 4 个，共享栈最多 16 个，其余均已销毁
+        Assert.assertTrue(pool.getNumIdle() <= 16);
+        Assert.assertTrue(pool.getCreatedCount() - pool.getDestroyedCount() <= THREADS * 4 + 16);
+
+        pool.close();
+        Assert.assertTrue(pool.isClosed());
+        Assert.assertEquals(0, pool.getNumIdle());
+    }
+
+    @Test
+    public void testLeakTracking() throws Exception {
+        FleaLocalPoolBackend<PooledItem> pool = new FleaLocalPoolBackend<>(new PooledItemFactory(), 4, 16, true);
+        PooledItem returned = pool.borrowObject();
+        PooledItem leaked = pool.borrowObject();
+        Assert.assertNotSame(returned, leaked);
+        Assert.assertEquals(2, pool.getNumActive());
+
+        pool.returnObject(returned);
+        Assert.assertEquals(1, pool.getNumActive());
+        Assert.assertEquals(1, pool.reportLeaks(0L));
+
+        // 重复归还仅输出告警，不会再次放入对象池
+        pool.returnObject(returned);
+        Assert.assertSame(returned, pool.borrowObject());
+        Assert.assertNotSame(returned, pool.borrowObject());
+        pool.close();
+    }
+
+    @Test
+    public void testLocalPoolMaxTotal() throws Exception {
+        FleaLocalPoolBackend<PooledItem> pool = new FleaLocalPoolBackend<>(new PooledItemFactory(), 4, THREADS, 16, true, 5000L, false);
+        final AtomicInteger conflicts = new AtomicInteger();
+        runContended(pool, conflicts);
+        Assert.assertEquals(0, conflicts.get());
+        Assert.assertTrue(pool.getCreatedCount() - pool.getDestroyedCount() <= THREADS);
+        pool.close();
+
+        FleaLocalPoolBackend<PooledItem> exhaustedPool = new FleaLocalPoolBackend<>(new PooledItemFactory(), 4, 1, 16, true, 100L, false);
+        PooledItem item = exhaustedPool.borrowObject();
+        try {
+            exhaustedPool.borrowObject();
+            Assert.fail("Borrowing over maxTotal should time out");
+        } catch (NoSuchElementException e) {
+            Assert.assertEquals(1L, exhaustedPool.getCreatedCount());
+        }
+        exhaustedPool.returnObject(item);
+        Assert.assertSame(item, exhaustedPool.borrowObject());
+        exhaustedPool.close();
+    }
+
+    @Test
+    public void testLocalPoolCloseDrainsAllThreads() throws Exception {
+        final FleaLocalPoolBackend<PooledItem> pool = new FleaLocalPoolBackend<>(new PooledItemFactory(), 4, 16, false);
+        runContended(pool, new AtomicInteger());
+        long live = pool.getCreatedCount() - pool.getDestroyedCount();
+        Assert.assertTrue(live > pool.getNumIdle());
+
+        pool.close();
+        // 所有线程本地缓存中的对象均已销毁
+        Assert.assertEquals(pool.getCreatedCount(), pool.getDestroyedCount());
+    }
+
+    @Test
+    public void testLocalPoolVsGenericPool() throws Exception {
+        GenericObjectPoolConfig poolConfig = new GenericObjectPoolConfig();
+        poolConfig.setMaxTotal(THREADS * 2);
+        poolConfig.setMaxIdle(THREADS * 2);
+        // 预热
+        runContended(new FleaGenericPoolBackend<>(new PooledItemFactory(), poolConfig), new AtomicInteger());
+        runContended(new FleaLocalPoolBackend<>(new PooledItemFactory(), 8, THREADS * 2, false), new AtomicInteger());
+
+        long genericTime = runContended(new FleaGenericPoolBackend<>(new PooledItemFactory(), poolConfig), new AtomicInteger());
+        long localTime = runContended(new FleaLocalPoolBackend<>(new PooledItemFactory(), 8, THREADS * 2, false), new AtomicInteger());
+        LOGGER.debug("{} threads x {} borrow/return, generic = {}ms, local = {}ms", THREADS, ITERATIONS, genericTime, localTime);
+    }
+
+    private static long runContended(final IFleaObjectPoolBackend<PooledItem> pool, final AtomicInteger conflicts) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(THREADS);
+        for (int i = 0; i < THREADS; i++) {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                        for (int j = 0; j < ITERATIONS; j++) {
+                            PooledItem item = pool.borrowObject();
+                            // 同一对象同时只能被一个线程借出
+                            if (!item.inUse.compareAndSet(false, true)) {
+                                conflicts.incrementAndGet();
+                            }
+                            item.inUse.set(false);
+                            pool.returnObject(item);
+                        }
+                    } catch (Exception e) {
+                        LOGGER.error("Exception : ", e);
+                        conflicts.incrementAndGet();
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            });
+        }
+        long startTime = System.nanoTime();
+        start.countDown();
+        done.await();
+        long costTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        executor.shutdown();
+        return costTime;
+    }
+
+    private static class PooledItem {
+
+        private final AtomicBoolean inUse = new AtomicBoolean();
+    }
+
+    private static class PooledItemFactory implements PooledObjectFactory<PooledItem> {
+
+        @Override
+        public PooledObject<PooledItem> makeObject() {
+            return new DefaultPooledObject<>(new PooledItem());
+        }
+
+        @Override
+        public void destroyObject(PooledObject<PooledItem> p) {
+        }
+
+        @Override
+        public boolean validateObject(PooledObject<PooledItem> p) {
+            return true;
+        }
+
+        @Override
+        public void activateObject(PooledObject<PooledItem> p) {
+        }
+
+        @Override
+        public void passivateObject(PooledObject<PooledItem> p) {
+        }
+    }
+}
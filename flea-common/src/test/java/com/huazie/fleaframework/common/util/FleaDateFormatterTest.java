@@ -0,0 +1,117 @@
+package com.huazie.fleaframework.common.util;
+
+import com.huazie.fleaframework.common.DateFormatEnum;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+/**
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaDateFormatterTest {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaDateFormatterTest.class);
+
+    private static final TimeZone SHANGHAI = TimeZone.getTimeZone("Asia/Shanghai");
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private static final TimeZone NEW_YORK = TimeZone.getTimeZone("America/New_York");
+
+    private static final String[] PATTERNS = {
+            DateFormatEnum.YYYY.getFormat(),
+            DateFormatEnum.YYYYMM.getFormat(),
+            DateFormatEnum.YYYYMMDD.getFormat(),
+            DateFormatEnum.YYYY_MM_DDHH_MM_SS.getFormat()
+    };
+
+    @Test
+    public void testFormatSameAsSimpleDateFormat() {
+        long[] times = {
+                time(SHANGHAI, 2023, Calendar.DECEMBER, 31, 23, 59, 59, 999),
+                time(SHANGHAI, 2024, Calendar.JANUARY, 1, 0, 0, 0, 0),
+                time(SHANGHAI, 2024, Calendar.FEBRUARY, 29, 23, 59, 59, 999),
+                time(NEW_YORK, 2024, Calendar.MARCH, 10, 2, 30, 0, 0),
+                time(UTC, 999, Calendar.JANUARY, 1, 0, 0, 0, 0),
+                System.currentTimeMillis()
+        };
+        for (TimeZone timeZone : new TimeZone[]{SHANGHAI, UTC, NEW_YORK}) {
+            for (long time : times) {
+                for (String pattern : PATTERNS) {
+                    SimpleDateFormat dateFormat = new SimpleDateFormat(pattern);
+                    dateFormat.setTimeZone(timeZone);
+                    Date date = new Date(time);
+                    Assert.assertEquals(dateFormat.format(date), FleaDateFormatter.format(date, pattern, timeZone));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDayAndMonthBoundary() {
+        long lastMillis = time(SHANGHAI, 2023, Calendar.DECEMBER, 31, 23, 59, 59, 999);
+        Assert.assertEquals("20231231", FleaDateFormatter.format(new Date(lastMillis), "yyyyMMdd", SHANGHAI));
+        Assert.assertEquals("20240101", FleaDateFormatter.format(new Date(lastMillis + 1), "yyyyMMdd", SHANGHAI));
+        Assert.assertEquals("202312", FleaDateFormatter.format(new Date(lastMillis), "yyyyMM", SHANGHAI));
+        Assert.assertEquals("202401", FleaDateFormatter.format(new Date(lastMillis + 1), "yyyyMM", SHANGHAI));
+        Assert.assertEquals("2023", FleaDateFormatter.format(new Date(lastMillis), "yyyy", SHANGHAI));
+        Assert.assertEquals("2024", FleaDateFormatter.format(new Date(lastMillis + 1), "yyyy", SHANGHAI));
+
+        long leapDay = time(SHANGHAI, 2024, Calendar.FEBRUARY, 29, 23, 59, 59, 999);
+        Assert.assertEquals("20240229", FleaDateFormatter.format(new Date(leapDay), "yyyyMMdd", SHANGHAI));
+        Assert.assertEquals("20240301", FleaDateFormatter.format(new Date(leapDay + 1), "yyyyMMdd", SHANGHAI));
+
+        // 同一时刻，不同时区所在的日期不同
+        Assert.assertEquals("20231231", FleaDateFormatter.format(new Date(lastMillis + 1), "yyyyMMdd", UTC));
+    }
+
+    @Test
+    public void testCurrentCacheRollover() {
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(SHANGHAI);
+            long lastMillis = time(SHANGHAI, 2024, Calendar.JANUARY, 31, 23, 59, 59, 999);
+            Assert.assertEquals("20240131", FleaDateFormatter.formatCurrent("yyyyMMdd", lastMillis - 1000));
+            Assert.assertEquals("20240131", FleaDateFormatter.formatCurrent("yyyyMMdd", lastMillis));
+            Assert.assertEquals("20240201", FleaDateFormatter.formatCurrent("yyyyMMdd", lastMillis + 1));
+            Assert.assertEquals("202401", FleaDateFormatter.formatCurrent("yyyyMM", lastMillis));
+            Assert.assertEquals("202402", FleaDateFormatter.formatCurrent("yyyyMM", lastMillis + 1));
+            // 时间回拨
+            Assert.assertEquals("202401", FleaDateFormatter.formatCurrent("yyyyMM", lastMillis));
+
+            // 默认时区变更后重新计算
+            TimeZone.setDefault(UTC);
+            Assert.assertEquals("20240131", FleaDateFormatter.formatCurrent("yyyyMMdd", lastMillis + 1));
+            Assert.assertEquals("2024-01-31 16:00:00", FleaDateFormatter.formatCurrent("yyyy-MM-dd HH:mm:ss", lastMillis + 1));
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+        }
+    }
+
+    @Test
+    public void testParse() throws ParseException {
+        Date date = FleaDateFormatter.parse("2024-02-29 23:59:59", DateFormatEnum.YYYY_MM_DDHH_MM_SS.getFormat(), SHANGHAI);
+        Assert.assertEquals(time(SHANGHAI, 2024, Calendar.FEBRUARY, 29, 23, 59, 59, 0), date.getTime());
+        Date utcDate = FleaDateFormatter.parse("2024-02-29 23:59:59", DateFormatEnum.YYYY_MM_DDHH_MM_SS.getFormat(), UTC);
+        Assert.assertEquals(8 * 60 * 60 * 1000L, utcDate.getTime() - date.getTime());
+        LOGGER.debug("DATE: {}", DateUtils.date2String(date, DateFormatEnum.YYYY_MM_DDHH_MM_SS));
+    }
+
+    private static long time(TimeZone timeZone, int year, int month, int day, int hour, int minute, int second, int millis) {
+        Calendar calendar = new GregorianCalendar(timeZone);
+        calendar.clear();
+        calendar.set(year, month, day, hour, minute, second);
+        calendar.set(Calendar.MILLISECOND, millis);
+        return calendar.getTimeInMillis();
+    }
+}
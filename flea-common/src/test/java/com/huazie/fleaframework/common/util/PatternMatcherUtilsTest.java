@@ -0,0 +1,49 @@
+package com.huazie.fleaframework.common.util;
+
+import com.huazie.fleaframework.common.CommonConstants;
+import com.huazie.fleaframework.common.RegExpEnum;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+
+/**
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class PatternMatcherUtilsTest {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(PatternMatcherUtilsTest.class);
+
+    @Test
+    public void testGetPattern() {
+        Pattern pattern = PatternMatcherUtils.getPattern("[ ]*(SELECT)[ ]+", Pattern.CASE_INSENSITIVE);
+        Assert.assertSame(pattern, PatternMatcherUtils.getPattern("[ ]*(SELECT)[ ]+", Pattern.CASE_INSENSITIVE));
+        // 匹配标识不同，分别编译
+        Assert.assertNotSame(pattern, PatternMatcherUtils.getPattern("[ ]*(SELECT)[ ]+"));
+        Assert.assertTrue(PatternMatcherUtils.matches("[ ]*(SELECT)[ ]+", " select ", Pattern.CASE_INSENSITIVE));
+        Assert.assertFalse(PatternMatcherUtils.matches("[ ]*(SELECT)[ ]+", " select ", 0));
+    }
+
+    @Test
+    public void testCacheMaxSize() {
+        int count = CommonConstants.FleaPatternConstants.DEFAULT_CACHE_MAX_SIZE * 2;
+        for (int i = 0; i < count; i++) {
+            PatternMatcherUtils.getPattern("flea_" + i);
+        }
+        LOGGER.debug("CACHE SIZE = {}", PatternMatcherUtils.getCacheSize());
+        Assert.assertTrue(PatternMatcherUtils.getCacheSize() <= CommonConstants.FleaPatternConstants.DEFAULT_CACHE_MAX_SIZE);
+    }
+
+    @Test
+    public void testRegExpEnum() {
+        Assert.assertTrue(RegExpEnum.PHONE.matches("13800138000"));
+        Assert.assertFalse(RegExpEnum.PHONE.matches("1380013800"));
+        Assert.assertTrue(RegExpEnum.EMAIL.matches("huazie@flea.com"));
+        Assert.assertTrue(RegExpEnum.URL.matches("HTTPS://github.com/Huazie/flea-framework"));
+        Assert.assertSame(RegExpEnum.EMAIL.getPattern(), RegExpEnum.EMAIL.getPattern());
+    }
+}
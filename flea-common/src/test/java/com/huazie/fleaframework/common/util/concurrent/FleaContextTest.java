@@ -0,0 +1,441 @@
+package com.huazie.fleaframework.common.util.concurrent;
+
+import com.huazie.fleaframework.common.FleaContext;
+import com.huazie.fleaframework.common.FleaFrameManager;
+import com.huazie.fleaframework.common.FleaSessionManager;
+import com.huazie.fleaframework.common.IFleaContextPropagator;
+import com.huazie.fleaframework.common.IFleaUser;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Flea 上下文传递测试，包括线程复用时的上下文还原、ForkJoin 子任务的上下文继承、
+ * 上下文传递扩展，以及上下文传递和异步任务方法调用的开销
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaContextTest {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaContextTest.class);
+
+    private static final ThreadLocal<String> TRACE_ID = new ThreadLocal<>(); // 模拟其他模块的线程变量，如分库序列
+
+    private static final IFleaContextPropagator TRACE_ID_PROPAGATOR = new IFleaContextPropagator() {
+        @Override
+        public Object capture() {
+            return TRACE_ID.get();
+        }
+
+        @Override
+        public void restore(Object value) {
+            if (null == value) {
+                TRACE_ID.remove();
+            } else {
+                TRACE_ID.set((String) value);
+            }
+        }
+    };
+
+    private static final int ITERATIONS = 100000;
+
+    private static FleaContext emptyContext; // 新线程的空上下文
+
+    @BeforeClass
+    public static void init() throws Exception {
+        FleaContext.addPropagator(TRACE_ID_PROPAGATOR);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            emptyContext = executorService.submit(new Callable<FleaContext>() {
+                @Override
+                public FleaContext call() {
+                    return FleaContext.capture();
+                }
+            }).get();
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @AfterClass
+    public static void destroy() {
+        FleaContext.removePropagator(TRACE_ID_PROPAGATOR);
+    }
+
+    @After
+    public void clear() {
+        emptyContext.restore();
+    }
+
+    @Test
+    public void testContextRestoredOnThreadReuse() throws Exception {
+        // 单线程池，保证两次提交复用同一个工作线程
+        ExecutorService executorService = new FleaContextExecutorService(Executors.newSingleThreadExecutor());
+        try {
+            new FleaContextHolder(new TestUser(1L), Locale.US, "mysql-fleaauth", "trace-1").apply();
+            FleaContextHolder first = executorService.submit(FleaContextHolder.CURRENT).get();
+            Assert.assertEquals(Long.valueOf(1L), first.fleaUser.getAccountId());
+            Assert.assertEquals(Locale.US, first.locale);
+            Assert.assertEquals("mysql-fleaauth", first.dbConfigKey);
+            Assert.assertEquals("trace-1", first.traceId);
+
+            // 提交线程清除上下文后，复用的工作线程不应残留上一个任务的上下文
+            emptyContext.restore();
+            FleaContextHolder second = executorService.submit(FleaContextHolder.CURRENT).get();
+            Assert.assertNull(second.fleaUser);
+            Assert.assertNull(second.locale);
+            Assert.assertNull(second.dbConfigKey);
+            Assert.assertNull(second.traceId);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void testFleaRunnableRestoresWorkerContext() throws Exception {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            // 工作线程自身的上下文
+            executorService.submit(new Runnable() {
+                @Override
+                public void run() {
+                    new FleaContextHolder(new TestUser(9L), Locale.CHINA, null, "worker").apply();
+                }
+            }).get();
+
+            final AtomicLong seen = new AtomicLong();
+            executorService.submit(new FleaRunnable(new TestUser(2L)) {
+                @Override
+                protected void subRun() {
+                    seen.set(FleaSessionManager.getAccountId());
+                }
+            }).get();
+            Assert.assertEquals(2L, seen.get());
+
+            // 任务结束后还原工作线程自身的上下文
+            FleaContextHolder after = executorService.submit(FleaContextHolder.CURRENT).get();
+            Assert.assertEquals(Long.valueOf(9L), after.fleaUser.getAccountId());
+            Assert.assertEquals(Locale.CHINA, after.locale);
+            Assert.assertEquals("worker", after.traceId);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void testForkJoinSubTasksInheritContext() throws Exception {
+        FleaContextForkJoinPool forkJoinPool = new FleaContextForkJoinPool(4);
+        try {
+            new FleaContextHolder(new TestUser(3L), Locale.US, null, "trace-3").apply();
+            AtomicInteger mismatches = new AtomicInteger();
+            long sum = forkJoinPool.invoke(new SumTask(1, ITERATIONS, mismatches));
+            Assert.assertEquals((long) ITERATIONS * (ITERATIONS + 1) / 2, sum);
+            Assert.assertEquals(0, mismatches.get());
+
+            // 工作线程复用后，不残留上一次提交的上下文
+            emptyContext.restore();
+            for (int i = 0; i < 8; i++) {
+                FleaContextHolder holder = forkJoinPool.submit(FleaContextHolder.CURRENT).get();
+                Assert.assertNull(holder.fleaUser);
+                Assert.assertNull(holder.traceId);
+            }
+        } finally {
+            forkJoinPool.shutdown();
+            forkJoinPool.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testContextOverhead() throws Exception {
+        new FleaContextHolder(new TestUser(4L), Locale.US, "mysql-fleaauth", "trace-4").apply();
+        final AtomicLong counter = new AtomicLong();
+        Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                counter.incrementAndGet();
+            }
+        };
+
+        // 预热
+        for (int i = 0; i < ITERATIONS; i++) {
+            FleaContext.wrap(task).run();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            task.run();
+        }
+        long plainNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            FleaContext.wrap(task).run();
+        }
+        long wrappedNanos = System.nanoTime() - start;
+
+        LOGGER.debug("Context overhead : plain {}ns/op, capture + replay + restore {}ns/op",
+                plainNanos / ITERATIONS, wrappedNanos / ITERATIONS);
+        Assert.assertEquals(3L * ITERATIONS, counter.get());
+        // 执行线程恢复后还原当前线程原有的上下文
+        Assert.assertEquals(4L, FleaSessionManager.getAccountId().longValue());
+        Assert.assertEquals("trace-4", TRACE_ID.get());
+    }
+
+    @Test
+    public void testAsyncTaskMethodHandle() throws Exception {
+        AsyncTarget target = new AsyncTarget();
+        Class<?>[] paramTypes = {Long.class, String.class};
+        int runs = ITERATIONS / 10;
+
+        new FleaContextHolder(new TestUser(5L), null, null, null).apply();
+        long handleNanos = 0;
+        long reflectNanos = 0;
+        // 第一轮为预热，只统计第二轮
+        for (int round = 0; round < 2; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < runs; i++) {
+                new FleaAsyncTask(FleaSessionManager.getUserInfo(), target, "record", paramTypes, new Object[]{(long) i, "login"}).run();
+            }
+            handleNanos = System.nanoTime() - start;
+
+            // 原有实现：每次执行都查找方法并反射调用，任务日志与 FleaAsyncTask 一致
+            start = System.nanoTime();
+            for (int i = 0; i < runs; i++) {
+                new ReflectAsyncTask(target, paramTypes, new Object[]{(long) i, "login"}).run();
+            }
+            reflectNanos = System.nanoTime() - start;
+        }
+
+        LOGGER.debug("Async task : method handle {}ns/op, reflection {}ns/op", handleNanos / runs, reflectNanos / runs);
+        Assert.assertEquals(4L * runs, target.calls.get());
+        Assert.assertEquals(5L, target.lastAccountId.get());
+
+        // 方法不存在时仅记录日志
+        new FleaAsyncTask(null, target, "missing", paramTypes, new Object[]{1L, "login"}).run();
+        Assert.assertEquals(4L * runs, target.calls.get());
+    }
+
+    /**
+     * 原有的反射调用异步任务
+     */
+    private static class ReflectAsyncTask extends FleaRunnable {
+
+        private final Object target;
+
+        private final Class<?>[] paramTypes;
+
+        private final Object[] params;
+
+        ReflectAsyncTask(Object target, Class<?>[] paramTypes, Object[] params) {
+            super(FleaSessionManager.getUserInfo());
+            this.target = target;
+            this.paramTypes = paramTypes;
+            this.params = params;
+        }
+
+        @Override
+        protected void subRun() {
+            LOGGER.debug("Start");
+            try {
+                Method method = target.getClass().getDeclaredMethod("record", paramTypes);
+                method.invoke(target, params);
+            } catch (Exception e) {
+                LOGGER.error("AsyncTask Execute Exception : ", e);
+            }
+            LOGGER.debug("End");
+        }
+    }
+
+    /**
+     * 递归求和，每个子任务校验继承的上下文
+     */
+    private static class SumTask extends FleaRecursiveTask<Long> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+
+        private final int to;
+
+        private final transient AtomicInteger mismatches;
+
+        SumTask(int from, int to, AtomicInteger mismatches) {
+            this.from = from;
+            this.to = to;
+            this.mismatches = mismatches;
+        }
+
+        @Override
+        protected Long subCompute() {
+            if (3L != FleaSessionManager.getAccountId() || !"trace-3".equals(TRACE_ID.get())
+                    || !Locale.US.equals(FleaFrameManager.getManager().getLocale())) {
+                mismatches.incrementAndGet();
+            }
+            if (to - from < 1000) {
+                long sum = 0;
+                for (int i = from; i <= to; i++) {
+                    sum += i;
+                }
+                return sum;
+            }
+            int middle = (from + to) >>> 1;
+            SumTask left = new SumTask(from, middle, mismatches);
+            SumTask right = new SumTask(middle + 1, to, mismatches);
+            left.fork();
+            return right.compute() + left.join();
+        }
+    }
+
+    /**
+     * 当前线程的上下文
+     */
+    private static class FleaContextHolder {
+
+        static final Callable<FleaContextHolder> CURRENT = new Callable<FleaContextHolder>() {
+            @Override
+            public FleaContextHolder call() {
+                FleaContext fleaContext = FleaContext.capture();
+                return new FleaContextHolder(fleaContext.getFleaUser(), fleaContext.getLocale(),
+                        fleaContext.getDBConfigKey(), TRACE_ID.get());
+            }
+        };
+
+        final IFleaUser fleaUser;
+
+        final Locale locale;
+
+        final String dbConfigKey;
+
+        final String traceId;
+
+        FleaContextHolder(IFleaUser fleaUser, Locale locale, String dbConfigKey, String traceId) {
+            this.fleaUser = fleaUser;
+            this.locale = locale;
+            this.dbConfigKey = dbConfigKey;
+            this.traceId = traceId;
+        }
+
+        void apply() {
+            // 先恢复空上下文，清除当前线程原有的上下文
+            emptyContext.restore();
+            FleaFrameManager manager = FleaFrameManager.getManager();
+            manager.setUserInfo(fleaUser);
+            if (null != locale) {
+                manager.setLocale(locale);
+            }
+            if (null != dbConfigKey) {
+                String[] keys = dbConfigKey.split("-");
+                manager.setDBConfigKey(keys[0], keys[1]);
+            }
+            TRACE_ID_PROPAGATOR.restore(traceId);
+        }
+    }
+
+    /**
+     * 异步任务执行对象
+     */
+    public static class AsyncTarget {
+
+        final AtomicLong calls = new AtomicLong();
+
+        final AtomicLong lastAccountId = new AtomicLong();
+
+        public void record(Long id, String type) {
+            calls.incrementAndGet();
+            lastAccountId.set(FleaSessionManager.getAccountId());
+        }
+    }
+
+    /**
+     * 测试用户信息
+     */
+    private static class TestUser implements IFleaUser {
+
+        private final Map<String, Object> attrs = new HashMap<>();
+
+        private Long accountId;
+
+        TestUser(Long accountId) {
+            this.accountId = accountId;
+        }
+
+        @Override
+        public Long getUserId() {
+            return accountId;
+        }
+
+        @Override
+        public void setUserId(Long userId) {
+        }
+
+        @Override
+        public Long getSystemUserId() {
+            return null;
+        }
+
+        @Override
+        public void setSystemUserId(Long systemUserId) {
+        }
+
+        @Override
+        public Long getAccountId() {
+            return accountId;
+        }
+
+        @Override
+        public void setAccountId(Long accountId) {
+            this.accountId = accountId;
+        }
+
+        @Override
+        public Long getSystemAccountId() {
+            return null;
+        }
+
+        @Override
+        public void setSystemAccountId(Long systemAccountId) {
+        }
+
+        @Override
+        public <T> T get(String key, Class<T> clazz) {
+            return clazz.cast(attrs.get(key));
+        }
+
+        @Override
+        public Object get(String key) {
+            return attrs.get(key);
+        }
+
+        @Override
+        public void set(String key, Object value) {
+            attrs.put(key, value);
+        }
+
+        @Override
+        public void addAll(Map<String, Object> otherMap) {
+            attrs.putAll(otherMap);
+        }
+
+        @Override
+        public Map<String, Object> toMap() {
+            return attrs;
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.huazie.fleaframework.common.util.concurrent;
+
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Flea注册表测试，包括并发冷启动时每个键只创建一次、慢创建不阻塞其他键、
+ * 创建失败不缓存、同一线程递归获取时失败，以及按创建的逆序释放资源
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaRegistryTest {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaRegistryTest.class);
+
+    private static final int THREADS = 16;
+
+    private static final int KEYS = 200;
+
+    @Test
+    public void testParallelColdStartSameKey() throws Exception {
+        final FleaRegistry<String, Resource> registry = new FleaRegistry<>("sameKey");
+        final AtomicInteger loadCount = new AtomicInteger();
+        final FleaRegistry.Loader<String, Resource> loader = new FleaRegistry.Loader<String, Resource>() {
+            @Override
+            public Resource load(String key) {
+                loadCount.incrementAndGet();
+                sleep(50);
+                return new Resource(key, null);
+            }
+        };
+
+        List<Resource> resources = runConcurrently(new Callable<Resource>() {
+            @Override
+            public Resource call() {
+                return registry.get("default", loader);
+            }
+        });
+
+        Assert.assertEquals(1, loadCount.get());
+        for (Resource resource : resources) {
+            Assert.assertSame(resources.get(0), resource);
+        }
+        Assert.assertEquals(1, registry.size());
+    }
+
+    @Test
+    public void testParallelColdStartDistinctKeys() throws Exception {
+        final FleaRegistry<String, Resource> registry = new FleaRegistry<>("distinctKeys");
+        final AtomicInteger loadCount = new AtomicInteger();
+        final FleaRegistry.Loader<String, Resource> loader = new FleaRegistry.Loader<String, Resource>() {
+            @Override
+            public Resource load(String key) {
+                loadCount.incrementAndGet();
+                return new Resource(key, null);
+            }
+        };
+
+        long start = System.currentTimeMillis();
+        runConcurrently(new Callable<Resource>() {
+            @Override
+            public Resource call() {
+                Resource last = null;
+                for (int i = 0; i < KEYS; i++) {
+                    last = registry.get("pool" + i, loader);
+                    Assert.assertEquals("pool" + i, last.key);
+                }
+                return last;
+            }
+        });
+        LOGGER.debug("Threads = {}, Keys = {}, Cost = {}ms", THREADS, KEYS, System.currentTimeMillis() - start);
+
+        // 每个键只创建一次
+        Assert.assertEquals(KEYS, loadCount.get());
+        Assert.assertEquals(KEYS, registry.size());
+    }
+
+    @Test
+    public void testSlowLoadDoesNotBlockOtherKeys() throws Exception {
+        final FleaRegistry<String, Resource> registry = new FleaRegistry<>("slowLoad");
+        final CountDownLatch slowStarted = new CountDownLatch(1);
+        final CountDownLatch slowRelease = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Resource> slow = executor.submit(new Callable<Resource>() {
+                @Override
+                public Resource call() {
+                    return registry.get("slow", new FleaRegistry.Loader<String, Resource>() {
+                        @Override
+                        public Resource load(String key) {
+                            slowStarted.countDown();
+                            await(slowRelease);
+                            return new Resource(key, null);
+                        }
+                    });
+                }
+            });
+            Assert.assertTrue(slowStarted.await(5, TimeUnit.SECONDS));
+
+            // 慢创建进行中，其他键的创建和获取不受影响
+            Resource fast = registry.get("fast", new FleaRegistry.Loader<String, Resource>() {
+                @Override
+                public Resource load(String key) {
+                    return new Resource(key, null);
+                }
+            });
+            Assert.assertEquals("fast", fast.key);
+            Assert.assertFalse(slow.isDone());
+            Assert.assertEquals(1, registry.size());
+
+            slowRelease.countDown();
+            Assert.assertEquals("slow", slow.get(5, TimeUnit.SECONDS).key);
+            Assert.assertEquals(2, registry.size());
+        } finally {
+            slowRelease.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFailureIsNotCached() throws Exception {
+        final FleaRegistry<String, Resource> registry = new FleaRegistry<>("failure");
+        final AtomicInteger loadCount = new AtomicInteger();
+        final FleaRegistry.Loader<String, Resource> failingLoader = new FleaRegistry.Loader<String, Resource>() {
+            @Override
+            public Resource load(String key) {
+                loadCount.incrementAndGet();
+                sleep(50);
+                throw new IllegalStateException("Pool config not found");
+            }
+        };
+
+        // 并发等待的线程都收到同一次创建的异常
+        final AtomicInteger failures = new AtomicInteger();
+        runConcurrently(new Callable<Resource>() {
+            @Override
+            public Resource call() {
+                try {
+                    return registry.get("default", failingLoader);
+                } catch (IllegalStateException e) {
+                    failures.incrementAndGet();
+                    return null;
+                }
+            }
+        });
+        Assert.assertEquals(1, loadCount.get());
+        Assert.assertEquals(THREADS, failures.get());
+        Assert.assertEquals(0, registry.size());
+
+        // 空结果同样不缓存
+        FleaRegistry.Loader<String, Resource> nullLoader = new FleaRegistry.Loader<String, Resource>() {
+            @Override
+            public Resource load(String key) {
+                loadCount.incrementAndGet();
+                return null;
+            }
+        };
+        Assert.assertNull(registry.get("default", nullLoader));
+        Assert.assertNull(registry.get("default", nullLoader));
+        Assert.assertEquals(3, loadCount.get());
+
+        Resource resource = registry.get("default", new FleaRegistry.Loader<String, Resource>() {
+            @Override
+            public Resource load(String key) {
+                return new Resource(key, null);
+            }
+        });
+        Assert.assertEquals("default", resource.key);
+        Assert.assertEquals(1, registry.size());
+    }
+
+    @Test
+    public void testRecursiveGetFails() throws Exception {
+        final FleaRegistry<String, Resource> registry = new FleaRegistry<>("recursive");
+        final FleaRegistry.Loader<String, Resource> loader = new FleaRegistry.Loader<String, Resource>() {
+            @Override
+            public Resource load(String key) {
+                // first -> second -> first，同一线程再次获取正在创建的键
+                return registry.get("first".equals(key) ? "second" : "first", this);
+            }
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Resource> future = executor.submit(new Callable<Resource>() {
+                @Override
+                public Resource call() {
+                    return registry.get("first", loader);
+                }
+            });
+            try {
+                future.get(5, TimeUnit.SECONDS);
+                Assert.fail("Recursive get should fail");
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        // 创建失败不缓存
+        Assert.assertEquals(0, registry.size());
+    }
+
+    @Test
+    public void testCloseInReverseOrder() {
+        FleaRegistry<String, Resource> registry = new FleaRegistry<>("close");
+        final List<String> closed = Collections.synchronizedList(new ArrayList<String>());
+        FleaRegistry.Loader<String, Resource> loader = new FleaRegistry.Loader<String, Resource>() {
+            @Override
+            public Resource load(String key) {
+                if ("broken".equals(key)) {
+                    return new Resource(key, null);
+                }
+                return new Resource(key, closed);
+            }
+        };
+        Resource first = registry.get("first", loader);
+        registry.get("broken", loader);
+        registry.get("second", loader);
+        registry.get("third", loader);
+        Assert.assertEquals(4, registry.size());
+
+        // 释放异常不影响其他资源的释放
+        registry.close();
+        Assert.assertEquals(0, registry.size());
+        Assert.assertEquals(3, closed.size());
+        Assert.assertEquals("third", closed.get(0));
+        Assert.assertEquals("second", closed.get(1));
+        Assert.assertEquals("first", closed.get(2));
+
+        // 关闭后再次获取时重新创建
+        Assert.assertNotSame(first, registry.get("first", loader));
+    }
+
+    private static <T> List<T> runConcurrently(final Callable<T> task) throws Exception {
+        final CountDownLatch startSignal = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<T>> futures = new ArrayList<>(THREADS);
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(new Callable<T>() {
+                    @Override
+                    public T call() throws Exception {
+                        startSignal.await();
+                        return task.call();
+                    }
+                }));
+            }
+            startSignal.countDown();
+            List<T> results = new ArrayList<>(THREADS);
+            for (Future<T> future : futures) {
+                results.add(future.get(10, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 注册的资源，关闭时记录键；未指定关闭记录时关闭抛出异常
+     */
+    private static final class Resource implements Closeable {
+
+        private final String key;
+
+        private final List<String> closed;
+
+        private Resource(String key, List<String> closed) {
+            this.key = key;
+            this.closed = closed;
+        }
+
+        @Override
+        public void close() {
+            if (null == closed) {
+                throw new IllegalStateException("Close failed : " + key);
+            }
+            closed.add(key);
+        }
+    }
+}
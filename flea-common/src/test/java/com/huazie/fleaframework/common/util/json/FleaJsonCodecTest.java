@@ -0,0 +1,76 @@
+package com.huazie.fleaframework.common.util.json;
+
+import com.google.gson.JsonSyntaxException;
+import com.huazie.fleaframework.common.i18n.pojo.FleaI18nData;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Flea JSON 编解码器单元测试
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaJsonCodecTest {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaJsonCodecTest.class);
+
+    @Test
+    public void testGsonCodec() {
+        testCodec(GsonCodec.getInstance());
+        // 同一类型只绑定一次类型适配器
+        Assert.assertSame(GsonCodec.getInstance().getAdapter(FleaI18nData.class), GsonCodec.getInstance().getAdapter(FleaI18nData.class));
+    }
+
+    @Test(expected = JsonSyntaxException.class)
+    public void testGsonCodecTrailingContent() {
+        GsonCodec.getInstance().toEntity("{\"key\":\"k\"} {\"key\":\"k1\"}", FleaI18nData.class);
+    }
+
+    @Test
+    public void testFastJsonCodec() {
+        testCodec(FastJsonCodec.getInstance());
+    }
+
+    @Test
+    public void testCodecFactory() {
+        IFleaJsonCodec codec = FleaJsonCodecFactory.getCodec();
+        LOGGER.debug("Default Codec = {}", codec.getClass().getSimpleName());
+        // 未单独配置的使用处，使用默认使用处的 JSON 引擎
+        Assert.assertSame(codec, FleaJsonCodecFactory.getCodec("flea-json-codec-test"));
+    }
+
+    private void testCodec(IFleaJsonCodec codec) {
+        FleaI18nData data = new FleaI18nData();
+        data.setKey("CACHE0000005");
+        data.setValue("你从哪里来");
+
+        String json = codec.toJsonString(data);
+        LOGGER.debug("{} Json = {}", codec.getClass().getSimpleName(), json);
+        FleaI18nData data1 = codec.toEntity(json, FleaI18nData.class);
+        Assert.assertEquals(data.getValue(), data1.getValue());
+
+        // 直接读写流，不构建中间的 JSON 字符串
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        codec.toJson(data, out);
+        FleaI18nData data2 = codec.toEntity(new ByteArrayInputStream(out.toByteArray()), FleaI18nData.class);
+        Assert.assertEquals(data.getValue(), data2.getValue());
+
+        List<FleaI18nData> entityList = new ArrayList<>();
+        entityList.add(data);
+        entityList.add(data1);
+        List<FleaI18nData> entityList1 = codec.toEntityList(codec.toJsonString(entityList), FleaI18nData.class);
+        Assert.assertEquals(2, entityList1.size());
+        Assert.assertEquals(data.getKey(), entityList1.get(0).getKey());
+
+        Assert.assertEquals(data.getKey(), codec.toMap(json).get("key"));
+    }
+}
@@ -0,0 +1,113 @@
+package com.huazie.fleaframework.common.util.xml;
+
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.annotation.XmlRootElement;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+
+/**
+ * JAXB 工具类单元测试，包含缓存 JAXB 上下文前后的开销对比
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class JABXUtilsTest {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(JABXUtilsTest.class);
+
+    private static final int ITERATIONS = 2000;
+
+    @Test
+    public void testRoundTrip() {
+        XmlData data = newData();
+
+        String xml = JABXUtils.toXml(data, false);
+        LOGGER.debug("XML = {}", xml);
+        XmlData data1 = JABXUtils.fromXml(xml, XmlData.class);
+        Assert.assertEquals(data.getCode(), data1.getCode());
+        Assert.assertEquals(data.getValue(), data1.getValue());
+
+        // 直接读写流，不构建中间的 XML 字符串
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JABXUtils.toXml(data, true, out);
+        XmlData data2 = JABXUtils.fromXml(new ByteArrayInputStream(out.toByteArray()), XmlData.class);
+        Assert.assertEquals(data.getValue(), data2.getValue());
+
+        // 同一个 pojo 类只创建一次 JAXB 上下文
+        Assert.assertEquals(1, JAXBContextRegistry.getRegistry().size());
+    }
+
+    @Test
+    public void testCachedContext() throws Exception {
+        XmlData data = newData();
+        for (int i = 0; i < ITERATIONS; i++) {
+            toXmlByNewContext(data);
+            JABXUtils.toXml(data, false);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            toXmlByNewContext(data);
+        }
+        long newContextCost = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            JABXUtils.toXml(data, false);
+        }
+        long cachedContextCost = System.nanoTime() - start;
+
+        LOGGER.debug("New JAXBContext    : {} ns/op", newContextCost / ITERATIONS);
+        LOGGER.debug("Cached JAXBContext : {} ns/op", cachedContextCost / ITERATIONS);
+    }
+
+    /**
+     * 缓存前的实现，每次都创建 JAXB 上下文和编组器
+     */
+    private static String toXmlByNewContext(XmlData data) throws Exception {
+        StringWriter writer = new StringWriter();
+        Marshaller marshaller = JAXBContext.newInstance(XmlData.class).createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, false);
+        marshaller.marshal(data, writer);
+        return writer.toString();
+    }
+
+    private static XmlData newData() {
+        XmlData data = new XmlData();
+        data.setCode("FLEA_XML");
+        data.setValue("你好，JAXB");
+        return data;
+    }
+
+    @XmlRootElement(name = "XML_DATA")
+    public static class XmlData {
+
+        private String code;
+
+        private String value;
+
+        public String getCode() {
+            return code;
+        }
+
+        public void setCode(String code) {
+            this.code = code;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+    }
+}
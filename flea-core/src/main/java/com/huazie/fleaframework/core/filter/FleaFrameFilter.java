@@ -17,8 +17,12 @@ import java.io.IOException;
  * Flea框架 Web 请求过滤器，用于拦截 Web 请求。在请求执行之前，
  * 先执行过滤器任务链，其中包含了URL校验、SESSION校验等任务。
  *
+ * <p> 静态资源请求（见 <b>flea-request.xml</b> 中的 {@code <static-urls>}）
+ * 同样先经过URL校验过滤器任务的非法字符校验，校验通过后直接放行，
+ * 不再执行SESSION校验等后续过滤器任务。
+ *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public class FleaFrameFilter implements Filter {
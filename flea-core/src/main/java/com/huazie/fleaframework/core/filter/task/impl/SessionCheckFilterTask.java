@@ -11,15 +11,19 @@ import com.huazie.fleaframework.common.util.TimeUtil;
 import com.huazie.fleaframework.core.filter.task.IFilterTask;
 import com.huazie.fleaframework.core.filter.taskchain.IFilterTaskChain;
 import com.huazie.fleaframework.core.request.FleaRequestContext;
+import com.huazie.fleaframework.core.request.FleaRequestSession;
 import com.huazie.fleaframework.core.request.FleaRequestUtil;
 import com.huazie.fleaframework.core.request.config.FleaSession;
-
-import javax.servlet.http.HttpServletRequest;
-import javax.servlet.http.HttpSession;
+import com.huazie.fleaframework.core.request.matcher.UrlTypeEnum;
 
 /**
  * SESSION信息校验过滤器任务
  *
+ * <p> 只有业务请求和页面跳转请求才需要校验 SESSION 信息，
+ * 其他请求（包括不需校验的URL和静态资源URL）在访问 SESSION 之前直接跳过；
+ * SESSION 属性通过请求上下文中的 {@link FleaRequestSession} 批量读写，
+ * 不会为未登录的请求创建新的 SESSION。
+ *
  * @author huazie
  * @version 1.0.0
  * @since 1.0.0
@@ -28,6 +32,8 @@ public class SessionCheckFilterTask implements IFilterTask {
 
     private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(SessionCheckFilterTask.class);
 
+    private static final int SKIP_URL_TYPES = UrlTypeEnum.UNCHECK.getMask() | UrlTypeEnum.STATIC.getMask();
+
     @Override
     public void doFilterTask(FleaRequestContext fleaRequestContext, IFilterTaskChain filterTaskChain) throws CommonException {
         Object obj = new Object() {};
@@ -41,34 +47,34 @@ public class SessionCheckFilterTask implements IFilterTask {
             return;
         }
 
-        HttpServletRequest request = (HttpServletRequest) fleaRequestContext.getServletRequest();
-        if (ObjectUtils.isNotEmpty(request)) {
-            String uri = request.getRequestURI();
-            HttpSession httpSession = request.getSession();
-            // 业务请求
-            if (ObjectUtils.isNotEmpty(httpSession) && (FleaRequestUtil.isBusinessUrl(uri) || FleaRequestUtil.isPageUrl(uri))) {
-                // 用户没有登录
-                if (!isLogin(httpSession, userSessionKey)) {
-                    if (FleaRequestUtil.isBusinessUrl(uri)) {
-                        LOGGER.debug1(obj, "Business Request And User Not Login, Redirect to Login Page");
-                    } else if (FleaRequestUtil.isPageUrl(uri)) {
-                        LOGGER.debug1(obj, "Page Request And User Not Login, Redirect to Login Page");
-                    }
-                    // 重定向到登录页面
-                    FleaRequestUtil.sendRedirectToLoginPage(fleaRequestContext);
-                    return;
+        // 请求URL的类型在同一请求内只匹配一次
+        int urlTypes = fleaRequestContext.getUrlTypes();
+        boolean isBusinessUrl = UrlTypeEnum.BUSINESS.in(urlTypes);
+        boolean isPageUrl = UrlTypeEnum.PAGE.in(urlTypes);
+        // 业务请求
+        if ((isBusinessUrl || isPageUrl) && (urlTypes & SKIP_URL_TYPES) == 0) {
+            FleaRequestSession requestSession = fleaRequestContext.getRequestSession();
+            // 用户没有登录
+            if (!isLogin(requestSession, userSessionKey)) {
+                if (isBusinessUrl) {
+                    LOGGER.debug1(obj, "Business Request And User Not Login, Redirect to Login Page");
+                } else {
+                    LOGGER.debug1(obj, "Page Request And User Not Login, Redirect to Login Page");
                 }
-                // 用户登录已失效
-                if (isLoginExpired(httpSession, userSessionKey)) {
-                    if (FleaRequestUtil.isBusinessUrl(uri)) {
-                        LOGGER.debug1(obj, "Business Request And User Session Has Expired, Redirect to Login Page");
-                    } else if (FleaRequestUtil.isPageUrl(uri)) {
-                        LOGGER.debug1(obj, "Page Request And User Session Has Expired, Redirect to Login Page");
-                    }
-                    // 重定向到登录页面
-                    FleaRequestUtil.sendRedirectToLoginPage(fleaRequestContext);
-                    return;
+                // 重定向到登录页面
+                FleaRequestUtil.sendRedirectToLoginPage(fleaRequestContext);
+                return;
+            }
+            // 用户登录已失效
+            if (isLoginExpired(requestSession, userSessionKey)) {
+                if (isBusinessUrl) {
+                    LOGGER.debug1(obj, "Business Request And User Session Has Expired, Redirect to Login Page");
+                } else {
+                    LOGGER.debug1(obj, "Page Request And User Session Has Expired, Redirect to Login Page");
                 }
+                // 重定向到登录页面
+                FleaRequestUtil.sendRedirectToLoginPage(fleaRequestContext);
+                return;
             }
         }
 
@@ -78,19 +84,15 @@ public class SessionCheckFilterTask implements IFilterTask {
     }
 
     /**
-     * 判断用户是否登录
+     * 判断用户是否登录，SESSION 不存在时视为未登录
      *
-     * @param session        HttpSession对象
+     * @param requestSession 请求会话
      * @param userSessionKey 用户SESSION信息键
      * @return true：已登录 , false: 未登录
      * @since 1.0.0
      */
-    private boolean isLogin(HttpSession session, String userSessionKey) {
-        boolean isLogin = false;
-        Object sessionObj = session.getAttribute(userSessionKey);
-        if (ObjectUtils.isNotEmpty(sessionObj)) {
-            isLogin = true;
-        }
+    private boolean isLogin(FleaRequestSession requestSession, String userSessionKey) {
+        boolean isLogin = requestSession.exists() && ObjectUtils.isNotEmpty(requestSession.getAttribute(userSessionKey));
         Object obj = new Object() {};
         if (isLogin) {
             LOGGER.debug1(obj, "Login");
@@ -103,61 +105,60 @@ public class SessionCheckFilterTask implements IFilterTask {
     /**
      * 判断用户Session是否已经失效
      *
-     * @param session HttpSession对象
+     * @param requestSession 请求会话
+     * @param userSessionKey 用户SESSION信息键
      * @return true：已失效 , false: 未失效
      */
-    private boolean isLoginExpired(HttpSession session, String userSessionKey) throws CommonException {
+    private boolean isLoginExpired(FleaRequestSession requestSession, String userSessionKey) throws CommonException {
         boolean isExpired = false;
         // 获取当前时间
         long currentTime = TimeUtil.getSystemCurrentTimeForLong();
         // 上一次激活时间
-        String oldActiveTimeStr = StringUtils.valueOf(session.getAttribute(FleaSession.SESSION_ACTIVE_TIME));
-        if (StringUtils.isNotBlank(oldActiveTimeStr)) {
+        String oldActiveTimeStr = StringUtils.valueOf(requestSession.getAttribute(FleaSession.SESSION_ACTIVE_TIME));
+        // 获取Session空闲时间配置（单位：ms），已预先解析，不大于 0 时不限制
+        long idleTimeMillis = FleaRequestUtil.getIdleTimeMillis();
+        if (StringUtils.isNotBlank(oldActiveTimeStr) && idleTimeMillis > 0) {
             // Session上一次激活时间
-            Long oldActiveTime = Long.valueOf(oldActiveTimeStr);
-            // 获取Session空闲时间配置（单位：s）
-            Long idleTime = Long.valueOf(FleaRequestUtil.getIdleTime());
+            long oldActiveTime = Long.parseLong(oldActiveTimeStr);
             // Session实际空闲时长
             long realIdleTime = currentTime - oldActiveTime;
             Object obj = new Object() {};
             LOGGER.debug1(obj, "*************************");
-            LOGGER.debug1(obj, "IdleTime     = {}s", idleTime);
+            LOGGER.debug1(obj, "IdleTime     = {}s", idleTimeMillis / 1000);
             LOGGER.debug1(obj, "RealIdleTime = {}s", realIdleTime / 1000);
             LOGGER.debug1(obj, "*************************");
 
-            if (currentTime - oldActiveTime > idleTime * 1000) {
+            if (realIdleTime > idleTimeMillis) {
                 // 用户Session已经失效
                 isExpired = true;
                 // 去除上一次激活时间属性
-                session.removeAttribute(FleaSession.SESSION_ACTIVE_TIME);
+                requestSession.removeAttribute(FleaSession.SESSION_ACTIVE_TIME);
             } else {
                 // 激活用户Session信息
-                activeUserSession(session, userSessionKey, currentTime);
+                activeUserSession(requestSession, userSessionKey, currentTime);
             }
         } else {
             // 激活用户Session信息
-            activeUserSession(session, userSessionKey, currentTime);
+            activeUserSession(requestSession, userSessionKey, currentTime);
         }
 
         return isExpired;
     }
 
     /**
-     * 激活用户Session信息
+     * 激活用户Session信息，激活时间在过滤器任务链执行完毕时写回
      *
-     * @param session HttpSession对象
+     * @param requestSession 请求会话
      * @param userSessionKey 用户Session信息键
-     * @param activeTime 用户Session激活时间
+     * @param activeTime     用户Session激活时间
      * @since 1.0.0
      */
-    private void activeUserSession(HttpSession session, String userSessionKey, long activeTime) {
+    private void activeUserSession(FleaRequestSession requestSession, String userSessionKey, long activeTime) {
         // 重新设置Session激活时间为当前时间
-        session.setAttribute(FleaSession.SESSION_ACTIVE_TIME, activeTime);
-        Object sessionObj = session.getAttribute(userSessionKey);
-        if (ObjectUtils.isNotEmpty(sessionObj)) {
-            if (sessionObj instanceof IFleaUser) {
-                FleaSessionManager.setUserInfo((IFleaUser) sessionObj);
-            }
+        requestSession.setAttribute(FleaSession.SESSION_ACTIVE_TIME, activeTime);
+        Object sessionObj = requestSession.getAttribute(userSessionKey);
+        if (sessionObj instanceof IFleaUser) {
+            FleaSessionManager.setUserInfo((IFleaUser) sessionObj);
         }
     }
 }
@@ -5,13 +5,13 @@ import com.huazie.fleaframework.common.slf4j.FleaLogger;
 import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
 import com.huazie.fleaframework.common.util.ExceptionUtils;
 import com.huazie.fleaframework.common.util.ObjectUtils;
-import com.huazie.fleaframework.common.util.PatternMatcherUtils;
 import com.huazie.fleaframework.common.util.StringUtils;
 import com.huazie.fleaframework.core.filter.task.FleaFilterTaskException;
 import com.huazie.fleaframework.core.filter.task.IFilterTask;
 import com.huazie.fleaframework.core.filter.taskchain.IFilterTaskChain;
 import com.huazie.fleaframework.core.request.FleaRequestContext;
 import com.huazie.fleaframework.core.request.FleaRequestUtil;
+import com.huazie.fleaframework.core.request.matcher.UrlTypeEnum;
 
 import javax.servlet.http.HttpServletRequest;
 import java.util.regex.Pattern;
@@ -20,7 +20,7 @@ import java.util.regex.Pattern;
  * URL校验过滤器任务
  *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public class UrlCheckFilterTask implements IFilterTask {
@@ -29,22 +29,25 @@ public class UrlCheckFilterTask implements IFilterTask {
 
     private static final String DEFAULT_URL_ILLEGAL_CHAR = "<|>|alert|document.cookie|href|script|select|insert|update|delete|truncate|exec|drop";
 
+    private static final Pattern DEFAULT_URL_ILLEGAL_CHAR_PATTERN = Pattern.compile(DEFAULT_URL_ILLEGAL_CHAR, Pattern.CASE_INSENSITIVE);
+
     @Override
     public void doFilterTask(FleaRequestContext fleaRequestContext, IFilterTaskChain filterTaskChain) throws CommonException {
         Object obj = new Object() {};
         LOGGER.debug1(obj, "Start");
 
-        String urlIllegalChar = FleaRequestUtil.getUrlIllegalChar();
-        if (StringUtils.isBlank(urlIllegalChar)) {
-            urlIllegalChar = DEFAULT_URL_ILLEGAL_CHAR;
+        // URL非法字符的正则表达式已预先编译
+        Pattern urlIllegalCharPattern = FleaRequestUtil.getUrlIllegalCharPattern();
+        if (ObjectUtils.isEmpty(urlIllegalCharPattern)) {
+            urlIllegalCharPattern = DEFAULT_URL_ILLEGAL_CHAR_PATTERN;
         }
 
-        LOGGER.debug1(obj, "URL_ILLEGAL_CHAR = {}", urlIllegalChar);
+        LOGGER.debug1(obj, "URL_ILLEGAL_CHAR = {}", urlIllegalCharPattern);
 
         HttpServletRequest request = (HttpServletRequest) fleaRequestContext.getServletRequest();
         if (ObjectUtils.isNotEmpty(request)) {
             String queryString = request.getQueryString();
-            if (StringUtils.isNotBlank(queryString) && PatternMatcherUtils.matches(urlIllegalChar, queryString, Pattern.CASE_INSENSITIVE)) {
+            if (StringUtils.isNotBlank(queryString) && urlIllegalCharPattern.matcher(queryString).matches()) {
                 // 检测到浏览器请求地址栏中存在非法的字符，已限制访问！！！
                 ExceptionUtils.throwCommonException(FleaFilterTaskException.class, "ERROR-CORE-FILTER0000000001");
             }
@@ -52,14 +55,23 @@ public class UrlCheckFilterTask implements IFilterTask {
             String uri = request.getRequestURI();
             LOGGER.debug1(obj, "URI = {}", uri);
 
+            // 请求URL的类型在同一请求内只匹配一次
+            int urlTypes = fleaRequestContext.getUrlTypes();
+
+            // 静态资源URL，非法字符校验通过后直接放行，不执行后续过滤器任务
+            if (UrlTypeEnum.STATIC.in(urlTypes)) {
+                LOGGER.debug1(obj, "Static URL");
+                return;
+            }
+
             // 不需校验的URL，直接跳过
-            if (FleaRequestUtil.isUnCheckUrl(uri)) {
+            if (UrlTypeEnum.UNCHECK.in(urlTypes)) {
                 LOGGER.debug1(obj, "UnCheck URL");
                 return;
             }
 
             // 需要校验的URL【默认重定向到登录页面】
-            if (FleaRequestUtil.isCheckUrl(uri)) {
+            if (UrlTypeEnum.CHECK.in(urlTypes)) {
                 LOGGER.debug1(obj, "Check URL, Redirect to Login Page");
                 // 重定向到登录页面
                 FleaRequestUtil.sendRedirectToLoginPage(fleaRequestContext);
@@ -16,7 +16,7 @@ public class FleaFilterTaskChainManager {
 
     private static volatile FleaFilterTaskChainManager manager;
 
-    private FleaFilterTaskChain fleaFilterTaskChain;
+    private final FleaFilterTaskChain fleaFilterTaskChain;
 
     private FleaFilterTaskChainManager(FleaFilterTaskChain filterTaskChain) {
         this.fleaFilterTaskChain = filterTaskChain;
@@ -47,9 +47,12 @@ public class FleaFilterTaskChainManager {
      * @since 1.0.0
      */
     public void doFilterTask(FleaRequestContext fleaRequestContext) throws CommonException {
-        fleaFilterTaskChain.doFilterTask(fleaRequestContext);
-        // 过滤器任务链执行完毕，当前线程重置过滤器任务执行位置
-        fleaFilterTaskChain.reset();
+        try {
+            fleaFilterTaskChain.doFilterTask(fleaRequestContext);
+        } finally {
+            // 过滤器任务链执行完毕，一次性写回过滤器任务暂存的 SESSION 属性修改
+            fleaRequestContext.flushRequestSession();
+        }
     }
 
 }
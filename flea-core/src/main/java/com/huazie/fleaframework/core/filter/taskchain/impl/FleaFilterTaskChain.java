@@ -1,7 +1,8 @@
 package com.huazie.fleaframework.core.filter.taskchain.impl;
 
-import com.huazie.fleaframework.common.CommonConstants;
 import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.common.metrics.FleaMetric;
+import com.huazie.fleaframework.common.metrics.FleaMetrics;
 import com.huazie.fleaframework.common.util.CollectionUtils;
 import com.huazie.fleaframework.common.util.ObjectUtils;
 import com.huazie.fleaframework.common.util.ReflectUtils;
@@ -18,27 +19,55 @@ import java.util.List;
  * Flea过滤器任务链，从配置文件 <b>flea-request-filter.xml</b>
  * 中获取过滤器任务链，然后调用统一的API执行过滤器任务。
  *
+ * <p> 过滤器任务在初始化时按顺序编译为数组，过滤器任务链本身无状态，
+ * 可被多个线程共享；每次请求创建一个轻量的 {@link FilterTaskInvocation}
+ * 作为实际传给过滤器任务的任务链，由它记录当前请求的执行位置，
+ * 不再依赖线程本地变量，也无需在请求结束后重置。
+ *
+ * <p> 开启指标统计时，记录每个过滤器任务自身的耗时（不包含其调用的
+ * 后续过滤器任务的耗时）；过滤器任务未调用后续任务即返回（如重定向），
+ * 计为拒绝；抛出异常时，只在异常抛出的过滤器任务上计为异常。
+ *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public class FleaFilterTaskChain implements IFilterTaskChain {
 
-    private List<IFilterTask> filterTaskList; // 过滤器任务
+    private static final String METRIC_FILTER_TASK_PREFIX = "core.filtertask.";
+
+    private static final IFilterTask[] EMPTY_FILTER_TASKS = new IFilterTask[0];
+
+    private final IFilterTask[] filterTasks; // 过滤器任务
 
-    private static ThreadLocal<Integer> sCurrentPosition = new ThreadLocal<>(); // 过滤器任务执行位置
+    private final FleaMetric[] filterTaskMetrics; // 过滤器任务指标，未开启指标统计时为 null
 
     public FleaFilterTaskChain() {
-        init();
+        this(convert(FleaRequestConfig.getFilterTasks()));
     }
 
     /**
-     * 初始化过滤器任务链
+     * 使用指定的过滤器任务创建过滤器任务链
      *
-     * @since 1.0.0
+     * @param filterTaskList 过滤器任务，按执行顺序排列
+     * @since 2.0.0
      */
-    private void init() {
-        filterTaskList = convert(FleaRequestConfig.getFilterTasks());
+    public FleaFilterTaskChain(List<IFilterTask> filterTaskList) {
+        if (CollectionUtils.isEmpty(filterTaskList)) {
+            filterTasks = EMPTY_FILTER_TASKS;
+        } else {
+            filterTasks = filterTaskList.toArray(new IFilterTask[filterTaskList.size()]);
+        }
+
+        FleaMetrics metrics = FleaMetrics.getMetrics();
+        if (metrics.isEnabled() && filterTasks.length > 0) {
+            filterTaskMetrics = new FleaMetric[filterTasks.length];
+            for (int i = 0; i < filterTasks.length; i++) {
+                filterTaskMetrics[i] = metrics.getMetric(METRIC_FILTER_TASK_PREFIX + filterTasks[i].getClass().getName());
+            }
+        } else {
+            filterTaskMetrics = null;
+        }
     }
 
     /**
@@ -48,7 +77,7 @@ public class FleaFilterTaskChain implements IFilterTaskChain {
      * @return 过滤器链实现类集合
      * @since 1.0.0
      */
-    private List<IFilterTask> convert(List<FilterTask> filterTasks) {
+    private static List<IFilterTask> convert(List<FilterTask> filterTasks) {
         List<IFilterTask> fleaFilterTaskList = null;
         if (CollectionUtils.isNotEmpty(filterTasks)) {
             fleaFilterTaskList = new ArrayList<>();
@@ -65,52 +94,114 @@ public class FleaFilterTaskChain implements IFilterTaskChain {
     }
 
     /**
-     * 执行过滤器任务链
+     * 从第一个过滤器任务开始，执行过滤器任务链
      *
      * @param fleaRequestContext Flea请求上下文
      * @throws CommonException 通用异常
      * @since 1.0.0
      */
+    @Override
     public void doFilterTask(FleaRequestContext fleaRequestContext) throws CommonException {
-        Integer currentPosition = getCurrentPosition();
-        if (currentPosition < filterTaskList.size()) {
-            IFilterTask filterTask = filterTaskList.get(currentPosition);
-            setCurrentPosition(++currentPosition);
-            filterTask.doFilterTask(fleaRequestContext, this);
+        if (filterTasks.length > 0) {
+            new FilterTaskInvocation(this).doFilterTask(fleaRequestContext);
         }
     }
 
     /**
-     * 获取当前过滤器任务链中处理的过滤器任务位置
+     * 获取过滤器任务数
      *
-     * @return 返回当前过滤器任务链中处理的过滤器任务位置
-     * @since 1.0.0
+     * @return 过滤器任务数
+     * @since 2.0.0
      */
-    private Integer getCurrentPosition() {
-        Integer currentPosition = sCurrentPosition.get();
-        if (ObjectUtils.isEmpty(currentPosition)) {
-            currentPosition = CommonConstants.NumeralConstants.INT_ZERO;
-        }
-        return currentPosition;
+    public int size() {
+        return filterTasks.length;
     }
 
     /**
-     * 设置当前过滤器任务链中处理的过滤器任务位置
+     * 过滤器任务链的执行位置已由每次请求的 {@link FilterTaskInvocation} 记录，无需重置
      *
-     * @param currentPosition 过滤器任务位置
      * @since 1.0.0
+     * @deprecated 过滤器任务链已无状态，保留该方法只为兼容
      */
-    private void setCurrentPosition(Integer currentPosition) {
-        sCurrentPosition.set(currentPosition);
+    @Deprecated
+    public void reset() {
+        // 空实现
     }
 
     /**
-     * 过滤器任务链执行完毕，当前线程重置过滤器任务执行位置
+     * 过滤器任务链的单次执行，记录当前请求的执行位置和指标统计状态，
+     * 只在一次请求内使用。
      *
-     * @since 1.0.0
+     * @since 2.0.0
      */
-    public void reset() {
-        setCurrentPosition(CommonConstants.NumeralConstants.INT_ZERO);
+    private static final class FilterTaskInvocation implements IFilterTaskChain {
+
+        private final IFilterTask[] filterTasks; // 过滤器任务
+
+        private final FleaMetric[] filterTaskMetrics; // 过滤器任务指标
+
+        private int position; // 下一个待执行的过滤器任务位置
+
+        private long nestedNanos; // 已执行的过滤器任务累计耗时，用于扣除后续过滤器任务的耗时
+
+        private Throwable lastError; // 最近一次已计数的异常，避免上层过滤器任务重复计数
+
+        private FilterTaskInvocation(FleaFilterTaskChain filterTaskChain) {
+            this.filterTasks = filterTaskChain.filterTasks;
+            this.filterTaskMetrics = filterTaskChain.filterTaskMetrics;
+        }
+
+        @Override
+        public void doFilterTask(FleaRequestContext fleaRequestContext) throws CommonException {
+            int currentPosition = position;
+            if (currentPosition < filterTasks.length) {
+                IFilterTask filterTask = filterTasks[currentPosition];
+                position = currentPosition + 1;
+                if (ObjectUtils.isEmpty(filterTaskMetrics)) {
+                    filterTask.doFilterTask(fleaRequestContext, this);
+                } else {
+                    doFilterTaskWithMetrics(filterTask, filterTaskMetrics[currentPosition], currentPosition + 1, fleaRequestContext);
+                }
+            }
+        }
+
+        /**
+         * 执行过滤器任务并记录其自身耗时
+         *
+         * @param filterTask         过滤器任务
+         * @param metric             过滤器任务指标
+         * @param nextPosition       后续过滤器任务的位置
+         * @param fleaRequestContext Flea请求上下文
+         * @throws CommonException 通用异常
+         * @since 2.0.0
+         */
+        private void doFilterTaskWithMetrics(IFilterTask filterTask, FleaMetric metric, int nextPosition,
+                                             FleaRequestContext fleaRequestContext) throws CommonException {
+            long nestedNanosBefore = nestedNanos;
+            long start = System.nanoTime();
+            Throwable error = null;
+            try {
+                filterTask.doFilterTask(fleaRequestContext, this);
+            } catch (RuntimeException | Error e) {
+                error = e;
+                throw e;
+            } finally {
+                long nanos = System.nanoTime() - start;
+                // 扣除后续过滤器任务的耗时，得到当前过滤器任务自身的耗时
+                long selfNanos = nanos - (nestedNanos - nestedNanosBefore);
+                nestedNanos = nestedNanosBefore + nanos;
+                if (ObjectUtils.isNotEmpty(error) && error != lastError) {
+                    // 异常只在抛出它的过滤器任务上计数
+                    lastError = error;
+                    metric.recordError(selfNanos);
+                } else if (ObjectUtils.isEmpty(error) && nextPosition < filterTasks.length && position == nextPosition) {
+                    // 未调用后续过滤器任务即返回
+                    metric.recordReject(selfNanos);
+                } else {
+                    metric.record(selfNanos);
+                }
+            }
+        }
     }
 
 }
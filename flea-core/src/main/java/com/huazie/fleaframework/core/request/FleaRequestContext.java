@@ -1,13 +1,19 @@
 package com.huazie.fleaframework.core.request;
 
 import com.huazie.fleaframework.common.FleaCommonConfig;
+import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.common.util.ObjectUtils;
 
 import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
 
 /**
  * Flea请求上下文，包含 Servlet请求对象 和 响应对象。
  *
+ * <p> 同时作为过滤器任务间共享的单次请求上下文：请求URL的类型
+ * 只匹配一次，SESSION 属性通过 {@link FleaRequestSession} 批量访问。
+ *
  * @author huazie
  * @version 1.0.0
  * @since 1.0.0
@@ -24,6 +30,10 @@ public class FleaRequestContext extends FleaCommonConfig {
 
     private ServletResponse servletResponse;
 
+    private int urlTypes = -1; // 请求URL的类型，未匹配时为 -1
+
+    private FleaRequestSession requestSession; // 请求会话
+
     public FleaRequestContext() {
     }
 
@@ -38,6 +48,8 @@ public class FleaRequestContext extends FleaCommonConfig {
 
     public void setServletRequest(ServletRequest servletRequest) {
         this.servletRequest = servletRequest;
+        this.urlTypes = -1;
+        this.requestSession = null;
     }
 
     public ServletResponse getServletResponse() {
@@ -47,4 +59,48 @@ public class FleaRequestContext extends FleaCommonConfig {
     public void setServletResponse(ServletResponse servletResponse) {
         this.servletResponse = servletResponse;
     }
+
+    /**
+     * 获取请求URL的类型，同一请求只匹配一次
+     *
+     * @return 命中的URL类型，按位组合，可通过
+     * {@link com.huazie.fleaframework.core.request.matcher.UrlTypeEnum#in(int)} 判断
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    public int getUrlTypes() throws CommonException {
+        if (urlTypes < 0) {
+            int types = 0;
+            if (servletRequest instanceof HttpServletRequest) {
+                types = FleaRequestUtil.matchUrl(((HttpServletRequest) servletRequest).getRequestURI());
+            }
+            urlTypes = types;
+        }
+        return urlTypes;
+    }
+
+    /**
+     * 获取请求会话，用于批量访问 SESSION 属性
+     *
+     * @return 请求会话
+     * @since 2.0.0
+     */
+    public FleaRequestSession getRequestSession() {
+        if (ObjectUtils.isEmpty(requestSession)) {
+            HttpServletRequest request = servletRequest instanceof HttpServletRequest ? (HttpServletRequest) servletRequest : null;
+            requestSession = new FleaRequestSession(request);
+        }
+        return requestSession;
+    }
+
+    /**
+     * 将请求会话中暂存的 SESSION 属性修改写回
+     *
+     * @since 2.0.0
+     */
+    public void flushRequestSession() {
+        if (ObjectUtils.isNotEmpty(requestSession)) {
+            requestSession.flush();
+        }
+    }
 }
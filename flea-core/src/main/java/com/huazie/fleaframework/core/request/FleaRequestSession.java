@@ -0,0 +1,144 @@
+package com.huazie.fleaframework.core.request;
+
+import com.huazie.fleaframework.common.util.ObjectUtils;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Flea 请求会话，在一次请求内批量访问 SESSION 属性。
+ *
+ * <p> 同一请求中多个过滤器任务读取的 SESSION 属性，只从容器的
+ * {@link HttpSession} 中读取一次；对 SESSION 属性的修改和删除
+ * 先暂存，在过滤器任务链执行完毕时，通过 {@link #flush()} 一次性写回，
+ * 同一属性多次修改只写回最后一次的值。
+ *
+ * <p> 该对象只在一次请求内使用，非线程安全。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaRequestSession {
+
+    private static final Object REMOVED = new Object(); // 已删除的属性值标识
+
+    private final HttpServletRequest request; // HTTP请求对象
+
+    private HttpSession session; // HTTP会话，未创建时为 null
+
+    private boolean sessionLoaded; // 是否已获取过HTTP会话
+
+    private Map<String, Object> attributes; // 已读取的属性
+
+    private Map<String, Object> changes; // 待写回的属性修改
+
+    public FleaRequestSession(HttpServletRequest request) {
+        this.request = request;
+    }
+
+    /**
+     * 获取当前请求已存在的HTTP会话，不会创建新的会话
+     *
+     * @return HTTP会话，不存在时返回 null
+     * @since 2.0.0
+     */
+    public HttpSession getSession() {
+        if (!sessionLoaded) {
+            session = ObjectUtils.isEmpty(request) ? null : request.getSession(false);
+            sessionLoaded = true;
+        }
+        return session;
+    }
+
+    /**
+     * 当前请求是否存在HTTP会话
+     *
+     * @return true：存在，false：不存在
+     * @since 2.0.0
+     */
+    public boolean exists() {
+        return ObjectUtils.isNotEmpty(getSession());
+    }
+
+    /**
+     * 获取SESSION属性，同一属性在一次请求内只读取一次
+     *
+     * @param name 属性名
+     * @return 属性值
+     * @since 2.0.0
+     */
+    public Object getAttribute(String name) {
+        if (ObjectUtils.isNotEmpty(changes) && changes.containsKey(name)) {
+            Object value = changes.get(name);
+            return value == REMOVED ? null : value;
+        }
+        if (ObjectUtils.isEmpty(attributes)) {
+            attributes = new HashMap<>();
+        } else if (attributes.containsKey(name)) {
+            return attributes.get(name);
+        }
+        HttpSession httpSession = getSession();
+        Object value = ObjectUtils.isEmpty(httpSession) ? null : httpSession.getAttribute(name);
+        attributes.put(name, value);
+        return value;
+    }
+
+    /**
+     * 设置SESSION属性，在 {@link #flush()} 时写回
+     *
+     * @param name  属性名
+     * @param value 属性值
+     * @since 2.0.0
+     */
+    public void setAttribute(String name, Object value) {
+        getChanges().put(name, null == value ? REMOVED : value);
+    }
+
+    /**
+     * 删除SESSION属性，在 {@link #flush()} 时写回
+     *
+     * @param name 属性名
+     * @since 2.0.0
+     */
+    public void removeAttribute(String name) {
+        getChanges().put(name, REMOVED);
+    }
+
+    /**
+     * 将暂存的属性修改写回HTTP会话；HTTP会话不存在或已失效时，丢弃暂存的修改
+     *
+     * @since 2.0.0
+     */
+    public void flush() {
+        if (ObjectUtils.isEmpty(changes)) {
+            return;
+        }
+        HttpSession httpSession = getSession();
+        if (ObjectUtils.isNotEmpty(httpSession)) {
+            try {
+                for (Map.Entry<String, Object> entry : changes.entrySet()) {
+                    if (entry.getValue() == REMOVED) {
+                        httpSession.removeAttribute(entry.getKey());
+                    } else {
+                        httpSession.setAttribute(entry.getKey(), entry.getValue());
+                    }
+                }
+            } catch (IllegalStateException e) {
+                // HTTP会话在请求处理过程中已失效，无需写回
+            }
+        }
+        changes = null;
+        attributes = null;
+    }
+
+    private Map<String, Object> getChanges() {
+        if (ObjectUtils.isEmpty(changes)) {
+            changes = new LinkedHashMap<>();
+        }
+        return changes;
+    }
+}
@@ -9,11 +9,13 @@ import com.huazie.fleaframework.core.request.config.FleaRequestConfig;
 import com.huazie.fleaframework.core.request.config.FleaSession;
 import com.huazie.fleaframework.core.request.config.FleaUrl;
 import com.huazie.fleaframework.core.request.config.Property;
+import com.huazie.fleaframework.core.request.matcher.UrlTypeEnum;
 import org.apache.commons.lang.StringUtils;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.regex.Pattern;
 
 /**
  * Flea 请求工具类
@@ -158,6 +160,41 @@ public class FleaRequestUtil {
         return getFleaUrl().getUrlIllegalChar();
     }
 
+    /**
+     * 获取URL非法字符的正则表达式，已预先编译
+     *
+     * @return URL非法字符的正则表达式，未配置时返回 null
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    public static Pattern getUrlIllegalCharPattern() throws CommonException {
+        return getFleaUrl().getUrlIllegalCharPattern();
+    }
+
+    /**
+     * 获取用户 SESSION 空闲保持时间（单位：ms），已预先解析
+     *
+     * @return 用户 SESSION 空闲保持时间（单位：ms）
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    public static long getIdleTimeMillis() throws CommonException {
+        return getFleaSession().getIdleTimeMillis();
+    }
+
+    /**
+     * 匹配URL，一次扫描得到命中的全部URL类型，
+     * 需要同时判断多种URL类型时，优先使用该方法
+     *
+     * @param url 待匹配的URL
+     * @return 命中的URL类型，按位组合，可通过 {@link UrlTypeEnum#in(int)} 判断
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    public static int matchUrl(String url) throws CommonException {
+        return getFleaUrl().match(url);
+    }
+
     /**
      * 判断是否是 不需要校验的URL
      *
@@ -35,8 +35,8 @@ public class FleaRequestXmlDigesterHelper {
     private static final Object fleaRequestInitLock = new Object();
     private static final Object fleaRequestFilterInitLock = new Object();
 
-    private static FleaRequest fleaRequest;
-    private static FleaRequestFilter fleaRequestFilter;
+    private static volatile FleaRequest fleaRequest;
+    private static volatile FleaRequestFilter fleaRequestFilter;
 
     /**
      * <p> 只允许通过getInstance()获取 XML解析类 </p>
@@ -78,6 +78,21 @@ public class FleaRequestXmlDigesterHelper {
         return fleaRequest;
     }
 
+    /**
+     * <p> 重新加载Flea请求，解析并编译完成后整体替换，
+     * 替换前的请求线程继续使用原有的配置 </p>
+     *
+     * @return 重新加载后的Flea请求
+     * @since 2.0.0
+     */
+    public FleaRequest reloadFleaRequest() {
+        FleaRequest newRequest = newFleaRequest();
+        synchronized (fleaRequestInitLock) {
+            fleaRequest = newRequest;
+        }
+        return newRequest;
+    }
+
     private FleaRequest newFleaRequest() {
 
         String fileName = FleaCoreConstants.FleaRequestConfigConstants.FLEA_REQUEST_FILE_NAME;
@@ -92,6 +107,16 @@ public class FleaRequestXmlDigesterHelper {
         Digester digester = newFleaRequestFileDigester();
         FleaRequest obj = XmlDigesterHelper.parse(fileName, digester, FleaRequest.class);
 
+        // 解析完成后编译URL匹配器，避免在请求线程中编译
+        if (ObjectUtils.isNotEmpty(obj) && ObjectUtils.isNotEmpty(obj.getFleaUrl())) {
+            LOGGER.debug("Compile the flea-url : " + obj.getFleaUrl().compile());
+        }
+
+        // 解析并校验SESSION空闲保持时间，配置错误时直接抛出异常
+        if (ObjectUtils.isNotEmpty(obj) && ObjectUtils.isNotEmpty(obj.getFleaSession())) {
+            LOGGER.debug("Compile the flea-session idle-time : " + obj.getFleaSession().compile());
+        }
+
         LOGGER.debug("End to parse the flea-request.xml");
 
         return obj;
@@ -146,6 +171,8 @@ public class FleaRequestXmlDigesterHelper {
 
         digester.addCallMethod("flea-request/flea-url/check-urls/check-url", "addCheckUrl", 0);
 
+        digester.addCallMethod("flea-request/flea-url/static-urls/static-url", "addStaticUrl", 0);
+
         digester.addSetNext("flea-request/flea-url/url-prefix", "setUrlPrefix", UrlPrefix.class.getName());
         digester.addSetNext("flea-request/flea-url/url-prefix/property", "addProperty", Property.class.getName());
 
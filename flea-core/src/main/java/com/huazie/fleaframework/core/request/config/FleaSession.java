@@ -1,5 +1,9 @@
 package com.huazie.fleaframework.core.request.config;
 
+import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.common.util.NumberUtils;
+import com.huazie.fleaframework.common.util.StringUtils;
+import com.huazie.fleaframework.core.common.FleaCoreCommonException;
 import org.apache.commons.lang.builder.ToStringBuilder;
 
 /**
@@ -7,7 +11,7 @@ import org.apache.commons.lang.builder.ToStringBuilder;
  * 中查看 {@code <flea-session>} 节点。
  *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public class FleaSession {
@@ -18,6 +22,10 @@ public class FleaSession {
 
     private String idleTime; // 用户SESSION空闲保持时间（单位：s）
 
+    private long idleTimeMillis; // 用户SESSION空闲保持时间（单位：ms），解析后缓存，未配置时为 0，表示不限制
+
+    private volatile boolean compiled; // 空闲保持时间是否已解析
+
     public String getUserSessionKey() {
         return userSessionKey;
     }
@@ -32,6 +40,50 @@ public class FleaSession {
 
     public void setIdleTime(String idleTime) {
         this.idleTime = idleTime;
+        this.compiled = false;
+    }
+
+    /**
+     * <p> 解析并校验用户SESSION空闲保持时间，在 <b>flea-request.xml</b>
+     * 解析完成后调用一次，请求线程直接使用解析结果。</p>
+     *
+     * <p> 未配置时为 0，表示不限制；配置值必须是正整数（单位：s），
+     * 否则抛出异常，避免配置错误时静默关闭空闲校验。</p>
+     *
+     * @return 用户SESSION空闲保持时间（单位：ms）
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    public synchronized long compile() throws CommonException {
+        long millis = 0L;
+        if (StringUtils.isNotBlank(idleTime)) {
+            Long seconds = null;
+            try {
+                seconds = Long.valueOf(idleTime.trim());
+            } catch (NumberFormatException e) {
+                // 非数字，由下面的校验抛出异常
+            }
+            // 【{0}】必须是正数
+            NumberUtils.checkNonPositiveNumber(seconds, FleaCoreCommonException.class, "ERROR-CORE-COMMON0000000002", "idle-time");
+            millis = seconds > Long.MAX_VALUE / 1000 ? Long.MAX_VALUE : seconds * 1000;
+        }
+        idleTimeMillis = millis;
+        compiled = true;
+        return millis;
+    }
+
+    /**
+     * <p> 获取用户SESSION空闲保持时间（单位：ms），未解析时先解析 </p>
+     *
+     * @return 用户SESSION空闲保持时间（单位：ms），为 0 表示不限制
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    public long getIdleTimeMillis() throws CommonException {
+        if (!compiled) {
+            return compile();
+        }
+        return idleTimeMillis;
     }
 
     @Override
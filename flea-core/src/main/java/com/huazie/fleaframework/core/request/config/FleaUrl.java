@@ -2,23 +2,31 @@ package com.huazie.fleaframework.core.request.config;
 
 import com.huazie.fleaframework.common.CommonConstants;
 import com.huazie.fleaframework.common.util.ArrayUtils;
-import com.huazie.fleaframework.common.util.CollectionUtils;
 import com.huazie.fleaframework.common.util.MapUtils;
 import com.huazie.fleaframework.common.util.ObjectUtils;
+import com.huazie.fleaframework.common.util.PatternMatcherUtils;
 import com.huazie.fleaframework.common.util.StringUtils;
+import com.huazie.fleaframework.core.request.matcher.FleaUrlMatcher;
+import com.huazie.fleaframework.core.request.matcher.UrlTypeEnum;
 import org.apache.commons.lang.builder.ToStringBuilder;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 /**
  * Flea URL，在配置文件 <b>flea-request.xml</b>
  * 中查看 {@code <flea-url>} 节点。
  *
+ * <p> 不需要校验的URL、需要校验的URL、静态资源URL、业务请求URL前缀和
+ * 页面跳转请求URL前缀，在首次使用时统一编译为 {@link FleaUrlMatcher}，
+ * 之后的判断只需扫描一次 URL；配置变更后重新编译并整体替换。
+ * URL非法字符同样在首次使用时编译为 {@link Pattern} 并缓存。
+ *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public class FleaUrl {
@@ -38,10 +46,16 @@ public class FleaUrl {
 
     private List<String> checkUrls = new ArrayList<>(); // 需要校验的URL列表
 
+    private List<String> staticUrls = new ArrayList<>(); // 静态资源URL列表
+
     private UrlPrefix urlPrefix; // URL前缀
 
     private String urlIllegalChar; // URL非法字符
 
+    private volatile FleaUrlMatcher urlMatcher; // URL匹配器
+
+    private volatile Pattern urlIllegalCharPattern; // URL非法字符的正则表达式
+
     public RedirectUrl getRedirectUrl() {
         return redirectUrl;
     }
@@ -74,6 +88,7 @@ public class FleaUrl {
     public void addUnCheckUrl(String unCheckUrl) {
         if (!unCheckUrls.contains(unCheckUrl)) {
             unCheckUrls.add(unCheckUrl);
+            urlMatcher = null;
         }
     }
 
@@ -90,6 +105,24 @@ public class FleaUrl {
     public void addCheckUrl(String checkUrl) {
         if (!checkUrls.contains(checkUrl)) {
             checkUrls.add(checkUrl);
+            urlMatcher = null;
+        }
+    }
+
+    public List<String> getStaticUrls() {
+        return staticUrls;
+    }
+
+    /**
+     * <p> 添加一个静态资源URL，静态资源请求不执行过滤器任务链 </p>
+     *
+     * @param staticUrl 静态资源URL
+     * @since 2.0.0
+     */
+    public void addStaticUrl(String staticUrl) {
+        if (!staticUrls.contains(staticUrl)) {
+            staticUrls.add(staticUrl);
+            urlMatcher = null;
         }
     }
 
@@ -103,33 +136,85 @@ public class FleaUrl {
      */
     public boolean contains(String url, String type) {
         if (UNCHECK_URL.equals(type)) {
-            return contains(url, unCheckUrls);
+            return getUrlMatcher().matches(url, UrlTypeEnum.UNCHECK);
         } else if (CHECK_URL.equals(type)) {
-            return contains(url, checkUrls);
+            return getUrlMatcher().matches(url, UrlTypeEnum.CHECK);
         } else {
             throw new RuntimeException("类型非法【type=" + type + "】");
         }
     }
 
     /**
-     * <p> 判断当前URL字符串是否包含指定URL列表中的URL </p>
+     * <p> 匹配URL，一次扫描得到命中的全部URL类型 </p>
      *
-     * @param url      待判断的URL字符串
-     * @param mUrlList 指定的URL列表
-     * @return true : 包含, false : 不包含
-     * @since 1.0.0
+     * @param url 待匹配的URL字符串
+     * @return 命中的URL类型，按位组合，可通过 {@link UrlTypeEnum#in(int)} 判断
+     * @since 2.0.0
      */
-    private boolean contains(String url, List<String> mUrlList) {
-        boolean isExist = false;
-        if (CollectionUtils.isNotEmpty(mUrlList)) {
-            for (String mUrl : mUrlList) {
-                if (StringUtils.isNotBlank(url) && url.contains(mUrl)) {
-                    isExist = true;
-                    break;
+    public int match(String url) {
+        return getUrlMatcher().match(url);
+    }
+
+    /**
+     * <p> 获取URL匹配器，未编译时先编译 </p>
+     *
+     * @return URL匹配器
+     * @since 2.0.0
+     */
+    public FleaUrlMatcher getUrlMatcher() {
+        FleaUrlMatcher matcher = urlMatcher;
+        if (ObjectUtils.isEmpty(matcher)) {
+            synchronized (this) {
+                matcher = urlMatcher;
+                if (ObjectUtils.isEmpty(matcher)) {
+                    matcher = compile();
+                }
+            }
+        }
+        return matcher;
+    }
+
+    /**
+     * <p> 将当前的URL配置编译为URL匹配器，并替换原有的URL匹配器；
+     * 同时重新编译URL非法字符的正则表达式 </p>
+     *
+     * @return 新的URL匹配器
+     * @since 2.0.0
+     */
+    public synchronized FleaUrlMatcher compile() {
+        FleaUrlMatcher.Builder builder = FleaUrlMatcher.builder()
+                .addRules(unCheckUrls, UrlTypeEnum.UNCHECK)
+                .addRules(checkUrls, UrlTypeEnum.CHECK)
+                .addRules(staticUrls, UrlTypeEnum.STATIC);
+        if (ObjectUtils.isNotEmpty(urlPrefix)) {
+            addUrlPrefixRules(builder, URL_PREFIX_BUSINESS_KEY, UrlTypeEnum.BUSINESS);
+            addUrlPrefixRules(builder, URL_PREFIX_PAGE_KEY, UrlTypeEnum.PAGE);
+        }
+        FleaUrlMatcher matcher = builder.build();
+        urlMatcher = matcher;
+        urlIllegalCharPattern = null;
+        getUrlIllegalCharPattern();
+        return matcher;
+    }
+
+    /**
+     * <p> 添加指定类型的URL前缀规则，多个以逗号分隔 </p>
+     *
+     * @param builder URL匹配器构建者
+     * @param key     URL前缀配置KEY
+     * @param type    URL类型
+     * @since 2.0.0
+     */
+    private void addUrlPrefixRules(FleaUrlMatcher.Builder builder, String key, UrlTypeEnum type) {
+        Property urlPrefixProperty = getUrlPrefixProperty(key);
+        if (ObjectUtils.isNotEmpty(urlPrefixProperty) && StringUtils.isNotBlank(urlPrefixProperty.getValue())) {
+            String[] urlPrefixValues = StringUtils.split(urlPrefixProperty.getValue(), CommonConstants.SymbolConstants.COMMA);
+            if (ArrayUtils.isNotEmpty(urlPrefixValues)) {
+                for (String value : urlPrefixValues) {
+                    builder.addRule(value, type);
                 }
             }
         }
-        return isExist;
     }
 
     public UrlPrefix getUrlPrefix() {
@@ -138,6 +223,7 @@ public class FleaUrl {
 
     public void setUrlPrefix(UrlPrefix urlPrefix) {
         this.urlPrefix = urlPrefix;
+        this.urlMatcher = null;
     }
 
     /**
@@ -149,6 +235,12 @@ public class FleaUrl {
      * @since 1.0.0
      */
     public boolean containsUrlPrefix(String url, String type) {
+        if (URL_PREFIX_BUSINESS_KEY.equals(type)) {
+            return getUrlMatcher().matches(url, UrlTypeEnum.BUSINESS);
+        } else if (URL_PREFIX_PAGE_KEY.equals(type)) {
+            return getUrlMatcher().matches(url, UrlTypeEnum.PAGE);
+        }
+        // 其他自定义的URL前缀，逐个判断
         boolean isContains = false;
         Property urlPrefixProperty = getUrlPrefixProperty(type);
         if (ObjectUtils.isNotEmpty(urlPrefixProperty) && StringUtils.isNotBlank(urlPrefixProperty.getValue()) && StringUtils.isNotBlank(url)) {
@@ -196,6 +288,22 @@ public class FleaUrl {
 
     public void setUrlIllegalChar(String urlIllegalChar) {
         this.urlIllegalChar = urlIllegalChar;
+        this.urlIllegalCharPattern = null;
+    }
+
+    /**
+     * <p> 获取URL非法字符的正则表达式（忽略大小写），首次使用时编译 </p>
+     *
+     * @return URL非法字符的正则表达式，未配置URL非法字符时返回 null
+     * @since 2.0.0
+     */
+    public Pattern getUrlIllegalCharPattern() {
+        Pattern pattern = urlIllegalCharPattern;
+        if (ObjectUtils.isEmpty(pattern) && StringUtils.isNotBlank(urlIllegalChar)) {
+            pattern = PatternMatcherUtils.getPattern(urlIllegalChar, Pattern.CASE_INSENSITIVE);
+            urlIllegalCharPattern = pattern;
+        }
+        return pattern;
     }
 
     /**
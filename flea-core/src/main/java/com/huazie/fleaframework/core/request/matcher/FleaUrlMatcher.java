@@ -0,0 +1,264 @@
+package com.huazie.fleaframework.core.request.matcher;
+
+import com.huazie.fleaframework.common.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Flea URL 匹配器，将所有 URL 规则一次性编译为 Aho-Corasick 自动机，
+ * 一次扫描即可得到待匹配 URL 命中的全部 URL 类型。
+ *
+ * <p> 规则语义与原有的逐条 {@code url.contains(rule)} 判断一致：
+ * URL 中包含某条规则即命中该规则对应的 URL 类型；空规则命中任意非空 URL；
+ * 空白 URL 不命中任何类型。
+ *
+ * <p> 编译后的自动机不可变，可在多线程中共享；匹配时只读数组，
+ * 不分配任何对象，耗时只与 URL 长度有关，与规则数量无关。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @see UrlTypeEnum
+ * @since 2.0.0
+ */
+public final class FleaUrlMatcher {
+
+    private static final int ROOT = 0;
+
+    private final int[] edgeStart; // 节点 i 的子节点边位于 [edgeStart[i], edgeStart[i + 1])
+
+    private final char[] edgeChars; // 边上的字符，同一节点的边按字符升序排列
+
+    private final int[] edgeTargets; // 边指向的子节点
+
+    private final int[] fail; // 失配指针
+
+    private final int[] outputs; // 节点命中的 URL 类型（已合并失配链上的输出）
+
+    private final int allTypes; // 所有规则的 URL 类型，全部命中后提前结束扫描
+
+    private final int ruleCount; // 规则数量
+
+    private FleaUrlMatcher(int[] edgeStart, char[] edgeChars, int[] edgeTargets, int[] fail, int[] outputs,
+                           int allTypes, int ruleCount) {
+        this.edgeStart = edgeStart;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.outputs = outputs;
+        this.allTypes = allTypes;
+        this.ruleCount = ruleCount;
+    }
+
+    /**
+     * 获取 URL 匹配器构建者
+     *
+     * @return URL 匹配器构建者
+     * @since 2.0.0
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 匹配 URL，返回命中的全部 URL 类型
+     *
+     * @param url 待匹配的 URL
+     * @return 命中的 URL 类型，按位组合，可通过 {@link UrlTypeEnum#in(int)} 判断
+     * @since 2.0.0
+     */
+    public int match(String url) {
+        if (StringUtils.isBlank(url)) {
+            return 0;
+        }
+        int types = outputs[ROOT];
+        int state = ROOT;
+        int length = url.length();
+        for (int i = 0; i < length && types != allTypes; i++) {
+            char c = url.charAt(i);
+            int next = transition(state, c);
+            while (next < 0 && state != ROOT) {
+                state = fail[state];
+                next = transition(state, c);
+            }
+            state = next < 0 ? ROOT : next;
+            types |= outputs[state];
+        }
+        return types;
+    }
+
+    /**
+     * 判断 URL 是否命中指定的 URL 类型
+     *
+     * @param url  待匹配的 URL
+     * @param type URL 类型
+     * @return true: 命中 false: 未命中
+     * @since 2.0.0
+     */
+    public boolean matches(String url, UrlTypeEnum type) {
+        return type.in(match(url));
+    }
+
+    public int getRuleCount() {
+        return ruleCount;
+    }
+
+    public int getStateCount() {
+        return fail.length;
+    }
+
+    private int transition(int state, char c) {
+        int low = edgeStart[state];
+        int high = edgeStart[state + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midChar = edgeChars[mid];
+            if (midChar < c) {
+                low = mid + 1;
+            } else if (midChar > c) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * URL 匹配器构建者，非线程安全，构建完成后即可丢弃
+     *
+     * @since 2.0.0
+     */
+    public static final class Builder {
+
+        private final List<Map<Character, Integer>> children = new ArrayList<>(); // 字典树各节点的子节点
+
+        private final List<Integer> nodeTypes = new ArrayList<>(); // 字典树各节点的 URL 类型
+
+        private int allTypes;
+
+        private int ruleCount;
+
+        private Builder() {
+            newNode();
+        }
+
+        /**
+         * 添加一条 URL 规则
+         *
+         * @param rule URL 规则，URL 中包含该规则即视为命中
+         * @param type URL 类型
+         * @return URL 匹配器构建者
+         * @since 2.0.0
+         */
+        public Builder addRule(String rule, UrlTypeEnum type) {
+            if (rule == null) {
+                return this;
+            }
+            int node = ROOT;
+            for (int i = 0; i < rule.length(); i++) {
+                Character c = rule.charAt(i);
+                Integer child = children.get(node).get(c);
+                if (child == null) {
+                    child = newNode();
+                    children.get(node).put(c, child);
+                }
+                node = child;
+            }
+            nodeTypes.set(node, nodeTypes.get(node) | type.getMask());
+            allTypes |= type.getMask();
+            ruleCount++;
+            return this;
+        }
+
+        /**
+         * 批量添加 URL 规则
+         *
+         * @param rules URL 规则
+         * @param type  URL 类型
+         * @return URL 匹配器构建者
+         * @since 2.0.0
+         */
+        public Builder addRules(Iterable<String> rules, UrlTypeEnum type) {
+            if (rules != null) {
+                for (String rule : rules) {
+                    addRule(rule, type);
+                }
+            }
+            return this;
+        }
+
+        /**
+         * 编译为 URL 匹配器：按广度优先计算失配指针并合并输出，
+         * 然后将字典树展开为紧凑的数组结构
+         *
+         * @return URL 匹配器
+         * @since 2.0.0
+         */
+        public FleaUrlMatcher build() {
+            int nodeCount = children.size();
+            int[] fail = new int[nodeCount];
+            int[] outputs = new int[nodeCount];
+            for (int i = 0; i < nodeCount; i++) {
+                outputs[i] = nodeTypes.get(i);
+            }
+
+            Queue<Integer> queue = new LinkedList<>();
+            for (Integer child : children.get(ROOT).values()) {
+                fail[child] = ROOT;
+                outputs[child] |= outputs[ROOT];
+                queue.add(child);
+            }
+            while (!queue.isEmpty()) {
+                int node = queue.poll();
+                for (Map.Entry<Character, Integer> entry : children.get(node).entrySet()) {
+                    char c = entry.getKey();
+                    int child = entry.getValue();
+                    int state = fail[node];
+                    Integer target = children.get(state).get(c);
+                    while (target == null && state != ROOT) {
+                        state = fail[state];
+                        target = children.get(state).get(c);
+                    }
+                    fail[child] = target == null ? ROOT : target;
+                    outputs[child] |= outputs[fail[child]];
+                    queue.add(child);
+                }
+            }
+
+            int edgeCount = nodeCount - 1;
+            int[] edgeStart = new int[nodeCount + 1];
+            char[] edgeChars = new char[edgeCount];
+            int[] edgeTargets = new int[edgeCount];
+            int edge = 0;
+            for (int i = 0; i < nodeCount; i++) {
+                edgeStart[i] = edge;
+                // TreeMap 保证同一节点的边按字符升序排列，便于二分查找
+                for (Map.Entry<Character, Integer> entry : children.get(i).entrySet()) {
+                    edgeChars[edge] = entry.getKey();
+                    edgeTargets[edge] = entry.getValue();
+                    edge++;
+                }
+            }
+            edgeStart[nodeCount] = edge;
+
+            return new FleaUrlMatcher(edgeStart, edgeChars, edgeTargets, fail, outputs, allTypes, ruleCount);
+        }
+
+        private int newNode() {
+            children.add(new TreeMap<Character, Integer>());
+            nodeTypes.add(0);
+            return children.size() - 1;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FleaUrlMatcher{ruleCount=" + ruleCount + ", stateCount=" + getStateCount()
+                + ", edgeCount=" + edgeChars.length + "}";
+    }
+}
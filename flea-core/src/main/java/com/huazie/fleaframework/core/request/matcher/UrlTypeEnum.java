@@ -0,0 +1,45 @@
+package com.huazie.fleaframework.core.request.matcher;
+
+/**
+ * URL 类型枚举，每一类 URL 对应 {@link FleaUrlMatcher} 匹配结果中的一个二进制位。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public enum UrlTypeEnum {
+
+    UNCHECK(1, "不需要校验的URL"),
+    CHECK(1 << 1, "需要校验的URL"),
+    BUSINESS(1 << 2, "业务请求URL"),
+    PAGE(1 << 3, "页面跳转请求URL"),
+    STATIC(1 << 4, "静态资源URL");
+
+    private int mask; // 匹配结果中对应的二进制位
+
+    private String desc; // URL 类型描述
+
+    UrlTypeEnum(int mask, String desc) {
+        this.mask = mask;
+        this.desc = desc;
+    }
+
+    /**
+     * 判断 URL 匹配结果中是否包含当前类型
+     *
+     * @param types URL 匹配结果，见 {@link FleaUrlMatcher#match(String)}
+     * @return true: 包含 false: 不包含
+     * @since 2.0.0
+     */
+    public boolean in(int types) {
+        return (types & mask) != 0;
+    }
+
+    public int getMask() {
+        return mask;
+    }
+
+    public String getDesc() {
+        return desc;
+    }
+}
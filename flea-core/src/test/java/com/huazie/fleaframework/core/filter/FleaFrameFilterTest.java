@@ -0,0 +1,224 @@
+package com.huazie.fleaframework.core.filter;
+
+import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.core.filter.task.IFilterTask;
+import com.huazie.fleaframework.core.filter.taskchain.IFilterTaskChain;
+import com.huazie.fleaframework.core.filter.taskchain.impl.FleaFilterTaskChain;
+import com.huazie.fleaframework.core.request.FleaRequestContext;
+import com.huazie.fleaframework.core.request.config.FleaSession;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Flea框架 Web 请求过滤器测试，使用 Servlet 模拟对象
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaFrameFilterTest {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaFrameFilterTest.class);
+
+    private static final String USER_SESSION_KEY = "FleaUser";
+
+    private static final String LOGIN_URL = "/login.html";
+
+    private final FleaFrameFilter filter = new FleaFrameFilter();
+
+    @Test
+    public void testStaticUrl() throws Exception {
+        MockHttpServletRequest request = newRequest("/flea/resources/js/flea.js");
+        MockFilterChain chain = doFilter(request, new MockHttpServletResponse());
+        // 静态资源请求直接放行，不创建 SESSION
+        Assert.assertNotNull(chain.getRequest());
+        Assert.assertNull(request.getSession(false));
+    }
+
+    @Test
+    public void testStaticUrlIllegalQueryString() throws Exception {
+        MockHttpServletRequest request = newRequest("/flea/resources/js/flea.js");
+        request.setQueryString("<script>");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = doFilter(request, response);
+        // 静态资源请求同样校验URL非法字符
+        Assert.assertNull(chain.getRequest());
+        Assert.assertNotNull(response.getRedirectedUrl());
+    }
+
+    @Test
+    public void testUnCheckUrl() throws Exception {
+        MockHttpServletRequest request = newRequest("/flea/business/fleamgmtLogin!login.flea");
+        MockFilterChain chain = doFilter(request, new MockHttpServletResponse());
+        Assert.assertNotNull(chain.getRequest());
+        Assert.assertNull(request.getSession(false));
+    }
+
+    @Test
+    public void testCheckUrl() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = doFilter(newRequest("/flea/index.html"), response);
+        Assert.assertNull(chain.getRequest());
+        Assert.assertEquals(LOGIN_URL, response.getRedirectedUrl());
+    }
+
+    @Test
+    public void testBusinessUrlNotLogin() throws Exception {
+        MockHttpServletRequest request = newRequest("/flea/business/fleaauth!query.flea");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = doFilter(request, response);
+        Assert.assertNull(chain.getRequest());
+        Assert.assertEquals(LOGIN_URL, response.getRedirectedUrl());
+        // 未登录的请求不会创建新的 SESSION
+        Assert.assertNull(request.getSession(false));
+    }
+
+    @Test
+    public void testBusinessUrlLogin() throws Exception {
+        MockHttpServletRequest request = newLoginRequest("/flea/business/fleaauth!query.flea");
+        MockHttpSession session = (MockHttpSession) request.getSession(false);
+        long start = System.currentTimeMillis();
+        MockFilterChain chain = doFilter(request, new MockHttpServletResponse());
+        Assert.assertNotNull(chain.getRequest());
+        // 激活时间在过滤器任务链执行完毕时写回
+        Object activeTime = session.getAttribute(FleaSession.SESSION_ACTIVE_TIME);
+        Assert.assertNotNull(activeTime);
+        Assert.assertTrue((Long) activeTime >= start);
+    }
+
+    @Test
+    public void testBusinessUrlExpired() throws Exception {
+        MockHttpServletRequest request = newLoginRequest("/flea/page/main.html");
+        MockHttpSession session = (MockHttpSession) request.getSession(false);
+        session.setAttribute(FleaSession.SESSION_ACTIVE_TIME, System.currentTimeMillis() - TimeUnit.DAYS.toMillis(1));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = doFilter(request, response);
+        Assert.assertNull(chain.getRequest());
+        Assert.assertEquals(LOGIN_URL, response.getRedirectedUrl());
+        Assert.assertNull(session.getAttribute(FleaSession.SESSION_ACTIVE_TIME));
+    }
+
+    @Test
+    public void testIllegalQueryString() throws Exception {
+        MockHttpServletRequest request = newLoginRequest("/flea/business/fleaauth!query.flea");
+        request.setQueryString("ALERT");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = doFilter(request, response);
+        Assert.assertNull(chain.getRequest());
+        LOGGER.debug("RedirectedUrl = {}", response.getRedirectedUrl());
+        Assert.assertNotNull(response.getRedirectedUrl());
+    }
+
+    @Test
+    public void testStatelessTaskChain() throws Exception {
+        final AtomicInteger first = new AtomicInteger();
+        final AtomicInteger last = new AtomicInteger();
+        List<IFilterTask> filterTasks = new ArrayList<>();
+        filterTasks.add(new CountFilterTask(first, false));
+        // 偶数次请求在第二个过滤器任务返回，不执行后续任务
+        filterTasks.add(new IFilterTask() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public void doFilterTask(FleaRequestContext fleaRequestContext, IFilterTaskChain filterTaskChain) throws CommonException {
+                if (count.incrementAndGet() % 2 == 1) {
+                    filterTaskChain.doFilterTask(fleaRequestContext);
+                }
+            }
+        });
+        filterTasks.add(new CountFilterTask(last, true));
+        FleaFilterTaskChain filterTaskChain = new FleaFilterTaskChain(filterTasks);
+
+        int requests = 10;
+        for (int i = 0; i < requests; i++) {
+            filterTaskChain.doFilterTask(new FleaRequestContext());
+        }
+        // 无需重置，每次请求都从第一个过滤器任务开始
+        Assert.assertEquals(requests, first.get());
+        Assert.assertEquals(requests / 2, last.get());
+    }
+
+    @Test
+    public void testRequestRate() throws Exception {
+        int warmup = 20000;
+        int requests = 200000;
+        String[] uris = {
+                "/flea/resources/css/flea.css",
+                "/flea/business/fleamgmtLogin!login.flea",
+                "/flea/business/fleaauth!query.flea",
+                "/flea/page/main.html"
+        };
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute(USER_SESSION_KEY, "flea");
+
+        for (int i = 0; i < warmup; i++) {
+            doFilter(newRequest(uris[i & 3], session), new MockHttpServletResponse());
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            doFilter(newRequest(uris[i & 3], session), new MockHttpServletResponse());
+        }
+        long nanos = System.nanoTime() - start;
+        LOGGER.debug("Requests = {}, Cost = {}ms, Rate = {} req/s, {}ns/req", requests,
+                TimeUnit.NANOSECONDS.toMillis(nanos), requests * TimeUnit.SECONDS.toNanos(1) / nanos, nanos / requests);
+    }
+
+    private MockFilterChain doFilter(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        return chain;
+    }
+
+    private static MockHttpServletRequest newRequest(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setContextPath("/flea");
+        return request;
+    }
+
+    private static MockHttpServletRequest newRequest(String uri, MockHttpSession session) {
+        MockHttpServletRequest request = newRequest(uri);
+        request.setSession(session);
+        return request;
+    }
+
+    private static MockHttpServletRequest newLoginRequest(String uri) {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute(USER_SESSION_KEY, "flea");
+        return newRequest(uri, session);
+    }
+
+    /**
+     * 计数的过滤器任务
+     */
+    private static class CountFilterTask implements IFilterTask {
+
+        private final AtomicInteger count;
+
+        private final boolean last;
+
+        CountFilterTask(AtomicInteger count, boolean last) {
+            this.count = count;
+            this.last = last;
+        }
+
+        @Override
+        public void doFilterTask(FleaRequestContext fleaRequestContext, IFilterTaskChain filterTaskChain) throws CommonException {
+            count.incrementAndGet();
+            if (!last) {
+                filterTaskChain.doFilterTask(fleaRequestContext);
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.huazie.fleaframework.core.request.matcher;
+
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.StringUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * URL 匹配器测试
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaUrlMatcherTest {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaUrlMatcherTest.class);
+
+    private static final String ALPHABET = "/abcdefgh.-_";
+
+    @Test
+    public void testMatch() {
+        FleaUrlMatcher matcher = FleaUrlMatcher.builder()
+                .addRule("/login", UrlTypeEnum.UNCHECK)
+                .addRule(".css", UrlTypeEnum.UNCHECK)
+                .addRule("/flea/", UrlTypeEnum.CHECK)
+                .addRule("/flea/business/", UrlTypeEnum.BUSINESS)
+                .addRule(".jsp", UrlTypeEnum.PAGE)
+                .build();
+        LOGGER.debug("FleaUrlMatcher = {}", matcher);
+
+        int types = matcher.match("/app/flea/business/query.jsp");
+        Assert.assertFalse(UrlTypeEnum.UNCHECK.in(types));
+        Assert.assertTrue(UrlTypeEnum.CHECK.in(types));
+        Assert.assertTrue(UrlTypeEnum.BUSINESS.in(types));
+        Assert.assertTrue(UrlTypeEnum.PAGE.in(types));
+
+        Assert.assertTrue(matcher.matches("/app/static/main.css", UrlTypeEnum.UNCHECK));
+        Assert.assertEquals(0, matcher.match("/app/index.html"));
+        Assert.assertEquals(0, matcher.match(null));
+        Assert.assertEquals(0, matcher.match(""));
+    }
+
+    @Test
+    public void testMatchAgainstLinearScan() {
+        Random random = new Random(20240101L);
+        for (int round = 0; round < 50; round++) {
+            Map<UrlTypeEnum, List<String>> rules = randomRules(random, 1 + random.nextInt(30), 4);
+            // 空规则与原有的 contains 语义一致：匹配任意非空 URL
+            if (round % 10 == 0) {
+                rules.get(UrlTypeEnum.PAGE).add("");
+            }
+            FleaUrlMatcher matcher = newMatcher(rules);
+            for (int i = 0; i < 500; i++) {
+                String url = randomString(random, random.nextInt(24));
+                Assert.assertEquals("url = " + url, linearMatch(rules, url), matcher.match(url));
+            }
+            Assert.assertEquals(0, matcher.match(" "));
+        }
+    }
+
+    @Test
+    public void testMatchPerformance() {
+        Random random = new Random(7L);
+        Map<UrlTypeEnum, List<String>> rules = randomRules(random, 1000, 12);
+        FleaUrlMatcher matcher = newMatcher(rules);
+        LOGGER.debug("Rules = {}, States = {}", matcher.getRuleCount(), matcher.getStateCount());
+
+        String[] urls = new String[1024];
+        for (int i = 0; i < urls.length; i++) {
+            urls[i] = "/flea" + randomString(random, 40 + random.nextInt(40));
+        }
+
+        int iterations = 200000;
+        int blackhole = 0;
+        // 预热
+        for (int i = 0; i < iterations; i++) {
+            blackhole += matcher.match(urls[i & 1023]) + linearMatch(rules, urls[i & 1023]);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            blackhole += matcher.match(urls[i & 1023]);
+        }
+        long matcherNanos = (System.nanoTime() - start) / iterations;
+
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            blackhole += linearMatch(rules, urls[i & 1023]);
+        }
+        long linearNanos = (System.nanoTime() - start) / iterations;
+
+        LOGGER.debug("FleaUrlMatcher = {}ns/op, Linear scan = {}ns/op, blackhole = {}", matcherNanos, linearNanos, blackhole);
+    }
+
+    private static Map<UrlTypeEnum, List<String>> randomRules(Random random, int count, int maxLength) {
+        Map<UrlTypeEnum, List<String>> rules = new EnumMap<>(UrlTypeEnum.class);
+        for (UrlTypeEnum type : UrlTypeEnum.values()) {
+            rules.put(type, new ArrayList<String>());
+        }
+        UrlTypeEnum[] types = UrlTypeEnum.values();
+        for (int i = 0; i < count; i++) {
+            rules.get(types[random.nextInt(types.length)]).add(randomString(random, 1 + random.nextInt(maxLength)));
+        }
+        return rules;
+    }
+
+    private static FleaUrlMatcher newMatcher(Map<UrlTypeEnum, List<String>> rules) {
+        FleaUrlMatcher.Builder builder = FleaUrlMatcher.builder();
+        for (Map.Entry<UrlTypeEnum, List<String>> entry : rules.entrySet()) {
+            builder.addRules(entry.getValue(), entry.getKey());
+        }
+        return builder.build();
+    }
+
+    private static String randomString(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 原有的逐条 contains 匹配逻辑，作为对照
+     */
+    private static int linearMatch(Map<UrlTypeEnum, List<String>> rules, String url) {
+        int types = 0;
+        if (StringUtils.isBlank(url)) {
+            return types;
+        }
+        for (Map.Entry<UrlTypeEnum, List<String>> entry : rules.entrySet()) {
+            for (String rule : entry.getValue()) {
+                if (url.contains(rule)) {
+                    types |= entry.getKey().getMask();
+                    break;
+                }
+            }
+        }
+        return types;
+    }
+}
@@ -179,5 +179,17 @@ public final class DBConstants {
          * Flea JPA查询对象池获取连接时的最大等待毫秒数
          */
         public static final String JPA_QUERY_POOL_MAXWAITMILLIS = "pool.maxWaitMillis";
+        /**
+         * Flea JPA查询对象池类型【generic：通用对象池，local：线程本地缓存对象池】
+         */
+        public static final String JPA_QUERY_POOL_TYPE = "pool.type";
+        /**
+         * Flea JPA查询对象池每个线程本地缓存的对象数
+         */
+        public static final String JPA_QUERY_POOL_LOCALCACHESIZE = "pool.localCacheSize";
+        /**
+         * Flea JPA查询对象池是否开启泄漏跟踪
+         */
+        public static final String JPA_QUERY_POOL_LEAKTRACKING = "pool.leakTracking";
     }
 }
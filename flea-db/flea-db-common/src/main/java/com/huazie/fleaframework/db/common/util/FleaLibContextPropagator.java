@@ -0,0 +1,29 @@
+package com.huazie.fleaframework.db.common.util;
+
+import com.huazie.fleaframework.common.IFleaContextPropagator;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Flea分库序列上下文传递实现，使异步任务沿用提交线程的分库序列，
+ * 在 <b>flea-config.xml</b> 的【flea-context/propagators】中配置。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaLibContextPropagator implements IFleaContextPropagator {
+
+    @Override
+    public Object capture() {
+        Map<String, Object> values = FleaLibUtil.getSplitLibSeqValues();
+        return null == values ? null : new HashMap<>(values);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void restore(Object value) {
+        FleaLibUtil.setSplitLibSeqValues((Map<String, Object>) value);
+    }
+}
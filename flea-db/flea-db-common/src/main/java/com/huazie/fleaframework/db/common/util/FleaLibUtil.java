@@ -84,6 +84,16 @@ public class FleaLibUtil {
         return (ObjectUtils.isNotEmpty(map) ? Collections.unmodifiableMap(map) : null);
     }
 
+    /**
+     * 替换当前线程下的分库序列字典集合，为空时清除
+     *
+     * @param values 分库序列集合
+     * @since 2.0.0
+     */
+    public static void setSplitLibSeqValues(Map<String, Object> values) {
+        resources.set(ObjectUtils.isNotEmpty(values) ? new HashMap<>(values) : null);
+    }
+
     /**
      * 清除当前线程下的分库序列
      *
@@ -16,6 +16,7 @@ import org.eclipse.persistence.internal.helper.DatabaseField;
 import org.eclipse.persistence.internal.helper.DatabaseTable;
 import org.eclipse.persistence.internal.jpa.CMP3Policy;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.FleaCommitManager;
 import org.eclipse.persistence.mappings.DatabaseMapping;
 import org.eclipse.persistence.mappings.DirectToFieldMapping;
 import org.eclipse.persistence.mappings.querykeys.QueryKey;
@@ -31,7 +32,7 @@ import java.util.Vector;
  * 实体类持久化信息描述符工具类
  *
  * @author huazie
- * @version 1.2.0
+ * @version 2.0.0
  * @since 1.2.0
  */
 public class ClassDescriptorUtils {
@@ -171,6 +172,8 @@ public class ClassDescriptorUtils {
                 splitClassDescriptor.postInitialize(session);
 
                 session.addAlias(splitTableName, splitClassDescriptor);
+                // 分表与原实体类共用提交顺序，仅在实体类缺失时追加
+                FleaCommitManager.addToSharedCommitOrder(session, splitClassDescriptor);
             }
             if (ObjectUtils.isNotEmpty(splitClassDescriptor)) {
                 descriptor = splitClassDescriptor;
@@ -10,7 +10,6 @@ import org.eclipse.persistence.internal.localization.ExceptionLocalization;
 import org.eclipse.persistence.internal.sequencing.FleaSequencingManager;
 import org.eclipse.persistence.internal.sequencing.Sequencing;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
-import org.eclipse.persistence.internal.sessions.CommitManager;
 import org.eclipse.persistence.internal.sessions.FleaCommitManager;
 import org.eclipse.persistence.internal.sessions.FleaUnitOfWork;
 import org.eclipse.persistence.internal.sessions.RepeatableWriteUnitOfWork;
@@ -209,10 +208,8 @@ public final class FleaEntityManagerImpl extends EntityManagerImpl {
             this.extendedPersistenceContext.setShouldOrderUpdates(this.shouldOrderUpdates);
             this.extendedPersistenceContext.setShouldCascadeCloneToJoinedRelationship(true);
             this.extendedPersistenceContext.setShouldStoreByPassCache(this.cacheStoreBypass);
-            // 设置CommitManager
-            CommitManager commitManager = new FleaCommitManager(this.extendedPersistenceContext);
-            commitManager.initializeCommitOrder();
-            this.extendedPersistenceContext.setCommitManager(commitManager);
+            // 设置CommitManager，复用共享的提交顺序，不再每个工作单元重新计算
+            this.extendedPersistenceContext.setCommitManager(FleaCommitManager.newInstance(this.extendedPersistenceContext));
             if (txn != null) {
                 // if there is a txn, it means we have been marked to join with it.
                 // All that is left is to register the UOW with the transaction
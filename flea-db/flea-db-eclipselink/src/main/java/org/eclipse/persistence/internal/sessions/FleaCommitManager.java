@@ -5,25 +5,100 @@ import com.huazie.fleaframework.db.eclipselink.util.ClassDescriptorUtils;
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.queries.DeleteObjectQuery;
 import org.eclipse.persistence.queries.InsertObjectQuery;
+import org.eclipse.persistence.sessions.Project;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.WeakHashMap;
 
 /**
  * Flea 提交管理器，用于维护提交堆栈并解析循环引用
  *
+ * <p> 提交顺序按会话所属的项目计算一次，以不可变列表的形式在所有工作单元之间共享，
+ * 工作单元通过 {@link #newInstance(AbstractSession)} 获取提交管理器时不再重新计算。
+ * 分表的持久化信息描述符与原实体类共用同一个实体类，已在提交顺序中，
+ * 注册时仅在实体类缺失的情况下追加，并发布新的不可变列表。
+ *
  * @author huazie
- * @version 1.2.0
+ * @version 2.0.0
  * @since 1.2.0
  */
 public class FleaCommitManager extends CommitManager {
 
+    // 项目 和 提交顺序的映射，项目被回收后对应的提交顺序随之移除
+    private static final Map<Project, List<Class>> COMMIT_ORDER_MAP = Collections.synchronizedMap(new WeakHashMap<Project, List<Class>>());
+
     public FleaCommitManager(AbstractSession session) {
         super(session);
     }
 
+    /**
+     * 新建Flea提交管理器，并设置当前会话共享的提交顺序
+     *
+     * @param session 数据库会话（一般为工作单元）
+     * @return Flea提交管理器
+     * @since 2.0.0
+     */
+    public static FleaCommitManager newInstance(AbstractSession session) {
+        FleaCommitManager commitManager = new FleaCommitManager(session);
+        commitManager.setCommitOrder(getSharedCommitOrder(session));
+        return commitManager;
+    }
+
+    /**
+     * 获取数据库会话所属项目共享的提交顺序，首次获取时计算
+     *
+     * @param session 数据库会话
+     * @return 不可变的提交顺序
+     * @since 2.0.0
+     */
+    public static List<Class> getSharedCommitOrder(AbstractSession session) {
+        Project project = session.getProject();
+        List<Class> commitOrder = COMMIT_ORDER_MAP.get(project);
+        if (ObjectUtils.isEmpty(commitOrder)) {
+            synchronized (COMMIT_ORDER_MAP) {
+                commitOrder = COMMIT_ORDER_MAP.get(project);
+                if (ObjectUtils.isEmpty(commitOrder)) {
+                    CommitManager commitManager = new CommitManager(session);
+                    commitManager.initializeCommitOrder();
+                    commitOrder = Collections.unmodifiableList(new ArrayList<Class>(commitManager.getCommitOrder()));
+                    COMMIT_ORDER_MAP.put(project, commitOrder);
+                }
+            }
+        }
+        return commitOrder;
+    }
+
+    /**
+     * 将新注册的持久化信息描述符对应的实体类添加到共享的提交顺序中。
+     * 实体类已存在时（如分表的持久化信息描述符），提交顺序保持不变；
+     * 否则复制原提交顺序并追加到末尾，发布新的不可变列表，
+     * 已获取原提交顺序的工作单元不受影响。
+     *
+     * @param session    数据库会话
+     * @param descriptor 新注册的持久化信息描述符
+     * @since 2.0.0
+     */
+    public static void addToSharedCommitOrder(AbstractSession session, ClassDescriptor descriptor) {
+        Class javaClass = descriptor.getJavaClass();
+        if (ObjectUtils.isEmpty(javaClass) || getSharedCommitOrder(session).contains(javaClass)) {
+            return;
+        }
+        Project project = session.getProject();
+        synchronized (COMMIT_ORDER_MAP) {
+            List<Class> commitOrder = getSharedCommitOrder(session);
+            if (!commitOrder.contains(javaClass)) {
+                List<Class> newCommitOrder = new ArrayList<>(commitOrder.size() + 1);
+                newCommitOrder.addAll(commitOrder);
+                newCommitOrder.add(javaClass);
+                COMMIT_ORDER_MAP.put(project, Collections.unmodifiableList(newCommitOrder));
+            }
+        }
+    }
+
     /**
      * 删除具有匹配类的所有对象。
      *
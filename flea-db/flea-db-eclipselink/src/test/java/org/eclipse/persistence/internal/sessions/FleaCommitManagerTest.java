@@ -0,0 +1,103 @@
+package org.eclipse.persistence.internal.sessions;
+
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+/**
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaCommitManagerTest {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaCommitManagerTest.class);
+
+    private static final int SPLIT_TABLE_COUNT = 1000;
+
+    private AbstractSession session;
+
+    @Before
+    public void init() {
+        Project project = new Project();
+        project.addDescriptor(newDescriptor(OrderEntity.class, "order"));
+        project.addDescriptor(newDescriptor(UserEntity.class, "user"));
+        session = (AbstractSession) project.createDatabaseSession();
+    }
+
+    @Test
+    public void testSharedCommitOrder() {
+        List<Class> commitOrder = FleaCommitManager.getSharedCommitOrder(session);
+        LOGGER.debug("CommitOrder={}", commitOrder);
+        Assert.assertEquals(2, commitOrder.size());
+
+        // 新建的提交管理器共享同一个提交顺序
+        Assert.assertSame(commitOrder, FleaCommitManager.newInstance(session).getCommitOrder());
+        Assert.assertSame(commitOrder, FleaCommitManager.newInstance(session).getCommitOrder());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSharedCommitOrderImmutable() {
+        FleaCommitManager.getSharedCommitOrder(session).add(Object.class);
+    }
+
+    @Test
+    public void testManySplitTables() {
+        List<Class> commitOrder = FleaCommitManager.getSharedCommitOrder(session);
+        ClassDescriptor descriptor = session.getDescriptor(OrderEntity.class);
+        for (int i = 0; i < SPLIT_TABLE_COUNT; i++) {
+            // 与分表的持久化信息描述符一致，和原实体类共用同一个实体类
+            String splitTableName = "order_" + i;
+            ClassDescriptor splitDescriptor = newDescriptor(descriptor.getJavaClass(), splitTableName);
+            session.addAlias(splitTableName, splitDescriptor);
+            FleaCommitManager.addToSharedCommitOrder(session, splitDescriptor);
+        }
+        // 分表数量增加，提交顺序不重新计算也不增长
+        Assert.assertSame(commitOrder, FleaCommitManager.getSharedCommitOrder(session));
+        Assert.assertEquals(2, commitOrder.size());
+        Assert.assertSame(commitOrder, FleaCommitManager.newInstance(session).getCommitOrder());
+    }
+
+    @Test
+    public void testAddNewClass() {
+        List<Class> commitOrder = FleaCommitManager.getSharedCommitOrder(session);
+        FleaCommitManager commitManager = FleaCommitManager.newInstance(session);
+
+        ClassDescriptor descriptor = newDescriptor(LogEntity.class, "log");
+        session.addAlias("log", descriptor);
+        FleaCommitManager.addToSharedCommitOrder(session, descriptor);
+
+        List<Class> newCommitOrder = FleaCommitManager.getSharedCommitOrder(session);
+        Assert.assertEquals(3, newCommitOrder.size());
+        Assert.assertEquals(LogEntity.class, newCommitOrder.get(2));
+        Assert.assertTrue(newCommitOrder.containsAll(commitOrder));
+        // 已获取的提交顺序不受影响
+        Assert.assertEquals(2, commitOrder.size());
+        Assert.assertSame(commitOrder, commitManager.getCommitOrder());
+    }
+
+    private static ClassDescriptor newDescriptor(Class<?> javaClass, String tableName) {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(javaClass);
+        descriptor.setAlias(tableName);
+        descriptor.setTableName(tableName);
+        descriptor.addPrimaryKeyFieldName(tableName + ".ID");
+        return descriptor;
+    }
+
+    public static class OrderEntity {
+    }
+
+    public static class UserEntity {
+    }
+
+    public static class LogEntity {
+    }
+}
@@ -271,6 +271,61 @@ public class FleaJDBCHelper {
         return save(sql, params);
     }
 
+    /**
+     * <p> 批量处理INSERT, UPDATE, DELETE SQL语句（带参数）。</p>
+     * <p> 同一个连接和预编译语句下，使用JDBC批处理一次性提交全部参数，
+     * 并在同一个事务内执行，任一参数处理失败则整体回滚。</p>
+     *
+     * @param sql        数据库sql语句
+     * @param paramsList 参数列表集合，每个元素对应一次执行的参数列表
+     * @return 每次执行的影响行数
+     * @throws SQLException 数据库操作异常
+     * @since 2.0.0
+     */
+    public static int[] batch(String sql, List<Object[]> paramsList) throws SQLException {
+        if (CollectionUtils.isEmpty(paramsList)) {
+            return new int[0];
+        }
+
+        Connection connection = FleaJDBCConfig.getConfig().getConnection();
+        if (ObjectUtils.isEmpty(connection)) {
+            throw new SQLException("获取数据库连接失败");
+        }
+
+        PreparedStatement preparedStatement = null;
+        boolean autoCommit = connection.getAutoCommit();
+        try {
+            connection.setAutoCommit(false);
+            preparedStatement = connection.prepareStatement(sql);
+            LOGGER.debug1(new Object() {}, "SQL = {}, BATCH SIZE = {}", sql, paramsList.size());
+            for (Object[] params : paramsList) {
+                if (ArrayUtils.isNotEmpty(params)) {
+                    for (int i = 0; i < params.length; i++) {
+                        preparedStatement.setObject(i + 1, params[i]);
+                    }
+                }
+                preparedStatement.addBatch();
+            }
+            int[] result = preparedStatement.executeBatch();
+            connection.commit();
+            return result;
+        } catch (SQLException e) {
+            try {
+                connection.rollback();
+            } catch (SQLException rollbackException) {
+                // 回滚失败不能掩盖原始异常
+                e.addSuppressed(rollbackException);
+            }
+            throw e;
+        } finally {
+            try {
+                connection.setAutoCommit(autoCommit);
+            } finally {
+                FleaJDBCConfig.close(connection, preparedStatement, null);
+            }
+        }
+    }
+
     /**
      * <p> 处理INSERT, UPDATE, DELETE SQL语句 </p>
      *
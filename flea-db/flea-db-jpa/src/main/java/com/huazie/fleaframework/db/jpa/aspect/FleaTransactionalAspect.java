@@ -8,8 +8,6 @@ import com.huazie.fleaframework.common.util.ArrayUtils;
 import com.huazie.fleaframework.common.util.CollectionUtils;
 import com.huazie.fleaframework.common.util.ExceptionUtils;
 import com.huazie.fleaframework.common.util.ObjectUtils;
-import com.huazie.fleaframework.common.util.ReflectUtils;
-import com.huazie.fleaframework.common.util.StringUtils;
 import com.huazie.fleaframework.db.common.DBConstants;
 import com.huazie.fleaframework.db.common.exceptions.DaoException;
 import com.huazie.fleaframework.db.common.lib.pojo.SplitLib;
@@ -24,10 +22,9 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
-import org.springframework.context.expression.MethodBasedEvaluationContext;
 import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodClassKey;
 import org.springframework.core.ParameterNameDiscoverer;
-import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.stereotype.Component;
@@ -38,6 +35,8 @@ import org.springframework.transaction.support.TransactionCallback;
 import javax.persistence.EntityManager;
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Flea自定义事务切面，拦截由自定义事务注解标记的Spring注入的方法，
@@ -57,6 +56,9 @@ import java.util.List;
  *   // 调用自定义事务注解标记的方法
  * </pre>
  *
+ * <p> 同一个方法上的自定义Flea事务注解只在首次调用时解析，
+ * 之后复用缓存的 {@link FleaTransactionalDescriptor}。
+ *
  * @author huazie
  * @version 2.0.0
  * @see FleaTransactionTemplate
@@ -67,44 +69,29 @@ import java.util.List;
 @Component
 public class FleaTransactionalAspect {
 
-    private static final String METHOD_NAME_GET_ENTITY_MANAGER = "getEntityManager";
-
     // SpEL解析相关
     // 表达式解析器
     private final ExpressionParser parser = new SpelExpressionParser();
     // 参数名发现器
     private final ParameterNameDiscoverer paramDiscoverer = new DefaultParameterNameDiscoverer();
 
+    // Flea事务描述缓存，按【目标方法 + 目标类】缓存
+    private final ConcurrentMap<MethodClassKey, FleaTransactionalDescriptor> descriptorMap = new ConcurrentHashMap<>();
+
     @Around("@annotation(fleaTransactional)")
     public Object invokeWithinTransaction(final ProceedingJoinPoint joinPoint, FleaTransactional fleaTransactional) throws CommonException, FleaException {
         // 获取连接点方法签名上的参数列表
         Object[] args = joinPoint.getArgs();
         // 获取标记Flea事务注解的目标对象
         Object tObj = joinPoint.getTarget();
-        String seq = fleaTransactional.seq();
-        Class seqProvider = fleaTransactional.seqProvider();
-        String seqMethod = fleaTransactional.seqMethod();
-        if (StringUtils.isNotBlank(seq)) {
-            MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-            EvaluationContext context = new MethodBasedEvaluationContext(tObj, signature.getMethod(), args, paramDiscoverer);
-            // 解析表达式，获取分库序列集
-            Object actualSeq = parser.parseExpression(seq).getValue(context);
-            // 设置分库序列集
-            FleaLibUtil.setSplitLibSequence(actualSeq.toString());
-        } else if (ObjectUtils.isNotEmpty(seqProvider) && seqProvider != Void.class && StringUtils.isNotBlank(seqMethod)) {
-            try {
-                Object provider = FleaApplicationContext.getBean(seqProvider);
-                Method method = provider.getClass().getMethod(seqMethod);
-                // 调用外部方法来设置分库序列
-                method.invoke(provider);
-            } catch (Exception e) {
-                String msg = String.format("Sharding sequence setup failed: %s.%s() - %s", seqProvider, seqMethod, e.getMessage());
-                ExceptionUtils.throwException(msg, e);
-            }
-        }
+        // 获取Flea事务描述
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        FleaTransactionalDescriptor descriptor = getDescriptor(signature.getMethod(), tObj, fleaTransactional);
+        // 设置分库序列
+        descriptor.setSplitLibSequence(tObj, args, paramDiscoverer);
 
         // 获取当前连接点方法上的自定义Flea事务注解上对应的事务名称
-        String transactionName = fleaTransactional.value();
+        String transactionName = descriptor.getTransactionName();
 
         // 获取最后一个参数【实体对象】
         FleaEntity fleaEntity = null;
@@ -117,7 +104,7 @@ public class FleaTransactionalAspect {
         // 标记Flea事务注解的目标对象 为 AbstractFleaJPADAOImpl 的子类
         if (ObjectUtils.isNotEmpty(fleaEntity) && tObj instanceof AbstractFleaJPADAOImpl) {
             // 获取实体管理器
-            entityManager = (EntityManager) ReflectUtils.invoke(tObj, METHOD_NAME_GET_ENTITY_MANAGER, fleaEntity, Object.class);
+            entityManager = getEntityManager((AbstractFleaJPADAOImpl<?>) tObj, fleaEntity);
             // 获取分表信息
             SplitTable splitTable = fleaEntity.get(DBConstants.LibTableSplitConstants.SPLIT_TABLE, SplitTable.class);
             // 获取分库信息
@@ -131,11 +118,7 @@ public class FleaTransactionalAspect {
             }
         } else {
             // 获取当前连接点方法上的自定义Flea事务注解上对应的持久化单元名
-            String unitName = fleaTransactional.unitName();
-            if (StringUtils.isBlank(unitName) && tObj instanceof AbstractFleaJPADAOImpl) {
-                // 设置默认库名，取DAO实现类的父类中的 @PersistenceContext 中的持久化单元名
-                unitName = FleaEntityManager.getPersistenceUnitName(tObj.getClass().getSuperclass());
-            }
+            String unitName = descriptor.getUnitName(tObj);
             // 获取分库对象
             SplitLib splitLib = FleaSplitUtils.getSplitLib(unitName, FleaLibUtil.getSplitLibSeqValues());
             // 分库场景
@@ -150,8 +133,8 @@ public class FleaTransactionalAspect {
         PlatformTransactionManager transactionManager = (PlatformTransactionManager) FleaApplicationContext.getBean(transactionName);
         // 事务名【{0}】非法，请检查！
         ObjectUtils.checkEmpty(transactionManager, DaoException.class, "ERROR-DB-DAO0000000015", transactionName);
-        // 新建事务模板对象，用于处理事务生命周期和可能的异常
-        FleaTransactionTemplate transactionTemplate = new FleaTransactionTemplate(transactionManager, entityManager);
+        // 获取事务模板对象，用于处理事务生命周期和可能的异常
+        FleaTransactionTemplate transactionTemplate = descriptor.getTransactionTemplate(transactionManager, entityManager);
         return transactionTemplate.execute(new TransactionCallback<Object>() {
             @Override
             public Object doInTransaction(TransactionStatus status) {
@@ -165,6 +148,42 @@ public class FleaTransactionalAspect {
         });
     }
 
+    /**
+     * 获取Flea事务描述，不存在则根据自定义Flea事务注解构建并缓存
+     *
+     * @param method            标记Flea事务注解的方法
+     * @param target            标记Flea事务注解的目标对象
+     * @param fleaTransactional 自定义Flea事务注解
+     * @return Flea事务描述
+     * @since 2.0.0
+     */
+    FleaTransactionalDescriptor getDescriptor(Method method, Object target, FleaTransactional fleaTransactional) {
+        MethodClassKey key = new MethodClassKey(method, ObjectUtils.isNotEmpty(target) ? target.getClass() : null);
+        FleaTransactionalDescriptor descriptor = descriptorMap.get(key);
+        if (ObjectUtils.isEmpty(descriptor)) {
+            descriptor = new FleaTransactionalDescriptor(method, fleaTransactional, parser);
+            FleaTransactionalDescriptor oldDescriptor = descriptorMap.putIfAbsent(key, descriptor);
+            if (ObjectUtils.isNotEmpty(oldDescriptor)) {
+                descriptor = oldDescriptor;
+            }
+        }
+        return descriptor;
+    }
+
+    /**
+     * 获取 AbstractFleaJPADAOImpl 子类的实体管理器
+     *
+     * @param fleaJPADAO AbstractFleaJPADAOImpl 的子类对象
+     * @param fleaEntity Flea实体对象
+     * @return 实体管理器
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private EntityManager getEntityManager(AbstractFleaJPADAOImpl fleaJPADAO, FleaEntity fleaEntity) throws CommonException {
+        return fleaJPADAO.getEntityManager(fleaEntity);
+    }
+
     /**
      * 从最后一个参数中获取 Flea实体对象
      *
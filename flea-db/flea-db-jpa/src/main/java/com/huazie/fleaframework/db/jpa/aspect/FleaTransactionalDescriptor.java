@@ -0,0 +1,219 @@
+package com.huazie.fleaframework.db.jpa.aspect;
+
+import com.huazie.fleaframework.common.FleaApplicationContext;
+import com.huazie.fleaframework.common.util.ExceptionUtils;
+import com.huazie.fleaframework.common.util.ObjectUtils;
+import com.huazie.fleaframework.common.util.StringUtils;
+import com.huazie.fleaframework.db.common.util.FleaLibUtil;
+import com.huazie.fleaframework.db.jpa.dao.impl.AbstractFleaJPADAOImpl;
+import com.huazie.fleaframework.db.jpa.persistence.FleaEntityManager;
+import com.huazie.fleaframework.db.jpa.transaction.FleaTransactionTemplate;
+import com.huazie.fleaframework.db.jpa.transaction.FleaTransactional;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.persistence.EntityManager;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Flea事务描述，由自定义Flea事务注解标记的方法首次调用时构建，
+ * 后续调用直接复用，不再重复解析注解属性。
+ *
+ * <p> 包含已解析的分库序列集表达式、分库序列提供类方法的句柄、
+ * 注解上的事务名和持久化单元名，以及按【事务管理器 + 实体管理器】
+ * 复用的Flea事务模板；分库信息依赖每次调用的分库序列，仍在调用时计算。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @see FleaTransactionalAspect
+ * @since 2.0.0
+ */
+final class FleaTransactionalDescriptor {
+
+    private final Method method;
+
+    private final String transactionName;
+
+    private final String unitName;
+
+    private final Expression seqExpression;
+
+    private final Class<?> seqProvider;
+
+    private final String seqMethod;
+
+    private volatile SeqProviderHandle seqProviderHandle;
+
+    private final ConcurrentMap<TemplateKey, FleaTransactionTemplate> templateMap = new ConcurrentHashMap<>();
+
+    /**
+     * 根据自定义Flea事务注解，构建Flea事务描述
+     *
+     * @param method            标记Flea事务注解的方法
+     * @param fleaTransactional 自定义Flea事务注解
+     * @param parser            SpEL表达式解析器
+     * @since 2.0.0
+     */
+    FleaTransactionalDescriptor(Method method, FleaTransactional fleaTransactional, ExpressionParser parser) {
+        this.method = method;
+        this.transactionName = fleaTransactional.value();
+        this.unitName = fleaTransactional.unitName();
+        String seq = fleaTransactional.seq();
+        Class<?> provider = fleaTransactional.seqProvider();
+        String providerMethod = fleaTransactional.seqMethod();
+        if (StringUtils.isNotBlank(seq)) {
+            this.seqExpression = parser.parseExpression(seq);
+            this.seqProvider = null;
+            this.seqMethod = null;
+        } else if (ObjectUtils.isNotEmpty(provider) && provider != Void.class && StringUtils.isNotBlank(providerMethod)) {
+            this.seqExpression = null;
+            this.seqProvider = provider;
+            this.seqMethod = providerMethod;
+        } else {
+            this.seqExpression = null;
+            this.seqProvider = null;
+            this.seqMethod = null;
+        }
+    }
+
+    /**
+     * 设置当前线程下的分库序列，由分库序列集表达式或分库序列提供类方法提供
+     *
+     * @param target          标记Flea事务注解的目标对象
+     * @param args            目标方法的参数列表
+     * @param paramDiscoverer 参数名发现器
+     * @since 2.0.0
+     */
+    void setSplitLibSequence(Object target, Object[] args, ParameterNameDiscoverer paramDiscoverer) {
+        if (ObjectUtils.isNotEmpty(seqExpression)) {
+            EvaluationContext context = new MethodBasedEvaluationContext(target, method, args, paramDiscoverer);
+            // 获取分库序列集
+            Object actualSeq = seqExpression.getValue(context);
+            // 设置分库序列集
+            FleaLibUtil.setSplitLibSequence(actualSeq.toString());
+        } else if (ObjectUtils.isNotEmpty(seqProvider)) {
+            try {
+                Object provider = FleaApplicationContext.getBean(seqProvider);
+                // 调用外部方法来设置分库序列
+                getSeqProviderHandle(provider.getClass()).invoke(provider);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                String msg = String.format("Sharding sequence setup failed: %s.%s() - %s", seqProvider, seqMethod, e.getMessage());
+                ExceptionUtils.throwException(msg, e);
+            }
+        }
+    }
+
+    /**
+     * 获取持久化单元名，注解上未指定时，若目标对象为 AbstractFleaJPADAOImpl 的子类，
+     * 取DAO实现类的父类中的 @PersistenceContext 中的持久化单元名
+     *
+     * @param target 标记Flea事务注解的目标对象
+     * @return 持久化单元名
+     * @since 2.0.0
+     */
+    String getUnitName(Object target) {
+        if (StringUtils.isBlank(unitName) && target instanceof AbstractFleaJPADAOImpl) {
+            return FleaEntityManager.getPersistenceUnitName(target.getClass().getSuperclass());
+        }
+        return unitName;
+    }
+
+    /**
+     * 获取注解上指定的事务名
+     *
+     * @return 事务名
+     * @since 2.0.0
+     */
+    String getTransactionName() {
+        return transactionName;
+    }
+
+    /**
+     * 获取指定事务管理器和实体管理器对应的Flea事务模板，不存在则新建并缓存
+     *
+     * @param transactionManager 事务管理器
+     * @param entityManager      实体管理器
+     * @return Flea事务模板
+     * @since 2.0.0
+     */
+    FleaTransactionTemplate getTransactionTemplate(PlatformTransactionManager transactionManager, EntityManager entityManager) {
+        TemplateKey key = new TemplateKey(transactionManager, entityManager);
+        FleaTransactionTemplate transactionTemplate = templateMap.get(key);
+        if (ObjectUtils.isEmpty(transactionTemplate)) {
+            transactionTemplate = new FleaTransactionTemplate(transactionManager, entityManager);
+            FleaTransactionTemplate oldTransactionTemplate = templateMap.putIfAbsent(key, transactionTemplate);
+            if (ObjectUtils.isNotEmpty(oldTransactionTemplate)) {
+                transactionTemplate = oldTransactionTemplate;
+            }
+        }
+        return transactionTemplate;
+    }
+
+    private MethodHandle getSeqProviderHandle(Class<?> providerClass) throws ReflectiveOperationException {
+        SeqProviderHandle handle = seqProviderHandle;
+        // 分库序列提供类的Bean一般不会变化，类变化时重新获取方法句柄
+        if (ObjectUtils.isEmpty(handle) || handle.providerClass != providerClass) {
+            Method providerMethod = providerClass.getMethod(seqMethod);
+            handle = new SeqProviderHandle(providerClass, MethodHandles.publicLookup().unreflect(providerMethod));
+            seqProviderHandle = handle;
+        }
+        return handle.methodHandle;
+    }
+
+    /**
+     * 分库序列提供类及其方法句柄
+     */
+    private static final class SeqProviderHandle {
+
+        private final Class<?> providerClass;
+
+        private final MethodHandle methodHandle;
+
+        private SeqProviderHandle(Class<?> providerClass, MethodHandle methodHandle) {
+            this.providerClass = providerClass;
+            this.methodHandle = methodHandle;
+        }
+    }
+
+    /**
+     * Flea事务模板的键，按事务管理器和实体管理器的对象标识区分
+     */
+    private static final class TemplateKey {
+
+        private final PlatformTransactionManager transactionManager;
+
+        private final EntityManager entityManager;
+
+        private TemplateKey(PlatformTransactionManager transactionManager, EntityManager entityManager) {
+            this.transactionManager = transactionManager;
+            this.entityManager = entityManager;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TemplateKey)) {
+                return false;
+            }
+            TemplateKey that = (TemplateKey) o;
+            return transactionManager == that.transactionManager && entityManager == that.entityManager;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(transactionManager) + System.identityHashCode(entityManager);
+        }
+    }
+}
@@ -9,10 +9,10 @@ import com.huazie.fleaframework.db.common.DBConstants.JPAQueryPoolConfigConstant
 
 /**
  * Flea JPA查询对象池配置，包含最大连接数、最大空闲连接数、
- * 最小空闲连接数、获取连接时的最大等待毫秒数等。
+ * 最小空闲连接数、获取连接时的最大等待毫秒数、对象池类型等。
  *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public class FleaJPAQueryPoolConfig extends FleaObjectPoolConfig {
@@ -74,5 +74,20 @@ public class FleaJPAQueryPoolConfig extends FleaObjectPoolConfig {
         if (ObjectUtils.isNotEmpty(maxWaitMillisConfigItem)) {
             this.setMaxWaitMillis(Integer.parseInt(maxWaitMillisConfigItem.getValue()));
         }
+        // Flea JPA查询对象池类型
+        ConfigItem poolTypeConfigItem = FleaConfigManager.getConfigItem(JPAQueryPoolConfigConstants.JPA_QUERY_POOL_TYPE, configItems);
+        if (ObjectUtils.isNotEmpty(poolTypeConfigItem)) {
+            this.setPoolType(poolTypeConfigItem.getValue());
+        }
+        // Flea JPA查询对象池每个线程本地缓存的对象数
+        ConfigItem localCacheSizeConfigItem = FleaConfigManager.getConfigItem(JPAQueryPoolConfigConstants.JPA_QUERY_POOL_LOCALCACHESIZE, configItems);
+        if (ObjectUtils.isNotEmpty(localCacheSizeConfigItem)) {
+            this.setLocalCacheSize(Integer.parseInt(localCacheSizeConfigItem.getValue()));
+        }
+        // Flea JPA查询对象池是否开启泄漏跟踪
+        ConfigItem leakTrackingConfigItem = FleaConfigManager.getConfigItem(JPAQueryPoolConfigConstants.JPA_QUERY_POOL_LEAKTRACKING, configItems);
+        if (ObjectUtils.isNotEmpty(leakTrackingConfigItem)) {
+            this.setLeakTracking(Boolean.parseBoolean(leakTrackingConfigItem.getValue()));
+        }
     }
 }
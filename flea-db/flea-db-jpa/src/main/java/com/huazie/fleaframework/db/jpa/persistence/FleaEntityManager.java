@@ -45,6 +45,8 @@ public class FleaEntityManager {
 
     private static final Object entityManagerMapLock = new Object();
 
+    private static final ConcurrentMap<Class<?>, String> unitNameMap = new ConcurrentHashMap<>();
+
     private static final ThreadLocal<Map<Object, Object>> resources = new NamedThreadLocal<>("EntityManager resources");
 
     private FleaEntityManager() {
@@ -90,11 +92,25 @@ public class FleaEntityManager {
      * 该名称一般定义在 {@code AbstractFleaJPADAOImpl} 的子类的成员变量上，由 注解
      * {@code PersistenceContext} 或 注解 {@code FleaPersistenceContext} 进行标识。
      *
+     * <p> 同一个类只在首次获取时遍历成员变量，后续直接返回缓存的持久化单元名称。
+     *
      * @param daoImplClazz 抽象Flea JPA DAO层实现类
      * @return 持久化单元名称
      * @since 1.1.0
      */
     public static String getPersistenceUnitName(Class<?> daoImplClazz) {
+        String unitName = unitNameMap.get(daoImplClazz);
+        if (null == unitName) {
+            unitName = findPersistenceUnitName(daoImplClazz);
+            String oldUnitName = unitNameMap.putIfAbsent(daoImplClazz, unitName);
+            if (null != oldUnitName) {
+                unitName = oldUnitName;
+            }
+        }
+        return unitName;
+    }
+
+    private static String findPersistenceUnitName(Class<?> daoImplClazz) {
         String unitName = "";
         // 获取持久化单元DAO层实现类的所有成员变量
         Field[] fields = daoImplClazz.getDeclaredFields();
@@ -0,0 +1,142 @@
+package com.huazie.fleaframework.db.jpa.aspect;
+
+import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.db.common.lib.pojo.SplitLib;
+import com.huazie.fleaframework.db.common.util.FleaLibUtil;
+import com.huazie.fleaframework.db.common.util.FleaSplitUtils;
+import com.huazie.fleaframework.db.jpa.transaction.FleaTransactionTemplate;
+import com.huazie.fleaframework.db.jpa.transaction.FleaTransactional;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+import javax.persistence.EntityManager;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaTransactionalDescriptorTest {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaTransactionalDescriptorTest.class);
+
+    private final FleaTransactionalAspect aspect = new FleaTransactionalAspect();
+
+    private final ParameterNameDiscoverer paramDiscoverer = new DefaultParameterNameDiscoverer();
+
+    @After
+    public void clear() {
+        FleaLibUtil.clearSplitLibSeqValues();
+    }
+
+    @Test
+    public void testSplitLib() throws Exception {
+        Method method = FleaFileService.class.getMethod("upload", String.class);
+        FleaFileService service = new FleaFileService();
+        FleaTransactionalDescriptor descriptor = getDescriptor(method, service);
+        // 同一方法只构建一次
+        Assert.assertSame(descriptor, getDescriptor(method, service));
+
+        descriptor.setSplitLibSequence(service, new Object[]{"1a"}, paramDiscoverer);
+        Assert.assertEquals("1a", FleaLibUtil.getSplitLibSeqValue("SEQ", String.class));
+
+        String unitName = descriptor.getUnitName(service);
+        SplitLib splitLib = FleaSplitUtils.getSplitLib(unitName, FleaLibUtil.getSplitLibSeqValues());
+        LOGGER.debug("SplitLib = {}", splitLib);
+        Assert.assertTrue(splitLib.isExistSplitLib());
+        Assert.assertEquals("fleafs", unitName);
+        Assert.assertNotEquals(unitName, splitLib.getSplitLibName());
+        Assert.assertNotEquals(descriptor.getTransactionName(), splitLib.getSplitLibTxName());
+
+        // 分库序列变化时，分库信息随之变化
+        FleaLibUtil.clearSplitLibSeqValues();
+        descriptor.setSplitLibSequence(service, new Object[]{"2b"}, paramDiscoverer);
+        SplitLib otherSplitLib = FleaSplitUtils.getSplitLib(unitName, FleaLibUtil.getSplitLibSeqValues());
+        LOGGER.debug("SplitLib = {}", otherSplitLib);
+        Assert.assertNotEquals(splitLib.getSplitLibName(), otherSplitLib.getSplitLibName());
+    }
+
+    @Test
+    public void testNoSplitLib() throws Exception {
+        Method method = FleaFileService.class.getMethod("query", String.class);
+        FleaFileService service = new FleaFileService();
+        FleaTransactionalDescriptor descriptor = getDescriptor(method, service);
+
+        descriptor.setSplitLibSequence(service, new Object[]{"1a"}, paramDiscoverer);
+        Assert.assertNull(FleaLibUtil.getSplitLibSeqValues());
+
+        String unitName = descriptor.getUnitName(service);
+        SplitLib splitLib = FleaSplitUtils.getSplitLib(unitName, FleaLibUtil.getSplitLibSeqValues());
+        Assert.assertFalse(splitLib.isExistSplitLib());
+        Assert.assertEquals("fleaauth", splitLib.getSplitLibName());
+        Assert.assertEquals("fleaAuthTransactionManager", descriptor.getTransactionName());
+    }
+
+    @Test
+    public void testTransactionTemplate() throws Exception {
+        Method method = FleaFileService.class.getMethod("query", String.class);
+        FleaTransactionalDescriptor descriptor = getDescriptor(method, new FleaFileService());
+        PlatformTransactionManager transactionManager = newTransactionManager();
+        EntityManager entityManager = newEntityManager();
+
+        FleaTransactionTemplate transactionTemplate = descriptor.getTransactionTemplate(transactionManager, entityManager);
+        Assert.assertSame(transactionTemplate, descriptor.getTransactionTemplate(transactionManager, entityManager));
+        Assert.assertSame(transactionManager, transactionTemplate.getTransactionManager());
+        Assert.assertSame(entityManager, transactionTemplate.getEntityManager());
+        // 实体管理器不同，使用不同的事务模板
+        Assert.assertNotSame(transactionTemplate, descriptor.getTransactionTemplate(transactionManager, newEntityManager()));
+    }
+
+    private FleaTransactionalDescriptor getDescriptor(Method method, Object target) {
+        return aspect.getDescriptor(method, target, method.getAnnotation(FleaTransactional.class));
+    }
+
+    private static PlatformTransactionManager newTransactionManager() {
+        return new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                return null;
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+            }
+        };
+    }
+
+    private static EntityManager newEntityManager() {
+        return (EntityManager) Proxy.newProxyInstance(EntityManager.class.getClassLoader(), new Class<?>[]{EntityManager.class},
+                new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        return null;
+                    }
+                });
+    }
+
+    public static class FleaFileService {
+
+        @FleaTransactional(value = "fleaFSTransactionManager", unitName = "fleafs", seq = "'SEQ=' + #p0")
+        public void upload(String fileId) throws CommonException {
+        }
+
+        @FleaTransactional(value = "fleaAuthTransactionManager", unitName = "fleaauth")
+        public void query(String fileId) throws CommonException {
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.huazie.fleaframework.jersey.client.bean;
 import com.huazie.fleaframework.common.exceptions.CommonException;
 import com.huazie.fleaframework.common.slf4j.FleaLogger;
 import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.CollectionUtils;
 import com.huazie.fleaframework.common.util.ObjectUtils;
 import com.huazie.fleaframework.common.util.StringUtils;
 import com.huazie.fleaframework.core.base.cfgdata.bean.FleaConfigDataSpringBean;
@@ -10,17 +11,34 @@ import com.huazie.fleaframework.core.base.cfgdata.entity.FleaJerseyResClient;
 import com.huazie.fleaframework.jersey.client.request.Request;
 import com.huazie.fleaframework.jersey.client.request.RequestConfig;
 import com.huazie.fleaframework.jersey.client.request.RequestFactory;
+import com.huazie.fleaframework.jersey.client.request.RequestFuture;
+import com.huazie.fleaframework.jersey.client.request.RequestLimiter;
 import com.huazie.fleaframework.jersey.client.response.Response;
+import com.huazie.fleaframework.jersey.client.response.ResponseCallback;
+import com.huazie.fleaframework.jersey.common.FleaJerseyConfig;
 import com.huazie.fleaframework.jersey.common.exceptions.FleaJerseyClientException;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PreDestroy;
 import javax.annotation.Resource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Flea Jersey 客户端，对外提供统一的Jersey接口客户端调用API。
  *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 @Component
@@ -28,13 +46,31 @@ public class FleaJerseyClient {
 
     private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaJerseyClient.class);
 
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger(1);
+
     private FleaConfigDataSpringBean springBean;
 
+    private final RequestLimiter requestLimiter = new RequestLimiter(); // 请求限流器
+
+    private volatile ExecutorService executor; // 异步请求线程池
+
+    private boolean internalExecutor; // 是否为内部创建的异步请求线程池
+
     @Resource
     public void setSpringBean(FleaConfigDataSpringBean springBean) {
         this.springBean = springBean;
     }
 
+    /**
+     * 设置异步请求线程池，未设置时按配置创建内部线程池
+     *
+     * @param executor 异步请求线程池
+     * @since 2.0.0
+     */
+    public void setExecutor(ExecutorService executor) {
+        this.executor = executor;
+    }
+
     /**
      * Flea Jersey 接口客户端调用，相关实现逻辑如下：
      *
@@ -72,10 +108,254 @@ public class FleaJerseyClient {
         }
 
         // 获取Jersey客户端配置
+        FleaJerseyResClient resClient = getResClient(clientCode);
+
+        // 构建Flea Jersey请求
+        Request request = buildRequest(clientCode, resClient, input, 0L);
+        Response<T> response = null;
+        if (ObjectUtils.isNotEmpty(request)) {
+            // 同步调用同样受并发请求数限制，在配置的超时时间内未获取到请求许可则失败
+            requestLimiter.acquire(clientCode, 0L);
+            try {
+                response = request.doRequest(outputClazz);
+            } finally {
+                requestLimiter.release(clientCode);
+            }
+        }
+
+        LOGGER.debug1(obj, "Response = {}", response);
+        LOGGER.debug1(obj, "End");
+
+        return response;
+    }
+
+    /**
+     * Flea Jersey 接口客户端异步调用，无超时时间且不设置回调。
+     *
+     * @param clientCode  客户端编码
+     * @param input       业务入参
+     * @param outputClazz 业务出参类对象
+     * @param <T>         业务出参
+     * @return 异步请求结果
+     * @throws CommonException 通用异常
+     * @see #invokeAsync(String, Object, Class, ResponseCallback, long, TimeUnit)
+     * @since 2.0.0
+     */
+    public <T> RequestFuture<T> invokeAsync(String clientCode, Object input, Class<T> outputClazz) throws CommonException {
+        return invokeAsync(clientCode, input, outputClazz, null, 0L, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Flea Jersey 接口客户端异步调用，无超时时间。
+     *
+     * @param clientCode  客户端编码
+     * @param input       业务入参
+     * @param outputClazz 业务出参类对象
+     * @param callback    响应回调
+     * @param <T>         业务出参
+     * @return 异步请求结果
+     * @throws CommonException 通用异常
+     * @see #invokeAsync(String, Object, Class, ResponseCallback, long, TimeUnit)
+     * @since 2.0.0
+     */
+    public <T> RequestFuture<T> invokeAsync(String clientCode, Object input, Class<T> outputClazz,
+                                            ResponseCallback<T> callback) throws CommonException {
+        return invokeAsync(clientCode, input, outputClazz, callback, 0L, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Flea Jersey 接口客户端异步调用，相关实现逻辑如下：
+     *
+     * 首先和同步调用一样构建 Flea Jersey 请求，
+     * 然后在超时时间内获取该客户端编码的请求许可（并发数受限），
+     * 最后将请求提交到异步请求线程池中执行。
+     *
+     * <p> 超时时间同时作为请求的连接超时和读取超时，未指定超时时间时，
+     * 等待请求许可的最长时间取自配置 {@code acquire_timeout}；
+     * 执行请求的线程退出请求处理时释放请求许可，请求结束（成功、失败或取消）时触发回调，
+     * 请求和回调执行时可获取发起调用线程中的 Flea 上下文。
+     *
+     * @param clientCode  客户端编码
+     * @param input       业务入参
+     * @param outputClazz 业务出参类对象
+     * @param callback    响应回调，可为空
+     * @param timeout     超时时间，小于等于0表示不超时
+     * @param unit        超时时间单位
+     * @param <T>         业务出参
+     * @return 异步请求结果
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    public <T> RequestFuture<T> invokeAsync(String clientCode, Object input, Class<T> outputClazz, ResponseCallback<T> callback,
+                                            long timeout, TimeUnit unit) throws CommonException {
+
+        Object obj = new Object() {};
+        LOGGER.debug1(obj, "Start");
+
+        // 客户端编码不能为空
+        StringUtils.checkBlank(clientCode, FleaJerseyClientException.class, "ERROR-JERSEY-CLIENT0000000001");
+
+        // 业务入参不能为空
+        ObjectUtils.checkEmpty(input, FleaJerseyClientException.class, "ERROR-JERSEY-CLIENT0000000002");
+
+        // 业务出参类不能为空
+        ObjectUtils.checkEmpty(outputClazz, FleaJerseyClientException.class, "ERROR-JERSEY-CLIENT0000000003");
+
+        // 未注入Bean，直接返回null
+        if (ObjectUtils.isEmpty(springBean)) {
+            LOGGER.error1(obj, "未注入配置数据 Spring Bean，请检查");
+            return null;
+        }
+
+        long timeoutMillis = (timeout > 0 && ObjectUtils.isNotEmpty(unit)) ? unit.toMillis(timeout) : 0L;
+
+        // 获取Jersey客户端配置
+        FleaJerseyResClient resClient = getResClient(clientCode);
+
+        // 构建Flea Jersey请求
+        Request request = buildRequest(clientCode, resClient, input, timeoutMillis);
+        RequestFuture<T> future = null;
+        if (ObjectUtils.isNotEmpty(request)) {
+            // 获取请求许可，执行请求的线程退出请求处理时释放
+            requestLimiter.acquire(clientCode, timeoutMillis);
+            LimitedRequestFuture<T> limitedFuture;
+            try {
+                limitedFuture = new LimitedRequestFuture<>(request, outputClazz, callback, requestLimiter, clientCode);
+            } catch (RuntimeException e) {
+                requestLimiter.release(clientCode);
+                throw e;
+            }
+            limitedFuture.execute(getExecutor());
+            future = limitedFuture;
+        }
+
+        LOGGER.debug1(obj, "End");
+
+        return future;
+    }
+
+    /**
+     * Flea Jersey 接口客户端批量调用，所有调用并发执行，且共享一个整体的截止时间。
+     *
+     * <p> 方法返回时，所有异步请求结果均已结束：在截止时间内完成的调用，
+     * 可从结果中获取响应或异常；截止时间到达仍未完成的调用将被取消；
+     * 单个调用构建或提交失败，只影响其自身的结果，不影响其他调用。
+     * 返回的结果列表与入参列表顺序一致。
+     *
+     * @param invocations 接口调用描述列表
+     * @param timeout     整体超时时间
+     * @param unit        超时时间单位
+     * @return 异步请求结果列表
+     * @since 2.0.0
+     */
+    public List<RequestFuture<?>> invokeAll(List<FleaJerseyInvocation<?>> invocations, long timeout, TimeUnit unit) {
+        List<RequestFuture<?>> futures = new ArrayList<>();
+        if (CollectionUtils.isEmpty(invocations)) {
+            return futures;
+        }
+
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        boolean allDone = false;
+        try {
+            for (FleaJerseyInvocation<?> invocation : invocations) {
+                futures.add(submit(invocation, deadline));
+            }
+            for (RequestFuture<?> future : futures) {
+                if (future.isDone()) {
+                    continue;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return futures;
+                }
+                try {
+                    future.get(remaining, TimeUnit.NANOSECONDS);
+                } catch (ExecutionException | CancellationException e) {
+                    // 单个调用的异常由调用方从结果中获取
+                } catch (TimeoutException e) {
+                    return futures;
+                }
+            }
+            allDone = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (!allDone) {
+                // 截止时间到达或调用线程被中断，取消所有未完成的调用
+                for (RequestFuture<?> future : futures) {
+                    future.cancel(true);
+                }
+            }
+        }
+        return futures;
+    }
+
+    /**
+     * 关闭内部创建的异步请求线程池
+     *
+     * @since 2.0.0
+     */
+    @PreDestroy
+    public void destroy() {
+        ExecutorService executorService = executor;
+        if (internalExecutor && ObjectUtils.isNotEmpty(executorService)) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * 在截止时间内提交单个接口调用，失败时返回已失败的异步请求结果
+     *
+     * @param invocation 接口调用描述
+     * @param deadline   截止时间（纳秒）
+     * @param <T>        业务出参
+     * @return 异步请求结果
+     * @since 2.0.0
+     */
+    private <T> RequestFuture<T> submit(FleaJerseyInvocation<T> invocation, long deadline) {
+        long remainingMillis = Math.max(1L, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+        RequestFuture<T> future;
+        try {
+            future = invokeAsync(invocation.getClientCode(), invocation.getInput(), invocation.getOutputClazz(),
+                    null, remainingMillis, TimeUnit.MILLISECONDS);
+            if (ObjectUtils.isEmpty(future)) {
+                future = RequestFuture.failed(new IllegalStateException("未注入配置数据 Spring Bean，请检查"), null);
+            }
+        } catch (CommonException | RuntimeException e) {
+            LOGGER.error1(new Object() {}, "Invocation = {}, Exception = ", invocation, e);
+            future = RequestFuture.failed(e, null);
+        }
+        return future;
+    }
+
+    /**
+     * 获取Jersey客户端配置
+     *
+     * @param clientCode 客户端编码
+     * @return Jersey客户端配置
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    private FleaJerseyResClient getResClient(String clientCode) throws CommonException {
         FleaJerseyResClient resClient = springBean.getResClient(clientCode);
         // 请检查客户端配置【client_code = {0}】：资源服务客户端未配置
         ObjectUtils.checkEmpty(resClient, FleaJerseyClientException.class, "ERROR-JERSEY-CLIENT0000000009", clientCode);
+        return resClient;
+    }
 
+    /**
+     * 根据 Flea Jersey 接口客户端配置构建通用的请求配置，
+     * 然后传入请求配置，让请求工厂生产一个 Flea Jersey 请求。
+     *
+     * @param clientCode 客户端编码
+     * @param resClient  Jersey客户端配置
+     * @param input      业务入参
+     * @param timeout    请求超时时间（毫秒），小于等于0表示不超时
+     * @return Flea Jersey 请求
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    private Request buildRequest(String clientCode, FleaJerseyResClient resClient, Object input, long timeout) throws CommonException {
         RequestConfig config = new RequestConfig();
         // 客户端编码
         config.addClientCode(clientCode);
@@ -95,20 +375,110 @@ public class FleaJerseyClient {
         config.addClientInput(resClient.getClientInput());
         // 业务出参类全名字符串
         config.addClientOutput(resClient.getClientOutput());
+        // 请求超时时间
+        config.addTimeout(timeout);
 
-        LOGGER.debug1(obj, "Request Config = {}", config);
+        LOGGER.debug1(new Object() {}, "Request Config = {}", config);
 
         // 传入请求配置，让请求工厂生产一个Flea Jersey请求
-        Request request = RequestFactory.getInstance().buildFleaRequest(config);
-        Response<T> response = null;
-        if (ObjectUtils.isNotEmpty(request)) {
-            response = request.doRequest(outputClazz);
+        return RequestFactory.getInstance().buildFleaRequest(config);
+    }
+
+    /**
+     * 获取异步请求线程池，未设置时按配置创建内部线程池
+     *
+     * @return 异步请求线程池
+     * @since 2.0.0
+     */
+    private ExecutorService getExecutor() {
+        if (ObjectUtils.isEmpty(executor)) {
+            synchronized (this) {
+                if (ObjectUtils.isEmpty(executor)) {
+                    executor = Executors.newFixedThreadPool(FleaJerseyConfig.getAsyncPoolSize(), new ThreadFactory() {
+                        @Override
+                        public Thread newThread(Runnable r) {
+                            Thread thread = new Thread(r, "flea-jersey-client-async-" + THREAD_NUMBER.getAndIncrement());
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+                    internalExecutor = true;
+                }
+            }
         }
+        return executor;
+    }
 
-        LOGGER.debug1(obj, "Response = {}", response);
-        LOGGER.debug1(obj, "End");
+    /**
+     * 获取请求限流器
+     *
+     * @return 请求限流器
+     * @since 2.0.0
+     */
+    RequestLimiter getRequestLimiter() {
+        return requestLimiter;
+    }
 
-        return response;
+    /**
+     * 带请求许可释放的异步请求结果，执行请求的线程退出请求处理时释放请求许可。
+     *
+     * <p> 不能在回调中释放：{@code cancel(true)} 会在取消线程中立即触发回调，
+     * 而执行请求的线程可能仍阻塞在不可中断的 I/O 中，此时释放许可，
+     * 实际并发请求数会超过 {@code max_concurrency}。
+     *
+     * <p> 请求正常结束或失败时，先释放许可再触发回调；请求执行前已被取消时，
+     * 在线程池执行该任务时释放；线程池拒绝执行时，立即释放。
+     *
+     * @param <T> 业务出参
+     * @since 2.0.0
+     */
+    private static class LimitedRequestFuture<T> extends RequestFuture<T> {
+
+        private final RequestLimiter requestLimiter;
+
+        private final String clientCode;
+
+        private final AtomicBoolean released = new AtomicBoolean(); // 请求许可是否已释放
+
+        LimitedRequestFuture(final Request request, final Class<T> outputClazz, ResponseCallback<T> callback,
+                             RequestLimiter requestLimiter, String clientCode) {
+            super(new Callable<Response<T>>() {
+                @Override
+                public Response<T> call() throws Exception {
+                    return request.doRequest(outputClazz);
+                }
+            }, callback);
+            this.requestLimiter = requestLimiter;
+            this.clientCode = clientCode;
+        }
+
+        @Override
+        public void run() {
+            try {
+                super.run();
+            } finally {
+                // 执行前已被取消时，不会执行请求，也不会调用 set 或 setException
+                release();
+            }
+        }
+
+        @Override
+        protected void set(Response<T> response) {
+            release();
+            super.set(response);
+        }
+
+        @Override
+        protected void setException(Throwable throwable) {
+            release();
+            super.setException(throwable);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                requestLimiter.release(clientCode);
+            }
+        }
     }
 
 }
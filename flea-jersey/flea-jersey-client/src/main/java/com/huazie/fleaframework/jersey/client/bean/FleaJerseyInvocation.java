@@ -0,0 +1,52 @@
+package com.huazie.fleaframework.jersey.client.bean;
+
+import org.apache.commons.lang.builder.ToStringBuilder;
+
+/**
+ * Flea Jersey 接口调用描述，用于批量调用时描述单个接口调用。
+ *
+ * @param <T> 业务出参
+ * @author huazie
+ * @version 2.0.0
+ * @see FleaJerseyClient#invokeAll(java.util.List, long, java.util.concurrent.TimeUnit)
+ * @since 2.0.0
+ */
+public class FleaJerseyInvocation<T> {
+
+    private final String clientCode; // 客户端编码
+
+    private final Object input; // 业务入参
+
+    private final Class<T> outputClazz; // 业务出参类对象
+
+    /**
+     * 带参数的构造方法
+     *
+     * @param clientCode  客户端编码
+     * @param input       业务入参
+     * @param outputClazz 业务出参类对象
+     * @since 2.0.0
+     */
+    public FleaJerseyInvocation(String clientCode, Object input, Class<T> outputClazz) {
+        this.clientCode = clientCode;
+        this.input = input;
+        this.outputClazz = outputClazz;
+    }
+
+    public String getClientCode() {
+        return clientCode;
+    }
+
+    public Object getInput() {
+        return input;
+    }
+
+    public Class<T> getOutputClazz() {
+        return outputClazz;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
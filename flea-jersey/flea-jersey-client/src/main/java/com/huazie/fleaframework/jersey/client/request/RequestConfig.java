@@ -204,4 +204,28 @@ public class RequestConfig extends FleaCommonConfig {
         return get(RequestConfigEnum.CLIENT_OUTPUT.getKey(), String.class);
     }
 
+    /**
+     * 添加 请求超时时间 配置，单位毫秒，
+     * 同时作用于连接超时和读取超时。
+     *
+     * @param timeout 请求超时时间（毫秒）
+     * @since 2.0.0
+     */
+    public void addTimeout(long timeout) {
+        if (timeout > 0) {
+            put(RequestConfigEnum.TIMEOUT.getKey(), timeout);
+        }
+    }
+
+    /**
+     * 获取 请求超时时间 配置，未配置返回 {@code 0}，即不超时
+     *
+     * @return 请求超时时间（毫秒）
+     * @since 2.0.0
+     */
+    public long getTimeout() {
+        Long timeout = get(RequestConfigEnum.TIMEOUT.getKey(), Long.class);
+        return timeout == null ? 0L : timeout;
+    }
+
 }
@@ -17,7 +17,8 @@ public enum RequestConfigEnum {
     MEDIA_TYPE("media_type", "媒体类型"),
     INPUT_OBJECT("input_object", "业务入参实例对象"),
     CLIENT_INPUT("client_input", "业务入参完整类名字符串"),
-    CLIENT_OUTPUT("client_output", "业务出参完整类名字符串");
+    CLIENT_OUTPUT("client_output", "业务出参完整类名字符串"),
+    TIMEOUT("timeout", "请求超时时间（毫秒）");
 
     private String key; // 请求配置键
 
@@ -0,0 +1,125 @@
+package com.huazie.fleaframework.jersey.client.request;
+
+import com.huazie.fleaframework.common.FleaContext;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.ObjectUtils;
+import com.huazie.fleaframework.jersey.client.response.Response;
+import com.huazie.fleaframework.jersey.client.response.ResponseCallback;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Flea Jersey 异步请求结果，对外提供获取异步请求响应结果的能力。
+ *
+ * <p> 创建时获取发起请求线程的 {@link FleaContext} 快照（用户信息、国际化区域标识、
+ * 数据库配置键等），执行请求和回调时在当前线程中恢复该快照，结束后再还原原有的上下文。
+ *
+ * <p> 调用 {@code cancel(true)} 会中断正在执行请求的线程，
+ * 请求结束（成功、失败或取消）时都会触发一次回调。
+ *
+ * @param <T> 业务出参
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class RequestFuture<T> extends FutureTask<Response<T>> {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(RequestFuture.class);
+
+    private final FleaContext fleaContext; // 发起请求时的Flea上下文快照
+
+    private final ResponseCallback<T> callback; // 响应回调
+
+    /**
+     * 带参数的构造方法
+     *
+     * @param callable 实际请求处理
+     * @param callback 响应回调，可为空
+     * @since 2.0.0
+     */
+    public RequestFuture(Callable<Response<T>> callable, ResponseCallback<T> callback) {
+        super(callable);
+        this.fleaContext = FleaContext.capture();
+        this.callback = callback;
+    }
+
+    /**
+     * 创建一个已失败的异步请求结果，并触发失败回调
+     *
+     * @param throwable 失败原因
+     * @param callback  响应回调，可为空
+     * @param <T>       业务出参
+     * @return 已失败的异步请求结果
+     * @since 2.0.0
+     */
+    public static <T> RequestFuture<T> failed(final Throwable throwable, ResponseCallback<T> callback) {
+        RequestFuture<T> future = new RequestFuture<>(new Callable<Response<T>>() {
+            @Override
+            public Response<T> call() throws Exception {
+                throw new IllegalStateException(throwable);
+            }
+        }, callback);
+        future.setException(throwable);
+        return future;
+    }
+
+    /**
+     * 提交到指定线程池执行，线程池拒绝执行时，
+     * 异步请求结果直接以失败结束。
+     *
+     * @param executor 执行请求的线程池
+     * @since 2.0.0
+     */
+    public void execute(Executor executor) {
+        try {
+            executor.execute(this);
+        } catch (RejectedExecutionException e) {
+            setException(e);
+        }
+    }
+
+    @Override
+    public void run() {
+        FleaContext backup = fleaContext.replay();
+        try {
+            super.run();
+        } finally {
+            backup.restore();
+        }
+    }
+
+    @Override
+    protected void done() {
+        if (ObjectUtils.isEmpty(callback)) {
+            return;
+        }
+        FleaContext backup = fleaContext.replay();
+        try {
+            Response<T> response;
+            try {
+                response = get();
+            } catch (CancellationException e) {
+                callback.onFailure(e);
+                return;
+            } catch (ExecutionException e) {
+                callback.onFailure(ObjectUtils.isEmpty(e.getCause()) ? e : e.getCause());
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                callback.onFailure(e);
+                return;
+            }
+            callback.onSuccess(response);
+        } catch (RuntimeException e) {
+            LOGGER.error1(new Object() {}, "Callback Exception : ", e);
+        } finally {
+            backup.restore();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.huazie.fleaframework.jersey.client.request;
+
+import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.common.util.ExceptionUtils;
+import com.huazie.fleaframework.jersey.common.FleaJerseyConfig;
+import com.huazie.fleaframework.jersey.common.exceptions.FleaJerseyClientException;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flea Jersey 请求限流器，按客户端编码限制并发请求数。
+ *
+ * <p> 每个客户端编码对应一个信号量，其许可数量取自配置文件
+ * <b>flea-config.xml</b> 中的 {@code max_concurrency} 配置，
+ * 详见 {@link FleaJerseyConfig#getMaxConcurrency(String)}。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class RequestLimiter {
+
+    private final ConcurrentMap<String, Semaphore> semaphoreMap = new ConcurrentHashMap<>();
+
+    /**
+     * 获取指定客户端编码的请求许可，在超时时间内未获取到许可，
+     * 或等待期间被中断，则抛出 Flea Jersey 客户端异常。
+     *
+     * @param clientCode 客户端编码
+     * @param timeout    等待许可的超时时间（毫秒），小于等于0则使用
+     *                   {@link FleaJerseyConfig#getAcquireTimeout()} 配置的超时时间
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    public void acquire(String clientCode, long timeout) throws CommonException {
+        Semaphore semaphore = getSemaphore(clientCode);
+        long acquireTimeout = timeout > 0 ? timeout : FleaJerseyConfig.getAcquireTimeout();
+        boolean acquired = false;
+        try {
+            acquired = semaphore.tryAcquire(acquireTimeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!acquired) {
+            // 请求客户端【client_code = {0}】的并发请求数已达上限【{1}】，请稍后重试
+            ExceptionUtils.throwCommonException(FleaJerseyClientException.class, "ERROR-JERSEY-CLIENT0000000011",
+                    clientCode, FleaJerseyConfig.getMaxConcurrency(clientCode));
+        }
+    }
+
+    /**
+     * 释放指定客户端编码的请求许可
+     *
+     * @param clientCode 客户端编码
+     * @since 2.0.0
+     */
+    public void release(String clientCode) {
+        getSemaphore(clientCode).release();
+    }
+
+    /**
+     * 获取指定客户端编码当前可用的请求许可数
+     *
+     * @param clientCode 客户端编码
+     * @return 可用的请求许可数
+     * @since 2.0.0
+     */
+    public int availablePermits(String clientCode) {
+        return getSemaphore(clientCode).availablePermits();
+    }
+
+    private Semaphore getSemaphore(String clientCode) {
+        Semaphore semaphore = semaphoreMap.get(clientCode);
+        if (semaphore == null) {
+            Semaphore newSemaphore = new Semaphore(FleaJerseyConfig.getMaxConcurrency(clientCode));
+            semaphore = semaphoreMap.putIfAbsent(clientCode, newSemaphore);
+            if (semaphore == null) {
+                semaphore = newSemaphore;
+            }
+        }
+        return semaphore;
+    }
+}
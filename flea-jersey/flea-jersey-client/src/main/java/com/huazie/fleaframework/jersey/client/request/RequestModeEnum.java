@@ -13,6 +13,8 @@ public enum RequestModeEnum {
     FGET("FGET", "com.huazie.fleaframework.jersey.client.request.impl.FGetFleaRequest", "文件GET请求"),
     POST("POST", "com.huazie.fleaframework.jersey.client.request.impl.PostFleaRequest", "POST请求"),
     FPOST("FPOST", "com.huazie.fleaframework.jersey.client.request.impl.FPostFleaRequest", "文件POST请求"),
+    SGET("SGET", "com.huazie.fleaframework.jersey.client.request.impl.SGetFleaRequest", "流式文件GET请求"),
+    SPOST("SPOST", "com.huazie.fleaframework.jersey.client.request.impl.SPostFleaRequest", "流式文件POST请求"),
     PUT("PUT", "com.huazie.fleaframework.jersey.client.request.impl.PutFleaRequest", "PUT请求"),
     DELETE("DELETE", "com.huazie.fleaframework.jersey.client.request.impl.DeleteFleaRequest", "DELETE请求");
 
@@ -8,7 +8,7 @@ import com.huazie.fleaframework.common.util.ExceptionUtils;
 import com.huazie.fleaframework.common.util.ObjectUtils;
 import com.huazie.fleaframework.common.util.ReflectUtils;
 import com.huazie.fleaframework.common.util.StringUtils;
-import com.huazie.fleaframework.common.util.json.GsonUtils;
+import com.huazie.fleaframework.common.util.json.FleaJsonCodecFactory;
 import com.huazie.fleaframework.common.util.xml.JABXUtils;
 import com.huazie.fleaframework.jersey.client.request.Request;
 import com.huazie.fleaframework.jersey.client.request.RequestConfig;
@@ -16,6 +16,7 @@ import com.huazie.fleaframework.jersey.client.request.RequestConfigEnum;
 import com.huazie.fleaframework.jersey.client.request.RequestModeEnum;
 import com.huazie.fleaframework.jersey.client.response.Response;
 import com.huazie.fleaframework.jersey.common.FleaJerseyConfig;
+import com.huazie.fleaframework.jersey.common.FleaJerseyConstants;
 import com.huazie.fleaframework.jersey.common.data.FleaJerseyRequest;
 import com.huazie.fleaframework.jersey.common.data.FleaJerseyRequestData;
 import com.huazie.fleaframework.jersey.common.data.FleaJerseyResponse;
@@ -25,8 +26,10 @@ import com.huazie.fleaframework.jersey.common.data.RequestPublicData;
 import com.huazie.fleaframework.jersey.common.data.ResponseBusinessData;
 import com.huazie.fleaframework.jersey.common.data.ResponsePublicData;
 import com.huazie.fleaframework.jersey.common.exceptions.FleaJerseyClientException;
+import org.glassfish.jersey.client.ClientProperties;
 import org.glassfish.jersey.media.multipart.MultiPartFeature;
 
+import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.MediaType;
@@ -38,7 +41,7 @@ import java.nio.charset.StandardCharsets;
  * Flea 抽象请求，封装了公共的 Flea Jersey 请求处理的能力。
  *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public abstract class FleaRequest implements Request {
@@ -132,11 +135,21 @@ public abstract class FleaRequest implements Request {
         }
 
         // 客户端注册MultiPartFeature组件，用于支持 multipart/form-data 媒体类型
-        WebTarget target = ClientBuilder.newClient().register(MultiPartFeature.class).target(resourceUrl).path(resourceCode);
+        Client client = ClientBuilder.newClient().register(MultiPartFeature.class);
+        // 请求超时时间，同时作用于连接超时和读取超时
+        long timeout = config.getTimeout();
+        if (timeout > 0) {
+            int timeoutMillis = (int) Math.min(timeout, Integer.MAX_VALUE);
+            client.property(ClientProperties.CONNECT_TIMEOUT, timeoutMillis);
+            client.property(ClientProperties.READ_TIMEOUT, timeoutMillis);
+        }
+        WebTarget target = client.target(resourceUrl).path(resourceCode);
 
         FleaJerseyRequest request = createFleaJerseyRequest(resourceCode, serviceCode, input);
 
-        LOGGER.debug1(obj, "FleaJerseyRequest = \n{}", JABXUtils.toXml(request, true));
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug1(obj, "FleaJerseyRequest = \n{}", JABXUtils.toXml(request, true));
+        }
 
         FleaJerseyResponse response = request(target, request);
         // 资源服务请求异常：响应报文为空
@@ -150,7 +163,9 @@ public abstract class FleaRequest implements Request {
         // 资源服务请求异常：响应公共报文为空
         ObjectUtils.checkEmpty(responsePublicData, FleaJerseyClientException.class, "ERROR-JERSEY-CLIENT0000000006");
 
-        LOGGER.debug1(obj, "FleaJerseyResponse = \n{}", JABXUtils.toXml(response, true));
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug1(obj, "FleaJerseyResponse = \n{}", JABXUtils.toXml(response, true));
+        }
 
         Response<T> responseResult = new Response<>();
         T output = null;
@@ -160,7 +175,8 @@ public abstract class FleaRequest implements Request {
             // 获取资源服务响应业务报文
             ResponseBusinessData businessData = responseData.getBusinessData();
             if (ObjectUtils.isNotEmpty(businessData)) {
-                output = GsonUtils.toEntity(businessData.getOutput(), clazz);
+                output = FleaJsonCodecFactory.getCodec(FleaJerseyConstants.JerseyJsonConstants.USE_SITE_JERSEY_CLIENT)
+                        .toEntity(businessData.getOutput(), clazz);
             }
             // 设置业务出参
             responseResult.setOutput(output);
@@ -305,7 +321,8 @@ public abstract class FleaRequest implements Request {
      */
     private static RequestBusinessData createRequestBusinessData(Object input) {
         RequestBusinessData businessData = new RequestBusinessData();
-        String inputJson = GsonUtils.toJsonString(input);
+        String inputJson = FleaJsonCodecFactory.getCodec(FleaJerseyConstants.JerseyJsonConstants.USE_SITE_JERSEY_CLIENT)
+                .toJsonString(input);
         businessData.setInput(inputJson);
         return businessData;
     }
@@ -0,0 +1,162 @@
+package com.huazie.fleaframework.jersey.client.request.impl;
+
+import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.common.i18n.FleaI18nHelper;
+import com.huazie.fleaframework.common.i18n.FleaI18nResEnum;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.StringUtils;
+import com.huazie.fleaframework.jersey.client.request.RequestConfig;
+import com.huazie.fleaframework.jersey.client.request.RequestModeEnum;
+import com.huazie.fleaframework.jersey.common.FleaJerseyConstants;
+import com.huazie.fleaframework.jersey.common.FleaJerseyManager;
+import com.huazie.fleaframework.jersey.common.data.FleaJerseyFileContext;
+import com.huazie.fleaframework.jersey.common.data.FleaJerseyRequest;
+import com.huazie.fleaframework.jersey.common.data.FleaJerseyResponse;
+import com.huazie.fleaframework.jersey.common.data.FleaJerseyResponseData;
+import com.huazie.fleaframework.jersey.common.data.ResponsePublicData;
+
+import javax.ws.rs.client.Invocation;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 流式文件 GET 请求，对外提供了执行流式文件下载请求的能力。
+ *
+ * <p> 与文件 GET 请求不同，服务端直接以响应体输出文件内容，
+ * 文件名和响应公共报文的返回码、返回信息放在响应头中，业务出参不返回；
+ * 客户端不读取响应体，而是将响应体
+ * 输入流放入文件上下文中，由调用方通过
+ * {@code FleaJerseyManager.getFileInputStream()} 边读边处理，
+ * 读取完毕后由调用方关闭。
+ *
+ * <p> 文件上下文中设置了字节范围【如：<b>bytes=1024-</b>】时，
+ * 发送 Range 请求头，只下载指定范围的内容，用于断点续传；
+ * 字节范围无法满足时，返回码为
+ * {@link FleaJerseyConstants.ResponseResultConstants#RESULT_CODE_RANGE_NOT_SATISFIABLE}。
+ *
+ * <p> 注：服务端提供的资源入口方法需包含 GET 注解和
+ * Path 注解【如：<b>@Path("/streamDownload")</b>】。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class SGetFleaRequest extends FleaRequest {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(SGetFleaRequest.class);
+
+    private static final String HEADER_RANGE = "Range";
+
+    private static final String HEADER_CONTENT_RANGE = "Content-Range";
+
+    /**
+     * 默认的构造方法
+     *
+     * @since 2.0.0
+     */
+    public SGetFleaRequest() {
+    }
+
+    /**
+     * 带请求配置参数的构造方法
+     *
+     * @param config 请求配置
+     * @since 2.0.0
+     */
+    public SGetFleaRequest(RequestConfig config) {
+        super(config);
+    }
+
+    @Override
+    protected void init() {
+        modeEnum = RequestModeEnum.SGET;
+    }
+
+    @Override
+    protected FleaJerseyResponse request(WebTarget target, FleaJerseyRequest request) throws CommonException {
+
+        // 将请求报文转换成请求数据字符串
+        String requestData = toRequestData(request);
+
+        Object obj = new Object() {};
+        LOGGER.debug1(obj, "STREAM GET Request, Start");
+        LOGGER.debug1(obj, "STREAM GET Request, RequestData = {}", requestData);
+
+        FleaJerseyFileContext fileContext = FleaJerseyManager.getManager().getFileContext();
+        String range = fileContext.getRange();
+
+        Invocation.Builder builder = target
+                .path(FleaJerseyConstants.FileResourceConstants.STREAM_DOWNLOAD_PATH)
+                .queryParam(FleaJerseyConstants.FormDataConstants.FORM_DATA_KEY_REQUEST, requestData)
+                .request(MediaType.APPLICATION_OCTET_STREAM_TYPE, toMediaType());
+        if (StringUtils.isNotBlank(range)) {
+            builder.header(HEADER_RANGE, range);
+        }
+
+        // 流式文件下载GET请求发送
+        Response jerseyResponse = builder.get();
+
+        FleaJerseyResponse response;
+        String resultCode = jerseyResponse.getHeaderString(FleaJerseyConstants.FileResourceConstants.HEADER_RESULT_CODE);
+        if (StringUtils.isNotBlank(resultCode)) {
+            // 响应体为文件内容，放入文件上下文中，由调用方读取
+            fileContext.setFileName(urlDecode(jerseyResponse.getHeaderString(FleaJerseyConstants.FileResourceConstants.HEADER_FILE_NAME)));
+            fileContext.setInputStream(jerseyResponse.readEntity(InputStream.class));
+            response = newResponse(resultCode, urlDecode(jerseyResponse.getHeaderString(FleaJerseyConstants.FileResourceConstants.HEADER_RESULT_MESS)));
+        } else if (jerseyResponse.getStatus() == Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE.getStatusCode()) {
+            String contentRange = jerseyResponse.getHeaderString(HEADER_CONTENT_RANGE);
+            LOGGER.warn1(obj, "STREAM GET Request, Range = {} not satisfiable, Content-Range = {}", range, contentRange);
+            if (jerseyResponse.hasEntity()) {
+                response = jerseyResponse.readEntity(FleaJerseyResponse.class);
+            } else {
+                jerseyResponse.close();
+                // 请求的字节范围【{0}】无法满足，可用的字节范围为【{1}】
+                response = newResponse(FleaJerseyConstants.ResponseResultConstants.RESULT_CODE_RANGE_NOT_SATISFIABLE,
+                        FleaI18nHelper.i18n("ERROR-JERSEY-COMMON0000000004", new String[]{range, contentRange},
+                                FleaI18nResEnum.ERROR_JERSEY.getResName()));
+            }
+        } else {
+            // 服务端未输出文件，响应体即为响应报文
+            response = jerseyResponse.readEntity(FleaJerseyResponse.class);
+        }
+
+        LOGGER.debug1(obj, "STREAM GET Request, FleaJerseyResponse = {}", response);
+        LOGGER.debug1(obj, "STREAM GET Request, End");
+
+        return response;
+    }
+
+    /**
+     * 根据返回码和返回信息构建响应报文，不包含业务报文
+     */
+    private static FleaJerseyResponse newResponse(String resultCode, String resultMess) {
+        ResponsePublicData publicData = new ResponsePublicData();
+        publicData.setResultCode(resultCode);
+        publicData.setResultMess(resultMess);
+
+        FleaJerseyResponseData responseData = new FleaJerseyResponseData();
+        responseData.setPublicData(publicData);
+
+        FleaJerseyResponse response = new FleaJerseyResponse();
+        response.setResponseData(responseData);
+        return response;
+    }
+
+    private static String urlDecode(String value) {
+        String result = value;
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                result = URLDecoder.decode(value, StandardCharsets.UTF_8.displayName());
+            } catch (UnsupportedEncodingException e) {
+                LOGGER.error1(new Object() {}, "Exception = {}", e);
+            }
+        }
+        return result;
+    }
+}
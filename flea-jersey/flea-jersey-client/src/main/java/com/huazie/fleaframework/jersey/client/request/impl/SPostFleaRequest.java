@@ -0,0 +1,150 @@
+package com.huazie.fleaframework.jersey.client.request.impl;
+
+import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.ExceptionUtils;
+import com.huazie.fleaframework.common.util.ObjectUtils;
+import com.huazie.fleaframework.common.util.StringUtils;
+import com.huazie.fleaframework.jersey.client.request.RequestConfig;
+import com.huazie.fleaframework.jersey.client.request.RequestModeEnum;
+import com.huazie.fleaframework.jersey.common.FleaJerseyConfig;
+import com.huazie.fleaframework.jersey.common.FleaJerseyConstants;
+import com.huazie.fleaframework.jersey.common.FleaJerseyManager;
+import com.huazie.fleaframework.jersey.common.data.FleaJerseyRequest;
+import com.huazie.fleaframework.jersey.common.data.FleaJerseyResponse;
+import com.huazie.fleaframework.jersey.common.exceptions.FleaJerseyCommonException;
+import com.huazie.fleaframework.jersey.common.stream.FleaChecksumInputStream;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.RequestEntityProcessing;
+
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 流式文件 POST 请求，对外提供了执行流式文件上传请求的能力。
+ *
+ * <p> 与文件 POST 请求不同，文件内容直接作为请求体，以分块传输的方式
+ * 边读边发送，不构造多文件表单，客户端内存占用与文件大小无关；
+ * 请求报文放在请求参数中，文件名放在请求头中。
+ *
+ * <p> 文件摘要在发送过程中同步计算，无需预先读取一遍文件；
+ * 服务端读取完毕后通过响应头 {@code Flea-File-Checksum} 返回其计算的摘要，
+ * 客户端比对两者，不一致时抛出异常。
+ *
+ * <p> 待上传的文件与文件 POST 请求一样，通过
+ * {@code FleaJerseyManager.addFileDataBodyPart(File)} 指定。
+ *
+ * <p> 注：服务端提供的资源入口方法需包含 POST 注解和
+ * Path 注解【如：<b>@Path("/streamUpload")</b>】。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class SPostFleaRequest extends FleaRequest {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(SPostFleaRequest.class);
+
+    /**
+     * 默认的构造方法
+     *
+     * @since 2.0.0
+     */
+    public SPostFleaRequest() {
+    }
+
+    /**
+     * 带请求配置参数的构造方法
+     *
+     * @param config 请求配置
+     * @since 2.0.0
+     */
+    public SPostFleaRequest(RequestConfig config) {
+        super(config);
+    }
+
+    @Override
+    protected void init() {
+        modeEnum = RequestModeEnum.SPOST;
+    }
+
+    @Override
+    protected FleaJerseyResponse request(WebTarget target, FleaJerseyRequest request) throws CommonException {
+
+        // 将请求报文转换成请求数据字符串
+        String requestData = toRequestData(request);
+
+        Object obj = new Object() {};
+        LOGGER.debug1(obj, "STREAM POST Request, Start");
+        LOGGER.debug1(obj, "STREAM POST Request, RequestData = {}", requestData);
+
+        // 获取待上传的文件
+        File file = FleaJerseyManager.getManager().getDownloadFile();
+        // {0}获取失败，请检查
+        ObjectUtils.checkEmpty(file, FleaJerseyCommonException.class, "ERROR-JERSEY-COMMON0000000000", "【FILE】");
+
+        String fileName = null;
+        FleaChecksumInputStream fileInputStream = null;
+        try {
+            fileName = URLEncoder.encode(file.getName(), StandardCharsets.UTF_8.displayName());
+            // 发送过程中同步计算文件摘要，不限制大小，也不校验
+            fileInputStream = new FleaChecksumInputStream(new FileInputStream(file), Long.MAX_VALUE, -1L, null);
+        } catch (IOException e) {
+            LOGGER.error1(obj, "Exception = {}", e);
+            // {0}获取失败，请检查
+            ExceptionUtils.throwCommonException(FleaJerseyCommonException.class, "ERROR-JERSEY-COMMON0000000000", "【FILE】");
+        }
+
+        LOGGER.debug1(obj, "STREAM POST Request, File = {}, Length = {}", file.getName(), file.length());
+
+        FleaJerseyResponse response;
+        try {
+            // 流式文件上传POST请求发送，文件内容分块传输
+            Response jerseyResponse = target
+                    .path(FleaJerseyConstants.FileResourceConstants.STREAM_UPLOAD_PATH)
+                    .queryParam(FleaJerseyConstants.FormDataConstants.FORM_DATA_KEY_REQUEST, requestData)
+                    .request(toMediaType())
+                    .property(ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.CHUNKED)
+                    .property(ClientProperties.CHUNKED_ENCODING_SIZE, FleaJerseyConfig.getChunkSize())
+                    .header(FleaJerseyConstants.FileResourceConstants.HEADER_FILE_NAME, fileName)
+                    .post(Entity.entity(fileInputStream, MediaType.APPLICATION_OCTET_STREAM_TYPE));
+
+            String serverChecksum = jerseyResponse.getHeaderString(FleaJerseyConstants.FileResourceConstants.HEADER_FILE_CHECKSUM);
+            response = jerseyResponse.readEntity(FleaJerseyResponse.class);
+
+            String checksum = fileInputStream.isFinished() ? fileInputStream.getChecksum() : null;
+            LOGGER.debug1(obj, "STREAM POST Request, Checksum = {}, Server Checksum = {}", checksum, serverChecksum);
+            if (StringUtils.isNotBlank(serverChecksum) && !serverChecksum.equalsIgnoreCase(checksum)) {
+                // 上传文件校验失败：期望的摘要为【{0}】，实际的摘要为【{1}】
+                ExceptionUtils.throwCommonException(FleaJerseyCommonException.class, "ERROR-JERSEY-COMMON0000000003", checksum, serverChecksum);
+            }
+        } finally {
+            closeQuietly(fileInputStream);
+        }
+
+        LOGGER.debug1(obj, "STREAM POST Request, FleaJerseyResponse = {}", response);
+        LOGGER.debug1(obj, "STREAM POST Request, End");
+
+        return response;
+    }
+
+    private static void closeQuietly(InputStream inputStream) {
+        if (ObjectUtils.isEmpty(inputStream)) {
+            return;
+        }
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            LOGGER.error1(new Object() {}, "Exception = {}", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.huazie.fleaframework.jersey.client.response;
+
+/**
+ * 响应回调接口，用于异步请求完成后的结果通知。
+ *
+ * <p> 回调在请求完成的线程中执行，执行时会恢复发起请求时
+ * 所在线程的用户信息，因此回调中可以正常使用
+ * {@code FleaSessionManager} 获取当前用户。
+ *
+ * @param <T> 业务出参
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public interface ResponseCallback<T> {
+
+    /**
+     * 请求成功完成
+     *
+     * @param response 响应结果
+     * @since 2.0.0
+     */
+    void onSuccess(Response<T> response);
+
+    /**
+     * 请求失败、超时或被取消
+     *
+     * @param throwable 失败原因，被取消时为 {@code CancellationException}
+     * @since 2.0.0
+     */
+    void onFailure(Throwable throwable);
+}
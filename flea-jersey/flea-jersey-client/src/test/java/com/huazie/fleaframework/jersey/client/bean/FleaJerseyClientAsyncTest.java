@@ -0,0 +1,292 @@
+package com.huazie.fleaframework.jersey.client.bean;
+
+import com.huazie.fleaframework.common.FleaFrameManager;
+import com.huazie.fleaframework.common.FleaSessionManager;
+import com.huazie.fleaframework.common.IFleaUser;
+import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.json.GsonUtils;
+import com.huazie.fleaframework.core.base.cfgdata.bean.FleaConfigDataSpringBean;
+import com.huazie.fleaframework.core.base.cfgdata.entity.FleaJerseyResClient;
+import com.huazie.fleaframework.jersey.client.request.RequestFuture;
+import com.huazie.fleaframework.jersey.client.request.RequestLimiter;
+import com.huazie.fleaframework.jersey.client.response.Response;
+import com.huazie.fleaframework.jersey.client.response.ResponseCallback;
+import com.huazie.fleaframework.jersey.common.FleaJerseyConfig;
+import com.huazie.fleaframework.jersey.common.FleaJerseyConstants;
+import com.huazie.fleaframework.jersey.common.FleaUserImpl;
+import com.huazie.fleaframework.jersey.common.data.FleaJerseyRequest;
+import com.huazie.fleaframework.jersey.common.data.FleaJerseyResponse;
+import com.huazie.fleaframework.jersey.common.data.FleaJerseyResponseData;
+import com.huazie.fleaframework.jersey.common.data.ResponseBusinessData;
+import com.huazie.fleaframework.jersey.common.data.ResponsePublicData;
+import com.sun.net.httpserver.HttpServer;
+import org.glassfish.jersey.jdkhttp.JdkHttpServerFactory;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.UriBuilder;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 基于进程内 Jersey 服务的异步调用和批量调用测试
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaJerseyClientAsyncTest {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaJerseyClientAsyncTest.class);
+
+    private static final URI BASE_URI = UriBuilder.fromUri("http://localhost/").port(19998).build();
+
+    private static final String CLIENT_CODE_FAST = "FLEA_CLIENT_ASYNC_FAST";
+
+    private static final String CLIENT_CODE_SLOW = "FLEA_CLIENT_ASYNC_SLOW";
+
+    private HttpServer server;
+
+    private FleaJerseyClient client;
+
+    @Before
+    public void init() {
+        server = JdkHttpServerFactory.createHttpServer(BASE_URI, new ResourceConfig(AsyncTestResource.class));
+
+        client = new FleaJerseyClient();
+        client.setSpringBean(new FleaConfigDataSpringBean() {
+            @Override
+            public FleaJerseyResClient getResClient(String clientCode) throws CommonException {
+                FleaJerseyResClient resClient = new FleaJerseyResClient();
+                resClient.setClientCode(clientCode);
+                resClient.setResourceUrl(BASE_URI.toString());
+                resClient.setResourceCode("async");
+                resClient.setServiceCode(clientCode);
+                resClient.setRequestMode("POST");
+                resClient.setMediaType(MediaType.APPLICATION_XML);
+                resClient.setClientInput(AsyncInput.class.getName());
+                resClient.setClientOutput(AsyncOutput.class.getName());
+                return resClient;
+            }
+        });
+
+        IFleaUser fleaUser = new FleaUserImpl();
+        fleaUser.setAccountId(10000L);
+        FleaSessionManager.setUserInfo(fleaUser);
+    }
+
+    @After
+    public void destroy() {
+        client.destroy();
+        server.stop(0);
+    }
+
+    @Test
+    public void testInvokeAsyncWithCallback() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicReference<Long> callbackAccountId = new AtomicReference<>();
+        final AtomicReference<String> callbackOutput = new AtomicReference<>();
+        final AtomicReference<String> callbackDBConfigKey = new AtomicReference<>();
+        FleaFrameManager.getManager().setDBConfigKey("mysql", "fleaasync");
+
+        RequestFuture<AsyncOutput> future = client.invokeAsync(CLIENT_CODE_FAST, new AsyncInput("huazie", 0L), AsyncOutput.class,
+                new ResponseCallback<AsyncOutput>() {
+                    @Override
+                    public void onSuccess(Response<AsyncOutput> response) {
+                        callbackAccountId.set(FleaSessionManager.getAccountId());
+                        callbackDBConfigKey.set(FleaFrameManager.getManager().getDBConfigKey());
+                        callbackOutput.set(response.getOutput().getMessage());
+                        latch.countDown();
+                    }
+
+                    @Override
+                    public void onFailure(Throwable throwable) {
+                        LOGGER.error("Callback Failure : ", throwable);
+                        latch.countDown();
+                    }
+                });
+
+        Response<AsyncOutput> response = future.get(5, TimeUnit.SECONDS);
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals("hello huazie", response.getOutput().getMessage());
+        Assert.assertEquals("hello huazie", callbackOutput.get());
+        // 回调线程中可获取发起调用线程的用户信息和数据库配置键
+        Assert.assertEquals(Long.valueOf(10000L), callbackAccountId.get());
+        Assert.assertEquals(FleaFrameManager.getManager().getDBConfigKey(), callbackDBConfigKey.get());
+    }
+
+    @Test
+    public void testInvokeAllWithinDeadline() {
+        List<FleaJerseyInvocation<?>> invocations = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            invocations.add(new FleaJerseyInvocation<>(CLIENT_CODE_FAST, new AsyncInput("user" + i, 300L), AsyncOutput.class));
+        }
+
+        long start = System.currentTimeMillis();
+        List<RequestFuture<?>> futures = client.invokeAll(invocations, 5, TimeUnit.SECONDS);
+        long cost = System.currentTimeMillis() - start;
+        LOGGER.debug("InvokeAll Cost = {}ms", cost);
+
+        // 5个耗时300ms的调用并发执行，整体耗时应明显小于串行的1500ms
+        Assert.assertTrue(cost < 1500);
+        Assert.assertEquals(5, futures.size());
+        for (RequestFuture<?> future : futures) {
+            Assert.assertTrue(future.isDone());
+            Assert.assertFalse(future.isCancelled());
+        }
+    }
+
+    @Test
+    public void testInvokeAllCancelledAfterDeadline() throws Exception {
+        List<FleaJerseyInvocation<?>> invocations = new ArrayList<>();
+        invocations.add(new FleaJerseyInvocation<>(CLIENT_CODE_FAST, new AsyncInput("fast", 0L), AsyncOutput.class));
+        invocations.add(new FleaJerseyInvocation<>(CLIENT_CODE_SLOW, new AsyncInput("slow", 3000L), AsyncOutput.class));
+
+        long start = System.currentTimeMillis();
+        List<RequestFuture<?>> futures = client.invokeAll(invocations, 500, TimeUnit.MILLISECONDS);
+        long cost = System.currentTimeMillis() - start;
+        LOGGER.debug("InvokeAll Cost = {}ms", cost);
+
+        Assert.assertTrue(cost < 3000);
+        Assert.assertEquals("hello fast", ((AsyncOutput) futures.get(0).get().getOutput()).getMessage());
+        RequestFuture<?> slow = futures.get(1);
+        Assert.assertTrue(slow.isDone());
+        try {
+            slow.get();
+            Assert.fail("slow invocation should not succeed");
+        } catch (Exception e) {
+            LOGGER.debug("Slow Invocation : {}", e.getClass().getName());
+            Assert.assertTrue(slow.isCancelled() || e instanceof ExecutionException);
+        }
+    }
+
+    @Test
+    public void testPermitHeldUntilWorkerExits() throws Exception {
+        RequestLimiter requestLimiter = client.getRequestLimiter();
+        int maxConcurrency = FleaJerseyConfig.getMaxConcurrency(CLIENT_CODE_SLOW);
+
+        RequestFuture<AsyncOutput> future = client.invokeAsync(CLIENT_CODE_SLOW, new AsyncInput("slow", 1500L), AsyncOutput.class);
+        TimeUnit.MILLISECONDS.sleep(300);
+        Assert.assertEquals(maxConcurrency - 1, requestLimiter.availablePermits(CLIENT_CODE_SLOW));
+
+        // 取消后执行请求的线程仍阻塞在读取响应中，请求许可不能释放
+        Assert.assertTrue(future.cancel(true));
+        Assert.assertEquals(maxConcurrency - 1, requestLimiter.availablePermits(CLIENT_CODE_SLOW));
+
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (requestLimiter.availablePermits(CLIENT_CODE_SLOW) < maxConcurrency) {
+            Assert.assertTrue("permit should be released when the worker exits", System.currentTimeMillis() < deadline);
+            TimeUnit.MILLISECONDS.sleep(20);
+        }
+    }
+
+    @Test
+    public void testAcquireFailsFastWhenSaturated() {
+        RequestLimiter requestLimiter = client.getRequestLimiter();
+        int maxConcurrency = FleaJerseyConfig.getMaxConcurrency(CLIENT_CODE_SLOW);
+        for (int i = 0; i < maxConcurrency; i++) {
+            requestLimiter.acquire(CLIENT_CODE_SLOW, 0L);
+        }
+        long start = System.currentTimeMillis();
+        try {
+            // 并发请求数已达上限，在配置的超时时间后失败，而不是一直阻塞
+            client.invoke(CLIENT_CODE_SLOW, new AsyncInput("saturated", 0L), AsyncOutput.class);
+            Assert.fail("invoke should fail when the client is saturated");
+        } catch (CommonException e) {
+            LOGGER.debug("Saturated Invoke : {}", e.getMessage());
+        } finally {
+            for (int i = 0; i < maxConcurrency; i++) {
+                requestLimiter.release(CLIENT_CODE_SLOW);
+            }
+        }
+        long cost = System.currentTimeMillis() - start;
+        Assert.assertTrue(cost < FleaJerseyConfig.getAcquireTimeout() + 2000L);
+        Assert.assertEquals(maxConcurrency, requestLimiter.availablePermits(CLIENT_CODE_SLOW));
+    }
+
+    /**
+     * 测试资源，按入参中的延迟时间休眠后返回
+     */
+    @Path("async")
+    public static class AsyncTestResource {
+
+        @POST
+        @Consumes({MediaType.APPLICATION_XML})
+        @Produces({MediaType.APPLICATION_XML})
+        public FleaJerseyResponse doPost(FleaJerseyRequest request) throws InterruptedException {
+            AsyncInput input = GsonUtils.toEntity(request.getRequestData().getBusinessData().getInput(), AsyncInput.class);
+            if (input.getDelay() > 0) {
+                Thread.sleep(input.getDelay());
+            }
+
+            ResponsePublicData publicData = new ResponsePublicData();
+            publicData.setResultCode(FleaJerseyConstants.ResponseResultConstants.RESULT_CODE_SUCCESS);
+            publicData.setResultMess(FleaJerseyConstants.ResponseResultConstants.RESULT_MESS_SUCCESS);
+
+            ResponseBusinessData businessData = new ResponseBusinessData();
+            businessData.setOutput(GsonUtils.toJsonString(new AsyncOutput("hello " + input.getName())));
+
+            FleaJerseyResponseData responseData = new FleaJerseyResponseData();
+            responseData.setPublicData(publicData);
+            responseData.setBusinessData(businessData);
+
+            FleaJerseyResponse response = new FleaJerseyResponse();
+            response.setResponseData(responseData);
+            return response;
+        }
+    }
+
+    public static class AsyncInput {
+
+        private String name;
+
+        private long delay;
+
+        public AsyncInput() {
+        }
+
+        public AsyncInput(String name, long delay) {
+            this.name = name;
+            this.delay = delay;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getDelay() {
+            return delay;
+        }
+    }
+
+    public static class AsyncOutput {
+
+        private String message;
+
+        public AsyncOutput() {
+        }
+
+        public AsyncOutput(String message) {
+            this.message = message;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
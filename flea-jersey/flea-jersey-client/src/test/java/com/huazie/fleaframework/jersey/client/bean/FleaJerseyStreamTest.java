@@ -0,0 +1,460 @@
+package com.huazie.fleaframework.jersey.client.bean;
+
+import com.huazie.fleaframework.common.FleaConfigManager;
+import com.huazie.fleaframework.common.FleaSessionManager;
+import com.huazie.fleaframework.common.IFleaUser;
+import com.huazie.fleaframework.common.config.ConfigItem;
+import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.DataHandleUtils;
+import com.huazie.fleaframework.common.util.json.GsonUtils;
+import com.huazie.fleaframework.core.base.cfgdata.bean.FleaConfigDataSpringBean;
+import com.huazie.fleaframework.core.base.cfgdata.entity.FleaJerseyResClient;
+import com.huazie.fleaframework.jersey.client.response.Response;
+import com.huazie.fleaframework.jersey.common.FleaJerseyConstants;
+import com.huazie.fleaframework.jersey.common.FleaJerseyManager;
+import com.huazie.fleaframework.jersey.common.FleaUserImpl;
+import com.huazie.fleaframework.jersey.common.data.FleaJerseyFileContext;
+import com.huazie.fleaframework.jersey.common.data.FleaJerseyResponse;
+import com.huazie.fleaframework.jersey.common.data.FleaJerseyResponseData;
+import com.huazie.fleaframework.jersey.common.data.ResponseBusinessData;
+import com.huazie.fleaframework.jersey.common.data.ResponsePublicData;
+import com.huazie.fleaframework.jersey.common.stream.FleaChecksumInputStream;
+import com.huazie.fleaframework.jersey.server.resource.impl.FleaJerseySGetResource;
+import com.huazie.fleaframework.jersey.server.resource.impl.FleaJerseySPostResource;
+import com.sun.net.httpserver.HttpServer;
+import org.glassfish.jersey.jdkhttp.JdkHttpServerFactory;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.ws.rs.Path;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.UriBuilder;
+import java.io.File;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 基于进程内 Jersey 服务的流式文件上传和下载测试，服务端部署流式文件资源，
+ * 使用稀疏文件模拟超过 2GB 的大文件，验证传输过程中堆内存占用有界，
+ * 以及断点续传、字节范围无法满足、上传大小限制和上传文件摘要校验。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaJerseyStreamTest {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaJerseyStreamTest.class);
+
+    private static final URI BASE_URI = UriBuilder.fromUri("http://localhost/").port(19997).build();
+
+    private static final String CLIENT_CODE_UPLOAD = "FLEA_CLIENT_STREAM_UPLOAD";
+
+    private static final String CLIENT_CODE_DOWNLOAD = "FLEA_CLIENT_STREAM_DOWNLOAD";
+
+    private static final long FILE_SIZE = 2L * 1024 * 1024 * 1024 + 1; // 超过 int 范围
+
+    private static final long MAX_HEAP_GROWTH = 256L * 1024 * 1024;
+
+    private static File file;
+
+    private HttpServer server;
+
+    private FleaJerseyClient client;
+
+    @Before
+    public void init() throws Exception {
+        file = File.createTempFile("flea-stream-", ".dat");
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.setLength(FILE_SIZE);
+            // 首尾写入少量数据，便于校验字节范围
+            randomAccessFile.write("flea-stream-head".getBytes(StandardCharsets.UTF_8));
+            randomAccessFile.seek(FILE_SIZE - 4);
+            randomAccessFile.write("tail".getBytes(StandardCharsets.UTF_8));
+        }
+
+        server = JdkHttpServerFactory.createHttpServer(BASE_URI, new ResourceConfig(StreamUploadTestResource.class,
+                StreamPartialUploadTestResource.class, StreamDownloadTestResource.class));
+
+        client = new FleaJerseyClient();
+        client.setSpringBean(new FleaConfigDataSpringBean() {
+            @Override
+            public FleaJerseyResClient getResClient(String clientCode) throws CommonException {
+                FleaJerseyResClient resClient = new FleaJerseyResClient();
+                resClient.setClientCode(clientCode);
+                resClient.setResourceUrl(BASE_URI.toString());
+                resClient.setResourceCode(CLIENT_CODE_UPLOAD.equals(clientCode) ? "upload" : "download");
+                resClient.setServiceCode(clientCode);
+                resClient.setRequestMode(CLIENT_CODE_UPLOAD.equals(clientCode) ? "SPOST" : "SGET");
+                resClient.setMediaType(MediaType.APPLICATION_XML);
+                resClient.setClientInput(StreamInput.class.getName());
+                resClient.setClientOutput(StreamOutput.class.getName());
+                return resClient;
+            }
+        });
+
+        IFleaUser fleaUser = new FleaUserImpl();
+        fleaUser.setAccountId(10000L);
+        FleaSessionManager.setUserInfo(fleaUser);
+    }
+
+    @After
+    public void destroy() {
+        client.destroy();
+        server.stop(0);
+        Assert.assertTrue(file.delete());
+    }
+
+    @Test
+    public void testStreamUpload() throws Exception {
+        HeapMonitor monitor = HeapMonitor.start();
+
+        FleaJerseyManager.getManager().resetFileContext();
+        FleaJerseyManager.getManager().addFileDataBodyPart(file);
+        Response<StreamOutput> response = client.invoke(CLIENT_CODE_UPLOAD, new StreamInput(file.getName()), StreamOutput.class);
+
+        long heapGrowth = monitor.stop();
+        LOGGER.debug("Upload Size = {}, Checksum = {}, Heap Growth = {}", response.getOutput().getSize(),
+                response.getOutput().getChecksum(), heapGrowth);
+
+        Assert.assertEquals(FleaJerseyConstants.ResponseResultConstants.RESULT_CODE_SUCCESS, response.getRetCode());
+        Assert.assertEquals(FILE_SIZE, response.getOutput().getSize());
+        Assert.assertEquals(FleaChecksumInputStream.checksum(file), response.getOutput().getChecksum());
+        Assert.assertTrue(heapGrowth < MAX_HEAP_GROWTH);
+    }
+
+    @Test
+    public void testStreamDownload() throws Exception {
+        HeapMonitor monitor = HeapMonitor.start();
+
+        FleaJerseyManager.getManager().resetFileContext();
+        Response<StreamOutput> response = client.invoke(CLIENT_CODE_DOWNLOAD, new StreamInput(file.getName()), StreamOutput.class);
+        Assert.assertEquals(FleaJerseyConstants.ResponseResultConstants.RESULT_CODE_SUCCESS, response.getRetCode());
+
+        MessageDigest digest = MessageDigest.getInstance(FleaJerseyConstants.FileResourceConstants.CHECKSUM_ALGORITHM);
+        long size = 0;
+        try (InputStream inputStream = FleaJerseyManager.getManager().getFileInputStream()) {
+            byte[] buffer = new byte[64 * 1024];
+            int n;
+            while ((n = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, n);
+                size += n;
+            }
+        }
+
+        long heapGrowth = monitor.stop();
+        LOGGER.debug("Download File = {}, Size = {}, Heap Growth = {}",
+                FleaJerseyManager.getManager().getFileContext().getFileName(), size, heapGrowth);
+
+        Assert.assertEquals(file.getName(), FleaJerseyManager.getManager().getFileContext().getFileName());
+        Assert.assertEquals(FILE_SIZE, size);
+        Assert.assertEquals(FleaChecksumInputStream.checksum(file), DataHandleUtils.byte2hex(digest.digest()));
+        Assert.assertTrue(heapGrowth < MAX_HEAP_GROWTH);
+    }
+
+    @Test
+    public void testStreamDownloadWithRange() throws Exception {
+        // 断点续传：只下载最后 8 个字节
+        FleaJerseyFileContext fileContext = FleaJerseyManager.getManager().resetFileContext();
+        fileContext.setRange("bytes=" + (FILE_SIZE - 8) + "-");
+        Response<StreamOutput> response = client.invoke(CLIENT_CODE_DOWNLOAD, new StreamInput(file.getName()), StreamOutput.class);
+        Assert.assertEquals(FleaJerseyConstants.ResponseResultConstants.RESULT_CODE_SUCCESS, response.getRetCode());
+
+        byte[] buffer = new byte[16];
+        int size = 0;
+        try (InputStream inputStream = FleaJerseyManager.getManager().getFileInputStream()) {
+            int n;
+            while ((n = inputStream.read(buffer, size, buffer.length - size)) > 0) {
+                size += n;
+            }
+        }
+        Assert.assertEquals(8, size);
+        Assert.assertEquals("tail", new String(buffer, 4, 4, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testStreamDownloadRangeNotSatisfiable() throws Exception {
+        // 起始位置超出文件大小
+        FleaJerseyFileContext fileContext = FleaJerseyManager.getManager().resetFileContext();
+        fileContext.setRange("bytes=" + FILE_SIZE + "-");
+        Response<StreamOutput> response = client.invoke(CLIENT_CODE_DOWNLOAD, new StreamInput(file.getName()), StreamOutput.class);
+        LOGGER.debug("RetCode = {}, RetMess = {}", response.getRetCode(), response.getRetMess());
+
+        Assert.assertEquals(FleaJerseyConstants.ResponseResultConstants.RESULT_CODE_RANGE_NOT_SATISFIABLE, response.getRetCode());
+        Assert.assertTrue(response.getRetMess().contains("bytes */" + FILE_SIZE));
+        Assert.assertNull(response.getOutput());
+        Assert.assertNull(FleaJerseyManager.getManager().getFileContext().getInputStream());
+    }
+
+    @Test
+    public void testStreamUploadExceedsMaxUploadSize() throws Exception {
+        File smallFile = File.createTempFile("flea-stream-small-", ".dat");
+        ConfigItem maxUploadSize = FleaConfigManager.getConfigItem(FleaJerseyConstants.JerseyFileConstants.FLEA_JERSEY_FILE,
+                FleaJerseyConstants.JerseyFileConstants.CONFIG_ITEM_MAX_UPLOAD_SIZE);
+        String oldMaxUploadSize = maxUploadSize.getValue();
+        try {
+            try (RandomAccessFile randomAccessFile = new RandomAccessFile(smallFile, "rw")) {
+                randomAccessFile.setLength(4096L);
+            }
+            maxUploadSize.setValue("1024");
+
+            FleaJerseyManager.getManager().resetFileContext();
+            FleaJerseyManager.getManager().addFileDataBodyPart(smallFile);
+            Response<StreamOutput> response = client.invoke(CLIENT_CODE_UPLOAD, new StreamInput(smallFile.getName()), StreamOutput.class);
+            LOGGER.debug("RetCode = {}, RetMess = {}", response.getRetCode(), response.getRetMess());
+
+            Assert.assertEquals(FleaJerseyConstants.ResponseResultConstants.RESULT_CODE_OTHER, response.getRetCode());
+            Assert.assertTrue(response.getRetMess().contains("1024"));
+        } finally {
+            maxUploadSize.setValue(oldMaxUploadSize);
+            Assert.assertTrue(smallFile.delete());
+        }
+    }
+
+    @Test
+    public void testStreamDownloadWithInvalidRange() throws Exception {
+        // 格式非法的 Range 请求头被忽略，返回完整文件
+        FleaJerseyFileContext fileContext = FleaJerseyManager.getManager().resetFileContext();
+        fileContext.setRange("bytes=abc-");
+        Response<StreamOutput> response = client.invoke(CLIENT_CODE_DOWNLOAD, new StreamInput(file.getName()), StreamOutput.class);
+        Assert.assertEquals(FleaJerseyConstants.ResponseResultConstants.RESULT_CODE_SUCCESS, response.getRetCode());
+
+        byte[] buffer = new byte[16];
+        int size = 0;
+        try (InputStream inputStream = FleaJerseyManager.getManager().getFileInputStream()) {
+            int n;
+            while (size < buffer.length && (n = inputStream.read(buffer, size, buffer.length - size)) > 0) {
+                size += n;
+            }
+        }
+        Assert.assertEquals("flea-stream-head", new String(buffer, 0, size, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testStreamUploadVerifyUnreadContent() throws Exception {
+        byte[] content = "flea-stream-upload-content".getBytes(StandardCharsets.UTF_8);
+        MessageDigest digest = MessageDigest.getInstance(FleaJerseyConstants.FileResourceConstants.CHECKSUM_ALGORITHM);
+        String checksum = DataHandleUtils.byte2hex(digest.digest(content));
+
+        Client jerseyClient = ClientBuilder.newClient();
+        try {
+            // 资源服务只读取了部分内容，剩余内容由服务端读完后校验摘要
+            javax.ws.rs.core.Response jerseyResponse = postPartialUpload(jerseyClient, content, checksum);
+            FleaJerseyResponse fleaJerseyResponse = jerseyResponse.readEntity(FleaJerseyResponse.class);
+            Assert.assertEquals(FleaJerseyConstants.ResponseResultConstants.RESULT_CODE_SUCCESS,
+                    fleaJerseyResponse.getResponseData().getPublicData().getResultCode());
+            Assert.assertEquals(checksum, jerseyResponse.getHeaderString(FleaJerseyConstants.FileResourceConstants.HEADER_FILE_CHECKSUM));
+
+            // 摘要不一致，即使资源服务处理成功也返回上传失败
+            jerseyResponse = postPartialUpload(jerseyClient, content, "0000");
+            fleaJerseyResponse = jerseyResponse.readEntity(FleaJerseyResponse.class);
+            LOGGER.debug("RetCode = {}, RetMess = {}", fleaJerseyResponse.getResponseData().getPublicData().getResultCode(),
+                    fleaJerseyResponse.getResponseData().getPublicData().getResultMess());
+            Assert.assertEquals(FleaJerseyConstants.ResponseResultConstants.RESULT_CODE_UPLOAD_FAILED,
+                    fleaJerseyResponse.getResponseData().getPublicData().getResultCode());
+        } finally {
+            jerseyClient.close();
+        }
+    }
+
+    private static javax.ws.rs.core.Response postPartialUpload(Client jerseyClient, byte[] content, String checksum) {
+        return jerseyClient.target(BASE_URI)
+                .path("partial")
+                .path(FleaJerseyConstants.FileResourceConstants.STREAM_UPLOAD_PATH)
+                .queryParam(FleaJerseyConstants.FormDataConstants.FORM_DATA_KEY_REQUEST, "partial")
+                .request(MediaType.APPLICATION_XML_TYPE)
+                .header(FleaJerseyConstants.FileResourceConstants.HEADER_FILE_NAME, "partial.dat")
+                .header(FleaJerseyConstants.FileResourceConstants.HEADER_FILE_CHECKSUM, checksum)
+                .post(Entity.entity(content, MediaType.APPLICATION_OCTET_STREAM_TYPE));
+    }
+
+    /**
+     * 流式文件上传测试资源，部署服务端的流式文件 POST 资源；
+     * 不经过 Flea Jersey 过滤器链，由本类模拟资源服务边读边处理上传的文件
+     */
+    @Path("upload")
+    public static class StreamUploadTestResource extends FleaJerseySPostResource {
+
+        @Override
+        protected FleaJerseyResponse doResource(String requestData) {
+            Assert.assertNotNull(requestData);
+            try (InputStream inputStream = FleaJerseyManager.getManager().getFileInputStream()) {
+                MessageDigest digest = MessageDigest.getInstance(FleaJerseyConstants.FileResourceConstants.CHECKSUM_ALGORITHM);
+                byte[] buffer = new byte[64 * 1024];
+                long size = 0;
+                int n;
+                while ((n = inputStream.read(buffer)) != -1) {
+                    digest.update(buffer, 0, n);
+                    size += n;
+                }
+                return newResponse(FleaJerseyConstants.ResponseResultConstants.RESULT_CODE_SUCCESS,
+                        FleaJerseyConstants.ResponseResultConstants.RESULT_MESS_SUCCESS,
+                        new StreamOutput(size, DataHandleUtils.byte2hex(digest.digest())));
+            } catch (Exception e) {
+                // 与异常过滤器一致，将异常信息作为返回信息
+                return newResponse(FleaJerseyConstants.ResponseResultConstants.RESULT_CODE_OTHER, e.getMessage(), null);
+            }
+        }
+    }
+
+    /**
+     * 流式文件上传测试资源，资源服务只读取文件的前几个字节即返回成功
+     */
+    @Path("partial")
+    public static class StreamPartialUploadTestResource extends FleaJerseySPostResource {
+
+        @Override
+        protected FleaJerseyResponse doResource(String requestData) {
+            try {
+                InputStream inputStream = FleaJerseyManager.getManager().getFileInputStream();
+                Assert.assertTrue(inputStream.read(new byte[4]) > 0);
+            } catch (Exception e) {
+                return newResponse(FleaJerseyConstants.ResponseResultConstants.RESULT_CODE_OTHER, e.getMessage(), null);
+            }
+            return newResponse(FleaJerseyConstants.ResponseResultConstants.RESULT_CODE_SUCCESS,
+                    FleaJerseyConstants.ResponseResultConstants.RESULT_MESS_SUCCESS, null);
+        }
+    }
+
+    /**
+     * 流式文件下载测试资源，部署服务端的流式文件 GET 资源；
+     * 不经过 Flea Jersey 过滤器链，由本类模拟资源服务指定待下载的文件
+     */
+    @Path("download")
+    public static class StreamDownloadTestResource extends FleaJerseySGetResource {
+
+        @Override
+        protected FleaJerseyResponse doResource(String requestData) {
+            Assert.assertNotNull(requestData);
+            try {
+                FleaJerseyManager.getManager().addFileDataBodyPart(file);
+            } catch (CommonException e) {
+                return newResponse(FleaJerseyConstants.ResponseResultConstants.RESULT_CODE_OTHER, e.getMessage(), null);
+            }
+            return newResponse(FleaJerseyConstants.ResponseResultConstants.RESULT_CODE_SUCCESS,
+                    FleaJerseyConstants.ResponseResultConstants.RESULT_MESS_SUCCESS, null);
+        }
+    }
+
+    private static FleaJerseyResponse newResponse(String resultCode, String resultMess, StreamOutput output) {
+        ResponsePublicData publicData = new ResponsePublicData();
+        publicData.setResultCode(resultCode);
+        publicData.setResultMess(resultMess);
+
+        FleaJerseyResponseData responseData = new FleaJerseyResponseData();
+        responseData.setPublicData(publicData);
+        if (null != output) {
+            ResponseBusinessData businessData = new ResponseBusinessData();
+            businessData.setOutput(GsonUtils.toJsonString(output));
+            responseData.setBusinessData(businessData);
+        }
+
+        FleaJerseyResponse response = new FleaJerseyResponse();
+        response.setResponseData(responseData);
+        return response;
+    }
+
+    /**
+     * 传输过程中定时采样已使用的堆内存，记录相对于开始时的最大增长量
+     */
+    private static class HeapMonitor implements Runnable {
+
+        private final long baseline;
+
+        private volatile long maxUsed;
+
+        private volatile boolean running = true;
+
+        private final Thread thread;
+
+        private HeapMonitor() {
+            System.gc();
+            baseline = usedHeap();
+            maxUsed = baseline;
+            thread = new Thread(this, "flea-stream-heap-monitor");
+            thread.setDaemon(true);
+        }
+
+        static HeapMonitor start() {
+            HeapMonitor monitor = new HeapMonitor();
+            monitor.thread.start();
+            return monitor;
+        }
+
+        long stop() throws InterruptedException {
+            running = false;
+            thread.join();
+            return maxUsed - baseline;
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                long used = usedHeap();
+                if (used > maxUsed) {
+                    maxUsed = used;
+                }
+                try {
+                    Thread.sleep(10L);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+
+        private static long usedHeap() {
+            Runtime runtime = Runtime.getRuntime();
+            return runtime.totalMemory() - runtime.freeMemory();
+        }
+    }
+
+    public static class StreamInput {
+
+        private String fileName;
+
+        public StreamInput() {
+        }
+
+        public StreamInput(String fileName) {
+            this.fileName = fileName;
+        }
+
+        public String getFileName() {
+            return fileName;
+        }
+    }
+
+    public static class StreamOutput {
+
+        private long size;
+
+        private String checksum;
+
+        public StreamOutput() {
+        }
+
+        public StreamOutput(long size, String checksum) {
+            this.size = size;
+            this.checksum = checksum;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public String getChecksum() {
+            return checksum;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.huazie.fleaframework.jersey.common;
 
 import com.huazie.fleaframework.common.CommonConstants;
 import com.huazie.fleaframework.common.FleaConfigManager;
+import com.huazie.fleaframework.common.config.ConfigItems;
+import com.huazie.fleaframework.common.util.StringUtils;
 
 /**
  * Flea Jersey 配置工具类
@@ -37,4 +39,125 @@ public class FleaJerseyConfig {
         return t;
     }
 
+    /**
+     * 获取异步请求线程池大小，可在配置文件 <b>flea-config.xml</b> 中查看
+     * {@code <config-items key="flea-jersey-client"> } 下的
+     * {@code <config-item key="async_pool_size"> } 节点；
+     * 未配置或配置非法时，默认为CPU核数的2倍。
+     *
+     * @return 异步请求线程池大小
+     * @since 2.0.0
+     */
+    public static int getAsyncPoolSize() {
+        String poolSize = FleaConfigManager.getConfigItemValue(
+                FleaJerseyConstants.JerseyClientConstants.FLEA_JERSEY_CLIENT,
+                FleaJerseyConstants.JerseyClientConstants.CONFIG_ITEM_ASYNC_POOL_SIZE);
+        return toPositiveInt(poolSize, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * 获取指定客户端编码的最大并发请求数，优先读取
+     * {@code <config-item key="max_concurrency.客户端编码"> } 节点，
+     * 其次读取 {@code <config-item key="max_concurrency"> } 节点；
+     * 均未配置或配置非法时，默认为 {@code 64}。
+     *
+     * @param clientCode 客户端编码
+     * @return 最大并发请求数
+     * @since 2.0.0
+     */
+    public static int getMaxConcurrency(String clientCode) {
+        ConfigItems configItems = FleaConfigManager.getConfigItems(FleaJerseyConstants.JerseyClientConstants.FLEA_JERSEY_CLIENT);
+        String maxConcurrency = FleaConfigManager.getConfigItemValue(
+                FleaJerseyConstants.JerseyClientConstants.CONFIG_ITEM_MAX_CONCURRENCY + CommonConstants.SymbolConstants.DOT + clientCode, configItems);
+        if (StringUtils.isBlank(maxConcurrency)) {
+            maxConcurrency = FleaConfigManager.getConfigItemValue(
+                    FleaJerseyConstants.JerseyClientConstants.CONFIG_ITEM_MAX_CONCURRENCY, configItems);
+        }
+        return toPositiveInt(maxConcurrency, FleaJerseyConstants.JerseyClientConstants.DEFAULT_MAX_CONCURRENCY);
+    }
+
+    /**
+     * 获取未指定超时时间时等待请求许可的最长时间，可在配置文件 <b>flea-config.xml</b> 中查看
+     * {@code <config-items key="flea-jersey-client"> } 下的
+     * {@code <config-item key="acquire_timeout"> } 节点；
+     * 未配置或配置非法时，默认为 {@code 3000} 毫秒。
+     *
+     * @return 等待请求许可的最长时间（毫秒）
+     * @since 2.0.0
+     */
+    public static long getAcquireTimeout() {
+        String acquireTimeout = FleaConfigManager.getConfigItemValue(
+                FleaJerseyConstants.JerseyClientConstants.FLEA_JERSEY_CLIENT,
+                FleaJerseyConstants.JerseyClientConstants.CONFIG_ITEM_ACQUIRE_TIMEOUT);
+        long result = FleaJerseyConstants.JerseyClientConstants.DEFAULT_ACQUIRE_TIMEOUT;
+        if (StringUtils.isNotBlank(acquireTimeout)) {
+            try {
+                result = Long.parseLong(acquireTimeout.trim());
+            } catch (NumberFormatException e) {
+                result = FleaJerseyConstants.JerseyClientConstants.DEFAULT_ACQUIRE_TIMEOUT;
+            }
+        }
+        return result > 0 ? result : FleaJerseyConstants.JerseyClientConstants.DEFAULT_ACQUIRE_TIMEOUT;
+    }
+
+    /**
+     * 获取流式文件上传的最大字节数，可在配置文件 <b>flea-config.xml</b> 中查看
+     * {@code <config-items key="flea-jersey-file"> } 下的
+     * {@code <config-item key="max_upload_size"> } 节点；
+     * 未配置或配置非法时，默认为 10GB。
+     *
+     * @return 流式文件上传的最大字节数
+     * @since 2.0.0
+     */
+    public static long getMaxUploadSize() {
+        String maxUploadSize = FleaConfigManager.getConfigItemValue(
+                FleaJerseyConstants.JerseyFileConstants.FLEA_JERSEY_FILE,
+                FleaJerseyConstants.JerseyFileConstants.CONFIG_ITEM_MAX_UPLOAD_SIZE);
+        long result = FleaJerseyConstants.JerseyFileConstants.DEFAULT_MAX_UPLOAD_SIZE;
+        if (StringUtils.isNotBlank(maxUploadSize)) {
+            try {
+                result = Long.parseLong(maxUploadSize.trim());
+            } catch (NumberFormatException e) {
+                result = FleaJerseyConstants.JerseyFileConstants.DEFAULT_MAX_UPLOAD_SIZE;
+            }
+        }
+        return result > 0 ? result : FleaJerseyConstants.JerseyFileConstants.DEFAULT_MAX_UPLOAD_SIZE;
+    }
+
+    /**
+     * 获取流式文件上传的分块传输大小，可在配置文件 <b>flea-config.xml</b> 中查看
+     * {@code <config-items key="flea-jersey-file"> } 下的
+     * {@code <config-item key="chunk_size"> } 节点；
+     * 未配置或配置非法时，默认为 64KB。
+     *
+     * @return 分块传输大小
+     * @since 2.0.0
+     */
+    public static int getChunkSize() {
+        String chunkSize = FleaConfigManager.getConfigItemValue(
+                FleaJerseyConstants.JerseyFileConstants.FLEA_JERSEY_FILE,
+                FleaJerseyConstants.JerseyFileConstants.CONFIG_ITEM_CHUNK_SIZE);
+        return toPositiveInt(chunkSize, FleaJerseyConstants.JerseyFileConstants.DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * 将配置值转换为正整数，未配置或配置非法时返回默认值
+     *
+     * @param value        配置值
+     * @param defaultValue 默认值
+     * @return 正整数
+     * @since 2.0.0
+     */
+    private static int toPositiveInt(String value, int defaultValue) {
+        int result = defaultValue;
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                result = Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                result = defaultValue;
+            }
+        }
+        return result > 0 ? result : defaultValue;
+    }
+
 }
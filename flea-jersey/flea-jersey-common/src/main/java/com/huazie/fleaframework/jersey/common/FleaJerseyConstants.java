@@ -45,6 +45,16 @@ public final class FleaJerseyConstants {
          */
         public static final String RESULT_MESS_SUCCESS = "success";
 
+        /**
+         * 流式文件上传中，文件大小超出限制、摘要校验不通过或读取失败
+         */
+        public static final String RESULT_CODE_UPLOAD_FAILED = "999996";
+
+        /**
+         * 流式文件下载中，请求的字节范围无法满足
+         */
+        public static final String RESULT_CODE_RANGE_NOT_SATISFIABLE = "999997";
+
         /**
          * 返回码未配置
          */
@@ -119,6 +129,162 @@ public final class FleaJerseyConstants {
          * 文件下载资源路径
          */
         public static final String FILE_DOWNLOAD_PATH = "fileDownload";
+        /**
+         * 流式文件上传资源路径
+         */
+        public static final String STREAM_UPLOAD_PATH = "streamUpload";
+        /**
+         * 流式文件下载资源路径
+         */
+        public static final String STREAM_DOWNLOAD_PATH = "streamDownload";
+        /**
+         * 流式文件传输中，文件名请求头/响应头（UTF-8 URL编码）
+         */
+        public static final String HEADER_FILE_NAME = "Flea-File-Name";
+        /**
+         * 流式文件上传中，文件摘要请求头（十六进制字符串）
+         */
+        public static final String HEADER_FILE_CHECKSUM = "Flea-File-Checksum";
+        /**
+         * 流式文件下载中，响应公共报文返回码响应头
+         */
+        public static final String HEADER_RESULT_CODE = "Flea-Result-Code";
+        /**
+         * 流式文件下载中，响应公共报文返回信息响应头（UTF-8 URL编码）
+         */
+        public static final String HEADER_RESULT_MESS = "Flea-Result-Mess";
+        /**
+         * 流式文件上传的文件摘要算法
+         */
+        public static final String CHECKSUM_ALGORITHM = "MD5";
+    }
+
+    /**
+     * Jersey 文件传输常量
+     *
+     * @since 2.0.0
+     */
+    public static final class JerseyFileConstants {
+        /**
+         * Jersey 文件传输配置项列表键
+         */
+        public static final String FLEA_JERSEY_FILE = "flea-jersey-file";
+        /**
+         * 流式文件上传的最大字节数
+         */
+        public static final String CONFIG_ITEM_MAX_UPLOAD_SIZE = "max_upload_size";
+        /**
+         * 流式文件上传的分块传输大小（单位：字节）
+         */
+        public static final String CONFIG_ITEM_CHUNK_SIZE = "chunk_size";
+        /**
+         * 默认的流式文件上传的最大字节数，10GB
+         */
+        public static final long DEFAULT_MAX_UPLOAD_SIZE = 10L * 1024 * 1024 * 1024;
+        /**
+         * 默认的流式文件上传的分块传输大小，64KB
+         */
+        public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+    }
+
+    /**
+     * Jersey 客户端常量
+     *
+     * @since 2.0.0
+     */
+    public static final class JerseyClientConstants {
+        /**
+         * Jersey 客户端配置项列表键
+         */
+        public static final String FLEA_JERSEY_CLIENT = "flea-jersey-client";
+        /**
+         * 异步请求线程池大小
+         */
+        public static final String CONFIG_ITEM_ASYNC_POOL_SIZE = "async_pool_size";
+        /**
+         * 单个客户端编码的最大并发请求数，可使用【max_concurrency.客户端编码】单独配置
+         */
+        public static final String CONFIG_ITEM_MAX_CONCURRENCY = "max_concurrency";
+        /**
+         * 默认的单个客户端编码的最大并发请求数
+         */
+        public static final int DEFAULT_MAX_CONCURRENCY = 64;
+        /**
+         * 未指定超时时间时，等待请求许可的最长时间（单位：毫秒）
+         */
+        public static final String CONFIG_ITEM_ACQUIRE_TIMEOUT = "acquire_timeout";
+        /**
+         * 默认的等待请求许可的最长时间，3000毫秒
+         */
+        public static final long DEFAULT_ACQUIRE_TIMEOUT = 3000L;
+    }
+
+    /**
+     * Jersey 资源服务调用日志常量
+     *
+     * @since 2.0.0
+     */
+    public static final class JerseyAuditLogConstants {
+        /**
+         * Jersey 资源服务调用日志配置项列表键
+         */
+        public static final String FLEA_JERSEY_AUDIT_LOG = "flea-jersey-audit-log";
+        /**
+         * 是否异步记录资源服务调用日志
+         */
+        public static final String CONFIG_ITEM_ASYNC = "async";
+        /**
+         * 环形缓冲区容量
+         */
+        public static final String CONFIG_ITEM_CAPACITY = "capacity";
+        /**
+         * 批量写入的最大日志条数
+         */
+        public static final String CONFIG_ITEM_BATCH_SIZE = "batch_size";
+        /**
+         * 批量写入的最大时间间隔（单位：毫秒）
+         */
+        public static final String CONFIG_ITEM_FLUSH_INTERVAL = "flush_interval";
+        /**
+         * 缓冲区满载时的背压策略【drop, sample, block】
+         */
+        public static final String CONFIG_ITEM_POLICY = "policy";
+        /**
+         * 采样策略下的采样率，即每多少条日志保留一条
+         */
+        public static final String CONFIG_ITEM_SAMPLE_RATE = "sample_rate";
+        /**
+         * 阻塞策略下的最长等待时间（单位：毫秒）
+         */
+        public static final String CONFIG_ITEM_BLOCK_TIMEOUT = "block_timeout";
+        /**
+         * 关闭时等待日志写入完成的最长时间（单位：毫秒）
+         */
+        public static final String CONFIG_ITEM_SHUTDOWN_TIMEOUT = "shutdown_timeout";
+        /**
+         * 日志写入的数据库管理系统名称
+         */
+        public static final String CONFIG_ITEM_DB_SYSTEM = "db_system";
+        /**
+         * 日志写入的数据库名或数据库用户
+         */
+        public static final String CONFIG_ITEM_DB_NAME = "db_name";
+    }
+
+    /**
+     * Flea Jersey JSON 使用处常量，对应【flea-json/codec.使用处】配置
+     *
+     * @since 2.0.0
+     */
+    public static final class JerseyJsonConstants {
+        /**
+         * Flea Jersey 服务端资源服务出入参
+         */
+        public static final String USE_SITE_JERSEY_SERVER = "flea-jersey-server";
+        /**
+         * Flea Jersey 客户端业务出入参
+         */
+        public static final String USE_SITE_JERSEY_CLIENT = "flea-jersey-client";
     }
 
 }
@@ -2,6 +2,7 @@ package com.huazie.fleaframework.jersey.common;
 
 import com.huazie.fleaframework.common.FleaFrameManager;
 import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.common.util.ExceptionUtils;
 import com.huazie.fleaframework.common.util.ObjectUtils;
 import com.huazie.fleaframework.common.util.StringUtils;
 import com.huazie.fleaframework.jersey.common.data.FleaFileObject;
@@ -15,6 +16,9 @@ import org.glassfish.jersey.media.multipart.file.FileDataBodyPart;
 
 import javax.ws.rs.core.MediaType;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
 
 /**
  * Flea Jersey 管理类
@@ -107,6 +111,15 @@ public class FleaJerseyManager {
      * @since 1.0.0
      */
     public FleaFileObject getFileObject() throws CommonException {
+        FleaJerseyFileContext fileContext = getFileContext();
+        if (ObjectUtils.isNotEmpty(fileContext) && ObjectUtils.isNotEmpty(fileContext.getInputStream())) {
+            // 流式文件传输，直接返回文件输入流，不落地临时文件
+            FleaFileObject fileObject = new FleaFileObject();
+            fileObject.setFileName(fileContext.getFileName());
+            fileObject.setInputStream(fileContext.getInputStream());
+            return fileObject;
+        }
+
         FormDataBodyPart fileFormDataBodyPart = getFileFormDataBodyPart();
         FormDataContentDisposition formDataContentDisposition = fileFormDataBodyPart.getFormDataContentDisposition();
         FleaFileObject fileObject = new FleaFileObject();
@@ -117,6 +130,60 @@ public class FleaJerseyManager {
         return fileObject;
     }
 
+    /**
+     * 获取文件输入流，流式文件传输时为请求（或响应）体的输入流，
+     * 表单文件传输时为表单中文件的输入流；由调用方负责关闭。
+     *
+     * @return 文件输入流
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    public InputStream getFileInputStream() throws CommonException {
+        FleaFileObject fileObject = getFileObject();
+        InputStream inputStream = fileObject.getInputStream();
+        if (ObjectUtils.isEmpty(inputStream)) {
+            try {
+                inputStream = new FileInputStream(fileObject.getFile());
+            } catch (FileNotFoundException e) {
+                // {0}获取失败，请检查
+                ExceptionUtils.throwCommonException(FleaJerseyCommonException.class, "ERROR-JERSEY-COMMON0000000000", "【FILE = InputStream】");
+            }
+        }
+        return inputStream;
+    }
+
+    /**
+     * 获取待下载的文件，即通过 {@code addFileDataBodyPart} 添加到
+     * 文件表单中的文件，流式文件下载时使用。
+     *
+     * @return 待下载的文件，未添加时返回 null
+     * @since 2.0.0
+     */
+    public File getDownloadFile() {
+        File file = null;
+        FleaJerseyFileContext fileContext = getFileContext();
+        if (ObjectUtils.isNotEmpty(fileContext) && ObjectUtils.isNotEmpty(fileContext.getFormDataMultiPart())) {
+            FormDataBodyPart fileFormDataBodyPart = fileContext.getFormDataMultiPart().getField(FleaJerseyConstants.FormDataConstants.FORM_DATA_KEY_FILE);
+            if (fileFormDataBodyPart instanceof FileDataBodyPart) {
+                file = ((FileDataBodyPart) fileFormDataBodyPart).getFileEntity();
+            }
+        }
+        return file;
+    }
+
+    /**
+     * 重置当前线程的文件上下文，流式文件传输开始前调用，
+     * 避免读取到同一线程上一次请求遗留的文件数据。
+     *
+     * @return 新的文件上下文
+     * @since 2.0.0
+     */
+    public FleaJerseyFileContext resetFileContext() {
+        FleaJerseyFileContext fileContext = new FleaJerseyFileContext();
+        getContext().setFleaJerseyFileContext(fileContext);
+        return fileContext;
+    }
+
     /**
      * 获取文件表单信息
      *
@@ -1,10 +1,13 @@
 package com.huazie.fleaframework.jersey.common.data;
 
 import java.io.File;
+import java.io.InputStream;
 
 /**
  * Flea文件对象
  *
+ * <p> 表单文件传输时为文件，流式文件传输时为文件输入流。
+ *
  * @author huazie
  * @version 1.0.0
  * @since 1.0.0
@@ -15,6 +18,8 @@ public class FleaFileObject {
 
     private File file; // 文件
 
+    private InputStream inputStream; // 文件输入流
+
     public String getFileName() {
         return fileName;
     }
@@ -30,4 +35,12 @@ public class FleaFileObject {
     public void setFile(File file) {
         this.file = file;
     }
+
+    public InputStream getInputStream() {
+        return inputStream;
+    }
+
+    public void setInputStream(InputStream inputStream) {
+        this.inputStream = inputStream;
+    }
 }
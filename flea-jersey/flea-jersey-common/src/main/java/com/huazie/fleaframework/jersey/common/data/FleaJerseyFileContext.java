@@ -2,9 +2,14 @@ package com.huazie.fleaframework.jersey.common.data;
 
 import org.glassfish.jersey.media.multipart.FormDataMultiPart;
 
+import java.io.InputStream;
+
 /**
  * Flea Jersey文件相关上下文
  *
+ * <p> 表单文件传输使用多文件表单；流式文件传输使用文件输入流、
+ * 文件名以及下载时的字节范围。
+ *
  * @author huazie
  * @version 1.0.0
  * @since 1.0.0
@@ -13,6 +18,12 @@ public class FleaJerseyFileContext {
 
     private FormDataMultiPart formDataMultiPart; // 多文件表单
 
+    private InputStream inputStream; // 流式传输的文件输入流
+
+    private String fileName; // 流式传输的文件名
+
+    private String range; // 流式下载的字节范围，如 bytes=1024-，用于断点续传
+
     public FormDataMultiPart getFormDataMultiPart() {
         return formDataMultiPart;
     }
@@ -20,4 +31,28 @@ public class FleaJerseyFileContext {
     public void setFormDataMultiPart(FormDataMultiPart formDataMultiPart) {
         this.formDataMultiPart = formDataMultiPart;
     }
+
+    public InputStream getInputStream() {
+        return inputStream;
+    }
+
+    public void setInputStream(InputStream inputStream) {
+        this.inputStream = inputStream;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getRange() {
+        return range;
+    }
+
+    public void setRange(String range) {
+        this.range = range;
+    }
 }
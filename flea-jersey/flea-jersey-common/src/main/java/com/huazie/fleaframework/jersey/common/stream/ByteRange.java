@@ -0,0 +1,170 @@
+package com.huazie.fleaframework.jersey.common.stream;
+
+import com.huazie.fleaframework.common.util.StringUtils;
+
+/**
+ * HTTP 字节范围，用于解析 {@code Range} 请求头，支持断点续传。
+ *
+ * <p> 仅支持单个字节范围，格式如下：
+ * <ul>
+ *     <li> {@code bytes=start-end}：从 start 到 end（包含）</li>
+ *     <li> {@code bytes=start-}：从 start 到文件末尾</li>
+ *     <li> {@code bytes=-suffix}：文件末尾的 suffix 个字节</li>
+ * </ul>
+ *
+ * <p> 按 RFC 7233 的要求，格式非法或不支持（如其他单位、多个字节范围）的
+ * {@code Range} 请求头应被忽略，返回完整文件；只有格式合法但无法满足的
+ * 字节范围（起始位置不小于文件长度，或后缀长度为0），才返回 416 状态码。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public final class ByteRange {
+
+    private static final String BYTES_UNIT = "bytes=";
+
+    private final long start; // 起始位置（包含）
+
+    private final long end; // 结束位置（包含）
+
+    private final long total; // 文件总长度
+
+    private final boolean satisfiable; // 是否可满足
+
+    private ByteRange(long start, long end, long total, boolean satisfiable) {
+        this.start = start;
+        this.end = end;
+        this.total = total;
+        this.satisfiable = satisfiable;
+    }
+
+    /**
+     * 解析 {@code Range} 请求头
+     *
+     * @param range Range 请求头
+     * @param total 文件总长度
+     * @return 字节范围，格式合法但无法满足时 {@link #isSatisfiable()} 为 false；
+     * 格式非法或不支持时返回 null，应忽略该请求头
+     * @since 2.0.0
+     */
+    public static ByteRange parse(String range, long total) {
+        if (StringUtils.isBlank(range) || total < 0) {
+            return null;
+        }
+        String value = range.trim();
+        if (!value.regionMatches(true, 0, BYTES_UNIT, 0, BYTES_UNIT.length())) {
+            return null;
+        }
+        value = value.substring(BYTES_UNIT.length()).trim();
+        // 不支持多个字节范围
+        if (value.indexOf(',') >= 0) {
+            return null;
+        }
+        int index = value.indexOf('-');
+        if (index < 0) {
+            return null;
+        }
+        String startStr = value.substring(0, index).trim();
+        String endStr = value.substring(index + 1).trim();
+        if (startStr.isEmpty()) {
+            // 文件末尾的 suffix 个字节
+            long suffix = parsePosition(endStr);
+            if (suffix < 0) {
+                return null;
+            }
+            if (suffix == 0 || total == 0) {
+                return notSatisfiable(total);
+            }
+            return new ByteRange(Math.max(total - suffix, 0), total - 1, total, true);
+        }
+        long start = parsePosition(startStr);
+        long end = endStr.isEmpty() ? Long.MAX_VALUE : parsePosition(endStr);
+        if (start < 0 || end < start) {
+            return null;
+        }
+        if (start >= total) {
+            return notSatisfiable(total);
+        }
+        return new ByteRange(start, Math.min(end, total - 1), total, true);
+    }
+
+    /**
+     * 是否可满足，格式合法但无法满足的字节范围应返回 416 状态码
+     *
+     * @return true：可满足，false：无法满足
+     * @since 2.0.0
+     */
+    public boolean isSatisfiable() {
+        return satisfiable;
+    }
+
+    /**
+     * 是否为完整的文件范围
+     *
+     * @return true：完整文件，false：部分内容
+     * @since 2.0.0
+     */
+    public boolean isFull() {
+        return start == 0 && end == total - 1;
+    }
+
+    public long getStart() {
+        return start;
+    }
+
+    public long getEnd() {
+        return end;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * 获取范围内的字节数，无法满足时为0
+     *
+     * @return 字节数
+     * @since 2.0.0
+     */
+    public long getLength() {
+        return satisfiable ? end - start + 1 : 0L;
+    }
+
+    /**
+     * 转换为 {@code Content-Range} 响应头的值，无法满足时只包含文件总长度
+     *
+     * @return Content-Range 响应头的值
+     * @since 2.0.0
+     */
+    public String toContentRange() {
+        if (!satisfiable) {
+            return "bytes */" + total;
+        }
+        return "bytes " + start + "-" + end + "/" + total;
+    }
+
+    private static ByteRange notSatisfiable(long total) {
+        return new ByteRange(-1L, -1L, total, false);
+    }
+
+    /**
+     * 解析字节位置，只允许 ASCII 数字，格式非法或超出范围时返回 -1
+     */
+    private static long parsePosition(String position) {
+        if (position.isEmpty()) {
+            return -1L;
+        }
+        for (int i = 0; i < position.length(); i++) {
+            char c = position.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1L;
+            }
+        }
+        try {
+            return Long.parseLong(position);
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+}
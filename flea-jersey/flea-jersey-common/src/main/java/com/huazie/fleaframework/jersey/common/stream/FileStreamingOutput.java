@@ -0,0 +1,100 @@
+package com.huazie.fleaframework.jersey.common.stream;
+
+import javax.ws.rs.core.StreamingOutput;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * 文件流式输出，用于流式文件下载。
+ *
+ * <p> 使用 {@link FileChannel#transferTo} 将文件指定范围的内容
+ * 传输到响应输出流，不经过应用层的字节数组；目标为 Socket 通道或
+ * 文件通道时由操作系统完成零拷贝，对于容器提供的普通输出流，
+ * 则由 JDK 使用直接缓冲区分段传输。无论哪种方式，
+ * 堆内存占用都与文件大小无关。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FileStreamingOutput implements StreamingOutput {
+
+    private final File file; // 待输出的文件
+
+    private final long position; // 起始位置
+
+    private final long count; // 输出的字节数
+
+    /**
+     * 输出整个文件
+     *
+     * @param file 文件
+     * @since 2.0.0
+     */
+    public FileStreamingOutput(File file) {
+        this(file, 0, file.length());
+    }
+
+    /**
+     * 输出文件指定范围的内容
+     *
+     * @param file  文件
+     * @param range 字节范围
+     * @since 2.0.0
+     */
+    public FileStreamingOutput(File file, ByteRange range) {
+        this(file, range.getStart(), range.getLength());
+    }
+
+    /**
+     * 输出文件指定范围的内容
+     *
+     * @param file     文件
+     * @param position 起始位置
+     * @param count    输出的字节数
+     * @since 2.0.0
+     */
+    public FileStreamingOutput(File file, long position, long count) {
+        this.file = file;
+        this.position = position;
+        this.count = count;
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+             FileChannel fileChannel = randomAccessFile.getChannel()) {
+            WritableByteChannel target = Channels.newChannel(output);
+            long transferred = 0;
+            while (transferred < count) {
+                long n = fileChannel.transferTo(position + transferred, count - transferred, target);
+                if (n <= 0) {
+                    // 文件在传输过程中被截断
+                    if (position + transferred >= fileChannel.size()) {
+                        throw new IOException("File [" + file.getName() + "] truncated during transfer");
+                    }
+                    continue;
+                }
+                transferred += n;
+            }
+            output.flush();
+        }
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
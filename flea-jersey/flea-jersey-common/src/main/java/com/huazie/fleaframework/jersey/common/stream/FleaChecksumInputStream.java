@@ -0,0 +1,239 @@
+package com.huazie.fleaframework.jersey.common.stream;
+
+import com.huazie.fleaframework.common.util.DataHandleUtils;
+import com.huazie.fleaframework.common.util.ExceptionUtils;
+import com.huazie.fleaframework.common.util.StringUtils;
+import com.huazie.fleaframework.jersey.common.FleaJerseyConstants;
+import com.huazie.fleaframework.jersey.common.exceptions.FleaJerseyCommonException;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 限制大小并校验摘要的输入流，用于流式文件上传。
+ *
+ * <p> 读取过程中边读边计算摘要，并统计已读取的字节数：
+ * <ul>
+ *     <li> 声明的内容长度或已读取的字节数超过上限时，
+ *     抛出异常 【ERROR-JERSEY-COMMON0000000002】；</li>
+ *     <li> 读取到流末尾时，若指定了期望的摘要，则与实际摘要比较，
+ *     不一致时抛出异常 【ERROR-JERSEY-COMMON0000000003】。</li>
+ * </ul>
+ *
+ * <p> 读取方未读取到流末尾时（如资源服务只读取了部分内容），
+ * 需调用 {@link #verify()} 读完剩余内容，完成大小限制和摘要校验。
+ *
+ * <p> 读取方无需关心文件大小，内存占用只与读取缓冲区大小有关。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaChecksumInputStream extends FilterInputStream {
+
+    private static final int DIGEST_BUFFER_SIZE = 64 * 1024;
+
+    private final long maxSize; // 允许读取的最大字节数
+
+    private final long declaredSize; // 声明的内容长度，未知时为 -1
+
+    private final String expectedChecksum; // 期望的摘要
+
+    private final MessageDigest digest; // 摘要计算
+
+    private long readSize; // 已读取的字节数
+
+    private String checksum; // 读取完成后的实际摘要
+
+    /**
+     * 限制大小并校验摘要的输入流
+     *
+     * @param in               原始输入流
+     * @param maxSize          允许读取的最大字节数
+     * @param declaredSize     声明的内容长度，未知时传 -1
+     * @param expectedChecksum 期望的摘要（十六进制字符串），为空则不校验
+     * @since 2.0.0
+     */
+    public FleaChecksumInputStream(InputStream in, long maxSize, long declaredSize, String expectedChecksum) {
+        super(in);
+        this.maxSize = maxSize;
+        this.declaredSize = declaredSize;
+        this.expectedChecksum = expectedChecksum;
+        this.digest = newDigest();
+    }
+
+    @Override
+    public int read() throws IOException {
+        checkDeclaredSize();
+        int b = in.read();
+        if (b == -1) {
+            finish();
+        } else {
+            update(1);
+            digest.update((byte) b);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        checkDeclaredSize();
+        int n = in.read(b, off, len);
+        if (n == -1) {
+            finish();
+        } else if (n > 0) {
+            update(n);
+            digest.update(b, off, n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+        // 跳过的字节同样需要计入摘要
+        byte[] buffer = new byte[(int) Math.min(n, 8192)];
+        long skipped = 0;
+        while (skipped < n) {
+            int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+            if (read == -1) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readLimit) {
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    /**
+     * 读完剩余内容并完成校验，已读取到流末尾时直接返回实际摘要；
+     * 读取过程中超过大小上限，或实际摘要与期望的摘要不一致时，抛出异常。
+     *
+     * @return 实际摘要（十六进制小写字符串）
+     * @throws IOException 读取异常
+     * @since 2.0.0
+     */
+    public String verify() throws IOException {
+        if (!isFinished()) {
+            byte[] buffer = new byte[DIGEST_BUFFER_SIZE];
+            while (read(buffer, 0, buffer.length) != -1) {
+                // 读取的内容只用于计算摘要
+            }
+        } else {
+            // 读取方可能已捕获读取到流末尾时的校验异常，此处再次校验
+            checkChecksum();
+        }
+        return checksum;
+    }
+
+    /**
+     * 是否已读取到流末尾并完成校验
+     *
+     * @return true：已完成，false：未完成
+     * @since 2.0.0
+     */
+    public boolean isFinished() {
+        return checksum != null;
+    }
+
+    /**
+     * 获取已读取的字节数
+     *
+     * @return 已读取的字节数
+     * @since 2.0.0
+     */
+    public long getReadSize() {
+        return readSize;
+    }
+
+    /**
+     * 获取实际摘要，读取到流末尾之前返回 null
+     *
+     * @return 实际摘要（十六进制小写字符串）
+     * @since 2.0.0
+     */
+    public String getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * 计算文件摘要，客户端上传前使用，与服务端使用相同的摘要算法
+     *
+     * @param file 文件
+     * @return 文件摘要（十六进制小写字符串）
+     * @throws IOException 读取文件异常
+     * @since 2.0.0
+     */
+    public static String checksum(File file) throws IOException {
+        MessageDigest digest = newDigest();
+        try (FileInputStream fis = new FileInputStream(file); FileChannel channel = fis.getChannel()) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(DIGEST_BUFFER_SIZE);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return DataHandleUtils.byte2hex(digest.digest());
+    }
+
+    private void checkDeclaredSize() {
+        if (declaredSize > maxSize) {
+            // 上传文件大小超过上限【{0}】字节，请检查！
+            ExceptionUtils.throwCommonException(FleaJerseyCommonException.class, "ERROR-JERSEY-COMMON0000000002", maxSize);
+        }
+    }
+
+    private void update(int n) {
+        readSize += n;
+        if (readSize > maxSize) {
+            // 上传文件大小超过上限【{0}】字节，请检查！
+            ExceptionUtils.throwCommonException(FleaJerseyCommonException.class, "ERROR-JERSEY-COMMON0000000002", maxSize);
+        }
+    }
+
+    private void finish() {
+        if (checksum != null) {
+            return;
+        }
+        checksum = DataHandleUtils.byte2hex(digest.digest());
+        checkChecksum();
+    }
+
+    private void checkChecksum() {
+        if (StringUtils.isNotBlank(expectedChecksum) && !expectedChecksum.trim().equalsIgnoreCase(checksum)) {
+            // 上传文件校验失败：期望的摘要为【{0}】，实际的摘要为【{1}】
+            ExceptionUtils.throwCommonException(FleaJerseyCommonException.class, "ERROR-JERSEY-COMMON0000000003", expectedChecksum, checksum);
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(FleaJerseyConstants.FileResourceConstants.CHECKSUM_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package com.huazie.fleaframework.jersey.server.filter;
 
+import com.huazie.fleaframework.common.CommonConstants;
+import com.huazie.fleaframework.common.FleaConfigManager;
+import com.huazie.fleaframework.common.metrics.FleaMetric;
+import com.huazie.fleaframework.common.metrics.FleaMetrics;
 import com.huazie.fleaframework.common.slf4j.FleaLogger;
 import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
 import com.huazie.fleaframework.common.util.CollectionUtils;
@@ -9,19 +13,34 @@ import com.huazie.fleaframework.common.util.StringUtils;
 import com.huazie.fleaframework.common.util.xml.JABXUtils;
 import com.huazie.fleaframework.jersey.common.data.FleaJerseyRequest;
 import com.huazie.fleaframework.jersey.common.data.FleaJerseyResponse;
+import com.huazie.fleaframework.jersey.common.data.RequestPublicData;
 import com.huazie.fleaframework.jersey.common.exceptions.FleaJerseyFilterException;
 import com.huazie.fleaframework.jersey.common.filter.config.Filter;
 import com.huazie.fleaframework.jersey.common.filter.config.FleaJerseyFilterConfig;
+import com.huazie.fleaframework.jersey.server.invoker.FleaServiceInvokerRegistry;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Flea Jersey 接口过滤器链，定义了前置过滤器链、业务服务过滤器链、
  * 后置过滤器链 和 异常过滤器链。
  *
+ * <p> 开启指标统计时，记录每个过滤器以及每个资源服务的耗时，
+ * 前置过滤器抛出异常计为拒绝，其余过滤器抛出异常计为异常，
+ * 指标名约定见 {@link FleaMetrics}。
+ *
+ * <p> 资源编码和服务编码来自请求报文，为避免指标无限增长，只有对应已配置
+ * 资源服务（已编译资源服务调用者）的请求，才记入该资源服务的指标；
+ * 未通过前置过滤器、编码未知，或资源服务指标个数已达【flea-metrics】中
+ * {@code max_service_metrics} 配置的上限时，统一记入 {@code jersey.service.unknown}。
+ * 资源服务指标按资源编码和服务编码缓存，请求线程中不再拼接指标名。
+ *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public class FleaJerseyFilterChain {
@@ -38,6 +57,30 @@ public class FleaJerseyFilterChain {
 
     private static ThreadLocal<StringBuilder> sDoFilterStep = new ThreadLocal<>(); // 过滤器执行顺序
 
+    private static final String METRIC_FILTER_PREFIX = "jersey.filter.";
+
+    private static final String METRIC_SERVICE_PREFIX = "jersey.service.";
+
+    private static final String METRIC_SERVICE_UNKNOWN = METRIC_SERVICE_PREFIX + "unknown";
+
+    private FleaMetrics metrics; // 指标注册中心，未开启指标统计时为 null
+
+    private List<FleaMetric> beforeMetrics; // 前置过滤器指标
+
+    private List<FleaMetric> serviceMetrics; // 业务服务过滤器指标
+
+    private List<FleaMetric> afterMetrics; // 后置过滤器指标
+
+    private List<FleaMetric> errorMetrics; // 异常过滤器指标
+
+    private FleaMetric unknownServiceMetric; // 未知资源服务指标
+
+    private final ConcurrentMap<String, ConcurrentMap<String, FleaMetric>> serviceMetricMap = new ConcurrentHashMap<>(); // 资源服务指标，资源编码 -> 服务编码 -> 指标
+
+    private final AtomicInteger serviceMetricCount = new AtomicInteger(); // 资源服务指标个数
+
+    private int maxServiceMetrics; // 资源服务指标的最大个数
+
     public FleaJerseyFilterChain() {
         init();
     }
@@ -52,6 +95,18 @@ public class FleaJerseyFilterChain {
         serviceFilters = convert(FleaJerseyFilterConfig.getServiceFilters());
         afterFilters = convert(FleaJerseyFilterConfig.getAfterFilters());
         errorFilters = convertError(FleaJerseyFilterConfig.getErrorFilters());
+
+        FleaMetrics fleaMetrics = FleaMetrics.getMetrics();
+        if (fleaMetrics.isEnabled()) {
+            // 初始化时获取并持有过滤器指标，请求线程中不再查找
+            metrics = fleaMetrics;
+            beforeMetrics = toMetrics(beforeFilters);
+            serviceMetrics = toMetrics(serviceFilters);
+            afterMetrics = toMetrics(afterFilters);
+            errorMetrics = toMetrics(errorFilters);
+            unknownServiceMetric = metrics.getMetric(METRIC_SERVICE_UNKNOWN);
+            maxServiceMetrics = getMaxServiceMetrics();
+        }
     }
 
     /**
@@ -74,16 +129,21 @@ public class FleaJerseyFilterChain {
         FleaJerseyResponse response = new FleaJerseyResponse();
         LOGGER.debug1(new Object() {}, "RequestData = {}", requestData);
         FleaJerseyRequest request = null;
+        long start = System.nanoTime();
         try {
             // 请求报文不能为空
             StringUtils.checkBlank(requestData, FleaJerseyFilterException.class, "ERROR-JERSEY-FILTER0000000003");
             request= JABXUtils.fromXml(requestData, FleaJerseyRequest.class);
-            response = doFilter(request, response);
         } catch (Exception e) {
+            // 请求报文解析失败，计为拒绝
+            if (ObjectUtils.isNotEmpty(metrics)) {
+                unknownServiceMetric.recordReject(System.nanoTime() - start);
+            }
             // 执行异常过滤器
             doErrorFilter(request, response, e);
+            return response;
         }
-        return response;
+        return doFilter(request, response);
     }
 
     /**
@@ -97,9 +157,13 @@ public class FleaJerseyFilterChain {
         if (ObjectUtils.isEmpty(response)) {
             response = new FleaJerseyResponse();
         }
+        long start = System.nanoTime();
+        boolean passed = false; // 是否通过前置过滤器
+        Exception exception = null;
         try {
             // 执行前置过滤器
             doBeforeFilter(request, response);
+            passed = true;
 
             // 执行业务服务过滤器
             doServiceFilter(request, response);
@@ -107,9 +171,13 @@ public class FleaJerseyFilterChain {
             // 执行后置过滤器
             doAfterFilter(request, response);
         } catch (Exception e) {
+            exception = e;
             // 执行异常过滤器
             doErrorFilter(request, response, e);
         } finally {
+            if (ObjectUtils.isNotEmpty(metrics)) {
+                recordService(request, System.nanoTime() - start, passed, exception);
+            }
             LOGGER.debug1(new Object() {}, "Filter = {}", showStep());
             resetStep();
         }
@@ -125,7 +193,7 @@ public class FleaJerseyFilterChain {
      * @since 1.0.0
      */
     private void doBeforeFilter(FleaJerseyRequest request, FleaJerseyResponse response) throws Exception {
-        doFilter(beforeFilters, request, response);
+        doFilter(beforeFilters, beforeMetrics, true, request, response);
     }
 
     /**
@@ -136,7 +204,7 @@ public class FleaJerseyFilterChain {
      * @since 1.0.0
      */
     private void doServiceFilter(FleaJerseyRequest request, FleaJerseyResponse response) throws Exception {
-        doFilter(serviceFilters, request, response);
+        doFilter(serviceFilters, serviceMetrics, false, request, response);
     }
 
     /**
@@ -147,7 +215,7 @@ public class FleaJerseyFilterChain {
      * @since 1.0.0
      */
     private void doAfterFilter(FleaJerseyRequest request, FleaJerseyResponse response) throws Exception {
-        doFilter(afterFilters, request, response);
+        doFilter(afterFilters, afterMetrics, false, request, response);
     }
 
     /**
@@ -159,10 +227,22 @@ public class FleaJerseyFilterChain {
      */
     private void doErrorFilter(FleaJerseyRequest request, FleaJerseyResponse response, Throwable throwable) {
         if (CollectionUtils.isNotEmpty(errorFilters)) {
-            for (IFleaJerseyErrorFilter errorFilter : errorFilters) {
+            for (int i = 0; i < errorFilters.size(); i++) {
+                IFleaJerseyErrorFilter errorFilter = errorFilters.get(i);
                 if (ObjectUtils.isNotEmpty(errorFilter)) {
                     addStep(errorFilter.getClass().getName());
-                    errorFilter.doFilter(request, response, throwable);
+                    if (ObjectUtils.isEmpty(errorMetrics)) {
+                        errorFilter.doFilter(request, response, throwable);
+                        continue;
+                    }
+                    long start = System.nanoTime();
+                    try {
+                        errorFilter.doFilter(request, response, throwable);
+                    } catch (RuntimeException e) {
+                        errorMetrics.get(i).recordError(System.nanoTime() - start);
+                        throw e;
+                    }
+                    errorMetrics.get(i).record(System.nanoTime() - start);
                 }
             }
         }
@@ -171,22 +251,159 @@ public class FleaJerseyFilterChain {
     /**
      * 执行过滤器链
      *
-     * @param filters  过滤器集合
-     * @param request  请求对象
-     * @param response 响应对象
+     * @param filters       过滤器集合
+     * @param filterMetrics 过滤器指标集合，未开启指标统计时为 null
+     * @param reject        过滤器抛出异常时，是否计为拒绝
+     * @param request       请求对象
+     * @param response      响应对象
      * @since 1.0.0
      */
-    private void doFilter(List<IFleaJerseyFilter> filters, FleaJerseyRequest request, FleaJerseyResponse response) throws Exception {
+    private void doFilter(List<IFleaJerseyFilter> filters, List<FleaMetric> filterMetrics, boolean reject,
+                          FleaJerseyRequest request, FleaJerseyResponse response) throws Exception {
         if (CollectionUtils.isNotEmpty(filters)) {
-            for (IFleaJerseyFilter filter : filters) {
+            for (int i = 0; i < filters.size(); i++) {
+                IFleaJerseyFilter filter = filters.get(i);
                 if (ObjectUtils.isNotEmpty(filter)) {
                     addStep(filter.getClass().getName());
-                    filter.doFilter(request, response);
+                    if (ObjectUtils.isEmpty(filterMetrics)) {
+                        filter.doFilter(request, response);
+                        continue;
+                    }
+                    long start = System.nanoTime();
+                    try {
+                        filter.doFilter(request, response);
+                    } catch (Exception e) {
+                        long nanos = System.nanoTime() - start;
+                        if (reject) {
+                            filterMetrics.get(i).recordReject(nanos);
+                        } else {
+                            filterMetrics.get(i).recordError(nanos);
+                        }
+                        throw e;
+                    }
+                    filterMetrics.get(i).record(System.nanoTime() - start);
                 }
             }
         }
     }
 
+    /**
+     * 记录资源服务的耗时，前置过滤器未通过计为拒绝，
+     * 之后的过滤器抛出异常计为异常
+     *
+     * @param request   请求对象
+     * @param nanos     耗时（纳秒）
+     * @param passed    是否通过前置过滤器
+     * @param exception 过滤器抛出的异常，正常执行时为 null
+     * @since 2.0.0
+     */
+    private void recordService(FleaJerseyRequest request, long nanos, boolean passed, Exception exception) {
+        if (!passed) {
+            // 未通过前置过滤器的请求，编码不可信，统一计入未知资源服务
+            unknownServiceMetric.recordReject(nanos);
+            return;
+        }
+        FleaMetric serviceMetric = getServiceMetric(request);
+        if (ObjectUtils.isEmpty(exception)) {
+            serviceMetric.record(nanos);
+        } else {
+            serviceMetric.recordError(nanos);
+        }
+    }
+
+    /**
+     * 获取资源服务指标【jersey.service.资源编码.服务编码】。
+     * 已缓存时直接返回；未缓存时，只为已配置的资源服务创建指标，
+     * 且指标个数不超过上限，否则返回未知资源服务指标。
+     *
+     * @param request 请求对象
+     * @return 资源服务指标
+     * @since 2.0.0
+     */
+    private FleaMetric getServiceMetric(FleaJerseyRequest request) {
+        if (ObjectUtils.isEmpty(request) || ObjectUtils.isEmpty(request.getRequestData())) {
+            return unknownServiceMetric;
+        }
+        RequestPublicData publicData = request.getRequestData().getPublicData();
+        if (ObjectUtils.isEmpty(publicData) || StringUtils.isBlank(publicData.getResourceCode())
+                || StringUtils.isBlank(publicData.getServiceCode())) {
+            return unknownServiceMetric;
+        }
+        String resourceCode = publicData.getResourceCode();
+        String serviceCode = publicData.getServiceCode();
+
+        ConcurrentMap<String, FleaMetric> resourceMetricMap = serviceMetricMap.get(resourceCode);
+        if (ObjectUtils.isNotEmpty(resourceMetricMap)) {
+            FleaMetric serviceMetric = resourceMetricMap.get(serviceCode);
+            if (ObjectUtils.isNotEmpty(serviceMetric)) {
+                return serviceMetric;
+            }
+        }
+
+        // 资源编码和服务编码未对应已配置的资源服务
+        if (!FleaServiceInvokerRegistry.getRegistry().contains(resourceCode, serviceCode)) {
+            return unknownServiceMetric;
+        }
+        // 资源服务指标个数已达上限
+        if (serviceMetricCount.incrementAndGet() > maxServiceMetrics) {
+            serviceMetricCount.decrementAndGet();
+            return unknownServiceMetric;
+        }
+        if (ObjectUtils.isEmpty(resourceMetricMap)) {
+            ConcurrentMap<String, FleaMetric> newResourceMetricMap = new ConcurrentHashMap<>();
+            resourceMetricMap = serviceMetricMap.putIfAbsent(resourceCode, newResourceMetricMap);
+            if (ObjectUtils.isEmpty(resourceMetricMap)) {
+                resourceMetricMap = newResourceMetricMap;
+            }
+        }
+        FleaMetric serviceMetric = metrics.getMetric(METRIC_SERVICE_PREFIX + resourceCode + "." + serviceCode);
+        FleaMetric existing = resourceMetricMap.putIfAbsent(serviceCode, serviceMetric);
+        if (ObjectUtils.isNotEmpty(existing)) {
+            // 其他线程已创建，释放占用的个数
+            serviceMetricCount.decrementAndGet();
+            serviceMetric = existing;
+        }
+        return serviceMetric;
+    }
+
+    /**
+     * 获取资源服务指标的最大个数，未配置或配置非法时使用默认值
+     *
+     * @return 资源服务指标的最大个数
+     * @since 2.0.0
+     */
+    private static int getMaxServiceMetrics() {
+        String maxServiceMetrics = FleaConfigManager.getConfigItemValue(CommonConstants.FleaMetricsConstants.FLEA_METRICS,
+                CommonConstants.FleaMetricsConstants.CONFIG_ITEM_MAX_SERVICE_METRICS);
+        int result = CommonConstants.FleaMetricsConstants.DEFAULT_MAX_SERVICE_METRICS;
+        if (StringUtils.isNotBlank(maxServiceMetrics)) {
+            try {
+                result = Integer.parseInt(maxServiceMetrics.trim());
+            } catch (NumberFormatException e) {
+                LOGGER.warn1(new Object() {}, "配置【flea-metrics/max_service_metrics = {}】非法，使用默认值", maxServiceMetrics);
+            }
+        }
+        return result >= 0 ? result : CommonConstants.FleaMetricsConstants.DEFAULT_MAX_SERVICE_METRICS;
+    }
+
+    /**
+     * 获取过滤器对应的指标集合，与过滤器集合一一对应
+     *
+     * @param filters 过滤器集合
+     * @return 指标集合
+     * @since 2.0.0
+     */
+    private List<FleaMetric> toMetrics(List<?> filters) {
+        List<FleaMetric> filterMetrics = null;
+        if (CollectionUtils.isNotEmpty(filters)) {
+            filterMetrics = new ArrayList<>(filters.size());
+            for (Object filter : filters) {
+                filterMetrics.add(metrics.getMetric(METRIC_FILTER_PREFIX + filter.getClass().getName()));
+            }
+        }
+        return filterMetrics;
+    }
+
     /**
      * 添加过滤器执行顺序
      *
@@ -6,9 +6,6 @@ import com.huazie.fleaframework.common.slf4j.FleaLogger;
 import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
 import com.huazie.fleaframework.common.util.ExceptionUtils;
 import com.huazie.fleaframework.common.util.ObjectUtils;
-import com.huazie.fleaframework.common.util.ReflectUtils;
-import com.huazie.fleaframework.common.util.StringUtils;
-import com.huazie.fleaframework.common.util.json.GsonUtils;
 import com.huazie.fleaframework.core.base.cfgdata.bean.FleaConfigDataSpringBean;
 import com.huazie.fleaframework.core.base.cfgdata.entity.FleaJerseyResService;
 import com.huazie.fleaframework.jersey.common.data.FleaJerseyRequest;
@@ -18,6 +15,8 @@ import com.huazie.fleaframework.jersey.common.data.RequestPublicData;
 import com.huazie.fleaframework.jersey.common.data.ResponseBusinessData;
 import com.huazie.fleaframework.jersey.common.exceptions.FleaJerseyFilterException;
 import com.huazie.fleaframework.jersey.server.filter.IFleaJerseyFilter;
+import com.huazie.fleaframework.jersey.server.invoker.FleaServiceInvoker;
+import com.huazie.fleaframework.jersey.server.invoker.FleaServiceInvokerRegistry;
 import org.springframework.web.context.ContextLoader;
 import org.springframework.web.context.WebApplicationContext;
 
@@ -32,6 +31,10 @@ import org.springframework.web.context.WebApplicationContext;
  * 取请求业务报文JSON串转换为资源服务方法的入参对象，通过反射调用
  * 对应的资源服务方法，获取业务返回报文，并添加至响应业务报文中。
  *
+ * <p> 上述类解析、服务获取、方法查找和JSON类型适配器构建，
+ * 由 {@link FleaServiceInvokerRegistry} 按资源服务预编译一次，
+ * 后续请求直接复用编译好的资源服务调用者。
+ *
  * @author huazie
  * @version 2.0.0
  * @since 1.0.0
@@ -62,70 +65,53 @@ public class InvokeServiceFilter implements IFleaJerseyFilter {
         FleaConfigDataSpringBean fleaConfigDataSpringBean = webApplicationContext.getBean(FleaConfigDataSpringBean.class);
         // 根据资源编码 和 服务编码 获取 资源服务配置数据
         FleaJerseyResService resService = fleaConfigDataSpringBean.getResService(resourceCode, serviceCode);
+        if (ObjectUtils.isEmpty(resService)) {
+            // 资源服务配置数据已删除，失效之前编译的调用者
+            FleaServiceInvokerRegistry.getRegistry().invalidate(resourceCode, serviceCode);
+        }
         // 未能找到指定资源服务配置数据【service_code = {0} , resource_code = {1}】
         ObjectUtils.checkEmpty(resService, FleaJerseyFilterException.class, "ERROR-JERSEY-FILTER0000000008", serviceCode, resourceCode);
 
-        // 获取资源服务接口
-        String serviceInterfaces = resService.getServiceInterfaces();
-        // 获取资源服务方法
-        String serviceMethod = resService.getServiceMethod();
-        // 获取资源服务业务入参
-        String inputParam = resService.getServiceInput();
-        // 获取资源服务业务出参
-        String outputParam = resService.getServiceOutput();
-
-        Class<?> serviceInterfacesClazz = ReflectUtils.forName(serviceInterfaces);
-        // 请检查服务端配置【service_code = {0} , resource_code = {1}】:【{2} = {3}】非法
-        ObjectUtils.checkEmpty(serviceInterfacesClazz, FleaJerseyFilterException.class, "ERROR-JERSEY-FILTER0000000009",
-                serviceCode, resourceCode, "service_interfaces", serviceInterfaces);
-
-        // 根据服务接口，从Web应用上下文中获取Spring注入的服务
-        Object serviceObj = webApplicationContext.getBean(serviceInterfacesClazz);
-
-        LOGGER.debug1(obj, "Impl = {}", serviceObj);
+        // 获取预编译的资源服务调用者（资源服务配置变更后自动重新编译）
+        FleaServiceInvoker invoker = FleaServiceInvokerRegistry.getRegistry().getInvoker(webApplicationContext, resService);
 
-        Class inputClazz = ReflectUtils.forName(inputParam);
-        // 请检查服务端配置【service_code = {0} , resource_code = {1}】:【{2} = {3}】非法
-        ObjectUtils.checkEmpty(inputClazz, FleaJerseyFilterException.class, "ERROR-JERSEY-FILTER0000000009",
-                serviceCode, resourceCode, "service_input", inputParam);
+        boolean isDebug = LOGGER.isDebugEnabled();
+        if (isDebug) {
+            LOGGER.debug1(obj, "Impl = {}", invoker.getServiceObj());
+        }
 
         String inputJson = requestBusinessData.getInput();
-        Object inputObj = GsonUtils.toEntity(inputJson, inputClazz);
-
-        LOGGER.debug1(obj, "INPUT JSON  = {}", inputJson);
-        LOGGER.debug1(obj, "INPUT CLASS = {}", inputClazz);
-        LOGGER.debug1(obj, "INPUT OBJ   = {}", inputObj);
+        Object inputObj = invoker.toInput(inputJson);
 
-        Object outputObj = ReflectUtils.invoke(serviceObj, serviceMethod, inputObj, inputClazz);
-
-        Class outputClazz = null;
-        if (StringUtils.isNotBlank(outputParam)) {
-            outputClazz = ReflectUtils.forName(outputParam);
+        if (isDebug) {
+            LOGGER.debug1(obj, "INPUT JSON  = {}", inputJson);
+            LOGGER.debug1(obj, "INPUT CLASS = {}", invoker.getInputClazz());
+            LOGGER.debug1(obj, "INPUT OBJ   = {}", inputObj);
         }
 
-        // 请检查服务端配置【service_code = {0} , resource_code = {1}】:【{2} = {3}】非法
-        ObjectUtils.checkEmpty(outputClazz, FleaJerseyFilterException.class, "ERROR-JERSEY-FILTER0000000009",
-                serviceCode, resourceCode, "service_output", outputParam);
+        Object outputObj = invoker.invoke(inputObj);
 
-        if (ObjectUtils.isNotEmpty(outputClazz) && !outputClazz.isInstance(outputObj)) {
+        Class<?> outputClazz = invoker.getOutputClazz();
+        if (ObjectUtils.isNotEmpty(outputObj) && !outputClazz.isInstance(outputObj)) {
             // 资源【{0}】下的服务【{1}】请求异常：配置的出参【{2}】与服务方法【{3}】出参【{4}】类型不一致
             ExceptionUtils.throwCommonException(FleaJerseyFilterException.class, "ERROR-JERSEY-FILTER0000000010",
-                    resourceCode, serviceCode, outputParam, serviceMethod, outputObj.getClass().getName());
+                    resourceCode, serviceCode, resService.getServiceOutput(), resService.getServiceMethod(), outputObj.getClass().getName());
         }
 
         // 响应业务报文
         ResponseBusinessData responseBusinessData = response.getResponseData().getBusinessData();
 
-        String outputJson = null;
-        if (ObjectUtils.isNotEmpty(outputObj)) {
-            outputJson = GsonUtils.toJsonString(outputObj);
+        String outputJson = invoker.toOutput(outputObj);
+        if (ObjectUtils.isNotEmpty(outputJson)) {
             responseBusinessData.setOutput(outputJson);
         }
 
-        LOGGER.debug1(obj, "OUTPUT OBJ   = {}", outputObj);
-        LOGGER.debug1(obj, "OUTPUT CLASS = {}", outputClazz);
-        LOGGER.debug1(obj, "OUTPUT JSON  = {}", outputJson);
-        LOGGER.debug1(obj, "Invoke Service, End");
+        if (isDebug) {
+            LOGGER.debug1(obj, "OUTPUT OBJ   = {}", outputObj);
+            LOGGER.debug1(obj, "OUTPUT CLASS = {}", outputClazz);
+            LOGGER.debug1(obj, "OUTPUT JSON  = {}", outputJson);
+            LOGGER.debug1(obj, "Invoke Service, End");
+        }
     }
 
 }
@@ -0,0 +1,253 @@
+package com.huazie.fleaframework.jersey.server.invoker;
+
+import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.common.exceptions.FleaException;
+import com.huazie.fleaframework.common.util.ExceptionUtils;
+import com.huazie.fleaframework.common.util.ObjectUtils;
+import com.huazie.fleaframework.common.util.ReflectUtils;
+import com.huazie.fleaframework.common.util.StringUtils;
+import com.huazie.fleaframework.common.util.json.FleaJsonCodecFactory;
+import com.huazie.fleaframework.common.util.json.IFleaJsonCodec;
+import com.huazie.fleaframework.core.base.cfgdata.entity.FleaJerseyResService;
+import com.huazie.fleaframework.jersey.common.FleaJerseyConstants;
+import com.huazie.fleaframework.jersey.common.exceptions.FleaJerseyFilterException;
+import org.springframework.context.ApplicationContext;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+/**
+ * Flea 资源服务调用者，由一条资源服务配置数据预编译而成。
+ *
+ * <p> 编译时一次性完成资源服务接口、入参和出参类的解析，
+ * 服务 Bean 的获取，服务方法句柄的绑定，以及出入参
+ * JSON 编解码器的获取（JSON 引擎见【flea-json/codec.flea-jersey-server】配置）；
+ * 后续每次请求只需执行反序列化、方法句柄调用和序列化三个步骤。
+ *
+ * <p> 调用者是不可变的，可被多个请求线程共享。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @see FleaServiceInvokerRegistry
+ * @since 2.0.0
+ */
+public final class FleaServiceInvoker {
+
+    private static final MethodType INVOKE_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final FleaJerseyResService resService; // 编译时的资源服务配置数据
+
+    private final ApplicationContext applicationContext; // 编译时的应用上下文
+
+    private final Object serviceObj; // 资源服务实现 Bean
+
+    private final Class<?> inputClazz; // 资源服务入参类
+
+    private final Class<?> outputClazz; // 资源服务出参类
+
+    private final MethodHandle methodHandle; // 绑定服务Bean的方法句柄，类型为 (Object)Object
+
+    private final IFleaJsonCodec jsonCodec; // 出入参 JSON 编解码器
+
+    private FleaServiceInvoker(FleaJerseyResService resService, ApplicationContext applicationContext, Object serviceObj,
+                               Class<?> inputClazz, Class<?> outputClazz, MethodHandle methodHandle) {
+        this.resService = resService;
+        this.applicationContext = applicationContext;
+        this.serviceObj = serviceObj;
+        this.inputClazz = inputClazz;
+        this.outputClazz = outputClazz;
+        this.methodHandle = methodHandle;
+        this.jsonCodec = FleaJsonCodecFactory.getCodec(FleaJerseyConstants.JerseyJsonConstants.USE_SITE_JERSEY_SERVER);
+    }
+
+    /**
+     * 根据资源服务配置数据，编译资源服务调用者
+     *
+     * @param applicationContext 应用上下文，用于获取资源服务实现 Bean
+     * @param resService         资源服务配置数据
+     * @return 资源服务调用者
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    public static FleaServiceInvoker compile(ApplicationContext applicationContext, FleaJerseyResService resService) throws CommonException {
+        // 获取资源编码
+        String resourceCode = resService.getResourceCode();
+        // 获取服务编码
+        String serviceCode = resService.getServiceCode();
+        // 获取资源服务接口
+        String serviceInterfaces = resService.getServiceInterfaces();
+        // 获取资源服务方法
+        String serviceMethod = resService.getServiceMethod();
+        // 获取资源服务业务入参
+        String inputParam = resService.getServiceInput();
+        // 获取资源服务业务出参
+        String outputParam = resService.getServiceOutput();
+
+        Class<?> serviceInterfacesClazz = ReflectUtils.forName(serviceInterfaces);
+        // 请检查服务端配置【service_code = {0} , resource_code = {1}】:【{2} = {3}】非法
+        ObjectUtils.checkEmpty(serviceInterfacesClazz, FleaJerseyFilterException.class, "ERROR-JERSEY-FILTER0000000009",
+                serviceCode, resourceCode, "service_interfaces", serviceInterfaces);
+
+        // 根据服务接口，从应用上下文中获取Spring注入的服务
+        Object serviceObj = applicationContext.getBean(serviceInterfacesClazz);
+
+        Class<?> inputClazz = ReflectUtils.forName(inputParam);
+        // 请检查服务端配置【service_code = {0} , resource_code = {1}】:【{2} = {3}】非法
+        ObjectUtils.checkEmpty(inputClazz, FleaJerseyFilterException.class, "ERROR-JERSEY-FILTER0000000009",
+                serviceCode, resourceCode, "service_input", inputParam);
+
+        Class<?> outputClazz = null;
+        if (StringUtils.isNotBlank(outputParam)) {
+            outputClazz = ReflectUtils.forName(outputParam);
+        }
+        // 请检查服务端配置【service_code = {0} , resource_code = {1}】:【{2} = {3}】非法
+        ObjectUtils.checkEmpty(outputClazz, FleaJerseyFilterException.class, "ERROR-JERSEY-FILTER0000000009",
+                serviceCode, resourceCode, "service_output", outputParam);
+
+        MethodHandle methodHandle = null;
+        try {
+            Method method = findMethod(serviceInterfacesClazz, serviceObj, serviceMethod, inputClazz);
+            methodHandle = unreflect(method).bindTo(serviceObj).asType(INVOKE_TYPE);
+        } catch (Exception e) {
+            // 请检查服务端配置【service_code = {0} , resource_code = {1}】:【{2} = {3}】非法
+            ExceptionUtils.throwCommonException(FleaJerseyFilterException.class, "ERROR-JERSEY-FILTER0000000009",
+                    serviceCode, resourceCode, "service_method", serviceMethod);
+        }
+
+        return new FleaServiceInvoker(resService, applicationContext, serviceObj, inputClazz, outputClazz, methodHandle);
+    }
+
+    /**
+     * 判断当前调用者是否仍与指定的应用上下文和资源服务配置数据匹配，
+     * 资源服务配置数据发生变更（如配置缓存刷新后重新加载）或
+     * 应用上下文被替换时，返回 false，需要重新编译。
+     *
+     * @param applicationContext 当前应用上下文
+     * @param resService         当前资源服务配置数据
+     * @return true：匹配，false：不匹配
+     * @since 2.0.0
+     */
+    public boolean matches(ApplicationContext applicationContext, FleaJerseyResService resService) {
+        if (this.applicationContext != applicationContext) {
+            return false;
+        }
+        if (this.resService == resService) {
+            return true;
+        }
+        return ObjectUtils.isNotEmpty(resService)
+                && StringUtils.valueOf(this.resService.getServiceInterfaces()).equals(StringUtils.valueOf(resService.getServiceInterfaces()))
+                && StringUtils.valueOf(this.resService.getServiceMethod()).equals(StringUtils.valueOf(resService.getServiceMethod()))
+                && StringUtils.valueOf(this.resService.getServiceInput()).equals(StringUtils.valueOf(resService.getServiceInput()))
+                && StringUtils.valueOf(this.resService.getServiceOutput()).equals(StringUtils.valueOf(resService.getServiceOutput()));
+    }
+
+    /**
+     * 将业务入参 JSON 字符串转换为资源服务入参对象
+     *
+     * @param inputJson 业务入参 JSON 字符串
+     * @return 资源服务入参对象
+     * @since 2.0.0
+     */
+    public Object toInput(String inputJson) {
+        Object inputObj = null;
+        if (StringUtils.isNotBlank(inputJson)) {
+            try {
+                inputObj = jsonCodec.toEntity(inputJson, inputClazz);
+            } catch (Exception e) {
+                ExceptionUtils.throwFleaException(FleaException.class, e);
+            }
+        }
+        return inputObj;
+    }
+
+    /**
+     * 调用资源服务方法
+     *
+     * @param inputObj 资源服务入参对象
+     * @return 资源服务出参对象
+     * @since 2.0.0
+     */
+    public Object invoke(Object inputObj) {
+        Object outputObj = null;
+        try {
+            outputObj = (Object) methodHandle.invokeExact(inputObj);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            ExceptionUtils.throwException("调用资源服务方法【" + resService.getServiceMethod() + "】出错", e);
+        }
+        return outputObj;
+    }
+
+    /**
+     * 将资源服务出参对象转换为业务出参 JSON 字符串
+     *
+     * @param outputObj 资源服务出参对象
+     * @return 业务出参 JSON 字符串
+     * @since 2.0.0
+     */
+    public String toOutput(Object outputObj) {
+        String outputJson = null;
+        if (ObjectUtils.isNotEmpty(outputObj)) {
+            // 按出参的实际类型序列化，出参可以是配置出参类的子类
+            outputJson = jsonCodec.toJsonString(outputObj);
+        }
+        return outputJson;
+    }
+
+    public FleaJerseyResService getResService() {
+        return resService;
+    }
+
+    public Object getServiceObj() {
+        return serviceObj;
+    }
+
+    public Class<?> getInputClazz() {
+        return inputClazz;
+    }
+
+    public Class<?> getOutputClazz() {
+        return outputClazz;
+    }
+
+    /**
+     * 查找资源服务方法，优先从资源服务接口中查找，
+     * 找不到再从服务实现 Bean 的类中查找。
+     *
+     * @param serviceInterfacesClazz 资源服务接口类
+     * @param serviceObj             资源服务实现 Bean
+     * @param serviceMethod          资源服务方法名
+     * @param inputClazz             资源服务入参类
+     * @return 资源服务方法
+     * @throws NoSuchMethodException 找不到资源服务方法
+     * @since 2.0.0
+     */
+    private static Method findMethod(Class<?> serviceInterfacesClazz, Object serviceObj, String serviceMethod, Class<?> inputClazz) throws NoSuchMethodException {
+        try {
+            return serviceInterfacesClazz.getMethod(serviceMethod, inputClazz);
+        } catch (NoSuchMethodException e) {
+            return serviceObj.getClass().getMethod(serviceMethod, inputClazz);
+        }
+    }
+
+    /**
+     * 将反射方法转换为方法句柄，公共查找失败时，
+     * 设置可访问后再进行转换。
+     *
+     * @param method 反射方法
+     * @return 方法句柄
+     * @throws IllegalAccessException 无法访问
+     * @since 2.0.0
+     */
+    private static MethodHandle unreflect(Method method) throws IllegalAccessException {
+        try {
+            return MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            method.setAccessible(true);
+            return MethodHandles.lookup().unreflect(method);
+        }
+    }
+}
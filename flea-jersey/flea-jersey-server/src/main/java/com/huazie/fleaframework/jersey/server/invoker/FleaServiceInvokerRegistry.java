@@ -0,0 +1,120 @@
+package com.huazie.fleaframework.jersey.server.invoker;
+
+import com.huazie.fleaframework.common.CommonConstants;
+import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.ObjectUtils;
+import com.huazie.fleaframework.core.base.cfgdata.entity.FleaJerseyResService;
+import org.springframework.context.ApplicationContext;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Flea 资源服务调用者注册中心，采用单例模式，按【资源编码 + 服务编码】
+ * 缓存预编译的资源服务调用者。
+ *
+ * <p> 每次获取调用者时，都会校验缓存的调用者与当前的资源服务配置数据
+ * 和应用上下文是否匹配；配置缓存刷新后，资源服务配置数据一旦发生变更，
+ * 对应的调用者即失效，并在本次获取时重新编译。
+ *
+ * <p> 资源服务配置数据被删除（获取不到配置数据），或变更后重新编译失败时，
+ * 移除对应的调用者，避免已失效的资源服务仍被视为已配置。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @see FleaServiceInvoker
+ * @since 2.0.0
+ */
+public class FleaServiceInvokerRegistry {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaServiceInvokerRegistry.class);
+
+    private static volatile FleaServiceInvokerRegistry registry;
+
+    private final ConcurrentMap<String, FleaServiceInvoker> invokerMap = new ConcurrentHashMap<>();
+
+    private FleaServiceInvokerRegistry() {
+    }
+
+    /**
+     * 获取资源服务调用者注册中心
+     *
+     * @return 资源服务调用者注册中心
+     * @since 2.0.0
+     */
+    public static FleaServiceInvokerRegistry getRegistry() {
+        if (ObjectUtils.isEmpty(registry)) {
+            synchronized (FleaServiceInvokerRegistry.class) {
+                if (ObjectUtils.isEmpty(registry)) {
+                    registry = new FleaServiceInvokerRegistry();
+                }
+            }
+        }
+        return registry;
+    }
+
+    /**
+     * 获取资源服务调用者，缓存中不存在或已失效，则重新编译并缓存；
+     * 重新编译失败时，移除已失效的调用者
+     *
+     * @param applicationContext 应用上下文
+     * @param resService         资源服务配置数据
+     * @return 资源服务调用者
+     * @throws CommonException 通用异常
+     * @since 2.0.0
+     */
+    public FleaServiceInvoker getInvoker(ApplicationContext applicationContext, FleaJerseyResService resService) throws CommonException {
+        String key = toKey(resService.getResourceCode(), resService.getServiceCode());
+        FleaServiceInvoker invoker = invokerMap.get(key);
+        if (ObjectUtils.isEmpty(invoker) || !invoker.matches(applicationContext, resService)) {
+            try {
+                invoker = FleaServiceInvoker.compile(applicationContext, resService);
+            } catch (CommonException | RuntimeException e) {
+                invokerMap.remove(key);
+                throw e;
+            }
+            invokerMap.put(key, invoker);
+            LOGGER.debug1(new Object() {}, "Compile Invoker, Key = {}", key);
+        }
+        return invoker;
+    }
+
+    /**
+     * 是否已编译指定资源服务的调用者，即资源编码和服务编码对应已配置的资源服务
+     *
+     * @param resourceCode 资源编码
+     * @param serviceCode  服务编码
+     * @return true：已编译，false：未编译
+     * @since 2.0.0
+     */
+    public boolean contains(String resourceCode, String serviceCode) {
+        return invokerMap.containsKey(toKey(resourceCode, serviceCode));
+    }
+
+    /**
+     * 失效指定资源服务的调用者，资源服务配置数据被删除时调用
+     *
+     * @param resourceCode 资源编码
+     * @param serviceCode  服务编码
+     * @since 2.0.0
+     */
+    public void invalidate(String resourceCode, String serviceCode) {
+        invokerMap.remove(toKey(resourceCode, serviceCode));
+    }
+
+    /**
+     * 获取当前缓存的调用者数量
+     *
+     * @return 调用者数量
+     * @since 2.0.0
+     */
+    public int size() {
+        return invokerMap.size();
+    }
+
+    private static String toKey(String resourceCode, String serviceCode) {
+        return resourceCode + CommonConstants.SymbolConstants.UNDERLINE + serviceCode;
+    }
+}
@@ -0,0 +1,171 @@
+package com.huazie.fleaframework.jersey.server.logger;
+
+import com.huazie.fleaframework.common.FleaConfigManager;
+import com.huazie.fleaframework.common.config.ConfigItems;
+import com.huazie.fleaframework.common.util.StringUtils;
+import com.huazie.fleaframework.jersey.common.FleaJerseyConstants.JerseyAuditLogConstants;
+
+/**
+ * 资源服务调用日志配置，可在配置文件 <b>flea-config.xml</b> 中查看
+ * {@code <config-items key="flea-jersey-audit-log"> } 节点；
+ * 未配置或配置非法的配置项，使用默认值。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class AuditLogConfig {
+
+    private boolean async = true; // 是否异步记录
+
+    private int capacity = 8192; // 环形缓冲区容量
+
+    private int batchSize = 200; // 批量写入的最大日志条数
+
+    private long flushInterval = 1000L; // 批量写入的最大时间间隔（毫秒）
+
+    private AuditLogPolicyEnum policy = AuditLogPolicyEnum.DROP; // 背压策略
+
+    private int sampleRate = 10; // 采样率
+
+    private long blockTimeout = 100L; // 阻塞策略下的最长等待时间（毫秒）
+
+    private long shutdownTimeout = 30000L; // 关闭时的最长等待时间（毫秒）
+
+    private String dbSystem = "mysql"; // 数据库管理系统名称
+
+    private String dbName = "fleaconfig"; // 数据库名或数据库用户
+
+    /**
+     * 从配置文件 <b>flea-config.xml</b> 中加载资源服务调用日志配置
+     *
+     * @return 资源服务调用日志配置
+     * @since 2.0.0
+     */
+    public static AuditLogConfig load() {
+        AuditLogConfig config = new AuditLogConfig();
+        ConfigItems configItems = FleaConfigManager.getConfigItems(JerseyAuditLogConstants.FLEA_JERSEY_AUDIT_LOG);
+
+        String async = FleaConfigManager.getConfigItemValue(JerseyAuditLogConstants.CONFIG_ITEM_ASYNC, configItems);
+        if (StringUtils.isNotBlank(async)) {
+            config.setAsync(Boolean.parseBoolean(async.trim()));
+        }
+        config.setCapacity((int) toPositive(FleaConfigManager.getConfigItemValue(JerseyAuditLogConstants.CONFIG_ITEM_CAPACITY, configItems), config.capacity));
+        config.setBatchSize((int) toPositive(FleaConfigManager.getConfigItemValue(JerseyAuditLogConstants.CONFIG_ITEM_BATCH_SIZE, configItems), config.batchSize));
+        config.setFlushInterval(toPositive(FleaConfigManager.getConfigItemValue(JerseyAuditLogConstants.CONFIG_ITEM_FLUSH_INTERVAL, configItems), config.flushInterval));
+        config.setPolicy(AuditLogPolicyEnum.of(FleaConfigManager.getConfigItemValue(JerseyAuditLogConstants.CONFIG_ITEM_POLICY, configItems)));
+        config.setSampleRate((int) toPositive(FleaConfigManager.getConfigItemValue(JerseyAuditLogConstants.CONFIG_ITEM_SAMPLE_RATE, configItems), config.sampleRate));
+        config.setBlockTimeout(toPositive(FleaConfigManager.getConfigItemValue(JerseyAuditLogConstants.CONFIG_ITEM_BLOCK_TIMEOUT, configItems), config.blockTimeout));
+        config.setShutdownTimeout(toPositive(FleaConfigManager.getConfigItemValue(JerseyAuditLogConstants.CONFIG_ITEM_SHUTDOWN_TIMEOUT, configItems), config.shutdownTimeout));
+
+        String dbSystem = FleaConfigManager.getConfigItemValue(JerseyAuditLogConstants.CONFIG_ITEM_DB_SYSTEM, configItems);
+        if (StringUtils.isNotBlank(dbSystem)) {
+            config.setDbSystem(dbSystem.trim());
+        }
+        String dbName = FleaConfigManager.getConfigItemValue(JerseyAuditLogConstants.CONFIG_ITEM_DB_NAME, configItems);
+        if (StringUtils.isNotBlank(dbName)) {
+            config.setDbName(dbName.trim());
+        }
+        return config;
+    }
+
+    /**
+     * 将配置值转换为正数，未配置或配置非法时返回默认值
+     *
+     * @param value        配置值
+     * @param defaultValue 默认值
+     * @return 正数
+     * @since 2.0.0
+     */
+    private static long toPositive(String value, long defaultValue) {
+        long result = defaultValue;
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                result = Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                result = defaultValue;
+            }
+        }
+        return result > 0 && result <= Integer.MAX_VALUE ? result : defaultValue;
+    }
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    public void setAsync(boolean async) {
+        this.async = async;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(long flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public AuditLogPolicyEnum getPolicy() {
+        return policy;
+    }
+
+    public void setPolicy(AuditLogPolicyEnum policy) {
+        this.policy = policy;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public long getBlockTimeout() {
+        return blockTimeout;
+    }
+
+    public void setBlockTimeout(long blockTimeout) {
+        this.blockTimeout = blockTimeout;
+    }
+
+    public long getShutdownTimeout() {
+        return shutdownTimeout;
+    }
+
+    public void setShutdownTimeout(long shutdownTimeout) {
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    public String getDbSystem() {
+        return dbSystem;
+    }
+
+    public void setDbSystem(String dbSystem) {
+        this.dbSystem = dbSystem;
+    }
+
+    public String getDbName() {
+        return dbName;
+    }
+
+    public void setDbName(String dbName) {
+        this.dbName = dbName;
+    }
+}
@@ -0,0 +1,53 @@
+package com.huazie.fleaframework.jersey.server.logger;
+
+import com.huazie.fleaframework.common.util.StringUtils;
+
+/**
+ * 资源服务调用日志背压策略枚举，决定环形缓冲区满载（或接近满载）时，
+ * 请求线程如何处理新的调用日志。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public enum AuditLogPolicyEnum {
+
+    DROP("drop", "缓冲区满载时，直接丢弃新的调用日志"),
+    SAMPLE("sample", "缓冲区过半后，按采样率保留成功的调用日志，异常调用日志始终保留；满载时丢弃"),
+    BLOCK("block", "缓冲区满载时，请求线程阻塞等待，超过最长等待时间则丢弃");
+
+    private String policy; // 背压策略
+
+    private String desc; // 背压策略描述
+
+    AuditLogPolicyEnum(String policy, String desc) {
+        this.policy = policy;
+        this.desc = desc;
+    }
+
+    public String getPolicy() {
+        return policy;
+    }
+
+    public String getDesc() {
+        return desc;
+    }
+
+    /**
+     * 根据背压策略获取对应的枚举，未匹配到时，默认为 {@code DROP}
+     *
+     * @param policy 背压策略
+     * @return 背压策略枚举
+     * @since 2.0.0
+     */
+    public static AuditLogPolicyEnum of(String policy) {
+        if (StringUtils.isNotBlank(policy)) {
+            for (AuditLogPolicyEnum policyEnum : values()) {
+                if (policyEnum.policy.equalsIgnoreCase(policy.trim())) {
+                    return policyEnum;
+                }
+            }
+        }
+        return DROP;
+    }
+}
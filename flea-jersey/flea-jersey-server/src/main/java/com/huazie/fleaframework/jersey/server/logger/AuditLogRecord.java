@@ -0,0 +1,123 @@
+package com.huazie.fleaframework.jersey.server.logger;
+
+import com.huazie.fleaframework.common.util.ObjectUtils;
+import com.huazie.fleaframework.common.util.xml.JABXUtils;
+import com.huazie.fleaframework.core.common.pojo.FleaJerseyResServiceLogPOJO;
+import com.huazie.fleaframework.jersey.common.FleaJerseyConstants;
+import com.huazie.fleaframework.jersey.common.data.FleaJerseyRequest;
+import com.huazie.fleaframework.jersey.common.data.FleaJerseyResponse;
+import com.huazie.fleaframework.jersey.common.data.FleaJerseyResponseData;
+import com.huazie.fleaframework.jersey.common.data.RequestPublicData;
+import com.huazie.fleaframework.jersey.common.data.ResponsePublicData;
+
+import java.util.Date;
+
+/**
+ * 资源服务调用日志记录，由请求线程创建并投递到环形缓冲区。
+ *
+ * <p> 创建时仅记录请求和响应报文的引用，以及公共报文中的少量字段；
+ * 请求和响应报文的 XML 序列化延迟到日志写入线程中执行，
+ * 请求线程无需承担 JAXB 序列化的开销。
+ *
+ * <p> 因此在日志过滤器之后执行的过滤器，不应再修改请求和响应报文。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class AuditLogRecord {
+
+    private final FleaJerseyRequest request; // 请求报文
+
+    private final FleaJerseyResponse response; // 响应报文
+
+    private final String resourceCode; // 资源编码
+
+    private final String serviceCode; // 服务编码
+
+    private final String resultCode; // 操作结果码
+
+    private final String resultMess; // 操作结果信息
+
+    private final String accountId; // 操作账户编号
+
+    private final String systemAccountId; // 系统账户编号
+
+    private final Date createDate; // 调用时间
+
+    public AuditLogRecord(FleaJerseyRequest request, FleaJerseyResponse response) {
+        this.request = request;
+        this.response = response;
+        this.createDate = new Date();
+
+        // 请求公共报文
+        RequestPublicData requestPublicData = request.getRequestData().getPublicData();
+        this.resourceCode = requestPublicData.getResourceCode();
+        this.serviceCode = requestPublicData.getServiceCode();
+        this.accountId = requestPublicData.getAccountId();
+        this.systemAccountId = requestPublicData.getSystemAccountId();
+
+        // 响应公共报文
+        ResponsePublicData responsePublicData = null;
+        FleaJerseyResponseData responseData = response.getResponseData();
+        if (ObjectUtils.isNotEmpty(responseData)) {
+            responsePublicData = responseData.getPublicData();
+        }
+        if (ObjectUtils.isNotEmpty(responsePublicData)) {
+            this.resultCode = responsePublicData.getResultCode();
+            this.resultMess = responsePublicData.getResultMess();
+        } else {
+            this.resultCode = null;
+            this.resultMess = null;
+        }
+    }
+
+    /**
+     * 是否为成功的调用日志
+     *
+     * @return true：成功，false：异常
+     * @since 2.0.0
+     */
+    public boolean isSuccess() {
+        return FleaJerseyConstants.ResponseResultConstants.RESULT_CODE_SUCCESS.equals(resultCode);
+    }
+
+    /**
+     * 转换为资源服务调用日志POJO，请求和响应报文在此时序列化为 XML
+     *
+     * @return 资源服务调用日志POJO
+     * @since 2.0.0
+     */
+    public FleaJerseyResServiceLogPOJO toResServiceLogPOJO() {
+        FleaJerseyResServiceLogPOJO resServiceLogPOJO = new FleaJerseyResServiceLogPOJO();
+        // 资源编码
+        resServiceLogPOJO.setResourceCode(resourceCode);
+        // 服务编码
+        resServiceLogPOJO.setServiceCode(serviceCode);
+        // 请求入参
+        resServiceLogPOJO.setInput(JABXUtils.toXml(request, false));
+        // 响应出参
+        resServiceLogPOJO.setOutput(JABXUtils.toXml(response, false));
+        // 操作结果码
+        resServiceLogPOJO.setResultCode(resultCode);
+        // 操作结果信息
+        resServiceLogPOJO.setResultMess(resultMess);
+        // 操作账户编号
+        resServiceLogPOJO.setAccountId(Long.valueOf(accountId));
+        // 系统账户编号
+        resServiceLogPOJO.setSystemAccountId(Long.valueOf(systemAccountId));
+        return resServiceLogPOJO;
+    }
+
+    public String getResourceCode() {
+        return resourceCode;
+    }
+
+    public String getServiceCode() {
+        return serviceCode;
+    }
+
+    public Date getCreateDate() {
+        return createDate;
+    }
+}
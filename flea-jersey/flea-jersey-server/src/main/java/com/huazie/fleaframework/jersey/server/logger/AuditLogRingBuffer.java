@@ -0,0 +1,157 @@
+package com.huazie.fleaframework.jersey.server.logger;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 有界无锁环形缓冲区，支持多生产者、多消费者并发访问。
+ *
+ * <p> 每个槽位维护一个序号，生产者和消费者分别通过 CAS 推进
+ * 写入位置和读取位置，再根据槽位序号判断槽位是否可写或可读，
+ * 全程不加锁；缓冲区满时 {@code offer} 立即返回 false，
+ * 缓冲区空时 {@code poll} 立即返回 null。
+ *
+ * <p> 容量会向上取整为 2 的幂，以便使用位运算定位槽位。
+ *
+ * @param <E> 元素类型
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class AuditLogRingBuffer<E> {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final int capacity; // 缓冲区容量
+
+    private final int mask; // 槽位掩码
+
+    private final AtomicReferenceArray<E> elements; // 槽位元素
+
+    private final AtomicLongArray sequences; // 槽位序号
+
+    private final AtomicLong tail = new AtomicLong(); // 下一个写入位置
+
+    private final AtomicLong head = new AtomicLong(); // 下一个读取位置
+
+    public AuditLogRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        int size = 1;
+        while (size < capacity && size < MAX_CAPACITY) {
+            size <<= 1;
+        }
+        this.capacity = size;
+        this.mask = this.capacity - 1;
+        this.elements = new AtomicReferenceArray<>(this.capacity);
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 写入一个元素，缓冲区已满时立即返回
+     *
+     * @param element 待写入的元素
+     * @return true：写入成功，false：缓冲区已满
+     * @since 2.0.0
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException();
+        }
+        long position = tail.get();
+        for (; ; ) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, element);
+                    // 槽位序号更新在元素写入之后，消费者看到新序号即可看到元素
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 读取并移除一个元素，缓冲区为空时立即返回 null
+     *
+     * @return 元素，缓冲区为空时返回 null
+     * @since 2.0.0
+     */
+    public E poll() {
+        long position = head.get();
+        for (; ; ) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    E element = elements.get(index);
+                    elements.lazySet(index, null);
+                    // 槽位释放，供下一轮生产者写入
+                    sequences.lazySet(index, position + capacity);
+                    return element;
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    /**
+     * 批量读取并移除元素，添加到指定集合中
+     *
+     * @param collection  存放元素的集合
+     * @param maxElements 最多读取的元素个数
+     * @return 实际读取的元素个数
+     * @since 2.0.0
+     */
+    public int drainTo(Collection<? super E> collection, int maxElements) {
+        int count = 0;
+        while (count < maxElements) {
+            E element = poll();
+            if (element == null) {
+                break;
+            }
+            collection.add(element);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * 获取缓冲区当前的元素个数（并发场景下为近似值）
+     *
+     * @return 元素个数
+     * @since 2.0.0
+     */
+    public int size() {
+        long size = tail.get() - head.get();
+        if (size < 0) {
+            return 0;
+        }
+        return size > capacity ? capacity : (int) size;
+    }
+
+    public boolean isEmpty() {
+        return tail.get() == head.get();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,322 @@
+package com.huazie.fleaframework.jersey.server.logger;
+
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.ObjectUtils;
+import com.huazie.fleaframework.jersey.server.logger.impl.JDBCAuditLogWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Flea 资源服务调用日志记录器，负责异步批量记录资源服务调用日志。
+ *
+ * <p> 请求线程只需将调用日志记录投递到有界无锁环形缓冲区中，
+ * 由后台的日志写入线程批量取出，完成请求和响应报文的序列化后，
+ * 通过 {@link IAuditLogWriter} 批量写入；当缓冲区中的日志达到批量大小，
+ * 或最早的日志等待超过批量写入时间间隔时，触发一次写入。
+ *
+ * <p> 缓冲区满载时，根据配置的背压策略 {@link AuditLogPolicyEnum}
+ * 决定丢弃、采样还是阻塞等待。
+ *
+ * <p> 关闭时（包括 JVM 关闭钩子），不再接收新的调用日志，日志写入线程会在写完缓冲区中
+ * 剩余的调用日志后退出；关闭前已开始投递的调用日志，等待其投递结束后由关闭线程写入，
+ * 不会在最后一次写入之后才放入缓冲区而丢失。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @see AuditLogConfig
+ * @since 2.0.0
+ */
+public class FleaAuditLogger {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaAuditLogger.class);
+
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private static volatile FleaAuditLogger auditLogger;
+
+    private final AuditLogConfig config; // 调用日志配置
+
+    private final IAuditLogWriter writer; // 调用日志写入实现
+
+    private final AuditLogRingBuffer<AuditLogRecord> buffer; // 调用日志环形缓冲区
+
+    private final Thread writerThread; // 调用日志写入线程
+
+    private final long flushIntervalNanos; // 批量写入的最大时间间隔（纳秒）
+
+    private final long blockTimeoutNanos; // 阻塞策略下的最长等待时间（纳秒）
+
+    private final int sampleThreshold; // 采样策略的启用阈值，缓冲区过半后开始采样
+
+    private volatile boolean running; // 是否运行中
+
+    private final AtomicInteger publishingCount = new AtomicInteger(); // 正在投递中的线程数
+
+    private final AtomicLong sampleCounter = new AtomicLong(); // 采样计数器
+
+    private final AtomicLong publishedCount = new AtomicLong(); // 已投递的日志条数
+
+    private final AtomicLong droppedCount = new AtomicLong(); // 已丢弃的日志条数
+
+    private final AtomicLong writtenCount = new AtomicLong(); // 已写入的日志条数
+
+    private final AtomicLong failedCount = new AtomicLong(); // 写入失败或校验不通过的日志条数
+
+    public FleaAuditLogger(AuditLogConfig config, IAuditLogWriter writer) {
+        this.config = config;
+        this.writer = writer;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(config.getFlushInterval());
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(config.getBlockTimeout());
+        if (config.isAsync()) {
+            this.buffer = new AuditLogRingBuffer<>(config.getCapacity());
+            this.sampleThreshold = buffer.capacity() / 2;
+            this.writerThread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    runWriter();
+                }
+            }, "flea-jersey-audit-log-writer");
+            this.writerThread.setDaemon(true);
+            this.running = true;
+            this.writerThread.start();
+        } else {
+            this.buffer = null;
+            this.sampleThreshold = 0;
+            this.writerThread = null;
+        }
+    }
+
+    /**
+     * 获取资源服务调用日志记录器，首次获取时根据 <b>flea-config.xml</b>
+     * 中的配置初始化，异步模式下同时注册 JVM 关闭钩子。
+     *
+     * @return 资源服务调用日志记录器
+     * @since 2.0.0
+     */
+    public static FleaAuditLogger getAuditLogger() {
+        if (ObjectUtils.isEmpty(auditLogger)) {
+            synchronized (FleaAuditLogger.class) {
+                if (ObjectUtils.isEmpty(auditLogger)) {
+                    AuditLogConfig config = AuditLogConfig.load();
+                    final FleaAuditLogger logger = new FleaAuditLogger(config, new JDBCAuditLogWriter(config.getDbSystem(), config.getDbName()));
+                    if (logger.isAsync()) {
+                        Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+                            @Override
+                            public void run() {
+                                logger.shutdown();
+                            }
+                        }, "flea-jersey-audit-log-shutdown"));
+                    }
+                    auditLogger = logger;
+                }
+            }
+        }
+        return auditLogger;
+    }
+
+    /**
+     * 是否异步记录资源服务调用日志
+     *
+     * @return true：异步，false：同步
+     * @since 2.0.0
+     */
+    public boolean isAsync() {
+        return ObjectUtils.isNotEmpty(buffer);
+    }
+
+    /**
+     * 投递一条资源服务调用日志，根据背压策略决定是否接收
+     *
+     * @param record 资源服务调用日志记录
+     * @return true：已接收，false：已丢弃
+     * @since 2.0.0
+     */
+    public boolean publish(AuditLogRecord record) {
+        boolean accepted = false;
+        // 先登记投递再检查运行状态，关闭线程清除运行状态后，会等待已登记的投递结束
+        publishingCount.incrementAndGet();
+        try {
+            if (running) {
+                switch (config.getPolicy()) {
+                    case SAMPLE:
+                        accepted = sample(record) && buffer.offer(record);
+                        break;
+                    case BLOCK:
+                        accepted = offerWithBlock(record);
+                        break;
+                    default:
+                        accepted = buffer.offer(record);
+                        break;
+                }
+            }
+        } finally {
+            publishingCount.decrementAndGet();
+        }
+
+        if (accepted) {
+            publishedCount.incrementAndGet();
+            // 已攒够一批，唤醒日志写入线程
+            if (buffer.size() >= config.getBatchSize()) {
+                LockSupport.unpark(writerThread);
+            }
+        } else {
+            droppedCount.incrementAndGet();
+        }
+        return accepted;
+    }
+
+    /**
+     * 使用配置的关闭等待时间，关闭资源服务调用日志记录器
+     *
+     * @return true：剩余的调用日志已全部处理，false：等待超时
+     * @since 2.0.0
+     */
+    public boolean shutdown() {
+        return shutdown(config.getShutdownTimeout(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 关闭资源服务调用日志记录器，不再接收新的调用日志，
+     * 并等待日志写入线程写完缓冲区中剩余的调用日志。
+     *
+     * @param timeout 最长等待时间
+     * @param unit    时间单位
+     * @return true：剩余的调用日志已全部处理，false：等待超时
+     * @since 2.0.0
+     */
+    public boolean shutdown(long timeout, TimeUnit unit) {
+        if (!isAsync()) {
+            return true;
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(unit.toMillis(timeout));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 等待清除运行状态前已开始的投递结束，之后不会再有调用日志放入缓冲区
+        while (publishingCount.get() > 0 && System.nanoTime() - deadline < 0) {
+            Thread.yield();
+        }
+        if (writerThread.isAlive() || publishingCount.get() > 0) {
+            LOGGER.warn1(new Object() {}, "资源服务调用日志关闭超时，剩余未写入的日志条数：{}", buffer.size());
+            return false;
+        }
+        // 日志写入线程退出前后，仍在投递中的调用日志，由当前线程写入
+        List<AuditLogRecord> batch = new ArrayList<>(config.getBatchSize());
+        while (buffer.drainTo(batch, config.getBatchSize()) > 0) {
+            writeBatch(batch);
+        }
+        LOGGER.debug1(new Object() {}, "资源服务调用日志已关闭，投递：{}，丢弃：{}，写入：{}，失败：{}",
+                publishedCount.get(), droppedCount.get(), writtenCount.get(), failedCount.get());
+        return true;
+    }
+
+    /**
+     * 采样策略：缓冲区未过半时全部接收；过半后，异常调用日志全部接收，
+     * 成功调用日志按采样率接收
+     */
+    private boolean sample(AuditLogRecord record) {
+        return buffer.size() < sampleThreshold || !record.isSuccess()
+                || sampleCounter.incrementAndGet() % config.getSampleRate() == 0;
+    }
+
+    /**
+     * 阻塞策略：缓冲区满载时，唤醒日志写入线程并短暂等待，
+     * 超过最长等待时间或已关闭时放弃投递
+     */
+    private boolean offerWithBlock(AuditLogRecord record) {
+        if (buffer.offer(record)) {
+            return true;
+        }
+        long deadline = System.nanoTime() + blockTimeoutNanos;
+        do {
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+            if (buffer.offer(record)) {
+                return true;
+            }
+        } while (running && System.nanoTime() - deadline < 0);
+        return false;
+    }
+
+    /**
+     * 日志写入线程主循环
+     */
+    private void runWriter() {
+        int batchSize = config.getBatchSize();
+        List<AuditLogRecord> batch = new ArrayList<>(batchSize);
+        long nextFlush = System.nanoTime() + flushIntervalNanos;
+        for (; ; ) {
+            boolean stopping = !running;
+            boolean wasEmpty = batch.isEmpty();
+            buffer.drainTo(batch, batchSize - batch.size());
+            long now = System.nanoTime();
+            if (wasEmpty && !batch.isEmpty()) {
+                // 以本批次第一条日志的取出时间，计算最晚写入时间
+                nextFlush = now + flushIntervalNanos;
+            }
+
+            if (!batch.isEmpty() && (batch.size() >= batchSize || stopping || now - nextFlush >= 0)) {
+                writeBatch(batch);
+                continue;
+            }
+
+            if (stopping) {
+                if (buffer.isEmpty()) {
+                    break;
+                }
+                // 有生产者已占位但尚未完成写入，稍后重试
+                Thread.yield();
+                continue;
+            }
+
+            LockSupport.parkNanos(this, batch.isEmpty() ? flushIntervalNanos : nextFlush - now);
+        }
+    }
+
+    /**
+     * 写入一批调用日志，并清空该批次
+     */
+    private void writeBatch(List<AuditLogRecord> batch) {
+        int size = batch.size();
+        try {
+            int written = writer.write(batch);
+            writtenCount.addAndGet(written);
+            failedCount.addAndGet(size - written);
+        } catch (Exception e) {
+            failedCount.addAndGet(size);
+            LOGGER.error1(new Object() {}, "批量写入资源服务调用日志出错，日志条数：{}\n", size, e);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    public long getPublishedCount() {
+        return publishedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public int getPendingCount() {
+        return isAsync() ? buffer.size() : 0;
+    }
+}
@@ -0,0 +1,24 @@
+package com.huazie.fleaframework.jersey.server.logger;
+
+import java.util.List;
+
+/**
+ * 资源服务调用日志写入接口，由日志写入线程调用，一次写入一批调用日志。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public interface IAuditLogWriter {
+
+    /**
+     * 批量写入资源服务调用日志
+     *
+     * @param records 资源服务调用日志记录集合
+     * @return 实际写入的日志条数
+     * @throws Exception 写入异常
+     * @since 2.0.0
+     */
+    int write(List<AuditLogRecord> records) throws Exception;
+
+}
@@ -0,0 +1,102 @@
+package com.huazie.fleaframework.jersey.server.logger.impl;
+
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.NumberUtils;
+import com.huazie.fleaframework.common.util.StringUtils;
+import com.huazie.fleaframework.core.common.pojo.FleaJerseyResServiceLogPOJO;
+import com.huazie.fleaframework.db.jdbc.FleaJDBCHelper;
+import com.huazie.fleaframework.db.jdbc.config.FleaJDBCConfig;
+import com.huazie.fleaframework.jersey.server.logger.AuditLogRecord;
+import com.huazie.fleaframework.jersey.server.logger.IAuditLogWriter;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 基于 JDBC 批处理的资源服务调用日志写入实现。
+ *
+ * <p> 在日志写入线程中完成请求和响应报文的序列化，
+ * 校验不通过的调用日志直接跳过，其余调用日志使用同一个预编译语句，
+ * 通过 JDBC 批处理一次性写入 {@code flea_jersey_res_service_log} 表。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class JDBCAuditLogWriter implements IAuditLogWriter {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(JDBCAuditLogWriter.class);
+
+    private static final String INSERT_SQL = "INSERT INTO flea_jersey_res_service_log (resource_code, service_code, input, output, " +
+            "result_code, result_mess, account_id, system_account_id, create_date, remarks) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final String dbSystem; // 数据库管理系统名称
+
+    private final String dbName; // 数据库名或数据库用户
+
+    public JDBCAuditLogWriter(String dbSystem, String dbName) {
+        this.dbSystem = dbSystem;
+        this.dbName = dbName;
+    }
+
+    @Override
+    public int write(List<AuditLogRecord> records) throws Exception {
+        List<Object[]> paramsList = new ArrayList<>(records.size());
+        for (AuditLogRecord record : records) {
+            Object[] params = toParams(record);
+            if (params != null) {
+                paramsList.add(params);
+            }
+        }
+
+        if (paramsList.isEmpty()) {
+            return 0;
+        }
+
+        // 日志写入线程中初始化数据库配置
+        FleaJDBCConfig.init(dbSystem, dbName);
+        FleaJDBCHelper.batch(INSERT_SQL, paramsList);
+        return paramsList.size();
+    }
+
+    /**
+     * 将调用日志记录转换为插入参数，校验与同步写入时保持一致，
+     * 转换或校验失败时返回 null。
+     *
+     * @param record 调用日志记录
+     * @return 插入参数
+     * @since 2.0.0
+     */
+    private Object[] toParams(AuditLogRecord record) {
+        FleaJerseyResServiceLogPOJO resServiceLogPOJO;
+        try {
+            resServiceLogPOJO = record.toResServiceLogPOJO();
+        } catch (Exception e) {
+            LOGGER.error1(new Object() {}, "资源服务调用日志【resource_code = {}, service_code = {}】转换出错：\n",
+                    record.getResourceCode(), record.getServiceCode(), e);
+            return null;
+        }
+
+        if (StringUtils.isBlank(resServiceLogPOJO.getResourceCode()) || StringUtils.isBlank(resServiceLogPOJO.getServiceCode())
+                || !NumberUtils.isPositiveNumber(resServiceLogPOJO.getAccountId())
+                || !NumberUtils.isPositiveNumber(resServiceLogPOJO.getSystemAccountId())) {
+            LOGGER.error1(new Object() {}, "资源服务调用日志校验不通过，已跳过：{}", resServiceLogPOJO);
+            return null;
+        }
+
+        return new Object[]{
+                resServiceLogPOJO.getResourceCode(),
+                resServiceLogPOJO.getServiceCode(),
+                resServiceLogPOJO.getInput(),
+                resServiceLogPOJO.getOutput(),
+                resServiceLogPOJO.getResultCode(),
+                resServiceLogPOJO.getResultMess(),
+                resServiceLogPOJO.getAccountId(),
+                resServiceLogPOJO.getSystemAccountId(),
+                new Timestamp(record.getCreateDate().getTime()),
+                resServiceLogPOJO.getRemarks()
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package com.huazie.fleaframework.jersey.server.resource;
+
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+/**
+ * Jersey 流式文件下载资源接口，只包含流式文件下载资源API。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public interface JerseyStreamDownloadResource {
+
+    /**
+     * 流式文件下载资源API，响应体即为文件内容，支持断点续传。
+     *
+     * @param requestData 请求数据字符串
+     * @param range       Range 请求头
+     * @return Jersey 响应对象
+     * @since 2.0.0
+     */
+    @Produces({MediaType.APPLICATION_OCTET_STREAM, MediaType.APPLICATION_XML})
+    Response doStreamDownloadResource(String requestData, String range);
+
+}
@@ -0,0 +1,36 @@
+package com.huazie.fleaframework.jersey.server.resource;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import java.io.InputStream;
+
+/**
+ * Jersey 流式文件上传资源接口，只包含流式文件上传资源API。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public interface JerseyStreamUploadResource {
+
+    /**
+     * 流式文件上传资源API，请求体即为文件内容，不做缓存或落地，
+     * 直接以输入流的形式交给资源服务处理；响应实体为 Flea Jersey 响应对象，
+     * 响应头 {@code Flea-File-Checksum} 为服务端计算的文件摘要。
+     *
+     * @param requestData   请求数据字符串
+     * @param fileName      文件名（UTF-8 URL编码）
+     * @param checksum      文件摘要
+     * @param contentLength 内容长度，分块传输时为空
+     * @param inputStream   请求体输入流
+     * @return Jersey响应对象
+     * @since 2.0.0
+     */
+    @Consumes(MediaType.APPLICATION_OCTET_STREAM)
+    @Produces({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+    Response doStreamUploadResource(String requestData, String fileName, String checksum,
+                                    String contentLength, InputStream inputStream);
+
+}
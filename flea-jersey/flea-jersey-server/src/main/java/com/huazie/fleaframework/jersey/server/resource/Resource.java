@@ -1,16 +1,25 @@
 package com.huazie.fleaframework.jersey.server.resource;
 
 import com.huazie.fleaframework.common.exceptions.CommonException;
+import com.huazie.fleaframework.common.i18n.FleaI18nHelper;
+import com.huazie.fleaframework.common.i18n.FleaI18nResEnum;
 import com.huazie.fleaframework.common.slf4j.FleaLogger;
 import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
 import com.huazie.fleaframework.common.util.ObjectUtils;
+import com.huazie.fleaframework.common.util.StringUtils;
 import com.huazie.fleaframework.common.util.xml.JABXUtils;
+import com.huazie.fleaframework.jersey.common.FleaJerseyConfig;
 import com.huazie.fleaframework.jersey.common.FleaJerseyConstants;
 import com.huazie.fleaframework.jersey.common.FleaJerseyManager;
 import com.huazie.fleaframework.jersey.common.data.FleaJerseyContext;
 import com.huazie.fleaframework.jersey.common.data.FleaJerseyFileContext;
 import com.huazie.fleaframework.jersey.common.data.FleaJerseyRequest;
 import com.huazie.fleaframework.jersey.common.data.FleaJerseyResponse;
+import com.huazie.fleaframework.jersey.common.data.FleaJerseyResponseData;
+import com.huazie.fleaframework.jersey.common.data.ResponsePublicData;
+import com.huazie.fleaframework.jersey.common.stream.ByteRange;
+import com.huazie.fleaframework.jersey.common.stream.FileStreamingOutput;
+import com.huazie.fleaframework.jersey.common.stream.FleaChecksumInputStream;
 import com.huazie.fleaframework.jersey.server.filter.FleaJerseyFilterChainManager;
 import org.glassfish.jersey.media.multipart.FormDataBodyPart;
 import org.glassfish.jersey.media.multipart.FormDataMultiPart;
@@ -21,21 +30,37 @@ import javax.servlet.http.HttpServletResponse;
 import javax.ws.rs.container.ResourceInfo;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Flea Jersey 接口资源父类，包含普通资源的公共处理逻辑，
- * 上传资源的公共处理逻辑，下载资源的公共处理逻辑。
+ * 上传资源的公共处理逻辑，下载资源的公共处理逻辑，
+ * 以及流式上传和流式下载资源的公共处理逻辑。
  *
  * @author huazie
- * @version 1.0.0
+ * @version 2.0.0
  * @since 1.0.0
  */
 public abstract class Resource {
 
     private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(Resource.class);
 
+    private static final String HEADER_CONTENT_RANGE = "Content-Range";
+
+    private static final String HEADER_ACCEPT_RANGES = "Accept-Ranges";
+
+    private static final int MAX_RESULT_MESS_LENGTH = 256; // 流式文件下载响应头中返回信息的最大字符数
+
     @Context
     protected Request request; // 请求信息的上下文
 
@@ -136,6 +161,117 @@ public abstract class Resource {
         return formDataMultiPart;
     }
 
+    /**
+     * 处理流式文件上传资源数据，请求体作为文件输入流放入文件上下文，
+     * 资源服务通过 {@code FleaJerseyManager.getFileInputStream()} 边读边处理；
+     * 读取过程中限制上传大小，并在读取完毕时校验文件摘要。
+     *
+     * <p> 资源服务处理成功后，读完其未读取的剩余内容，确保大小限制和摘要校验
+     * 覆盖完整的请求体；校验不通过或读取失败时，返回码为
+     * {@link FleaJerseyConstants.ResponseResultConstants#RESULT_CODE_UPLOAD_FAILED}。
+     * 实际的文件摘要通过响应头 {@code Flea-File-Checksum} 返回，供客户端校验。
+     *
+     * @param requestData   请求数据字符串
+     * @param fileName      文件名（UTF-8 URL编码）
+     * @param checksum      文件摘要，为空则不校验
+     * @param contentLength 请求头中的内容长度，分块传输时为空
+     * @param inputStream   请求体输入流
+     * @return Jersey响应对象
+     * @since 2.0.0
+     */
+    protected Response doCommonStreamUploadResource(String requestData, String fileName, String checksum,
+                                                    String contentLength, InputStream inputStream) {
+        FleaJerseyFileContext fileContext = FleaJerseyManager.getManager().resetFileContext();
+        fileContext.setFileName(urlDecode(fileName));
+        FleaChecksumInputStream checksumInputStream = new FleaChecksumInputStream(inputStream, FleaJerseyConfig.getMaxUploadSize(),
+                toContentLength(contentLength), checksum);
+        fileContext.setInputStream(checksumInputStream);
+        FleaJerseyResponse fleaJerseyResponse;
+        try {
+            fleaJerseyResponse = doResource(requestData);
+            if (isSuccess(fleaJerseyResponse)) {
+                // 读完资源服务未读取的剩余内容，完成大小限制和摘要校验
+                checksumInputStream.verify();
+            }
+        } catch (CommonException | IOException e) {
+            LOGGER.error1(new Object() {}, "Stream Upload, File = {}, Exception = {}", fileContext.getFileName(), e.getMessage());
+            fleaJerseyResponse = newErrorResponse(FleaJerseyConstants.ResponseResultConstants.RESULT_CODE_UPLOAD_FAILED, e.getMessage());
+        } finally {
+            // 请求体输入流由容器负责关闭，此处仅解除引用
+            fileContext.setInputStream(null);
+        }
+
+        Response.ResponseBuilder builder = Response.ok(fleaJerseyResponse);
+        if (checksumInputStream.isFinished()) {
+            builder.header(FleaJerseyConstants.FileResourceConstants.HEADER_FILE_CHECKSUM, checksumInputStream.getChecksum());
+        }
+        return builder.build();
+    }
+
+    /**
+     * 处理流式文件下载资源数据。资源服务仍通过
+     * {@code FleaJerseyManager.addFileDataBodyPart(File)} 指定待下载的文件，
+     * 文件内容以 {@link FileStreamingOutput} 直接输出；支持 {@code Range} 请求头，用于断点续传。
+     *
+     * <p> 输出文件时，响应头中只包含响应公共报文的返回码和返回信息，
+     * 返回信息超过 {@value #MAX_RESULT_MESS_LENGTH} 个字符时截断，
+     * 避免响应头超过容器的长度限制；业务出参不返回。
+     *
+     * <p> 资源服务未指定文件（如调用出错）时，直接返回 XML 格式的响应报文；
+     * 请求的字节范围无法满足时，返回 416 状态码和 XML 格式的错误响应报文。
+     *
+     * @param requestData 请求数据字符串
+     * @param range       Range 请求头
+     * @return Jersey响应对象
+     * @since 2.0.0
+     */
+    protected Response doCommonStreamDownloadResource(String requestData, String range) {
+        FleaJerseyManager.getManager().resetFileContext();
+
+        FleaJerseyResponse fleaJerseyResponse = doResource(requestData);
+
+        File file = FleaJerseyManager.getManager().getDownloadFile();
+        if (ObjectUtils.isEmpty(file) || !file.isFile()) {
+            return Response.ok(fleaJerseyResponse, MediaType.APPLICATION_XML_TYPE).build();
+        }
+
+        long fileLength = file.length();
+        Response.ResponseBuilder builder;
+        long contentLength;
+        // 格式非法或不支持的 Range 请求头被忽略，返回完整文件
+        ByteRange byteRange = StringUtils.isNotBlank(range) ? ByteRange.parse(range, fileLength) : null;
+        if (ObjectUtils.isNotEmpty(byteRange) && !byteRange.isSatisfiable()) {
+            String contentRange = byteRange.toContentRange();
+            return Response.status(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HEADER_CONTENT_RANGE, contentRange)
+                    .entity(newErrorResponse(FleaJerseyConstants.ResponseResultConstants.RESULT_CODE_RANGE_NOT_SATISFIABLE,
+                            // 请求的字节范围【{0}】无法满足，可用的字节范围为【{1}】
+                            FleaI18nHelper.i18n("ERROR-JERSEY-COMMON0000000004", new String[]{range, contentRange},
+                                    FleaI18nResEnum.ERROR_JERSEY.getResName())))
+                    .type(MediaType.APPLICATION_XML_TYPE)
+                    .build();
+        }
+        if (ObjectUtils.isNotEmpty(byteRange)) {
+            builder = Response.status(Response.Status.PARTIAL_CONTENT)
+                    .header(HEADER_CONTENT_RANGE, byteRange.toContentRange())
+                    .entity(new FileStreamingOutput(file, byteRange));
+            contentLength = byteRange.getLength();
+        } else {
+            builder = Response.ok(new FileStreamingOutput(file));
+            contentLength = fileLength;
+        }
+
+        LOGGER.debug1(new Object() {}, "Stream Download, File = {}, Range = {}, Length = {}", file.getName(), range, contentLength);
+
+        return builder.type(MediaType.APPLICATION_OCTET_STREAM_TYPE)
+                .header(HEADER_ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_LENGTH, contentLength)
+                .header(FleaJerseyConstants.FileResourceConstants.HEADER_FILE_NAME, urlEncode(file.getName()))
+                .header(FleaJerseyConstants.FileResourceConstants.HEADER_RESULT_CODE, getResultCode(fleaJerseyResponse))
+                .header(FleaJerseyConstants.FileResourceConstants.HEADER_RESULT_MESS, urlEncode(getResultMess(fleaJerseyResponse)))
+                .build();
+    }
+
     /**
      * 初始化上下文对象 
      *
@@ -153,4 +289,83 @@ public abstract class Resource {
         FleaJerseyManager.getManager().setContext(context);
     }
 
+    /**
+     * 构建流式文件处理失败时的错误响应报文，不包含业务报文
+     */
+    private static FleaJerseyResponse newErrorResponse(String resultCode, String resultMess) {
+        ResponsePublicData publicData = new ResponsePublicData();
+        publicData.setResultCode(resultCode);
+        publicData.setResultMess(resultMess);
+
+        FleaJerseyResponseData responseData = new FleaJerseyResponseData();
+        responseData.setPublicData(publicData);
+
+        FleaJerseyResponse fleaJerseyResponse = new FleaJerseyResponse();
+        fleaJerseyResponse.setResponseData(responseData);
+        return fleaJerseyResponse;
+    }
+
+    private static boolean isSuccess(FleaJerseyResponse fleaJerseyResponse) {
+        ResponsePublicData publicData = getPublicData(fleaJerseyResponse);
+        return ObjectUtils.isNotEmpty(publicData) && publicData.isSuccess();
+    }
+
+    private static String getResultCode(FleaJerseyResponse fleaJerseyResponse) {
+        ResponsePublicData publicData = getPublicData(fleaJerseyResponse);
+        return ObjectUtils.isEmpty(publicData) ? FleaJerseyConstants.ResponseResultConstants.RESULT_CODE_OTHER : publicData.getResultCode();
+    }
+
+    private static String getResultMess(FleaJerseyResponse fleaJerseyResponse) {
+        ResponsePublicData publicData = getPublicData(fleaJerseyResponse);
+        String resultMess = ObjectUtils.isEmpty(publicData) ? null : publicData.getResultMess();
+        if (StringUtils.isNotBlank(resultMess) && resultMess.length() > MAX_RESULT_MESS_LENGTH) {
+            resultMess = resultMess.substring(0, MAX_RESULT_MESS_LENGTH);
+        }
+        return resultMess;
+    }
+
+    private static ResponsePublicData getPublicData(FleaJerseyResponse fleaJerseyResponse) {
+        ResponsePublicData publicData = null;
+        if (ObjectUtils.isNotEmpty(fleaJerseyResponse) && ObjectUtils.isNotEmpty(fleaJerseyResponse.getResponseData())) {
+            publicData = fleaJerseyResponse.getResponseData().getPublicData();
+        }
+        return publicData;
+    }
+
+    private static long toContentLength(String contentLength) {
+        long length = -1L;
+        if (StringUtils.isNotBlank(contentLength)) {
+            try {
+                length = Long.parseLong(contentLength.trim());
+            } catch (NumberFormatException e) {
+                length = -1L;
+            }
+        }
+        return length;
+    }
+
+    private static String urlEncode(String value) {
+        String result = value;
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                result = URLEncoder.encode(value, StandardCharsets.UTF_8.displayName());
+            } catch (UnsupportedEncodingException e) {
+                LOGGER.error1(new Object() {}, "Exception = {}", e);
+            }
+        }
+        return result;
+    }
+
+    private static String urlDecode(String value) {
+        String result = value;
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                result = URLDecoder.decode(value, StandardCharsets.UTF_8.displayName());
+            } catch (UnsupportedEncodingException e) {
+                LOGGER.error1(new Object() {}, "Exception = {}", e);
+            }
+        }
+        return result;
+    }
+
 }
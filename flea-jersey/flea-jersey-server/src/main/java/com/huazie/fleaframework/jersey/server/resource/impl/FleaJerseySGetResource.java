@@ -0,0 +1,31 @@
+package com.huazie.fleaframework.jersey.server.resource.impl;
+
+import com.huazie.fleaframework.jersey.server.resource.JerseyStreamDownloadResource;
+import com.huazie.fleaframework.jersey.server.resource.Resource;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Response;
+
+/**
+ * Flea Jersey 流式文件 GET 资源，只包含流式文件 GET 资源API。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public abstract class FleaJerseySGetResource extends Resource implements JerseyStreamDownloadResource {
+
+    /**
+     * @see JerseyStreamDownloadResource#doStreamDownloadResource(String, String)
+     */
+    @GET
+    @Path("/streamDownload")
+    @Override
+    public Response doStreamDownloadResource(@QueryParam("REQUEST") String requestData, @HeaderParam("Range") String range) {
+        return doCommonStreamDownloadResource(requestData, range);
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.huazie.fleaframework.jersey.server.resource.impl;
+
+import com.huazie.fleaframework.jersey.common.FleaJerseyConstants;
+import com.huazie.fleaframework.jersey.server.resource.JerseyStreamUploadResource;
+import com.huazie.fleaframework.jersey.server.resource.Resource;
+
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import java.io.InputStream;
+
+/**
+ * Flea Jersey 流式文件 POST 资源，只包含流式文件 POST 资源API。
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public abstract class FleaJerseySPostResource extends Resource implements JerseyStreamUploadResource {
+
+    /**
+     * @see JerseyStreamUploadResource#doStreamUploadResource(String, String, String, String, InputStream)
+     */
+    @POST
+    @Path("/streamUpload")
+    @Override
+    public Response doStreamUploadResource(@QueryParam("REQUEST") String requestData,
+                                           @HeaderParam(FleaJerseyConstants.FileResourceConstants.HEADER_FILE_NAME) String fileName,
+                                           @HeaderParam(FleaJerseyConstants.FileResourceConstants.HEADER_FILE_CHECKSUM) String checksum,
+                                           @HeaderParam(HttpHeaders.CONTENT_LENGTH) String contentLength,
+                                           InputStream inputStream) {
+        return doCommonStreamUploadResource(requestData, fileName, checksum, contentLength, inputStream);
+    }
+
+}
@@ -0,0 +1,181 @@
+package com.huazie.fleaframework.jersey.server.invoker;
+
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.common.util.ReflectUtils;
+import com.huazie.fleaframework.common.util.json.GsonUtils;
+import com.huazie.fleaframework.core.base.cfgdata.entity.FleaJerseyResService;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.support.StaticApplicationContext;
+
+/**
+ * 资源服务调用者单元测试，包含预编译前后的分发开销对比
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaServiceInvokerTest {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaServiceInvokerTest.class);
+
+    private static final String INPUT_JSON = "{\"name\":\"huazie\",\"age\":18}";
+
+    private static final int WARM_UP = 20000;
+
+    private static final int ITERATIONS = 200000;
+
+    private StaticApplicationContext applicationContext;
+
+    private FleaJerseyResService resService;
+
+    @Before
+    public void init() {
+        applicationContext = new StaticApplicationContext();
+        applicationContext.registerSingleton("helloService", HelloServiceImpl.class);
+        applicationContext.refresh();
+
+        resService = new FleaJerseyResService();
+        resService.setResourceCode("hello");
+        resService.setServiceCode("FLEA_SERVICE_HELLO");
+        resService.setServiceInterfaces(IHelloService.class.getName());
+        resService.setServiceMethod("hello");
+        resService.setServiceInput(HelloInput.class.getName());
+        resService.setServiceOutput(HelloOutput.class.getName());
+    }
+
+    @Test
+    public void testInvoke() throws Exception {
+        FleaServiceInvoker invoker = FleaServiceInvokerRegistry.getRegistry().getInvoker(applicationContext, resService);
+        Object output = invoker.invoke(invoker.toInput(INPUT_JSON));
+        Assert.assertEquals("{\"message\":\"hello huazie, 18\"}", invoker.toOutput(output));
+        // 配置未变更，复用同一个调用者
+        Assert.assertSame(invoker, FleaServiceInvokerRegistry.getRegistry().getInvoker(applicationContext, resService));
+    }
+
+    @Test
+    public void testRecompileAfterConfigChanged() throws Exception {
+        FleaServiceInvoker invoker = FleaServiceInvokerRegistry.getRegistry().getInvoker(applicationContext, resService);
+
+        // 模拟配置缓存刷新后，重新加载得到的资源服务配置数据
+        FleaJerseyResService reloaded = new FleaJerseyResService();
+        reloaded.setResourceCode(resService.getResourceCode());
+        reloaded.setServiceCode(resService.getServiceCode());
+        reloaded.setServiceInterfaces(resService.getServiceInterfaces());
+        reloaded.setServiceMethod("helloAgain");
+        reloaded.setServiceInput(resService.getServiceInput());
+        reloaded.setServiceOutput(resService.getServiceOutput());
+
+        FleaServiceInvoker newInvoker = FleaServiceInvokerRegistry.getRegistry().getInvoker(applicationContext, reloaded);
+        Assert.assertNotSame(invoker, newInvoker);
+        Assert.assertEquals("{\"message\":\"hello again huazie\"}", newInvoker.toOutput(newInvoker.invoke(newInvoker.toInput(INPUT_JSON))));
+    }
+
+    @Test
+    public void testInvalidateAfterRecompileFailed() throws Exception {
+        FleaServiceInvokerRegistry registry = FleaServiceInvokerRegistry.getRegistry();
+        registry.getInvoker(applicationContext, resService);
+        Assert.assertTrue(registry.contains(resService.getResourceCode(), resService.getServiceCode()));
+
+        // 变更后的资源服务方法不存在，重新编译失败，移除已失效的调用者
+        FleaJerseyResService broken = new FleaJerseyResService();
+        broken.setResourceCode(resService.getResourceCode());
+        broken.setServiceCode(resService.getServiceCode());
+        broken.setServiceInterfaces(resService.getServiceInterfaces());
+        broken.setServiceMethod("notExists");
+        broken.setServiceInput(resService.getServiceInput());
+        broken.setServiceOutput(resService.getServiceOutput());
+        try {
+            registry.getInvoker(applicationContext, broken);
+            Assert.fail("compile should fail when the service method does not exist");
+        } catch (Exception e) {
+            LOGGER.debug("Recompile Failed : {}", e.getMessage());
+        }
+        Assert.assertFalse(registry.contains(resService.getResourceCode(), resService.getServiceCode()));
+    }
+
+    @Test
+    public void testDispatchBenchmark() throws Exception {
+        for (int i = 0; i < WARM_UP; i++) {
+            dispatchByReflect();
+            dispatchByInvoker();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            dispatchByReflect();
+        }
+        long reflectCost = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            dispatchByInvoker();
+        }
+        long invokerCost = System.nanoTime() - start;
+
+        LOGGER.debug("Reflect Dispatch : {} ns/op", reflectCost / ITERATIONS);
+        LOGGER.debug("Invoker Dispatch : {} ns/op", invokerCost / ITERATIONS);
+    }
+
+    /**
+     * 预编译前的分发逻辑，与原有的资源服务调用过滤器保持一致
+     */
+    private String dispatchByReflect() {
+        Class<?> serviceInterfacesClazz = ReflectUtils.forName(resService.getServiceInterfaces());
+        Object serviceObj = applicationContext.getBean(serviceInterfacesClazz);
+        Class inputClazz = ReflectUtils.forName(resService.getServiceInput());
+        Object inputObj = GsonUtils.toEntity(INPUT_JSON, inputClazz);
+        Object outputObj = ReflectUtils.invoke(serviceObj, resService.getServiceMethod(), inputObj, inputClazz);
+        Class outputClazz = ReflectUtils.forName(resService.getServiceOutput());
+        Assert.assertTrue(outputClazz.isInstance(outputObj));
+        return GsonUtils.toJsonString(outputObj);
+    }
+
+    /**
+     * 预编译后的分发逻辑
+     */
+    private String dispatchByInvoker() throws Exception {
+        FleaServiceInvoker invoker = FleaServiceInvokerRegistry.getRegistry().getInvoker(applicationContext, resService);
+        Object outputObj = invoker.invoke(invoker.toInput(INPUT_JSON));
+        Assert.assertTrue(invoker.getOutputClazz().isInstance(outputObj));
+        return invoker.toOutput(outputObj);
+    }
+
+    public interface IHelloService {
+
+        HelloOutput hello(HelloInput input);
+
+        HelloOutput helloAgain(HelloInput input);
+    }
+
+    public static class HelloServiceImpl implements IHelloService {
+
+        @Override
+        public HelloOutput hello(HelloInput input) {
+            return new HelloOutput("hello " + input.name + ", " + input.age);
+        }
+
+        @Override
+        public HelloOutput helloAgain(HelloInput input) {
+            return new HelloOutput("hello again " + input.name);
+        }
+    }
+
+    public static class HelloInput {
+
+        private String name;
+
+        private int age;
+    }
+
+    public static class HelloOutput {
+
+        private String message;
+
+        public HelloOutput(String message) {
+            this.message = message;
+        }
+    }
+}
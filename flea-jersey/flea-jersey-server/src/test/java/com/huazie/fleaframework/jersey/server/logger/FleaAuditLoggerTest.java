@@ -0,0 +1,254 @@
+package com.huazie.fleaframework.jersey.server.logger;
+
+import com.huazie.fleaframework.common.slf4j.FleaLogger;
+import com.huazie.fleaframework.common.slf4j.impl.FleaLoggerProxy;
+import com.huazie.fleaframework.core.common.pojo.FleaJerseyResServiceLogPOJO;
+import com.huazie.fleaframework.jersey.common.FleaJerseyConstants;
+import com.huazie.fleaframework.jersey.common.data.FleaJerseyRequest;
+import com.huazie.fleaframework.jersey.common.data.FleaJerseyRequestData;
+import com.huazie.fleaframework.jersey.common.data.FleaJerseyResponse;
+import com.huazie.fleaframework.jersey.common.data.FleaJerseyResponseData;
+import com.huazie.fleaframework.jersey.common.data.RequestBusinessData;
+import com.huazie.fleaframework.jersey.common.data.RequestPublicData;
+import com.huazie.fleaframework.jersey.common.data.ResponseBusinessData;
+import com.huazie.fleaframework.jersey.common.data.ResponsePublicData;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 资源服务调用日志异步批量记录测试
+ *
+ * @author huazie
+ * @version 2.0.0
+ * @since 2.0.0
+ */
+public class FleaAuditLoggerTest {
+
+    private static final FleaLogger LOGGER = FleaLoggerProxy.getProxyInstance(FleaAuditLoggerTest.class);
+
+    private static final int THREADS = 4;
+
+    private static final int RECORDS_PER_THREAD = 2500;
+
+    @Test
+    public void testPublishLatencyAndShutdownFlush() throws Exception {
+        AuditLogConfig config = new AuditLogConfig();
+        config.setCapacity(16384);
+        config.setBatchSize(100);
+        config.setFlushInterval(50L);
+        config.setPolicy(AuditLogPolicyEnum.BLOCK);
+
+        // 每批写入耗时 20ms，模拟数据库写入
+        final SlowWriter writer = new SlowWriter(20L, null);
+        final FleaAuditLogger auditLogger = new FleaAuditLogger(config, writer);
+
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final CountDownLatch doneLatch = new CountDownLatch(THREADS);
+        final AtomicInteger maxPublishMicros = new AtomicInteger();
+        for (int i = 0; i < THREADS; i++) {
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        startLatch.await();
+                        for (int j = 0; j < RECORDS_PER_THREAD; j++) {
+                            AuditLogRecord record = newRecord(j);
+                            long start = System.nanoTime();
+                            auditLogger.publish(record);
+                            int micros = (int) TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+                            if (micros > maxPublishMicros.get()) {
+                                maxPublishMicros.set(micros);
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        doneLatch.countDown();
+                    }
+                }
+            }).start();
+        }
+
+        long start = System.nanoTime();
+        startLatch.countDown();
+        Assert.assertTrue(doneLatch.await(30, TimeUnit.SECONDS));
+        long publishMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        int total = THREADS * RECORDS_PER_THREAD;
+        LOGGER.debug("Publish {} records cost {}ms, max single publish {}us, pending {}",
+                total, publishMillis, maxPublishMicros.get(), auditLogger.getPendingCount());
+
+        // 全部投递完成时，写入线程仍在处理，投递耗时与写入耗时无关
+        Assert.assertTrue(auditLogger.getPendingCount() > 0 || writer.getCount() < total);
+        Assert.assertTrue(publishMillis < (total / config.getBatchSize()) * 20L);
+
+        // 正常关闭时，缓冲区中剩余的调用日志全部写入
+        Assert.assertTrue(auditLogger.shutdown(30, TimeUnit.SECONDS));
+        Assert.assertEquals(total, auditLogger.getPublishedCount());
+        Assert.assertEquals(0, auditLogger.getDroppedCount());
+        Assert.assertEquals(total, auditLogger.getWrittenCount());
+        Assert.assertEquals(total, writer.getCount());
+        // 报文序列化在日志写入线程中完成
+        Assert.assertEquals("flea-jersey-audit-log-writer", writer.getMarshalThread());
+        LOGGER.debug("Written {} records in {} batches", writer.getCount(), writer.getBatches());
+    }
+
+    @Test
+    public void testDropPolicy() throws Exception {
+        AuditLogConfig config = new AuditLogConfig();
+        config.setCapacity(8);
+        config.setBatchSize(4);
+        config.setPolicy(AuditLogPolicyEnum.DROP);
+
+        // 写入线程被阻塞，缓冲区很快满载
+        CountDownLatch writeLatch = new CountDownLatch(1);
+        SlowWriter writer = new SlowWriter(0L, writeLatch);
+        FleaAuditLogger auditLogger = new FleaAuditLogger(config, writer);
+
+        int total = 100;
+        for (int i = 0; i < total; i++) {
+            auditLogger.publish(newRecord(i));
+        }
+        LOGGER.debug("Published = {}, Dropped = {}", auditLogger.getPublishedCount(), auditLogger.getDroppedCount());
+        Assert.assertTrue(auditLogger.getDroppedCount() > 0);
+        Assert.assertEquals(total, auditLogger.getPublishedCount() + auditLogger.getDroppedCount());
+
+        writeLatch.countDown();
+        Assert.assertTrue(auditLogger.shutdown(10, TimeUnit.SECONDS));
+        Assert.assertEquals(auditLogger.getPublishedCount(), auditLogger.getWrittenCount());
+        // 关闭后不再接收新的调用日志
+        Assert.assertFalse(auditLogger.publish(newRecord(total)));
+    }
+
+    @Test
+    public void testShutdownWhilePublishing() throws Exception {
+        AuditLogConfig config = new AuditLogConfig();
+        config.setCapacity(1024);
+        config.setBatchSize(50);
+        config.setFlushInterval(10L);
+        config.setPolicy(AuditLogPolicyEnum.DROP);
+
+        SlowWriter writer = new SlowWriter(0L, null);
+        final FleaAuditLogger auditLogger = new FleaAuditLogger(config, writer);
+
+        // 关闭过程中持续投递，已接收的调用日志必须全部写入
+        final AtomicBoolean stopped = new AtomicBoolean();
+        final CountDownLatch doneLatch = new CountDownLatch(THREADS);
+        for (int i = 0; i < THREADS; i++) {
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        int index = 0;
+                        while (!stopped.get()) {
+                            auditLogger.publish(newRecord(index++));
+                        }
+                    } finally {
+                        doneLatch.countDown();
+                    }
+                }
+            }).start();
+        }
+
+        TimeUnit.MILLISECONDS.sleep(50);
+        Assert.assertTrue(auditLogger.shutdown(10, TimeUnit.SECONDS));
+        stopped.set(true);
+        Assert.assertTrue(doneLatch.await(30, TimeUnit.SECONDS));
+        LOGGER.debug("Published = {}, Dropped = {}, Written = {}", auditLogger.getPublishedCount(),
+                auditLogger.getDroppedCount(), auditLogger.getWrittenCount());
+        Assert.assertEquals(auditLogger.getPublishedCount(), auditLogger.getWrittenCount());
+        Assert.assertEquals(auditLogger.getPublishedCount(), writer.getCount());
+    }
+
+    private static AuditLogRecord newRecord(int index) {
+        RequestPublicData requestPublicData = new RequestPublicData();
+        requestPublicData.setSystemAccountId("1000000000");
+        requestPublicData.setAccountId("1000000001");
+        requestPublicData.setResourceCode("audit");
+        requestPublicData.setServiceCode("FLEA_SERVICE_AUDIT");
+
+        RequestBusinessData requestBusinessData = new RequestBusinessData();
+        requestBusinessData.setInput("{\"index\":" + index + "}");
+
+        FleaJerseyRequestData requestData = new FleaJerseyRequestData();
+        requestData.setPublicData(requestPublicData);
+        requestData.setBusinessData(requestBusinessData);
+
+        FleaJerseyRequest request = new FleaJerseyRequest();
+        request.setRequestData(requestData);
+
+        ResponsePublicData responsePublicData = new ResponsePublicData();
+        responsePublicData.setResultCode(FleaJerseyConstants.ResponseResultConstants.RESULT_CODE_SUCCESS);
+        responsePublicData.setResultMess(FleaJerseyConstants.ResponseResultConstants.RESULT_MESS_SUCCESS);
+
+        ResponseBusinessData responseBusinessData = new ResponseBusinessData();
+        responseBusinessData.setOutput("{\"index\":" + index + "}");
+
+        FleaJerseyResponseData responseData = new FleaJerseyResponseData();
+        responseData.setPublicData(responsePublicData);
+        responseData.setBusinessData(responseBusinessData);
+
+        FleaJerseyResponse response = new FleaJerseyResponse();
+        response.setResponseData(responseData);
+
+        return new AuditLogRecord(request, response);
+    }
+
+    /**
+     * 模拟慢速写入的调用日志写入实现
+     */
+    private static class SlowWriter implements IAuditLogWriter {
+
+        private final long batchMillis;
+
+        private final CountDownLatch latch;
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        private final AtomicInteger batches = new AtomicInteger();
+
+        private volatile String marshalThread;
+
+        SlowWriter(long batchMillis, CountDownLatch latch) {
+            this.batchMillis = batchMillis;
+            this.latch = latch;
+        }
+
+        @Override
+        public int write(List<AuditLogRecord> records) throws Exception {
+            if (latch != null) {
+                latch.await();
+            }
+            for (AuditLogRecord record : records) {
+                FleaJerseyResServiceLogPOJO resServiceLogPOJO = record.toResServiceLogPOJO();
+                Assert.assertNotNull(resServiceLogPOJO.getInput());
+                Assert.assertNotNull(resServiceLogPOJO.getOutput());
+            }
+            marshalThread = Thread.currentThread().getName();
+            if (batchMillis > 0) {
+                Thread.sleep(batchMillis);
+            }
+            batches.incrementAndGet();
+            count.addAndGet(records.size());
+            return records.size();
+        }
+
+        int getCount() {
+            return count.get();
+        }
+
+        int getBatches() {
+            return batches.get();
+        }
+
+        String getMarshalThread() {
+            return marshalThread;
+        }
+    }
+}